@@ -0,0 +1,70 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+
+package com.google.chip.chiptool;
+
+import static org.junit.Assert.*;
+
+import android.util.Log;
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+import chip.clusterinfo.ClusterInfo;
+import chip.devicecontroller.ClusterInfoMapping;
+import chip.devicecontroller.ClusterReadMapping;
+import chip.devicecontroller.ClusterWriteMapping;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Compares the time it takes to get the interactions of one cluster from a fresh {@link
+ * ClusterInfoMapping}, which only builds that cluster, with the time it takes to build the
+ * interactions of every cluster, as {@code getClusterMap()} used to. The timings are logged under
+ * {@link #TAG} rather than asserted, since they depend on the device.
+ */
+@RunWith(AndroidJUnit4.class)
+public class ClusterInfoMappingStartupBenchmark {
+  private static final String TAG = "ClusterInfoMappingBench";
+  private static final String CLUSTER_NAME = "onOff";
+
+  @Test
+  public void lazyLookupIsCheaperThanEagerBuild() {
+    // The lazy path runs first, so that it does not benefit from classes loaded by the eager one.
+    long lazyStart = System.nanoTime();
+    ClusterInfo lazy = new ClusterInfoMapping().getClusterMap().get(CLUSTER_NAME);
+    long lazyNanos = System.nanoTime() - lazyStart;
+
+    long eagerStart = System.nanoTime();
+    ClusterInfoMapping mapping = new ClusterInfoMapping();
+    Map<String, ClusterInfo> clusterMap = mapping.initializeClusterMap();
+    mapping.combineCommand(clusterMap, mapping.getCommandMap());
+    mapping.combineCommand(clusterMap, new ClusterReadMapping().getReadAttributeMap());
+    mapping.combineCommand(clusterMap, new ClusterWriteMapping().getWriteAttributeMap());
+    ClusterInfo eager = clusterMap.get(CLUSTER_NAME);
+    long eagerNanos = System.nanoTime() - eagerStart;
+
+    Log.i(
+        TAG,
+        String.format(
+            "%s: lazy %.2f ms, all %d clusters %.2f ms",
+            CLUSTER_NAME, lazyNanos / 1e6, clusterMap.size(), eagerNanos / 1e6));
+
+    assertNotNull(lazy);
+    assertNotNull(eager);
+    assertEquals(eager.getCommands().keySet(), lazy.getCommands().keySet());
+  }
+}
@@ -110,7 +110,7 @@ class CHIPToolActivity :
           getString(R.string.commissioning_completed, code),
           Toast.LENGTH_SHORT).show()
     }
-    ChipClient.getDeviceController(this).close()
+    ChipClient.getDeviceController(this).closeBleConnection()
     showFragment(SelectActionFragment.newInstance(), false)
   }
 
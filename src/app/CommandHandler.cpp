@@ -34,6 +34,12 @@
 namespace chip {
 namespace app {
 
+namespace {
+// Reserved size for the end of the InvokeResponses array and of the message, which are end-of-containers (i.e. 1 byte for the
+// control tag each).
+constexpr uint32_t kReservedSizeForEndOfContainers = 1 + 1;
+} // namespace
+
 CommandHandler::CommandHandler(Callback * apCallback) : mpCallback(apCallback), mSuppressResponse(false) {}
 
 CHIP_ERROR CommandHandler::AllocateBuffer()
@@ -53,6 +59,10 @@ CHIP_ERROR CommandHandler::AllocateBuffer()
 
         mInvokeResponseBuilder.CreateInvokeResponses();
         ReturnErrorOnFailure(mInvokeResponseBuilder.GetError());
+
+        // Keep room for closing the InvokeResponses array and the message, so that Finalize() succeeds however many responses
+        // were added before the buffer ran out.
+        ReturnErrorOnFailure(mCommandMessageWriter.ReserveBuffer(kReservedSizeForEndOfContainers));
         mBufferAllocated = true;
     }
 
@@ -127,6 +137,7 @@ CHIP_ERROR CommandHandler::ProcessInvokeRequest(System::PacketBufferHandle && pa
         VerifyOrReturnError(TLV::AnonymousTag() == invokeRequestsReader.GetTag(), CHIP_ERROR_INVALID_TLV_TAG);
         CommandDataIB::Parser commandData;
         ReturnErrorOnFailure(commandData.Init(invokeRequestsReader));
+        mCommandCount++;
         ReturnErrorOnFailure(ProcessCommandDataIB(commandData));
     }
 
@@ -315,21 +326,32 @@ CHIP_ERROR CommandHandler::AddStatusInternal(const ConcreteCommandPath & aComman
                                              const Protocols::InteractionModel::Status aStatus,
                                              const Optional<ClusterStatus> & aClusterStatus)
 {
+    CHIP_ERROR err = CHIP_NO_ERROR;
     StatusIB statusIB;
     ReturnLogErrorOnFailure(PrepareStatus(aCommandPath));
-    CommandStatusIB::Builder & commandStatus = mInvokeResponseBuilder.GetInvokeResponses().GetInvokeResponse().GetStatus();
-    StatusIB::Builder & statusIBBuilder      = commandStatus.CreateErrorStatus();
-    ReturnErrorOnFailure(commandStatus.GetError());
-    //
-    // TODO: Most of the callers are incorrectly passing SecureChannel as the protocol ID, when in fact, the status code provided
-    // above is always an IM code. Instead of fixing all the callers (which is a fairly sizeable change), we'll embark on fixing
-    // this more completely when we fix #9530.
-    //
-    statusIB.mStatus        = aStatus;
-    statusIB.mClusterStatus = aClusterStatus;
-    statusIBBuilder.EncodeStatusIB(statusIB);
-    ReturnErrorOnFailure(statusIBBuilder.GetError());
-    return FinishStatus();
+    {
+        CommandStatusIB::Builder & commandStatus = mInvokeResponseBuilder.GetInvokeResponses().GetInvokeResponse().GetStatus();
+        StatusIB::Builder & statusIBBuilder      = commandStatus.CreateErrorStatus();
+        SuccessOrExit(err = commandStatus.GetError());
+        //
+        // TODO: Most of the callers are incorrectly passing SecureChannel as the protocol ID, when in fact, the status code
+        // provided above is always an IM code. Instead of fixing all the callers (which is a fairly sizeable change), we'll embark
+        // on fixing this more completely when we fix #9530.
+        //
+        statusIB.mStatus        = aStatus;
+        statusIB.mClusterStatus = aClusterStatus;
+        statusIBBuilder.EncodeStatusIB(statusIB);
+        SuccessOrExit(err = statusIBBuilder.GetError());
+    }
+    err = FinishStatus();
+
+exit:
+    if (err != CHIP_NO_ERROR)
+    {
+        // Drop the partial status rather than leave the InvokeResponses array unparsable.
+        RollbackResponse();
+    }
+    return err;
 }
 
 CHIP_ERROR CommandHandler::AddStatus(const ConcreteCommandPath & aCommandPath, const Protocols::InteractionModel::Status aStatus)
@@ -352,27 +374,37 @@ CHIP_ERROR CommandHandler::AddClusterSpecificFailure(const ConcreteCommandPath &
 
 CHIP_ERROR CommandHandler::PrepareCommand(const ConcreteCommandPath & aCommandPath, bool aStartDataStruct)
 {
+    CHIP_ERROR err = CHIP_NO_ERROR;
     ReturnErrorOnFailure(AllocateBuffer());
     //
-    // We must not be in the middle of preparing a command, or having prepared or sent one.
+    // We must not be in the middle of preparing a command, or having sent the response.
     //
-    VerifyOrReturnError(mState == State::Idle, CHIP_ERROR_INCORRECT_STATE);
-    InvokeResponseIBs::Builder & invokeResponses = mInvokeResponseBuilder.GetInvokeResponses();
-    InvokeResponseIB::Builder & invokeResponse   = invokeResponses.CreateInvokeResponse();
-    ReturnErrorOnFailure(invokeResponses.GetError());
-
-    CommandDataIB::Builder & commandData = invokeResponse.CreateCommand();
-    ReturnErrorOnFailure(commandData.GetError());
-    CommandPathIB::Builder & path = commandData.CreatePath();
-    ReturnErrorOnFailure(commandData.GetError());
-    ReturnErrorOnFailure(path.Encode(aCommandPath));
-    if (aStartDataStruct)
+    VerifyOrReturnError(CanAddResponse(), CHIP_ERROR_INCORRECT_STATE);
+    CheckpointResponse();
     {
-        ReturnErrorOnFailure(commandData.GetWriter()->StartContainer(TLV::ContextTag(to_underlying(CommandDataIB::Tag::kData)),
-                                                                     TLV::kTLVType_Structure, mDataElementContainerType));
+        InvokeResponseIBs::Builder & invokeResponses = mInvokeResponseBuilder.GetInvokeResponses();
+        InvokeResponseIB::Builder & invokeResponse   = invokeResponses.CreateInvokeResponse();
+        SuccessOrExit(err = invokeResponses.GetError());
+
+        CommandDataIB::Builder & commandData = invokeResponse.CreateCommand();
+        SuccessOrExit(err = commandData.GetError());
+        CommandPathIB::Builder & path = commandData.CreatePath();
+        SuccessOrExit(err = commandData.GetError());
+        SuccessOrExit(err = path.Encode(aCommandPath));
+        if (aStartDataStruct)
+        {
+            SuccessOrExit(err = commandData.GetWriter()->StartContainer(TLV::ContextTag(to_underlying(CommandDataIB::Tag::kData)),
+                                                                        TLV::kTLVType_Structure, mDataElementContainerType));
+        }
     }
     MoveToState(State::AddingCommand);
-    return CHIP_NO_ERROR;
+
+exit:
+    if (err != CHIP_NO_ERROR)
+    {
+        RollbackResponse();
+    }
+    return err;
 }
 
 CHIP_ERROR CommandHandler::FinishCommand(bool aStartDataStruct)
@@ -385,29 +417,38 @@ CHIP_ERROR CommandHandler::FinishCommand(bool aStartDataStruct)
     }
     ReturnErrorOnFailure(commandData.EndOfCommandDataIB().GetError());
     ReturnErrorOnFailure(mInvokeResponseBuilder.GetInvokeResponses().GetInvokeResponse().EndOfInvokeResponseIB().GetError());
-    ReturnErrorOnFailure(mInvokeResponseBuilder.GetInvokeResponses().EndOfInvokeResponses().GetError());
-    ReturnErrorOnFailure(mInvokeResponseBuilder.EndOfInvokeResponseMessage().GetError());
+    mResponseCount++;
     MoveToState(State::AddedCommand);
     return CHIP_NO_ERROR;
 }
 
 CHIP_ERROR CommandHandler::PrepareStatus(const ConcreteCommandPath & aCommandPath)
 {
+    CHIP_ERROR err = CHIP_NO_ERROR;
     ReturnErrorOnFailure(AllocateBuffer());
     //
-    // We must not be in the middle of preparing a command, or having prepared or sent one.
+    // We must not be in the middle of preparing a command, or having sent the response.
     //
-    VerifyOrReturnError(mState == State::Idle, CHIP_ERROR_INCORRECT_STATE);
-    InvokeResponseIBs::Builder & invokeResponses = mInvokeResponseBuilder.GetInvokeResponses();
-    InvokeResponseIB::Builder & invokeResponse   = invokeResponses.CreateInvokeResponse();
-    ReturnErrorOnFailure(invokeResponses.GetError());
-    CommandStatusIB::Builder & commandStatus = invokeResponse.CreateStatus();
-    ReturnErrorOnFailure(commandStatus.GetError());
-    CommandPathIB::Builder & path = commandStatus.CreatePath();
-    ReturnErrorOnFailure(commandStatus.GetError());
-    ReturnErrorOnFailure(path.Encode(aCommandPath));
+    VerifyOrReturnError(CanAddResponse(), CHIP_ERROR_INCORRECT_STATE);
+    CheckpointResponse();
+    {
+        InvokeResponseIBs::Builder & invokeResponses = mInvokeResponseBuilder.GetInvokeResponses();
+        InvokeResponseIB::Builder & invokeResponse   = invokeResponses.CreateInvokeResponse();
+        SuccessOrExit(err = invokeResponses.GetError());
+        CommandStatusIB::Builder & commandStatus = invokeResponse.CreateStatus();
+        SuccessOrExit(err = commandStatus.GetError());
+        CommandPathIB::Builder & path = commandStatus.CreatePath();
+        SuccessOrExit(err = commandStatus.GetError());
+        SuccessOrExit(err = path.Encode(aCommandPath));
+    }
     MoveToState(State::AddingCommand);
-    return CHIP_NO_ERROR;
+
+exit:
+    if (err != CHIP_NO_ERROR)
+    {
+        RollbackResponse();
+    }
+    return err;
 }
 
 CHIP_ERROR CommandHandler::FinishStatus()
@@ -416,8 +457,7 @@ CHIP_ERROR CommandHandler::FinishStatus()
     ReturnErrorOnFailure(
         mInvokeResponseBuilder.GetInvokeResponses().GetInvokeResponse().GetStatus().EndOfCommandStatusIB().GetError());
     ReturnErrorOnFailure(mInvokeResponseBuilder.GetInvokeResponses().GetInvokeResponse().EndOfInvokeResponseIB().GetError());
-    ReturnErrorOnFailure(mInvokeResponseBuilder.GetInvokeResponses().EndOfInvokeResponses().GetError());
-    ReturnErrorOnFailure(mInvokeResponseBuilder.EndOfInvokeResponseMessage().GetError());
+    mResponseCount++;
     MoveToState(State::AddedCommand);
     return CHIP_NO_ERROR;
 }
@@ -480,9 +520,51 @@ CommandHandler::Handle::Handle(CommandHandler * handle)
 CHIP_ERROR CommandHandler::Finalize(System::PacketBufferHandle & commandPacket)
 {
     VerifyOrReturnError(mState == State::AddedCommand, CHIP_ERROR_INCORRECT_STATE);
+    ReturnErrorOnFailure(mCommandMessageWriter.UnreserveBuffer(kReservedSizeForEndOfContainers));
+    ReturnErrorOnFailure(mInvokeResponseBuilder.GetInvokeResponses().EndOfInvokeResponses().GetError());
+    ReturnErrorOnFailure(mInvokeResponseBuilder.EndOfInvokeResponseMessage().GetError());
     return mCommandMessageWriter.Finalize(&commandPacket);
 }
 
+bool CommandHandler::CanAddResponse() const
+{
+    return mState == State::Idle || (mState == State::AddedCommand && mResponseCount < mCommandCount);
+}
+
+void CommandHandler::CheckpointResponse()
+{
+    mInvokeResponseBuilder.Checkpoint(mBackupWriter);
+    mBackupState = mState;
+}
+
+void CommandHandler::RollbackResponse()
+{
+    mInvokeResponseBuilder.Rollback(mBackupWriter);
+    mInvokeResponseBuilder.GetInvokeResponses().ResetError();
+    MoveToState(mBackupState);
+}
+
+CHIP_ERROR CommandHandler::FallbackToStatus(const ConcreteCommandPath & aRequestCommandPath, CHIP_ERROR aError)
+{
+    RollbackResponse();
+
+    ChipLogError(DataManagement,
+                 "Failed to encode response for Endpoint=%" PRIu16 " Cluster=" ChipLogFormatMEI " Command=" ChipLogFormatMEI
+                 ": %" CHIP_ERROR_FORMAT,
+                 aRequestCommandPath.mEndpointId, ChipLogValueMEI(aRequestCommandPath.mClusterId),
+                 ChipLogValueMEI(aRequestCommandPath.mCommandId), aError.Format());
+
+    // A status is smaller than most data responses, so it usually still fits when the data did not. If it does not either,
+    // the command is left without a response, and the responses added before are still sent.
+    Protocols::InteractionModel::Status status = Protocols::InteractionModel::Status::Failure;
+    if (aError == CHIP_ERROR_NO_MEMORY || aError == CHIP_ERROR_BUFFER_TOO_SMALL)
+    {
+        status = Protocols::InteractionModel::Status::ResourceExhausted;
+    }
+    AddStatus(aRequestCommandPath, status);
+    return aError;
+}
+
 const char * CommandHandler::GetStateStr() const
 {
 #if CHIP_DETAIL_LOGGING
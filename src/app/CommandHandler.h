@@ -164,6 +164,11 @@ public:
      * object that can be encoded using the DataModel::Encode machinery and
      * exposes the right command id will work.
      *
+     * If the data cannot be encoded, for instance because the responses to the
+     * other commands of the request left too little room for it, the command
+     * is answered with a ResourceExhausted (or Failure) status instead and the
+     * error is returned.
+     *
      * @param [in] aRequestCommandPath the concrete path of the command we are
      *             responding to.
      * @param [in] aData the data for the response.
@@ -175,9 +180,16 @@ public:
         ReturnErrorOnFailure(PrepareCommand(path, false));
         TLV::TLVWriter * writer = GetCommandDataIBTLVWriter();
         VerifyOrReturnError(writer != nullptr, CHIP_ERROR_INCORRECT_STATE);
-        ReturnErrorOnFailure(DataModel::Encode(*writer, TLV::ContextTag(to_underlying(CommandDataIB::Tag::kData)), aData));
-
-        return FinishCommand(/* aEndDataStruct = */ false);
+        CHIP_ERROR err = DataModel::Encode(*writer, TLV::ContextTag(to_underlying(CommandDataIB::Tag::kData)), aData);
+        if (err == CHIP_NO_ERROR)
+        {
+            err = FinishCommand(/* aEndDataStruct = */ false);
+        }
+        if (err != CHIP_NO_ERROR)
+        {
+            return FallbackToStatus(aRequestCommandPath, err);
+        }
+        return CHIP_NO_ERROR;
     }
 
     /**
@@ -210,7 +222,7 @@ private:
     {
         Idle,                ///< Default state that the object starts out in, where no work has commenced
         AddingCommand,       ///< In the process of adding a command.
-        AddedCommand,        ///< A command has been completely encoded and is awaiting transmission.
+        AddedCommand,        ///< At least one response has been completely encoded and is awaiting transmission.
         CommandSent,         ///< The command has been sent successfully.
         AwaitingDestruction, ///< The object has completed its work and is awaiting destruction by the application.
     };
@@ -241,6 +253,25 @@ private:
 
     CHIP_ERROR Finalize(System::PacketBufferHandle & commandPacket);
 
+    /*
+     * Whether a response can be started in the current state. Each command of the request can add one response, so that a
+     * request with several commands gets a response for each of them.
+     */
+    bool CanAddResponse() const;
+
+    /*
+     * Saves the state of the response before a response to one command is started, so that RollbackResponse() can drop it if
+     * it does not fit, without losing the responses to the other commands.
+     */
+    void CheckpointResponse();
+    void RollbackResponse();
+
+    /*
+     * Drops the data response being added for the command at aRequestCommandPath, which failed with aError, and answers the
+     * command with a status instead. Returns aError.
+     */
+    CHIP_ERROR FallbackToStatus(const ConcreteCommandPath & aRequestCommandPath, CHIP_ERROR aError);
+
     /**
      * Called internally to signal the completion of all work on this object, gracefully close the
      * exchange (by calling into the base class) and finally, signal to a registerd callback that it's
@@ -258,11 +289,15 @@ private:
     InvokeResponseMessage::Builder mInvokeResponseBuilder;
     TLV::TLVType mDataElementContainerType = TLV::kTLVType_NotSpecified;
     size_t mPendingWork                    = 0;
+    size_t mCommandCount                   = 0;
+    size_t mResponseCount                  = 0;
     bool mSuppressResponse                 = false;
     bool mTimedRequest                     = false;
 
-    State mState = State::Idle;
+    State mState       = State::Idle;
+    State mBackupState = State::Idle;
     chip::System::PacketBufferTLVWriter mCommandMessageWriter;
+    TLV::TLVWriter mBackupWriter;
     bool mBufferAllocated = false;
 };
 
@@ -116,6 +116,23 @@ public:
          */
         virtual void OnError(const CommandSender * apCommandSender, const StatusIB & aStatusIB, CHIP_ERROR aError) {}
 
+        /**
+         * OnCommandError will be called when the server responds to one of the commands of the request with a status code
+         * denoting an error.
+         *
+         * The default implementation calls OnError with CHIP_ERROR_IM_STATUS_CODE_RECEIVED, which does not tell the commands of
+         * a request apart. Callbacks of requests that carry several commands can override it to find the failed command.
+         *
+         * @param[in] apCommandSender The command sender object that initiated the command transaction.
+         * @param[in] aPath           The command path field in the command status.
+         * @param[in] aStatusIB       The status code including IM status code and optional cluster status code.
+         */
+        virtual void OnCommandError(const CommandSender * apCommandSender, const ConcreteCommandPath & aPath,
+                                    const StatusIB & aStatusIB)
+        {
+            OnError(apCommandSender, aStatusIB, CHIP_ERROR_IM_STATUS_CODE_RECEIVED);
+        }
+
         /**
          * OnDone will be called when CommandSender has finished all work and is safe to destroy and free the
          * allocated CommandSender object.
@@ -138,6 +155,11 @@ public:
      * The callback passed in has to outlive this CommandSender object.
      */
     CommandSender(Callback * apCallback, Messaging::ExchangeManager * apExchangeMgr, bool aIsTimedRequest = false);
+
+    /*
+     * Several commands can be prepared and finished in turn before SendCommandRequest is called. They are all sent in a
+     * single Invoke Request, and the server responds to each of them in the Invoke Response.
+     */
     CHIP_ERROR PrepareCommand(const CommandPathParams & aCommandPathParams, bool aStartDataStruct = true);
     CHIP_ERROR FinishCommand(bool aEndDataStruct = true);
     TLV::TLVWriter * GetCommandDataIBTLVWriter();
@@ -215,6 +237,9 @@ public:
     // Client can specify the maximum time to wait for response (in milliseconds) via timeout parameter.
     // Default timeout value will be used otherwise.
     //
+    // Commands sent to a group session get no response, and cannot be timed. The callback's OnDone is invoked before this call
+    // returns successfully.
+    //
     CHIP_ERROR SendCommandRequest(const SessionHandle & session, System::Clock::Timeout timeout = kImMessageTimeout);
 
 private:
@@ -224,7 +249,7 @@ private:
     {
         Idle,                ///< Default state that the object starts out in, where no work has commenced
         AddingCommand,       ///< In the process of adding a command.
-        AddedCommand,        ///< A command has been completely encoded and is awaiting transmission.
+        AddedCommand,        ///< At least one command has been completely encoded and is awaiting transmission.
         AwaitingTimedStatus, ///< Sent a Timed Request and waiting for response.
         CommandSent,         ///< The command has been sent successfully.
         ResponseReceived,    ///< Received a response to our invoke and request and processing the response.
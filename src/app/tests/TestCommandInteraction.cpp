@@ -51,8 +51,9 @@ namespace chip {
 namespace {
 bool isCommandDispatched = false;
 
-bool sendResponse = true;
-bool asyncCommand = false;
+bool sendResponse       = true;
+bool asyncCommand       = false;
+bool deferAsyncResponse = false;
 
 constexpr EndpointId kTestEndpointId                      = 1;
 constexpr ClusterId kTestClusterId                        = 3;
@@ -79,13 +80,17 @@ void DispatchSingleClusterCommand(const ConcreteCommandPath & aCommandPath, chip
                   "Received Cluster Command: Endpoint=%" PRIx16 " Cluster=" ChipLogFormatMEI " Command=" ChipLogFormatMEI,
                   aCommandPath.mEndpointId, ChipLogValueMEI(aCommandPath.mClusterId), ChipLogValueMEI(aCommandPath.mCommandId));
 
+    bool respond = sendResponse;
     if (asyncCommand)
     {
         asyncCommandHandle = apCommandObj;
         asyncCommand       = false;
+        // Leave the response to the test, which adds it through asyncCommandHandle.
+        respond            = respond && !deferAsyncResponse;
+        deferAsyncResponse = false;
     }
 
-    if (sendResponse)
+    if (respond)
     {
         if (aCommandPath.mCommandId == kTestCommandId)
         {
@@ -129,6 +134,7 @@ public:
         ChipLogError(Controller, "OnError happens with %" PRIx8 " %" CHIP_ERROR_FORMAT, to_underlying(aStatus.mStatus),
                      aError.Format());
         onErrorCalledTimes++;
+        lastErrorStatus = aStatus.mStatus;
     }
     void OnDone(chip::app::CommandSender * apCommandSender) override { onFinalCalledTimes++; }
 
@@ -137,11 +143,13 @@ public:
         onResponseCalledTimes = 0;
         onErrorCalledTimes    = 0;
         onFinalCalledTimes    = 0;
+        lastErrorStatus       = Protocols::InteractionModel::Status::Success;
     }
 
-    int onResponseCalledTimes = 0;
-    int onErrorCalledTimes    = 0;
-    int onFinalCalledTimes    = 0;
+    int onResponseCalledTimes                           = 0;
+    int onErrorCalledTimes                              = 0;
+    int onFinalCalledTimes                              = 0;
+    Protocols::InteractionModel::Status lastErrorStatus = Protocols::InteractionModel::Status::Success;
 } mockCommandSenderDelegate;
 
 class MockCommandHandlerCallback : public CommandHandler::Callback
@@ -172,11 +180,15 @@ public:
     static void TestCommandHandlerWithSendEmptyResponse(nlTestSuite * apSuite, void * apContext);
     static void TestCommandHandlerWithProcessReceivedMsg(nlTestSuite * apSuite, void * apContext);
     static void TestCommandHandlerWithProcessReceivedEmptyDataMsg(nlTestSuite * apSuite, void * apContext);
+    static void TestCommandHandlerWithResponsesExceedingBuffer(nlTestSuite * apSuite, void * apContext);
 
     static void TestCommandSenderCommandSuccessResponseFlow(nlTestSuite * apSuite, void * apContext);
     static void TestCommandSenderCommandAsyncSuccessResponseFlow(nlTestSuite * apSuite, void * apContext);
     static void TestCommandSenderCommandFailureResponseFlow(nlTestSuite * apSuite, void * apContext);
     static void TestCommandSenderCommandSpecificResponseFlow(nlTestSuite * apSuite, void * apContext);
+    static void TestCommandSenderMultipleCommandsResponseFlow(nlTestSuite * apSuite, void * apContext);
+    static void TestCommandSenderMultipleCommandsAsyncResponseFlow(nlTestSuite * apSuite, void * apContext);
+    static void TestCommandSenderGroup(nlTestSuite * apSuite, void * apContext);
 
     static void TestCommandSenderAbruptDestruction(nlTestSuite * apSuite, void * apContext);
 
@@ -596,6 +608,62 @@ void TestCommandInteraction::TestCommandHandlerWithProcessReceivedEmptyDataMsg(n
     }
 }
 
+struct LargeFields
+{
+    static constexpr chip::CommandId GetCommandId() { return 5; }
+    CHIP_ERROR Encode(TLV::TLVWriter & aWriter, TLV::Tag aTag) const
+    {
+        // Larger than the whole response buffer.
+        static const uint8_t data[kMaxSecureSduLengthBytes] = {};
+        TLV::TLVType outerContainerType;
+        ReturnErrorOnFailure(aWriter.StartContainer(aTag, TLV::kTLVType_Structure, outerContainerType));
+        ReturnErrorOnFailure(aWriter.PutBytes(TLV::ContextTag(1), data, static_cast<uint32_t>(sizeof(data))));
+        return aWriter.EndContainer(outerContainerType);
+    }
+};
+
+void TestCommandInteraction::TestCommandHandlerWithResponsesExceedingBuffer(nlTestSuite * apSuite, void * apContext)
+{
+    TestContext & ctx = *static_cast<TestContext *>(apContext);
+    CHIP_ERROR err    = CHIP_NO_ERROR;
+    app::CommandHandler commandHandler(nullptr);
+    System::PacketBufferHandle commandPacket;
+    ConcreteCommandPath path = { kTestEndpointId, kTestClusterId, kTestCommandId };
+
+    TestExchangeDelegate delegate;
+    commandHandler.mpExchangeCtx = ctx.NewExchangeToAlice(&delegate);
+
+    // Respond as if the request had more commands than there is room for responses.
+    commandHandler.mCommandCount = 100;
+
+    err = commandHandler.AddResponseData(path, Fields());
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+
+    // A response that does not fit fails alone, and its command gets a status instead.
+    err = commandHandler.AddResponseData(path, LargeFields());
+    NL_TEST_ASSERT(apSuite, err != CHIP_NO_ERROR);
+    NL_TEST_ASSERT(apSuite, commandHandler.mResponseCount == 2);
+
+    // Fill the rest of the buffer.
+    while (commandHandler.AddStatus(path, Protocols::InteractionModel::Status::Success) == CHIP_NO_ERROR)
+    {
+    }
+    NL_TEST_ASSERT(apSuite, commandHandler.mResponseCount < commandHandler.mCommandCount);
+
+    // The responses that fit are still sent.
+    err = commandHandler.Finalize(commandPacket);
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+
+    mockCommandSenderDelegate.ResetCounter();
+    app::CommandSender commandSender(&mockCommandSenderDelegate, &ctx.GetExchangeManager());
+    err = commandSender.ProcessInvokeResponse(std::move(commandPacket));
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+    NL_TEST_ASSERT(apSuite, mockCommandSenderDelegate.onErrorCalledTimes == 1);
+    NL_TEST_ASSERT(apSuite, mockCommandSenderDelegate.lastErrorStatus == Protocols::InteractionModel::Status::ResourceExhausted);
+    NL_TEST_ASSERT(apSuite,
+                   static_cast<size_t>(mockCommandSenderDelegate.onResponseCalledTimes) == commandHandler.mResponseCount - 1);
+}
+
 void TestCommandInteraction::TestCommandSenderCommandSuccessResponseFlow(nlTestSuite * apSuite, void * apContext)
 {
     TestContext & ctx = *static_cast<TestContext *>(apContext);
@@ -686,6 +754,110 @@ void TestCommandInteraction::TestCommandSenderCommandFailureResponseFlow(nlTestS
     NL_TEST_ASSERT(apSuite, ctx.GetExchangeManager().GetNumActiveExchanges() == 0);
 }
 
+void TestCommandInteraction::TestCommandSenderMultipleCommandsResponseFlow(nlTestSuite * apSuite, void * apContext)
+{
+    TestContext & ctx = *static_cast<TestContext *>(apContext);
+    CHIP_ERROR err    = CHIP_NO_ERROR;
+
+    mockCommandSenderDelegate.ResetCounter();
+    app::CommandSender commandSender(&mockCommandSenderDelegate, &ctx.GetExchangeManager());
+
+    AddInvokeRequestData(apSuite, apContext, &commandSender, kTestCommandId);
+    AddInvokeRequestData(apSuite, apContext, &commandSender, kTestCommandIdCommandSpecificResponse);
+    AddInvokeRequestData(apSuite, apContext, &commandSender, kTestNonExistCommandId);
+    err = commandSender.SendCommandRequest(ctx.GetSessionBobToAlice());
+
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+    NL_TEST_ASSERT(apSuite,
+                   mockCommandSenderDelegate.onResponseCalledTimes == 2 && mockCommandSenderDelegate.onFinalCalledTimes == 1 &&
+                       mockCommandSenderDelegate.onErrorCalledTimes == 1);
+
+    NL_TEST_ASSERT(apSuite, GetNumActiveHandlerObjects() == 0);
+    NL_TEST_ASSERT(apSuite, ctx.GetExchangeManager().GetNumActiveExchanges() == 0);
+}
+
+void TestCommandInteraction::TestCommandSenderMultipleCommandsAsyncResponseFlow(nlTestSuite * apSuite, void * apContext)
+{
+    TestContext & ctx = *static_cast<TestContext *>(apContext);
+    CHIP_ERROR err    = CHIP_NO_ERROR;
+
+    mockCommandSenderDelegate.ResetCounter();
+    app::CommandSender commandSender(&mockCommandSenderDelegate, &ctx.GetExchangeManager());
+
+    AddInvokeRequestData(apSuite, apContext, &commandSender, kTestCommandId);
+    AddInvokeRequestData(apSuite, apContext, &commandSender, kTestCommandIdCommandSpecificResponse);
+    // The first command is handled asynchronously, the second one answers right away.
+    asyncCommand       = true;
+    deferAsyncResponse = true;
+    err                = commandSender.SendCommandRequest(ctx.GetSessionBobToAlice());
+
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+    NL_TEST_ASSERT(apSuite,
+                   mockCommandSenderDelegate.onResponseCalledTimes == 0 && mockCommandSenderDelegate.onFinalCalledTimes == 0 &&
+                       mockCommandSenderDelegate.onErrorCalledTimes == 0);
+
+    NL_TEST_ASSERT(apSuite, GetNumActiveHandlerObjects() == 1);
+    NL_TEST_ASSERT(apSuite, ctx.GetExchangeManager().GetNumActiveExchanges() == 2);
+
+    CommandHandler * commandHandler = asyncCommandHandle.Get();
+    NL_TEST_ASSERT(apSuite, commandHandler != nullptr && commandHandler->mResponseCount == 1);
+
+    ConcreteCommandPath path = { kTestEndpointId, kTestClusterId, kTestCommandId };
+    err                      = commandHandler->AddStatus(path, Protocols::InteractionModel::Status::Success);
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+
+    // Each command of the request gets a single response.
+    err = commandHandler->AddStatus(path, Protocols::InteractionModel::Status::Success);
+    NL_TEST_ASSERT(apSuite, err == CHIP_ERROR_INCORRECT_STATE);
+
+    // Decrease CommandHandler refcount and send both responses in one message.
+    asyncCommandHandle = nullptr;
+    NL_TEST_ASSERT(apSuite,
+                   mockCommandSenderDelegate.onResponseCalledTimes == 2 && mockCommandSenderDelegate.onFinalCalledTimes == 1 &&
+                       mockCommandSenderDelegate.onErrorCalledTimes == 0);
+
+    NL_TEST_ASSERT(apSuite, GetNumActiveHandlerObjects() == 0);
+    NL_TEST_ASSERT(apSuite, ctx.GetExchangeManager().GetNumActiveExchanges() == 0);
+}
+
+void TestCommandInteraction::TestCommandSenderGroup(nlTestSuite * apSuite, void * apContext)
+{
+    TestContext & ctx = *static_cast<TestContext *>(apContext);
+    CHIP_ERROR err    = CHIP_NO_ERROR;
+
+    SessionHandle groupSession = ctx.GetSessionBobToFriends();
+    NL_TEST_ASSERT(apSuite, groupSession->IsGroupSession());
+
+    CommandPathParams commandPathParams(0, ctx.GetFriendsGroupId(), kTestClusterId, kTestCommandId,
+                                        (chip::app::CommandPathFlags::kGroupIdValid));
+
+    mockCommandSenderDelegate.ResetCounter();
+    app::CommandSender commandSender(&mockCommandSenderDelegate, &ctx.GetExchangeManager());
+
+    err = commandSender.PrepareCommand(commandPathParams);
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+    err = commandSender.FinishCommand();
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+
+    err = commandSender.SendCommandRequest(groupSession);
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+
+    // Group commands get no response, so the sender is done as soon as the request is sent.
+    NL_TEST_ASSERT(apSuite,
+                   mockCommandSenderDelegate.onResponseCalledTimes == 0 && mockCommandSenderDelegate.onFinalCalledTimes == 1 &&
+                       mockCommandSenderDelegate.onErrorCalledTimes == 0);
+
+    // Group commands cannot be timed.
+    app::CommandSender timedCommandSender(&mockCommandSenderDelegate, &ctx.GetExchangeManager(), /* aIsTimedRequest = */ true);
+    err = timedCommandSender.PrepareCommand(commandPathParams, /* aStartDataStruct = */ false);
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+    err = timedCommandSender.FinishCommand(MakeOptional(static_cast<uint16_t>(100)));
+    NL_TEST_ASSERT(apSuite, err == CHIP_NO_ERROR);
+
+    err = timedCommandSender.SendCommandRequest(groupSession);
+    NL_TEST_ASSERT(apSuite, err == CHIP_ERROR_INVALID_ARGUMENT);
+}
+
 void TestCommandInteraction::TestCommandSenderAbruptDestruction(nlTestSuite * apSuite, void * apContext)
 {
     TestContext & ctx = *static_cast<TestContext *>(apContext);
@@ -743,11 +915,15 @@ const nlTest sTests[] =
     NL_TEST_DEF("TestCommandHandlerWithProcessReceivedMsg", chip::app::TestCommandInteraction::TestCommandHandlerWithProcessReceivedMsg),
     NL_TEST_DEF("TestCommandHandlerWithProcessReceivedNotExistCommand", chip::app::TestCommandInteraction::TestCommandHandlerWithProcessReceivedNotExistCommand),
     NL_TEST_DEF("TestCommandHandlerWithProcessReceivedEmptyDataMsg", chip::app::TestCommandInteraction::TestCommandHandlerWithProcessReceivedEmptyDataMsg),
+    NL_TEST_DEF("TestCommandHandlerWithResponsesExceedingBuffer", chip::app::TestCommandInteraction::TestCommandHandlerWithResponsesExceedingBuffer),
 
     NL_TEST_DEF("TestCommandSenderCommandSuccessResponseFlow", chip::app::TestCommandInteraction::TestCommandSenderCommandSuccessResponseFlow),
     NL_TEST_DEF("TestCommandSenderCommandAsyncSuccessResponseFlow", chip::app::TestCommandInteraction::TestCommandSenderCommandAsyncSuccessResponseFlow),
     NL_TEST_DEF("TestCommandSenderCommandSpecificResponseFlow", chip::app::TestCommandInteraction::TestCommandSenderCommandSpecificResponseFlow),
     NL_TEST_DEF("TestCommandSenderCommandFailureResponseFlow", chip::app::TestCommandInteraction::TestCommandSenderCommandFailureResponseFlow),
+    NL_TEST_DEF("TestCommandSenderMultipleCommandsResponseFlow", chip::app::TestCommandInteraction::TestCommandSenderMultipleCommandsResponseFlow),
+    NL_TEST_DEF("TestCommandSenderMultipleCommandsAsyncResponseFlow", chip::app::TestCommandInteraction::TestCommandSenderMultipleCommandsAsyncResponseFlow),
+    NL_TEST_DEF("TestCommandSenderGroup", chip::app::TestCommandInteraction::TestCommandSenderGroup),
     NL_TEST_DEF("TestCommandSenderAbruptDestruction", chip::app::TestCommandInteraction::TestCommandSenderAbruptDestruction),
     NL_TEST_SENTINEL()
 };
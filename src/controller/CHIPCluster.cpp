@@ -46,35 +46,39 @@ CHIP_ERROR ClusterBase::AssociateWithGroup(DeviceProxy * device, GroupId groupId
 {
     // TODO Update this function to work in all possible conditions Issue #11850
 
-    CHIP_ERROR err = CHIP_NO_ERROR;
+    // The group session is kept separately, to preserve the secure session of the device for future Unicast communication.
+    // Without a secure session, something fishy is going on.
+    VerifyOrReturnError(device->GetSecureSession().HasValue(), CHIP_ERROR_INCORRECT_STATE);
+    ReturnErrorOnFailure(AssociateWithGroup(device->GetExchangeManager(), groupId, kUndefinedFabricIndex));
 
     mDevice = device;
-    if (mDevice->GetSecureSession().HasValue())
-    {
-        // Local copy to preserve original SessionHandle for future Unicast communication.
-        Optional<SessionHandle> session = mDevice->GetExchangeManager()->GetSessionManager()->CreateGroupSession(groupId);
-        // Sanity check
-        if (!session.HasValue() || !session.Value()->IsGroupSession())
-        {
-            err = CHIP_ERROR_INCORRECT_STATE;
-        }
-
-        mGroupSession.Grab(session.Value());
-    }
-    else
-    {
-        // something fishy is going on
-        err = CHIP_ERROR_INCORRECT_STATE;
-    }
+    return CHIP_NO_ERROR;
+}
 
-    // Set to 0 for now.
+CHIP_ERROR ClusterBase::AssociateWithGroup(Messaging::ExchangeManager * exchangeMgr, GroupId groupId, FabricIndex fabricIndex)
+{
+    Dissociate();
+
+    Optional<SessionHandle> session = exchangeMgr->GetSessionManager()->CreateGroupSession(groupId, fabricIndex);
+    VerifyOrReturnError(session.HasValue(), CHIP_ERROR_NO_MEMORY);
+    // Sanity check
+    VerifyOrReturnError(session.Value()->IsGroupSession(), CHIP_ERROR_INCORRECT_STATE);
+
+    mGroupSession.Grab(session.Value());
+    mGroupExchangeMgr = exchangeMgr;
+
+    // Group commands carry no endpoint; each member sends them to the endpoints in the group.
     mEndpoint = 0;
 
-    return err;
+    return CHIP_NO_ERROR;
 }
 
 void ClusterBase::Dissociate()
 {
+    if (mGroupSession)
+    {
+        mGroupExchangeMgr->GetSessionManager()->RemoveGroupSession(mGroupSession->AsGroupSession());
+    }
     mDevice = nullptr;
 }
 
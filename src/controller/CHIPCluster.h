@@ -28,12 +28,15 @@
 
 #include "app/ConcreteCommandPath.h"
 #include <app/DeviceProxy.h>
+#include <app/data-model/NullObject.h>
 #include <app/util/error-mapping.h>
 #include <controller/InvokeInteraction.h>
 #include <controller/ReadInteraction.h>
 #include <controller/WriteInteraction.h>
 #include <lib/core/Optional.h>
 
+#include <type_traits>
+
 namespace chip {
 namespace Controller {
 
@@ -52,11 +55,19 @@ using SubscriptionEstablishedCallback = void (*)(void * context);
 class DLL_EXPORT ClusterBase
 {
 public:
-    virtual ~ClusterBase() {}
+    virtual ~ClusterBase() { Dissociate(); }
 
     CHIP_ERROR Associate(DeviceProxy * device, EndpointId endpoint);
     CHIP_ERROR AssociateWithGroup(DeviceProxy * device, GroupId groupId);
 
+    /*
+     * Associates the cluster with group groupId on fabric fabricIndex, without a device. Commands invoked through the cluster are
+     * sent to every member of the group; reading, writing and subscribing fail with CHIP_ERROR_INCORRECT_STATE.
+     *
+     * The cluster holds a group session until it is dissociated or deleted.
+     */
+    CHIP_ERROR AssociateWithGroup(Messaging::ExchangeManager * exchangeMgr, GroupId groupId, FabricIndex fabricIndex);
+
     void Dissociate();
 
     ClusterId GetClusterId() const { return mClusterId; }
@@ -66,12 +77,23 @@ public:
      *
      * Success and Failure callbacks must be passed in through which the decoded response is provided as well as notification of any
      * failure.
+     *
+     * If the cluster is associated with a group, the command is sent to every member of the group instead. Group members never
+     * respond, so the success callback is called once the command has been sent, and commands with a data response, or timed
+     * commands, fail with CHIP_ERROR_INVALID_ARGUMENT.
      */
     template <typename RequestDataT>
     CHIP_ERROR InvokeCommand(const RequestDataT & requestData, void * context,
                              CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
                              CommandResponseFailureCallback failureCb, const Optional<uint16_t> & timedInvokeTimeoutMs)
     {
+        if (mGroupSession)
+        {
+            VerifyOrReturnError(!timedInvokeTimeoutMs.HasValue(), CHIP_ERROR_INVALID_ARGUMENT);
+            return InvokeGroupCommand(requestData, context, successCb,
+                                      std::is_same<typename RequestDataT::ResponseType, app::DataModel::NullObjectType>());
+        }
+
         VerifyOrReturnError(mDevice != nullptr, CHIP_ERROR_INCORRECT_STATE);
 
         auto onSuccessCb = [context, successCb](const app::ConcreteCommandPath & commandPath, const app::StatusIB & aStatus,
@@ -337,6 +359,27 @@ protected:
     DeviceProxy * mDevice;
     EndpointId mEndpoint;
     SessionHolder mGroupSession;
+    Messaging::ExchangeManager * mGroupExchangeMgr = nullptr;
+
+private:
+    template <typename RequestDataT>
+    CHIP_ERROR InvokeGroupCommand(const RequestDataT & requestData, void * context,
+                                  CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                                  std::true_type /* isNullResponse */)
+    {
+        ReturnErrorOnFailure(InvokeGroupCommandRequest(mGroupExchangeMgr, mGroupSession.Get(), requestData));
+        successCb(context, app::DataModel::NullObjectType());
+        return CHIP_NO_ERROR;
+    }
+
+    template <typename RequestDataT>
+    CHIP_ERROR InvokeGroupCommand(const RequestDataT & requestData, void * context,
+                                  CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                                  std::false_type /* isNullResponse */)
+    {
+        // Group members cannot send data responses.
+        return CHIP_ERROR_INVALID_ARGUMENT;
+    }
 };
 
 } // namespace Controller
@@ -237,6 +237,34 @@ public:
         return mCASESessionManager->ResolveDeviceAddress(mFabricInfo, deviceId);
     }
 
+    /**
+     * @brief
+     *   Returns whether a secure session with the given device is currently established.
+     *
+     * @param[in] deviceId  Node ID for the CHIP device
+     */
+    bool IsDeviceConnected(NodeId deviceId)
+    {
+        VerifyOrReturnError(mState == State::Initialized, false);
+        OperationalDeviceProxy * device = mCASESessionManager->FindExistingSession(mFabricInfo->GetPeerIdForNode(deviceId));
+        return device != nullptr && device->IsConnected();
+    }
+
+    /**
+     * @brief
+     *   Returns whether a device pointer obtained earlier through GetConnectedDevice is still the connected operational device
+     *   of the given node, and so still safe to use. The pointer is never dereferenced.
+     *
+     * @param[in] deviceId  Node ID for the CHIP device
+     * @param[in] device    The device pointer to check
+     */
+    bool IsConnectedDevice(NodeId deviceId, const OperationalDeviceProxy * device)
+    {
+        VerifyOrReturnError(mState == State::Initialized, false);
+        OperationalDeviceProxy * existing = mCASESessionManager->FindExistingSession(mFabricInfo->GetPeerIdForNode(deviceId));
+        return existing != nullptr && existing == device && existing->IsConnected();
+    }
+
     /**
      * @brief
      *   Compute a PASE verifier and passcode ID for the desired setup pincode.
@@ -325,6 +353,19 @@ public:
      */
     uint64_t GetFabricId() const { return mFabricId; }
 
+    /**
+     * @brief Get the index of the fabric of the controller in its fabric table.
+     */
+    FabricIndex GetFabricIndex() const { return mFabricIndex; }
+
+    /**
+     * @brief Get the exchange manager the controller sends its messages through, or nullptr before it is initialized.
+     */
+    Messaging::ExchangeManager * GetExchangeManager() const
+    {
+        return mSystemState != nullptr ? mSystemState->ExchangeMgr() : nullptr;
+    }
+
     void ReleaseOperationalDevice(NodeId remoteDeviceId);
 
 protected:
@@ -111,5 +111,33 @@ InvokeCommandRequest(Messaging::ExchangeManager * exchangeMgr, const SessionHand
     return InvokeCommandRequest(exchangeMgr, sessionHandle, endpointId, requestCommandData, onSuccessCb, onErrorCb, NullOptional);
 }
 
+/*
+ * Sends a command request to every member of the group of a group session, in a single multicast message.
+ *
+ * Group members never respond, so there is no callback: the interaction is over once this returns successfully. Commands that
+ * expect a data response cannot be sent to a group, and commands that must be timed fail with CHIP_ERROR_INVALID_ARGUMENT.
+ */
+template <typename RequestObjectT>
+CHIP_ERROR InvokeGroupCommandRequest(Messaging::ExchangeManager * exchangeMgr, const SessionHandle & sessionHandle,
+                                     const RequestObjectT & requestCommandData)
+{
+    static_assert(std::is_same<typename RequestObjectT::ResponseType, app::DataModel::NullObjectType>::value,
+                  "Group members cannot send data responses");
+    VerifyOrReturnError(sessionHandle->IsGroupSession(), CHIP_ERROR_INVALID_ARGUMENT);
+
+    // The request is sent, and the sender done, before SendCommandRequest returns.
+    struct GroupCommandCallback : public app::CommandSender::Callback
+    {
+        void OnDone(app::CommandSender * apCommandSender) override {}
+    } callback;
+
+    app::CommandPathParams commandPath = { 0, sessionHandle->AsGroupSession()->GetGroupId(), RequestObjectT::GetClusterId(),
+                                           RequestObjectT::GetCommandId(), (app::CommandPathFlags::kGroupIdValid) };
+
+    app::CommandSender commandSender(&callback, exchangeMgr);
+    ReturnErrorOnFailure(commandSender.AddRequestData(commandPath, requestCommandData));
+    return commandSender.SendCommandRequest(sessionHandle);
+}
+
 } // namespace Controller
 } // namespace chip
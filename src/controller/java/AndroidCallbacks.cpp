@@ -15,13 +15,21 @@
  *    limitations under the License.
  */
 #include "AndroidCallbacks.h"
+#include "AndroidClusterExceptions.h"
+#include "AndroidMetrics.h"
+#include "CHIPAttributeTLVValueDecoder.h"
+#include <lib/support/CHIPJNIError.h>
 #include <lib/support/JniReferences.h>
 #include <lib/support/JniTypeWrappers.h>
 
+#include <app/InteractionModelEngine.h>
 #include <jni.h>
 #include <lib/support/CodeUtils.h>
 #include <lib/support/ErrorStr.h>
 #include <lib/support/logging/CHIPLogging.h>
+#include <platform/PlatformManager.h>
+
+#include <algorithm>
 
 using namespace chip::Controller;
 
@@ -94,3 +102,422 @@ void GetConnectedDeviceCallback::OnDeviceConnectionFailureFn(void * context, Pee
 
     env->CallVoidMethod(javaCallback, failureMethod, peerId.GetNodeId(), exception);
 }
+
+namespace {
+
+CHIP_ERROR CreateControllerException(JNIEnv * env, CHIP_ERROR error, jthrowable & outException)
+{
+    jclass controllerExceptionCls;
+    ReturnErrorOnFailure(chip::JniReferences::GetInstance().GetClassRef(env, "chip/devicecontroller/ChipDeviceControllerException",
+                                                                        controllerExceptionCls));
+    chip::JniClass controllerExceptionJniCls(controllerExceptionCls);
+
+    jmethodID exceptionConstructor = env->GetMethodID(controllerExceptionCls, "<init>", "(ILjava/lang/String;)V");
+    VerifyOrReturnError(exceptionConstructor != nullptr, CHIP_JNI_ERROR_METHOD_NOT_FOUND);
+    jstring message = env->NewStringUTF(chip::ErrorStr(error));
+    outException    = static_cast<jthrowable>(
+        env->NewObject(controllerExceptionCls, exceptionConstructor, static_cast<jint>(error.AsInteger()), message));
+    VerifyOrReturnError(outException != nullptr, CHIP_JNI_ERROR_NULL_OBJECT);
+    return CHIP_NO_ERROR;
+}
+
+template <typename... Args>
+void CallJavaMethod(JNIEnv * env, jobject object, const char * methodName, const char * methodSignature, Args... args)
+{
+    jmethodID method;
+    CHIP_ERROR err = chip::JniReferences::GetInstance().FindMethod(env, object, methodName, methodSignature, &method);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not find %s method", methodName));
+
+    env->CallVoidMethod(object, method, args...);
+    if (env->ExceptionCheck())
+    {
+        ChipLogError(Controller, "Java exception thrown from %s", methodName);
+        env->ExceptionDescribe();
+        env->ExceptionClear();
+    }
+}
+
+// Orders paths by endpoint, cluster and attribute. ConcreteAttributePath::operator< is not a strict weak ordering.
+bool PathLess(const chip::app::ConcreteAttributePath & a, const chip::app::ConcreteAttributePath & b)
+{
+    if (a.mEndpointId != b.mEndpointId)
+    {
+        return a.mEndpointId < b.mEndpointId;
+    }
+    if (a.mClusterId != b.mClusterId)
+    {
+        return a.mClusterId < b.mClusterId;
+    }
+    return a.mAttributeId < b.mAttributeId;
+}
+
+bool KnownVersionLess(const KnownAttributeVersion & a, const chip::app::ConcreteAttributePath & b)
+{
+    return PathLess(a.mPath, b);
+}
+
+// 64-bit FNV-1a.
+class ContentHasher
+{
+public:
+    void Add(const uint8_t * data, size_t length)
+    {
+        for (size_t i = 0; i < length; i++)
+        {
+            mHash = (mHash ^ data[i]) * kPrime;
+        }
+    }
+
+    template <typename T>
+    void Add(T value)
+    {
+        Add(reinterpret_cast<const uint8_t *>(&value), sizeof(value));
+    }
+
+    uint64_t Get() const { return mHash; }
+
+private:
+    static constexpr uint64_t kPrime = 0x100000001b3ULL;
+    uint64_t mHash                   = 0xcbf29ce484222325ULL;
+};
+
+// Hashes the type, tag and value of the element the reader is positioned on, including the elements it contains.
+CHIP_ERROR HashElement(chip::TLV::TLVReader & reader, ContentHasher & hasher)
+{
+    chip::TLV::TLVType type = reader.GetType();
+    hasher.Add(static_cast<int8_t>(type));
+    hasher.Add(reader.GetTag().mVal);
+
+    switch (type)
+    {
+    case chip::TLV::kTLVType_SignedInteger: {
+        int64_t value;
+        ReturnErrorOnFailure(reader.Get(value));
+        hasher.Add(value);
+        break;
+    }
+    case chip::TLV::kTLVType_UnsignedInteger: {
+        uint64_t value;
+        ReturnErrorOnFailure(reader.Get(value));
+        hasher.Add(value);
+        break;
+    }
+    case chip::TLV::kTLVType_Boolean: {
+        bool value;
+        ReturnErrorOnFailure(reader.Get(value));
+        hasher.Add(static_cast<uint8_t>(value));
+        break;
+    }
+    case chip::TLV::kTLVType_FloatingPointNumber: {
+        double value;
+        ReturnErrorOnFailure(reader.Get(value));
+        hasher.Add(value);
+        break;
+    }
+    case chip::TLV::kTLVType_UTF8String:
+    case chip::TLV::kTLVType_ByteString: {
+        const uint8_t * data = nullptr;
+        uint32_t length      = reader.GetLength();
+        if (length > 0)
+        {
+            ReturnErrorOnFailure(reader.GetDataPtr(data));
+        }
+        hasher.Add(length);
+        hasher.Add(data, length);
+        break;
+    }
+    case chip::TLV::kTLVType_Structure:
+    case chip::TLV::kTLVType_Array:
+    case chip::TLV::kTLVType_List: {
+        chip::TLV::TLVType containerType;
+        ReturnErrorOnFailure(reader.EnterContainer(containerType));
+        CHIP_ERROR err;
+        while ((err = reader.Next()) == CHIP_NO_ERROR)
+        {
+            ReturnErrorOnFailure(HashElement(reader, hasher));
+        }
+        VerifyOrReturnError(err == CHIP_END_OF_TLV, err);
+        ReturnErrorOnFailure(reader.ExitContainer(containerType));
+        // Marks the end of the container, so that nesting is part of the hash.
+        hasher.Add(static_cast<int8_t>(chip::TLV::kTLVType_NotSpecified));
+        break;
+    }
+    default:
+        break;
+    }
+    return CHIP_NO_ERROR;
+}
+
+CHIP_ERROR ComputeContentVersion(const chip::TLV::TLVReader & data, uint64_t & outVersion)
+{
+    chip::TLV::TLVReader reader;
+    reader.Init(data);
+    ContentHasher hasher;
+    ReturnErrorOnFailure(HashElement(reader, hasher));
+    outVersion = hasher.Get();
+    return CHIP_NO_ERROR;
+}
+
+} // namespace
+
+ReportCallback * ReportCallback::sFirst = nullptr;
+uint32_t ReportCallback::sNextHandle  = 0;
+
+ReportCallback::ReportCallback(jobject javaCallback) : mBufferedReadAdapter(*this), mStartTime(AndroidMetrics::Now())
+{
+    // Handle 0 is never used, so that Java can use it as "no interaction".
+    mHandle = ++sNextHandle;
+    if (mHandle == 0)
+    {
+        mHandle = ++sNextHandle;
+    }
+    mpNext = sFirst;
+    sFirst = this;
+
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+    mJavaCallbackRef = env->NewGlobalRef(javaCallback);
+    if (mJavaCallbackRef == nullptr)
+    {
+        ChipLogError(Controller, "Could not create global reference for Java callback");
+    }
+}
+
+ReportCallback::~ReportCallback()
+{
+    for (ReportCallback ** link = &sFirst; *link != nullptr; link = &(*link)->mpNext)
+    {
+        if (*link == this)
+        {
+            *link = mpNext;
+            break;
+        }
+    }
+
+    if (mReadClient != nullptr)
+    {
+        Platform::Delete(mReadClient);
+    }
+
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+    if (mJavaCallbackRef != nullptr)
+    {
+        env->DeleteGlobalRef(mJavaCallbackRef);
+    }
+}
+
+CHIP_ERROR ReportCallback::SendReadRequest(DeviceProxy * device, std::vector<app::AttributePathParams> && paths)
+{
+    return SendRequest(device, std::move(paths), app::ReadClient::InteractionType::Read, 0, 0);
+}
+
+CHIP_ERROR ReportCallback::SendSubscribeRequest(DeviceProxy * device, std::vector<app::AttributePathParams> && paths,
+                                                uint16_t minIntervalFloorSeconds, uint16_t maxIntervalCeilingSeconds)
+{
+    VerifyOrReturnError(minIntervalFloorSeconds <= maxIntervalCeilingSeconds, CHIP_ERROR_INVALID_ARGUMENT);
+    return SendRequest(device, std::move(paths), app::ReadClient::InteractionType::Subscribe, minIntervalFloorSeconds,
+                       maxIntervalCeilingSeconds);
+}
+
+CHIP_ERROR ReportCallback::SendRequest(DeviceProxy * device, std::vector<app::AttributePathParams> && paths,
+                                       app::ReadClient::InteractionType interactionType, uint16_t minIntervalFloorSeconds,
+                                       uint16_t maxIntervalCeilingSeconds)
+{
+    VerifyOrReturnError(mJavaCallbackRef != nullptr, CHIP_ERROR_INCORRECT_STATE);
+    VerifyOrReturnError(mReadClient == nullptr, CHIP_ERROR_INCORRECT_STATE);
+    VerifyOrReturnError(!paths.empty(), CHIP_ERROR_INVALID_ARGUMENT);
+
+    Optional<SessionHandle> session = device->GetSecureSession();
+    VerifyOrReturnError(session.HasValue(), CHIP_ERROR_NOT_CONNECTED);
+
+    mPaths = std::move(paths);
+    app::ReadPrepareParams params(session.Value());
+    params.mpAttributePathParamsList    = mPaths.data();
+    params.mAttributePathParamsListSize = mPaths.size();
+    params.mMinIntervalFloorSeconds     = minIntervalFloorSeconds;
+    params.mMaxIntervalCeilingSeconds   = maxIntervalCeilingSeconds;
+    params.mKeepSubscriptions           = true; // Other subscriptions to the same device must survive this one.
+
+    mReadClient = Platform::New<app::ReadClient>(app::InteractionModelEngine::GetInstance(), device->GetExchangeManager(),
+                                                 mBufferedReadAdapter, interactionType);
+    VerifyOrReturnError(mReadClient != nullptr, CHIP_ERROR_NO_MEMORY);
+
+    mStartTime = AndroidMetrics::Now();
+    return mReadClient->SendRequest(params);
+}
+
+void ReportCallback::SetKnownVersions(std::vector<KnownAttributeVersion> && versions)
+{
+    mKnownVersions = std::move(versions);
+    std::sort(mKnownVersions.begin(), mKnownVersions.end(),
+              [](const KnownAttributeVersion & a, const KnownAttributeVersion & b) { return PathLess(a.mPath, b.mPath); });
+}
+
+bool ReportCallback::IsKnownVersion(const app::ConcreteAttributePath & path, uint64_t version) const
+{
+    auto it = std::lower_bound(mKnownVersions.begin(), mKnownVersions.end(), path, KnownVersionLess);
+    return it != mKnownVersions.end() && it->mPath == path && it->mVersion == version;
+}
+
+void ReportCallback::SetKnownVersion(const app::ConcreteAttributePath & path, uint64_t version)
+{
+    auto it = std::lower_bound(mKnownVersions.begin(), mKnownVersions.end(), path, KnownVersionLess);
+    if (it != mKnownVersions.end() && it->mPath == path)
+    {
+        it->mVersion = version;
+    }
+    else
+    {
+        mKnownVersions.insert(it, KnownAttributeVersion{ path, version });
+    }
+}
+
+void ReportCallback::ForgetKnownVersion(const app::ConcreteAttributePath & path)
+{
+    auto it = std::lower_bound(mKnownVersions.begin(), mKnownVersions.end(), path, KnownVersionLess);
+    if (it != mKnownVersions.end() && it->mPath == path)
+    {
+        mKnownVersions.erase(it);
+    }
+}
+
+CHIP_ERROR ReportCallback::CancelAsync(uint32_t handle)
+{
+    return DeviceLayer::PlatformMgr().ScheduleWork(Cancel, static_cast<intptr_t>(handle));
+}
+
+void ReportCallback::Cancel(intptr_t handle)
+{
+    for (ReportCallback * callback = sFirst; callback != nullptr; callback = callback->mpNext)
+    {
+        if (callback->mHandle == static_cast<uint32_t>(handle))
+        {
+            // Deleting the ReadClient tears down the subscription without calling OnDone.
+            Platform::Delete(callback);
+            return;
+        }
+    }
+}
+
+void ReportCallback::OnReportBegin(const app::ReadClient * apReadClient)
+{
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+    CallJavaMethod(env, mJavaCallbackRef, "onReportBegin", "()V");
+}
+
+void ReportCallback::OnReportEnd(const app::ReadClient * apReadClient)
+{
+    if (apReadClient->IsSubscriptionType())
+    {
+        AndroidMetrics::GetInstance().Increment(AndroidMetrics::Counter::kSubscriptionReports);
+    }
+
+    DeviceLayer::StackUnlock unlock;
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+    CallJavaMethod(env, mJavaCallbackRef, "onReportEnd", "()V");
+}
+
+void ReportCallback::OnAttributeData(const app::ReadClient * apReadClient, const app::ConcreteDataAttributePath & aPath,
+                                     TLV::TLVReader * apData, const app::StatusIB & aStatus)
+{
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+
+    jint endpointId   = static_cast<jint>(aPath.mEndpointId);
+    jlong clusterId   = static_cast<jlong>(aPath.mClusterId);
+    jlong attributeId = static_cast<jlong>(aPath.mAttributeId);
+
+    CHIP_ERROR err       = CHIP_NO_ERROR;
+    jthrowable exception = nullptr;
+    if (aStatus.mStatus != Protocols::InteractionModel::Status::Success)
+    {
+        jint status = static_cast<jint>(aStatus.mStatus);
+        err         = AndroidClusterExceptions::GetInstance().CreateChipClusterException(env, status, exception);
+        ForgetKnownVersion(aPath);
+    }
+    else
+    {
+        uint64_t version      = 0;
+        CHIP_ERROR deliverErr = CHIP_ERROR_INVALID_ARGUMENT;
+        if (apData != nullptr && !aPath.IsListItemOperation())
+        {
+            deliverErr = ComputeContentVersion(*apData, version);
+        }
+        if (deliverErr == CHIP_NO_ERROR && IsKnownVersion(aPath, version))
+        {
+            CallJavaMethod(env, mJavaCallbackRef, "onAttributeUnchanged", "(IJJJ)V", endpointId, clusterId, attributeId,
+                           static_cast<jlong>(version));
+            return;
+        }
+
+        if (deliverErr == CHIP_NO_ERROR)
+        {
+            // The value is delivered to the collector right after this call, through its onSuccess method.
+            CallJavaMethod(env, mJavaCallbackRef, "onAttribute", "(IJJJ)V", endpointId, clusterId, attributeId,
+                           static_cast<jlong>(version));
+            deliverErr = DeliverAttributeValue(aPath, *apData, mJavaCallbackRef);
+        }
+        if (deliverErr == CHIP_NO_ERROR)
+        {
+            SetKnownVersion(aPath, version);
+        }
+        else
+        {
+            ChipLogError(Controller, "Could not deliver attribute " ChipLogFormatMEI " of cluster " ChipLogFormatMEI ": %s",
+                         ChipLogValueMEI(aPath.mAttributeId), ChipLogValueMEI(aPath.mClusterId), ErrorStr(deliverErr));
+            err = CreateControllerException(env, deliverErr, exception);
+        }
+    }
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not create exception: %s", ErrorStr(err)));
+
+    if (exception != nullptr)
+    {
+        CallJavaMethod(env, mJavaCallbackRef, "onAttributeError", "(IJJLjava/lang/Exception;)V", endpointId, clusterId, attributeId,
+                       exception);
+    }
+}
+
+void ReportCallback::OnSubscriptionEstablished(const app::ReadClient * apReadClient)
+{
+    DeviceLayer::StackUnlock unlock;
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+    CallJavaMethod(env, mJavaCallbackRef, "onSubscriptionEstablished", "()V");
+}
+
+void ReportCallback::OnError(const app::ReadClient * apReadClient, CHIP_ERROR aError)
+{
+    AndroidMetrics::GetInstance().Increment(AndroidMetrics::Counter::kInteractionFailures);
+
+    DeviceLayer::StackUnlock unlock;
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr, ChipLogError(Controller, "Could not get JNIEnv for current thread"));
+
+    jthrowable exception;
+    CHIP_ERROR err = CreateControllerException(env, aError, exception);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Controller, "Could not create exception: %s", ErrorStr(err)));
+    CallJavaMethod(env, mJavaCallbackRef, "onError", "(Ljava/lang/Exception;)V", exception);
+}
+
+void ReportCallback::OnDone(app::ReadClient * apReadClient)
+{
+    if (apReadClient->IsReadType())
+    {
+        AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kReadRoundTrip, mStartTime);
+    }
+
+    {
+        DeviceLayer::StackUnlock unlock;
+        JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+        if (env != nullptr)
+        {
+            CallJavaMethod(env, mJavaCallbackRef, "onDone", "()V");
+        }
+    }
+
+    // Deletes the ReadClient as well, which is allowed from within OnDone.
+    Platform::Delete(this);
+}
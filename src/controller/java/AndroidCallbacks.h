@@ -16,8 +16,14 @@
  */
 #pragma once
 
+#include <app/BufferedReadCallback.h>
+#include <app/ConcreteAttributePath.h>
+#include <app/ReadClient.h>
 #include <controller/CHIPDeviceController.h>
 #include <jni.h>
+#include <system/SystemClock.h>
+
+#include <vector>
 
 namespace chip {
 namespace Controller {
@@ -36,5 +42,67 @@ struct GetConnectedDeviceCallback
     jobject mJavaCallbackRef;
 };
 
+// A version of an attribute value known to Java. Versions are hashes of the TLV encoding of values: the ReadClient does not
+// surface the data versions of the device, so equal content stands in for an unchanged data version.
+struct KnownAttributeVersion
+{
+    app::ConcreteAttributePath mPath;
+    uint64_t mVersion;
+};
+
+// Delivers the attribute data of a read or subscribe interaction to a Java chip.devicecontroller.AttributeReportCollector.
+// Owns the ReadClient and deletes itself once the interaction is done.
+struct ReportCallback : public app::ReadClient::Callback
+{
+    ReportCallback(jobject javaCallback);
+    ~ReportCallback();
+
+    // If these return an error, OnDone will not be called and the caller must delete this object.
+    CHIP_ERROR SendReadRequest(DeviceProxy * device, std::vector<app::AttributePathParams> && paths);
+    CHIP_ERROR SendSubscribeRequest(DeviceProxy * device, std::vector<app::AttributePathParams> && paths,
+                                    uint16_t minIntervalFloorSeconds, uint16_t maxIntervalCeilingSeconds);
+
+    // Values whose version matches a known one are reported to Java as unchanged, without decoding them.
+    void SetKnownVersions(std::vector<KnownAttributeVersion> && versions);
+
+    // Identifies this interaction to Java. Unlike the object address, a handle is never reused.
+    uint32_t GetHandle() const { return mHandle; }
+
+    // Deletes the interaction with the given handle, if it is still alive, without calling OnDone. Can be called from any
+    // thread; the deletion happens on the CHIP event loop, so it never races with the callbacks of the interaction.
+    static CHIP_ERROR CancelAsync(uint32_t handle);
+
+    void OnReportBegin(const app::ReadClient * apReadClient) override;
+    void OnReportEnd(const app::ReadClient * apReadClient) override;
+    void OnAttributeData(const app::ReadClient * apReadClient, const app::ConcreteDataAttributePath & aPath,
+                         TLV::TLVReader * apData, const app::StatusIB & aStatus) override;
+    void OnSubscriptionEstablished(const app::ReadClient * apReadClient) override;
+    void OnError(const app::ReadClient * apReadClient, CHIP_ERROR aError) override;
+    void OnDone(app::ReadClient * apReadClient) override;
+
+    app::BufferedReadCallback mBufferedReadAdapter;
+    std::vector<app::AttributePathParams> mPaths;
+    app::ReadClient * mReadClient = nullptr;
+    jobject mJavaCallbackRef      = nullptr;
+    System::Clock::Microseconds64 mStartTime;
+    std::vector<KnownAttributeVersion> mKnownVersions; // Sorted by path.
+
+private:
+    CHIP_ERROR SendRequest(DeviceProxy * device, std::vector<app::AttributePathParams> && paths,
+                           app::ReadClient::InteractionType interactionType, uint16_t minIntervalFloorSeconds,
+                           uint16_t maxIntervalCeilingSeconds);
+    static void Cancel(intptr_t handle);
+    bool IsKnownVersion(const app::ConcreteAttributePath & path, uint64_t version) const;
+    // Keeps the known versions in step with what Java holds, for the later reports of a subscription.
+    void SetKnownVersion(const app::ConcreteAttributePath & path, uint64_t version);
+    void ForgetKnownVersion(const app::ConcreteAttributePath & path);
+
+    // All live callbacks, so that CancelAsync can tell whether a handle is still valid. Only accessed with the stack lock held.
+    static ReportCallback * sFirst;
+    static uint32_t sNextHandle;
+    ReportCallback * mpNext = nullptr;
+    uint32_t mHandle = 0;
+};
+
 } // namespace Controller
 } // namespace chip
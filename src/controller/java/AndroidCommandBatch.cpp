@@ -0,0 +1,195 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+#include "AndroidCommandBatch.h"
+
+#include <lib/support/CodeUtils.h>
+#include <lib/support/logging/CHIPLogging.h>
+
+#include <algorithm>
+
+namespace chip {
+namespace Controller {
+
+CommandBatch * CommandBatch::sFirst = nullptr;
+
+CommandBatch::CommandBatch(DeviceProxy * device, const Optional<uint16_t> & timedInvokeTimeoutMs) :
+    mDevice(device), mTimedInvokeTimeoutMs(timedInvokeTimeoutMs)
+{
+    mpNext = sFirst;
+    sFirst = this;
+}
+
+CommandBatch::~CommandBatch()
+{
+    for (CommandBatch ** batch = &sFirst; *batch != nullptr; batch = &(*batch)->mpNext)
+    {
+        if (*batch == this)
+        {
+            *batch = mpNext;
+            break;
+        }
+    }
+
+    // Release the native callbacks of the commands that were never answered.
+    FailUnansweredCommands(EMBER_ZCL_STATUS_FAILURE);
+}
+
+void CommandBatch::AddCluster(const ClusterBase * cluster, EndpointId endpoint)
+{
+    mClusters.emplace_back(cluster, endpoint);
+}
+
+CommandBatch * CommandBatch::ForCluster(const ClusterBase * cluster)
+{
+    for (CommandBatch * batch = sFirst; batch != nullptr; batch = batch->mpNext)
+    {
+        EndpointId endpoint;
+        if (batch->GetEndpoint(cluster, endpoint))
+        {
+            return batch;
+        }
+    }
+    return nullptr;
+}
+
+void CommandBatch::RemoveCluster(const ClusterBase * cluster)
+{
+    for (CommandBatch * batch = sFirst; batch != nullptr; batch = batch->mpNext)
+    {
+        auto & clusters = batch->mClusters;
+        clusters.erase(std::remove_if(clusters.begin(), clusters.end(),
+                                      [cluster](const std::pair<const ClusterBase *, EndpointId> & entry) {
+                                          return entry.first == cluster;
+                                      }),
+                       clusters.end());
+    }
+}
+
+bool CommandBatch::GetEndpoint(const ClusterBase * cluster, EndpointId & endpoint) const
+{
+    for (const auto & entry : mClusters)
+    {
+        if (entry.first == cluster)
+        {
+            endpoint = entry.second;
+            return true;
+        }
+    }
+    return false;
+}
+
+CHIP_ERROR CommandBatch::Send()
+{
+    VerifyOrReturnError(!mSent && mCommandSender != nullptr, CHIP_ERROR_INCORRECT_STATE);
+    VerifyOrReturnError(mDevice->GetSecureSession().HasValue(), CHIP_ERROR_NOT_CONNECTED);
+
+    ReturnErrorOnFailure(mCommandSender->SendCommandRequest(mDevice->GetSecureSession().Value()));
+    mSent = true;
+    // Commands invoked through the clusters of the batch from now on are sent on their own.
+    mClusters.clear();
+    return CHIP_NO_ERROR;
+}
+
+void CommandBatch::Release()
+{
+    if (mSent && !mDone)
+    {
+        // OnDone deletes the batch.
+        mReleased = true;
+        return;
+    }
+    Platform::Delete(this);
+}
+
+CommandBatch::PendingCommand * CommandBatch::FindCommand(const app::ConcreteCommandPath & path, bool isDataResponse)
+{
+    for (auto & command : mCommands)
+    {
+        if (command.mAnswered || command.mPath.mEndpointId != path.mEndpointId || command.mPath.mClusterId != path.mClusterId)
+        {
+            continue;
+        }
+        if (command.mPath.mCommandId == path.mCommandId || (isDataResponse && command.mResponseCommandId == path.mCommandId))
+        {
+            return &command;
+        }
+    }
+    return nullptr;
+}
+
+void CommandBatch::FailUnansweredCommands(EmberAfStatus status)
+{
+    for (auto & command : mCommands)
+    {
+        if (!command.mAnswered)
+        {
+            command.mAnswered = true;
+            command.mOnFailure(status);
+        }
+    }
+}
+
+void CommandBatch::OnResponse(app::CommandSender * apCommandSender, const app::ConcreteCommandPath & aPath,
+                              const app::StatusIB & aStatusIB, TLV::TLVReader * apData)
+{
+    PendingCommand * command = FindCommand(aPath, apData != nullptr);
+    VerifyOrReturn(command != nullptr,
+                   ChipLogError(Controller, "Unexpected command response for Endpoint=%" PRIu16 " Cluster=" ChipLogFormatMEI
+                                            " Command=" ChipLogFormatMEI,
+                                aPath.mEndpointId, ChipLogValueMEI(aPath.mClusterId), ChipLogValueMEI(aPath.mCommandId)));
+
+    command->mAnswered = true;
+    CHIP_ERROR err     = command->mOnResponse(apData);
+    if (err != CHIP_NO_ERROR)
+    {
+        ChipLogError(Controller, "Failed to decode command response: %" CHIP_ERROR_FORMAT, err.Format());
+        command->mOnFailure(EMBER_ZCL_STATUS_FAILURE);
+    }
+}
+
+void CommandBatch::OnCommandError(const app::CommandSender * apCommandSender, const app::ConcreteCommandPath & aPath,
+                                  const app::StatusIB & aStatusIB)
+{
+    PendingCommand * command = FindCommand(aPath, /* isDataResponse = */ false);
+    VerifyOrReturn(command != nullptr,
+                   ChipLogError(Controller, "Unexpected command status for Endpoint=%" PRIu16 " Cluster=" ChipLogFormatMEI
+                                            " Command=" ChipLogFormatMEI,
+                                aPath.mEndpointId, ChipLogValueMEI(aPath.mClusterId), ChipLogValueMEI(aPath.mCommandId)));
+
+    command->mAnswered = true;
+    command->mOnFailure(app::ToEmberAfStatus(aStatusIB.mStatus));
+}
+
+void CommandBatch::OnError(const app::CommandSender * apCommandSender, const app::StatusIB & aStatusIB, CHIP_ERROR aError)
+{
+    ChipLogError(Controller, "Command batch failed: %" CHIP_ERROR_FORMAT, aError.Format());
+    FailUnansweredCommands(app::ToEmberAfStatus(aStatusIB.mStatus));
+}
+
+void CommandBatch::OnDone(app::CommandSender * apCommandSender)
+{
+    // Commands the device left out of its response fail.
+    FailUnansweredCommands(EMBER_ZCL_STATUS_FAILURE);
+    mDone = true;
+    if (mReleased)
+    {
+        Platform::Delete(this);
+    }
+}
+
+} // namespace Controller
+} // namespace chip
@@ -0,0 +1,211 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+#pragma once
+
+#include <app/CommandSender.h>
+#include <app/ConcreteCommandPath.h>
+#include <app/DeviceProxy.h>
+#include <app/data-model/Decode.h>
+#include <app/data-model/NullObject.h>
+#include <app/util/error-mapping.h>
+#include <controller/CHIPCluster.h>
+#include <lib/core/Optional.h>
+#include <lib/support/CHIPMem.h>
+
+#include <functional>
+#include <type_traits>
+#include <utility>
+#include <vector>
+
+namespace chip {
+namespace Controller {
+
+// Collects the commands invoked through a set of clusters of one device, and sends them in a single Invoke Request. Each response
+// goes to the callbacks of its command, exactly like with ClusterBase::InvokeCommand.
+//
+// Java owns the batch until it calls Release. A batch that has been sent lives on until its interaction is done.
+class CommandBatch : public app::CommandSender::Callback
+{
+public:
+    // If timedInvokeTimeoutMs has a value, the commands are sent as a timed invoke, using the smallest timeout of the batch and its
+    // commands. Commands of untimed batches must not have a timeout.
+    CommandBatch(DeviceProxy * device, const Optional<uint16_t> & timedInvokeTimeoutMs);
+    ~CommandBatch();
+
+    // Routes the commands invoked through cluster to this batch, until it is sent.
+    void AddCluster(const ClusterBase * cluster, EndpointId endpoint);
+
+    // Returns the unsent batch that cluster was added to, if any.
+    static CommandBatch * ForCluster(const ClusterBase * cluster);
+
+    // Stops routing the commands of cluster to a batch, before the cluster is deleted.
+    static void RemoveCluster(const ClusterBase * cluster);
+
+    template <typename RequestDataT>
+    CHIP_ERROR AddCommand(const ClusterBase * cluster, const RequestDataT & requestData, void * context,
+                          CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                          CommandResponseFailureCallback failureCb, const Optional<uint16_t> & timedInvokeTimeoutMs);
+
+    CHIP_ERROR Send();
+
+    // Called once by Java when it drops the batch. Commands that were never sent fail with EMBER_ZCL_STATUS_FAILURE.
+    void Release();
+
+    void OnResponse(app::CommandSender * apCommandSender, const app::ConcreteCommandPath & aPath, const app::StatusIB & aStatusIB,
+                    TLV::TLVReader * apData) override;
+    void OnCommandError(const app::CommandSender * apCommandSender, const app::ConcreteCommandPath & aPath,
+                        const app::StatusIB & aStatusIB) override;
+    void OnError(const app::CommandSender * apCommandSender, const app::StatusIB & aStatusIB, CHIP_ERROR aError) override;
+    void OnDone(app::CommandSender * apCommandSender) override;
+
+private:
+    struct PendingCommand
+    {
+        PendingCommand(const app::ConcreteCommandPath & path, CommandId responseCommandId,
+                       std::function<CHIP_ERROR(TLV::TLVReader *)> && onResponse, std::function<void(EmberAfStatus)> && onFailure) :
+            mPath(path), mResponseCommandId(responseCommandId), mOnResponse(std::move(onResponse)), mOnFailure(std::move(onFailure))
+        {}
+
+        app::ConcreteCommandPath mPath;
+        // The command ID of data responses. Status responses carry the ID of the command itself.
+        CommandId mResponseCommandId;
+        // Decodes the response data, which is null for status responses, and calls the success callback.
+        std::function<CHIP_ERROR(TLV::TLVReader *)> mOnResponse;
+        std::function<void(EmberAfStatus)> mOnFailure;
+        bool mAnswered = false;
+    };
+
+    template <typename ResponseT>
+    using IsNullResponse = std::is_same<ResponseT, app::DataModel::NullObjectType>;
+
+    template <typename ResponseT>
+    static CommandId GetResponseCommandId(CommandId requestCommandId, std::true_type /* isNullResponse */)
+    {
+        return requestCommandId;
+    }
+
+    template <typename ResponseT>
+    static CommandId GetResponseCommandId(CommandId requestCommandId, std::false_type /* isNullResponse */)
+    {
+        return ResponseT::GetCommandId();
+    }
+
+    template <typename ResponseT>
+    static CHIP_ERROR DecodeResponse(TLV::TLVReader * apData, ResponseT & response, std::true_type /* isNullResponse */)
+    {
+        // Commands without a response type must be answered with a status.
+        return apData == nullptr ? CHIP_NO_ERROR : CHIP_ERROR_SCHEMA_MISMATCH;
+    }
+
+    template <typename ResponseT>
+    static CHIP_ERROR DecodeResponse(TLV::TLVReader * apData, ResponseT & response, std::false_type /* isNullResponse */)
+    {
+        VerifyOrReturnError(apData != nullptr, CHIP_ERROR_SCHEMA_MISMATCH);
+        return app::DataModel::Decode(*apData, response);
+    }
+
+    bool GetEndpoint(const ClusterBase * cluster, EndpointId & endpoint) const;
+    // Returns the first unanswered command matching the path of a response, or nullptr.
+    PendingCommand * FindCommand(const app::ConcreteCommandPath & path, bool isDataResponse);
+    void FailUnansweredCommands(EmberAfStatus status);
+
+    DeviceProxy * mDevice;
+    Optional<uint16_t> mTimedInvokeTimeoutMs;
+    Platform::UniquePtr<app::CommandSender> mCommandSender;
+    std::vector<std::pair<const ClusterBase *, EndpointId>> mClusters;
+    std::vector<PendingCommand> mCommands;
+    bool mSent     = false;
+    bool mDone     = false;
+    bool mReleased = false;
+
+    // All live batches, so that commands can find the batch of their cluster. Only accessed with the stack lock held.
+    static CommandBatch * sFirst;
+    CommandBatch * mpNext = nullptr;
+};
+
+template <typename RequestDataT>
+CHIP_ERROR CommandBatch::AddCommand(const ClusterBase * cluster, const RequestDataT & requestData, void * context,
+                                    CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                                    CommandResponseFailureCallback failureCb, const Optional<uint16_t> & timedInvokeTimeoutMs)
+{
+    using ResponseT = typename RequestDataT::ResponseType;
+
+    EndpointId endpoint;
+    VerifyOrReturnError(!mSent && GetEndpoint(cluster, endpoint), CHIP_ERROR_INCORRECT_STATE);
+    VerifyOrReturnError(mTimedInvokeTimeoutMs.HasValue() || !timedInvokeTimeoutMs.HasValue(), CHIP_ERROR_INVALID_ARGUMENT);
+
+    if (mCommandSender == nullptr)
+    {
+        mCommandSender = Platform::MakeUnique<app::CommandSender>(this, mDevice->GetExchangeManager(),
+                                                                  mTimedInvokeTimeoutMs.HasValue());
+        VerifyOrReturnError(mCommandSender != nullptr, CHIP_ERROR_NO_MEMORY);
+    }
+
+    app::CommandPathParams commandPath = { endpoint, 0, RequestDataT::GetClusterId(), RequestDataT::GetCommandId(),
+                                           app::CommandPathFlags::kEndpointIdValid };
+    ReturnErrorOnFailure(mCommandSender->AddRequestData(
+        commandPath, requestData, timedInvokeTimeoutMs.HasValue() ? timedInvokeTimeoutMs : mTimedInvokeTimeoutMs));
+
+    auto onResponse = [context, successCb](TLV::TLVReader * apData) {
+        ResponseT response;
+        ReturnErrorOnFailure(DecodeResponse(apData, response, IsNullResponse<ResponseT>()));
+        successCb(context, response);
+        return CHIP_NO_ERROR;
+    };
+    auto onFailure = [context, failureCb](EmberAfStatus status) { failureCb(context, status); };
+
+    mCommands.emplace_back(app::ConcreteCommandPath(endpoint, RequestDataT::GetClusterId(), RequestDataT::GetCommandId()),
+                           GetResponseCommandId<ResponseT>(RequestDataT::GetCommandId(), IsNullResponse<ResponseT>()),
+                           std::move(onResponse), std::move(onFailure));
+    return CHIP_NO_ERROR;
+}
+
+/*
+ * Invokes a command through cluster like ClusterBase::InvokeCommand, or adds it to the unsent batch that cluster belongs to.
+ */
+template <typename RequestDataT>
+CHIP_ERROR InvokeOrBatchCommand(ClusterBase & cluster, const RequestDataT & requestData, void * context,
+                                CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                                CommandResponseFailureCallback failureCb, const Optional<uint16_t> & timedInvokeTimeoutMs)
+{
+    CommandBatch * batch = CommandBatch::ForCluster(&cluster);
+    if (batch != nullptr)
+    {
+        return batch->AddCommand(&cluster, requestData, context, successCb, failureCb, timedInvokeTimeoutMs);
+    }
+    return cluster.InvokeCommand(requestData, context, successCb, failureCb, timedInvokeTimeoutMs);
+}
+
+template <typename RequestDataT>
+CHIP_ERROR InvokeOrBatchCommand(ClusterBase & cluster, const RequestDataT & requestData, void * context,
+                                CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                                CommandResponseFailureCallback failureCb, uint16_t timedInvokeTimeoutMs)
+{
+    return InvokeOrBatchCommand(cluster, requestData, context, successCb, failureCb, MakeOptional(timedInvokeTimeoutMs));
+}
+
+template <typename RequestDataT, typename std::enable_if_t<!RequestDataT::MustUseTimedInvoke(), int> = 0>
+CHIP_ERROR InvokeOrBatchCommand(ClusterBase & cluster, const RequestDataT & requestData, void * context,
+                                CommandResponseSuccessCallback<typename RequestDataT::ResponseType> successCb,
+                                CommandResponseFailureCallback failureCb)
+{
+    return InvokeOrBatchCommand(cluster, requestData, context, successCb, failureCb, NullOptional);
+}
+
+} // namespace Controller
+} // namespace chip
@@ -0,0 +1,52 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+#include "AndroidGroupClusters.h"
+#include "AndroidDeviceControllerWrapper.h"
+
+#include <lib/support/CodeUtils.h>
+#include <lib/support/JniReferences.h>
+#include <lib/support/JniTypeWrappers.h>
+#include <lib/support/SafeInt.h>
+
+namespace chip {
+namespace Controller {
+
+jlong InitGroupCluster(JNIEnv * env, ClusterBase * cluster, jlong handle, jint groupId)
+{
+    DeviceCommissioner * controller          = AndroidDeviceControllerWrapper::FromJNIHandle(handle)->Controller();
+    Messaging::ExchangeManager * exchangeMgr = controller->GetExchangeManager();
+    CHIP_ERROR err                           = CHIP_NO_ERROR;
+    jclass exceptionCls;
+
+    VerifyOrExit(CanCastTo<GroupId>(groupId), err = CHIP_ERROR_INVALID_ARGUMENT);
+    VerifyOrExit(exchangeMgr != nullptr, err = CHIP_ERROR_INCORRECT_STATE);
+    SuccessOrExit(err = cluster->AssociateWithGroup(exchangeMgr, static_cast<GroupId>(groupId), controller->GetFabricIndex()));
+    return reinterpret_cast<jlong>(cluster);
+
+exit:
+    delete cluster;
+    if (JniReferences::GetInstance().GetClassRef(env, "chip/devicecontroller/ChipDeviceControllerException", exceptionCls) ==
+        CHIP_NO_ERROR)
+    {
+        JniClass exceptionJniCls(exceptionCls);
+        JniReferences::GetInstance().ThrowError(env, exceptionCls, err);
+    }
+    return 0;
+}
+
+} // namespace Controller
+} // namespace chip
@@ -0,0 +1,35 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+#pragma once
+
+#include <controller/CHIPCluster.h>
+#include <jni.h>
+
+namespace chip {
+namespace Controller {
+
+/*
+ * Associates the newly created cluster with group groupId on the fabric of the controller of handle, and returns it as a jlong for
+ * the Java cluster object. On failure, deletes the cluster, throws a ChipDeviceControllerException and returns 0.
+ *
+ * Group messages are not encrypted yet (#11911), so the commands of the cluster are sent in plaintext.
+ */
+jlong InitGroupCluster(JNIEnv * env, ClusterBase * cluster, jlong handle, jint groupId);
+
+} // namespace Controller
+} // namespace chip
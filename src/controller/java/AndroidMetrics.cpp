@@ -0,0 +1,72 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+#include "AndroidMetrics.h"
+
+#include <lib/support/CHIPJNIError.h>
+#include <lib/support/CodeUtils.h>
+#include <lib/support/JniReferences.h>
+
+namespace chip {
+
+CHIP_ERROR AndroidMetrics::EnsureInitialized(JNIEnv * env)
+{
+    // Only called on the CHIP event loop thread, so no locking is needed.
+    if (mMetricsClass != nullptr)
+    {
+        return CHIP_NO_ERROR;
+    }
+
+    jclass metricsClass;
+    ReturnErrorOnFailure(JniReferences::GetInstance().GetClassRef(env, "chip/devicecontroller/ChipMetrics", metricsClass));
+
+    mIncrementMethod = env->GetStaticMethodID(metricsClass, "incrementFromNative", "(I)V");
+    mRecordMethod    = env->GetStaticMethodID(metricsClass, "recordFromNative", "(IJ)V");
+    if (mIncrementMethod == nullptr || mRecordMethod == nullptr)
+    {
+        env->ExceptionClear();
+        env->DeleteGlobalRef(metricsClass);
+        return CHIP_JNI_ERROR_METHOD_NOT_FOUND;
+    }
+
+    // Kept for the lifetime of the process, since the method IDs are only valid while the class is loaded.
+    mMetricsClass = metricsClass;
+    return CHIP_NO_ERROR;
+}
+
+void AndroidMetrics::Increment(Counter counter)
+{
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr);
+    VerifyOrReturn(EnsureInitialized(env) == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find ChipMetrics"));
+
+    env->CallStaticVoidMethod(mMetricsClass, mIncrementMethod, static_cast<jint>(counter));
+    env->ExceptionClear();
+}
+
+void AndroidMetrics::RecordSince(Timer timer, System::Clock::Microseconds64 start)
+{
+    JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
+    VerifyOrReturn(env != nullptr);
+    VerifyOrReturn(EnsureInitialized(env) == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find ChipMetrics"));
+
+    jlong elapsedNanos = static_cast<jlong>((Now() - start).count()) * 1000;
+    env->CallStaticVoidMethod(mMetricsClass, mRecordMethod, static_cast<jint>(timer), elapsedNanos);
+    env->ExceptionClear();
+}
+
+} // namespace chip
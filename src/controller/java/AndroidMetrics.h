@@ -0,0 +1,77 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+#pragma once
+
+#include <jni.h>
+#include <lib/core/CHIPError.h>
+#include <system/SystemClock.h>
+
+namespace chip {
+/**
+ * Reports interaction metrics of the cluster callbacks to the Java chip.devicecontroller.ChipMetrics registry.
+ */
+class AndroidMetrics
+{
+public:
+    // Must match the ordinals of ChipMetrics.Counter.
+    enum class Counter : jint
+    {
+        kInteractionFailures = 0,
+        kSubscriptionReports = 1,
+    };
+
+    // Must match the ordinals of ChipMetrics.Timer.
+    enum class Timer : jint
+    {
+        kCommandRoundTrip = 0,
+        kWriteRoundTrip   = 1,
+        kReadRoundTrip    = 2,
+    };
+
+    AndroidMetrics(const AndroidMetrics &)  = delete;
+    AndroidMetrics(const AndroidMetrics &&) = delete;
+    AndroidMetrics & operator=(const AndroidMetrics &) = delete;
+
+    static AndroidMetrics & GetInstance()
+    {
+        static AndroidMetrics androidMetrics;
+        return androidMetrics;
+    }
+
+    /**
+     * Returns the start time of an interaction, to be passed to RecordSince() once it completes.
+     */
+    static System::Clock::Microseconds64 Now() { return System::SystemClock().GetMonotonicMicroseconds64(); }
+
+    void Increment(Counter counter);
+
+    /**
+     * Records the time elapsed since start, a value returned by Now().
+     */
+    void RecordSince(Timer timer, System::Clock::Microseconds64 start);
+
+private:
+    AndroidMetrics() {}
+
+    CHIP_ERROR EnsureInitialized(JNIEnv * env);
+
+    jclass mMetricsClass       = nullptr;
+    jmethodID mIncrementMethod = nullptr;
+    jmethodID mRecordMethod    = nullptr;
+};
+} // namespace chip
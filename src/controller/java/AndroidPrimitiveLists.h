@@ -0,0 +1,207 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+#pragma once
+
+#include <app/data-model/DecodableList.h>
+#include <jni.h>
+#include <lib/support/CodeUtils.h>
+#include <lib/support/JniReferences.h>
+#include <lib/support/JniTypeWrappers.h>
+#include <lib/support/SafeInt.h>
+#include <lib/support/ScopedBuffer.h>
+#include <lib/support/logging/CHIPLogging.h>
+
+#include <type_traits>
+
+namespace chip {
+
+template <typename Entry>
+struct JavaPrimitiveArray;
+
+template <>
+struct JavaPrimitiveArray<jint>
+{
+    static jarray New(JNIEnv * env, jsize length) { return env->NewIntArray(length); }
+    static void Set(JNIEnv * env, jarray array, jsize length, const jint * entries)
+    {
+        env->SetIntArrayRegion(static_cast<jintArray>(array), 0, length, entries);
+    }
+};
+
+template <>
+struct JavaPrimitiveArray<jlong>
+{
+    static jarray New(JNIEnv * env, jsize length) { return env->NewLongArray(length); }
+    static void Set(JNIEnv * env, jarray array, jsize length, const jlong * entries)
+    {
+        env->SetLongArrayRegion(static_cast<jlongArray>(array), 0, length, entries);
+    }
+};
+
+template <>
+struct JavaPrimitiveArray<jboolean>
+{
+    static jarray New(JNIEnv * env, jsize length) { return env->NewBooleanArray(length); }
+    static void Set(JNIEnv * env, jarray array, jsize length, const jboolean * entries)
+    {
+        env->SetBooleanArrayRegion(static_cast<jbooleanArray>(array), 0, length, entries);
+    }
+};
+
+/**
+ * Collects one field of the entries of a list natively, and hands it to Java as a single primitive array of the JNI type Entry.
+ */
+template <typename Entry>
+class PrimitiveColumn
+{
+public:
+    bool Alloc(size_t size) { return size == 0 || mEntries.Alloc(size); }
+
+    void Set(size_t index, Entry value) { mEntries[index] = value; }
+
+    /**
+     * Returns a new Java array holding the first length entries, or nullptr with a pending OutOfMemoryError.
+     */
+    jarray ToJavaArray(JNIEnv * env, jsize length) const
+    {
+        jarray array = JavaPrimitiveArray<Entry>::New(env, length);
+        if (array != nullptr && length > 0)
+        {
+            JavaPrimitiveArray<Entry>::Set(env, array, length, mEntries.Get());
+        }
+        return array;
+    }
+
+private:
+    Platform::ScopedMemoryBuffer<Entry> mEntries;
+};
+
+/**
+ * Delivers lists of integers to Java callbacks that implement chip.devicecontroller.IntList$Callback or
+ * chip.devicecontroller.LongList$Callback as one primitive array, instead of one boxed object per entry. Entries of up to 16
+ * bits are delivered as an IntList and wider ones as a LongList, like the Integer and Long entries of the boxed callbacks.
+ */
+class PrimitiveListDelivery
+{
+public:
+    /**
+     * Returns whether the callback takes primitive lists of this entry type. If it does, the list has been delivered to it,
+     * or the failure to decode it has been logged, and the boxed list must not be delivered.
+     */
+    template <typename T>
+    static bool TryDeliver(JNIEnv * env, jobject javaCallback, const app::DataModel::DecodableList<T> & list)
+    {
+        return TryDeliver(env, javaCallback, list, IsPrimitive<T>());
+    }
+
+private:
+    template <typename T>
+    using IsPrimitive =
+        std::integral_constant<bool, (std::is_integral<T>::value || std::is_enum<T>::value) && !std::is_same<T, bool>::value>;
+
+    template <typename Entry>
+    struct JavaList;
+
+    template <typename T>
+    static bool TryDeliver(JNIEnv *, jobject, const app::DataModel::DecodableList<T> &, std::false_type)
+    {
+        return false;
+    }
+
+    template <typename T>
+    static bool TryDeliver(JNIEnv * env, jobject javaCallback, const app::DataModel::DecodableList<T> & list, std::true_type)
+    {
+        using Entry = typename std::conditional<sizeof(T) <= 2, jint, jlong>::type;
+
+        jclass callbackClass = nullptr;
+        if (JniReferences::GetInstance().GetClassRef(env, JavaList<Entry>::CallbackClass(), callbackClass) != CHIP_NO_ERROR)
+        {
+            return false;
+        }
+        JniClass callbackJniClass(callbackClass);
+        if (!env->IsInstanceOf(javaCallback, callbackClass))
+        {
+            return false;
+        }
+
+        Deliver<Entry>(env, javaCallback, callbackClass, list);
+        return true;
+    }
+
+    template <typename Entry, typename T>
+    static void Deliver(JNIEnv * env, jobject javaCallback, jclass callbackClass, const app::DataModel::DecodableList<T> & list)
+    {
+        using List = JavaList<Entry>;
+
+        size_t size    = 0;
+        CHIP_ERROR err = list.ComputeSize(&size);
+        PrimitiveColumn<Entry> entries;
+        if (err == CHIP_NO_ERROR && (!CanCastTo<jsize>(size) || !entries.Alloc(size)))
+        {
+            err = CHIP_ERROR_NO_MEMORY;
+        }
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (err == CHIP_NO_ERROR && count < size && iter.Next())
+        {
+            entries.Set(count++, static_cast<Entry>(iter.GetValue()));
+        }
+        if (err == CHIP_NO_ERROR)
+        {
+            err = iter.GetStatus();
+        }
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error decoding primitive list: %" CHIP_ERROR_FORMAT, err.Format()));
+
+        jclass listClass = nullptr;
+        err              = JniReferences::GetInstance().GetClassRef(env, List::ListClass(), listClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class %s", List::ListClass()));
+        JniClass listJniClass(listClass);
+        jmethodID listCtor  = env->GetMethodID(listClass, "<init>", List::ConstructorSignature());
+        jmethodID onSuccess = env->GetMethodID(callbackClass, "onSuccess", List::OnSuccessSignature());
+        VerifyOrReturn(listCtor != nullptr && onSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find %s methods", List::ListClass()));
+
+        jarray array = entries.ToJavaArray(env, static_cast<jsize>(count));
+        VerifyOrReturn(array != nullptr, ChipLogError(Zcl, "Could not create primitive array"));
+        jobject listObj = env->NewObject(listClass, listCtor, array);
+        VerifyOrReturn(listObj != nullptr, ChipLogError(Zcl, "Could not create %s", List::ListClass()));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallback, onSuccess, listObj);
+    }
+};
+
+template <>
+struct PrimitiveListDelivery::JavaList<jint>
+{
+    static const char * ListClass() { return "chip/devicecontroller/IntList"; }
+    static const char * CallbackClass() { return "chip/devicecontroller/IntList$Callback"; }
+    static const char * ConstructorSignature() { return "([I)V"; }
+    static const char * OnSuccessSignature() { return "(Lchip/devicecontroller/IntList;)V"; }
+};
+
+template <>
+struct PrimitiveListDelivery::JavaList<jlong>
+{
+    static const char * ListClass() { return "chip/devicecontroller/LongList"; }
+    static const char * CallbackClass() { return "chip/devicecontroller/LongList$Callback"; }
+    static const char * ConstructorSignature() { return "([J)V"; }
+    static const char * OnSuccessSignature() { return "(Lchip/devicecontroller/LongList;)V"; }
+};
+} // namespace chip
@@ -0,0 +1,34 @@
+/*
+ *
+ *    Copyright (c) 2022 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+#pragma once
+
+#include <app/ConcreteAttributePath.h>
+#include <jni.h>
+#include <lib/core/CHIPError.h>
+#include <lib/core/CHIPTLV.h>
+
+namespace chip {
+/**
+ * Decodes the attribute value at aReader according to the type of aPath and delivers it to the onSuccess method of
+ * aJavaCallback, with the same Java type as the read method of the generated cluster. Delivering the value records no
+ * metrics; the interaction that read it records its own.
+ *
+ * Returns CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH if the attribute is not supported by the Java clusters.
+ */
+CHIP_ERROR DeliverAttributeValue(const app::ConcreteAttributePath & aPath, TLV::TLVReader & aReader, jobject aJavaCallback);
+} // namespace chip
@@ -6,8 +6,8 @@
 #include <lib/support/JniReferences.h>
 #include <platform/PlatformManager.h>
 
-chip::CHIPDefaultSuccessCallback::CHIPDefaultSuccessCallback(jobject javaCallback) :
-    Callback::Callback<DefaultSuccessCallback>(CallbackFn, this)
+chip::CHIPDefaultSuccessCallback::CHIPDefaultSuccessCallback(jobject javaCallback, AndroidMetrics::Timer timer) :
+    Callback::Callback<DefaultSuccessCallback>(CallbackFn, this), timer(timer), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -46,6 +46,7 @@ void chip::CHIPDefaultSuccessCallback::CallbackFn(void * context)
 
     cppCallback = reinterpret_cast<CHIPDefaultSuccessCallback *>(context);
     VerifyOrExit(cppCallback != nullptr, err = CHIP_ERROR_INCORRECT_STATE);
+    AndroidMetrics::GetInstance().RecordSince(cppCallback->timer, cppCallback->startTime);
 
     // It's valid for javaCallbackRef to be nullptr if the Java code passed in a null callback.
     javaCallbackRef = cppCallback->javaCallbackRef;
@@ -110,6 +111,7 @@ void chip::CHIPDefaultFailureCallback::CallbackFn(void * context, uint8_t status
 
     cppCallback = reinterpret_cast<CHIPDefaultFailureCallback *>(context);
     VerifyOrExit(cppCallback != nullptr, err = CHIP_ERROR_INCORRECT_STATE);
+    AndroidMetrics::GetInstance().Increment(AndroidMetrics::Counter::kInteractionFailures);
 
     // It's valid for javaCallbackRef to be nullptr if the Java code passed in a null callback.
     javaCallbackRef = cppCallback->javaCallbackRef;
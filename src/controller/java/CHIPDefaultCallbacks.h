@@ -1,3 +1,5 @@
+#include "AndroidMetrics.h"
+
 #include <jni.h>
 
 #include <zap-generated/CHIPClientCallbacks.h>
@@ -8,7 +10,7 @@ namespace chip {
 class CHIPDefaultSuccessCallback : public Callback::Callback<DefaultSuccessCallback>
 {
 public:
-    CHIPDefaultSuccessCallback(jobject javaCallback);
+    CHIPDefaultSuccessCallback(jobject javaCallback, AndroidMetrics::Timer timer = AndroidMetrics::Timer::kCommandRoundTrip);
 
     ~CHIPDefaultSuccessCallback();
 
@@ -16,6 +18,8 @@ public:
 
 private:
     jobject javaCallbackRef;
+    AndroidMetrics::Timer timer;
+    System::Clock::Microseconds64 startTime;
 };
 
 /** A failure callback that delegates to the Java DefaultClusterCallback.onError(). */
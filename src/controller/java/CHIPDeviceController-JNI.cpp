@@ -22,6 +22,7 @@
  *
  */
 #include "AndroidCallbacks.h"
+#include "AndroidCommandBatch.h"
 #include "AndroidDeviceControllerWrapper.h"
 #include <lib/support/CHIPJNIError.h>
 #include <lib/support/JniReferences.h>
@@ -36,12 +37,14 @@
 #include <lib/support/CodeUtils.h>
 #include <lib/support/ErrorStr.h>
 #include <lib/support/SafeInt.h>
+#include <lib/support/ScopedBuffer.h>
 #include <lib/support/ThreadOperationalDataset.h>
 #include <lib/support/logging/CHIPLogging.h>
 #include <platform/KeyValueStoreManager.h>
 #include <protocols/Protocols.h>
 #include <protocols/temp_zcl/TempZCL.h>
 #include <pthread.h>
+#include <vector>
 
 #include <platform/android/AndroidChipPlatform-JNI.h>
 
@@ -137,7 +140,7 @@ void JNI_OnUnload(JavaVM * jvm, void * reserved)
     chip::Platform::MemoryShutdown();
 }
 
-JNI_METHOD(jlong, newDeviceController)(JNIEnv * env, jobject self)
+JNI_METHOD(jlong, newDeviceController)(JNIEnv * env, jobject self, jlong fabricId)
 {
     chip::DeviceLayer::StackLock lock;
     CHIP_ERROR err                           = CHIP_NO_ERROR;
@@ -146,9 +149,9 @@ JNI_METHOD(jlong, newDeviceController)(JNIEnv * env, jobject self)
 
     ChipLogProgress(Controller, "newDeviceController() called");
 
-    wrapper =
-        AndroidDeviceControllerWrapper::AllocateNew(sJVM, self, kLocalDeviceId, &DeviceLayer::SystemLayer(),
-                                                    DeviceLayer::TCPEndPointManager(), DeviceLayer::UDPEndPointManager(), &err);
+    wrapper = AndroidDeviceControllerWrapper::AllocateNew(sJVM, self, kLocalDeviceId, static_cast<chip::FabricId>(fabricId),
+                                                          &DeviceLayer::SystemLayer(), DeviceLayer::TCPEndPointManager(),
+                                                          DeviceLayer::UDPEndPointManager(), &err);
     SuccessOrExit(err);
 
     // Create and start the IO thread. Must be called after Controller()->Init
@@ -382,12 +385,28 @@ JNI_METHOD(jlong, getDeviceBeingCommissionedPointer)(JNIEnv * env, jobject self,
 JNI_METHOD(void, getConnectedDevicePointer)(JNIEnv * env, jobject self, jlong handle, jlong nodeId, jlong callbackHandle)
 {
     chip::DeviceLayer::StackLock lock;
+    CHIP_ERROR err                           = CHIP_NO_ERROR;
     AndroidDeviceControllerWrapper * wrapper = AndroidDeviceControllerWrapper::FromJNIHandle(handle);
 
     GetConnectedDeviceCallback * connectedDeviceCallback = reinterpret_cast<GetConnectedDeviceCallback *>(callbackHandle);
     VerifyOrReturn(connectedDeviceCallback != nullptr, ChipLogError(Controller, "GetConnectedDeviceCallback handle is nullptr"));
-    wrapper->Controller()->GetCompressedFabricId();
-    wrapper->Controller()->GetConnectedDevice(nodeId, &connectedDeviceCallback->mOnSuccess, &connectedDeviceCallback->mOnFailure);
+    err = wrapper->Controller()->GetConnectedDevice(nodeId, &connectedDeviceCallback->mOnSuccess,
+                                                    &connectedDeviceCallback->mOnFailure);
+
+    if (err != CHIP_NO_ERROR)
+    {
+        ChipLogError(Controller, "Failed to get the connected device.");
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+    }
+}
+
+JNI_METHOD(jboolean, isConnectedDevicePointer)(JNIEnv * env, jobject self, jlong handle, jlong nodeId, jlong devicePtr)
+{
+    chip::DeviceLayer::StackLock lock;
+    AndroidDeviceControllerWrapper * wrapper = AndroidDeviceControllerWrapper::FromJNIHandle(handle);
+
+    OperationalDeviceProxy * device = reinterpret_cast<OperationalDeviceProxy *>(devicePtr);
+    return wrapper->Controller()->IsConnectedDevice(nodeId, device) ? JNI_TRUE : JNI_FALSE;
 }
 
 JNI_METHOD(void, disconnectDevice)(JNIEnv * env, jobject self, jlong handle, jlong deviceId)
@@ -470,6 +489,348 @@ JNI_METHOD(void, updateDevice)(JNIEnv * env, jobject self, jlong handle, jlong f
     }
 }
 
+namespace {
+
+// Copies the node IDs out of the Java array, then runs op on each of them under a single stack lock, storing one result per
+// node in outResults.
+template <typename Result, typename Op>
+CHIP_ERROR ForEachDevice(JNIEnv * env, jlong handle, jlongArray deviceIds, Platform::ScopedMemoryBuffer<Result> & outResults,
+                         jsize & outCount, Op op)
+{
+    VerifyOrReturnError(deviceIds != nullptr, CHIP_ERROR_INVALID_ARGUMENT);
+
+    jsize count = env->GetArrayLength(deviceIds);
+    Platform::ScopedMemoryBuffer<jlong> ids;
+    // Allocate at least one element, since empty allocations may fail.
+    size_t allocCount = count > 0 ? static_cast<size_t>(count) : 1;
+    VerifyOrReturnError(ids.Alloc(allocCount) && outResults.Alloc(allocCount), CHIP_ERROR_NO_MEMORY);
+    env->GetLongArrayRegion(deviceIds, 0, count, ids.Get());
+    VerifyOrReturnError(!env->ExceptionCheck(), CHIP_JNI_ERROR_EXCEPTION_THROWN);
+
+    chip::DeviceLayer::StackLock lock;
+    AndroidDeviceControllerWrapper * wrapper = AndroidDeviceControllerWrapper::FromJNIHandle(handle);
+    for (jsize i = 0; i < count; i++)
+    {
+        outResults[i] = op(wrapper->Controller(), static_cast<chip::NodeId>(ids[i]));
+    }
+    outCount = count;
+    return CHIP_NO_ERROR;
+}
+
+} // namespace
+
+JNI_METHOD(jintArray, unpairDevices)(JNIEnv * env, jobject self, jlong handle, jlongArray deviceIds)
+{
+    Platform::ScopedMemoryBuffer<jint> results;
+    jsize count = 0;
+
+    ChipLogProgress(Controller, "unpairDevices() called");
+
+    CHIP_ERROR err = ForEachDevice(env, handle, deviceIds, results, count, [](DeviceCommissioner * controller, NodeId deviceId) {
+        return static_cast<jint>(controller->UnpairDevice(deviceId).AsInteger());
+    });
+    if (err != CHIP_NO_ERROR)
+    {
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+        return nullptr;
+    }
+
+    jintArray resultArray = env->NewIntArray(count);
+    VerifyOrReturnError(resultArray != nullptr, nullptr);
+    env->SetIntArrayRegion(resultArray, 0, count, results.Get());
+    return resultArray;
+}
+
+JNI_METHOD(void, disconnectDevices)(JNIEnv * env, jobject self, jlong handle, jlongArray deviceIds)
+{
+    Platform::ScopedMemoryBuffer<jboolean> results;
+    jsize count = 0;
+
+    ChipLogProgress(Controller, "disconnectDevices() called");
+
+    CHIP_ERROR err = ForEachDevice(env, handle, deviceIds, results, count, [](DeviceCommissioner * controller, NodeId deviceId) {
+        controller->ReleaseOperationalDevice(deviceId);
+        return static_cast<jboolean>(JNI_TRUE);
+    });
+    if (err != CHIP_NO_ERROR)
+    {
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+    }
+}
+
+JNI_METHOD(jintArray, updateDevices)(JNIEnv * env, jobject self, jlong handle, jlongArray deviceIds)
+{
+    Platform::ScopedMemoryBuffer<jint> results;
+    jsize count = 0;
+
+    ChipLogProgress(Controller, "updateDevices() called");
+
+    CHIP_ERROR err = ForEachDevice(env, handle, deviceIds, results, count, [](DeviceCommissioner * controller, NodeId deviceId) {
+        return static_cast<jint>(controller->UpdateDevice(deviceId).AsInteger());
+    });
+    if (err != CHIP_NO_ERROR)
+    {
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+        return nullptr;
+    }
+
+    jintArray resultArray = env->NewIntArray(count);
+    VerifyOrReturnError(resultArray != nullptr, nullptr);
+    env->SetIntArrayRegion(resultArray, 0, count, results.Get());
+    return resultArray;
+}
+
+JNI_METHOD(jbooleanArray, areDevicesActive)(JNIEnv * env, jobject self, jlong handle, jlongArray deviceIds)
+{
+    Platform::ScopedMemoryBuffer<jboolean> results;
+    jsize count = 0;
+
+    CHIP_ERROR err = ForEachDevice(env, handle, deviceIds, results, count, [](DeviceCommissioner * controller, NodeId deviceId) {
+        return static_cast<jboolean>(controller->IsDeviceConnected(deviceId) ? JNI_TRUE : JNI_FALSE);
+    });
+    if (err != CHIP_NO_ERROR)
+    {
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+        return nullptr;
+    }
+
+    jbooleanArray resultArray = env->NewBooleanArray(count);
+    VerifyOrReturnError(resultArray != nullptr, nullptr);
+    env->SetBooleanArrayRegion(resultArray, 0, count, results.Get());
+    return resultArray;
+}
+
+namespace {
+
+// Builds attribute paths from the parallel Java arrays of endpoint, cluster and attribute IDs.
+CHIP_ERROR GetAttributePaths(JNIEnv * env, jintArray endpointIds, jlongArray clusterIds, jlongArray attributeIds,
+                             std::vector<app::AttributePathParams> & outPaths)
+{
+    VerifyOrReturnError(endpointIds != nullptr && clusterIds != nullptr && attributeIds != nullptr, CHIP_ERROR_INVALID_ARGUMENT);
+
+    jsize count = env->GetArrayLength(endpointIds);
+    VerifyOrReturnError(count > 0, CHIP_ERROR_INVALID_ARGUMENT);
+    VerifyOrReturnError(env->GetArrayLength(clusterIds) == count && env->GetArrayLength(attributeIds) == count,
+                        CHIP_ERROR_INVALID_ARGUMENT);
+
+    Platform::ScopedMemoryBuffer<jint> endpoints;
+    Platform::ScopedMemoryBuffer<jlong> clusters;
+    Platform::ScopedMemoryBuffer<jlong> attributes;
+    VerifyOrReturnError(endpoints.Alloc(count) && clusters.Alloc(count) && attributes.Alloc(count), CHIP_ERROR_NO_MEMORY);
+    env->GetIntArrayRegion(endpointIds, 0, count, endpoints.Get());
+    env->GetLongArrayRegion(clusterIds, 0, count, clusters.Get());
+    env->GetLongArrayRegion(attributeIds, 0, count, attributes.Get());
+    VerifyOrReturnError(!env->ExceptionCheck(), CHIP_JNI_ERROR_EXCEPTION_THROWN);
+
+    outPaths.clear();
+    outPaths.reserve(static_cast<size_t>(count));
+    for (jsize i = 0; i < count; i++)
+    {
+        // Negative IDs are the Java wildcards (see AttributePath); the IM encodes wildcards as the invalid IDs.
+        EndpointId endpoint   = endpoints[i] < 0 ? kInvalidEndpointId : static_cast<EndpointId>(endpoints[i]);
+        ClusterId cluster     = clusters[i] < 0 ? kInvalidClusterId : static_cast<ClusterId>(clusters[i]);
+        AttributeId attribute = attributes[i] < 0 ? kInvalidAttributeId : static_cast<AttributeId>(attributes[i]);
+        VerifyOrReturnError(endpoints[i] <= UINT16_MAX && clusters[i] <= UINT32_MAX && attributes[i] <= UINT32_MAX,
+                            CHIP_ERROR_INVALID_ARGUMENT);
+        outPaths.emplace_back(endpoint, cluster, attribute);
+    }
+    return CHIP_NO_ERROR;
+}
+
+// Builds the known attribute versions from a Java array of (endpoint ID, cluster ID, attribute ID, version) quadruples.
+CHIP_ERROR GetKnownVersions(JNIEnv * env, jlongArray knownVersions, std::vector<KnownAttributeVersion> & outVersions)
+{
+    outVersions.clear();
+    if (knownVersions == nullptr || env->GetArrayLength(knownVersions) == 0)
+    {
+        return CHIP_NO_ERROR;
+    }
+
+    jsize length = env->GetArrayLength(knownVersions);
+    VerifyOrReturnError(length % 4 == 0, CHIP_ERROR_INVALID_ARGUMENT);
+
+    Platform::ScopedMemoryBuffer<jlong> values;
+    VerifyOrReturnError(values.Alloc(length), CHIP_ERROR_NO_MEMORY);
+    env->GetLongArrayRegion(knownVersions, 0, length, values.Get());
+    VerifyOrReturnError(!env->ExceptionCheck(), CHIP_JNI_ERROR_EXCEPTION_THROWN);
+
+    outVersions.reserve(static_cast<size_t>(length / 4));
+    for (jsize i = 0; i < length; i += 4)
+    {
+        VerifyOrReturnError(CanCastTo<EndpointId>(values[i]) && CanCastTo<ClusterId>(values[i + 1]) &&
+                                CanCastTo<AttributeId>(values[i + 2]),
+                            CHIP_ERROR_INVALID_ARGUMENT);
+        KnownAttributeVersion version;
+        version.mPath = app::ConcreteAttributePath(static_cast<EndpointId>(values[i]), static_cast<ClusterId>(values[i + 1]),
+                                                   static_cast<AttributeId>(values[i + 2]));
+        version.mVersion = static_cast<uint64_t>(values[i + 3]);
+        outVersions.push_back(version);
+    }
+    return CHIP_NO_ERROR;
+}
+
+// Must be called with the stack lock held. On success, the callback deletes itself once the read is done.
+CHIP_ERROR SendReadRequest(DeviceProxy * device, jobject collector, std::vector<app::AttributePathParams> && paths,
+                           std::vector<KnownAttributeVersion> && knownVersions)
+{
+    VerifyOrReturnError(device != nullptr, CHIP_ERROR_INVALID_ARGUMENT);
+
+    ReportCallback * callback = Platform::New<ReportCallback>(collector);
+    VerifyOrReturnError(callback != nullptr, CHIP_ERROR_NO_MEMORY);
+
+    callback->SetKnownVersions(std::move(knownVersions));
+    CHIP_ERROR err = callback->SendReadRequest(device, std::move(paths));
+    if (err != CHIP_NO_ERROR)
+    {
+        Platform::Delete(callback);
+    }
+    return err;
+}
+
+// Must be called with the stack lock held. On success, the callback deletes itself once the subscription is done or cancelled.
+CHIP_ERROR SendSubscribeRequest(DeviceProxy * device, jobject collector, std::vector<app::AttributePathParams> && paths,
+                                std::vector<KnownAttributeVersion> && knownVersions, jint minInterval, jint maxInterval,
+                                uint32_t & outHandle)
+{
+    VerifyOrReturnError(device != nullptr, CHIP_ERROR_INVALID_ARGUMENT);
+    VerifyOrReturnError(CanCastTo<uint16_t>(minInterval) && CanCastTo<uint16_t>(maxInterval), CHIP_ERROR_INVALID_ARGUMENT);
+
+    ReportCallback * callback = Platform::New<ReportCallback>(collector);
+    VerifyOrReturnError(callback != nullptr, CHIP_ERROR_NO_MEMORY);
+
+    callback->SetKnownVersions(std::move(knownVersions));
+    CHIP_ERROR err = callback->SendSubscribeRequest(device, std::move(paths), static_cast<uint16_t>(minInterval),
+                                                    static_cast<uint16_t>(maxInterval));
+    if (err != CHIP_NO_ERROR)
+    {
+        Platform::Delete(callback);
+        return err;
+    }
+    outHandle = callback->GetHandle();
+    return CHIP_NO_ERROR;
+}
+
+} // namespace
+
+JNI_METHOD(void, readAttributes)
+(JNIEnv * env, jobject self, jlong handle, jlong devicePtr, jintArray endpointIds, jlongArray clusterIds, jlongArray attributeIds,
+ jlongArray knownVersions, jobject collector)
+{
+    ChipLogProgress(Controller, "readAttributes() called");
+
+    std::vector<app::AttributePathParams> paths;
+    std::vector<KnownAttributeVersion> versions;
+    CHIP_ERROR err = GetAttributePaths(env, endpointIds, clusterIds, attributeIds, paths);
+    if (err == CHIP_NO_ERROR)
+    {
+        err = GetKnownVersions(env, knownVersions, versions);
+    }
+    if (err == CHIP_NO_ERROR)
+    {
+        chip::DeviceLayer::StackLock lock;
+        err = SendReadRequest(reinterpret_cast<DeviceProxy *>(devicePtr), collector, std::move(paths), std::move(versions));
+    }
+
+    if (err != CHIP_NO_ERROR)
+    {
+        ChipLogError(Controller, "Failed to read attributes: %s", ErrorStr(err));
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+    }
+}
+
+JNI_METHOD(jlong, subscribeAttributes)
+(JNIEnv * env, jobject self, jlong handle, jlong devicePtr, jintArray endpointIds, jlongArray clusterIds, jlongArray attributeIds,
+ jlongArray knownVersions, jint minInterval, jint maxInterval, jobject collector)
+{
+    ChipLogProgress(Controller, "subscribeAttributes() called");
+
+    uint32_t subscriptionHandle = 0;
+    std::vector<app::AttributePathParams> paths;
+    std::vector<KnownAttributeVersion> versions;
+    CHIP_ERROR err = GetAttributePaths(env, endpointIds, clusterIds, attributeIds, paths);
+    if (err == CHIP_NO_ERROR)
+    {
+        err = GetKnownVersions(env, knownVersions, versions);
+    }
+    if (err == CHIP_NO_ERROR)
+    {
+        chip::DeviceLayer::StackLock lock;
+        err = SendSubscribeRequest(reinterpret_cast<DeviceProxy *>(devicePtr), collector, std::move(paths), std::move(versions),
+                                   minInterval, maxInterval, subscriptionHandle);
+    }
+
+    if (err != CHIP_NO_ERROR)
+    {
+        ChipLogError(Controller, "Failed to subscribe to attributes: %s", ErrorStr(err));
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+    }
+    return static_cast<jlong>(subscriptionHandle);
+}
+
+JNI_METHOD(void, cancelSubscription)(JNIEnv * env, jobject self, jlong handle, jlong subscriptionHandle)
+{
+    VerifyOrReturn(CanCastTo<uint32_t>(subscriptionHandle),
+                   JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, CHIP_ERROR_INVALID_ARGUMENT));
+
+    CHIP_ERROR err = ReportCallback::CancelAsync(static_cast<uint32_t>(subscriptionHandle));
+    if (err != CHIP_NO_ERROR)
+    {
+        ChipLogError(Controller, "Failed to cancel subscription: %s", ErrorStr(err));
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+    }
+}
+
+JNI_METHOD(jlong, newCommandBatch)(JNIEnv * env, jobject self, jlong handle, jlong devicePtr, jobject timedInvokeTimeoutMs)
+{
+    Optional<uint16_t> timeout;
+    if (timedInvokeTimeoutMs != nullptr)
+    {
+        jint timeoutMs = JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs);
+        if (!CanCastTo<uint16_t>(timeoutMs))
+        {
+            JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, CHIP_ERROR_INVALID_ARGUMENT);
+            return 0;
+        }
+        timeout.SetValue(static_cast<uint16_t>(timeoutMs));
+    }
+
+    chip::DeviceLayer::StackLock lock;
+    CommandBatch * batch = Platform::New<CommandBatch>(reinterpret_cast<DeviceProxy *>(devicePtr), timeout);
+    if (batch == nullptr)
+    {
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, CHIP_ERROR_NO_MEMORY);
+    }
+    return reinterpret_cast<jlong>(batch);
+}
+
+JNI_METHOD(void, addClusterToCommandBatch)
+(JNIEnv * env, jobject self, jlong handle, jlong batchPtr, jlong clusterPtr, jint endpointId)
+{
+    VerifyOrReturn(CanCastTo<EndpointId>(endpointId),
+                   JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, CHIP_ERROR_INVALID_ARGUMENT));
+
+    chip::DeviceLayer::StackLock lock;
+    reinterpret_cast<CommandBatch *>(batchPtr)->AddCluster(reinterpret_cast<ClusterBase *>(clusterPtr),
+                                                            static_cast<EndpointId>(endpointId));
+}
+
+JNI_METHOD(void, sendCommandBatch)(JNIEnv * env, jobject self, jlong handle, jlong batchPtr)
+{
+    chip::DeviceLayer::StackLock lock;
+    CHIP_ERROR err = reinterpret_cast<CommandBatch *>(batchPtr)->Send();
+    if (err != CHIP_NO_ERROR)
+    {
+        ChipLogError(Controller, "Failed to send command batch: %s", ErrorStr(err));
+        JniReferences::GetInstance().ThrowError(env, sChipDeviceControllerExceptionCls, err);
+    }
+}
+
+JNI_METHOD(void, releaseCommandBatch)(JNIEnv * env, jclass clazz, jlong batchPtr)
+{
+    chip::DeviceLayer::StackLock lock;
+    reinterpret_cast<CommandBatch *>(batchPtr)->Release();
+}
+
 JNI_METHOD(jboolean, openPairingWindow)(JNIEnv * env, jobject self, jlong handle, jlong devicePtr, jint duration)
 {
     chip::DeviceLayer::StackLock lock;
@@ -523,7 +884,7 @@ JNI_METHOD(jboolean, openPairingWindowWithPIN)
     return true;
 }
 
-JNI_METHOD(void, deleteDeviceController)(JNIEnv * env, jobject self, jlong handle)
+JNI_METHOD(void, deleteDeviceController)(JNIEnv * env, jclass clazz, jlong handle)
 {
     chip::DeviceLayer::StackLock lock;
     AndroidDeviceControllerWrapper * wrapper = AndroidDeviceControllerWrapper::FromJNIHandle(handle);
@@ -0,0 +1,22 @@
+package chip.clusterinfo;
+
+import java.util.Map;
+
+/**
+ * A {@link ClusterCommandCallback} that receives the response values through a {@link
+ * CommandResponseView} instead of a new map, so that delivering a response, such as a subscription
+ * report, allocates nothing.
+ */
+public interface ClusterCommandViewCallback extends ClusterCommandCallback {
+  /**
+   * Receives the values of a response. The view is reused for the next response of the same
+   * interaction, so it must not be kept after this call returns. Responses delivered at the same
+   * time, such as by a callback executor that does not serialize them, get views of their own.
+   */
+  void onSuccess(CommandResponseView response);
+
+  @Override
+  default void onSuccess(Map<CommandResponseInfo, Object> responseValues) {
+    onSuccess(CommandResponseView.of(responseValues));
+  }
+}
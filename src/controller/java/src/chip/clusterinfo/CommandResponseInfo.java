@@ -1,14 +1,36 @@
 package chip.clusterinfo;
 
-/** CommandResponseInfo captures the name and type of a command response */
-public class CommandResponseInfo {
-  public CommandResponseInfo() {}
+import java.util.Objects;
 
+/**
+ * CommandResponseInfo captures the name and type of a command response. It is immutable, so the
+ * generated callbacks share one instance per response value.
+ */
+public final class CommandResponseInfo {
   public CommandResponseInfo(String name, String type) {
     this.name = name;
     this.type = type;
   }
 
-  public String name;
-  public String type;
+  public final String name;
+  public final String type;
+
+  @Override
+  public boolean equals(Object o) {
+    if (!(o instanceof CommandResponseInfo)) {
+      return false;
+    }
+    CommandResponseInfo other = (CommandResponseInfo) o;
+    return name.equals(other.name) && type.equals(other.type);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(name, type);
+  }
+
+  @Override
+  public String toString() {
+    return name + ": " + type;
+  }
 }
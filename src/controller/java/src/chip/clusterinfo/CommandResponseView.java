@@ -0,0 +1,186 @@
+package chip.clusterinfo;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * The values of one response, by position, described by the {@link CommandResponseInfo} at the
+ * same position.
+ *
+ * <p>Each generated delegated callback fills one view for every response it receives and hands it
+ * to its {@link ClusterCommandCallback}: as is to a {@link ClusterCommandViewCallback}, and copied
+ * into a new map otherwise. Primitive values are kept unboxed, and can be read with the typed
+ * getters. A callback executor that does not serialize the responses of a callback may deliver two
+ * of them at once; {@link #acquire()} gives the second one a view of its own.
+ */
+public final class CommandResponseView {
+  private static final byte OBJECT = 0;
+  private static final byte INT = 1;
+  private static final byte LONG = 2;
+  private static final byte BOOLEAN = 3;
+  private static final byte FLOAT = 4;
+  private static final byte DOUBLE = 5;
+
+  private final CommandResponseInfo[] infos;
+  private final byte[] kinds;
+  private final Object[] objects;
+  private final long[] primitives;
+  private int size;
+  private final AtomicBoolean inUse = new AtomicBoolean();
+
+  /** Creates a view for responses with the given values. The array is not copied. */
+  public CommandResponseView(CommandResponseInfo[] infos) {
+    this.infos = infos;
+    kinds = new byte[infos.length];
+    objects = new Object[infos.length];
+    primitives = new long[infos.length];
+  }
+
+  /** Returns a view of the values of a response map. */
+  public static CommandResponseView of(Map<CommandResponseInfo, Object> responseValues) {
+    CommandResponseView view =
+        new CommandResponseView(responseValues.keySet().toArray(new CommandResponseInfo[0]));
+    for (Object value : responseValues.values()) {
+      view.add(value);
+    }
+    return view;
+  }
+
+  /**
+   * Returns this view to fill with the values of a response, or a new view for the same values if
+   * another response is using this one. {@link #deliverTo(ClusterCommandCallback)} releases it.
+   */
+  public CommandResponseView acquire() {
+    return inUse.compareAndSet(false, true) ? this : new CommandResponseView(infos);
+  }
+
+  /** Returns the number of values of the response. */
+  public int size() {
+    return size;
+  }
+
+  public CommandResponseInfo getInfo(int index) {
+    checkIndex(index);
+    return infos[index];
+  }
+
+  /** Returns a value, boxing it if it is primitive. */
+  public Object getValue(int index) {
+    checkIndex(index);
+    long bits = primitives[index];
+    switch (kinds[index]) {
+      case INT:
+        return (int) bits;
+      case LONG:
+        return bits;
+      case BOOLEAN:
+        return bits != 0;
+      case FLOAT:
+        return Float.intBitsToFloat((int) bits);
+      case DOUBLE:
+        return Double.longBitsToDouble(bits);
+      default:
+        return objects[index];
+    }
+  }
+
+  public int getInt(int index) {
+    return checkKind(index, INT) ? (int) primitives[index] : (Integer) objects[index];
+  }
+
+  public long getLong(int index) {
+    return checkKind(index, LONG) ? primitives[index] : (Long) objects[index];
+  }
+
+  public boolean getBoolean(int index) {
+    return checkKind(index, BOOLEAN) ? primitives[index] != 0 : (Boolean) objects[index];
+  }
+
+  public float getFloat(int index) {
+    return checkKind(index, FLOAT)
+        ? Float.intBitsToFloat((int) primitives[index])
+        : (Float) objects[index];
+  }
+
+  public double getDouble(int index) {
+    return checkKind(index, DOUBLE)
+        ? Double.longBitsToDouble(primitives[index])
+        : (Double) objects[index];
+  }
+
+  /** Copies the values into a new map, in the form {@link ClusterCommandCallback} receives. */
+  public Map<CommandResponseInfo, Object> toMap() {
+    Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
+    for (int i = 0; i < size; i++) {
+      responseValues.put(infos[i], getValue(i));
+    }
+    return responseValues;
+  }
+
+  /** Appends the next value of the response. */
+  public void add(Object value) {
+    objects[size] = value;
+    kinds[size++] = OBJECT;
+  }
+
+  public void addInt(int value) {
+    addPrimitive(INT, value);
+  }
+
+  public void addLong(long value) {
+    addPrimitive(LONG, value);
+  }
+
+  public void addBoolean(boolean value) {
+    addPrimitive(BOOLEAN, value ? 1 : 0);
+  }
+
+  public void addFloat(float value) {
+    addPrimitive(FLOAT, Float.floatToRawIntBits(value));
+  }
+
+  public void addDouble(double value) {
+    addPrimitive(DOUBLE, Double.doubleToRawLongBits(value));
+  }
+
+  /**
+   * Delivers the values added since the last delivery to {@code callback}, and clears them and
+   * releases the view for the next response.
+   */
+  public void deliverTo(ClusterCommandCallback callback) {
+    try {
+      if (callback instanceof ClusterCommandViewCallback) {
+        ((ClusterCommandViewCallback) callback).onSuccess(this);
+      } else {
+        callback.onSuccess(toMap());
+      }
+    } finally {
+      for (int i = 0; i < size; i++) {
+        objects[i] = null;
+      }
+      size = 0;
+      inUse.set(false);
+    }
+  }
+
+  private void addPrimitive(byte kind, long bits) {
+    primitives[size] = bits;
+    kinds[size++] = kind;
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+    }
+  }
+
+  // Returns whether the value at index is a primitive of the given kind, or an object.
+  private boolean checkKind(int index, byte kind) {
+    checkIndex(index);
+    if (kinds[index] != kind && kinds[index] != OBJECT) {
+      throw new ClassCastException("Value " + index + " is not of the requested type");
+    }
+    return kinds[index] == kind;
+  }
+}
@@ -1,6 +1,7 @@
 package chip.clusterinfo;
 
 import chip.devicecontroller.ChipClusters.BaseChipCluster;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Supplier;
 
@@ -11,22 +12,62 @@ import java.util.function.Supplier;
  */
 public class InteractionInfo {
   public ClusterCommandFunction commandFunction;
+  private PositionalCommandFunction positionalCommandFunction;
   private Supplier<DelegatedClusterCallback> commandCallbackSupplier;
   private Map<String, CommandParameterInfo> commandParameters;
+  // The parameter names, in the order of the positional arguments.
+  private String[] parameterNames;
 
   public InteractionInfo(
       ClusterCommandFunction commandFunction,
       Supplier<DelegatedClusterCallback> commandCallbackSupplier,
       Map<String, CommandParameterInfo> commandParameters) {
+    this(commandCallbackSupplier, commandParameters);
     this.commandFunction = commandFunction;
+    this.positionalCommandFunction =
+        (cluster, callback, commandArguments) ->
+            this.commandFunction.invokeCommand(cluster, callback, toArgumentMap(commandArguments));
+  }
+
+  private InteractionInfo(
+      Supplier<DelegatedClusterCallback> commandCallbackSupplier,
+      Map<String, CommandParameterInfo> commandParameters) {
     this.commandCallbackSupplier = commandCallbackSupplier;
     this.commandParameters = commandParameters;
+    this.parameterNames = commandParameters.keySet().toArray(new String[0]);
+  }
+
+  /**
+   * Creates an InteractionInfo whose function takes its arguments by position, in the iteration
+   * order of {@code commandParameters}. Its {@link #getCommandFunction()} takes them by name, like
+   * other InteractionInfos.
+   */
+  public static InteractionInfo positional(
+      PositionalCommandFunction positionalCommandFunction,
+      Supplier<DelegatedClusterCallback> commandCallbackSupplier,
+      Map<String, CommandParameterInfo> commandParameters) {
+    InteractionInfo interactionInfo =
+        new InteractionInfo(commandCallbackSupplier, commandParameters);
+    interactionInfo.positionalCommandFunction = positionalCommandFunction;
+    interactionInfo.commandFunction =
+        (cluster, callback, commandArguments) ->
+            positionalCommandFunction.invokeCommand(
+                cluster, callback, interactionInfo.toPositionalArguments(commandArguments));
+    return interactionInfo;
   }
 
   public ClusterCommandFunction getCommandFunction() {
     return commandFunction;
   }
 
+  /**
+   * Returns the function taking the arguments by position, which avoids looking up each argument
+   * by name. Use {@link #getParameterIndex(String)} to find the position of an argument.
+   */
+  public PositionalCommandFunction getPositionalCommandFunction() {
+    return positionalCommandFunction;
+  }
+
   public Supplier<DelegatedClusterCallback> getCommandCallbackSupplier() {
     return commandCallbackSupplier;
   }
@@ -35,6 +76,37 @@ public class InteractionInfo {
     return commandParameters;
   }
 
+  /** Returns the number of arguments of the positional function. */
+  public int getParameterCount() {
+    return parameterNames.length;
+  }
+
+  /** Returns the position of a parameter in the positional arguments, or -1 if there is none. */
+  public int getParameterIndex(String parameterName) {
+    for (int i = 0; i < parameterNames.length; i++) {
+      if (parameterNames[i].equals(parameterName)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private Object[] toPositionalArguments(Map<String, Object> commandArguments) {
+    Object[] arguments = new Object[parameterNames.length];
+    for (int i = 0; i < parameterNames.length; i++) {
+      arguments[i] = commandArguments.get(parameterNames[i]);
+    }
+    return arguments;
+  }
+
+  private Map<String, Object> toArgumentMap(Object[] commandArguments) {
+    Map<String, Object> arguments = new LinkedHashMap<>();
+    for (int i = 0; i < parameterNames.length; i++) {
+      arguments.put(parameterNames[i], commandArguments[i]);
+    }
+    return arguments;
+  }
+
   /**
    * The functional interface provides a uniform way to invoke commands through invokeCommand
    * function. In ClusterInfoMapping, each ClusterCommandFunction was generated using the intended
@@ -46,4 +118,13 @@ public class InteractionInfo {
     void invokeCommand(
         BaseChipCluster cluster, Object callback, Map<String, Object> commandArguments);
   }
+
+  /**
+   * Like {@link ClusterCommandFunction}, with the arguments in the order of the command
+   * parameters. The generated InteractionInfos implement this form.
+   */
+  @FunctionalInterface
+  public interface PositionalCommandFunction {
+    void invokeCommand(BaseChipCluster cluster, Object callback, Object[] commandArguments);
+  }
 }
@@ -0,0 +1,214 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches attribute values by node, endpoint, cluster and attribute, so that reads of subscribed
+ * attributes are served from memory instead of the network.
+ *
+ * <p>Subscriptions built with {@link Subscription.Builder#setAttributeCache(AttributeCache, long)}
+ * keep the cache up to date. While such a subscription is established, the values it covers are
+ * current no matter how old they are, because the device reports every change. Clusters read
+ * through the cache with {@link ChipClusters.BaseChipCluster#setAttributeCache(AttributeCache,
+ * long, long)}.
+ *
+ * <p>Cached values are shared between readers and must not be modified.
+ */
+public final class AttributeCache {
+  /** A cached attribute value. */
+  public static final class CachedValue {
+    @Nullable private final Object value;
+    private final long dataVersion;
+    private final long updatedAtNanos;
+
+    CachedValue(@Nullable Object value, long dataVersion, long updatedAtNanos) {
+      this.value = value;
+      this.dataVersion = dataVersion;
+      this.updatedAtNanos = updatedAtNanos;
+    }
+
+    @Nullable
+    public Object getValue() {
+      return value;
+    }
+
+    /**
+     * Returns the version of the value. It changes whenever the cached value changes, and is
+     * unique within the cache. This is a local version: the Interaction Model of this controller
+     * does not surface the data versions of the device.
+     */
+    public long getDataVersion() {
+      return dataVersion;
+    }
+
+    /** Returns how long ago the value was last reported or read. */
+    public long getAgeMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - updatedAtNanos);
+    }
+  }
+
+  /** The paths of an established subscription, whose reports keep the values they match current. */
+  static final class Coverage {
+    final long nodeId;
+    final List<AttributePath> paths;
+
+    Coverage(long nodeId, List<AttributePath> paths) {
+      this.nodeId = nodeId;
+      this.paths = paths;
+    }
+
+    boolean matches(AttributePath path) {
+      for (AttributePath coveredPath : paths) {
+        if (coveredPath.matches(path)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  private final ConcurrentHashMap<Long, ConcurrentHashMap<AttributePath, CachedValue>> nodes =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Long, Set<Coverage>> coverages = new ConcurrentHashMap<>();
+  private final AtomicLong nextDataVersion = new AtomicLong();
+
+  /** Returns the cached value of an attribute, however old, or null if there is none. */
+  @Nullable
+  public CachedValue get(long nodeId, AttributePath path) {
+    Map<AttributePath, CachedValue> values = nodes.get(nodeId);
+    return values != null ? values.get(path) : null;
+  }
+
+  /**
+   * Returns the cached value of an attribute if an established subscription keeps it current or
+   * if it is at most {@code maxStalenessMillis} old, or null otherwise.
+   */
+  @Nullable
+  public CachedValue getIfFresh(long nodeId, AttributePath path, long maxStalenessMillis) {
+    CachedValue cached = get(nodeId, path);
+    if (cached == null) {
+      return null;
+    }
+    if (cached.getAgeMillis() <= maxStalenessMillis || isCovered(nodeId, path)) {
+      return cached;
+    }
+    return null;
+  }
+
+  /** Returns whether an established subscription keeps the value of {@code path} current. */
+  public boolean isCovered(long nodeId, AttributePath path) {
+    Set<Coverage> nodeCoverages = coverages.get(nodeId);
+    if (nodeCoverages == null) {
+      return false;
+    }
+    for (Coverage coverage : nodeCoverages) {
+      if (coverage.matches(path)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Stores the values of a report or read result. Attributes reported with an error are removed,
+   * as their cached value may no longer be valid. Cached values of attributes reported as
+   * unchanged are kept and count as just updated.
+   */
+  public void update(long nodeId, AttributeValues values) {
+    for (Map.Entry<AttributePath, Object> entry : values.getValues().entrySet()) {
+      put(nodeId, entry.getKey(), entry.getValue());
+    }
+    if (!values.getUnchanged().isEmpty()) {
+      Map<AttributePath, CachedValue> nodeValues = nodes.get(nodeId);
+      if (nodeValues != null) {
+        long now = System.nanoTime();
+        for (AttributePath path : values.getUnchanged()) {
+          CachedValue previous = nodeValues.get(path);
+          if (previous != null) {
+            nodeValues.put(path, new CachedValue(previous.value, previous.dataVersion, now));
+          }
+        }
+      }
+    }
+    if (!values.getErrors().isEmpty()) {
+      Map<AttributePath, CachedValue> nodeValues = nodes.get(nodeId);
+      if (nodeValues != null) {
+        nodeValues.keySet().removeAll(values.getErrors().keySet());
+      }
+    }
+  }
+
+  /** Stores one attribute value. */
+  public void put(long nodeId, AttributePath path, @Nullable Object value) {
+    ConcurrentHashMap<AttributePath, CachedValue> nodeValues = nodes.get(nodeId);
+    if (nodeValues == null) {
+      nodeValues = new ConcurrentHashMap<>();
+      ConcurrentHashMap<AttributePath, CachedValue> existing =
+          nodes.putIfAbsent(nodeId, nodeValues);
+      if (existing != null) {
+        nodeValues = existing;
+      }
+    }
+
+    long now = System.nanoTime();
+    CachedValue previous = nodeValues.get(path);
+    long dataVersion =
+        previous != null && Objects.deepEquals(previous.value, value)
+            ? previous.dataVersion
+            : nextDataVersion.incrementAndGet();
+    nodeValues.put(path, new CachedValue(value, dataVersion, now));
+  }
+
+  /** Drops every cached value of a node. */
+  public void invalidate(long nodeId) {
+    nodes.remove(nodeId);
+  }
+
+  /** Drops every cached value. */
+  public void invalidateAll() {
+    nodes.clear();
+  }
+
+  void addCoverage(Coverage coverage) {
+    Set<Coverage> nodeCoverages = coverages.get(coverage.nodeId);
+    if (nodeCoverages == null) {
+      nodeCoverages = ConcurrentHashMap.newKeySet();
+      Set<Coverage> existing = coverages.putIfAbsent(coverage.nodeId, nodeCoverages);
+      if (existing != null) {
+        nodeCoverages = existing;
+      }
+    }
+    nodeCoverages.add(coverage);
+  }
+
+  void removeCoverage(Coverage coverage) {
+    Set<Coverage> nodeCoverages = coverages.get(coverage.nodeId);
+    if (nodeCoverages != null) {
+      nodeCoverages.remove(coverage);
+    }
+  }
+}
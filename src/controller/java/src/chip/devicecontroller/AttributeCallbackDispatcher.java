@@ -0,0 +1,69 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.concurrent.Executor;
+
+/**
+ * Base of the generated dispatchers of attribute callbacks, which can also store the values they
+ * receive in an attribute cache, and deliver cached values to the callback.
+ */
+abstract class AttributeCallbackDispatcher<T> extends CallbackDispatcher<T> {
+  /** Creates the dispatcher of an attribute callback. */
+  interface Factory<T> {
+    AttributeCallbackDispatcher<T> create(T callback, @Nullable Executor executor, long key);
+  }
+
+  // Set before the dispatcher is handed to the native layer.
+  @Nullable private CachedAttributeReads reads;
+  @Nullable private AttributePath path;
+
+  protected AttributeCallbackDispatcher(T callback, @Nullable Executor executor, long key) {
+    super(callback, executor, key);
+  }
+
+  /**
+   * Returns the callback to hand to the native layer for a read of {@code path}: this dispatcher,
+   * which also stores the value read in {@code reads} if it is not null, or the wrapped callback
+   * itself if there is neither a cache nor an executor.
+   */
+  @SuppressWarnings("unchecked") // Generated subclasses implement T.
+  final T forRead(@Nullable CachedAttributeReads reads, @Nullable AttributePath path) {
+    if (reads == null && !hasExecutor()) {
+      return callback;
+    }
+    this.reads = reads;
+    this.path = path;
+    return (T) this;
+  }
+
+  /** Stores {@code value}, which the device returned for a read, in the cache. */
+  protected final void store(@Nullable Object value) {
+    if (reads != null && path != null) {
+      reads.store(path, value);
+    }
+  }
+
+  /**
+   * Delivers the cached {@code value} to the callback if it is of a type the callback takes, such
+   * as an {@link IntList} for callbacks that also implement {@link IntList.Callback}. Returns
+   * whether it did.
+   */
+  abstract boolean deliver(@Nullable Object value);
+}
@@ -0,0 +1,66 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+/**
+ * Interfaces for consuming attribute reports with demand-based backpressure. They follow the
+ * contract of {@code java.util.concurrent.Flow} and Reactive Streams, which are not available on
+ * every supported Android version, so adapting them to either takes one line per method.
+ */
+public final class AttributeFlow {
+  private AttributeFlow() {}
+
+  /** A source of items that are delivered to each subscriber as it requests them. */
+  public interface Publisher<T> {
+    /**
+     * Adds a subscriber. {@link Subscriber#onSubscribe(Demand)} is called first, then nothing is
+     * delivered until the subscriber requests items.
+     */
+    void subscribe(Subscriber<? super T> subscriber);
+  }
+
+  /**
+   * Receives items from a {@link Publisher}. Calls to one subscriber never overlap, and no item is
+   * delivered beyond the requested number. Methods must not throw.
+   */
+  public interface Subscriber<T> {
+    /** Called once, before any other method, with the handle to request items through. */
+    void onSubscribe(Demand demand);
+
+    /** Called with the next item. */
+    void onNext(T item);
+
+    /** Called at most once when the publisher fails. No other method is called afterwards. */
+    void onError(Throwable error);
+
+    /** Called at most once when the publisher is closed. No other method is called afterwards. */
+    void onComplete();
+  }
+
+  /** The link between a publisher and one of its subscribers. */
+  public interface Demand {
+    /**
+     * Allows {@code n} more items to be delivered. A non-positive {@code n} fails the subscriber
+     * with an {@link IllegalArgumentException}.
+     */
+    void request(long n);
+
+    /** Stops delivery to the subscriber. Items already being delivered may still arrive. */
+    void cancel();
+  }
+}
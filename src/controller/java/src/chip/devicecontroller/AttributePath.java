@@ -0,0 +1,120 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * An attribute path: endpoint ID, cluster ID and attribute ID. Any of the IDs may be a wildcard,
+ * in which case reading the path reads every matching attribute on the device.
+ */
+public final class AttributePath {
+  /** Matches every endpoint. */
+  public static final int WILDCARD_ENDPOINT_ID = -1;
+  /** Matches every cluster. */
+  public static final long WILDCARD_CLUSTER_ID = -1L;
+  /** Matches every attribute. */
+  public static final long WILDCARD_ATTRIBUTE_ID = -1L;
+
+  private final int endpointId;
+  private final long clusterId;
+  private final long attributeId;
+
+  private AttributePath(int endpointId, long clusterId, long attributeId) {
+    this.endpointId = endpointId;
+    this.clusterId = clusterId;
+    this.attributeId = attributeId;
+  }
+
+  public static AttributePath newInstance(int endpointId, long clusterId, long attributeId) {
+    return new AttributePath(endpointId, clusterId, attributeId);
+  }
+
+  /**
+   * Returns the path of every attribute of a cluster. {@code endpointId} may be {@link
+   * #WILDCARD_ENDPOINT_ID} to match the cluster on every endpoint.
+   */
+  public static AttributePath forCluster(int endpointId, long clusterId) {
+    return new AttributePath(endpointId, clusterId, WILDCARD_ATTRIBUTE_ID);
+  }
+
+  /** Returns the path of every attribute of every cluster on an endpoint. */
+  public static AttributePath forEndpoint(int endpointId) {
+    return new AttributePath(endpointId, WILDCARD_CLUSTER_ID, WILDCARD_ATTRIBUTE_ID);
+  }
+
+  public int getEndpointId() {
+    return endpointId;
+  }
+
+  public long getClusterId() {
+    return clusterId;
+  }
+
+  public long getAttributeId() {
+    return attributeId;
+  }
+
+  /** Returns whether any of the IDs of this path is a wildcard. */
+  public boolean isWildcard() {
+    return endpointId == WILDCARD_ENDPOINT_ID
+        || clusterId == WILDCARD_CLUSTER_ID
+        || attributeId == WILDCARD_ATTRIBUTE_ID;
+  }
+
+  /** Returns whether {@code path}, which should not contain wildcards, is matched by this path. */
+  public boolean matches(AttributePath path) {
+    return (endpointId == WILDCARD_ENDPOINT_ID || endpointId == path.endpointId)
+        && (clusterId == WILDCARD_CLUSTER_ID || clusterId == path.clusterId)
+        && (attributeId == WILDCARD_ATTRIBUTE_ID || attributeId == path.attributeId);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (this == other) {
+      return true;
+    } else if (!(other instanceof AttributePath)) {
+      return false;
+    } else {
+      AttributePath that = (AttributePath) other;
+      return endpointId == that.endpointId
+          && clusterId == that.clusterId
+          && attributeId == that.attributeId;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(endpointId, clusterId, attributeId);
+  }
+
+  @Override
+  public String toString() {
+    return "Endpoint "
+        + (endpointId == WILDCARD_ENDPOINT_ID ? "*" : Integer.toString(endpointId))
+        + ", cluster "
+        + formatId(clusterId, WILDCARD_CLUSTER_ID)
+        + ", attribute "
+        + formatId(attributeId, WILDCARD_ATTRIBUTE_ID);
+  }
+
+  private static String formatId(long id, long wildcard) {
+    return id == wildcard ? "*" : String.format(Locale.ENGLISH, "0x%08X", id);
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Collects the attribute data that the native layer reports for a read or subscribe interaction.
+ *
+ * <p>For each attribute, the native layer calls {@link #onAttribute(int, long, long, long)} and
+ * then delivers the value through one of the {@code onSuccess} methods, which take the same types
+ * as the read callbacks of the generated clusters. Values whose version was passed as known are
+ * not delivered; {@link #onAttributeUnchanged(int, long, long, long)} is called instead. All
+ * methods run on the CHIP event loop thread.
+ */
+abstract class AttributeReportCollector {
+  private static final String TAG = AttributeReportCollector.class.getSimpleName();
+
+  private Map<AttributePath, Object> values = new LinkedHashMap<>();
+  private Map<AttributePath, Exception> errors = new LinkedHashMap<>();
+  private Map<AttributePath, Long> versions = new HashMap<>();
+  private Set<AttributePath> unchanged = new HashSet<>();
+  @Nullable private AttributePath currentPath;
+
+  /** Called with the attributes of each complete report. */
+  abstract void onReport(AttributeValues report);
+
+  /** Called if the interaction failed. */
+  abstract void onError(Exception error);
+
+  /** Called once when the interaction is over, after its last report or error. */
+  abstract void onDone();
+
+  /** Called once a subscription has been established, after its priming report. */
+  void onSubscriptionEstablished() {}
+
+  void onReportBegin() {
+    reset();
+  }
+
+  void onReportEnd() {
+    AttributeValues report = new AttributeValues(values, errors, versions, unchanged);
+    reset();
+    onReport(report);
+  }
+
+  private void reset() {
+    values = new LinkedHashMap<>();
+    errors = new LinkedHashMap<>();
+    versions = new HashMap<>();
+    unchanged = new HashSet<>();
+  }
+
+  void onAttribute(int endpointId, long clusterId, long attributeId, long version) {
+    currentPath = AttributePath.newInstance(endpointId, clusterId, attributeId);
+    versions.put(currentPath, version);
+    unchanged.remove(currentPath);
+  }
+
+  void onAttributeUnchanged(int endpointId, long clusterId, long attributeId, long version) {
+    AttributePath path = AttributePath.newInstance(endpointId, clusterId, attributeId);
+    values.remove(path);
+    errors.remove(path);
+    versions.put(path, version);
+    unchanged.add(path);
+    currentPath = null;
+  }
+
+  void onAttributeError(int endpointId, long clusterId, long attributeId, Exception error) {
+    AttributePath path = AttributePath.newInstance(endpointId, clusterId, attributeId);
+    values.remove(path);
+    versions.remove(path);
+    unchanged.remove(path);
+    errors.put(path, error);
+    currentPath = null;
+  }
+
+  private void putValue(@Nullable Object value) {
+    if (currentPath == null) {
+      Log.e(TAG, "Received an attribute value without a path");
+      return;
+    }
+    errors.remove(currentPath);
+    values.put(currentPath, value);
+    currentPath = null;
+  }
+
+  public void onSuccess(boolean value) {
+    putValue(value);
+  }
+
+  public void onSuccess(int value) {
+    putValue(value);
+  }
+
+  public void onSuccess(long value) {
+    putValue(value);
+  }
+
+  public void onSuccess(float value) {
+    putValue(value);
+  }
+
+  public void onSuccess(double value) {
+    putValue(value);
+  }
+
+  public void onSuccess(@Nullable Boolean value) {
+    putValue(value);
+  }
+
+  public void onSuccess(@Nullable Integer value) {
+    putValue(value);
+  }
+
+  public void onSuccess(@Nullable Long value) {
+    putValue(value);
+  }
+
+  public void onSuccess(@Nullable Float value) {
+    putValue(value);
+  }
+
+  public void onSuccess(@Nullable Double value) {
+    putValue(value);
+  }
+
+  public void onSuccess(String value) {
+    putValue(value);
+  }
+
+  public void onSuccess(byte[] value) {
+    putValue(value);
+  }
+
+  public void onSuccess(List<?> valueList) {
+    putValue(valueList);
+  }
+}
@@ -0,0 +1,206 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Attribute values read from a device, by attribute path, and the errors of the attributes that
+ * could not be read.
+ *
+ * <p>Values have the types that the read callbacks of {@link ChipClusters} receive, boxed if
+ * primitive: for example {@code Integer} for 8 and 16-bit unsigned attributes, {@code Long} for 32
+ * and 64-bit ones, {@code String}, {@code byte[]} or {@code List}. Nullable attributes may map to
+ * null.
+ */
+public final class AttributeValues {
+  private final Map<AttributePath, Object> values;
+  private final Map<AttributePath, Exception> errors;
+  private final Map<AttributePath, Long> versions;
+  private final Set<AttributePath> unchanged;
+
+  AttributeValues(Map<AttributePath, Object> values, Map<AttributePath, Exception> errors) {
+    this(
+        values,
+        errors,
+        Collections.<AttributePath, Long>emptyMap(),
+        Collections.<AttributePath>emptySet());
+  }
+
+  AttributeValues(
+      Map<AttributePath, Object> values,
+      Map<AttributePath, Exception> errors,
+      Map<AttributePath, Long> versions,
+      Set<AttributePath> unchanged) {
+    this.values = Collections.unmodifiableMap(values);
+    this.errors = Collections.unmodifiableMap(errors);
+    this.versions = Collections.unmodifiableMap(versions);
+    this.unchanged = Collections.unmodifiableSet(unchanged);
+  }
+
+  /** Returns the values of the attributes that were read successfully. */
+  public Map<AttributePath, Object> getValues() {
+    return values;
+  }
+
+  /**
+   * Returns the errors of the attributes that could not be read. These are {@link
+   * ChipClusterException} for errors reported by the device, and {@link
+   * ChipDeviceControllerException} for values that could not be decoded.
+   */
+  public Map<AttributePath, Exception> getErrors() {
+    return errors;
+  }
+
+  /** Returns whether a value was read for {@code path}. */
+  public boolean contains(AttributePath path) {
+    return values.containsKey(path);
+  }
+
+  /**
+   * Returns the value read for {@code path}, or null if none was read.
+   *
+   * @throws ClassCastException if the value is not of the given type
+   */
+  @Nullable
+  public <T> T get(AttributePath path, Class<T> type) {
+    return type.cast(values.get(path));
+  }
+
+  /**
+   * Returns the attributes that were not delivered because their version matched the one passed
+   * in {@link DataVersions}. Their values are unchanged since that version was recorded.
+   */
+  public Set<AttributePath> getUnchanged() {
+    return unchanged;
+  }
+
+  /**
+   * Returns the version of the value reported for {@code path}, including unchanged attributes, or
+   * null if no value was reported. See {@link DataVersions}.
+   */
+  @Nullable
+  public Long getDataVersion(AttributePath path) {
+    return versions.get(path);
+  }
+
+  /** Returns the versions of all values reported, including unchanged attributes. */
+  public Map<AttributePath, Long> getDataVersions() {
+    return versions;
+  }
+
+  /** Returns the error for {@code path}, or null if there was none. */
+  @Nullable
+  public Exception getError(AttributePath path) {
+    return errors.get(path);
+  }
+
+  /**
+   * Returns the endpoints on which any attribute of {@code clusterId} was read or failed, in
+   * ascending order. Useful to split the result of a wildcard read.
+   */
+  public Set<Integer> getEndpointIds(long clusterId) {
+    Set<Integer> endpointIds = new TreeSet<>();
+    for (AttributePath path : values.keySet()) {
+      if (path.getClusterId() == clusterId) {
+        endpointIds.add(path.getEndpointId());
+      }
+    }
+    for (AttributePath path : errors.keySet()) {
+      if (path.getClusterId() == clusterId) {
+        endpointIds.add(path.getEndpointId());
+      }
+    }
+    return endpointIds;
+  }
+
+  /** Returns the clusters of which any attribute was read or failed on {@code endpointId}. */
+  public Set<Long> getClusterIds(int endpointId) {
+    Set<Long> clusterIds = new TreeSet<>();
+    for (AttributePath path : values.keySet()) {
+      if (path.getEndpointId() == endpointId) {
+        clusterIds.add(path.getClusterId());
+      }
+    }
+    for (AttributePath path : errors.keySet()) {
+      if (path.getEndpointId() == endpointId) {
+        clusterIds.add(path.getClusterId());
+      }
+    }
+    return clusterIds;
+  }
+
+  /** Returns the endpoints on which any attribute was read or failed, in ascending order. */
+  public Set<Integer> getEndpointIds() {
+    Set<Integer> endpointIds = new TreeSet<>();
+    for (AttributePath path : values.keySet()) {
+      endpointIds.add(path.getEndpointId());
+    }
+    for (AttributePath path : errors.keySet()) {
+      endpointIds.add(path.getEndpointId());
+    }
+    return endpointIds;
+  }
+
+  /**
+   * Returns these values updated with a later report of the same interaction: each attribute has
+   * its latest value or error.
+   */
+  AttributeValues mergedWith(AttributeValues later) {
+    Map<AttributePath, Object> mergedValues = new LinkedHashMap<>(values);
+    Map<AttributePath, Exception> mergedErrors = new LinkedHashMap<>(errors);
+    Map<AttributePath, Long> mergedVersions = new HashMap<>(versions);
+    Set<AttributePath> mergedUnchanged = new HashSet<>(unchanged);
+
+    mergedValues.keySet().removeAll(later.errors.keySet());
+    mergedVersions.keySet().removeAll(later.errors.keySet());
+    mergedUnchanged.removeAll(later.errors.keySet());
+    mergedErrors.keySet().removeAll(later.values.keySet());
+    mergedErrors.keySet().removeAll(later.unchanged);
+    mergedUnchanged.removeAll(later.values.keySet());
+
+    mergedValues.putAll(later.values);
+    mergedErrors.putAll(later.errors);
+    mergedVersions.putAll(later.versions);
+    for (AttributePath path : later.unchanged) {
+      // A value delivered earlier in the interaction is still current.
+      if (!mergedValues.containsKey(path)) {
+        mergedUnchanged.add(path);
+      }
+    }
+    return new AttributeValues(mergedValues, mergedErrors, mergedVersions, mergedUnchanged);
+  }
+
+  @Override
+  public String toString() {
+    return "AttributeValues{values="
+        + values.keySet()
+        + ", unchanged="
+        + unchanged
+        + ", errors="
+        + errors
+        + "}";
+  }
+}
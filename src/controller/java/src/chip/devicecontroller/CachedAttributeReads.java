@@ -0,0 +1,50 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Serves the attribute reads of a generated cluster from an {@link AttributeCache}, and stores the
+ * values that reads from the device return.
+ *
+ * <p>The generated {@link AttributeCallbackDispatcher} of each attribute callback converts values
+ * to and from the type of its {@code onSuccess} method, so this only deals with the cache.
+ */
+final class CachedAttributeReads {
+  private final AttributeCache cache;
+  private final long nodeId;
+  private final long maxStalenessMillis;
+
+  CachedAttributeReads(AttributeCache cache, long nodeId, long maxStalenessMillis) {
+    this.cache = cache;
+    this.nodeId = nodeId;
+    this.maxStalenessMillis = maxStalenessMillis;
+  }
+
+  /** Returns the cached value of {@code path} if it is fresh enough, or null. */
+  @Nullable
+  AttributeCache.CachedValue getIfFresh(AttributePath path) {
+    return cache.getIfFresh(nodeId, path, maxStalenessMillis);
+  }
+
+  /** Stores the value that a read of {@code path} returned. */
+  void store(AttributePath path, @Nullable Object value) {
+    cache.put(nodeId, path, value);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.concurrent.Executor;
+
+/**
+ * Base of the generated callbacks that run the methods of a cluster callback on a callback executor
+ * instead of the CHIP event loop thread.
+ *
+ * <p>Each callback interface of the generated clusters has a subclass that implements it. Its
+ * methods post the number of the method and its arguments, and its {@link #invoke(int, Object[])}
+ * switches on that number to call the wrapped callback, so that one {@link Runnable} class serves
+ * every callback method instead of a lambda class each. All callback methods return void, so the
+ * native caller never waits for the application. Without an executor, the methods run on the
+ * calling thread.
+ */
+abstract class CallbackDispatcher<T> {
+  // Numbers of the callback methods, passed to invoke().
+  static final int ON_SUCCESS = 0;
+  static final int ON_ERROR = 1;
+  static final int ON_SUBSCRIPTION_ESTABLISHED = 2;
+  // onSuccess of the IntList, LongList or columnar list callback that a list attribute callback
+  // also implements.
+  static final int ON_SUCCESS_PRIMITIVE_LIST = 3;
+
+  /** Creates the dispatcher of a callback. */
+  interface Factory<T> {
+    T create(T callback, Executor executor, long key);
+  }
+
+  protected final T callback;
+  @Nullable private final Executor executor;
+  private final long key;
+
+  protected CallbackDispatcher(T callback, @Nullable Executor executor, long key) {
+    this.callback = callback;
+    this.executor = executor;
+    this.key = key;
+  }
+
+  /**
+   * Calls method {@code method} of the wrapped callback with {@code args}, on the executor if there
+   * is one.
+   */
+  protected final void post(int method, Object... args) {
+    if (executor != null) {
+      execute(executor, key, new Call(this, method, args));
+    } else {
+      invoke(method, args);
+    }
+  }
+
+  /** Calls method {@code method} of the wrapped callback with the arguments posted for it. */
+  abstract void invoke(int method, Object[] args);
+
+  final boolean hasExecutor() {
+    return executor != null;
+  }
+
+  /** Runs {@code task} on {@code executor}, ordered by {@code key} if it is a striped executor. */
+  static void execute(Executor executor, long key, Runnable task) {
+    if (executor instanceof StripedExecutor) {
+      ((StripedExecutor) executor).execute(key, task);
+    } else {
+      executor.execute(task);
+    }
+  }
+
+  private static final class Call implements Runnable {
+    private final CallbackDispatcher<?> dispatcher;
+    private final int method;
+    private final Object[] args;
+
+    Call(CallbackDispatcher<?> dispatcher, int method, Object[] args) {
+      this.dispatcher = dispatcher;
+      this.method = method;
+      this.args = args;
+    }
+
+    @Override
+    public void run() {
+      dispatcher.invoke(method, args);
+    }
+  }
+}
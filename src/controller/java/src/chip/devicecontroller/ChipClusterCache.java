@@ -0,0 +1,102 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import chip.devicecontroller.ChipClusters.BaseChipCluster;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Shares cluster objects per (device pointer, endpoint, cluster ID), so that repeated interactions
+ * with the same cluster do not allocate a new native cluster object each time.
+ *
+ * <p>Cached clusters are shared between callers and must not be closed by them. Invalidated
+ * clusters are only dropped from the cache; their native objects are released once no caller
+ * references them anymore.
+ */
+public final class ChipClusterCache {
+  // devicePtr -> (endpointId << 32 | clusterId) -> cluster
+  private final ConcurrentHashMap<Long, ConcurrentHashMap<Long, BaseChipCluster>> clusters =
+      new ConcurrentHashMap<>();
+  @Nullable private volatile Executor callbackExecutor;
+
+  /** Sets the callback executor of cached clusters, including those already created. */
+  public void setCallbackExecutor(@Nullable Executor executor) {
+    callbackExecutor = executor;
+    for (ConcurrentHashMap<Long, BaseChipCluster> deviceClusters : clusters.values()) {
+      for (BaseChipCluster cluster : deviceClusters.values()) {
+        cluster.setCallbackExecutor(executor);
+      }
+    }
+  }
+
+  /**
+   * Returns the shared cluster object for the given device, endpoint and cluster ID, creating it
+   * if needed, or null if the cluster ID is not supported.
+   */
+  @Nullable
+  public BaseChipCluster get(long devicePtr, int endpointId, long clusterId) {
+    ConcurrentHashMap<Long, BaseChipCluster> deviceClusters = clusters.get(devicePtr);
+    if (deviceClusters == null) {
+      deviceClusters = new ConcurrentHashMap<>();
+      ConcurrentHashMap<Long, BaseChipCluster> existing =
+          clusters.putIfAbsent(devicePtr, deviceClusters);
+      if (existing != null) {
+        deviceClusters = existing;
+      }
+    }
+
+    long key = ((long) endpointId << 32) | (clusterId & 0xFFFFFFFFL);
+    BaseChipCluster cluster = deviceClusters.get(key);
+    if (cluster != null) {
+      return cluster;
+    }
+    cluster = ChipClusters.newCluster(clusterId, devicePtr, endpointId);
+    if (cluster == null) {
+      return null;
+    }
+    cluster.setCallbackExecutor(callbackExecutor);
+    BaseChipCluster existing = deviceClusters.putIfAbsent(key, cluster);
+    if (existing != null) {
+      cluster.close();
+      return existing;
+    }
+    return cluster;
+  }
+
+  /**
+   * Typed variant of {@link #get(long, int, long)}, for example {@code get(devicePtr, 1,
+   * OnOffCluster.CLUSTER_ID, OnOffCluster.class)}.
+   */
+  @Nullable
+  public <T extends BaseChipCluster> T get(
+      long devicePtr, int endpointId, long clusterId, Class<T> clusterClass) {
+    return clusterClass.cast(get(devicePtr, endpointId, clusterId));
+  }
+
+  /** Drops every cluster object associated with the given device pointer. */
+  public void invalidateDevice(long devicePtr) {
+    clusters.remove(devicePtr);
+  }
+
+  /** Drops every cached cluster object. */
+  public void invalidateAll() {
+    clusters.clear();
+  }
+}
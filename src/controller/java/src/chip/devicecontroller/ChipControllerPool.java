@@ -0,0 +1,177 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A set of device controllers, one per fabric, that route node operations by compressed fabric ID
+ * and share commissioning work.
+ *
+ * <p>All controllers of a process already share the native CHIP stack: one system layer, session
+ * and exchange manager, and one event loop thread. Each fabric added here only costs its native
+ * commissioner and the Java controller state, and no threads.
+ *
+ * <p>Commissioning jobs submitted through {@link #commission(CommissioningJob)} are queued and run
+ * on whichever fabric's controller becomes free first. The fabric a device ended up on is {@link
+ * CommissioningResult#getController()}.
+ */
+public final class ChipControllerPool implements AutoCloseable {
+  private final Object lock = new Object();
+  private final ConcurrentHashMap<Long, ChipDeviceController> controllersByFabric =
+      new ConcurrentHashMap<>();
+  private final CopyOnWriteArrayList<ChipDeviceController> controllers =
+      new CopyOnWriteArrayList<>();
+  @Nullable private CommissioningScheduler scheduler;
+
+  /**
+   * Creates a controller on the given fabric and adds it to this pool.
+   *
+   * @throws IllegalStateException if the pool already has a controller for the same fabric
+   */
+  public ChipDeviceController addFabric(long fabricId) {
+    ChipDeviceController controller = new ChipDeviceController(fabricId);
+    try {
+      add(controller);
+    } catch (IllegalStateException e) {
+      controller.shutdown();
+      throw e;
+    }
+    return controller;
+  }
+
+  /**
+   * Adds an existing controller to this pool, which then owns it.
+   *
+   * @throws IllegalStateException if the pool already has a controller for the same fabric
+   */
+  public void add(ChipDeviceController controller) {
+    long fabricId = controller.getCompressedFabricId();
+    CommissioningScheduler currentScheduler;
+    synchronized (lock) {
+      if (controllersByFabric.putIfAbsent(fabricId, controller) != null) {
+        throw new IllegalStateException(
+            "Pool already has a controller for fabric " + Long.toHexString(fabricId));
+      }
+      controllers.add(controller);
+      currentScheduler = scheduler;
+      if (currentScheduler == null) {
+        scheduler =
+            new CommissioningScheduler(
+                Collections.singletonList(controller), /* parallelism= */ Integer.MAX_VALUE);
+        return;
+      }
+    }
+    currentScheduler.addController(controller);
+  }
+
+  /** Returns the controller of the given fabric, or null if this pool has none. */
+  @Nullable
+  public ChipDeviceController getController(long compressedFabricId) {
+    return controllersByFabric.get(compressedFabricId);
+  }
+
+  /** Returns the controllers of this pool, in the order they were added. */
+  public List<ChipDeviceController> getControllers() {
+    return Collections.unmodifiableList(new ArrayList<>(controllers));
+  }
+
+  public int size() {
+    return controllers.size();
+  }
+
+  /**
+   * Returns a future that completes with a pointer to the given node on the given fabric. See
+   * {@link ChipDeviceController#getConnectedDeviceAsync(long)}.
+   */
+  public CompletableFuture<Long> getConnectedDeviceAsync(long compressedFabricId, long nodeId) {
+    ChipDeviceController controller = getController(compressedFabricId);
+    if (controller == null) {
+      return unknownFabric(compressedFabricId);
+    }
+    return controller.getConnectedDeviceAsync(nodeId);
+  }
+
+  /** Removes the given node from the given fabric. */
+  public CompletableFuture<Void> unpairDeviceAsync(long compressedFabricId, long nodeId) {
+    ChipDeviceController controller = getController(compressedFabricId);
+    if (controller == null) {
+      return unknownFabric(compressedFabricId);
+    }
+    return controller.unpairDeviceAsync(nodeId);
+  }
+
+  /**
+   * Queues a commissioning job. It runs on the first fabric whose controller is free, so jobs are
+   * spread over all fabrics of this pool. The returned future always completes normally; check
+   * {@link CommissioningResult#isSuccess()} for the outcome.
+   *
+   * @throws IllegalStateException if this pool has no fabric
+   */
+  public CompletableFuture<CommissioningResult> commission(CommissioningJob job) {
+    CommissioningScheduler currentScheduler;
+    synchronized (lock) {
+      currentScheduler = scheduler;
+    }
+    if (currentScheduler == null) {
+      throw new IllegalStateException("Pool has no fabric");
+    }
+    return currentScheduler.submit(job);
+  }
+
+  /** Returns the number of commissioning jobs waiting for a free fabric. */
+  public int getQueuedCommissioningCount() {
+    CommissioningScheduler currentScheduler;
+    synchronized (lock) {
+      currentScheduler = scheduler;
+    }
+    return currentScheduler == null ? 0 : currentScheduler.getQueuedJobCount();
+  }
+
+  /**
+   * Shuts down all controllers of this pool. Queued and running commissioning jobs fail first, see
+   * {@link CommissioningScheduler#shutdown()}.
+   */
+  @Override
+  public void close() {
+    synchronized (lock) {
+      if (scheduler != null) {
+        scheduler.shutdown();
+      }
+      for (ChipDeviceController controller : controllers) {
+        controller.shutdown();
+      }
+      controllers.clear();
+      controllersByFabric.clear();
+      scheduler = null;
+    }
+  }
+
+  private static <T> CompletableFuture<T> unknownFabric(long compressedFabricId) {
+    CompletableFuture<T> future = new CompletableFuture<>();
+    future.completeExceptionally(
+        new IllegalArgumentException("Unknown fabric " + Long.toHexString(compressedFabricId)));
+    return future;
+  }
+}
@@ -21,13 +21,63 @@ import android.bluetooth.BluetoothGatt;
 import android.util.Log;
 import androidx.annotation.Nullable;
 import chip.devicecontroller.GetConnectedDeviceCallbackJni.GetConnectedDeviceCallback;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
 /** Controller to interact with the CHIP device. */
 public class ChipDeviceController {
   private static final String TAG = ChipDeviceController.class.getSimpleName();
-  private long deviceControllerPtr;
+  private volatile long deviceControllerPtr;
+  // Guarded by this.
+  private boolean shutDown;
   private int connectionId;
   private CompletionListener completionListener;
+  private final ConcurrentHashMap<Long, CompletionListener> nodeCompletionListeners =
+      new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Integer, Long> connectionNodeIds = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Long, CommissioningFutures> pendingCommissioning =
+      new ConcurrentHashMap<>();
+  // The node this controller is pairing or commissioning, or NO_NODE_ID. Like the native
+  // commissioner, a controller handles one device at a time, and events without a node ID are
+  // routed to it. Written under this.
+  private volatile long pairingNodeId = NO_NODE_ID;
+  // System.nanoTime() at which PASE or commissioning of pairingNodeId started, or 0.
+  private volatile long paseStartNanos;
+  private volatile long commissioningStartNanos;
+  private final ChipMetrics metrics = ChipMetrics.getInstance();
+  private static final long NO_NODE_ID = -1L;
+  // Mirrors DevicePairingDelegate::Status::SecurePairingSuccess.
+  private static final int STATUS_SECURE_PAIRING_SUCCESS = 0;
+  private static final long DEFAULT_FABRIC_ID = 0L;
+  private static final long DEFAULT_CONNECTED_DEVICE_TTL_MS = 30_000L;
+  private static final long DEFAULT_CONNECTED_DEVICE_LOOKUP_TIMEOUT_MS = 60_000L;
+  private static final int DEFAULT_COMMAND_PIPELINE_WINDOW = 4;
+  private final ChipClusterCache clusterCache = new ChipClusterCache();
+  private final AttributeCache attributeCache = new AttributeCache();
+  @Nullable private volatile Executor callbackExecutor;
+  private volatile boolean insecureGroupCommandsEnabled;
+  private final ConnectedDeviceCache connectedDeviceCache =
+      new ConnectedDeviceCache(
+          this::lookupConnectedDevice,
+          this::isConnectedDevicePointer,
+          clusterCache::invalidateDevice,
+          DEFAULT_CONNECTED_DEVICE_TTL_MS,
+          DEFAULT_CONNECTED_DEVICE_LOOKUP_TIMEOUT_MS);
+  // Keeps JNI callbacks of in-flight lookups reachable until the native side has called them.
+  // Lookups that time out in the connected device cache stay here until then.
+  private final ConcurrentHashMap<GetConnectedDeviceCallbackJni, CompletableFuture<Long>>
+      pendingLookups = new ConcurrentHashMap<>();
+  // Subscriptions that are established or being established, so that shutdown() can end them.
+  private final Set<Subscription> liveSubscriptions =
+      Collections.newSetFromMap(new ConcurrentHashMap<Subscription, Boolean>());
+  private final ConcurrentHashMap<Long, CommandPipeline> commandPipelines =
+      new ConcurrentHashMap<>();
+  private final NativeCleaner.Cleanable cleanable;
 
   /**
    * To load class and jni, we need to new AndroidChipPlatform after jni load but before new
@@ -38,13 +88,100 @@ public class ChipDeviceController {
   }
 
   public ChipDeviceController() {
-    deviceControllerPtr = newDeviceController();
+    this(DEFAULT_FABRIC_ID);
   }
 
+  /**
+   * Creates a controller on the given fabric. Devices commissioned by this controller join that
+   * fabric. All controllers share the same native stack and event loop thread.
+   */
+  public ChipDeviceController(long fabricId) {
+    deviceControllerPtr = newDeviceController(fabricId);
+    clusterCache.setCallbackExecutor(callbackExecutor);
+
+    // The native controller holds a global reference to this object, so in practice it is only
+    // released through shutdown(); registering keeps it in the live native handle count.
+    final long ptr = deviceControllerPtr;
+    cleanable = NativeCleaner.register(this, () -> deleteDeviceController(ptr));
+  }
+
+  /**
+   * Returns the number of native handles (controllers, clusters and callbacks) created by this
+   * library that have not been released yet. Useful for detecting leaks.
+   */
+  public static long getLiveNativeHandleCount() {
+    return NativeCleaner.getLiveHandleCount();
+  }
+
+  /**
+   * Sets the default listener, which receives events for operations that have no per-node listener
+   * registered through {@link #setCompletionListener(long, CompletionListener)}.
+   */
   public void setCompletionListener(CompletionListener listener) {
     completionListener = listener;
   }
 
+  /**
+   * Routes events for the given node to {@code listener} instead of the default listener. Register
+   * it before starting the operation; it stays registered until {@link
+   * #removeCompletionListener(long)} is called.
+   *
+   * <p>Events that the native layer reports without a node ID ({@code onStatusUpdate}, {@code
+   * onPairingComplete}, {@code onOpCSRGenerationComplete}, ...) are routed to the node this
+   * controller is currently pairing or commissioning, and BLE connection events are routed by
+   * connection ID. A controller pairs or commissions one node at a time.
+   */
+  public void setCompletionListener(long nodeId, CompletionListener listener) {
+    nodeCompletionListeners.put(nodeId, listener);
+  }
+
+  /** Removes the per-node listener for the given node, if any. */
+  public void removeCompletionListener(long nodeId) {
+    nodeCompletionListeners.remove(nodeId);
+    connectionNodeIds.values().remove(nodeId);
+  }
+
+  /**
+   * Sets the executor that runs listener and connected device callbacks of this controller and the
+   * callbacks of clusters from {@link #getClusterCache()}. Callbacks are keyed by node (clusters by
+   * device pointer), so a {@link StripedExecutor} keeps the callbacks of one node in order.
+   *
+   * <p>Defaults to null, in which case callbacks run on the CHIP event loop thread and must not
+   * block, and are not wrapped at all. Pass {@link StripedExecutor#getDefault()} to run them off
+   * that thread. Clusters created directly must be configured with {@link
+   * ChipClusters.BaseChipCluster#setCallbackExecutor(Executor)}.
+   */
+  public void setCallbackExecutor(@Nullable Executor executor) {
+    callbackExecutor = executor;
+    clusterCache.setCallbackExecutor(executor);
+  }
+
+  @Nullable
+  public Executor getCallbackExecutor() {
+    return callbackExecutor;
+  }
+
+  void dispatch(long nodeId, Runnable callback) {
+    Executor executor = callbackExecutor;
+    if (executor == null) {
+      callback.run();
+    } else {
+      CallbackDispatcher.execute(executor, nodeId, callback);
+    }
+  }
+
+  @Nullable
+  private CompletionListener listenerFor(long nodeId) {
+    CompletionListener listener = nodeId != NO_NODE_ID ? nodeCompletionListeners.get(nodeId) : null;
+    return listener != null ? listener : completionListener;
+  }
+
+  // Connections are closed for good once either close event arrives, so their node is forgotten.
+  private long removeConnection(int connId) {
+    Long nodeId = connectionNodeIds.remove(connId);
+    return nodeId != null ? nodeId : NO_NODE_ID;
+  }
+
   public void pairDevice(
       BluetoothGatt bleServer,
       int connId,
@@ -63,6 +200,7 @@ public class ChipDeviceController {
    * @param setupPincode the pincode for the device
    * @param csrNonce the 32-byte CSR nonce to use, or null if we want to use an internally randomly
    *     generated CSR nonce.
+   * @throws IllegalStateException if this controller is pairing or commissioning another device
    */
   public void pairDevice(
       BluetoothGatt bleServer,
@@ -72,24 +210,32 @@ public class ChipDeviceController {
       @Nullable byte[] csrNonce,
       NetworkCredentials networkCredentials) {
     if (connectionId == 0) {
+      startPairing(deviceId);
       connectionId = connId;
 
       if (connectionId == 0) {
+        releasePairing(deviceId);
         Log.e(TAG, "Failed to add Bluetooth connection.");
-        completionListener.onError(new Exception("Failed to add Bluetooth connection."));
+        notifyError(deviceId, new Exception("Failed to add Bluetooth connection."));
         return;
       }
 
       Log.d(TAG, "Bluetooth connection added with ID: " + connectionId);
       Log.d(TAG, "Pairing device with ID: " + deviceId);
+      connectionNodeIds.put(connectionId, deviceId);
       pairDevice(
-          deviceControllerPtr, deviceId, connectionId, setupPincode, csrNonce, networkCredentials);
+          controllerPtr(), deviceId, connectionId, setupPincode, csrNonce, networkCredentials);
     } else {
       Log.e(TAG, "Bluetooth connection already in use.");
-      completionListener.onError(new Exception("Bluetooth connection already in use."));
+      notifyError(deviceId, new Exception("Bluetooth connection already in use."));
     }
   }
 
+  /**
+   * Pair a device reachable at an IP address.
+   *
+   * @throws IllegalStateException if this controller is pairing or commissioning another device
+   */
   public void pairDeviceWithAddress(
       long deviceId,
       String address,
@@ -97,26 +243,35 @@ public class ChipDeviceController {
       int discriminator,
       long pinCode,
       @Nullable byte[] csrNonce) {
+    startPairing(deviceId);
     pairDeviceWithAddress(
-        deviceControllerPtr, deviceId, address, port, discriminator, pinCode, csrNonce);
+        controllerPtr(), deviceId, address, port, discriminator, pinCode, csrNonce);
   }
 
+  /**
+   * Establish a secure PASE connection to a device connected through BLE.
+   *
+   * @throws IllegalStateException if this controller is pairing or commissioning another device
+   */
   public void establishPaseConnection(long deviceId, int connId, long setupPincode) {
     if (connectionId == 0) {
+      startPairing(deviceId);
       connectionId = connId;
 
       if (connectionId == 0) {
+        releasePairing(deviceId);
         Log.e(TAG, "Failed to add Bluetooth connection.");
-        completionListener.onError(new Exception("Failed to add Bluetooth connection."));
+        notifyError(deviceId, new Exception("Failed to add Bluetooth connection."));
         return;
       }
 
       Log.d(TAG, "Bluetooth connection added with ID: " + connectionId);
       Log.d(TAG, "Establishing PASE connection with ID: " + deviceId);
-      establishPaseConnection(deviceControllerPtr, deviceId, connId, setupPincode);
+      connectionNodeIds.put(connectionId, deviceId);
+      establishPaseConnection(controllerPtr(), deviceId, connId, setupPincode);
     } else {
       Log.e(TAG, "Bluetooth connection already in use.");
-      completionListener.onError(new Exception("Bluetooth connection already in use."));
+      notifyError(deviceId, new Exception("Bluetooth connection already in use."));
     }
   }
 
@@ -127,10 +282,12 @@ public class ChipDeviceController {
    * @param address the IP address at which the node is located
    * @param port the port at which the node is located
    * @param setupPincode the pincode for this node
+   * @throws IllegalStateException if this controller is pairing or commissioning another device
    */
   public void establishPaseConnection(long deviceId, String address, int port, long setupPincode) {
     Log.d(TAG, "Establishing PASE connection with ID: " + deviceId);
-    establishPaseConnectionByAddress(deviceControllerPtr, deviceId, address, port, setupPincode);
+    startPairing(deviceId);
+    establishPaseConnectionByAddress(controllerPtr(), deviceId, address, port, setupPincode);
   }
 
   /**
@@ -140,9 +297,11 @@ public class ChipDeviceController {
    *
    * @param deviceId the ID of the node to be commissioned
    * @param networkCredentials the credentials (Wi-Fi or Thread) to be provisioned
+   * @throws IllegalStateException if this controller is pairing or commissioning another device
    */
   public void commissionDevice(long deviceId, NetworkCredentials networkCredentials) {
-    commissionDevice(deviceControllerPtr, deviceId, /* csrNonce= */ null, networkCredentials);
+    startCommissioning(deviceId);
+    commissionDevice(controllerPtr(), deviceId, /* csrNonce= */ null, networkCredentials);
   }
 
   /**
@@ -153,14 +312,25 @@ public class ChipDeviceController {
    * @param deviceId the ID of the node to be commissioned
    * @param csrNonce a nonce to be used for the CSR request
    * @param networkCredentials the credentials (Wi-Fi or Thread) to be provisioned
+   * @throws IllegalStateException if this controller is pairing or commissioning another device
    */
   public void commissionDevice(
       long deviceId, @Nullable byte[] csrNonce, NetworkCredentials networkCredentials) {
-    commissionDevice(deviceControllerPtr, deviceId, csrNonce, networkCredentials);
+    startCommissioning(deviceId);
+    commissionDevice(controllerPtr(), deviceId, csrNonce, networkCredentials);
+  }
+
+  /** Stops pairing or commissioning the given device. */
+  public void stopDevicePairing(long deviceId) {
+    stopDevicePairing(controllerPtr(), deviceId);
+    releasePairing(deviceId);
   }
 
   public void unpairDevice(long deviceId) {
-    unpairDevice(deviceControllerPtr, deviceId);
+    connectedDeviceCache.invalidate(deviceId);
+    attributeCache.invalidate(deviceId);
+    closeCommandPipeline(deviceId);
+    unpairDevice(controllerPtr(), deviceId);
   }
 
   /**
@@ -168,82 +338,560 @@ public class ChipDeviceController {
    * device is operationally available.
    */
   public long getDeviceBeingCommissionedPointer(long nodeId) {
-    return getDeviceBeingCommissionedPointer(deviceControllerPtr, nodeId);
+    return getDeviceBeingCommissionedPointer(controllerPtr(), nodeId);
   }
 
   /**
    * Through GetConnectedDeviceCallback, returns a pointer to a connected device or an error.
    *
+   * <p>Pointers are served from the connected device cache when possible. The callback runs on the
+   * {@link #setCallbackExecutor(Executor) callback executor}, or, if there is none, on the calling
+   * thread for cached pointers and on the CHIP event loop thread otherwise.
+   *
    * <p>TODO(#8443): This method could benefit from a ChipDevice abstraction to hide the pointer
    * passing.
    */
   public void getConnectedDevicePointer(long nodeId, GetConnectedDeviceCallback callback) {
-    GetConnectedDeviceCallbackJni jniCallback = new GetConnectedDeviceCallbackJni(callback);
-    getConnectedDevicePointer(deviceControllerPtr, nodeId, jniCallback.getCallbackHandle());
+    connectedDeviceCache
+        .get(nodeId)
+        .whenComplete(
+            (devicePtr, error) ->
+                dispatch(
+                    nodeId,
+                    () -> {
+                      if (error == null) {
+                        callback.onDeviceConnected(devicePtr);
+                      } else {
+                        callback.onConnectionFailure(
+                            nodeId,
+                            error instanceof Exception ? (Exception) error : new Exception(error));
+                      }
+                    }));
   }
 
   public boolean disconnectDevice(long deviceId) {
-    return disconnectDevice(deviceControllerPtr, deviceId);
+    connectedDeviceCache.invalidate(deviceId);
+    return disconnectDevice(controllerPtr(), deviceId);
+  }
+
+  /**
+   * Unpairs several nodes with a single native call, holding the CHIP stack lock once for all of
+   * them.
+   *
+   * @return for each node, 0 on success or the CHIP error code of the failure
+   */
+  public int[] unpairDevices(long[] deviceIds) {
+    for (long deviceId : deviceIds) {
+      connectedDeviceCache.invalidate(deviceId);
+      attributeCache.invalidate(deviceId);
+      closeCommandPipeline(deviceId);
+    }
+    return unpairDevices(controllerPtr(), deviceIds);
+  }
+
+  /**
+   * Releases the operational sessions of several nodes with a single native call, holding the CHIP
+   * stack lock once for all of them.
+   */
+  public void disconnectDevices(long[] deviceIds) {
+    for (long deviceId : deviceIds) {
+      connectedDeviceCache.invalidate(deviceId);
+    }
+    disconnectDevices(controllerPtr(), deviceIds);
+  }
+
+  /**
+   * Starts resolving the addresses of several nodes of this controller's fabric with a single
+   * native call, holding the CHIP stack lock once for all of them.
+   *
+   * @return for each node, 0 if resolution started or the CHIP error code of the failure
+   */
+  public int[] updateDevices(long[] deviceIds) {
+    return updateDevices(controllerPtr(), deviceIds);
+  }
+
+  /**
+   * Returns, for each node, whether a secure session with it is currently established. Holds the
+   * CHIP stack lock once for all nodes.
+   */
+  public boolean[] isActive(long[] deviceIds) {
+    return areDevicesActive(controllerPtr(), deviceIds);
+  }
+
+  /**
+   * Sets how long a connected device pointer is cached after it is obtained. A value of zero
+   * disables the cache. Defaults to 30 seconds.
+   */
+  public void setConnectedDeviceCacheTtl(long ttlMillis) {
+    connectedDeviceCache.setTtl(ttlMillis);
+  }
+
+  /**
+   * Sets how long getting a connected device may take before it fails with a {@link
+   * java.util.concurrent.TimeoutException}, so that later lookups for the node start over. A value
+   * of zero disables the timeout. Defaults to 60 seconds.
+   */
+  public void setConnectedDeviceLookupTimeout(long timeoutMillis) {
+    connectedDeviceCache.setLookupTimeout(timeoutMillis);
+  }
+
+  /**
+   * Returns the cache of shared cluster objects for devices of this controller. Clusters of a
+   * device are dropped whenever its pointer is dropped from the connected device cache.
+   */
+  public ChipClusterCache getClusterCache() {
+    return clusterCache;
+  }
+
+  /**
+   * Returns the attribute cache of this controller. Nothing fills it unless subscriptions or
+   * clusters are set up to use it; the values of a node are dropped when the node is unpaired.
+   */
+  public AttributeCache getAttributeCache() {
+    return attributeCache;
+  }
+
+  /**
+   * Drops the cached connected device pointer for the given node, if any, and its command pipeline
+   * if no command is using it.
+   */
+  public void invalidateConnectedDevice(long nodeId) {
+    connectedDeviceCache.invalidate(nodeId);
+    commandPipelines.computeIfPresent(
+        nodeId, (id, pipeline) -> pipeline.isIdle() ? null : pipeline);
+  }
+
+  /**
+   * Returns a future that completes with a pointer to a connected device, or completes
+   * exceptionally with a {@link ChipDeviceControllerException} if the connection fails and with a
+   * {@link java.util.concurrent.TimeoutException} if it exceeds the {@link
+   * #setConnectedDeviceLookupTimeout(long) lookup timeout}.
+   *
+   * <p>Cached pointers complete the future immediately. Otherwise, non-async dependent stages run
+   * on the CHIP event loop thread, so they must not block. Each call returns a new future, so
+   * completing or cancelling it does not affect other callers waiting for the same node.
+   */
+  public CompletableFuture<Long> getConnectedDeviceAsync(long nodeId) {
+    controllerPtr(); // Throws if shut down, instead of returning a pointer cached before.
+    return connectedDeviceCache.get(nodeId);
+  }
+
+  private boolean isConnectedDevicePointer(long nodeId, long devicePtr) {
+    return isConnectedDevicePointer(controllerPtr(), nodeId, devicePtr);
+  }
+
+  private CompletableFuture<Long> lookupConnectedDevice(long nodeId) {
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    GetConnectedDeviceCallbackJni jniCallback =
+        new GetConnectedDeviceCallbackJni(
+            new GetConnectedDeviceCallback() {
+              @Override
+              public void onDeviceConnected(long devicePointer) {
+                future.complete(devicePointer);
+              }
+
+              @Override
+              public void onConnectionFailure(long nodeId, Exception error) {
+                future.completeExceptionally(error);
+              }
+            });
+    pendingLookups.put(jniCallback, future);
+    long startNanos = System.nanoTime();
+    future.whenComplete(
+        (devicePtr, error) -> {
+          pendingLookups.remove(jniCallback);
+          if (error == null) {
+            metrics.recordSince(ChipMetrics.Timer.CASE_ESTABLISHMENT, startNanos);
+          } else {
+            metrics.increment(ChipMetrics.Counter.CASE_FAILURES);
+          }
+        });
+    try {
+      getConnectedDevicePointer(controllerPtr(), nodeId, jniCallback.getCallbackHandle());
+    } catch (ChipDeviceControllerException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Asynchronous variant of {@link #commissionDevice(long, byte[], NetworkCredentials)}. The
+   * returned future completes with the node ID once {@link
+   * CompletionListener#onCommissioningComplete(long, int)} reports success for that node.
+   *
+   * <p>A controller commissions one device at a time. The returned future fails with an {@link
+   * IllegalStateException} if this controller is pairing or commissioning another device.
+   */
+  public CompletableFuture<Long> commissionDeviceAsync(
+      long deviceId, @Nullable byte[] csrNonce, NetworkCredentials networkCredentials) {
+    CommissioningFutures futures = registerCommissioning(deviceId);
+    futures.paseEstablished.complete(null);
+    try {
+      startCommissioning(deviceId);
+    } catch (IllegalStateException e) {
+      failCommissioning(deviceId, e);
+      return futures.commissioned;
+    }
+    try {
+      commissionDevice(controllerPtr(), deviceId, csrNonce, networkCredentials);
+    } catch (ChipDeviceControllerException e) {
+      failCommissioning(deviceId, e);
+    }
+    return futures.commissioned;
+  }
+
+  /**
+   * Asynchronous variant of {@link #pairDeviceWithAddress(long, String, int, int, long, byte[])}.
+   * The returned future completes with the node ID once pairing and commissioning of that node
+   * have both succeeded, and completes exceptionally on the first failure.
+   *
+   * <p>A controller pairs one device at a time. The returned future fails with an {@link
+   * IllegalStateException} if this controller is pairing or commissioning another device.
+   */
+  public CompletableFuture<Long> pairDeviceWithAddressAsync(
+      long deviceId,
+      String address,
+      int port,
+      int discriminator,
+      long pinCode,
+      @Nullable byte[] csrNonce) {
+    return pairDeviceWithAddressTracked(deviceId, address, port, discriminator, pinCode, csrNonce)
+        .commissioned;
+  }
+
+  CommissioningFutures pairDeviceWithAddressTracked(
+      long deviceId,
+      String address,
+      int port,
+      int discriminator,
+      long pinCode,
+      @Nullable byte[] csrNonce) {
+    CommissioningFutures futures = registerCommissioning(deviceId);
+    try {
+      startPairing(deviceId);
+    } catch (IllegalStateException e) {
+      failCommissioning(deviceId, e);
+      return futures;
+    }
+    try {
+      pairDeviceWithAddress(
+          controllerPtr(), deviceId, address, port, discriminator, pinCode, csrNonce);
+    } catch (ChipDeviceControllerException e) {
+      failCommissioning(deviceId, e);
+    }
+    return futures;
+  }
+
+  /**
+   * Pairs and commissions a device over an already established BLE connection, failing the
+   * returned futures instead of notifying the {@link CompletionListener} if the connection slot of
+   * this controller is taken or it is pairing another device.
+   */
+  CommissioningFutures pairDeviceTracked(
+      int connId, long deviceId, long setupPincode, NetworkCredentials networkCredentials) {
+    CommissioningFutures futures = registerCommissioning(deviceId);
+    if (connId == 0 || connectionId != 0) {
+      failCommissioning(
+          deviceId,
+          new IllegalStateException(
+              connId == 0
+                  ? "Failed to add Bluetooth connection."
+                  : "Bluetooth connection already in use."));
+      return futures;
+    }
+    try {
+      startPairing(deviceId);
+    } catch (IllegalStateException e) {
+      failCommissioning(deviceId, e);
+      return futures;
+    }
+
+    connectionId = connId;
+    connectionNodeIds.put(connId, deviceId);
+    try {
+      pairDevice(
+          controllerPtr(),
+          deviceId,
+          connId,
+          setupPincode,
+          /* csrNonce= */ null,
+          networkCredentials);
+    } catch (ChipDeviceControllerException e) {
+      failCommissioning(deviceId, e);
+    }
+    return futures;
+  }
+
+  /** Asynchronous variant of {@link #unpairDevice(long)}. */
+  public CompletableFuture<Void> unpairDeviceAsync(long deviceId) {
+    CompletableFuture<Void> future = new CompletableFuture<>();
+    try {
+      unpairDevice(deviceId);
+      future.complete(null);
+    } catch (ChipDeviceControllerException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  private CommissioningFutures registerCommissioning(long deviceId) {
+    CommissioningFutures futures = new CommissioningFutures();
+    CommissioningFutures previous = pendingCommissioning.put(deviceId, futures);
+    if (previous != null) {
+      previous.fail(new IllegalStateException("Commissioning restarted for node " + deviceId));
+    }
+    return futures;
+  }
+
+  /**
+   * Stops pairing or commissioning a device started with one of the tracked methods, failing its
+   * futures with {@code error}.
+   */
+  void abortCommissioning(long deviceId, Exception error) {
+    failCommissioning(deviceId, error);
+    try {
+      stopDevicePairing(controllerPtr(), deviceId);
+    } catch (ChipDeviceControllerException | IllegalStateException e) {
+      Log.w(TAG, "Failed to stop pairing node " + deviceId, e);
+    }
+  }
+
+  private void startPairing(long deviceId) {
+    claimPairing(deviceId);
+    commissioningStartNanos = 0;
+    paseStartNanos = System.nanoTime();
+  }
+
+  private void startCommissioning(long deviceId) {
+    claimPairing(deviceId);
+    paseStartNanos = 0;
+    commissioningStartNanos = System.nanoTime();
+  }
+
+  // Events without a node ID could not be told apart if two nodes were paired at once.
+  private synchronized void claimPairing(long deviceId) {
+    long nodeId = pairingNodeId;
+    if (nodeId != NO_NODE_ID && nodeId != deviceId) {
+      throw new IllegalStateException(
+          "Cannot pair node " + deviceId + " while pairing node " + nodeId);
+    }
+    pairingNodeId = deviceId;
+  }
+
+  /** Returns whether {@code deviceId} was the node being paired. */
+  private synchronized boolean releasePairing(long deviceId) {
+    if (pairingNodeId != deviceId) {
+      return false;
+    }
+    pairingNodeId = NO_NODE_ID;
+    return true;
+  }
+
+  private void failCommissioning(long deviceId, Exception error) {
+    releasePairing(deviceId);
+    CommissioningFutures futures = pendingCommissioning.remove(deviceId);
+    if (futures != null) {
+      futures.fail(error);
+    }
   }
 
   public void onConnectDeviceComplete() {
-    completionListener.onConnectDeviceComplete();
+    long nodeId = pairingNodeId;
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onConnectDeviceComplete());
+    }
   }
 
   public void onStatusUpdate(int status) {
-    if (completionListener != null) {
-      completionListener.onStatusUpdate(status);
+    long nodeId = pairingNodeId;
+    long startNanos = paseStartNanos;
+    if (status == STATUS_SECURE_PAIRING_SUCCESS) {
+      if (startNanos != 0) {
+        metrics.recordSince(ChipMetrics.Timer.PASE_ESTABLISHMENT, startNanos);
+      }
+      commissioningStartNanos = System.nanoTime();
+    } else {
+      metrics.increment(ChipMetrics.Counter.PASE_FAILURES);
+    }
+    paseStartNanos = 0;
+    if (nodeId != NO_NODE_ID) {
+      CommissioningFutures futures = pendingCommissioning.get(nodeId);
+      if (futures != null && status == STATUS_SECURE_PAIRING_SUCCESS) {
+        futures.paseEstablished.complete(null);
+      }
+    }
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onStatusUpdate(status));
     }
   }
 
   public void onPairingComplete(int errorCode) {
-    if (completionListener != null) {
-      completionListener.onPairingComplete(errorCode);
+    long nodeId = pairingNodeId;
+    if (errorCode != 0) {
+      metrics.increment(ChipMetrics.Counter.PAIRING_FAILURES);
+    }
+    if (errorCode != 0 && nodeId != NO_NODE_ID) {
+      failCommissioning(
+          nodeId,
+          new ChipDeviceControllerException(errorCode, "Pairing failed for node " + nodeId));
+    }
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onPairingComplete(errorCode));
     }
   }
 
   public void onCommissioningComplete(long nodeId, int errorCode) {
-    if (completionListener != null) {
-      completionListener.onCommissioningComplete(nodeId, errorCode);
+    if (releasePairing(nodeId)) {
+      long startNanos = commissioningStartNanos;
+      if (startNanos != 0) {
+        metrics.recordSince(ChipMetrics.Timer.COMMISSIONING, startNanos);
+      }
+      commissioningStartNanos = 0;
+    }
+    metrics.increment(
+        errorCode == 0
+            ? ChipMetrics.Counter.COMMISSIONING_SUCCESSES
+            : ChipMetrics.Counter.COMMISSIONING_FAILURES);
+    CommissioningFutures futures = pendingCommissioning.remove(nodeId);
+    if (futures != null) {
+      if (errorCode == 0) {
+        futures.paseEstablished.complete(null);
+        futures.commissioned.complete(nodeId);
+      } else {
+        futures.fail(
+            new ChipDeviceControllerException(
+                errorCode, "Commissioning failed for node " + nodeId));
+      }
+    }
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onCommissioningComplete(nodeId, errorCode));
     }
   }
 
   public void onOpCSRGenerationComplete(byte[] csr) {
-    if (completionListener != null) {
-      completionListener.onOpCSRGenerationComplete(csr);
+    long nodeId = pairingNodeId;
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onOpCSRGenerationComplete(csr));
     }
   }
 
   public void onPairingDeleted(int errorCode) {
-    if (completionListener != null) {
-      completionListener.onPairingDeleted(errorCode);
+    long nodeId = pairingNodeId;
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onPairingDeleted(errorCode));
     }
   }
 
   public void onNotifyChipConnectionClosed(int connId) {
     connectionId = 0;
+    connectedDeviceCache.invalidateAll();
 
     Log.d(TAG, "Calling onNotifyChipConnectionClosed()");
-    completionListener.onNotifyChipConnectionClosed();
+    long nodeId = removeConnection(connId);
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onNotifyChipConnectionClosed());
+    }
   }
 
   public void onCloseBleComplete(int connId) {
+    long nodeId = removeConnection(connId);
     if (releaseBluetoothGatt(connId)) {
       Log.d(TAG, "Calling onCloseBleComplete()");
-      completionListener.onCloseBleComplete();
+      CompletionListener listener = listenerFor(nodeId);
+      if (listener != null) {
+        dispatch(nodeId, () -> listener.onCloseBleComplete());
+      }
     } else {
       Log.d(TAG, "Skipped calling onCloseBleComplete(). Connection has already been closed.");
     }
   }
 
   public void onError(Throwable error) {
-    completionListener.onError(error);
+    metrics.increment(ChipMetrics.Counter.CONTROLLER_ERRORS);
+    notifyError(pairingNodeId, error);
   }
 
-  public void close() {
+  private void notifyError(long nodeId, Throwable error) {
+    CompletionListener listener = listenerFor(nodeId);
+    if (listener != null) {
+      dispatch(nodeId, () -> listener.onError(error));
+    }
+  }
+
+  /** Releases the BLE connection slot of this controller, if one is in use. */
+  public void closeBleConnection() {
     releaseBluetoothGatt(connectionId);
   }
 
+  /**
+   * Releases the BLE connection slot of this controller, if one is in use. The controller stays
+   * usable.
+   *
+   * @deprecated Use {@link #closeBleConnection()}, or {@link #shutdown()} to release the whole
+   *     controller.
+   */
+  @Deprecated
+  public void close() {
+    closeBleConnection();
+  }
+
+  /**
+   * Releases the BLE connection slot and the native controller. Pending commissioning and device
+   * lookups fail, and live subscriptions report an error, with an {@link IllegalStateException}.
+   * Other methods throw an {@link IllegalStateException} afterwards. Calling this more than once
+   * has no effect.
+   */
+  public void shutdown() {
+    synchronized (this) {
+      if (shutDown) {
+        return;
+      }
+      shutDown = true;
+    }
+    IllegalStateException error = new IllegalStateException("Controller was shut down");
+
+    for (Long nodeId : pendingCommissioning.keySet()) {
+      failCommissioning(nodeId, error);
+    }
+    // Keep the JNI callbacks reachable until the native controller, which may still call them, is
+    // gone.
+    List<GetConnectedDeviceCallbackJni> lookupCallbacks = new ArrayList<>(pendingLookups.keySet());
+    for (CompletableFuture<Long> lookup : pendingLookups.values()) {
+      lookup.completeExceptionally(error);
+    }
+    for (Subscription subscription : liveSubscriptions) {
+      subscription.fail(error);
+    }
+    for (CommandPipeline pipeline : commandPipelines.values()) {
+      pipeline.close(error);
+    }
+    commandPipelines.clear();
+
+    closeBleConnection();
+    connectedDeviceCache.invalidateAll();
+    clusterCache.invalidateAll();
+    deviceControllerPtr = 0;
+    cleanable.clean();
+    for (GetConnectedDeviceCallbackJni callback : lookupCallbacks) {
+      callback.close();
+    }
+  }
+
+  long controllerPtr() {
+    long ptr = deviceControllerPtr;
+    if (ptr == 0) {
+      throw new IllegalStateException("Controller was shut down");
+    }
+    return ptr;
+  }
+
   private boolean releaseBluetoothGatt(int connId) {
     if (connectionId == 0) {
       return false;
@@ -256,34 +904,263 @@ public class ChipDeviceController {
   }
 
   public String getIpAddress(long deviceId) {
-    return getIpAddress(deviceControllerPtr, deviceId);
+    return getIpAddress(controllerPtr(), deviceId);
   }
 
   public long getCompressedFabricId() {
-    return getCompressedFabricId(deviceControllerPtr);
+    return getCompressedFabricId(controllerPtr());
   }
 
   public void updateDevice(long fabricId, long deviceId) {
-    updateDevice(deviceControllerPtr, fabricId, deviceId);
+    updateDevice(controllerPtr(), fabricId, deviceId);
   }
 
   public boolean openPairingWindow(long devicePtr, int duration) {
-    return openPairingWindow(deviceControllerPtr, devicePtr, duration);
+    return openPairingWindow(controllerPtr(), devicePtr, duration);
   }
 
   public boolean openPairingWindowWithPIN(
       long devicePtr, int duration, int iteration, int discriminator, long setupPinCode) {
     return openPairingWindowWithPIN(
-        deviceControllerPtr, devicePtr, duration, iteration, discriminator, setupPinCode);
+        controllerPtr(), devicePtr, duration, iteration, discriminator, setupPinCode);
   }
 
   public boolean isActive(long deviceId) {
-    return isActive(deviceControllerPtr, deviceId);
+    return isActive(controllerPtr(), deviceId);
   }
 
   /* Shutdown all cluster attribute subscriptions for a given device */
   public void shutdownSubscriptions(long devicePtr) {
-    shutdownSubscriptions(deviceControllerPtr, devicePtr);
+    shutdownSubscriptions(controllerPtr(), devicePtr);
+  }
+
+  /**
+   * Reads several attributes of a device with a single Read interaction, instead of one round trip
+   * per attribute. Paths may contain wildcards, see {@link AttributePath#forCluster(int, long)}.
+   * Attributes that the device reports an error for are listed in {@link
+   * AttributeValues#getErrors()}; {@code callback.onError} is only called if the whole interaction
+   * fails.
+   */
+  public void readAttributes(
+      long devicePtr, List<AttributePath> paths, ReadAttributesCallback callback) {
+    readAttributesAsync(devicePtr, paths)
+        .whenComplete(
+            (values, error) ->
+                dispatch(
+                    devicePtr,
+                    () -> {
+                      if (error == null) {
+                        callback.onSuccess(values);
+                      } else {
+                        callback.onError(
+                            error instanceof Exception ? (Exception) error : new Exception(error));
+                      }
+                    }));
+  }
+
+  /**
+   * Asynchronous variant of {@link #readAttributes(long, List, ReadAttributesCallback)}. Non-async
+   * dependent stages run on the CHIP event loop thread, so they must not block.
+   */
+  public CompletableFuture<AttributeValues> readAttributesAsync(
+      long devicePtr, List<AttributePath> paths) {
+    return readAttributesAsync(devicePtr, paths, null);
+  }
+
+  /**
+   * Variant of {@link #readAttributesAsync(long, List)} that skips attributes whose version in
+   * {@code versions} is unchanged, listing them in {@link AttributeValues#getUnchanged()} instead
+   * of decoding them again. The versions of the result are recorded in {@code versions}.
+   */
+  public CompletableFuture<AttributeValues> readAttributesAsync(
+      long devicePtr, List<AttributePath> paths, @Nullable DataVersions versions) {
+    PathArrays arrays = new PathArrays(paths);
+    long[] knownVersions = versions != null ? versions.toKnownVersions(paths) : null;
+    CompletableFuture<AttributeValues> future = new CompletableFuture<>();
+    AttributeReportCollector collector =
+        new AttributeReportCollector() {
+          private AttributeValues values =
+              new AttributeValues(
+                  Collections.<AttributePath, Object>emptyMap(),
+                  Collections.<AttributePath, Exception>emptyMap());
+
+          @Override
+          void onReport(AttributeValues report) {
+            if (versions != null) {
+              versions.update(report);
+            }
+            values = report;
+          }
+
+          @Override
+          void onError(Exception error) {
+            future.completeExceptionally(error);
+          }
+
+          @Override
+          void onDone() {
+            // No-op if onError already failed the future.
+            future.complete(values);
+          }
+        };
+    try {
+      readAttributes(
+          controllerPtr(),
+          devicePtr,
+          arrays.endpointIds,
+          arrays.clusterIds,
+          arrays.attributeIds,
+          knownVersions,
+          collector);
+    } catch (ChipDeviceControllerException e) {
+      future.completeExceptionally(e);
+    }
+    return future;
+  }
+
+  /**
+   * Returns a builder for a subscription to several attribute paths of a device, possibly across
+   * clusters, with a single Subscribe interaction instead of one per attribute. This saves device
+   * subscription slots and keepalive traffic.
+   */
+  public Subscription.Builder newSubscriptionBuilder(long devicePtr) {
+    return new Subscription.Builder(this, devicePtr);
+  }
+
+  long subscribeAttributes(
+      long devicePtr,
+      List<AttributePath> paths,
+      @Nullable long[] knownVersions,
+      int minIntervalSeconds,
+      int maxIntervalSeconds,
+      AttributeReportCollector collector) {
+    PathArrays arrays = new PathArrays(paths);
+    return subscribeAttributes(
+        controllerPtr(),
+        devicePtr,
+        arrays.endpointIds,
+        arrays.clusterIds,
+        arrays.attributeIds,
+        knownVersions,
+        minIntervalSeconds,
+        maxIntervalSeconds,
+        collector);
+  }
+
+  void cancelSubscription(long subscriptionHandle) {
+    cancelSubscription(controllerPtr(), subscriptionHandle);
+  }
+
+  void addLiveSubscription(Subscription subscription) {
+    liveSubscriptions.add(subscription);
+  }
+
+  void removeLiveSubscription(Subscription subscription) {
+    liveSubscriptions.remove(subscription);
+  }
+
+  /**
+   * Returns a batch that sends commands to several clusters of a device, possibly on different
+   * endpoints, in a single Invoke interaction instead of one round trip per command.
+   *
+   * <p>Only devices whose Interaction Model accepts several commands per InvokeRequest answer
+   * every command of a batch. Devices running an Interaction Model that handles a single command
+   * per request answer the first command only; the other commands fail with a {@link
+   * ChipClusterException} whose error code is {@code EMBER_ZCL_STATUS_FAILURE} (1). Send commands
+   * one at a time to such devices, or batches of a single command.
+   */
+  public CommandBatch newCommandBatch(long devicePtr) {
+    return new CommandBatch(this, devicePtr, null);
+  }
+
+  /**
+   * Like {@link #newCommandBatch(long)}, but sends the commands as a timed invoke that expires
+   * after {@code timedInvokeTimeoutMs}, or the shorter timeout passed with one of the commands.
+   */
+  public CommandBatch newCommandBatch(long devicePtr, int timedInvokeTimeoutMs) {
+    return new CommandBatch(this, devicePtr, timedInvokeTimeoutMs);
+  }
+
+  long newNativeCommandBatch(long devicePtr, @Nullable Integer timedInvokeTimeoutMs) {
+    return newCommandBatch(controllerPtr(), devicePtr, timedInvokeTimeoutMs);
+  }
+
+  void addClusterToCommandBatch(long batchPtr, long clusterPtr, int endpointId) {
+    addClusterToCommandBatch(controllerPtr(), batchPtr, clusterPtr, endpointId);
+  }
+
+  void sendCommandBatch(long batchPtr) {
+    sendCommandBatch(controllerPtr(), batchPtr);
+  }
+
+  /**
+   * Returns the command pipeline of a node, shared by all callers sending commands to it. It starts
+   * with a window of 4 commands in flight, which {@link CommandPipeline#setWindow(int)} changes for
+   * every caller.
+   */
+  public CommandPipeline getCommandPipeline(long nodeId) {
+    controllerPtr(); // Throws if shut down.
+    return commandPipelines.computeIfAbsent(
+        nodeId, id -> new CommandPipeline(DEFAULT_COMMAND_PIPELINE_WINDOW));
+  }
+
+  private void closeCommandPipeline(long nodeId) {
+    CommandPipeline pipeline = commandPipelines.remove(nodeId);
+    if (pipeline != null) {
+      pipeline.close(new IllegalStateException("Node " + nodeId + " was unpaired"));
+    }
+  }
+
+  /**
+   * Allows {@link #newGroupClusterHandle(int)}, which is experimental and insecure: group messages
+   * are not encrypted with the group keys yet, so group commands are sent in plaintext, and any
+   * device on the network can read or forge them. Disabled by default.
+   */
+  public void setInsecureGroupCommandsEnabled(boolean enabled) {
+    insecureGroupCommandsEnabled = enabled;
+  }
+
+  /**
+   * Returns a handle that sends commands to every member of group {@code groupId} on the fabric of
+   * this controller, in one multicast message per command.
+   *
+   * <p>Experimental and insecure, see {@link GroupClusterHandle}.
+   *
+   * @throws IllegalStateException if {@link #setInsecureGroupCommandsEnabled(boolean)} was not
+   *     called to allow unencrypted group commands
+   */
+  public GroupClusterHandle newGroupClusterHandle(int groupId) {
+    if (!insecureGroupCommandsEnabled) {
+      throw new IllegalStateException(
+          "Group commands are sent unencrypted; call setInsecureGroupCommandsEnabled(true) first");
+    }
+    return new GroupClusterHandle(this, groupId);
+  }
+
+  /**
+   * Reads every attribute matching a (typically wildcard) path and decodes it into one snapshot per
+   * endpoint and cluster, for example all clusters of an endpoint with {@link
+   * AttributePath#forEndpoint(int)}. Clusters this controller does not support are left out; their
+   * values are still available through {@link #readAttributesAsync(long, List)}.
+   */
+  public CompletableFuture<List<ChipClusters.BaseClusterSnapshot>> readSnapshotsAsync(
+      long devicePtr, AttributePath path) {
+    return readAttributesAsync(devicePtr, Collections.singletonList(path))
+        .thenApply(ChipDeviceController::toSnapshots);
+  }
+
+  private static List<ChipClusters.BaseClusterSnapshot> toSnapshots(AttributeValues values) {
+    List<ChipClusters.BaseClusterSnapshot> snapshots = new ArrayList<>();
+    for (int endpointId : values.getEndpointIds()) {
+      for (long clusterId : values.getClusterIds(endpointId)) {
+        ChipClusters.BaseClusterSnapshot snapshot =
+            ChipClusters.newSnapshot(clusterId, endpointId, values);
+        if (snapshot != null) {
+          snapshots.add(snapshot);
+        }
+      }
+    }
+    return snapshots;
   }
 
   /**
@@ -296,13 +1173,13 @@ public class ChipDeviceController {
    */
   public PaseVerifierParams computePaseVerifier(
       long devicePtr, long setupPincode, int iterations, byte[] salt) {
-    return computePaseVerifier(deviceControllerPtr, devicePtr, setupPincode, iterations, salt);
+    return computePaseVerifier(controllerPtr(), devicePtr, setupPincode, iterations, salt);
   }
 
   private native PaseVerifierParams computePaseVerifier(
       long deviceControllerPtr, long devicePtr, long setupPincode, int iterations, byte[] salt);
 
-  private native long newDeviceController();
+  private native long newDeviceController(long fabricId);
 
   private native void pairDevice(
       long deviceControllerPtr,
@@ -333,6 +1210,8 @@ public class ChipDeviceController {
       @Nullable byte[] csrNonce,
       NetworkCredentials networkCredentials);
 
+  private native void stopDevicePairing(long deviceControllerPtr, long deviceId);
+
   private native void unpairDevice(long deviceControllerPtr, long deviceId);
 
   private native long getDeviceBeingCommissionedPointer(long deviceControllerPtr, long nodeId);
@@ -342,7 +1221,7 @@ public class ChipDeviceController {
 
   private native boolean disconnectDevice(long deviceControllerPtr, long deviceId);
 
-  private native void deleteDeviceController(long deviceControllerPtr);
+  private static native void deleteDeviceController(long deviceControllerPtr);
 
   private native String getIpAddress(long deviceControllerPtr, long deviceId);
 
@@ -362,22 +1241,94 @@ public class ChipDeviceController {
 
   private native boolean isActive(long deviceControllerPtr, long deviceId);
 
+  private native boolean isConnectedDevicePointer(
+      long deviceControllerPtr, long nodeId, long devicePtr);
+
+  private native int[] unpairDevices(long deviceControllerPtr, long[] deviceIds);
+
+  private native void disconnectDevices(long deviceControllerPtr, long[] deviceIds);
+
+  private native int[] updateDevices(long deviceControllerPtr, long[] deviceIds);
+
+  private native boolean[] areDevicesActive(long deviceControllerPtr, long[] deviceIds);
+
   private native void shutdownSubscriptions(long deviceControllerPtr, long devicePtr);
 
+  private native void readAttributes(
+      long deviceControllerPtr,
+      long devicePtr,
+      int[] endpointIds,
+      long[] clusterIds,
+      long[] attributeIds,
+      @Nullable long[] knownVersions,
+      AttributeReportCollector collector);
+
+  private native long subscribeAttributes(
+      long deviceControllerPtr,
+      long devicePtr,
+      int[] endpointIds,
+      long[] clusterIds,
+      long[] attributeIds,
+      @Nullable long[] knownVersions,
+      int minInterval,
+      int maxInterval,
+      AttributeReportCollector collector);
+
+  private native void cancelSubscription(long deviceControllerPtr, long subscriptionHandle);
+
+  private native long newCommandBatch(
+      long deviceControllerPtr, long devicePtr, @Nullable Integer timedInvokeTimeoutMs);
+
+  private native void addClusterToCommandBatch(
+      long deviceControllerPtr, long batchPtr, long clusterPtr, int endpointId);
+
+  private native void sendCommandBatch(long deviceControllerPtr, long batchPtr);
+
+  static native void releaseCommandBatch(long batchPtr);
+
   static {
     System.loadLibrary("CHIPController");
   }
 
-  @SuppressWarnings("deprecation")
-  protected void finalize() throws Throwable {
-    super.finalize();
+  /** The IDs of a list of attribute paths, as the parallel arrays that the native layer takes. */
+  private static final class PathArrays {
+    final int[] endpointIds;
+    final long[] clusterIds;
+    final long[] attributeIds;
+
+    PathArrays(List<AttributePath> paths) {
+      endpointIds = new int[paths.size()];
+      clusterIds = new long[paths.size()];
+      attributeIds = new long[paths.size()];
+      for (int i = 0; i < paths.size(); i++) {
+        AttributePath path = paths.get(i);
+        endpointIds[i] = path.getEndpointId();
+        clusterIds[i] = path.getClusterId();
+        attributeIds[i] = path.getAttributeId();
+      }
+    }
+  }
+
+  /** Futures tracking the stages of one pairing or commissioning operation. */
+  static final class CommissioningFutures {
+    /** Completes once the PASE session with the commissionee is established. */
+    final CompletableFuture<Void> paseEstablished = new CompletableFuture<>();
+    /** Completes with the node ID once commissioning succeeds. */
+    final CompletableFuture<Long> commissioned = new CompletableFuture<>();
 
-    if (deviceControllerPtr != 0) {
-      deleteDeviceController(deviceControllerPtr);
-      deviceControllerPtr = 0;
+    void fail(Exception error) {
+      paseEstablished.completeExceptionally(error);
+      commissioned.completeExceptionally(error);
     }
   }
 
+  /** Receives the result of {@link #readAttributes(long, List, ReadAttributesCallback)}. */
+  public interface ReadAttributesCallback {
+    void onSuccess(AttributeValues values);
+
+    void onError(Exception error);
+  }
+
   /** Interface to listen for callbacks from CHIPDeviceController. */
   public interface CompletionListener {
 
@@ -0,0 +1,230 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Process-wide performance metrics of the device controller: event counters and latency
+ * histograms, fed by {@link ChipDeviceController} and by the native cluster callbacks.
+ *
+ * <p>All metrics use fixed memory, and recording them does not allocate. Use {@link #snapshot()}
+ * to read them, for example to export them with {@link Snapshot#toPrometheusText()}.
+ */
+public final class ChipMetrics {
+  /**
+   * Event counters. The native layer reports some of these by ordinal (see AndroidMetrics.h), so
+   * new values must only be appended.
+   */
+  public enum Counter {
+    /** Interactions (commands, reads, writes, subscriptions) that reported a failure. */
+    INTERACTION_FAILURES,
+    /** Attribute reports received on subscriptions. */
+    SUBSCRIPTION_REPORTS,
+    /** PASE session establishments that failed. */
+    PASE_FAILURES,
+    /** Pairing attempts that failed. */
+    PAIRING_FAILURES,
+    /** Commissioning attempts that succeeded. */
+    COMMISSIONING_SUCCESSES,
+    /** Commissioning attempts that failed. */
+    COMMISSIONING_FAILURES,
+    /** Connected device lookups (CASE) that failed. */
+    CASE_FAILURES,
+    /** Errors reported through {@link ChipDeviceController.CompletionListener#onError}. */
+    CONTROLLER_ERRORS,
+  }
+
+  /**
+   * Latency histograms. The native layer reports some of these by ordinal (see AndroidMetrics.h),
+   * so new values must only be appended.
+   */
+  public enum Timer {
+    /** Time from sending a command to receiving its response. */
+    COMMAND_ROUND_TRIP,
+    /** Time from sending an attribute write to receiving its response. */
+    WRITE_ROUND_TRIP,
+    /** Time from sending an attribute read to receiving its report. */
+    READ_ROUND_TRIP,
+    /** Time from starting to pair a device to PASE session establishment. */
+    PASE_ESTABLISHMENT,
+    /** Time from PASE session establishment (or commissioning start) to commissioning complete. */
+    COMMISSIONING,
+    /**
+     * Time to obtain a connected device that was not cached, including CASE session establishment
+     * when no session exists yet.
+     */
+    CASE_ESTABLISHMENT,
+  }
+
+  // Cached, since values() copies the array on every call.
+  private static final Counter[] COUNTERS = Counter.values();
+  private static final Timer[] TIMERS = Timer.values();
+
+  private static final ChipMetrics INSTANCE = new ChipMetrics();
+
+  private final AtomicLongArray counters = new AtomicLongArray(COUNTERS.length);
+  private final LatencyHistogram[] histograms = new LatencyHistogram[TIMERS.length];
+
+  private ChipMetrics() {
+    for (int i = 0; i < histograms.length; i++) {
+      histograms[i] = new LatencyHistogram();
+    }
+  }
+
+  public static ChipMetrics getInstance() {
+    return INSTANCE;
+  }
+
+  public void increment(Counter counter) {
+    counters.incrementAndGet(counter.ordinal());
+  }
+
+  public void record(Timer timer, long durationNanos) {
+    histograms[timer.ordinal()].record(durationNanos);
+  }
+
+  /** Records the time elapsed since {@code startNanos}, a {@link System#nanoTime()} value. */
+  public void recordSince(Timer timer, long startNanos) {
+    record(timer, System.nanoTime() - startNanos);
+  }
+
+  public long getCount(Counter counter) {
+    return counters.get(counter.ordinal());
+  }
+
+  public LatencyHistogram getHistogram(Timer timer) {
+    return histograms[timer.ordinal()];
+  }
+
+  /** Clears all counters and histograms. */
+  public void reset() {
+    for (int i = 0; i < COUNTERS.length; i++) {
+      counters.set(i, 0);
+    }
+    for (LatencyHistogram histogram : histograms) {
+      histogram.reset();
+    }
+  }
+
+  /** Returns a point-in-time copy of all metrics. */
+  public Snapshot snapshot() {
+    long[] counts = new long[COUNTERS.length];
+    for (int i = 0; i < counts.length; i++) {
+      counts[i] = counters.get(i);
+    }
+    LatencyHistogram.Snapshot[] timers = new LatencyHistogram.Snapshot[TIMERS.length];
+    for (int i = 0; i < timers.length; i++) {
+      timers[i] = histograms[i].snapshot();
+    }
+    return new Snapshot(System.nanoTime(), counts, timers);
+  }
+
+  // Called from the native layer.
+  private static void incrementFromNative(int counter) {
+    if (counter >= 0 && counter < COUNTERS.length) {
+      INSTANCE.counters.incrementAndGet(counter);
+    }
+  }
+
+  // Called from the native layer.
+  private static void recordFromNative(int timer, long durationNanos) {
+    if (timer >= 0 && timer < TIMERS.length) {
+      INSTANCE.histograms[timer].record(durationNanos);
+    }
+  }
+
+  /** An immutable copy of all metrics, taken at {@link #getTimestampNanos()}. */
+  public static final class Snapshot {
+    private final long timestampNanos;
+    private final long[] counts;
+    private final LatencyHistogram.Snapshot[] timers;
+
+    Snapshot(long timestampNanos, long[] counts, LatencyHistogram.Snapshot[] timers) {
+      this.timestampNanos = timestampNanos;
+      this.counts = counts;
+      this.timers = timers;
+    }
+
+    /** Returns the {@link System#nanoTime()} value at which this snapshot was taken. */
+    public long getTimestampNanos() {
+      return timestampNanos;
+    }
+
+    public long getCount(Counter counter) {
+      return counts[counter.ordinal()];
+    }
+
+    public LatencyHistogram.Snapshot getHistogram(Timer timer) {
+      return timers[timer.ordinal()];
+    }
+
+    /**
+     * Returns the average rate of the given counter per second between an earlier snapshot and
+     * this one, e.g. the subscription report rate.
+     */
+    public double getRatePerSecond(Counter counter, Snapshot earlier) {
+      long elapsedNanos = timestampNanos - earlier.timestampNanos;
+      if (elapsedNanos <= 0) {
+        return 0;
+      }
+      return (getCount(counter) - earlier.getCount(counter))
+          * (double) TimeUnit.SECONDS.toNanos(1)
+          / elapsedNanos;
+    }
+
+    /**
+     * Formats this snapshot in the Prometheus text exposition format. Counters are named {@code
+     * chip_controller_<counter>_total}, histograms {@code chip_controller_<timer>_seconds}.
+     */
+    public String toPrometheusText() {
+      StringBuilder out = new StringBuilder();
+      for (Counter counter : COUNTERS) {
+        String name = "chip_controller_" + counter.name().toLowerCase(Locale.ROOT) + "_total";
+        out.append("# TYPE ").append(name).append(" counter\n");
+        out.append(name).append(' ').append(getCount(counter)).append('\n');
+      }
+      for (Timer timer : TIMERS) {
+        String name = "chip_controller_" + timer.name().toLowerCase(Locale.ROOT) + "_seconds";
+        LatencyHistogram.Snapshot histogram = getHistogram(timer);
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long cumulative = 0;
+        for (int i = 0; i < LatencyHistogram.BUCKET_COUNT - 1; i++) {
+          cumulative += histogram.getBucketCount(i);
+          out.append(name)
+              .append("_bucket{le=\"")
+              .append(toSeconds(LatencyHistogram.getBucketUpperBoundNanos(i)))
+              .append("\"} ")
+              .append(cumulative)
+              .append('\n');
+        }
+        cumulative += histogram.getBucketCount(LatencyHistogram.BUCKET_COUNT - 1);
+        out.append(name).append("_bucket{le=\"+Inf\"} ").append(cumulative).append('\n');
+        out.append(name).append("_sum ").append(toSeconds(histogram.getSumNanos())).append('\n');
+        out.append(name).append("_count ").append(cumulative).append('\n');
+      }
+      return out.toString();
+    }
+
+    private static String toSeconds(long nanos) {
+      return Double.toString(nanos / (double) TimeUnit.SECONDS.toNanos(1));
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import chip.devicecontroller.ChipClusters.BaseChipCluster;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends commands to several clusters of one device, possibly on different endpoints, in a single
+ * Invoke interaction. Create one with {@link ChipDeviceController#newCommandBatch(long)}.
+ *
+ * <p>Commands invoked on the clusters returned by {@link #getCluster(int, long)} are collected
+ * instead of sent, and go out together on {@link #send()}. Each response is still delivered to the
+ * callback passed with its command, on the callback executor of the controller:
+ *
+ * <pre>{@code
+ * try (CommandBatch batch = controller.newCommandBatch(devicePtr)) {
+ *   batch.getCluster(1, OnOffCluster.CLUSTER_ID, OnOffCluster.class).on(onCallback);
+ *   batch
+ *       .getCluster(1, LevelControlCluster.CLUSTER_ID, LevelControlCluster.class)
+ *       .moveToLevel(levelCallback, 128, 0, 0, 0);
+ *   batch.send();
+ * }
+ * }</pre>
+ *
+ * <p>Commands the device does not answer fail with an error, as do the commands of a batch that is
+ * closed without being sent. Devices that handle a single command per request answer only the
+ * first one; see {@link ChipDeviceController#newCommandBatch(long)}. A batch sent without {@link
+ * ChipDeviceController#newCommandBatch(long, int) a timeout} rejects commands invoked with one.
+ */
+public final class CommandBatch implements AutoCloseable {
+  private final ChipDeviceController controller;
+  private final long devicePtr;
+  private final long batchPtr;
+  private final NativeCleaner.Cleanable cleanable;
+  private final List<BaseChipCluster> clusters = new ArrayList<>();
+  private boolean sent;
+  private boolean closed;
+
+  CommandBatch(
+      ChipDeviceController controller, long devicePtr, @Nullable Integer timedInvokeTimeoutMs) {
+    this.controller = controller;
+    this.devicePtr = devicePtr;
+    batchPtr = controller.newNativeCommandBatch(devicePtr, timedInvokeTimeoutMs);
+
+    final long ptr = batchPtr;
+    cleanable = NativeCleaner.register(this, () -> ChipDeviceController.releaseCommandBatch(ptr));
+  }
+
+  /**
+   * Returns a new cluster object whose commands are added to this batch, or null if the cluster ID
+   * is not supported. Its callbacks run on the callback executor of the controller.
+   */
+  @Nullable
+  public synchronized BaseChipCluster getCluster(int endpointId, long clusterId) {
+    checkUnsent();
+    BaseChipCluster cluster = ChipClusters.newCluster(clusterId, devicePtr, endpointId);
+    if (cluster == null) {
+      return null;
+    }
+    cluster.setCallbackExecutor(controller.getCallbackExecutor());
+    clusters.add(cluster);
+    controller.addClusterToCommandBatch(batchPtr, cluster.chipClusterPtr, endpointId);
+    return cluster;
+  }
+
+  /**
+   * Typed variant of {@link #getCluster(int, long)}, for example {@code getCluster(1,
+   * OnOffCluster.CLUSTER_ID, OnOffCluster.class)}.
+   */
+  @Nullable
+  public <T extends BaseChipCluster> T getCluster(
+      int endpointId, long clusterId, Class<T> clusterClass) {
+    return clusterClass.cast(getCluster(endpointId, clusterId));
+  }
+
+  /**
+   * Sends the commands of this batch in a single Invoke Request. Commands invoked on its clusters
+   * afterwards are sent on their own. If sending fails, the batch is closed and its commands fail.
+   */
+  public synchronized void send() {
+    checkUnsent();
+    sent = true;
+    try {
+      controller.sendCommandBatch(batchPtr);
+    } catch (ChipDeviceControllerException e) {
+      close();
+      throw e;
+    }
+  }
+
+  /**
+   * Releases the clusters of this batch. Commands of a batch that was not sent fail; those of a
+   * sent batch are still delivered.
+   */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    // Release the batch first, so that no command is routed to it through a closed cluster.
+    cleanable.clean();
+    for (BaseChipCluster cluster : clusters) {
+      cluster.close();
+    }
+    clusters.clear();
+  }
+
+  private void checkUnsent() {
+    if (sent || closed) {
+      throw new IllegalStateException("Command batch has already been sent or closed");
+    }
+  }
+}
@@ -0,0 +1,313 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import chip.devicecontroller.ChipClusters.DefaultClusterCallback;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Pipelines the commands sent to one node: up to a window of commands are in flight at once,
+ * further commands queue until one of them completes, and the results complete in submission
+ * order. A scripted sequence of commands thus runs at link speed instead of one round trip per
+ * command, without flooding the node.
+ *
+ * <p>Commands are invoked through the generated {@link ChipClusters} methods, for example:
+ *
+ * <pre>{@code
+ * CommandPipeline pipeline = controller.getCommandPipeline(nodeId);
+ * pipeline.submitStatusCommand(callback -> onOff.on(callback));
+ * pipeline.submitStatusCommand(callback -> levelControl.moveToLevel(callback, 128, 0, 0, 0));
+ * }</pre>
+ *
+ * <p>Commands start in submission order. A failed command does not stop the pipeline; only its own
+ * result fails, and so does a command that takes longer than the {@link #setCommandTimeout(long)
+ * command timeout}, which frees its slot. The pipelines of a controller fail their queued commands
+ * when the node is unpaired or the controller is shut down.
+ */
+public final class CommandPipeline {
+  /** Invokes one command through a generated cluster method. */
+  public interface Command<T> {
+    /**
+     * Invokes the command, and completes {@code result} from its callback. The command counts as
+     * in flight until {@code result} completes.
+     */
+    void invoke(CompletableFuture<T> result);
+  }
+
+  private final Object lock = new Object();
+  // Commands waiting for a free slot in the window.
+  private final ArrayDeque<Entry<?>> queue = new ArrayDeque<>();
+  // Commands whose result has not been delivered yet, in submission order.
+  private final ArrayDeque<Entry<?>> undelivered = new ArrayDeque<>();
+  private final Executor dispatchExecutor;
+  private int window;
+  private int inFlight;
+  private volatile long commandTimeoutNanos;
+  private boolean dispatching;
+  private boolean delivering;
+  @Nullable private Exception closedError;
+
+  /**
+   * Creates a pipeline that starts queued commands on the common fork-join pool.
+   *
+   * @param window the maximum number of commands in flight at once
+   */
+  public CommandPipeline(int window) {
+    this(window, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a pipeline.
+   *
+   * @param window the maximum number of commands in flight at once
+   * @param dispatchExecutor the executor used to start queued commands once a slot frees up, so
+   *     that they are never started from a callback thread
+   */
+  public CommandPipeline(int window, Executor dispatchExecutor) {
+    checkWindow(window);
+    this.window = window;
+    this.dispatchExecutor = dispatchExecutor;
+  }
+
+  /**
+   * Queues a command. It is invoked on the calling thread if the window has a free slot and no
+   * other thread is starting commands; otherwise it is invoked by that thread or on the dispatch
+   * executor, after the commands submitted before it.
+   */
+  public <T> CompletableFuture<T> submit(Command<T> command) {
+    Entry<T> entry = new Entry<>(command);
+    synchronized (lock) {
+      if (closedError != null) {
+        entry.result.completeExceptionally(closedError);
+        return entry.result;
+      }
+      queue.add(entry);
+      undelivered.add(entry);
+    }
+    dispatch();
+    return entry.result;
+  }
+
+  /**
+   * Queues a command that reports its status through a {@link DefaultClusterCallback}, such as
+   * {@code callback -> onOff.on(callback)}.
+   */
+  public CompletableFuture<Void> submitStatusCommand(Consumer<DefaultClusterCallback> command) {
+    return submit(
+        result ->
+            command.accept(
+                new DefaultClusterCallback() {
+                  @Override
+                  public void onSuccess() {
+                    result.complete(null);
+                  }
+
+                  @Override
+                  public void onError(Exception error) {
+                    result.completeExceptionally(error);
+                  }
+                }));
+  }
+
+  /** Changes the maximum number of commands in flight at once. */
+  public void setWindow(int window) {
+    checkWindow(window);
+    synchronized (lock) {
+      this.window = window;
+    }
+    dispatch();
+  }
+
+  public int getWindow() {
+    synchronized (lock) {
+      return window;
+    }
+  }
+
+  /**
+   * Sets how long a command may stay in flight before its result fails with a {@link
+   * java.util.concurrent.TimeoutException} and its slot is given to the next command. The timeout
+   * applies to commands started afterwards. A value of zero, the default, disables the timeout.
+   */
+  public void setCommandTimeout(long timeoutMillis) {
+    if (timeoutMillis < 0) {
+      throw new IllegalArgumentException("Timeout must not be negative");
+    }
+    commandTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+  }
+
+  /** Returns the number of commands sent whose callback has not been called yet. */
+  public int getInFlightCount() {
+    synchronized (lock) {
+      return inFlight;
+    }
+  }
+
+  /** Returns the number of commands waiting for a free slot in the window. */
+  public int getQueuedCount() {
+    synchronized (lock) {
+      return queue.size();
+    }
+  }
+
+  /** Returns whether no command is queued, in flight or waiting for its result to be delivered. */
+  boolean isIdle() {
+    synchronized (lock) {
+      return undelivered.isEmpty();
+    }
+  }
+
+  /**
+   * Fails the queued commands and every command submitted later with {@code error}. Commands in
+   * flight still complete, and results still complete in submission order.
+   */
+  void close(Exception error) {
+    List<Entry<?>> dropped;
+    boolean deliver;
+    synchronized (lock) {
+      if (closedError != null) {
+        return;
+      }
+      closedError = error;
+      dropped = new ArrayList<>(queue);
+      queue.clear();
+      for (Entry<?> entry : dropped) {
+        entry.answered = true;
+      }
+      deliver = !delivering;
+      delivering = true;
+    }
+    for (Entry<?> entry : dropped) {
+      entry.response.completeExceptionally(error);
+    }
+    if (deliver) {
+      deliverAnswered();
+    }
+  }
+
+  /** Starts queued commands while the window has free slots, one thread at a time. */
+  private void dispatch() {
+    synchronized (lock) {
+      // If another thread is dispatching, it starts the commands queued since, after its own.
+      if (dispatching) {
+        return;
+      }
+      dispatching = true;
+    }
+    while (true) {
+      Entry<?> entry;
+      synchronized (lock) {
+        if (inFlight >= window || queue.isEmpty()) {
+          dispatching = false;
+          return;
+        }
+        inFlight++;
+        entry = queue.poll();
+      }
+      start(entry);
+    }
+  }
+
+  private <T> void start(Entry<T> entry) {
+    entry.response.whenComplete((value, error) -> onResponse(entry));
+    long timeoutNanos = commandTimeoutNanos;
+    if (timeoutNanos > 0) {
+      Timeouts.failAfter(
+          entry.response, timeoutNanos, "Timed out waiting for the command response");
+    }
+    try {
+      entry.command.invoke(entry.response);
+    } catch (RuntimeException e) {
+      entry.response.completeExceptionally(e);
+    }
+  }
+
+  private void onResponse(Entry<?> entry) {
+    boolean deliver;
+    boolean queued;
+    synchronized (lock) {
+      inFlight--;
+      entry.answered = true;
+      // If another thread is delivering, it picks this result up once those before it are out.
+      deliver = !delivering;
+      delivering = true;
+      queued = !queue.isEmpty();
+    }
+    if (deliver) {
+      deliverAnswered();
+    }
+    if (queued) {
+      dispatchExecutor.execute(this::dispatch);
+    }
+  }
+
+  /** Delivers the results of answered commands, stopping at the first unanswered one. */
+  private void deliverAnswered() {
+    while (true) {
+      Entry<?> next;
+      synchronized (lock) {
+        next = undelivered.peek();
+        if (next == null || !next.answered) {
+          delivering = false;
+          return;
+        }
+        undelivered.poll();
+      }
+      next.deliver();
+    }
+  }
+
+  private static void checkWindow(int window) {
+    if (window < 1) {
+      throw new IllegalArgumentException("Window must be at least 1");
+    }
+  }
+
+  private static final class Entry<T> {
+    final Command<T> command;
+    // Completed by the command callback, in any order.
+    final CompletableFuture<T> response = new CompletableFuture<>();
+    // Completed from response, in submission order.
+    final CompletableFuture<T> result = new CompletableFuture<>();
+    // Guarded by the pipeline lock.
+    boolean answered;
+
+    Entry(Command<T> command) {
+      this.command = command;
+    }
+
+    void deliver() {
+      response.whenComplete(
+          (value, error) -> {
+            if (error != null) {
+              result.completeExceptionally(error);
+            } else {
+              result.complete(value);
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,140 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.concurrent.CompletableFuture;
+
+/** A device to be commissioned by a {@link CommissioningScheduler}. */
+public final class CommissioningJob {
+  /** Opens a BLE connection to a commissionable device. */
+  public interface BleConnector {
+    /**
+     * Connects to the device advertising the given discriminator. The returned future completes
+     * with the BLE connection ID to pair over. If the job times out or the scheduler shuts down
+     * first, the connection it completes with is passed to {@link #disconnect(int)}.
+     */
+    CompletableFuture<Integer> connect(int discriminator);
+
+    /**
+     * Closes a connection that {@link #connect(int)} completed with after its job had already timed
+     * out or been stopped, since no controller pairs over it. Does nothing by default.
+     */
+    default void disconnect(int connId) {}
+  }
+
+  private final long nodeId;
+  private final int discriminator;
+  private final long setupPincode;
+  @Nullable private final NetworkCredentials networkCredentials;
+  @Nullable private final BleConnector bleConnector;
+  @Nullable private final String address;
+  private final int port;
+
+  private CommissioningJob(
+      long nodeId,
+      int discriminator,
+      long setupPincode,
+      @Nullable NetworkCredentials networkCredentials,
+      @Nullable BleConnector bleConnector,
+      @Nullable String address,
+      int port) {
+    this.nodeId = nodeId;
+    this.discriminator = discriminator;
+    this.setupPincode = setupPincode;
+    this.networkCredentials = networkCredentials;
+    this.bleConnector = bleConnector;
+    this.address = address;
+    this.port = port;
+  }
+
+  /**
+   * Creates a job that pairs over BLE and provisions the given network credentials.
+   *
+   * @param nodeId the node ID to assign to the device
+   * @param discriminator the discriminator the device advertises
+   * @param setupPincode the pincode for the device
+   * @param networkCredentials the credentials (Wi-Fi or Thread) to be provisioned
+   * @param bleConnector opens the BLE connection to the device when the job starts
+   */
+  public static CommissioningJob overBle(
+      long nodeId,
+      int discriminator,
+      long setupPincode,
+      NetworkCredentials networkCredentials,
+      BleConnector bleConnector) {
+    return new CommissioningJob(
+        nodeId, discriminator, setupPincode, networkCredentials, bleConnector, null, 0);
+  }
+
+  /**
+   * Creates a job that pairs with a device already on the network.
+   *
+   * @param nodeId the node ID to assign to the device
+   * @param address the IP address at which the device is located
+   * @param port the port at which the device is located
+   * @param discriminator the discriminator of the device
+   * @param setupPincode the pincode for the device
+   */
+  public static CommissioningJob onNetwork(
+      long nodeId, String address, int port, int discriminator, long setupPincode) {
+    return new CommissioningJob(nodeId, discriminator, setupPincode, null, null, address, port);
+  }
+
+  public long getNodeId() {
+    return nodeId;
+  }
+
+  public int getDiscriminator() {
+    return discriminator;
+  }
+
+  public long getSetupPincode() {
+    return setupPincode;
+  }
+
+  @Nullable
+  public NetworkCredentials getNetworkCredentials() {
+    return networkCredentials;
+  }
+
+  /** Returns the BLE connector, or null if this job pairs over the network. */
+  @Nullable
+  public BleConnector getBleConnector() {
+    return bleConnector;
+  }
+
+  /** Returns the IP address of the device, or null if this job pairs over BLE. */
+  @Nullable
+  public String getAddress() {
+    return address;
+  }
+
+  public int getPort() {
+    return port;
+  }
+
+  public boolean isBle() {
+    return bleConnector != null;
+  }
+
+  @Override
+  public String toString() {
+    return "CommissioningJob{ nodeId=" + nodeId + ", ble=" + isBle() + " }";
+  }
+}
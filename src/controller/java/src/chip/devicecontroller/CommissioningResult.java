@@ -0,0 +1,117 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Outcome of a {@link CommissioningJob}, including how long each stage took. Stages that did not
+ * run (for example the BLE connection for an on-network job, or every stage after a failure)
+ * report zero.
+ */
+public final class CommissioningResult {
+  private final CommissioningJob job;
+  @Nullable private final ChipDeviceController controller;
+  @Nullable private final Throwable error;
+  private final long queuedMillis;
+  private final long bleConnectMillis;
+  private final long paseMillis;
+  private final long commissioningMillis;
+
+  CommissioningResult(
+      CommissioningJob job,
+      @Nullable ChipDeviceController controller,
+      @Nullable Throwable error,
+      long queuedMillis,
+      long bleConnectMillis,
+      long paseMillis,
+      long commissioningMillis) {
+    this.job = job;
+    this.controller = controller;
+    this.error = error;
+    this.queuedMillis = queuedMillis;
+    this.bleConnectMillis = bleConnectMillis;
+    this.paseMillis = paseMillis;
+    this.commissioningMillis = commissioningMillis;
+  }
+
+  public CommissioningJob getJob() {
+    return job;
+  }
+
+  /**
+   * Returns the controller, and thus the fabric, the job ran on, or null if it failed before
+   * getting one.
+   */
+  @Nullable
+  public ChipDeviceController getController() {
+    return controller;
+  }
+
+  public boolean isSuccess() {
+    return error == null;
+  }
+
+  /** Returns the failure that ended the job, or null if it succeeded. */
+  @Nullable
+  public Throwable getError() {
+    return error;
+  }
+
+  /** Time spent waiting for a free controller. */
+  public long getQueuedMillis() {
+    return queuedMillis;
+  }
+
+  /** Time spent opening the BLE connection. */
+  public long getBleConnectMillis() {
+    return bleConnectMillis;
+  }
+
+  /** Time from starting pairing until the PASE session was established. */
+  public long getPaseMillis() {
+    return paseMillis;
+  }
+
+  /** Time from PASE establishment until commissioning completed. */
+  public long getCommissioningMillis() {
+    return commissioningMillis;
+  }
+
+  /** Total time from submission until the job finished. */
+  public long getTotalMillis() {
+    return queuedMillis + bleConnectMillis + paseMillis + commissioningMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "CommissioningResult{ nodeId="
+        + job.getNodeId()
+        + ", success="
+        + isSuccess()
+        + ", queuedMillis="
+        + queuedMillis
+        + ", bleConnectMillis="
+        + bleConnectMillis
+        + ", paseMillis="
+        + paseMillis
+        + ", commissioningMillis="
+        + commissioningMillis
+        + " }";
+  }
+}
@@ -0,0 +1,375 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import chip.devicecontroller.ChipDeviceController.CommissioningFutures;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Commissions a queue of devices with bounded parallelism.
+ *
+ * <p>A {@link ChipDeviceController} commissions one device at a time, so parallelism comes from
+ * spreading jobs over several controllers: each running job occupies one controller (and, for BLE
+ * jobs, its BLE connection slot) until it finishes. Jobs start in submission order as controllers
+ * become free. A job that does not finish within the {@link #setJobTimeout(long) job timeout} is
+ * stopped and fails with a {@link TimeoutException}, so that a stalled device does not hold its
+ * controller forever.
+ */
+public final class CommissioningScheduler {
+  private static final String TAG = CommissioningScheduler.class.getSimpleName();
+  private static final long DEFAULT_JOB_TIMEOUT_MS = 5 * 60_000L;
+
+  private final Object lock = new Object();
+  private final ArrayDeque<ChipDeviceController> idleControllers;
+  private final ArrayDeque<Pending> queue = new ArrayDeque<>();
+  private final int parallelism;
+  private final Executor dispatchExecutor;
+  private volatile long jobTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_JOB_TIMEOUT_MS);
+  // Jobs that hold a controller.
+  private final Set<Run> running = new HashSet<>();
+  private boolean shutdown;
+
+  /**
+   * Creates a scheduler that dispatches jobs on the common fork-join pool.
+   *
+   * @param controllers the controllers jobs may run on
+   * @param parallelism the maximum number of jobs running at once
+   */
+  public CommissioningScheduler(List<ChipDeviceController> controllers, int parallelism) {
+    this(controllers, parallelism, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Creates a scheduler.
+   *
+   * @param controllers the controllers jobs may run on
+   * @param parallelism the maximum number of jobs running at once
+   * @param dispatchExecutor the executor used to start jobs, so that they are never started from
+   *     the CHIP event loop thread
+   */
+  public CommissioningScheduler(
+      List<ChipDeviceController> controllers, int parallelism, Executor dispatchExecutor) {
+    if (controllers.isEmpty()) {
+      throw new IllegalArgumentException("At least one controller is required");
+    }
+    if (parallelism < 1) {
+      throw new IllegalArgumentException("Parallelism must be at least 1");
+    }
+    this.idleControllers = new ArrayDeque<>(controllers);
+    // Never more than the number of controllers in practice, since each running job holds one.
+    this.parallelism = parallelism;
+    this.dispatchExecutor = dispatchExecutor;
+  }
+
+  /**
+   * Queues a job. The returned future always completes normally; check {@link
+   * CommissioningResult#isSuccess()} for the outcome.
+   */
+  public CompletableFuture<CommissioningResult> submit(CommissioningJob job) {
+    Pending pending = new Pending(job);
+    boolean rejected;
+    synchronized (lock) {
+      rejected = shutdown;
+      if (!rejected) {
+        queue.add(pending);
+      }
+    }
+    if (rejected) {
+      pending.fail(new IllegalStateException("Scheduler was shut down"));
+    } else {
+      dispatch();
+    }
+    return pending.result;
+  }
+
+  /** Queues several jobs, preserving their order. */
+  public List<CompletableFuture<CommissioningResult>> submitAll(
+      Collection<CommissioningJob> jobs) {
+    List<CompletableFuture<CommissioningResult>> results = new ArrayList<>(jobs.size());
+    for (CommissioningJob job : jobs) {
+      results.add(submit(job));
+    }
+    return results;
+  }
+
+  /** Adds a controller that jobs may run on, starting queued jobs on it if possible. */
+  public void addController(ChipDeviceController controller) {
+    synchronized (lock) {
+      idleControllers.add(controller);
+    }
+    dispatch();
+  }
+
+  /**
+   * Sets how long a job may run, from the time it gets a controller, before it is stopped. It
+   * applies to jobs started afterwards. A value of zero disables the timeout. Defaults to 5
+   * minutes.
+   */
+  public void setJobTimeout(long timeoutMillis) {
+    if (timeoutMillis < 0) {
+      throw new IllegalArgumentException("Timeout must not be negative");
+    }
+    jobTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+  }
+
+  /**
+   * Stops starting jobs. Queued jobs, jobs submitted afterwards and running jobs fail with an
+   * {@link IllegalStateException}; pairing of running jobs is stopped. Calling this more than once
+   * has no effect.
+   */
+  public void shutdown() {
+    List<Pending> queued;
+    List<Run> stopped;
+    synchronized (lock) {
+      if (shutdown) {
+        return;
+      }
+      shutdown = true;
+      queued = new ArrayList<>(queue);
+      queue.clear();
+      stopped = new ArrayList<>(running);
+    }
+    IllegalStateException error = new IllegalStateException("Scheduler was shut down");
+    for (Pending pending : queued) {
+      pending.fail(error);
+    }
+    for (Run run : stopped) {
+      run.stop(error);
+    }
+  }
+
+  /** Returns the number of jobs waiting for a free controller. */
+  public int getQueuedJobCount() {
+    synchronized (lock) {
+      return queue.size();
+    }
+  }
+
+  /** Returns the number of jobs currently running. */
+  public int getRunningJobCount() {
+    synchronized (lock) {
+      return running.size();
+    }
+  }
+
+  private void dispatch() {
+    while (true) {
+      Run run;
+      synchronized (lock) {
+        if (running.size() >= parallelism || queue.isEmpty() || idleControllers.isEmpty()) {
+          return;
+        }
+        run = new Run(idleControllers.poll(), queue.poll());
+        running.add(run);
+      }
+      dispatchExecutor.execute(run::start);
+    }
+  }
+
+  private void release(Run run) {
+    synchronized (lock) {
+      running.remove(run);
+      idleControllers.add(run.controller);
+    }
+    dispatch();
+  }
+
+  private static long elapsedMillis(long fromNanos, long toNanos) {
+    return TimeUnit.NANOSECONDS.toMillis(toNanos - fromNanos);
+  }
+
+  private static final class Pending {
+    final CommissioningJob job;
+    final CompletableFuture<CommissioningResult> result = new CompletableFuture<>();
+    final long submittedNanos = System.nanoTime();
+
+    Pending(CommissioningJob job) {
+      this.job = job;
+    }
+
+    /** Fails a job that never got a controller. */
+    void fail(Exception error) {
+      long queuedMillis = elapsedMillis(submittedNanos, System.nanoTime());
+      result.complete(new CommissioningResult(job, null, error, queuedMillis, 0, 0, 0));
+    }
+  }
+
+  /** One job running on one controller. */
+  private final class Run {
+    private final ChipDeviceController controller;
+    private final Pending pending;
+    private long startNanos;
+    private volatile long connectedNanos;
+    private volatile long paseNanos;
+    // Guarded by this. Pairing is set once pairing has started on the controller, so that a timeout
+    // stops it and finishing releases its BLE connection slot; timedOut keeps a BLE connection that
+    // completes after the timeout from starting it.
+    private boolean pairing;
+    private boolean timedOut;
+    private boolean finished;
+    @Nullable private volatile ScheduledFuture<?> timeout;
+
+    Run(ChipDeviceController controller, Pending pending) {
+      this.controller = controller;
+      this.pending = pending;
+    }
+
+    void start() {
+      CommissioningJob job = pending.job;
+      startNanos = System.nanoTime();
+      long timeoutNanos = jobTimeoutNanos;
+      if (timeoutNanos > 0) {
+        timeout = Timeouts.schedule(() -> timeOut(timeoutNanos), timeoutNanos);
+      }
+      if (!job.isBle()) {
+        synchronized (this) {
+          pairing = true;
+        }
+        connectedNanos = startNanos;
+        track(
+            controller.pairDeviceWithAddressTracked(
+                job.getNodeId(),
+                job.getAddress(),
+                job.getPort(),
+                job.getDiscriminator(),
+                job.getSetupPincode(),
+                /* csrNonce= */ null));
+        return;
+      }
+
+      CompletableFuture<Integer> connection;
+      try {
+        connection = job.getBleConnector().connect(job.getDiscriminator());
+      } catch (RuntimeException e) {
+        finish(e);
+        return;
+      }
+      connection.whenComplete(
+          (connId, error) -> {
+            boolean late;
+            synchronized (this) {
+              late = timedOut;
+              pairing = !late && error == null;
+            }
+            if (late) {
+              // The controller may already run another job, so only the connector can close it.
+              if (error == null) {
+                disconnectLate(job, connId);
+              }
+              return;
+            }
+            if (error != null) {
+              finish(error);
+              return;
+            }
+            connectedNanos = System.nanoTime();
+            track(
+                controller.pairDeviceTracked(
+                    connId, job.getNodeId(), job.getSetupPincode(), job.getNetworkCredentials()));
+          });
+    }
+
+    private void disconnectLate(CommissioningJob job, int connId) {
+      try {
+        job.getBleConnector().disconnect(connId);
+      } catch (RuntimeException e) {
+        Log.w(TAG, "Failed to close BLE connection " + connId + " of node " + job.getNodeId(), e);
+      }
+    }
+
+    private void track(CommissioningFutures futures) {
+      futures.paseEstablished.thenRun(() -> paseNanos = System.nanoTime());
+      futures.commissioned.whenComplete((nodeId, error) -> finish(error));
+    }
+
+    private void timeOut(long timeoutNanos) {
+      stop(
+          new TimeoutException(
+              "Commissioning node "
+                  + pending.job.getNodeId()
+                  + " timed out after "
+                  + TimeUnit.NANOSECONDS.toMillis(timeoutNanos)
+                  + " ms"));
+    }
+
+    /** Stops the job on its controller and fails it with {@code error}. */
+    void stop(Exception error) {
+      boolean stopPairing;
+      synchronized (this) {
+        if (finished) {
+          return;
+        }
+        timedOut = true;
+        stopPairing = pairing;
+      }
+      if (stopPairing) {
+        // Fails the futures of the job, which finishes it.
+        controller.abortCommissioning(pending.job.getNodeId(), error);
+      }
+      // A BLE connection that is still being established is closed once it completes.
+      finish(error);
+    }
+
+    private void finish(Throwable error) {
+      boolean releaseBle;
+      synchronized (this) {
+        if (finished) {
+          return;
+        }
+        finished = true;
+        releaseBle = pairing && pending.job.isBle();
+      }
+      ScheduledFuture<?> timeout = this.timeout;
+      if (timeout != null) {
+        timeout.cancel(false);
+      }
+      long endNanos = System.nanoTime();
+      if (releaseBle) {
+        controller.closeBleConnection();
+      }
+
+      long connected = connectedNanos != 0 ? connectedNanos : endNanos;
+      long pase = paseNanos != 0 ? paseNanos : endNanos;
+      CommissioningResult result =
+          new CommissioningResult(
+              pending.job,
+              controller,
+              error,
+              elapsedMillis(pending.submittedNanos, startNanos),
+              elapsedMillis(startNanos, connected),
+              elapsedMillis(connected, pase),
+              elapsedMillis(pase, endNanos));
+
+      release(this);
+      pending.result.complete(result);
+    }
+  }
+}
@@ -0,0 +1,197 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches connected device pointers by node ID, so that repeated lookups for the same node do not
+ * cross JNI or wait for CASE session setup.
+ *
+ * <p>Concurrent lookups for a node that is not cached share a single in-flight lookup, but each
+ * caller gets its own future, so that completing or cancelling it does not affect other callers.
+ * Failed lookups are never cached, and lookups that take longer than the lookup timeout fail with
+ * a {@link java.util.concurrent.TimeoutException}.
+ *
+ * <p>The native side can release a device, for instance when its session fails, without going
+ * through this cache. So each cached pointer is checked with the {@link Validator} before it is
+ * served again, and looked up anew if it is no longer the connected device of its node.
+ */
+class ConnectedDeviceCache {
+  /** Performs the uncached lookup of a connected device pointer. */
+  interface Loader {
+    CompletableFuture<Long> load(long nodeId);
+  }
+
+  /** Checks that a cached device pointer is still the connected device of its node. */
+  interface Validator {
+    boolean isValid(long nodeId, long devicePtr);
+  }
+
+  /** Notified when a cached device pointer is dropped and may no longer be valid. */
+  interface InvalidationListener {
+    void onInvalidated(long devicePtr);
+  }
+
+  private static final class Entry {
+    final CompletableFuture<Long> future;
+    volatile long expiresAtNanos = Long.MAX_VALUE;
+
+    Entry(CompletableFuture<Long> future) {
+      this.future = future;
+    }
+  }
+
+  private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+  private final Loader loader;
+  private final Validator validator;
+  private final InvalidationListener invalidationListener;
+  private volatile long ttlNanos;
+  private volatile long lookupTimeoutNanos;
+
+  ConnectedDeviceCache(
+      Loader loader,
+      Validator validator,
+      InvalidationListener invalidationListener,
+      long ttlMillis,
+      long lookupTimeoutMillis) {
+    this.loader = loader;
+    this.validator = validator;
+    this.invalidationListener = invalidationListener;
+    setTtl(ttlMillis);
+    setLookupTimeout(lookupTimeoutMillis);
+  }
+
+  /** Sets how long a pointer stays cached after it is obtained. Zero disables caching. */
+  void setTtl(long ttlMillis) {
+    if (ttlMillis < 0) {
+      throw new IllegalArgumentException("TTL must not be negative");
+    }
+    ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    if (ttlMillis == 0) {
+      invalidateAll();
+    }
+  }
+
+  /** Sets how long a lookup may take before it fails. Zero disables the timeout. */
+  void setLookupTimeout(long timeoutMillis) {
+    if (timeoutMillis < 0) {
+      throw new IllegalArgumentException("Timeout must not be negative");
+    }
+    lookupTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+  }
+
+  CompletableFuture<Long> get(long nodeId) {
+    if (ttlNanos == 0) {
+      Entry uncached = new Entry(new CompletableFuture<>());
+      load(nodeId, uncached);
+      return uncached.future;
+    }
+
+    while (true) {
+      Entry entry = entries.get(nodeId);
+      if (entry != null) {
+        if (!entry.future.isDone()
+            || entry.future.isCompletedExceptionally()
+            || (System.nanoTime() - entry.expiresAtNanos < 0
+                && validator.isValid(nodeId, entry.future.join()))) {
+          return forCaller(entry.future);
+        }
+        // Expired or released; drop it unless another thread already replaced it.
+        if (entries.remove(nodeId, entry)) {
+          notifyInvalidated(entry);
+        }
+        continue;
+      }
+
+      Entry created = new Entry(new CompletableFuture<>());
+      if (entries.putIfAbsent(nodeId, created) != null) {
+        continue;
+      }
+      load(nodeId, created);
+      return forCaller(created.future);
+    }
+  }
+
+  // Unlike thenApply(), keeps the exception of a failed lookup unwrapped.
+  private static CompletableFuture<Long> forCaller(CompletableFuture<Long> shared) {
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    shared.whenComplete(
+        (devicePtr, error) -> {
+          if (error != null) {
+            future.completeExceptionally(error);
+          } else {
+            future.complete(devicePtr);
+          }
+        });
+    return future;
+  }
+
+  private void load(long nodeId, Entry entry) {
+    entry.future.whenComplete(
+        (devicePtr, error) -> {
+          if (error != null) {
+            entries.remove(nodeId, entry);
+          }
+        });
+    long timeoutNanos = lookupTimeoutNanos;
+    if (timeoutNanos > 0) {
+      Timeouts.failAfter(
+          entry.future, timeoutNanos, "Timed out getting the connected device of node " + nodeId);
+    }
+
+    CompletableFuture<Long> result;
+    try {
+      result = loader.load(nodeId);
+    } catch (RuntimeException e) {
+      entry.future.completeExceptionally(e);
+      return;
+    }
+
+    result.whenComplete(
+        (devicePtr, error) -> {
+          if (error != null) {
+            entry.future.completeExceptionally(error);
+          } else {
+            entry.expiresAtNanos = System.nanoTime() + ttlNanos;
+            entry.future.complete(devicePtr);
+          }
+        });
+  }
+
+  void invalidate(long nodeId) {
+    Entry entry = entries.remove(nodeId);
+    if (entry != null) {
+      notifyInvalidated(entry);
+    }
+  }
+
+  void invalidateAll() {
+    for (Long nodeId : entries.keySet()) {
+      invalidate(nodeId);
+    }
+  }
+
+  private void notifyInvalidated(Entry entry) {
+    if (entry.future.isDone() && !entry.future.isCompletedExceptionally()) {
+      invalidationListener.onInvalidated(entry.future.join());
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The versions of the attribute values of one device that the application already has, used to
+ * skip unchanged attributes when reading or subscribing again.
+ *
+ * <p>Pass the same instance to every read or subscription of the device; each result records the
+ * versions of the values it reports. Attributes whose version is unchanged are not decoded or
+ * delivered again, and show up in {@link AttributeValues#getUnchanged()} instead.
+ *
+ * <p>The Interaction Model of this controller neither sends DataVersionFilters nor surfaces the
+ * data versions of the device, so versions are hashes of the encoded values and the device still
+ * sends every value. This saves the decoding and delivery cost, not the bandwidth.
+ */
+public final class DataVersions {
+  private final ConcurrentHashMap<AttributePath, Long> versions = new ConcurrentHashMap<>();
+
+  /** Returns the recorded version of an attribute, or null if there is none. */
+  @Nullable
+  public Long get(AttributePath path) {
+    return versions.get(path);
+  }
+
+  /** Records the versions of a read result or report. Attributes with errors are forgotten. */
+  public void update(AttributeValues values) {
+    versions.putAll(values.getDataVersions());
+    versions.keySet().removeAll(values.getErrors().keySet());
+  }
+
+  /** Forgets the version of an attribute, so that its next value is delivered. */
+  public void remove(AttributePath path) {
+    versions.remove(path);
+  }
+
+  /** Forgets every version. */
+  public void clear() {
+    versions.clear();
+  }
+
+  /**
+   * Returns the recorded versions of the attributes matched by {@code paths}, as (endpoint ID,
+   * cluster ID, attribute ID, version) quadruples for the native layer, or null if there are none.
+   */
+  @Nullable
+  long[] toKnownVersions(List<AttributePath> paths) {
+    List<Map.Entry<AttributePath, Long>> matching = new ArrayList<>();
+    for (Map.Entry<AttributePath, Long> entry : versions.entrySet()) {
+      for (AttributePath path : paths) {
+        if (path.matches(entry.getKey())) {
+          matching.add(entry);
+          break;
+        }
+      }
+    }
+    if (matching.isEmpty()) {
+      return null;
+    }
+
+    long[] knownVersions = new long[matching.size() * 4];
+    int i = 0;
+    for (Map.Entry<AttributePath, Long> entry : matching) {
+      AttributePath path = entry.getKey();
+      knownVersions[i++] = path.getEndpointId();
+      knownVersions[i++] = path.getClusterId();
+      knownVersions[i++] = path.getAttributeId();
+      knownVersions[i++] = entry.getValue();
+    }
+    return knownVersions;
+  }
+}
@@ -18,33 +18,36 @@
 package chip.devicecontroller;
 
 /** JNI wrapper callback class for getting a connected device. */
-public class GetConnectedDeviceCallbackJni {
+public class GetConnectedDeviceCallbackJni implements AutoCloseable {
   private GetConnectedDeviceCallback wrappedCallback;
   private long callbackHandle;
+  private final NativeCleaner.Cleanable cleanable;
 
   public GetConnectedDeviceCallbackJni(GetConnectedDeviceCallback wrappedCallback) {
     this.wrappedCallback = wrappedCallback;
     this.callbackHandle = newCallback(wrappedCallback);
+
+    final long handle = callbackHandle;
+    this.cleanable = NativeCleaner.register(this, () -> deleteCallback(handle));
   }
 
   long getCallbackHandle() {
     return callbackHandle;
   }
 
-  private native long newCallback(GetConnectedDeviceCallback wrappedCallback);
-
-  private native void deleteCallback(long callbackHandle);
+  /**
+   * Releases the native callback. Must not be called while the native lookup using this callback
+   * is still pending; otherwise the callback is released once this object is garbage collected.
+   */
+  @Override
+  public void close() {
+    callbackHandle = 0;
+    cleanable.clean();
+  }
 
-  // TODO(#8578): Replace finalizer with PhantomReference.
-  @SuppressWarnings("deprecation")
-  protected void finalize() throws Throwable {
-    super.finalize();
+  private native long newCallback(GetConnectedDeviceCallback wrappedCallback);
 
-    if (callbackHandle != 0) {
-      deleteCallback(callbackHandle);
-      callbackHandle = 0;
-    }
-  }
+  private static native void deleteCallback(long callbackHandle);
 
   /** Callbacks for getting a device connected with PASE or CASE, depending on the context. */
   public interface GetConnectedDeviceCallback {
@@ -0,0 +1,117 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import chip.devicecontroller.ChipClusters.BaseChipCluster;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sends commands to every member of a group on the fabric of a controller, with one multicast
+ * message per command instead of one unicast message, and CASE session, per device. Create one
+ * with {@link ChipDeviceController#newGroupClusterHandle(int)}.
+ *
+ * <p><b>Experimental and insecure.</b> Group messages are not encrypted with the group keys yet, so
+ * commands are sent in plaintext, without the node ID of the controller, and any device on the
+ * network can read or forge them. Controllers must opt in with {@link
+ * ChipDeviceController#setInsecureGroupCommandsEnabled(boolean)}, and devices that only accept
+ * encrypted group messages drop the commands.
+ *
+ * <pre>{@code
+ * controller.setInsecureGroupCommandsEnabled(true);
+ * try (GroupClusterHandle group = controller.newGroupClusterHandle(groupId)) {
+ *   group.getCluster(OnOffCluster.CLUSTER_ID, OnOffCluster.class).off(callback);
+ * }
+ * }</pre>
+ *
+ * <p>Devices join groups, and get their keys, through {@link ChipClusters.GroupsCluster} and {@link
+ * ChipClusters.GroupKeyManagementCluster}.
+ *
+ * <p>Group members never respond, so the success callback of a command is called once it has been
+ * sent. Commands with a data response, and timed commands, fail with an exception. The clusters of
+ * a group handle only send commands; reading or writing their attributes fails.
+ *
+ * <p>Each cluster of a group handle holds a native group session until the handle is closed, and
+ * there are {@code CHIP_CONFIG_GROUP_CONNECTION_POOL_SIZE} (8 by default) of those for all
+ * controllers.
+ */
+public final class GroupClusterHandle implements AutoCloseable {
+  private final ChipDeviceController controller;
+  private final int groupId;
+  private final Map<Long, BaseChipCluster> clusters = new LinkedHashMap<>();
+  private boolean closed;
+
+  GroupClusterHandle(ChipDeviceController controller, int groupId) {
+    this.controller = controller;
+    this.groupId = groupId;
+  }
+
+  public int getGroupId() {
+    return groupId;
+  }
+
+  long getControllerPtr() {
+    return controller.controllerPtr();
+  }
+
+  /**
+   * Returns the cluster object of this handle whose commands are sent to the group, or null if the
+   * cluster ID is not supported. Its callbacks run on the callback executor of the controller.
+   *
+   * @throws ChipDeviceControllerException if no native group session is left
+   */
+  @Nullable
+  public synchronized BaseChipCluster getCluster(long clusterId) {
+    if (closed) {
+      throw new IllegalStateException("Group cluster handle has already been closed");
+    }
+    BaseChipCluster cluster = clusters.get(clusterId);
+    if (cluster == null) {
+      cluster = ChipClusters.newGroupCluster(clusterId, this);
+      if (cluster == null) {
+        return null;
+      }
+      cluster.setCallbackExecutor(controller.getCallbackExecutor());
+      clusters.put(clusterId, cluster);
+    }
+    return cluster;
+  }
+
+  /**
+   * Typed variant of {@link #getCluster(long)}, for example {@code
+   * getCluster(OnOffCluster.CLUSTER_ID, OnOffCluster.class)}.
+   */
+  @Nullable
+  public <T extends BaseChipCluster> T getCluster(long clusterId, Class<T> clusterClass) {
+    return clusterClass.cast(getCluster(clusterId));
+  }
+
+  /** Releases the clusters of this group handle, and their group sessions. */
+  @Override
+  public synchronized void close() {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    for (BaseChipCluster cluster : clusters.values()) {
+      cluster.close();
+    }
+    clusters.clear();
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.Arrays;
+
+/**
+ * An immutable list of int values, backed by an array. Read callbacks of list attributes with 8
+ * and 16-bit integer entries receive one instead of a {@code List<Integer>} if they implement
+ * {@link Callback}, which avoids boxing each entry.
+ */
+public final class IntList {
+  /**
+   * Implemented alongside a generated list attribute callback to receive its value as an {@code
+   * IntList}. The boxed {@code onSuccess} method is then not called.
+   */
+  public interface Callback {
+    void onSuccess(IntList value);
+  }
+
+  private final int[] values;
+
+  IntList(int[] values) {
+    this.values = values;
+  }
+
+  public int size() {
+    return values.length;
+  }
+
+  public boolean isEmpty() {
+    return values.length == 0;
+  }
+
+  /** @throws IndexOutOfBoundsException if {@code index} is not within the list */
+  public int get(int index) {
+    return values[index];
+  }
+
+  public boolean contains(int value) {
+    for (int entry : values) {
+      if (entry == value) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /** Returns a copy of the values. */
+  public int[] toArray() {
+    return values.clone();
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    return other instanceof IntList && Arrays.equals(values, ((IntList) other).values);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(values);
+  }
+
+  @Override
+  public String toString() {
+    return Arrays.toString(values);
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import chip.clusterinfo.ClusterInfo;
+import chip.clusterinfo.InteractionInfo;
+import java.util.Map;
+
+/**
+ * Looks up the interactions of {@link ClusterInfoMapping}, {@link ClusterReadMapping} and {@link
+ * ClusterWriteMapping} by cluster, command and attribute ID instead of by name, for callers that
+ * work with numeric IDs such as {@code OnOffCluster.CLUSTER_ID}.
+ *
+ * <p>IDs are kept in open-addressing tables of primitive keys, so lookups hash no strings and
+ * allocate nothing. The interactions of a cluster are built the first time any of them is looked
+ * up, and then kept. The cluster names stay available through {@link #getClusterName(long)}, to get
+ * back to the name-keyed maps.
+ *
+ * <p>A registry can be shared between threads.
+ */
+public final class InteractionRegistry {
+  private final ClusterInfoMapping clusterInfoMapping = new ClusterInfoMapping();
+  private final ClusterReadMapping readMapping = new ClusterReadMapping();
+  private final ClusterWriteMapping writeMapping = new ClusterWriteMapping();
+  private final IdTable<ClusterSlot> clusters;
+
+  public InteractionRegistry() {
+    String[] names = ClusterInfoMapping.CLUSTER_NAMES;
+    long[] ids = ClusterInfoMapping.CLUSTER_IDS;
+    clusters = new IdTable<>(ids.length);
+    for (int i = 0; i < ids.length; i++) {
+      clusters.put(ids[i], new ClusterSlot(names[i]));
+    }
+  }
+
+  /** Returns the name of a cluster in the name-keyed maps, or null if it is not supported. */
+  @Nullable
+  public String getClusterName(long clusterId) {
+    ClusterSlot slot = clusters.get(clusterId);
+    return slot == null ? null : slot.name;
+  }
+
+  /**
+   * Returns the commands and attribute reads and writes of a cluster, like {@link
+   * ClusterInfoMapping#getClusterMap()} does, or null if the cluster is not supported.
+   */
+  @Nullable
+  public ClusterInfo getClusterInfo(long clusterId) {
+    ClusterInteractions interactions = getInteractions(clusterId);
+    return interactions == null ? null : interactions.clusterInfo;
+  }
+
+  /** Returns the interaction invoking a command, or null if it is not supported. */
+  @Nullable
+  public InteractionInfo getCommand(long clusterId, long commandId) {
+    ClusterInteractions interactions = getInteractions(clusterId);
+    return interactions == null ? null : interactions.commands.get(commandId);
+  }
+
+  /** Returns the interaction reading an attribute, or null if it is not supported. */
+  @Nullable
+  public InteractionInfo getReadAttribute(long clusterId, long attributeId) {
+    ClusterInteractions interactions = getInteractions(clusterId);
+    return interactions == null ? null : interactions.readAttributes.get(attributeId);
+  }
+
+  /** Returns the interaction writing an attribute, or null if it is not supported. */
+  @Nullable
+  public InteractionInfo getWriteAttribute(long clusterId, long attributeId) {
+    ClusterInteractions interactions = getInteractions(clusterId);
+    return interactions == null ? null : interactions.writeAttributes.get(attributeId);
+  }
+
+  @Nullable
+  private ClusterInteractions getInteractions(long clusterId) {
+    ClusterSlot slot = clusters.get(clusterId);
+    if (slot == null) {
+      return null;
+    }
+    ClusterInteractions interactions = slot.interactions;
+    if (interactions == null) {
+      synchronized (slot) {
+        interactions = slot.interactions;
+        if (interactions == null) {
+          interactions = buildInteractions(slot.name);
+          slot.interactions = interactions;
+        }
+      }
+    }
+    return interactions;
+  }
+
+  private ClusterInteractions buildInteractions(String name) {
+    Map<String, InteractionInfo> commands = clusterInfoMapping.getCommandMap(name);
+    Map<String, InteractionInfo> readAttributes = readMapping.getReadAttributeMap(name);
+    Map<String, InteractionInfo> writeAttributes = writeMapping.getWriteAttributeMap(name);
+
+    // Share the interactions between the ID tables and the cluster info.
+    ClusterInfo clusterInfo = ClusterInfoMapping.newClusterInfo(name);
+    clusterInfo.combineCommands(commands);
+    clusterInfo.combineCommands(readAttributes);
+    clusterInfo.combineCommands(writeAttributes);
+
+    return new ClusterInteractions(
+        clusterInfo,
+        index(name, commands, clusterInfoMapping.getCommandIds(name)),
+        index(name, readAttributes, readMapping.getReadAttributeIds(name)),
+        index(name, writeAttributes, writeMapping.getWriteAttributeIds(name)));
+  }
+
+  // The generated ID arrays list the IDs of the generated maps in the order of their entries.
+  private static IdTable<InteractionInfo> index(
+      String clusterName, Map<String, InteractionInfo> interactions, long[] ids) {
+    if (ids.length != interactions.size()) {
+      throw new IllegalStateException("Interaction IDs out of sync for cluster " + clusterName);
+    }
+    IdTable<InteractionInfo> table = new IdTable<>(ids.length);
+    int i = 0;
+    for (InteractionInfo interaction : interactions.values()) {
+      table.put(ids[i++], interaction);
+    }
+    return table;
+  }
+
+  private static final class ClusterSlot {
+    final String name;
+    @Nullable volatile ClusterInteractions interactions;
+
+    ClusterSlot(String name) {
+      this.name = name;
+    }
+  }
+
+  private static final class ClusterInteractions {
+    final ClusterInfo clusterInfo;
+    final IdTable<InteractionInfo> commands;
+    final IdTable<InteractionInfo> readAttributes;
+    final IdTable<InteractionInfo> writeAttributes;
+
+    ClusterInteractions(
+        ClusterInfo clusterInfo,
+        IdTable<InteractionInfo> commands,
+        IdTable<InteractionInfo> readAttributes,
+        IdTable<InteractionInfo> writeAttributes) {
+      this.clusterInfo = clusterInfo;
+      this.commands = commands;
+      this.readAttributes = readAttributes;
+      this.writeAttributes = writeAttributes;
+    }
+  }
+
+  /**
+   * A map from IDs to values with linear probing, filled once before it is shared. It is kept at
+   * most half full, so that probes stay short.
+   */
+  private static final class IdTable<V> {
+    private final long[] keys;
+    private final Object[] values;
+    private final int mask;
+
+    IdTable(int expectedSize) {
+      int capacity = Integer.highestOneBit(Math.max(expectedSize, 1) * 2 - 1) << 1;
+      keys = new long[capacity];
+      values = new Object[capacity];
+      mask = capacity - 1;
+    }
+
+    void put(long key, V value) {
+      int i = indexOf(key);
+      while (values[i] != null && keys[i] != key) {
+        i = (i + 1) & mask;
+      }
+      keys[i] = key;
+      values[i] = value;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Nullable
+    V get(long key) {
+      int i = indexOf(key);
+      while (values[i] != null) {
+        if (keys[i] == key) {
+          return (V) values[i];
+        }
+        i = (i + 1) & mask;
+      }
+      return null;
+    }
+
+    private int indexOf(long key) {
+      // Cluster, command and attribute IDs are mostly small and sequential; spread them out.
+      long hash = key * 0x9E3779B97F4A7C15L;
+      return (int) (hash >>> 32) & mask;
+    }
+  }
+}
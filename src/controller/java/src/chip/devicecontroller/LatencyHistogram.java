@@ -0,0 +1,144 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size latency histogram with power-of-two microsecond buckets. Recording is lock-free and
+ * does not allocate.
+ *
+ * <p>Bucket {@code i} counts samples of less than {@code 2^i} microseconds that did not fit a
+ * lower bucket. The last bucket also counts every larger sample.
+ */
+public final class LatencyHistogram {
+  /** Number of buckets. The last regular bucket bound is about 18 minutes. */
+  public static final int BUCKET_COUNT = 32;
+
+  private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+  private final AtomicLong count = new AtomicLong();
+  private final AtomicLong sumNanos = new AtomicLong();
+  private final AtomicLong maxNanos = new AtomicLong();
+
+  /** Records one sample. Negative durations are recorded as zero. */
+  public void record(long durationNanos) {
+    if (durationNanos < 0) {
+      durationNanos = 0;
+    }
+    buckets.incrementAndGet(bucketFor(durationNanos));
+    count.incrementAndGet();
+    sumNanos.addAndGet(durationNanos);
+    long max;
+    while (durationNanos > (max = maxNanos.get())) {
+      if (maxNanos.compareAndSet(max, durationNanos)) {
+        break;
+      }
+    }
+  }
+
+  public long getCount() {
+    return count.get();
+  }
+
+  /** Clears all recorded samples. Samples recorded concurrently may be partially kept. */
+  public void reset() {
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      buckets.set(i, 0);
+    }
+    count.set(0);
+    sumNanos.set(0);
+    maxNanos.set(0);
+  }
+
+  /** Returns a point-in-time copy of this histogram. */
+  public Snapshot snapshot() {
+    long[] counts = new long[BUCKET_COUNT];
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      counts[i] = buckets.get(i);
+    }
+    return new Snapshot(counts, count.get(), sumNanos.get(), maxNanos.get());
+  }
+
+  /** Returns the exclusive upper bound of the given bucket, in nanoseconds. */
+  public static long getBucketUpperBoundNanos(int bucket) {
+    return TimeUnit.MICROSECONDS.toNanos(1L << bucket);
+  }
+
+  private static int bucketFor(long durationNanos) {
+    long micros = durationNanos / 1000;
+    int bucket = 64 - Long.numberOfLeadingZeros(micros);
+    return Math.min(bucket, BUCKET_COUNT - 1);
+  }
+
+  /** An immutable copy of a {@link LatencyHistogram}. */
+  public static final class Snapshot {
+    private final long[] bucketCounts;
+    private final long count;
+    private final long sumNanos;
+    private final long maxNanos;
+
+    Snapshot(long[] bucketCounts, long count, long sumNanos, long maxNanos) {
+      this.bucketCounts = bucketCounts;
+      this.count = count;
+      this.sumNanos = sumNanos;
+      this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+      return count;
+    }
+
+    public long getSumNanos() {
+      return sumNanos;
+    }
+
+    public long getMaxNanos() {
+      return maxNanos;
+    }
+
+    public long getMeanNanos() {
+      return count == 0 ? 0 : sumNanos / count;
+    }
+
+    /** Returns the number of samples in the given bucket. */
+    public long getBucketCount(int bucket) {
+      return bucketCounts[bucket];
+    }
+
+    /**
+     * Returns an upper estimate of the given percentile (0 to 100), in nanoseconds: the upper
+     * bound of the bucket holding it, capped at the largest recorded sample.
+     */
+    public long getPercentileNanos(double percentile) {
+      if (count == 0) {
+        return 0;
+      }
+      long rank = (long) Math.ceil(count * Math.min(Math.max(percentile, 0), 100) / 100);
+      long seen = 0;
+      for (int i = 0; i < BUCKET_COUNT; i++) {
+        seen += bucketCounts[i];
+        if (seen >= rank && seen > 0) {
+          return Math.min(getBucketUpperBoundNanos(i), maxNanos);
+        }
+      }
+      return maxNanos;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import chip.clusterinfo.ClusterInfo;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The map returned by {@link ClusterInfoMapping#getClusterMap()}. Its keys are known up front, but
+ * the {@link ClusterInfo} of a cluster, with all its command and attribute interactions, is only
+ * built the first time it is looked up, so that a caller that needs one cluster does not pay for
+ * all of them.
+ *
+ * <p>Like the map it replaces, it can be modified, and it is not meant to be modified concurrently.
+ * Lookups may run concurrently.
+ */
+final class LazyClusterInfoMap extends AbstractMap<String, ClusterInfo> {
+  private final Set<String> names;
+  private final Map<String, ClusterInfo> loaded = new HashMap<>();
+  private final Function<String, ClusterInfo> loader;
+
+  LazyClusterInfoMap(String[] names, Function<String, ClusterInfo> loader) {
+    this.names = new LinkedHashSet<>(Arrays.asList(names));
+    this.loader = loader;
+  }
+
+  @Override
+  public synchronized int size() {
+    return names.size();
+  }
+
+  @Override
+  public synchronized boolean containsKey(Object key) {
+    return names.contains(key);
+  }
+
+  @Override
+  @Nullable
+  public synchronized ClusterInfo get(Object key) {
+    if (!names.contains(key)) {
+      return null;
+    }
+    String name = (String) key;
+    ClusterInfo clusterInfo = loaded.get(name);
+    if (clusterInfo == null) {
+      clusterInfo = loader.apply(name);
+      loaded.put(name, clusterInfo);
+    }
+    return clusterInfo;
+  }
+
+  @Override
+  @Nullable
+  public synchronized ClusterInfo put(String key, ClusterInfo value) {
+    ClusterInfo previous = get(key);
+    names.add(key);
+    loaded.put(key, value);
+    return previous;
+  }
+
+  @Override
+  @Nullable
+  public synchronized ClusterInfo remove(Object key) {
+    ClusterInfo previous = get(key);
+    names.remove(key);
+    loaded.remove(key);
+    return previous;
+  }
+
+  @Override
+  public synchronized void clear() {
+    names.clear();
+    loaded.clear();
+  }
+
+  @Override
+  public Set<String> keySet() {
+    return new AbstractSet<String>() {
+      @Override
+      public Iterator<String> iterator() {
+        return new KeyIterator();
+      }
+
+      @Override
+      public int size() {
+        return LazyClusterInfoMap.this.size();
+      }
+
+      @Override
+      public boolean contains(Object key) {
+        return containsKey(key);
+      }
+
+      @Override
+      public boolean remove(Object key) {
+        boolean contained = containsKey(key);
+        LazyClusterInfoMap.this.remove(key);
+        return contained;
+      }
+    };
+  }
+
+  /** Iterating over the entries builds the cluster infos of the entries whose value is read. */
+  @Override
+  public Set<Map.Entry<String, ClusterInfo>> entrySet() {
+    return new AbstractSet<Map.Entry<String, ClusterInfo>>() {
+      @Override
+      public Iterator<Map.Entry<String, ClusterInfo>> iterator() {
+        KeyIterator keys = new KeyIterator();
+        return new Iterator<Map.Entry<String, ClusterInfo>>() {
+          @Override
+          public boolean hasNext() {
+            return keys.hasNext();
+          }
+
+          @Override
+          public Map.Entry<String, ClusterInfo> next() {
+            return new LazyEntry(keys.next());
+          }
+
+          @Override
+          public void remove() {
+            keys.remove();
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return LazyClusterInfoMap.this.size();
+      }
+    };
+  }
+
+  /** Iterates over a snapshot of the keys, removing from the map through it. */
+  private final class KeyIterator implements Iterator<String> {
+    private final Iterator<String> snapshot;
+    @Nullable private String current;
+
+    KeyIterator() {
+      synchronized (LazyClusterInfoMap.this) {
+        snapshot = Arrays.asList(names.toArray(new String[0])).iterator();
+      }
+    }
+
+    @Override
+    public boolean hasNext() {
+      return snapshot.hasNext();
+    }
+
+    @Override
+    public String next() {
+      current = snapshot.next();
+      return current;
+    }
+
+    @Override
+    public void remove() {
+      if (current == null) {
+        throw new IllegalStateException();
+      }
+      LazyClusterInfoMap.this.remove(current);
+      current = null;
+    }
+  }
+
+  private final class LazyEntry implements Map.Entry<String, ClusterInfo> {
+    private final String key;
+
+    LazyEntry(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public ClusterInfo getValue() {
+      return get(key);
+    }
+
+    @Override
+    public ClusterInfo setValue(ClusterInfo value) {
+      return put(key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Map.Entry)) {
+        return false;
+      }
+      Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+      return key.equals(other.getKey()) && Objects.equals(getValue(), other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode() ^ Objects.hashCode(getValue());
+    }
+  }
+}
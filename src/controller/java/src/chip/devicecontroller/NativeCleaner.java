@@ -0,0 +1,106 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import android.util.Log;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.ReferenceQueue;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Releases native handles owned by Java objects, either explicitly through {@link
+ * Cleanable#clean()} or once the owner becomes phantom reachable.
+ *
+ * <p>This is a minimal stand-in for {@code java.lang.ref.Cleaner}, which is not available on the
+ * Android API levels supported by this library. Release actions run at most once, on a single
+ * daemon thread when triggered by the garbage collector, and must not reference their owner.
+ */
+final class NativeCleaner {
+  private static final String TAG = NativeCleaner.class.getSimpleName();
+
+  /** A registered release action. */
+  interface Cleanable {
+    /** Runs the release action if it has not run yet, and unregisters it. */
+    void clean();
+  }
+
+  private static final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+  // Keeps the references themselves reachable until they are cleaned.
+  private static final Set<CleanableReference> references =
+      Collections.newSetFromMap(new ConcurrentHashMap<CleanableReference, Boolean>());
+  private static final AtomicLong liveHandles = new AtomicLong();
+
+  static {
+    Thread thread = new Thread(NativeCleaner::processQueue, "CHIP Native Cleaner");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private NativeCleaner() {}
+
+  /** Registers {@code release} to run when {@code owner} is cleaned or garbage collected. */
+  static Cleanable register(Object owner, Runnable release) {
+    CleanableReference reference = new CleanableReference(owner, release);
+    references.add(reference);
+    liveHandles.incrementAndGet();
+    return reference;
+  }
+
+  /** Returns the number of registered native handles that have not been released yet. */
+  static long getLiveHandleCount() {
+    return liveHandles.get();
+  }
+
+  private static void processQueue() {
+    while (true) {
+      try {
+        ((CleanableReference) queue.remove()).clean();
+      } catch (InterruptedException e) {
+        // Daemon thread; keep draining the queue.
+      } catch (RuntimeException e) {
+        Log.e(TAG, "Failed to release native handle", e);
+      }
+    }
+  }
+
+  private static final class CleanableReference extends PhantomReference<Object>
+      implements Cleanable {
+    private final Runnable release;
+    private final AtomicBoolean cleaned = new AtomicBoolean();
+
+    CleanableReference(Object owner, Runnable release) {
+      super(owner, queue);
+      this.release = release;
+    }
+
+    @Override
+    public void clean() {
+      if (!cleaned.compareAndSet(false, true)) {
+        return;
+      }
+      references.remove(this);
+      clear();
+      liveHandles.decrementAndGet();
+      release.run();
+    }
+  }
+}
@@ -0,0 +1,251 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import android.util.Log;
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Publishes the reports of a {@link Subscription} to any number of subscribers, each at its own
+ * pace. Create one with {@link Subscription.Builder#publish()}.
+ *
+ * <p>Reports are conflated instead of queued: while a subscriber has no outstanding demand, the
+ * reports it has not received are merged into one, so that it gets the latest value and error of
+ * each attribute once it requests more. A slow subscriber therefore never builds a backlog, and
+ * never holds up the others. A new subscriber first receives the latest value of every attribute
+ * reported so far.
+ *
+ * <p>Items are delivered on the callback executor of the controller, or on the thread calling
+ * {@link AttributeFlow.Demand#request(long)} when it allows a pending report to be delivered.
+ * Subscribers get {@link AttributeFlow.Subscriber#onError(Throwable)} if the subscription is lost,
+ * and {@link AttributeFlow.Subscriber#onComplete()} once the publisher is closed.
+ */
+public final class ReportPublisher
+    implements AttributeFlow.Publisher<AttributeValues>, AutoCloseable {
+  private static final String TAG = ReportPublisher.class.getSimpleName();
+
+  private final Object lock = new Object();
+  private final List<Link> links = new ArrayList<>();
+  @Nullable private AttributeValues latest;
+  @Nullable private Throwable failure;
+  private boolean closed;
+  @Nullable private volatile Subscription subscription;
+
+  ReportPublisher() {}
+
+  void setSubscription(Subscription subscription) {
+    this.subscription = subscription;
+  }
+
+  Subscription.Callback newCallback() {
+    return new Subscription.Callback() {
+      @Override
+      public void onReport(AttributeValues report) {
+        publish(report);
+      }
+
+      @Override
+      public void onError(Exception error) {
+        terminate(error);
+      }
+    };
+  }
+
+  @Override
+  public void subscribe(AttributeFlow.Subscriber<? super AttributeValues> subscriber) {
+    if (subscriber == null) {
+      throw new NullPointerException("subscriber");
+    }
+    Link link = new Link(subscriber);
+    synchronized (lock) {
+      link.pending = latest;
+      if (failure != null || closed) {
+        link.terminate(failure);
+      } else {
+        links.add(link);
+      }
+    }
+    subscriber.onSubscribe(link);
+    link.start();
+  }
+
+  /** Returns the subscription that this publisher is fed by. */
+  public Subscription getSubscription() {
+    return subscription;
+  }
+
+  /**
+   * Cancels the subscription and completes every subscriber, after the reports they already
+   * requested. Calling this more than once has no effect.
+   */
+  @Override
+  public void close() {
+    Subscription current = subscription;
+    if (current != null) {
+      current.cancel();
+    }
+    terminate(null);
+  }
+
+  private void publish(AttributeValues report) {
+    Link[] targets;
+    synchronized (lock) {
+      if (failure != null || closed) {
+        return;
+      }
+      latest = latest == null ? report : latest.mergedWith(report);
+      targets = links.toArray(new Link[0]);
+    }
+    for (Link link : targets) {
+      link.offer(report);
+    }
+  }
+
+  private void terminate(@Nullable Throwable error) {
+    Link[] targets;
+    synchronized (lock) {
+      if (failure != null || closed) {
+        return;
+      }
+      failure = error;
+      closed = error == null;
+      targets = links.toArray(new Link[0]);
+      links.clear();
+    }
+    for (Link link : targets) {
+      link.terminate(error);
+      link.drain();
+    }
+  }
+
+  private final class Link implements AttributeFlow.Demand {
+    private final AttributeFlow.Subscriber<? super AttributeValues> subscriber;
+
+    // Guarded by this.
+    @Nullable private AttributeValues pending;
+    private long requested;
+    private boolean terminated;
+    @Nullable private Throwable error;
+    private boolean done;
+    // Set while a thread delivers signals, so that they never overlap. Held until onSubscribe
+    // has returned.
+    private boolean draining = true;
+
+    Link(AttributeFlow.Subscriber<? super AttributeValues> subscriber) {
+      this.subscriber = subscriber;
+    }
+
+    void start() {
+      synchronized (this) {
+        draining = false;
+      }
+      drain();
+    }
+
+    void offer(AttributeValues report) {
+      synchronized (this) {
+        if (done || terminated) {
+          return;
+        }
+        pending = pending == null ? report : pending.mergedWith(report);
+      }
+      drain();
+    }
+
+    synchronized void terminate(@Nullable Throwable error) {
+      if (!terminated) {
+        terminated = true;
+        this.error = error;
+      }
+    }
+
+    @Override
+    public void request(long n) {
+      synchronized (this) {
+        if (n <= 0) {
+          pending = null;
+          terminate(new IllegalArgumentException("Requested " + n + " items, must be positive"));
+        } else {
+          requested = requested + n < 0 ? Long.MAX_VALUE : requested + n;
+        }
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      synchronized (this) {
+        done = true;
+        pending = null;
+      }
+      synchronized (lock) {
+        links.remove(this);
+      }
+    }
+
+    void drain() {
+      synchronized (this) {
+        if (draining) {
+          // The delivering thread sees the new state before it stops.
+          return;
+        }
+        draining = true;
+      }
+
+      while (true) {
+        AttributeValues next = null;
+        Throwable terminalError = null;
+        synchronized (this) {
+          if (done) {
+            draining = false;
+            return;
+          }
+          if (pending != null && requested > 0) {
+            next = pending;
+            pending = null;
+            if (requested != Long.MAX_VALUE) {
+              requested--;
+            }
+          } else if (terminated) {
+            done = true;
+            pending = null;
+            terminalError = error;
+          } else {
+            draining = false;
+            return;
+          }
+        }
+
+        try {
+          if (next != null) {
+            subscriber.onNext(next);
+          } else if (terminalError != null) {
+            subscriber.onError(terminalError);
+          } else {
+            subscriber.onComplete();
+          }
+        } catch (RuntimeException e) {
+          Log.e(TAG, "Subscriber threw, cancelling it", e);
+          cancel();
+        }
+      }
+    }
+  }
+}
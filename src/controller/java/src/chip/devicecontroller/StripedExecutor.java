@@ -0,0 +1,175 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import android.util.Log;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor that runs tasks with the same key in submission order, one at a time, while tasks
+ * with different keys may run in parallel.
+ *
+ * <p>Keys are hashed onto a fixed number of stripes; each stripe drains its queue on the backing
+ * executor. Device controllers and clusters use the node or device as key, so that callbacks of
+ * one device stay ordered and a slow callback only delays devices on the same stripe.
+ */
+public final class StripedExecutor implements Executor {
+  private static final String TAG = StripedExecutor.class.getSimpleName();
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+
+  private static volatile StripedExecutor defaultInstance;
+
+  private final Executor backingExecutor;
+  private final Stripe[] stripes;
+  private final AtomicInteger nextStripe = new AtomicInteger();
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+
+  /**
+   * Creates an executor with the given number of stripes, draining them on {@code
+   * backingExecutor}. At most {@code stripeCount} tasks of the backing executor are in use at once.
+   */
+  public StripedExecutor(Executor backingExecutor, int stripeCount) {
+    if (stripeCount < 1) {
+      throw new IllegalArgumentException("At least one stripe is required");
+    }
+    this.backingExecutor = backingExecutor;
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe();
+    }
+  }
+
+  /**
+   * Returns an executor that device controllers can share. It has one stripe per available
+   * processor (at least two) and daemon threads that exit when idle.
+   */
+  public static StripedExecutor getDefault() {
+    StripedExecutor instance = defaultInstance;
+    if (instance == null) {
+      synchronized (StripedExecutor.class) {
+        instance = defaultInstance;
+        if (instance == null) {
+          int stripeCount = Math.max(2, Runtime.getRuntime().availableProcessors());
+          ThreadPoolExecutor threads =
+              new ThreadPoolExecutor(
+                  stripeCount,
+                  stripeCount,
+                  IDLE_THREAD_TIMEOUT_SECONDS,
+                  TimeUnit.SECONDS,
+                  new LinkedBlockingQueue<Runnable>(),
+                  new CallbackThreadFactory());
+          threads.allowCoreThreadTimeOut(true);
+          instance = new StripedExecutor(threads, stripeCount);
+          defaultInstance = instance;
+        }
+      }
+    }
+    return instance;
+  }
+
+  /** Runs {@code task} after all tasks previously submitted with the same key. */
+  public void execute(long key, Runnable task) {
+    int hash = (int) (key ^ (key >>> 32));
+    hash ^= hash >>> 16;
+    stripes[(hash & Integer.MAX_VALUE) % stripes.length].add(task);
+  }
+
+  /** Runs {@code task} without ordering guarantees relative to other tasks. */
+  @Override
+  public void execute(Runnable task) {
+    stripes[(nextStripe.getAndIncrement() & Integer.MAX_VALUE) % stripes.length].add(task);
+  }
+
+  public int getStripeCount() {
+    return stripes.length;
+  }
+
+  /** Returns the number of tasks queued or running on all stripes. */
+  public int getQueueDepth() {
+    int depth = 0;
+    for (Stripe stripe : stripes) {
+      depth += stripe.depth.get();
+    }
+    return depth;
+  }
+
+  /** Returns the number of tasks queued or running on the given stripe. */
+  public int getQueueDepth(int stripe) {
+    return stripes[stripe].depth.get();
+  }
+
+  /** Returns the largest number of tasks that were ever queued or running on a single stripe. */
+  public int getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  private final class Stripe implements Runnable {
+    private final ConcurrentLinkedQueue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    // Tasks added but not finished yet. The stripe is scheduled while this is non-zero.
+    private final AtomicInteger depth = new AtomicInteger();
+
+    void add(Runnable task) {
+      tasks.add(task);
+      int newDepth = depth.incrementAndGet();
+      int max;
+      while (newDepth > (max = maxQueueDepth.get())) {
+        if (maxQueueDepth.compareAndSet(max, newDepth)) {
+          break;
+        }
+      }
+      if (newDepth == 1) {
+        backingExecutor.execute(this);
+      }
+    }
+
+    @Override
+    public void run() {
+      do {
+        try {
+          tasks.poll().run();
+        } catch (RuntimeException e) {
+          Log.e(TAG, "Callback task failed", e);
+        } catch (Throwable t) {
+          // Errors and sneaky-thrown checked exceptions reach the thread's handler, but the rest of
+          // the stripe still runs, on a new task of the backing executor.
+          if (depth.decrementAndGet() != 0) {
+            backingExecutor.execute(this);
+          }
+          throw t;
+        }
+      } while (depth.decrementAndGet() != 0);
+    }
+  }
+
+  private static final class CallbackThreadFactory implements ThreadFactory {
+    private final AtomicInteger threadCount = new AtomicInteger();
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "CHIP Callback " + threadCount.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+}
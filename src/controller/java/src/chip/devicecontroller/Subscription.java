@@ -0,0 +1,349 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import androidx.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A subscription to any number of attribute paths of one device, possibly across clusters, set up
+ * with a single Subscribe interaction. Create one with {@link
+ * ChipDeviceController#newSubscriptionBuilder(long)}.
+ *
+ * <p>Unlike {@link ChipDeviceController#shutdownSubscriptions(long)}, {@link #cancel()} only ends
+ * this subscription. Callbacks and listeners run on the callback executor of the controller.
+ */
+public final class Subscription implements AutoCloseable {
+  /** Receives the state and the complete reports of a subscription. */
+  public interface Callback {
+    /** Called once the device has accepted the subscription, after the priming report. */
+    default void onSubscriptionEstablished() {}
+
+    /** Called with every report, starting with the priming report. */
+    default void onReport(AttributeValues report) {}
+
+    /** Called if the subscription could not be established or was lost. It is not renewed. */
+    void onError(Exception error);
+  }
+
+  /** Receives the reported values of the attributes matching one path. */
+  public interface AttributeListener<T> {
+    /** Called with each reported value of an attribute matching the path. */
+    void onReport(AttributePath path, @Nullable T value);
+
+    /** Called when the device reports an error for an attribute matching the path. */
+    default void onError(AttributePath path, Exception error) {}
+  }
+
+  /** Collects the paths and listeners of a subscription. */
+  public static final class Builder {
+    private final ChipDeviceController controller;
+    private final long devicePtr;
+    private final Set<AttributePath> paths = new LinkedHashSet<>();
+    private final List<Registration<?>> registrations = new ArrayList<>();
+    private int minIntervalSeconds = 0;
+    private int maxIntervalSeconds = 60;
+    @Nullable private AttributeCache attributeCache;
+    private long nodeId;
+    @Nullable private DataVersions dataVersions;
+
+    Builder(ChipDeviceController controller, long devicePtr) {
+      this.controller = controller;
+      this.devicePtr = devicePtr;
+    }
+
+    /**
+     * Subscribes to {@code path}, which may contain wildcards. Its values are only delivered
+     * through {@link Callback#onReport(AttributeValues)}.
+     */
+    public Builder addPath(AttributePath path) {
+      paths.add(path);
+      return this;
+    }
+
+    /**
+     * Subscribes to {@code path}, which may contain wildcards, and delivers the values of the
+     * matching attributes to {@code listener}. {@code type} is the type that the read callback of
+     * the attribute receives, boxed if primitive, for example {@code Integer.class} or {@code
+     * List.class}.
+     */
+    public <T> Builder addAttribute(
+        AttributePath path, Class<T> type, AttributeListener<? super T> listener) {
+      paths.add(path);
+      registrations.add(new Registration<>(path, type, listener));
+      return this;
+    }
+
+    /**
+     * Sets the minimum and maximum number of seconds between reports. Defaults to 0 and 60 seconds.
+     */
+    public Builder setIntervals(int minIntervalSeconds, int maxIntervalSeconds) {
+      if (minIntervalSeconds < 0
+          || minIntervalSeconds > maxIntervalSeconds
+          || maxIntervalSeconds > 0xFFFF) {
+        throw new IllegalArgumentException(
+            "Invalid intervals " + minIntervalSeconds + ", " + maxIntervalSeconds);
+      }
+      this.minIntervalSeconds = minIntervalSeconds;
+      this.maxIntervalSeconds = maxIntervalSeconds;
+      return this;
+    }
+
+    /**
+     * Keeps {@code cache} up to date with the reports of this subscription. {@code nodeId} must be
+     * the node ID of the device. While the subscription is established, reads from the cache of
+     * the subscribed attributes are considered current.
+     */
+    public Builder setAttributeCache(AttributeCache cache, long nodeId) {
+      this.attributeCache = cache;
+      this.nodeId = nodeId;
+      return this;
+    }
+
+    /**
+     * Skips attributes whose version in {@code versions} is unchanged, in the priming report and in
+     * later reports, and records the versions of every report in {@code versions}. Skipped
+     * attributes are listed in {@link AttributeValues#getUnchanged()} and not passed to listeners.
+     */
+    public Builder setDataVersions(DataVersions versions) {
+      this.dataVersions = versions;
+      return this;
+    }
+
+    /**
+     * Sends the Subscribe request.
+     *
+     * @throws IllegalStateException if no path was added
+     * @throws ChipDeviceControllerException if the request could not be sent
+     */
+    public Subscription subscribe(Callback callback) {
+      if (paths.isEmpty()) {
+        throw new IllegalStateException("No attribute path to subscribe to");
+      }
+      List<AttributePath> subscribedPaths = new ArrayList<>(paths);
+      Subscription subscription =
+          new Subscription(
+              controller,
+              devicePtr,
+              new ArrayList<>(registrations),
+              callback,
+              attributeCache,
+              attributeCache != null ? new AttributeCache.Coverage(nodeId, subscribedPaths) : null,
+              dataVersions);
+      controller.addLiveSubscription(subscription);
+      try {
+        subscription.handle =
+            controller.subscribeAttributes(
+                devicePtr,
+                subscribedPaths,
+                dataVersions != null ? dataVersions.toKnownVersions(subscribedPaths) : null,
+                minIntervalSeconds,
+                maxIntervalSeconds,
+                subscription.new Collector());
+      } catch (RuntimeException e) {
+        controller.removeLiveSubscription(subscription);
+        throw e;
+      }
+      return subscription;
+    }
+
+    /**
+     * Sends the Subscribe request and returns a publisher of its reports, for consumers that need
+     * backpressure. Closing the publisher cancels the subscription.
+     *
+     * @throws IllegalStateException if no path was added
+     * @throws ChipDeviceControllerException if the request could not be sent
+     */
+    public ReportPublisher publish() {
+      ReportPublisher publisher = new ReportPublisher();
+      publisher.setSubscription(subscribe(publisher.newCallback()));
+      return publisher;
+    }
+  }
+
+  private static final class Registration<T> {
+    final AttributePath path;
+    final Class<T> type;
+    final AttributeListener<? super T> listener;
+
+    Registration(AttributePath path, Class<T> type, AttributeListener<? super T> listener) {
+      this.path = path;
+      this.type = type;
+      this.listener = listener;
+    }
+
+    void deliver(AttributeValues report) {
+      for (Map.Entry<AttributePath, Object> entry : report.getValues().entrySet()) {
+        AttributePath reportedPath = entry.getKey();
+        if (!path.matches(reportedPath)) {
+          continue;
+        }
+        Object value = entry.getValue();
+        if (value == null || type.isInstance(value)) {
+          listener.onReport(reportedPath, type.cast(value));
+        } else {
+          listener.onError(
+              reportedPath,
+              new ClassCastException(
+                  "Expected " + type.getName() + " but got " + value.getClass().getName()));
+        }
+      }
+      for (Map.Entry<AttributePath, Exception> entry : report.getErrors().entrySet()) {
+        if (path.matches(entry.getKey())) {
+          listener.onError(entry.getKey(), entry.getValue());
+        }
+      }
+    }
+  }
+
+  private final class Collector extends AttributeReportCollector {
+    @Override
+    void onSubscriptionEstablished() {
+      if (attributeCache != null) {
+        attributeCache.addCoverage(coverage);
+        if (cancelled.get()) {
+          // cancel() may have run before the coverage was added.
+          removeCoverage();
+        }
+      }
+      dispatch(callback::onSubscriptionEstablished);
+    }
+
+    @Override
+    void onReport(AttributeValues report) {
+      if (attributeCache != null && !cancelled.get()) {
+        attributeCache.update(coverage.nodeId, report);
+      }
+      if (dataVersions != null) {
+        dataVersions.update(report);
+      }
+      dispatch(
+          () -> {
+            for (Registration<?> registration : registrations) {
+              registration.deliver(report);
+            }
+            callback.onReport(report);
+          });
+    }
+
+    @Override
+    void onError(Exception error) {
+      removeCoverage();
+      dispatch(() -> callback.onError(error));
+    }
+
+    @Override
+    void onDone() {
+      // The native subscription is gone; cancel() has nothing left to tear down.
+      done.set(true);
+      removeCoverage();
+      controller.removeLiveSubscription(Subscription.this);
+    }
+  }
+
+  private final ChipDeviceController controller;
+  private final long devicePtr;
+  private final List<Registration<?>> registrations;
+  private final Callback callback;
+  @Nullable private final AttributeCache attributeCache;
+  @Nullable private final AttributeCache.Coverage coverage;
+  @Nullable private final DataVersions dataVersions;
+  private final AtomicBoolean cancelled = new AtomicBoolean();
+  private final AtomicBoolean done = new AtomicBoolean();
+  private volatile long handle;
+
+  private Subscription(
+      ChipDeviceController controller,
+      long devicePtr,
+      List<Registration<?>> registrations,
+      Callback callback,
+      @Nullable AttributeCache attributeCache,
+      @Nullable AttributeCache.Coverage coverage,
+      @Nullable DataVersions dataVersions) {
+    this.controller = controller;
+    this.devicePtr = devicePtr;
+    this.registrations = registrations;
+    this.callback = callback;
+    this.attributeCache = attributeCache;
+    this.coverage = coverage;
+    this.dataVersions = dataVersions;
+  }
+
+  private void removeCoverage() {
+    if (attributeCache != null) {
+      attributeCache.removeCoverage(coverage);
+    }
+  }
+
+  private void dispatch(Runnable runnable) {
+    controller.dispatch(
+        devicePtr,
+        () -> {
+          if (!cancelled.get()) {
+            runnable.run();
+          }
+        });
+  }
+
+  /**
+   * Ends this subscription. No callbacks are called once this returns, except ones already running.
+   * Other subscriptions to the device are not affected. Calling this more than once has no effect.
+   */
+  public void cancel() {
+    end();
+  }
+
+  /**
+   * Ends this subscription like {@link #cancel()}, and reports {@code error} to the callback. Used
+   * when the controller shuts down.
+   */
+  void fail(Exception error) {
+    if (end()) {
+      controller.dispatch(devicePtr, () -> callback.onError(error));
+    }
+  }
+
+  /** Returns whether this call ended the subscription. */
+  private boolean end() {
+    if (!cancelled.compareAndSet(false, true)) {
+      return false;
+    }
+    removeCoverage();
+    controller.removeLiveSubscription(this);
+    if (!done.get()) {
+      controller.cancelSubscription(handle);
+    }
+    return true;
+  }
+
+  /** Returns whether {@link #cancel()} has been called. */
+  public boolean isCancelled() {
+    return cancelled.get();
+  }
+
+  /** Same as {@link #cancel()}. */
+  @Override
+  public void close() {
+    cancel();
+  }
+}
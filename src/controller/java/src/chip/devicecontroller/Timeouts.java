@@ -0,0 +1,68 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the timeouts of controller operations on one shared daemon thread, which exits while no
+ * timeout is pending. Timeout tasks only complete futures, so they never block the thread.
+ */
+final class Timeouts {
+  private static final long IDLE_THREAD_TIMEOUT_SECONDS = 30;
+  private static final ScheduledThreadPoolExecutor scheduler = newScheduler();
+
+  private Timeouts() {}
+
+  /** Runs {@code task} after {@code delayNanos}, unless the returned future is cancelled first. */
+  static ScheduledFuture<?> schedule(Runnable task, long delayNanos) {
+    return scheduler.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * Completes {@code future} exceptionally with a {@link TimeoutException} if it is not done after
+   * {@code timeoutNanos}.
+   */
+  static void failAfter(CompletableFuture<?> future, long timeoutNanos, String message) {
+    if (future.isDone()) {
+      return;
+    }
+    ScheduledFuture<?> timeout =
+        schedule(() -> future.completeExceptionally(new TimeoutException(message)), timeoutNanos);
+    future.whenComplete((result, error) -> timeout.cancel(false));
+  }
+
+  private static ScheduledThreadPoolExecutor newScheduler() {
+    ScheduledThreadPoolExecutor executor =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "CHIP Timeouts");
+              thread.setDaemon(true);
+              return thread;
+            });
+    executor.setKeepAliveTime(IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    executor.allowCoreThreadTimeOut(true);
+    executor.setRemoveOnCancelPolicy(true);
+    return executor;
+  }
+}
@@ -24,6 +24,7 @@ const queryCommand = require(zapPath + 'db/query-command.js')
 const ChipTypesHelper = require('../../../../src/app/zap-templates/common/ChipTypesHelper.js');
 const StringHelper    = require('../../../../src/app/zap-templates/common/StringHelper.js');
 const ChipHelper      = require('../../../../src/app/zap-templates/templates/chip/helper.js');
+const AppHelper       = require('../../../../src/app/zap-templates/templates/app/helper.js');
 
 function convertBasicCTypeToJavaType(cType)
 {
@@ -227,6 +228,89 @@ function convertAttributeCallbackTypeToJavaName(cType)
   }
 }
 
+// Java keywords that are also attribute names, e.g. the "boolean" attribute of the Test Cluster.
+const javaKeywords = [
+  'abstract', 'boolean', 'byte', 'char', 'class', 'default', 'double', 'enum', 'float', 'int', 'interface', 'long', 'native',
+  'new', 'package', 'short', 'static', 'switch', 'transient', 'void', 'volatile'
+];
+
+function asJavaFieldName(label)
+{
+  const name = AppHelper.asLowerCamelCase(label);
+  return javaKeywords.includes(name) ? name + 'Value' : name;
+}
+
+function asJavaGetterName(label)
+{
+  const name = AppHelper.asLowerCamelCase(label);
+  return 'get' + name[0].toUpperCase() + name.substring(1);
+}
+
+/**
+ * Renders the block if this is a list attribute of structs whose supported
+ * fields are all non-nullable, non-optional numbers or booleans, so that its
+ * entries can be delivered to Java as one primitive array per field.
+ *
+ * There are no presence bits, so structs with a nullable, optional or string
+ * field keep the boxed path. The only struct with nullable or optional numbers
+ * (the Test Cluster's ListNullablesAndOptionalsStruct) also has strings.
+ */
+function if_primitive_struct_list(options)
+{
+  const fields = this.items.filter(item => !item.isArray && !item.isStruct);
+  if (this.isStruct && fields.length > 0
+      && fields.every(item => !item.isNullable && !item.isOptional && !StringHelper.isString(item.type))) {
+    return options.fn(this);
+  }
+  return options.inverse(this);
+}
+
+/**
+ * Returns the primitive list class (IntList or LongList) that entries of this
+ * list attribute are delivered as when its callback implements the matching
+ * Callback interface, or undefined if its entries are not integers.
+ */
+function primitiveListType(context)
+{
+  if (context.isStruct || context.isNullable || context.isOptional || StringHelper.isString(context.type)) {
+    return Promise.resolve(undefined);
+  }
+
+  // asUnderlyingZclType sniffs for isArray on the context, but we want the type of an entry.
+  const entry   = Object.create(context, { isArray : { value : false } });
+  const options = { 'hash' : {} };
+  return templateUtil.ensureZclPackageId(context).then(() => zclHelper.asUnderlyingZclType.call(entry, context.type, options))
+      .then(zclType => {
+        switch (convertBasicCTypeToJavaType(ChipTypesHelper.asBasicType(zclType))) {
+        case 'int':
+          return 'IntList';
+        case 'long':
+          return 'LongList';
+        default:
+          return undefined;
+        }
+      });
+}
+
+/**
+ * Renders the block if this is a list attribute of integers, which are
+ * delivered as an IntList or a LongList to callbacks that take one.
+ */
+async function if_primitive_list_attribute(options)
+{
+  const listType = await primitiveListType(this);
+  return templateUtil.templatePromise(this.global, listType ? options.fn(this) : options.inverse(this));
+}
+
+function asJavaPrimitiveListType()
+{
+  const promise = primitiveListType(this).catch(err => {
+    console.log(err);
+    throw err;
+  });
+  return templateUtil.templatePromise(this.global, promise)
+}
+
 function notLastSupportedEntryTypes(context, options)
 {
   if (context.items.length == 0) {
@@ -259,6 +343,25 @@ function notLastSupportedCommandResponseType(items, options)
   }
 }
 
+/**
+ * Returns the position of this response argument among the arguments of the
+ * Java callback, which skips list and struct arguments.
+ */
+function asJavaResponseArgumentIndex(items)
+{
+  return items.filter((item, index) => index < this.index && !item.isArray && !item.isStruct).length;
+}
+
+/**
+ * Renders the block if an argument of the Java callback of this response has
+ * a generic type, so that casting it from Object is unchecked.
+ */
+function if_response_has_generic_arguments(options)
+{
+  const generic = this.arguments.some(item => item.isOptional && !item.isArray && !item.isStruct);
+  return generic ? options.fn(this) : options.inverse(this);
+}
+
 //
 // Module exports
 //
@@ -272,5 +375,12 @@ exports.convertBasicCTypeToJniType             = convertBasicCTypeToJniType;
 exports.convertCTypeToJniSignature             = convertCTypeToJniSignature;
 exports.convertBasicCTypeToJavaBoxedType       = convertBasicCTypeToJavaBoxedType;
 exports.convertAttributeCallbackTypeToJavaName = convertAttributeCallbackTypeToJavaName;
+exports.asJavaFieldName                        = asJavaFieldName;
+exports.asJavaGetterName                       = asJavaGetterName;
+exports.if_primitive_struct_list               = if_primitive_struct_list;
+exports.if_primitive_list_attribute            = if_primitive_list_attribute;
+exports.asJavaPrimitiveListType                = asJavaPrimitiveListType;
 exports.notLastSupportedEntryTypes             = notLastSupportedEntryTypes;
 exports.notLastSupportedCommandResponseType    = notLastSupportedCommandResponseType;
+exports.asJavaResponseArgumentIndex            = asJavaResponseArgumentIndex;
+exports.if_response_has_generic_arguments      = if_response_has_generic_arguments;
@@ -0,0 +1,192 @@
+/*
+ *   Copyright (c) 2022 Project CHIP Authors
+ *   All rights reserved.
+ *
+ *   Licensed under the Apache License, Version 2.0 (the "License");
+ *   you may not use this file except in compliance with the License.
+ *   You may obtain a copy of the License at
+ *
+ *       http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *   Unless required by applicable law or agreed to in writing, software
+ *   distributed under the License is distributed on an "AS IS" BASIS,
+ *   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *   See the License for the specific language governing permissions and
+ *   limitations under the License.
+ *
+ */
+package chip.devicecontroller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.Test;
+
+public class CommandPipelineTest {
+  private static final long TIMEOUT_SECONDS = 10;
+
+  /** A command that records its start and leaves its response to the test. */
+  private static final class HeldCommand implements CommandPipeline.Command<Integer> {
+    final int id;
+    final List<Integer> started;
+    final CountDownLatch invoked = new CountDownLatch(1);
+    volatile CompletableFuture<Integer> response;
+
+    HeldCommand(int id, List<Integer> started) {
+      this.id = id;
+      this.started = started;
+    }
+
+    @Override
+    public void invoke(CompletableFuture<Integer> result) {
+      started.add(id);
+      response = result;
+      invoked.countDown();
+    }
+
+    void answer() {
+      response.complete(id);
+    }
+  }
+
+  @Test
+  public void windowLimitsCommandsInFlight() throws Exception {
+    CommandPipeline pipeline = new CommandPipeline(2, Runnable::run);
+    List<Integer> started = new ArrayList<>();
+    List<HeldCommand> commands = new ArrayList<>();
+    List<CompletableFuture<Integer>> results = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      HeldCommand command = new HeldCommand(i, started);
+      commands.add(command);
+      results.add(pipeline.submit(command));
+    }
+
+    assertEquals(Arrays.asList(0, 1), started);
+    assertEquals(2, pipeline.getInFlightCount());
+    assertEquals(2, pipeline.getQueuedCount());
+
+    commands.get(1).answer();
+    assertEquals(Arrays.asList(0, 1, 2), started);
+    // Results complete in submission order, so the second waits for the first.
+    assertFalse(results.get(1).isDone());
+
+    pipeline.setWindow(3);
+    assertEquals(Arrays.asList(0, 1, 2, 3), started);
+    assertEquals(0, pipeline.getQueuedCount());
+
+    commands.get(0).answer();
+    assertEquals(Integer.valueOf(0), results.get(0).get());
+    assertEquals(Integer.valueOf(1), results.get(1).get());
+    assertFalse(results.get(2).isDone());
+  }
+
+  @Test
+  public void commandsStartInSubmissionOrder() throws Exception {
+    int threads = 4;
+    int commandsPerThread = 500;
+    ExecutorService dispatchExecutor = Executors.newFixedThreadPool(threads);
+    ExecutorService responseExecutor = Executors.newFixedThreadPool(threads);
+    CommandPipeline pipeline = new CommandPipeline(3, dispatchExecutor);
+    List<Integer> started = Collections.synchronizedList(new ArrayList<>());
+    Object submitLock = new Object();
+    int[] nextId = {0};
+    List<CompletableFuture<Integer>> results = Collections.synchronizedList(new ArrayList<>());
+
+    CountDownLatch submitted = new CountDownLatch(threads);
+    for (int t = 0; t < threads; t++) {
+      new Thread(
+              () -> {
+                for (int i = 0; i < commandsPerThread; i++) {
+                  // Submission order is the ID order.
+                  synchronized (submitLock) {
+                    int id = nextId[0]++;
+                    results.add(
+                        pipeline.submit(
+                            result -> {
+                              started.add(id);
+                              responseExecutor.execute(() -> result.complete(id));
+                            }));
+                  }
+                }
+                submitted.countDown();
+              })
+          .start();
+    }
+
+    assertTrue(submitted.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    for (CompletableFuture<Integer> result : new ArrayList<>(results)) {
+      result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+    dispatchExecutor.shutdown();
+    responseExecutor.shutdown();
+
+    assertEquals(threads * commandsPerThread, started.size());
+    for (int i = 0; i < started.size(); i++) {
+      assertEquals(Integer.valueOf(i), started.get(i));
+    }
+  }
+
+  @Test
+  public void closeFailsQueuedAndLaterCommands() throws Exception {
+    CommandPipeline pipeline = new CommandPipeline(1, Runnable::run);
+    List<Integer> started = new ArrayList<>();
+    HeldCommand inFlight = new HeldCommand(0, started);
+    CompletableFuture<Integer> inFlightResult = pipeline.submit(inFlight);
+    CompletableFuture<Integer> queuedResult = pipeline.submit(new HeldCommand(1, started));
+
+    Exception error = new Exception("closed");
+    pipeline.close(error);
+    CompletableFuture<Integer> laterResult = pipeline.submit(new HeldCommand(2, started));
+
+    assertSame(error, failure(laterResult));
+    // The queued command fails, but not before the command in flight completes.
+    assertFalse(queuedResult.isDone());
+
+    inFlight.answer();
+    assertEquals(Integer.valueOf(0), inFlightResult.get());
+    assertSame(error, failure(queuedResult));
+    assertEquals(Collections.singletonList(0), started);
+    assertTrue(pipeline.isIdle());
+  }
+
+  @Test
+  public void commandTimeoutFreesSlot() throws Exception {
+    CommandPipeline pipeline = new CommandPipeline(1, Runnable::run);
+    pipeline.setCommandTimeout(50);
+    List<Integer> started = Collections.synchronizedList(new ArrayList<>());
+    CompletableFuture<Integer> unanswered = pipeline.submit(new HeldCommand(0, started));
+    HeldCommand next = new HeldCommand(1, started);
+    CompletableFuture<Integer> nextResult = pipeline.submit(next);
+
+    assertTrue(failure(unanswered) instanceof TimeoutException);
+    assertTrue(next.invoked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList(0, 1), started);
+
+    next.answer();
+    assertEquals(Integer.valueOf(1), nextResult.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+  }
+
+  private static Throwable failure(CompletableFuture<?> future) throws Exception {
+    try {
+      future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    } catch (ExecutionException e) {
+      return e.getCause();
+    }
+    fail("Expected the future to fail");
+    return null;
+  }
+}
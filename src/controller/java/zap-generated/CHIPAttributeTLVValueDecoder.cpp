@@ -0,0 +1,2426 @@
+/*
+ *
+ *    Copyright (c) 2021 Project CHIP Authors
+ *
+ *    Licensed under the Apache License, Version 2.0 (the "License");
+ *    you may not use this file except in compliance with the License.
+ *    You may obtain a copy of the License at
+ *
+ *        http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *    Unless required by applicable law or agreed to in writing, software
+ *    distributed under the License is distributed on an "AS IS" BASIS,
+ *    WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *    See the License for the specific language governing permissions and
+ *    limitations under the License.
+ */
+
+// THIS FILE IS GENERATED BY ZAP
+#include "CHIPReadCallbacks.h"
+
+#include <app-common/zap-generated/cluster-objects.h>
+#include <controller/java/CHIPAttributeTLVValueDecoder.h>
+#include <jni.h>
+#include <lib/support/CodeUtils.h>
+
+namespace chip {
+
+namespace {
+
+template <typename TypeInfo, typename CallbackType, typename CallbackFnType>
+CHIP_ERROR DeliverValue(TLV::TLVReader & aReader, jobject aJavaCallback)
+{
+    typename TypeInfo::DecodableType value;
+    ReturnErrorOnFailure(app::DataModel::Decode(aReader, value));
+
+    CallbackType * callback = Platform::New<CallbackType>(aJavaCallback, false);
+    VerifyOrReturnError(callback != nullptr, CHIP_ERROR_NO_MEMORY);
+    callback->DisableMetrics();
+
+    // The callback converts the value, calls the Java callback and deletes itself.
+    auto successFn = Callback::Callback<CallbackFnType>::FromCancelable(callback->Cancel());
+    successFn->mCall(successFn->mContext, value);
+    return CHIP_NO_ERROR;
+}
+
+} // namespace
+
+CHIP_ERROR DeliverAttributeValue(const app::ConcreteAttributePath & aPath, TLV::TLVReader & aReader, jobject aJavaCallback)
+{
+    switch (aPath.mClusterId)
+    {
+    case app::Clusters::AccessControl::Id: {
+        using namespace app::Clusters::AccessControl;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Acl::Id:
+            return DeliverValue<Attributes::Acl::TypeInfo, CHIPAccessControlAclAttributeCallback,
+                                CHIPAccessControlClusterAclAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Extension::Id:
+            return DeliverValue<Attributes::Extension::TypeInfo, CHIPAccessControlExtensionAttributeCallback,
+                                CHIPAccessControlClusterExtensionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPAccessControlAttributeListAttributeCallback,
+                                CHIPAccessControlClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPAccessControlClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::AccountLogin::Id: {
+        using namespace app::Clusters::AccountLogin;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPAccountLoginAttributeListAttributeCallback,
+                                CHIPAccountLoginClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPAccountLoginClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::AdministratorCommissioning::Id: {
+        using namespace app::Clusters::AdministratorCommissioning;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::WindowStatus::Id:
+            return DeliverValue<Attributes::WindowStatus::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPAdministratorCommissioningClusterWindowStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AdminFabricIndex::Id:
+            return DeliverValue<Attributes::AdminFabricIndex::TypeInfo,
+                                CHIPAdministratorCommissioningAdminFabricIndexAttributeCallback,
+                                CHIPAdministratorCommissioningClusterAdminFabricIndexAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AdminVendorId::Id:
+            return DeliverValue<Attributes::AdminVendorId::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPAdministratorCommissioningClusterAdminVendorIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPAdministratorCommissioningAttributeListAttributeCallback,
+                                CHIPAdministratorCommissioningClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPAdministratorCommissioningClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ApplicationBasic::Id: {
+        using namespace app::Clusters::ApplicationBasic;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::VendorName::Id:
+            return DeliverValue<Attributes::VendorName::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPApplicationBasicClusterVendorNameAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::VendorId::Id:
+            return DeliverValue<Attributes::VendorId::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPApplicationBasicClusterVendorIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ApplicationName::Id:
+            return DeliverValue<Attributes::ApplicationName::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPApplicationBasicClusterApplicationNameAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ProductId::Id:
+            return DeliverValue<Attributes::ProductId::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPApplicationBasicClusterProductIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ApplicationStatus::Id:
+            return DeliverValue<Attributes::ApplicationStatus::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPApplicationBasicClusterApplicationStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ApplicationVersion::Id:
+            return DeliverValue<Attributes::ApplicationVersion::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPApplicationBasicClusterApplicationVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AllowedVendorList::Id:
+            return DeliverValue<Attributes::AllowedVendorList::TypeInfo, CHIPApplicationBasicAllowedVendorListAttributeCallback,
+                                CHIPApplicationBasicClusterAllowedVendorListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPApplicationBasicAttributeListAttributeCallback,
+                                CHIPApplicationBasicClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPApplicationBasicClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ApplicationLauncher::Id: {
+        using namespace app::Clusters::ApplicationLauncher;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::ApplicationLauncherList::Id:
+            return DeliverValue<Attributes::ApplicationLauncherList::TypeInfo,
+                                CHIPApplicationLauncherApplicationLauncherListAttributeCallback,
+                                CHIPApplicationLauncherClusterApplicationLauncherListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPApplicationLauncherAttributeListAttributeCallback,
+                                CHIPApplicationLauncherClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPApplicationLauncherClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::AudioOutput::Id: {
+        using namespace app::Clusters::AudioOutput;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AudioOutputList::Id:
+            return DeliverValue<Attributes::AudioOutputList::TypeInfo, CHIPAudioOutputAudioOutputListAttributeCallback,
+                                CHIPAudioOutputClusterAudioOutputListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentAudioOutput::Id:
+            return DeliverValue<Attributes::CurrentAudioOutput::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPAudioOutputClusterCurrentAudioOutputAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPAudioOutputAttributeListAttributeCallback,
+                                CHIPAudioOutputClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPAudioOutputClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::BarrierControl::Id: {
+        using namespace app::Clusters::BarrierControl;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::BarrierMovingState::Id:
+            return DeliverValue<Attributes::BarrierMovingState::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPBarrierControlClusterBarrierMovingStateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BarrierSafetyStatus::Id:
+            return DeliverValue<Attributes::BarrierSafetyStatus::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBarrierControlClusterBarrierSafetyStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BarrierCapabilities::Id:
+            return DeliverValue<Attributes::BarrierCapabilities::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPBarrierControlClusterBarrierCapabilitiesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BarrierPosition::Id:
+            return DeliverValue<Attributes::BarrierPosition::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPBarrierControlClusterBarrierPositionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBarrierControlAttributeListAttributeCallback,
+                                CHIPBarrierControlClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBarrierControlClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Basic::Id: {
+        using namespace app::Clusters::Basic;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::InteractionModelVersion::Id:
+            return DeliverValue<Attributes::InteractionModelVersion::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBasicClusterInteractionModelVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::VendorName::Id:
+            return DeliverValue<Attributes::VendorName::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterVendorNameAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::VendorID::Id:
+            return DeliverValue<Attributes::VendorID::TypeInfo, CHIPBasicVendorIDAttributeCallback,
+                                CHIPBasicClusterVendorIDAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ProductName::Id:
+            return DeliverValue<Attributes::ProductName::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterProductNameAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ProductID::Id:
+            return DeliverValue<Attributes::ProductID::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBasicClusterProductIDAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NodeLabel::Id:
+            return DeliverValue<Attributes::NodeLabel::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterNodeLabelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Location::Id:
+            return DeliverValue<Attributes::Location::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterLocationAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::HardwareVersion::Id:
+            return DeliverValue<Attributes::HardwareVersion::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBasicClusterHardwareVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::HardwareVersionString::Id:
+            return DeliverValue<Attributes::HardwareVersionString::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterHardwareVersionStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SoftwareVersion::Id:
+            return DeliverValue<Attributes::SoftwareVersion::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPBasicClusterSoftwareVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SoftwareVersionString::Id:
+            return DeliverValue<Attributes::SoftwareVersionString::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterSoftwareVersionStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ManufacturingDate::Id:
+            return DeliverValue<Attributes::ManufacturingDate::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterManufacturingDateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PartNumber::Id:
+            return DeliverValue<Attributes::PartNumber::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterPartNumberAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ProductURL::Id:
+            return DeliverValue<Attributes::ProductURL::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterProductURLAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ProductLabel::Id:
+            return DeliverValue<Attributes::ProductLabel::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterProductLabelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SerialNumber::Id:
+            return DeliverValue<Attributes::SerialNumber::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterSerialNumberAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LocalConfigDisabled::Id:
+            return DeliverValue<Attributes::LocalConfigDisabled::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPBasicClusterLocalConfigDisabledAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Reachable::Id:
+            return DeliverValue<Attributes::Reachable::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPBasicClusterReachableAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::UniqueID::Id:
+            return DeliverValue<Attributes::UniqueID::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBasicClusterUniqueIDAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBasicAttributeListAttributeCallback,
+                                CHIPBasicClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBasicClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::BinaryInputBasic::Id: {
+        using namespace app::Clusters::BinaryInputBasic;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::OutOfService::Id:
+            return DeliverValue<Attributes::OutOfService::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPBinaryInputBasicClusterOutOfServiceAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PresentValue::Id:
+            return DeliverValue<Attributes::PresentValue::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPBinaryInputBasicClusterPresentValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StatusFlags::Id:
+            return DeliverValue<Attributes::StatusFlags::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPBinaryInputBasicClusterStatusFlagsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBinaryInputBasicAttributeListAttributeCallback,
+                                CHIPBinaryInputBasicClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBinaryInputBasicClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Binding::Id: {
+        using namespace app::Clusters::Binding;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBindingAttributeListAttributeCallback,
+                                CHIPBindingClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBindingClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::BooleanState::Id: {
+        using namespace app::Clusters::BooleanState;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::StateValue::Id:
+            return DeliverValue<Attributes::StateValue::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPBooleanStateClusterStateValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBooleanStateAttributeListAttributeCallback,
+                                CHIPBooleanStateClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBooleanStateClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::BridgedActions::Id: {
+        using namespace app::Clusters::BridgedActions;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::ActionList::Id:
+            return DeliverValue<Attributes::ActionList::TypeInfo, CHIPBridgedActionsActionListAttributeCallback,
+                                CHIPBridgedActionsClusterActionListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EndpointList::Id:
+            return DeliverValue<Attributes::EndpointList::TypeInfo, CHIPBridgedActionsEndpointListAttributeCallback,
+                                CHIPBridgedActionsClusterEndpointListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SetupUrl::Id:
+            return DeliverValue<Attributes::SetupUrl::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPBridgedActionsClusterSetupUrlAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBridgedActionsAttributeListAttributeCallback,
+                                CHIPBridgedActionsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBridgedActionsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::BridgedDeviceBasic::Id: {
+        using namespace app::Clusters::BridgedDeviceBasic;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPBridgedDeviceBasicAttributeListAttributeCallback,
+                                CHIPBridgedDeviceBasicClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPBridgedDeviceBasicClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Channel::Id: {
+        using namespace app::Clusters::Channel;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::ChannelList::Id:
+            return DeliverValue<Attributes::ChannelList::TypeInfo, CHIPChannelChannelListAttributeCallback,
+                                CHIPChannelClusterChannelListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPChannelAttributeListAttributeCallback,
+                                CHIPChannelClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPChannelClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ColorControl::Id: {
+        using namespace app::Clusters::ColorControl;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::CurrentHue::Id:
+            return DeliverValue<Attributes::CurrentHue::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterCurrentHueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentSaturation::Id:
+            return DeliverValue<Attributes::CurrentSaturation::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterCurrentSaturationAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RemainingTime::Id:
+            return DeliverValue<Attributes::RemainingTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterRemainingTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentX::Id:
+            return DeliverValue<Attributes::CurrentX::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterCurrentXAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentY::Id:
+            return DeliverValue<Attributes::CurrentY::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterCurrentYAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::DriftCompensation::Id:
+            return DeliverValue<Attributes::DriftCompensation::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterDriftCompensationAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CompensationText::Id:
+            return DeliverValue<Attributes::CompensationText::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPColorControlClusterCompensationTextAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorTemperature::Id:
+            return DeliverValue<Attributes::ColorTemperature::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorTemperatureAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorMode::Id:
+            return DeliverValue<Attributes::ColorMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorControlOptions::Id:
+            return DeliverValue<Attributes::ColorControlOptions::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorControlOptionsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NumberOfPrimaries::Id:
+            return DeliverValue<Attributes::NumberOfPrimaries::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterNumberOfPrimariesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary1X::Id:
+            return DeliverValue<Attributes::Primary1X::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary1XAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary1Y::Id:
+            return DeliverValue<Attributes::Primary1Y::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary1YAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary1Intensity::Id:
+            return DeliverValue<Attributes::Primary1Intensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterPrimary1IntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary2X::Id:
+            return DeliverValue<Attributes::Primary2X::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary2XAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary2Y::Id:
+            return DeliverValue<Attributes::Primary2Y::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary2YAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary2Intensity::Id:
+            return DeliverValue<Attributes::Primary2Intensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterPrimary2IntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary3X::Id:
+            return DeliverValue<Attributes::Primary3X::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary3XAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary3Y::Id:
+            return DeliverValue<Attributes::Primary3Y::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary3YAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary3Intensity::Id:
+            return DeliverValue<Attributes::Primary3Intensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterPrimary3IntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary4X::Id:
+            return DeliverValue<Attributes::Primary4X::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary4XAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary4Y::Id:
+            return DeliverValue<Attributes::Primary4Y::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary4YAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary4Intensity::Id:
+            return DeliverValue<Attributes::Primary4Intensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterPrimary4IntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary5X::Id:
+            return DeliverValue<Attributes::Primary5X::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary5XAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary5Y::Id:
+            return DeliverValue<Attributes::Primary5Y::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary5YAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary5Intensity::Id:
+            return DeliverValue<Attributes::Primary5Intensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterPrimary5IntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary6X::Id:
+            return DeliverValue<Attributes::Primary6X::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary6XAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary6Y::Id:
+            return DeliverValue<Attributes::Primary6Y::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterPrimary6YAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Primary6Intensity::Id:
+            return DeliverValue<Attributes::Primary6Intensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterPrimary6IntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::WhitePointX::Id:
+            return DeliverValue<Attributes::WhitePointX::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterWhitePointXAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::WhitePointY::Id:
+            return DeliverValue<Attributes::WhitePointY::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterWhitePointYAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointRX::Id:
+            return DeliverValue<Attributes::ColorPointRX::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorPointRXAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointRY::Id:
+            return DeliverValue<Attributes::ColorPointRY::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorPointRYAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointRIntensity::Id:
+            return DeliverValue<Attributes::ColorPointRIntensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorPointRIntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointGX::Id:
+            return DeliverValue<Attributes::ColorPointGX::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorPointGXAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointGY::Id:
+            return DeliverValue<Attributes::ColorPointGY::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorPointGYAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointGIntensity::Id:
+            return DeliverValue<Attributes::ColorPointGIntensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorPointGIntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointBX::Id:
+            return DeliverValue<Attributes::ColorPointBX::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorPointBXAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointBY::Id:
+            return DeliverValue<Attributes::ColorPointBY::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorPointBYAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorPointBIntensity::Id:
+            return DeliverValue<Attributes::ColorPointBIntensity::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorPointBIntensityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EnhancedCurrentHue::Id:
+            return DeliverValue<Attributes::EnhancedCurrentHue::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterEnhancedCurrentHueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EnhancedColorMode::Id:
+            return DeliverValue<Attributes::EnhancedColorMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterEnhancedColorModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorLoopActive::Id:
+            return DeliverValue<Attributes::ColorLoopActive::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorLoopActiveAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorLoopDirection::Id:
+            return DeliverValue<Attributes::ColorLoopDirection::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPColorControlClusterColorLoopDirectionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorLoopTime::Id:
+            return DeliverValue<Attributes::ColorLoopTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorLoopTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorLoopStartEnhancedHue::Id:
+            return DeliverValue<Attributes::ColorLoopStartEnhancedHue::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorLoopStartEnhancedHueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorLoopStoredEnhancedHue::Id:
+            return DeliverValue<Attributes::ColorLoopStoredEnhancedHue::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorLoopStoredEnhancedHueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorCapabilities::Id:
+            return DeliverValue<Attributes::ColorCapabilities::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorCapabilitiesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorTempPhysicalMin::Id:
+            return DeliverValue<Attributes::ColorTempPhysicalMin::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorTempPhysicalMinAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ColorTempPhysicalMax::Id:
+            return DeliverValue<Attributes::ColorTempPhysicalMax::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterColorTempPhysicalMaxAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CoupleColorTempToLevelMinMireds::Id:
+            return DeliverValue<Attributes::CoupleColorTempToLevelMinMireds::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterCoupleColorTempToLevelMinMiredsAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::StartUpColorTemperatureMireds::Id:
+            return DeliverValue<Attributes::StartUpColorTemperatureMireds::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterStartUpColorTemperatureMiredsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPColorControlAttributeListAttributeCallback,
+                                CHIPColorControlClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPColorControlClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ContentLauncher::Id: {
+        using namespace app::Clusters::ContentLauncher;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AcceptHeaderList::Id:
+            return DeliverValue<Attributes::AcceptHeaderList::TypeInfo, CHIPContentLauncherAcceptHeaderListAttributeCallback,
+                                CHIPContentLauncherClusterAcceptHeaderListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SupportedStreamingProtocols::Id:
+            return DeliverValue<Attributes::SupportedStreamingProtocols::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPContentLauncherClusterSupportedStreamingProtocolsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPContentLauncherAttributeListAttributeCallback,
+                                CHIPContentLauncherClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPContentLauncherClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Descriptor::Id: {
+        using namespace app::Clusters::Descriptor;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::DeviceList::Id:
+            return DeliverValue<Attributes::DeviceList::TypeInfo, CHIPDescriptorDeviceListAttributeCallback,
+                                CHIPDescriptorClusterDeviceListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ServerList::Id:
+            return DeliverValue<Attributes::ServerList::TypeInfo, CHIPDescriptorServerListAttributeCallback,
+                                CHIPDescriptorClusterServerListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClientList::Id:
+            return DeliverValue<Attributes::ClientList::TypeInfo, CHIPDescriptorClientListAttributeCallback,
+                                CHIPDescriptorClusterClientListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PartsList::Id:
+            return DeliverValue<Attributes::PartsList::TypeInfo, CHIPDescriptorPartsListAttributeCallback,
+                                CHIPDescriptorClusterPartsListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPDescriptorAttributeListAttributeCallback,
+                                CHIPDescriptorClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPDescriptorClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::DiagnosticLogs::Id: {
+        using namespace app::Clusters::DiagnosticLogs;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPDiagnosticLogsAttributeListAttributeCallback,
+                                CHIPDiagnosticLogsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::DoorLock::Id: {
+        using namespace app::Clusters::DoorLock;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::LockState::Id:
+            return DeliverValue<Attributes::LockState::TypeInfo, CHIPDoorLockLockStateAttributeCallback,
+                                CHIPDoorLockClusterLockStateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LockType::Id:
+            return DeliverValue<Attributes::LockType::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPDoorLockClusterLockTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActuatorEnabled::Id:
+            return DeliverValue<Attributes::ActuatorEnabled::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPDoorLockClusterActuatorEnabledAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::DoorState::Id:
+            return DeliverValue<Attributes::DoorState::TypeInfo, CHIPDoorLockDoorStateAttributeCallback,
+                                CHIPDoorLockClusterDoorStateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NumberOfTotalUsersSupported::Id:
+            return DeliverValue<Attributes::NumberOfTotalUsersSupported::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPDoorLockClusterNumberOfTotalUsersSupportedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NumberOfPINUsersSupported::Id:
+            return DeliverValue<Attributes::NumberOfPINUsersSupported::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPDoorLockClusterNumberOfPINUsersSupportedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxPINCodeLength::Id:
+            return DeliverValue<Attributes::MaxPINCodeLength::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPDoorLockClusterMaxPINCodeLengthAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinPINCodeLength::Id:
+            return DeliverValue<Attributes::MinPINCodeLength::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPDoorLockClusterMinPINCodeLengthAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Language::Id:
+            return DeliverValue<Attributes::Language::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPDoorLockClusterLanguageAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AutoRelockTime::Id:
+            return DeliverValue<Attributes::AutoRelockTime::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPDoorLockClusterAutoRelockTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SoundVolume::Id:
+            return DeliverValue<Attributes::SoundVolume::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPDoorLockClusterSoundVolumeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OperatingMode::Id:
+            return DeliverValue<Attributes::OperatingMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPDoorLockClusterOperatingModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SupportedOperatingModes::Id:
+            return DeliverValue<Attributes::SupportedOperatingModes::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPDoorLockClusterSupportedOperatingModesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EnableOneTouchLocking::Id:
+            return DeliverValue<Attributes::EnableOneTouchLocking::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPDoorLockClusterEnableOneTouchLockingAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EnablePrivacyModeButton::Id:
+            return DeliverValue<Attributes::EnablePrivacyModeButton::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPDoorLockClusterEnablePrivacyModeButtonAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::WrongCodeEntryLimit::Id:
+            return DeliverValue<Attributes::WrongCodeEntryLimit::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPDoorLockClusterWrongCodeEntryLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPDoorLockAttributeListAttributeCallback,
+                                CHIPDoorLockClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPDoorLockClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ElectricalMeasurement::Id: {
+        using namespace app::Clusters::ElectricalMeasurement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MeasurementType::Id:
+            return DeliverValue<Attributes::MeasurementType::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPElectricalMeasurementClusterMeasurementTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TotalActivePower::Id:
+            return DeliverValue<Attributes::TotalActivePower::TypeInfo, CHIPInt32sAttributeCallback,
+                                CHIPElectricalMeasurementClusterTotalActivePowerAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RmsVoltage::Id:
+            return DeliverValue<Attributes::RmsVoltage::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterRmsVoltageAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RmsVoltageMin::Id:
+            return DeliverValue<Attributes::RmsVoltageMin::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterRmsVoltageMinAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RmsVoltageMax::Id:
+            return DeliverValue<Attributes::RmsVoltageMax::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterRmsVoltageMaxAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RmsCurrent::Id:
+            return DeliverValue<Attributes::RmsCurrent::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterRmsCurrentAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RmsCurrentMin::Id:
+            return DeliverValue<Attributes::RmsCurrentMin::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterRmsCurrentMinAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RmsCurrentMax::Id:
+            return DeliverValue<Attributes::RmsCurrentMax::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterRmsCurrentMaxAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActivePower::Id:
+            return DeliverValue<Attributes::ActivePower::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPElectricalMeasurementClusterActivePowerAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActivePowerMin::Id:
+            return DeliverValue<Attributes::ActivePowerMin::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPElectricalMeasurementClusterActivePowerMinAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActivePowerMax::Id:
+            return DeliverValue<Attributes::ActivePowerMax::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPElectricalMeasurementClusterActivePowerMaxAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPElectricalMeasurementAttributeListAttributeCallback,
+                                CHIPElectricalMeasurementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPElectricalMeasurementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::EthernetNetworkDiagnostics::Id: {
+        using namespace app::Clusters::EthernetNetworkDiagnostics;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::PHYRate::Id:
+            return DeliverValue<Attributes::PHYRate::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterPHYRateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FullDuplex::Id:
+            return DeliverValue<Attributes::FullDuplex::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterFullDuplexAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PacketRxCount::Id:
+            return DeliverValue<Attributes::PacketRxCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterPacketRxCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PacketTxCount::Id:
+            return DeliverValue<Attributes::PacketTxCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterPacketTxCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxErrCount::Id:
+            return DeliverValue<Attributes::TxErrCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterTxErrCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CollisionCount::Id:
+            return DeliverValue<Attributes::CollisionCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterCollisionCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OverrunCount::Id:
+            return DeliverValue<Attributes::OverrunCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterOverrunCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CarrierDetect::Id:
+            return DeliverValue<Attributes::CarrierDetect::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterCarrierDetectAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TimeSinceReset::Id:
+            return DeliverValue<Attributes::TimeSinceReset::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterTimeSinceResetAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPEthernetNetworkDiagnosticsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::FixedLabel::Id: {
+        using namespace app::Clusters::FixedLabel;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::LabelList::Id:
+            return DeliverValue<Attributes::LabelList::TypeInfo, CHIPFixedLabelLabelListAttributeCallback,
+                                CHIPFixedLabelClusterLabelListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPFixedLabelAttributeListAttributeCallback,
+                                CHIPFixedLabelClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPFixedLabelClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::FlowMeasurement::Id: {
+        using namespace app::Clusters::FlowMeasurement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MeasuredValue::Id:
+            return DeliverValue<Attributes::MeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPFlowMeasurementClusterMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinMeasuredValue::Id:
+            return DeliverValue<Attributes::MinMeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPFlowMeasurementClusterMinMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxMeasuredValue::Id:
+            return DeliverValue<Attributes::MaxMeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPFlowMeasurementClusterMaxMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Tolerance::Id:
+            return DeliverValue<Attributes::Tolerance::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPFlowMeasurementClusterToleranceAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPFlowMeasurementAttributeListAttributeCallback,
+                                CHIPFlowMeasurementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPFlowMeasurementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::GeneralCommissioning::Id: {
+        using namespace app::Clusters::GeneralCommissioning;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Breadcrumb::Id:
+            return DeliverValue<Attributes::Breadcrumb::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPGeneralCommissioningClusterBreadcrumbAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BasicCommissioningInfoList::Id:
+            return DeliverValue<Attributes::BasicCommissioningInfoList::TypeInfo,
+                                CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback,
+                                CHIPGeneralCommissioningClusterBasicCommissioningInfoListAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RegulatoryConfig::Id:
+            return DeliverValue<Attributes::RegulatoryConfig::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPGeneralCommissioningClusterRegulatoryConfigAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LocationCapability::Id:
+            return DeliverValue<Attributes::LocationCapability::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPGeneralCommissioningClusterLocationCapabilityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPGeneralCommissioningAttributeListAttributeCallback,
+                                CHIPGeneralCommissioningClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGeneralCommissioningClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::GeneralDiagnostics::Id: {
+        using namespace app::Clusters::GeneralDiagnostics;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::NetworkInterfaces::Id:
+            return DeliverValue<Attributes::NetworkInterfaces::TypeInfo, CHIPGeneralDiagnosticsNetworkInterfacesAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterNetworkInterfacesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RebootCount::Id:
+            return DeliverValue<Attributes::RebootCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterRebootCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::UpTime::Id:
+            return DeliverValue<Attributes::UpTime::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterUpTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TotalOperationalHours::Id:
+            return DeliverValue<Attributes::TotalOperationalHours::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterTotalOperationalHoursAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BootReasons::Id:
+            return DeliverValue<Attributes::BootReasons::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterBootReasonsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActiveHardwareFaults::Id:
+            return DeliverValue<Attributes::ActiveHardwareFaults::TypeInfo,
+                                CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterActiveHardwareFaultsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActiveRadioFaults::Id:
+            return DeliverValue<Attributes::ActiveRadioFaults::TypeInfo, CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterActiveRadioFaultsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActiveNetworkFaults::Id:
+            return DeliverValue<Attributes::ActiveNetworkFaults::TypeInfo,
+                                CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterActiveNetworkFaultsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPGeneralDiagnosticsAttributeListAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGeneralDiagnosticsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::GroupKeyManagement::Id: {
+        using namespace app::Clusters::GroupKeyManagement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::GroupKeyMap::Id:
+            return DeliverValue<Attributes::GroupKeyMap::TypeInfo, CHIPGroupKeyManagementGroupKeyMapAttributeCallback,
+                                CHIPGroupKeyManagementClusterGroupKeyMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::GroupTable::Id:
+            return DeliverValue<Attributes::GroupTable::TypeInfo, CHIPGroupKeyManagementGroupTableAttributeCallback,
+                                CHIPGroupKeyManagementClusterGroupTableAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxGroupsPerFabric::Id:
+            return DeliverValue<Attributes::MaxGroupsPerFabric::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGroupKeyManagementClusterMaxGroupsPerFabricAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxGroupKeysPerFabric::Id:
+            return DeliverValue<Attributes::MaxGroupKeysPerFabric::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGroupKeyManagementClusterMaxGroupKeysPerFabricAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPGroupKeyManagementAttributeListAttributeCallback,
+                                CHIPGroupKeyManagementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGroupKeyManagementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Groups::Id: {
+        using namespace app::Clusters::Groups;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::NameSupport::Id:
+            return DeliverValue<Attributes::NameSupport::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPGroupsClusterNameSupportAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPGroupsAttributeListAttributeCallback,
+                                CHIPGroupsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPGroupsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Identify::Id: {
+        using namespace app::Clusters::Identify;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::IdentifyTime::Id:
+            return DeliverValue<Attributes::IdentifyTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPIdentifyClusterIdentifyTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::IdentifyType::Id:
+            return DeliverValue<Attributes::IdentifyType::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPIdentifyClusterIdentifyTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPIdentifyAttributeListAttributeCallback,
+                                CHIPIdentifyClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPIdentifyClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::IlluminanceMeasurement::Id: {
+        using namespace app::Clusters::IlluminanceMeasurement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MeasuredValue::Id:
+            return DeliverValue<Attributes::MeasuredValue::TypeInfo, CHIPIlluminanceMeasurementMeasuredValueAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinMeasuredValue::Id:
+            return DeliverValue<Attributes::MinMeasuredValue::TypeInfo, CHIPIlluminanceMeasurementMinMeasuredValueAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterMinMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxMeasuredValue::Id:
+            return DeliverValue<Attributes::MaxMeasuredValue::TypeInfo, CHIPIlluminanceMeasurementMaxMeasuredValueAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterMaxMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Tolerance::Id:
+            return DeliverValue<Attributes::Tolerance::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterToleranceAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LightSensorType::Id:
+            return DeliverValue<Attributes::LightSensorType::TypeInfo, CHIPIlluminanceMeasurementLightSensorTypeAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterLightSensorTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPIlluminanceMeasurementAttributeListAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPIlluminanceMeasurementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::KeypadInput::Id: {
+        using namespace app::Clusters::KeypadInput;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPKeypadInputAttributeListAttributeCallback,
+                                CHIPKeypadInputClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPKeypadInputClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::LevelControl::Id: {
+        using namespace app::Clusters::LevelControl;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::CurrentLevel::Id:
+            return DeliverValue<Attributes::CurrentLevel::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPLevelControlClusterCurrentLevelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RemainingTime::Id:
+            return DeliverValue<Attributes::RemainingTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLevelControlClusterRemainingTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinLevel::Id:
+            return DeliverValue<Attributes::MinLevel::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPLevelControlClusterMinLevelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxLevel::Id:
+            return DeliverValue<Attributes::MaxLevel::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPLevelControlClusterMaxLevelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentFrequency::Id:
+            return DeliverValue<Attributes::CurrentFrequency::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLevelControlClusterCurrentFrequencyAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinFrequency::Id:
+            return DeliverValue<Attributes::MinFrequency::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLevelControlClusterMinFrequencyAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxFrequency::Id:
+            return DeliverValue<Attributes::MaxFrequency::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLevelControlClusterMaxFrequencyAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Options::Id:
+            return DeliverValue<Attributes::Options::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPLevelControlClusterOptionsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OnOffTransitionTime::Id:
+            return DeliverValue<Attributes::OnOffTransitionTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLevelControlClusterOnOffTransitionTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OnLevel::Id:
+            return DeliverValue<Attributes::OnLevel::TypeInfo, CHIPLevelControlOnLevelAttributeCallback,
+                                CHIPLevelControlClusterOnLevelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OnTransitionTime::Id:
+            return DeliverValue<Attributes::OnTransitionTime::TypeInfo, CHIPLevelControlOnTransitionTimeAttributeCallback,
+                                CHIPLevelControlClusterOnTransitionTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OffTransitionTime::Id:
+            return DeliverValue<Attributes::OffTransitionTime::TypeInfo, CHIPLevelControlOffTransitionTimeAttributeCallback,
+                                CHIPLevelControlClusterOffTransitionTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::DefaultMoveRate::Id:
+            return DeliverValue<Attributes::DefaultMoveRate::TypeInfo, CHIPLevelControlDefaultMoveRateAttributeCallback,
+                                CHIPLevelControlClusterDefaultMoveRateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StartUpCurrentLevel::Id:
+            return DeliverValue<Attributes::StartUpCurrentLevel::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPLevelControlClusterStartUpCurrentLevelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPLevelControlAttributeListAttributeCallback,
+                                CHIPLevelControlClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLevelControlClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::LocalizationConfiguration::Id: {
+        using namespace app::Clusters::LocalizationConfiguration;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::ActiveLocale::Id:
+            return DeliverValue<Attributes::ActiveLocale::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPLocalizationConfigurationClusterActiveLocaleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SupportedLocales::Id:
+            return DeliverValue<Attributes::SupportedLocales::TypeInfo,
+                                CHIPLocalizationConfigurationSupportedLocalesAttributeCallback,
+                                CHIPLocalizationConfigurationClusterSupportedLocalesAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::LowPower::Id: {
+        using namespace app::Clusters::LowPower;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPLowPowerAttributeListAttributeCallback,
+                                CHIPLowPowerClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPLowPowerClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::MediaInput::Id: {
+        using namespace app::Clusters::MediaInput;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MediaInputList::Id:
+            return DeliverValue<Attributes::MediaInputList::TypeInfo, CHIPMediaInputMediaInputListAttributeCallback,
+                                CHIPMediaInputClusterMediaInputListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentMediaInput::Id:
+            return DeliverValue<Attributes::CurrentMediaInput::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPMediaInputClusterCurrentMediaInputAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPMediaInputAttributeListAttributeCallback,
+                                CHIPMediaInputClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPMediaInputClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::MediaPlayback::Id: {
+        using namespace app::Clusters::MediaPlayback;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::PlaybackState::Id:
+            return DeliverValue<Attributes::PlaybackState::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPMediaPlaybackClusterPlaybackStateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StartTime::Id:
+            return DeliverValue<Attributes::StartTime::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPMediaPlaybackClusterStartTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Duration::Id:
+            return DeliverValue<Attributes::Duration::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPMediaPlaybackClusterDurationAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PlaybackSpeed::Id:
+            return DeliverValue<Attributes::PlaybackSpeed::TypeInfo, CHIPFloatAttributeCallback,
+                                CHIPMediaPlaybackClusterPlaybackSpeedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SeekRangeEnd::Id:
+            return DeliverValue<Attributes::SeekRangeEnd::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPMediaPlaybackClusterSeekRangeEndAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SeekRangeStart::Id:
+            return DeliverValue<Attributes::SeekRangeStart::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPMediaPlaybackClusterSeekRangeStartAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPMediaPlaybackAttributeListAttributeCallback,
+                                CHIPMediaPlaybackClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPMediaPlaybackClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ModeSelect::Id: {
+        using namespace app::Clusters::ModeSelect;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::CurrentMode::Id:
+            return DeliverValue<Attributes::CurrentMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPModeSelectClusterCurrentModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SupportedModes::Id:
+            return DeliverValue<Attributes::SupportedModes::TypeInfo, CHIPModeSelectSupportedModesAttributeCallback,
+                                CHIPModeSelectClusterSupportedModesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OnMode::Id:
+            return DeliverValue<Attributes::OnMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPModeSelectClusterOnModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StartUpMode::Id:
+            return DeliverValue<Attributes::StartUpMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPModeSelectClusterStartUpModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Description::Id:
+            return DeliverValue<Attributes::Description::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPModeSelectClusterDescriptionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPModeSelectAttributeListAttributeCallback,
+                                CHIPModeSelectClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPModeSelectClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::NetworkCommissioning::Id: {
+        using namespace app::Clusters::NetworkCommissioning;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MaxNetworks::Id:
+            return DeliverValue<Attributes::MaxNetworks::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPNetworkCommissioningClusterMaxNetworksAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Networks::Id:
+            return DeliverValue<Attributes::Networks::TypeInfo, CHIPNetworkCommissioningNetworksAttributeCallback,
+                                CHIPNetworkCommissioningClusterNetworksAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ScanMaxTimeSeconds::Id:
+            return DeliverValue<Attributes::ScanMaxTimeSeconds::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPNetworkCommissioningClusterScanMaxTimeSecondsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ConnectMaxTimeSeconds::Id:
+            return DeliverValue<Attributes::ConnectMaxTimeSeconds::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPNetworkCommissioningClusterConnectMaxTimeSecondsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::InterfaceEnabled::Id:
+            return DeliverValue<Attributes::InterfaceEnabled::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPNetworkCommissioningClusterInterfaceEnabledAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LastNetworkingStatus::Id:
+            return DeliverValue<Attributes::LastNetworkingStatus::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPNetworkCommissioningClusterLastNetworkingStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LastNetworkID::Id:
+            return DeliverValue<Attributes::LastNetworkID::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPNetworkCommissioningClusterLastNetworkIDAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LastConnectErrorValue::Id:
+            return DeliverValue<Attributes::LastConnectErrorValue::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPNetworkCommissioningClusterLastConnectErrorValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPNetworkCommissioningClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPNetworkCommissioningClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::OtaSoftwareUpdateProvider::Id: {
+        using namespace app::Clusters::OtaSoftwareUpdateProvider;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback,
+                                CHIPOtaSoftwareUpdateProviderClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOtaSoftwareUpdateProviderClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::OtaSoftwareUpdateRequestor::Id: {
+        using namespace app::Clusters::OtaSoftwareUpdateRequestor;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::DefaultOtaProviders::Id:
+            return DeliverValue<Attributes::DefaultOtaProviders::TypeInfo,
+                                CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback,
+                                CHIPOtaSoftwareUpdateRequestorClusterDefaultOtaProvidersAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::UpdatePossible::Id:
+            return DeliverValue<Attributes::UpdatePossible::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPOtaSoftwareUpdateRequestorClusterUpdatePossibleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::UpdateState::Id:
+            return DeliverValue<Attributes::UpdateState::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOtaSoftwareUpdateRequestorClusterUpdateStateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::UpdateStateProgress::Id:
+            return DeliverValue<Attributes::UpdateStateProgress::TypeInfo,
+                                CHIPOtaSoftwareUpdateRequestorUpdateStateProgressAttributeCallback,
+                                CHIPOtaSoftwareUpdateRequestorClusterUpdateStateProgressAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback,
+                                CHIPOtaSoftwareUpdateRequestorClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOtaSoftwareUpdateRequestorClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::OccupancySensing::Id: {
+        using namespace app::Clusters::OccupancySensing;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Occupancy::Id:
+            return DeliverValue<Attributes::Occupancy::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOccupancySensingClusterOccupancyAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OccupancySensorType::Id:
+            return DeliverValue<Attributes::OccupancySensorType::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOccupancySensingClusterOccupancySensorTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OccupancySensorTypeBitmap::Id:
+            return DeliverValue<Attributes::OccupancySensorTypeBitmap::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOccupancySensingClusterOccupancySensorTypeBitmapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPOccupancySensingAttributeListAttributeCallback,
+                                CHIPOccupancySensingClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOccupancySensingClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::OnOff::Id: {
+        using namespace app::Clusters::OnOff;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::OnOff::Id:
+            return DeliverValue<Attributes::OnOff::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPOnOffClusterOnOffAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::GlobalSceneControl::Id:
+            return DeliverValue<Attributes::GlobalSceneControl::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPOnOffClusterGlobalSceneControlAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OnTime::Id:
+            return DeliverValue<Attributes::OnTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOnOffClusterOnTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OffWaitTime::Id:
+            return DeliverValue<Attributes::OffWaitTime::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOnOffClusterOffWaitTimeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StartUpOnOff::Id:
+            return DeliverValue<Attributes::StartUpOnOff::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOnOffClusterStartUpOnOffAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPOnOffAttributeListAttributeCallback,
+                                CHIPOnOffClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPOnOffClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOnOffClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::OnOffSwitchConfiguration::Id: {
+        using namespace app::Clusters::OnOffSwitchConfiguration;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::SwitchType::Id:
+            return DeliverValue<Attributes::SwitchType::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOnOffSwitchConfigurationClusterSwitchTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SwitchActions::Id:
+            return DeliverValue<Attributes::SwitchActions::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOnOffSwitchConfigurationClusterSwitchActionsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPOnOffSwitchConfigurationAttributeListAttributeCallback,
+                                CHIPOnOffSwitchConfigurationClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOnOffSwitchConfigurationClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::OperationalCredentials::Id: {
+        using namespace app::Clusters::OperationalCredentials;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::FabricsList::Id:
+            return DeliverValue<Attributes::FabricsList::TypeInfo, CHIPOperationalCredentialsFabricsListAttributeCallback,
+                                CHIPOperationalCredentialsClusterFabricsListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SupportedFabrics::Id:
+            return DeliverValue<Attributes::SupportedFabrics::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOperationalCredentialsClusterSupportedFabricsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CommissionedFabrics::Id:
+            return DeliverValue<Attributes::CommissionedFabrics::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPOperationalCredentialsClusterCommissionedFabricsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TrustedRootCertificates::Id:
+            return DeliverValue<Attributes::TrustedRootCertificates::TypeInfo,
+                                CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback,
+                                CHIPOperationalCredentialsClusterTrustedRootCertificatesAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::CurrentFabricIndex::Id:
+            return DeliverValue<Attributes::CurrentFabricIndex::TypeInfo,
+                                CHIPOperationalCredentialsCurrentFabricIndexAttributeCallback,
+                                CHIPOperationalCredentialsClusterCurrentFabricIndexAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPOperationalCredentialsAttributeListAttributeCallback,
+                                CHIPOperationalCredentialsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPOperationalCredentialsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::PowerSource::Id: {
+        using namespace app::Clusters::PowerSource;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Status::Id:
+            return DeliverValue<Attributes::Status::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPowerSourceClusterStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Order::Id:
+            return DeliverValue<Attributes::Order::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPowerSourceClusterOrderAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Description::Id:
+            return DeliverValue<Attributes::Description::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPPowerSourceClusterDescriptionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BatteryVoltage::Id:
+            return DeliverValue<Attributes::BatteryVoltage::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPPowerSourceClusterBatteryVoltageAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BatteryPercentRemaining::Id:
+            return DeliverValue<Attributes::BatteryPercentRemaining::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPowerSourceClusterBatteryPercentRemainingAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BatteryTimeRemaining::Id:
+            return DeliverValue<Attributes::BatteryTimeRemaining::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPPowerSourceClusterBatteryTimeRemainingAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BatteryChargeLevel::Id:
+            return DeliverValue<Attributes::BatteryChargeLevel::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPowerSourceClusterBatteryChargeLevelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActiveBatteryFaults::Id:
+            return DeliverValue<Attributes::ActiveBatteryFaults::TypeInfo, CHIPPowerSourceActiveBatteryFaultsAttributeCallback,
+                                CHIPPowerSourceClusterActiveBatteryFaultsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BatteryChargeState::Id:
+            return DeliverValue<Attributes::BatteryChargeState::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPowerSourceClusterBatteryChargeStateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPPowerSourceAttributeListAttributeCallback,
+                                CHIPPowerSourceClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPPowerSourceClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPowerSourceClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::PowerSourceConfiguration::Id: {
+        using namespace app::Clusters::PowerSourceConfiguration;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Sources::Id:
+            return DeliverValue<Attributes::Sources::TypeInfo, CHIPPowerSourceConfigurationSourcesAttributeCallback,
+                                CHIPPowerSourceConfigurationClusterSourcesAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPPowerSourceConfigurationAttributeListAttributeCallback,
+                                CHIPPowerSourceConfigurationClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPowerSourceConfigurationClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::PressureMeasurement::Id: {
+        using namespace app::Clusters::PressureMeasurement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MeasuredValue::Id:
+            return DeliverValue<Attributes::MeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPressureMeasurementClusterMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinMeasuredValue::Id:
+            return DeliverValue<Attributes::MinMeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPressureMeasurementClusterMinMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxMeasuredValue::Id:
+            return DeliverValue<Attributes::MaxMeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPressureMeasurementClusterMaxMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPPressureMeasurementAttributeListAttributeCallback,
+                                CHIPPressureMeasurementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPressureMeasurementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::PumpConfigurationAndControl::Id: {
+        using namespace app::Clusters::PumpConfigurationAndControl;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MaxPressure::Id:
+            return DeliverValue<Attributes::MaxPressure::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxPressureAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxSpeed::Id:
+            return DeliverValue<Attributes::MaxSpeed::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxSpeedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxFlow::Id:
+            return DeliverValue<Attributes::MaxFlow::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxFlowAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinConstPressure::Id:
+            return DeliverValue<Attributes::MinConstPressure::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMinConstPressureAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::MaxConstPressure::Id:
+            return DeliverValue<Attributes::MaxConstPressure::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxConstPressureAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::MinCompPressure::Id:
+            return DeliverValue<Attributes::MinCompPressure::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMinCompPressureAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxCompPressure::Id:
+            return DeliverValue<Attributes::MaxCompPressure::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxCompPressureAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinConstSpeed::Id:
+            return DeliverValue<Attributes::MinConstSpeed::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMinConstSpeedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxConstSpeed::Id:
+            return DeliverValue<Attributes::MaxConstSpeed::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxConstSpeedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinConstFlow::Id:
+            return DeliverValue<Attributes::MinConstFlow::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMinConstFlowAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxConstFlow::Id:
+            return DeliverValue<Attributes::MaxConstFlow::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxConstFlowAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinConstTemp::Id:
+            return DeliverValue<Attributes::MinConstTemp::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMinConstTempAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxConstTemp::Id:
+            return DeliverValue<Attributes::MaxConstTemp::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterMaxConstTempAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PumpStatus::Id:
+            return DeliverValue<Attributes::PumpStatus::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterPumpStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EffectiveOperationMode::Id:
+            return DeliverValue<Attributes::EffectiveOperationMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterEffectiveOperationModeAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::EffectiveControlMode::Id:
+            return DeliverValue<Attributes::EffectiveControlMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterEffectiveControlModeAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::Capacity::Id:
+            return DeliverValue<Attributes::Capacity::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterCapacityAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Speed::Id:
+            return DeliverValue<Attributes::Speed::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterSpeedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LifetimeRunningHours::Id:
+            return DeliverValue<Attributes::LifetimeRunningHours::TypeInfo,
+                                CHIPPumpConfigurationAndControlLifetimeRunningHoursAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterLifetimeRunningHoursAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::Power::Id:
+            return DeliverValue<Attributes::Power::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterPowerAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LifetimeEnergyConsumed::Id:
+            return DeliverValue<Attributes::LifetimeEnergyConsumed::TypeInfo,
+                                CHIPPumpConfigurationAndControlLifetimeEnergyConsumedAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterLifetimeEnergyConsumedAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::OperationMode::Id:
+            return DeliverValue<Attributes::OperationMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterOperationModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ControlMode::Id:
+            return DeliverValue<Attributes::ControlMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterControlModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AlarmMask::Id:
+            return DeliverValue<Attributes::AlarmMask::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterAlarmMaskAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPPumpConfigurationAndControlAttributeListAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPPumpConfigurationAndControlClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::RelativeHumidityMeasurement::Id: {
+        using namespace app::Clusters::RelativeHumidityMeasurement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MeasuredValue::Id:
+            return DeliverValue<Attributes::MeasuredValue::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPRelativeHumidityMeasurementClusterMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinMeasuredValue::Id:
+            return DeliverValue<Attributes::MinMeasuredValue::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPRelativeHumidityMeasurementClusterMinMeasuredValueAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::MaxMeasuredValue::Id:
+            return DeliverValue<Attributes::MaxMeasuredValue::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPRelativeHumidityMeasurementClusterMaxMeasuredValueAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::Tolerance::Id:
+            return DeliverValue<Attributes::Tolerance::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPRelativeHumidityMeasurementClusterToleranceAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPRelativeHumidityMeasurementAttributeListAttributeCallback,
+                                CHIPRelativeHumidityMeasurementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPRelativeHumidityMeasurementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Scenes::Id: {
+        using namespace app::Clusters::Scenes;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::SceneCount::Id:
+            return DeliverValue<Attributes::SceneCount::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPScenesClusterSceneCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentScene::Id:
+            return DeliverValue<Attributes::CurrentScene::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPScenesClusterCurrentSceneAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentGroup::Id:
+            return DeliverValue<Attributes::CurrentGroup::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPScenesClusterCurrentGroupAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SceneValid::Id:
+            return DeliverValue<Attributes::SceneValid::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPScenesClusterSceneValidAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NameSupport::Id:
+            return DeliverValue<Attributes::NameSupport::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPScenesClusterNameSupportAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPScenesAttributeListAttributeCallback,
+                                CHIPScenesClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPScenesClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::SoftwareDiagnostics::Id: {
+        using namespace app::Clusters::SoftwareDiagnostics;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::ThreadMetrics::Id:
+            return DeliverValue<Attributes::ThreadMetrics::TypeInfo, CHIPSoftwareDiagnosticsThreadMetricsAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterThreadMetricsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentHeapFree::Id:
+            return DeliverValue<Attributes::CurrentHeapFree::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterCurrentHeapFreeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentHeapUsed::Id:
+            return DeliverValue<Attributes::CurrentHeapUsed::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterCurrentHeapUsedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentHeapHighWatermark::Id:
+            return DeliverValue<Attributes::CurrentHeapHighWatermark::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterCurrentHeapHighWatermarkAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPSoftwareDiagnosticsAttributeListAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPSoftwareDiagnosticsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Switch::Id: {
+        using namespace app::Clusters::Switch;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::NumberOfPositions::Id:
+            return DeliverValue<Attributes::NumberOfPositions::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPSwitchClusterNumberOfPositionsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentPosition::Id:
+            return DeliverValue<Attributes::CurrentPosition::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPSwitchClusterCurrentPositionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MultiPressMax::Id:
+            return DeliverValue<Attributes::MultiPressMax::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPSwitchClusterMultiPressMaxAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPSwitchAttributeListAttributeCallback,
+                                CHIPSwitchClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPSwitchClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPSwitchClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::TargetNavigator::Id: {
+        using namespace app::Clusters::TargetNavigator;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::TargetNavigatorList::Id:
+            return DeliverValue<Attributes::TargetNavigatorList::TypeInfo, CHIPTargetNavigatorTargetNavigatorListAttributeCallback,
+                                CHIPTargetNavigatorClusterTargetNavigatorListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentNavigatorTarget::Id:
+            return DeliverValue<Attributes::CurrentNavigatorTarget::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPTargetNavigatorClusterCurrentNavigatorTargetAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPTargetNavigatorAttributeListAttributeCallback,
+                                CHIPTargetNavigatorClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTargetNavigatorClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::TemperatureMeasurement::Id: {
+        using namespace app::Clusters::TemperatureMeasurement;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::MeasuredValue::Id:
+            return DeliverValue<Attributes::MeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPTemperatureMeasurementClusterMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinMeasuredValue::Id:
+            return DeliverValue<Attributes::MinMeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPTemperatureMeasurementClusterMinMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxMeasuredValue::Id:
+            return DeliverValue<Attributes::MaxMeasuredValue::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPTemperatureMeasurementClusterMaxMeasuredValueAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Tolerance::Id:
+            return DeliverValue<Attributes::Tolerance::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTemperatureMeasurementClusterToleranceAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPTemperatureMeasurementAttributeListAttributeCallback,
+                                CHIPTemperatureMeasurementClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTemperatureMeasurementClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::TestCluster::Id: {
+        using namespace app::Clusters::TestCluster;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Boolean::Id:
+            return DeliverValue<Attributes::Boolean::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPTestClusterClusterBooleanAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Bitmap8::Id:
+            return DeliverValue<Attributes::Bitmap8::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPTestClusterClusterBitmap8AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Bitmap16::Id:
+            return DeliverValue<Attributes::Bitmap16::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTestClusterClusterBitmap16AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Bitmap32::Id:
+            return DeliverValue<Attributes::Bitmap32::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPTestClusterClusterBitmap32AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Bitmap64::Id:
+            return DeliverValue<Attributes::Bitmap64::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPTestClusterClusterBitmap64AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int8u::Id:
+            return DeliverValue<Attributes::Int8u::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPTestClusterClusterInt8uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int16u::Id:
+            return DeliverValue<Attributes::Int16u::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTestClusterClusterInt16uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int24u::Id:
+            return DeliverValue<Attributes::Int24u::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPTestClusterClusterInt24uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int32u::Id:
+            return DeliverValue<Attributes::Int32u::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPTestClusterClusterInt32uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int40u::Id:
+            return DeliverValue<Attributes::Int40u::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPTestClusterClusterInt40uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int48u::Id:
+            return DeliverValue<Attributes::Int48u::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPTestClusterClusterInt48uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int56u::Id:
+            return DeliverValue<Attributes::Int56u::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPTestClusterClusterInt56uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int64u::Id:
+            return DeliverValue<Attributes::Int64u::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPTestClusterClusterInt64uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int8s::Id:
+            return DeliverValue<Attributes::Int8s::TypeInfo, CHIPInt8sAttributeCallback,
+                                CHIPTestClusterClusterInt8sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int16s::Id:
+            return DeliverValue<Attributes::Int16s::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPTestClusterClusterInt16sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int24s::Id:
+            return DeliverValue<Attributes::Int24s::TypeInfo, CHIPInt32sAttributeCallback,
+                                CHIPTestClusterClusterInt24sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int32s::Id:
+            return DeliverValue<Attributes::Int32s::TypeInfo, CHIPInt32sAttributeCallback,
+                                CHIPTestClusterClusterInt32sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int40s::Id:
+            return DeliverValue<Attributes::Int40s::TypeInfo, CHIPInt64sAttributeCallback,
+                                CHIPTestClusterClusterInt40sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int48s::Id:
+            return DeliverValue<Attributes::Int48s::TypeInfo, CHIPInt64sAttributeCallback,
+                                CHIPTestClusterClusterInt48sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int56s::Id:
+            return DeliverValue<Attributes::Int56s::TypeInfo, CHIPInt64sAttributeCallback,
+                                CHIPTestClusterClusterInt56sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Int64s::Id:
+            return DeliverValue<Attributes::Int64s::TypeInfo, CHIPInt64sAttributeCallback,
+                                CHIPTestClusterClusterInt64sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Enum8::Id:
+            return DeliverValue<Attributes::Enum8::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPTestClusterClusterEnum8AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Enum16::Id:
+            return DeliverValue<Attributes::Enum16::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTestClusterClusterEnum16AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FloatSingle::Id:
+            return DeliverValue<Attributes::FloatSingle::TypeInfo, CHIPFloatAttributeCallback,
+                                CHIPTestClusterClusterFloatSingleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FloatDouble::Id:
+            return DeliverValue<Attributes::FloatDouble::TypeInfo, CHIPDoubleAttributeCallback,
+                                CHIPTestClusterClusterFloatDoubleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OctetString::Id:
+            return DeliverValue<Attributes::OctetString::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPTestClusterClusterOctetStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ListInt8u::Id:
+            return DeliverValue<Attributes::ListInt8u::TypeInfo, CHIPTestClusterListInt8uAttributeCallback,
+                                CHIPTestClusterClusterListInt8uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ListOctetString::Id:
+            return DeliverValue<Attributes::ListOctetString::TypeInfo, CHIPTestClusterListOctetStringAttributeCallback,
+                                CHIPTestClusterClusterListOctetStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ListStructOctetString::Id:
+            return DeliverValue<Attributes::ListStructOctetString::TypeInfo, CHIPTestClusterListStructOctetStringAttributeCallback,
+                                CHIPTestClusterClusterListStructOctetStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LongOctetString::Id:
+            return DeliverValue<Attributes::LongOctetString::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPTestClusterClusterLongOctetStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CharString::Id:
+            return DeliverValue<Attributes::CharString::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPTestClusterClusterCharStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LongCharString::Id:
+            return DeliverValue<Attributes::LongCharString::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPTestClusterClusterLongCharStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EpochUs::Id:
+            return DeliverValue<Attributes::EpochUs::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPTestClusterClusterEpochUsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EpochS::Id:
+            return DeliverValue<Attributes::EpochS::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPTestClusterClusterEpochSAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::VendorId::Id:
+            return DeliverValue<Attributes::VendorId::TypeInfo, CHIPTestClusterVendorIdAttributeCallback,
+                                CHIPTestClusterClusterVendorIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ListNullablesAndOptionalsStruct::Id:
+            return DeliverValue<Attributes::ListNullablesAndOptionalsStruct::TypeInfo,
+                                CHIPTestClusterListNullablesAndOptionalsStructAttributeCallback,
+                                CHIPTestClusterClusterListNullablesAndOptionalsStructAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::EnumAttr::Id:
+            return DeliverValue<Attributes::EnumAttr::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPTestClusterClusterEnumAttrAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RangeRestrictedInt8u::Id:
+            return DeliverValue<Attributes::RangeRestrictedInt8u::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPTestClusterClusterRangeRestrictedInt8uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RangeRestrictedInt8s::Id:
+            return DeliverValue<Attributes::RangeRestrictedInt8s::TypeInfo, CHIPInt8sAttributeCallback,
+                                CHIPTestClusterClusterRangeRestrictedInt8sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RangeRestrictedInt16u::Id:
+            return DeliverValue<Attributes::RangeRestrictedInt16u::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTestClusterClusterRangeRestrictedInt16uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RangeRestrictedInt16s::Id:
+            return DeliverValue<Attributes::RangeRestrictedInt16s::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPTestClusterClusterRangeRestrictedInt16sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ListLongOctetString::Id:
+            return DeliverValue<Attributes::ListLongOctetString::TypeInfo, CHIPTestClusterListLongOctetStringAttributeCallback,
+                                CHIPTestClusterClusterListLongOctetStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TimedWriteBoolean::Id:
+            return DeliverValue<Attributes::TimedWriteBoolean::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPTestClusterClusterTimedWriteBooleanAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Unsupported::Id:
+            return DeliverValue<Attributes::Unsupported::TypeInfo, CHIPBooleanAttributeCallback,
+                                CHIPTestClusterClusterUnsupportedAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableBoolean::Id:
+            return DeliverValue<Attributes::NullableBoolean::TypeInfo, CHIPTestClusterNullableBooleanAttributeCallback,
+                                CHIPTestClusterClusterNullableBooleanAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableBitmap8::Id:
+            return DeliverValue<Attributes::NullableBitmap8::TypeInfo, CHIPTestClusterNullableBitmap8AttributeCallback,
+                                CHIPTestClusterClusterNullableBitmap8AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableBitmap16::Id:
+            return DeliverValue<Attributes::NullableBitmap16::TypeInfo, CHIPTestClusterNullableBitmap16AttributeCallback,
+                                CHIPTestClusterClusterNullableBitmap16AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableBitmap32::Id:
+            return DeliverValue<Attributes::NullableBitmap32::TypeInfo, CHIPTestClusterNullableBitmap32AttributeCallback,
+                                CHIPTestClusterClusterNullableBitmap32AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableBitmap64::Id:
+            return DeliverValue<Attributes::NullableBitmap64::TypeInfo, CHIPTestClusterNullableBitmap64AttributeCallback,
+                                CHIPTestClusterClusterNullableBitmap64AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt8u::Id:
+            return DeliverValue<Attributes::NullableInt8u::TypeInfo, CHIPTestClusterNullableInt8uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt8uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt16u::Id:
+            return DeliverValue<Attributes::NullableInt16u::TypeInfo, CHIPTestClusterNullableInt16uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt16uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt24u::Id:
+            return DeliverValue<Attributes::NullableInt24u::TypeInfo, CHIPTestClusterNullableInt24uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt24uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt32u::Id:
+            return DeliverValue<Attributes::NullableInt32u::TypeInfo, CHIPTestClusterNullableInt32uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt32uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt40u::Id:
+            return DeliverValue<Attributes::NullableInt40u::TypeInfo, CHIPTestClusterNullableInt40uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt40uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt48u::Id:
+            return DeliverValue<Attributes::NullableInt48u::TypeInfo, CHIPTestClusterNullableInt48uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt48uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt56u::Id:
+            return DeliverValue<Attributes::NullableInt56u::TypeInfo, CHIPTestClusterNullableInt56uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt56uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt64u::Id:
+            return DeliverValue<Attributes::NullableInt64u::TypeInfo, CHIPTestClusterNullableInt64uAttributeCallback,
+                                CHIPTestClusterClusterNullableInt64uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt8s::Id:
+            return DeliverValue<Attributes::NullableInt8s::TypeInfo, CHIPTestClusterNullableInt8sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt8sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt16s::Id:
+            return DeliverValue<Attributes::NullableInt16s::TypeInfo, CHIPTestClusterNullableInt16sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt16sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt24s::Id:
+            return DeliverValue<Attributes::NullableInt24s::TypeInfo, CHIPTestClusterNullableInt24sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt24sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt32s::Id:
+            return DeliverValue<Attributes::NullableInt32s::TypeInfo, CHIPTestClusterNullableInt32sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt32sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt40s::Id:
+            return DeliverValue<Attributes::NullableInt40s::TypeInfo, CHIPTestClusterNullableInt40sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt40sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt48s::Id:
+            return DeliverValue<Attributes::NullableInt48s::TypeInfo, CHIPTestClusterNullableInt48sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt48sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt56s::Id:
+            return DeliverValue<Attributes::NullableInt56s::TypeInfo, CHIPTestClusterNullableInt56sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt56sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableInt64s::Id:
+            return DeliverValue<Attributes::NullableInt64s::TypeInfo, CHIPTestClusterNullableInt64sAttributeCallback,
+                                CHIPTestClusterClusterNullableInt64sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableEnum8::Id:
+            return DeliverValue<Attributes::NullableEnum8::TypeInfo, CHIPTestClusterNullableEnum8AttributeCallback,
+                                CHIPTestClusterClusterNullableEnum8AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableEnum16::Id:
+            return DeliverValue<Attributes::NullableEnum16::TypeInfo, CHIPTestClusterNullableEnum16AttributeCallback,
+                                CHIPTestClusterClusterNullableEnum16AttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableFloatSingle::Id:
+            return DeliverValue<Attributes::NullableFloatSingle::TypeInfo, CHIPTestClusterNullableFloatSingleAttributeCallback,
+                                CHIPTestClusterClusterNullableFloatSingleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableFloatDouble::Id:
+            return DeliverValue<Attributes::NullableFloatDouble::TypeInfo, CHIPTestClusterNullableFloatDoubleAttributeCallback,
+                                CHIPTestClusterClusterNullableFloatDoubleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableOctetString::Id:
+            return DeliverValue<Attributes::NullableOctetString::TypeInfo, CHIPTestClusterNullableOctetStringAttributeCallback,
+                                CHIPTestClusterClusterNullableOctetStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableCharString::Id:
+            return DeliverValue<Attributes::NullableCharString::TypeInfo, CHIPTestClusterNullableCharStringAttributeCallback,
+                                CHIPTestClusterClusterNullableCharStringAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableEnumAttr::Id:
+            return DeliverValue<Attributes::NullableEnumAttr::TypeInfo, CHIPTestClusterNullableEnumAttrAttributeCallback,
+                                CHIPTestClusterClusterNullableEnumAttrAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableRangeRestrictedInt8u::Id:
+            return DeliverValue<Attributes::NullableRangeRestrictedInt8u::TypeInfo,
+                                CHIPTestClusterNullableRangeRestrictedInt8uAttributeCallback,
+                                CHIPTestClusterClusterNullableRangeRestrictedInt8uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableRangeRestrictedInt8s::Id:
+            return DeliverValue<Attributes::NullableRangeRestrictedInt8s::TypeInfo,
+                                CHIPTestClusterNullableRangeRestrictedInt8sAttributeCallback,
+                                CHIPTestClusterClusterNullableRangeRestrictedInt8sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableRangeRestrictedInt16u::Id:
+            return DeliverValue<Attributes::NullableRangeRestrictedInt16u::TypeInfo,
+                                CHIPTestClusterNullableRangeRestrictedInt16uAttributeCallback,
+                                CHIPTestClusterClusterNullableRangeRestrictedInt16uAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NullableRangeRestrictedInt16s::Id:
+            return DeliverValue<Attributes::NullableRangeRestrictedInt16s::TypeInfo,
+                                CHIPTestClusterNullableRangeRestrictedInt16sAttributeCallback,
+                                CHIPTestClusterClusterNullableRangeRestrictedInt16sAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPTestClusterAttributeListAttributeCallback,
+                                CHIPTestClusterClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPTestClusterClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::Thermostat::Id: {
+        using namespace app::Clusters::Thermostat;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::LocalTemperature::Id:
+            return DeliverValue<Attributes::LocalTemperature::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterLocalTemperatureAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AbsMinHeatSetpointLimit::Id:
+            return DeliverValue<Attributes::AbsMinHeatSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterAbsMinHeatSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AbsMaxHeatSetpointLimit::Id:
+            return DeliverValue<Attributes::AbsMaxHeatSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterAbsMaxHeatSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AbsMinCoolSetpointLimit::Id:
+            return DeliverValue<Attributes::AbsMinCoolSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterAbsMinCoolSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AbsMaxCoolSetpointLimit::Id:
+            return DeliverValue<Attributes::AbsMaxCoolSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterAbsMaxCoolSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OccupiedCoolingSetpoint::Id:
+            return DeliverValue<Attributes::OccupiedCoolingSetpoint::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterOccupiedCoolingSetpointAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OccupiedHeatingSetpoint::Id:
+            return DeliverValue<Attributes::OccupiedHeatingSetpoint::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterOccupiedHeatingSetpointAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinHeatSetpointLimit::Id:
+            return DeliverValue<Attributes::MinHeatSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterMinHeatSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxHeatSetpointLimit::Id:
+            return DeliverValue<Attributes::MaxHeatSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterMaxHeatSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinCoolSetpointLimit::Id:
+            return DeliverValue<Attributes::MinCoolSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterMinCoolSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MaxCoolSetpointLimit::Id:
+            return DeliverValue<Attributes::MaxCoolSetpointLimit::TypeInfo, CHIPInt16sAttributeCallback,
+                                CHIPThermostatClusterMaxCoolSetpointLimitAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MinSetpointDeadBand::Id:
+            return DeliverValue<Attributes::MinSetpointDeadBand::TypeInfo, CHIPInt8sAttributeCallback,
+                                CHIPThermostatClusterMinSetpointDeadBandAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ControlSequenceOfOperation::Id:
+            return DeliverValue<Attributes::ControlSequenceOfOperation::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatClusterControlSequenceOfOperationAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SystemMode::Id:
+            return DeliverValue<Attributes::SystemMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatClusterSystemModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StartOfWeek::Id:
+            return DeliverValue<Attributes::StartOfWeek::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatClusterStartOfWeekAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NumberOfWeeklyTransitions::Id:
+            return DeliverValue<Attributes::NumberOfWeeklyTransitions::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatClusterNumberOfWeeklyTransitionsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NumberOfDailyTransitions::Id:
+            return DeliverValue<Attributes::NumberOfDailyTransitions::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatClusterNumberOfDailyTransitionsAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPThermostatAttributeListAttributeCallback,
+                                CHIPThermostatClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThermostatClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThermostatClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ThermostatUserInterfaceConfiguration::Id: {
+        using namespace app::Clusters::ThermostatUserInterfaceConfiguration;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::TemperatureDisplayMode::Id:
+            return DeliverValue<Attributes::TemperatureDisplayMode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatUserInterfaceConfigurationClusterTemperatureDisplayModeAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::KeypadLockout::Id:
+            return DeliverValue<Attributes::KeypadLockout::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatUserInterfaceConfigurationClusterKeypadLockoutAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::ScheduleProgrammingVisibility::Id:
+            return DeliverValue<Attributes::ScheduleProgrammingVisibility::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThermostatUserInterfaceConfigurationClusterScheduleProgrammingVisibilityAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo,
+                                CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback,
+                                CHIPThermostatUserInterfaceConfigurationClusterAttributeListAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThermostatUserInterfaceConfigurationClusterClusterRevisionAttributeCallbackType>(
+                aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::ThreadNetworkDiagnostics::Id: {
+        using namespace app::Clusters::ThreadNetworkDiagnostics;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Channel::Id:
+            return DeliverValue<Attributes::Channel::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterChannelAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RoutingRole::Id:
+            return DeliverValue<Attributes::RoutingRole::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRoutingRoleAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NetworkName::Id:
+            return DeliverValue<Attributes::NetworkName::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterNetworkNameAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PanId::Id:
+            return DeliverValue<Attributes::PanId::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterPanIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ExtendedPanId::Id:
+            return DeliverValue<Attributes::ExtendedPanId::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterExtendedPanIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::MeshLocalPrefix::Id:
+            return DeliverValue<Attributes::MeshLocalPrefix::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterMeshLocalPrefixAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OverrunCount::Id:
+            return DeliverValue<Attributes::OverrunCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterOverrunCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::NeighborTableList::Id:
+            return DeliverValue<Attributes::NeighborTableList::TypeInfo,
+                                CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterNeighborTableListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RouteTableList::Id:
+            return DeliverValue<Attributes::RouteTableList::TypeInfo, CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRouteTableListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PartitionId::Id:
+            return DeliverValue<Attributes::PartitionId::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterPartitionIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Weighting::Id:
+            return DeliverValue<Attributes::Weighting::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterWeightingAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::DataVersion::Id:
+            return DeliverValue<Attributes::DataVersion::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterDataVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::StableDataVersion::Id:
+            return DeliverValue<Attributes::StableDataVersion::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterStableDataVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LeaderRouterId::Id:
+            return DeliverValue<Attributes::LeaderRouterId::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterLeaderRouterIdAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::DetachedRoleCount::Id:
+            return DeliverValue<Attributes::DetachedRoleCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterDetachedRoleCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ChildRoleCount::Id:
+            return DeliverValue<Attributes::ChildRoleCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterChildRoleCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RouterRoleCount::Id:
+            return DeliverValue<Attributes::RouterRoleCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRouterRoleCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::LeaderRoleCount::Id:
+            return DeliverValue<Attributes::LeaderRoleCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterLeaderRoleCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttachAttemptCount::Id:
+            return DeliverValue<Attributes::AttachAttemptCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterAttachAttemptCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PartitionIdChangeCount::Id:
+            return DeliverValue<Attributes::PartitionIdChangeCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterPartitionIdChangeCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::BetterPartitionAttachAttemptCount::Id:
+            return DeliverValue<Attributes::BetterPartitionAttachAttemptCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterBetterPartitionAttachAttemptCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::ParentChangeCount::Id:
+            return DeliverValue<Attributes::ParentChangeCount::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterParentChangeCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxTotalCount::Id:
+            return DeliverValue<Attributes::TxTotalCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxTotalCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxUnicastCount::Id:
+            return DeliverValue<Attributes::TxUnicastCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxUnicastCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxBroadcastCount::Id:
+            return DeliverValue<Attributes::TxBroadcastCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxBroadcastCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxAckRequestedCount::Id:
+            return DeliverValue<Attributes::TxAckRequestedCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxAckRequestedCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::TxAckedCount::Id:
+            return DeliverValue<Attributes::TxAckedCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxAckedCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxNoAckRequestedCount::Id:
+            return DeliverValue<Attributes::TxNoAckRequestedCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxNoAckRequestedCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::TxDataCount::Id:
+            return DeliverValue<Attributes::TxDataCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxDataCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxDataPollCount::Id:
+            return DeliverValue<Attributes::TxDataPollCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxDataPollCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxBeaconCount::Id:
+            return DeliverValue<Attributes::TxBeaconCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxBeaconCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxBeaconRequestCount::Id:
+            return DeliverValue<Attributes::TxBeaconRequestCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxBeaconRequestCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::TxOtherCount::Id:
+            return DeliverValue<Attributes::TxOtherCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxOtherCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxRetryCount::Id:
+            return DeliverValue<Attributes::TxRetryCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxRetryCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxDirectMaxRetryExpiryCount::Id:
+            return DeliverValue<Attributes::TxDirectMaxRetryExpiryCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxDirectMaxRetryExpiryCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::TxIndirectMaxRetryExpiryCount::Id:
+            return DeliverValue<Attributes::TxIndirectMaxRetryExpiryCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxIndirectMaxRetryExpiryCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::TxErrCcaCount::Id:
+            return DeliverValue<Attributes::TxErrCcaCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxErrCcaCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxErrAbortCount::Id:
+            return DeliverValue<Attributes::TxErrAbortCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxErrAbortCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TxErrBusyChannelCount::Id:
+            return DeliverValue<Attributes::TxErrBusyChannelCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterTxErrBusyChannelCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RxTotalCount::Id:
+            return DeliverValue<Attributes::RxTotalCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxTotalCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxUnicastCount::Id:
+            return DeliverValue<Attributes::RxUnicastCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxUnicastCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxBroadcastCount::Id:
+            return DeliverValue<Attributes::RxBroadcastCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxBroadcastCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxDataCount::Id:
+            return DeliverValue<Attributes::RxDataCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxDataCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxDataPollCount::Id:
+            return DeliverValue<Attributes::RxDataPollCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxDataPollCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxBeaconCount::Id:
+            return DeliverValue<Attributes::RxBeaconCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxBeaconCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxBeaconRequestCount::Id:
+            return DeliverValue<Attributes::RxBeaconRequestCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxBeaconRequestCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RxOtherCount::Id:
+            return DeliverValue<Attributes::RxOtherCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxOtherCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxAddressFilteredCount::Id:
+            return DeliverValue<Attributes::RxAddressFilteredCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxAddressFilteredCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RxDestAddrFilteredCount::Id:
+            return DeliverValue<Attributes::RxDestAddrFilteredCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxDestAddrFilteredCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RxDuplicatedCount::Id:
+            return DeliverValue<Attributes::RxDuplicatedCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxDuplicatedCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxErrNoFrameCount::Id:
+            return DeliverValue<Attributes::RxErrNoFrameCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxErrNoFrameCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxErrUnknownNeighborCount::Id:
+            return DeliverValue<Attributes::RxErrUnknownNeighborCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxErrUnknownNeighborCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RxErrInvalidSrcAddrCount::Id:
+            return DeliverValue<Attributes::RxErrInvalidSrcAddrCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxErrInvalidSrcAddrCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::RxErrSecCount::Id:
+            return DeliverValue<Attributes::RxErrSecCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxErrSecCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxErrFcsCount::Id:
+            return DeliverValue<Attributes::RxErrFcsCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxErrFcsCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::RxErrOtherCount::Id:
+            return DeliverValue<Attributes::RxErrOtherCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterRxErrOtherCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ActiveTimestamp::Id:
+            return DeliverValue<Attributes::ActiveTimestamp::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterActiveTimestampAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PendingTimestamp::Id:
+            return DeliverValue<Attributes::PendingTimestamp::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterPendingTimestampAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Delay::Id:
+            return DeliverValue<Attributes::Delay::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterDelayAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SecurityPolicy::Id:
+            return DeliverValue<Attributes::SecurityPolicy::TypeInfo, CHIPThreadNetworkDiagnosticsSecurityPolicyAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterSecurityPolicyAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ChannelMask::Id:
+            return DeliverValue<Attributes::ChannelMask::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterChannelMaskAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OperationalDatasetComponents::Id:
+            return DeliverValue<Attributes::OperationalDatasetComponents::TypeInfo,
+                                CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterOperationalDatasetComponentsAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::ActiveNetworkFaultsList::Id:
+            return DeliverValue<Attributes::ActiveNetworkFaultsList::TypeInfo,
+                                CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterActiveNetworkFaultsListAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPThreadNetworkDiagnosticsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::UserLabel::Id: {
+        using namespace app::Clusters::UserLabel;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::LabelList::Id:
+            return DeliverValue<Attributes::LabelList::TypeInfo, CHIPUserLabelLabelListAttributeCallback,
+                                CHIPUserLabelClusterLabelListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPUserLabelClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::WakeOnLan::Id: {
+        using namespace app::Clusters::WakeOnLan;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::WakeOnLanMacAddress::Id:
+            return DeliverValue<Attributes::WakeOnLanMacAddress::TypeInfo, CHIPCharStringAttributeCallback,
+                                CHIPWakeOnLanClusterWakeOnLanMacAddressAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPWakeOnLanAttributeListAttributeCallback,
+                                CHIPWakeOnLanClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWakeOnLanClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::WiFiNetworkDiagnostics::Id: {
+        using namespace app::Clusters::WiFiNetworkDiagnostics;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Bssid::Id:
+            return DeliverValue<Attributes::Bssid::TypeInfo, CHIPOctetStringAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterBssidAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SecurityType::Id:
+            return DeliverValue<Attributes::SecurityType::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterSecurityTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::WiFiVersion::Id:
+            return DeliverValue<Attributes::WiFiVersion::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterWiFiVersionAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ChannelNumber::Id:
+            return DeliverValue<Attributes::ChannelNumber::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterChannelNumberAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Rssi::Id:
+            return DeliverValue<Attributes::Rssi::TypeInfo, CHIPInt8sAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterRssiAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BeaconLostCount::Id:
+            return DeliverValue<Attributes::BeaconLostCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterBeaconLostCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::BeaconRxCount::Id:
+            return DeliverValue<Attributes::BeaconRxCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterBeaconRxCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PacketMulticastRxCount::Id:
+            return DeliverValue<Attributes::PacketMulticastRxCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterPacketMulticastRxCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::PacketMulticastTxCount::Id:
+            return DeliverValue<Attributes::PacketMulticastTxCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterPacketMulticastTxCountAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::PacketUnicastRxCount::Id:
+            return DeliverValue<Attributes::PacketUnicastRxCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterPacketUnicastRxCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::PacketUnicastTxCount::Id:
+            return DeliverValue<Attributes::PacketUnicastTxCount::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterPacketUnicastTxCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentMaxRate::Id:
+            return DeliverValue<Attributes::CurrentMaxRate::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterCurrentMaxRateAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::OverrunCount::Id:
+            return DeliverValue<Attributes::OverrunCount::TypeInfo, CHIPInt64uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterOverrunCountAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWiFiNetworkDiagnosticsClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    case app::Clusters::WindowCovering::Id: {
+        using namespace app::Clusters::WindowCovering;
+        switch (aPath.mAttributeId)
+        {
+        case Attributes::Type::Id:
+            return DeliverValue<Attributes::Type::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWindowCoveringClusterTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentPositionLift::Id:
+            return DeliverValue<Attributes::CurrentPositionLift::TypeInfo, CHIPWindowCoveringCurrentPositionLiftAttributeCallback,
+                                CHIPWindowCoveringClusterCurrentPositionLiftAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentPositionTilt::Id:
+            return DeliverValue<Attributes::CurrentPositionTilt::TypeInfo, CHIPWindowCoveringCurrentPositionTiltAttributeCallback,
+                                CHIPWindowCoveringClusterCurrentPositionTiltAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ConfigStatus::Id:
+            return DeliverValue<Attributes::ConfigStatus::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWindowCoveringClusterConfigStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentPositionLiftPercentage::Id:
+            return DeliverValue<Attributes::CurrentPositionLiftPercentage::TypeInfo,
+                                CHIPWindowCoveringCurrentPositionLiftPercentageAttributeCallback,
+                                CHIPWindowCoveringClusterCurrentPositionLiftPercentageAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::CurrentPositionTiltPercentage::Id:
+            return DeliverValue<Attributes::CurrentPositionTiltPercentage::TypeInfo,
+                                CHIPWindowCoveringCurrentPositionTiltPercentageAttributeCallback,
+                                CHIPWindowCoveringClusterCurrentPositionTiltPercentageAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::OperationalStatus::Id:
+            return DeliverValue<Attributes::OperationalStatus::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWindowCoveringClusterOperationalStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::TargetPositionLiftPercent100ths::Id:
+            return DeliverValue<Attributes::TargetPositionLiftPercent100ths::TypeInfo,
+                                CHIPWindowCoveringTargetPositionLiftPercent100thsAttributeCallback,
+                                CHIPWindowCoveringClusterTargetPositionLiftPercent100thsAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::TargetPositionTiltPercent100ths::Id:
+            return DeliverValue<Attributes::TargetPositionTiltPercent100ths::TypeInfo,
+                                CHIPWindowCoveringTargetPositionTiltPercent100thsAttributeCallback,
+                                CHIPWindowCoveringClusterTargetPositionTiltPercent100thsAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::EndProductType::Id:
+            return DeliverValue<Attributes::EndProductType::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWindowCoveringClusterEndProductTypeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::CurrentPositionLiftPercent100ths::Id:
+            return DeliverValue<Attributes::CurrentPositionLiftPercent100ths::TypeInfo,
+                                CHIPWindowCoveringCurrentPositionLiftPercent100thsAttributeCallback,
+                                CHIPWindowCoveringClusterCurrentPositionLiftPercent100thsAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::CurrentPositionTiltPercent100ths::Id:
+            return DeliverValue<Attributes::CurrentPositionTiltPercent100ths::TypeInfo,
+                                CHIPWindowCoveringCurrentPositionTiltPercent100thsAttributeCallback,
+                                CHIPWindowCoveringClusterCurrentPositionTiltPercent100thsAttributeCallbackType>(
+                aReader, aJavaCallback);
+        case Attributes::InstalledOpenLimitLift::Id:
+            return DeliverValue<Attributes::InstalledOpenLimitLift::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWindowCoveringClusterInstalledOpenLimitLiftAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::InstalledClosedLimitLift::Id:
+            return DeliverValue<Attributes::InstalledClosedLimitLift::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWindowCoveringClusterInstalledClosedLimitLiftAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::InstalledOpenLimitTilt::Id:
+            return DeliverValue<Attributes::InstalledOpenLimitTilt::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWindowCoveringClusterInstalledOpenLimitTiltAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::InstalledClosedLimitTilt::Id:
+            return DeliverValue<Attributes::InstalledClosedLimitTilt::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWindowCoveringClusterInstalledClosedLimitTiltAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::Mode::Id:
+            return DeliverValue<Attributes::Mode::TypeInfo, CHIPInt8uAttributeCallback,
+                                CHIPWindowCoveringClusterModeAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::SafetyStatus::Id:
+            return DeliverValue<Attributes::SafetyStatus::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWindowCoveringClusterSafetyStatusAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::AttributeList::Id:
+            return DeliverValue<Attributes::AttributeList::TypeInfo, CHIPWindowCoveringAttributeListAttributeCallback,
+                                CHIPWindowCoveringClusterAttributeListAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::FeatureMap::Id:
+            return DeliverValue<Attributes::FeatureMap::TypeInfo, CHIPInt32uAttributeCallback,
+                                CHIPWindowCoveringClusterFeatureMapAttributeCallbackType>(aReader, aJavaCallback);
+        case Attributes::ClusterRevision::Id:
+            return DeliverValue<Attributes::ClusterRevision::TypeInfo, CHIPInt16uAttributeCallback,
+                                CHIPWindowCoveringClusterClusterRevisionAttributeCallbackType>(aReader, aJavaCallback);
+        default:
+            return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+        }
+    }
+    default:
+        return CHIP_ERROR_IM_MALFORMED_ATTRIBUTE_PATH;
+    }
+}
+
+} // namespace chip
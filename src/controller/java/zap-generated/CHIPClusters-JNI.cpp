@@ -26,6 +26,8 @@
 
 #include <controller/java/AndroidCallbacks.h>
 #include <controller/java/AndroidClusterExceptions.h>
+#include <controller/java/AndroidCommandBatch.h>
+#include <controller/java/AndroidGroupClusters.h>
 #include <controller/java/CHIPDefaultCallbacks.h>
 #include <jni.h>
 #include <lib/support/CodeUtils.h>
@@ -40,12 +42,13 @@
 using namespace chip;
 using namespace chip::Controller;
 
-JNI_METHOD(void, BaseChipCluster, deleteCluster)(JNIEnv * env, jobject self, jlong clusterPtr)
+JNI_METHOD(void, BaseChipCluster, deleteCluster)(JNIEnv * env, jclass clazz, jlong clusterPtr)
 {
     chip::DeviceLayer::StackLock lock;
     ClusterBase * cluster = reinterpret_cast<ClusterBase *>(clusterPtr);
     if (cluster != nullptr)
     {
+        CommandBatch::RemoveCluster(cluster);
         delete cluster;
     }
 }
@@ -59,6 +62,12 @@ JNI_METHOD(jlong, AccessControlCluster, initWithDevice)(JNIEnv * env, jobject se
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, AccessControlCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new AccessControlCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(jlong, AccountLoginCluster, initWithDevice)(JNIEnv * env, jobject self, jlong devicePtr, jint endpointId)
 {
     chip::DeviceLayer::StackLock lock;
@@ -68,6 +77,12 @@ JNI_METHOD(jlong, AccountLoginCluster, initWithDevice)(JNIEnv * env, jobject sel
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, AccountLoginCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new AccountLoginCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, AccountLoginCluster, getSetupPINRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jstring tempAccountIdentifier, jobject timedInvokeTimeoutMs)
 {
@@ -101,8 +116,8 @@ JNI_METHOD(void, AccountLoginCluster, getSetupPINRequest)
         chip::Callback::Callback<CHIPAccountLoginClusterGetSetupPINResponseCallbackType>::FromCancelable(onSuccess->Cancel());
     auto failureFn = chip::Callback::Callback<CHIPDefaultFailureCallbackType>::FromCancelable(onFailure->Cancel());
 
-    err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                    chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+    err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                               chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
                                                                                        CHIP_ERROR_INCORRECT_STATE));
@@ -144,12 +159,12 @@ JNI_METHOD(void, AccountLoginCluster, loginRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -186,8 +201,8 @@ JNI_METHOD(void, AccountLoginCluster, logoutRequest)
     auto successFn = chip::Callback::Callback<CHIPDefaultSuccessCallbackType>::FromCancelable(onSuccess->Cancel());
     auto failureFn = chip::Callback::Callback<CHIPDefaultFailureCallbackType>::FromCancelable(onFailure->Cancel());
 
-    err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                    chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+    err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                               chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
                                                                                        CHIP_ERROR_INCORRECT_STATE));
@@ -241,6 +256,12 @@ JNI_METHOD(jlong, AdministratorCommissioningCluster, initWithDevice)(JNIEnv * en
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, AdministratorCommissioningCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new AdministratorCommissioningCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, AdministratorCommissioningCluster, openBasicCommissioningWindow)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject commissioningTimeout, jobject timedInvokeTimeoutMs)
 {
@@ -274,12 +295,12 @@ JNI_METHOD(void, AdministratorCommissioningCluster, openBasicCommissioningWindow
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -329,12 +350,12 @@ JNI_METHOD(void, AdministratorCommissioningCluster, openCommissioningWindow)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -373,12 +394,12 @@ JNI_METHOD(void, AdministratorCommissioningCluster, revokeCommissioning)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -434,6 +455,12 @@ JNI_METHOD(jlong, ApplicationBasicCluster, initWithDevice)(JNIEnv * env, jobject
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ApplicationBasicCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ApplicationBasicCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ApplicationBasicCluster, subscribeVendorNameAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -702,6 +729,12 @@ JNI_METHOD(jlong, ApplicationLauncherCluster, initWithDevice)(JNIEnv * env, jobj
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ApplicationLauncherCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ApplicationLauncherCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ApplicationLauncherCluster, hideAppRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject catalogVendorId, jstring applicationId,
  jobject timedInvokeTimeoutMs)
@@ -738,12 +771,12 @@ JNI_METHOD(void, ApplicationLauncherCluster, hideAppRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -789,12 +822,12 @@ JNI_METHOD(void, ApplicationLauncherCluster, launchAppRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -839,12 +872,12 @@ JNI_METHOD(void, ApplicationLauncherCluster, stopAppRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -899,6 +932,12 @@ JNI_METHOD(jlong, AudioOutputCluster, initWithDevice)(JNIEnv * env, jobject self
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, AudioOutputCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new AudioOutputCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, AudioOutputCluster, renameOutputRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject index, jstring name, jobject timedInvokeTimeoutMs)
 {
@@ -932,12 +971,12 @@ JNI_METHOD(void, AudioOutputCluster, renameOutputRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -978,12 +1017,12 @@ JNI_METHOD(void, AudioOutputCluster, selectOutputRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -1075,6 +1114,12 @@ JNI_METHOD(jlong, BarrierControlCluster, initWithDevice)(JNIEnv * env, jobject s
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BarrierControlCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BarrierControlCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BarrierControlCluster, barrierControlGoToPercent)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject percentOpen, jobject timedInvokeTimeoutMs)
 {
@@ -1108,12 +1153,12 @@ JNI_METHOD(void, BarrierControlCluster, barrierControlGoToPercent)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -1152,12 +1197,12 @@ JNI_METHOD(void, BarrierControlCluster, barrierControlStop)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -1360,6 +1405,12 @@ JNI_METHOD(jlong, BasicCluster, initWithDevice)(JNIEnv * env, jobject self, jlon
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BasicCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BasicCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BasicCluster, mfgSpecificPing)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -1390,12 +1441,12 @@ JNI_METHOD(void, BasicCluster, mfgSpecificPing)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -1598,7 +1649,8 @@ JNI_METHOD(void, BasicCluster, writeNodeLabelAttribute)
     cppValue = chip::JniUtfString(env, static_cast<jstring>(value)).charSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -1681,7 +1733,8 @@ JNI_METHOD(void, BasicCluster, writeLocationAttribute)
     cppValue = chip::JniUtfString(env, static_cast<jstring>(value)).charSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -2095,7 +2148,8 @@ JNI_METHOD(void, BasicCluster, writeLocalConfigDisabledAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -2250,6 +2304,12 @@ JNI_METHOD(jlong, BinaryInputBasicCluster, initWithDevice)(JNIEnv * env, jobject
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BinaryInputBasicCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BinaryInputBasicCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BinaryInputBasicCluster, writeOutOfServiceAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject value, jobject timedWriteTimeoutMs)
 {
@@ -2260,7 +2320,8 @@ JNI_METHOD(void, BinaryInputBasicCluster, writeOutOfServiceAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -2344,7 +2405,8 @@ JNI_METHOD(void, BinaryInputBasicCluster, writePresentValueAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -2500,6 +2562,12 @@ JNI_METHOD(jlong, BindingCluster, initWithDevice)(JNIEnv * env, jobject self, jl
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BindingCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BindingCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BindingCluster, bind)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject nodeId, jobject groupId, jobject endpointId,
  jobject clusterId, jobject timedInvokeTimeoutMs)
@@ -2537,12 +2605,12 @@ JNI_METHOD(void, BindingCluster, bind)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -2588,12 +2656,12 @@ JNI_METHOD(void, BindingCluster, unbind)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -2648,6 +2716,12 @@ JNI_METHOD(jlong, BooleanStateCluster, initWithDevice)(JNIEnv * env, jobject sel
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BooleanStateCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BooleanStateCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BooleanStateCluster, subscribeStateValueAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -2731,6 +2805,12 @@ JNI_METHOD(jlong, BridgedActionsCluster, initWithDevice)(JNIEnv * env, jobject s
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BridgedActionsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BridgedActionsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BridgedActionsCluster, disableAction)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject actionID, jobject invokeID, jobject timedInvokeTimeoutMs)
 {
@@ -2766,12 +2846,12 @@ JNI_METHOD(void, BridgedActionsCluster, disableAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -2817,12 +2897,12 @@ JNI_METHOD(void, BridgedActionsCluster, disableActionWithDuration)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -2866,12 +2946,12 @@ JNI_METHOD(void, BridgedActionsCluster, enableAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -2917,12 +2997,12 @@ JNI_METHOD(void, BridgedActionsCluster, enableActionWithDuration)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -2966,12 +3046,12 @@ JNI_METHOD(void, BridgedActionsCluster, instantAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3018,12 +3098,12 @@ JNI_METHOD(void, BridgedActionsCluster, instantActionWithTransition)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3067,12 +3147,12 @@ JNI_METHOD(void, BridgedActionsCluster, pauseAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3118,12 +3198,12 @@ JNI_METHOD(void, BridgedActionsCluster, pauseActionWithDuration)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3167,12 +3247,12 @@ JNI_METHOD(void, BridgedActionsCluster, resumeAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3216,12 +3296,12 @@ JNI_METHOD(void, BridgedActionsCluster, startAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3267,12 +3347,12 @@ JNI_METHOD(void, BridgedActionsCluster, startActionWithDuration)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3316,12 +3396,12 @@ JNI_METHOD(void, BridgedActionsCluster, stopAction)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3413,6 +3493,12 @@ JNI_METHOD(jlong, BridgedDeviceBasicCluster, initWithDevice)(JNIEnv * env, jobje
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, BridgedDeviceBasicCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new BridgedDeviceBasicCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, BridgedDeviceBasicCluster, subscribeClusterRevisionAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -3459,6 +3545,12 @@ JNI_METHOD(jlong, ChannelCluster, initWithDevice)(JNIEnv * env, jobject self, jl
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ChannelCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ChannelCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ChannelCluster, changeChannelByNumberRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject majorNumber, jobject minorNumber,
  jobject timedInvokeTimeoutMs)
@@ -3495,12 +3587,12 @@ JNI_METHOD(void, ChannelCluster, changeChannelByNumberRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3543,12 +3635,12 @@ JNI_METHOD(void, ChannelCluster, changeChannelRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3589,12 +3681,12 @@ JNI_METHOD(void, ChannelCluster, skipChannelRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3649,6 +3741,12 @@ JNI_METHOD(jlong, ColorControlCluster, initWithDevice)(JNIEnv * env, jobject sel
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ColorControlCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ColorControlCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ColorControlCluster, colorLoopSet)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject updateFlags, jobject action, jobject direction,
  jobject time, jobject startHue, jobject optionsMask, jobject optionsOverride, jobject timedInvokeTimeoutMs)
@@ -3691,12 +3789,12 @@ JNI_METHOD(void, ColorControlCluster, colorLoopSet)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3743,12 +3841,12 @@ JNI_METHOD(void, ColorControlCluster, enhancedMoveHue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3798,12 +3896,12 @@ JNI_METHOD(void, ColorControlCluster, enhancedMoveToHue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3854,12 +3952,12 @@ JNI_METHOD(void, ColorControlCluster, enhancedMoveToHueAndSaturation)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3908,12 +4006,12 @@ JNI_METHOD(void, ColorControlCluster, enhancedStepHue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -3960,12 +4058,12 @@ JNI_METHOD(void, ColorControlCluster, moveColor)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4016,12 +4114,12 @@ JNI_METHOD(void, ColorControlCluster, moveColorTemperature)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4068,12 +4166,12 @@ JNI_METHOD(void, ColorControlCluster, moveHue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4120,12 +4218,12 @@ JNI_METHOD(void, ColorControlCluster, moveSaturation)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4174,12 +4272,12 @@ JNI_METHOD(void, ColorControlCluster, moveToColor)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4228,12 +4326,12 @@ JNI_METHOD(void, ColorControlCluster, moveToColorTemperature)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4282,12 +4380,12 @@ JNI_METHOD(void, ColorControlCluster, moveToHue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4337,12 +4435,12 @@ JNI_METHOD(void, ColorControlCluster, moveToHueAndSaturation)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4391,12 +4489,12 @@ JNI_METHOD(void, ColorControlCluster, moveToSaturation)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4445,12 +4543,12 @@ JNI_METHOD(void, ColorControlCluster, stepColor)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4504,12 +4602,12 @@ JNI_METHOD(void, ColorControlCluster, stepColorTemperature)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4558,12 +4656,12 @@ JNI_METHOD(void, ColorControlCluster, stepHue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4612,12 +4710,12 @@ JNI_METHOD(void, ColorControlCluster, stepSaturation)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -4662,12 +4760,12 @@ JNI_METHOD(void, ColorControlCluster, stopMoveStep)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -5020,7 +5118,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorControlOptionsAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -5807,7 +5906,8 @@ JNI_METHOD(void, ColorControlCluster, writeWhitePointXAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -5891,7 +5991,8 @@ JNI_METHOD(void, ColorControlCluster, writeWhitePointYAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -5975,7 +6076,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointRXAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6059,7 +6161,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointRYAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6143,7 +6246,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointRIntensityAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6227,7 +6331,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointGXAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6311,7 +6416,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointGYAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6395,7 +6501,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointGIntensityAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6479,7 +6586,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointBXAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6563,7 +6671,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointBYAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -6647,7 +6756,8 @@ JNI_METHOD(void, ColorControlCluster, writeColorPointBIntensityAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -7141,7 +7251,8 @@ JNI_METHOD(void, ColorControlCluster, writeStartUpColorTemperatureMiredsAttribut
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -7261,6 +7372,12 @@ JNI_METHOD(jlong, ContentLauncherCluster, initWithDevice)(JNIEnv * env, jobject
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ContentLauncherCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ContentLauncherCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ContentLauncherCluster, launchContentRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject autoPlay, jstring data, jobject parameterList,
  jobject timedInvokeTimeoutMs)
@@ -7298,12 +7415,12 @@ JNI_METHOD(void, ContentLauncherCluster, launchContentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7349,12 +7466,12 @@ JNI_METHOD(void, ContentLauncherCluster, launchURLRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7374,7 +7491,8 @@ JNI_METHOD(void, ContentLauncherCluster, writeSupportedStreamingProtocolsAttribu
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -7494,6 +7612,12 @@ JNI_METHOD(jlong, DescriptorCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, DescriptorCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new DescriptorCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, DescriptorCluster, subscribeClusterRevisionAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -7540,6 +7664,12 @@ JNI_METHOD(jlong, DiagnosticLogsCluster, initWithDevice)(JNIEnv * env, jobject s
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, DiagnosticLogsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new DiagnosticLogsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, DiagnosticLogsCluster, retrieveLogsRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject intent, jobject requestedProtocol,
  jbyteArray transferFileDesignator, jobject timedInvokeTimeoutMs)
@@ -7579,12 +7709,12 @@ JNI_METHOD(void, DiagnosticLogsCluster, retrieveLogsRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7602,6 +7732,12 @@ JNI_METHOD(jlong, DoorLockCluster, initWithDevice)(JNIEnv * env, jobject self, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, DoorLockCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new DoorLockCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, DoorLockCluster, clearCredential)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject credentialType, jobject credentialIndex,
  jobject timedInvokeTimeoutMs)
@@ -7635,12 +7771,12 @@ JNI_METHOD(void, DoorLockCluster, clearCredential)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7681,12 +7817,12 @@ JNI_METHOD(void, DoorLockCluster, clearUser)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7731,12 +7867,12 @@ JNI_METHOD(void, DoorLockCluster, getCredentialStatus)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7778,12 +7914,12 @@ JNI_METHOD(void, DoorLockCluster, getUser)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7825,12 +7961,12 @@ JNI_METHOD(void, DoorLockCluster, lockDoor)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7880,12 +8016,12 @@ JNI_METHOD(void, DoorLockCluster, setCredential)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7948,12 +8084,12 @@ JNI_METHOD(void, DoorLockCluster, setUser)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -7995,12 +8131,12 @@ JNI_METHOD(void, DoorLockCluster, unlockDoor)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -8170,7 +8306,8 @@ JNI_METHOD(void, DoorLockCluster, writeLanguageAttribute)
     cppValue = chip::JniUtfString(env, static_cast<jstring>(value)).charSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8254,7 +8391,8 @@ JNI_METHOD(void, DoorLockCluster, writeAutoRelockTimeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8338,7 +8476,8 @@ JNI_METHOD(void, DoorLockCluster, writeSoundVolumeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8422,7 +8561,8 @@ JNI_METHOD(void, DoorLockCluster, writeOperatingModeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8506,7 +8646,8 @@ JNI_METHOD(void, DoorLockCluster, writeEnableOneTouchLockingAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8590,7 +8731,8 @@ JNI_METHOD(void, DoorLockCluster, writeEnablePrivacyModeButtonAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8674,7 +8816,8 @@ JNI_METHOD(void, DoorLockCluster, writeWrongCodeEntryLimitAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -8793,6 +8936,12 @@ JNI_METHOD(jlong, ElectricalMeasurementCluster, initWithDevice)(JNIEnv * env, jo
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ElectricalMeasurementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ElectricalMeasurementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ElectricalMeasurementCluster, subscribeMeasurementTypeAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -9247,6 +9396,12 @@ JNI_METHOD(jlong, EthernetNetworkDiagnosticsCluster, initWithDevice)(JNIEnv * en
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, EthernetNetworkDiagnosticsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new EthernetNetworkDiagnosticsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, EthernetNetworkDiagnosticsCluster, resetCounts)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -9277,12 +9432,12 @@ JNI_METHOD(void, EthernetNetworkDiagnosticsCluster, resetCounts)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -9677,6 +9832,12 @@ JNI_METHOD(jlong, FixedLabelCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, FixedLabelCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new FixedLabelCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, FixedLabelCluster, subscribeClusterRevisionAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -9723,6 +9884,12 @@ JNI_METHOD(jlong, FlowMeasurementCluster, initWithDevice)(JNIEnv * env, jobject
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, FlowMeasurementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new FlowMeasurementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, FlowMeasurementCluster, subscribeMeasuredValueAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -9917,6 +10084,12 @@ JNI_METHOD(jlong, GeneralCommissioningCluster, initWithDevice)(JNIEnv * env, job
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, GeneralCommissioningCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new GeneralCommissioningCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, GeneralCommissioningCluster, armFailSafe)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject expiryLengthSeconds, jobject breadcrumb, jobject timeoutMs,
  jobject timedInvokeTimeoutMs)
@@ -9956,12 +10129,12 @@ JNI_METHOD(void, GeneralCommissioningCluster, armFailSafe)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10004,12 +10177,12 @@ JNI_METHOD(void, GeneralCommissioningCluster, commissioningComplete)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10058,12 +10231,12 @@ JNI_METHOD(void, GeneralCommissioningCluster, setRegulatoryConfig)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10083,7 +10256,8 @@ JNI_METHOD(void, GeneralCommissioningCluster, writeBreadcrumbAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -10202,6 +10376,12 @@ JNI_METHOD(jlong, GeneralDiagnosticsCluster, initWithDevice)(JNIEnv * env, jobje
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, GeneralDiagnosticsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new GeneralDiagnosticsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, GeneralDiagnosticsCluster, subscribeRebootCountAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -10397,6 +10577,12 @@ JNI_METHOD(jlong, GroupKeyManagementCluster, initWithDevice)(JNIEnv * env, jobje
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, GroupKeyManagementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new GroupKeyManagementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, GroupKeyManagementCluster, keySetRead)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject groupKeySetID, jobject timedInvokeTimeoutMs)
 {
@@ -10433,12 +10619,12 @@ JNI_METHOD(void, GroupKeyManagementCluster, keySetRead)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10483,12 +10669,12 @@ JNI_METHOD(void, GroupKeyManagementCluster, keySetReadAllIndices)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10530,12 +10716,12 @@ JNI_METHOD(void, GroupKeyManagementCluster, keySetRemove)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10578,12 +10764,12 @@ JNI_METHOD(void, GroupKeyManagementCluster, keySetWrite)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10638,6 +10824,12 @@ JNI_METHOD(jlong, GroupsCluster, initWithDevice)(JNIEnv * env, jobject self, jlo
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, GroupsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new GroupsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, GroupsCluster, addGroup)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject groupId, jstring groupName, jobject timedInvokeTimeoutMs)
 {
@@ -10672,12 +10864,12 @@ JNI_METHOD(void, GroupsCluster, addGroup)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10719,12 +10911,12 @@ JNI_METHOD(void, GroupsCluster, addGroupIfIdentifying)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10768,12 +10960,12 @@ JNI_METHOD(void, GroupsCluster, getGroupMembership)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10812,12 +11004,12 @@ JNI_METHOD(void, GroupsCluster, removeAllGroups)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10860,12 +11052,12 @@ JNI_METHOD(void, GroupsCluster, removeGroup)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -10907,12 +11099,12 @@ JNI_METHOD(void, GroupsCluster, viewGroup)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11004,6 +11196,12 @@ JNI_METHOD(jlong, IdentifyCluster, initWithDevice)(JNIEnv * env, jobject self, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, IdentifyCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new IdentifyCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, IdentifyCluster, identify)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject identifyTime, jobject timedInvokeTimeoutMs)
 {
@@ -11037,12 +11235,12 @@ JNI_METHOD(void, IdentifyCluster, identify)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11083,12 +11281,12 @@ JNI_METHOD(void, IdentifyCluster, identifyQuery)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11133,12 +11331,12 @@ JNI_METHOD(void, IdentifyCluster, triggerEffect)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11158,7 +11356,8 @@ JNI_METHOD(void, IdentifyCluster, writeIdentifyTimeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -11314,6 +11513,12 @@ JNI_METHOD(jlong, IlluminanceMeasurementCluster, initWithDevice)(JNIEnv * env, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, IlluminanceMeasurementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new IlluminanceMeasurementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, IlluminanceMeasurementCluster, subscribeMeasuredValueAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -11557,6 +11762,12 @@ JNI_METHOD(jlong, KeypadInputCluster, initWithDevice)(JNIEnv * env, jobject self
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, KeypadInputCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new KeypadInputCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, KeypadInputCluster, sendKeyRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject keyCode, jobject timedInvokeTimeoutMs)
 {
@@ -11591,12 +11802,12 @@ JNI_METHOD(void, KeypadInputCluster, sendKeyRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11651,6 +11862,12 @@ JNI_METHOD(jlong, LevelControlCluster, initWithDevice)(JNIEnv * env, jobject sel
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, LevelControlCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new LevelControlCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, LevelControlCluster, move)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject moveMode, jobject rate, jobject optionMask,
  jobject optionOverride, jobject timedInvokeTimeoutMs)
@@ -11689,12 +11906,12 @@ JNI_METHOD(void, LevelControlCluster, move)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11742,12 +11959,12 @@ JNI_METHOD(void, LevelControlCluster, moveToLevel)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11791,12 +12008,12 @@ JNI_METHOD(void, LevelControlCluster, moveToLevelWithOnOff)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11838,12 +12055,12 @@ JNI_METHOD(void, LevelControlCluster, moveWithOnOff)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11892,12 +12109,12 @@ JNI_METHOD(void, LevelControlCluster, step)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11942,12 +12159,12 @@ JNI_METHOD(void, LevelControlCluster, stepWithOnOff)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -11992,12 +12209,12 @@ JNI_METHOD(void, LevelControlCluster, stop)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -12036,12 +12253,12 @@ JNI_METHOD(void, LevelControlCluster, stopWithOnOff)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -12320,7 +12537,8 @@ JNI_METHOD(void, LevelControlCluster, writeOptionsAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12404,7 +12622,8 @@ JNI_METHOD(void, LevelControlCluster, writeOnOffTransitionTimeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12493,7 +12712,8 @@ JNI_METHOD(void, LevelControlCluster, writeOnLevelAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint8_t>() : chip::app::DataModel::Nullable<uint8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12583,7 +12803,8 @@ JNI_METHOD(void, LevelControlCluster, writeOnTransitionTimeAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint16_t>() : chip::app::DataModel::Nullable<uint16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12674,7 +12895,8 @@ JNI_METHOD(void, LevelControlCluster, writeOffTransitionTimeAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint16_t>() : chip::app::DataModel::Nullable<uint16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12765,7 +12987,8 @@ JNI_METHOD(void, LevelControlCluster, writeDefaultMoveRateAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint8_t>() : chip::app::DataModel::Nullable<uint8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12850,7 +13073,8 @@ JNI_METHOD(void, LevelControlCluster, writeStartUpCurrentLevelAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -12969,6 +13193,12 @@ JNI_METHOD(jlong, LocalizationConfigurationCluster, initWithDevice)(JNIEnv * env
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, LocalizationConfigurationCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new LocalizationConfigurationCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, LocalizationConfigurationCluster, writeActiveLocaleAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jstring value, jobject timedWriteTimeoutMs)
 {
@@ -12979,7 +13209,8 @@ JNI_METHOD(void, LocalizationConfigurationCluster, writeActiveLocaleAttribute)
     cppValue = chip::JniUtfString(env, static_cast<jstring>(value)).charSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -13024,6 +13255,12 @@ JNI_METHOD(jlong, LowPowerCluster, initWithDevice)(JNIEnv * env, jobject self, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, LowPowerCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new LowPowerCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, LowPowerCluster, sleep)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -13054,12 +13291,12 @@ JNI_METHOD(void, LowPowerCluster, sleep)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13114,6 +13351,12 @@ JNI_METHOD(jlong, MediaInputCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, MediaInputCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new MediaInputCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, MediaInputCluster, hideInputStatusRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -13144,12 +13387,12 @@ JNI_METHOD(void, MediaInputCluster, hideInputStatusRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13191,12 +13434,12 @@ JNI_METHOD(void, MediaInputCluster, renameInputRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13237,12 +13480,12 @@ JNI_METHOD(void, MediaInputCluster, selectInputRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13281,12 +13524,12 @@ JNI_METHOD(void, MediaInputCluster, showInputStatusRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13378,6 +13621,12 @@ JNI_METHOD(jlong, MediaPlaybackCluster, initWithDevice)(JNIEnv * env, jobject se
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, MediaPlaybackCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new MediaPlaybackCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, MediaPlaybackCluster, fastForwardRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -13410,12 +13659,12 @@ JNI_METHOD(void, MediaPlaybackCluster, fastForwardRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13456,12 +13705,12 @@ JNI_METHOD(void, MediaPlaybackCluster, nextRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13502,12 +13751,12 @@ JNI_METHOD(void, MediaPlaybackCluster, pauseRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13548,12 +13797,12 @@ JNI_METHOD(void, MediaPlaybackCluster, playRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13594,12 +13843,12 @@ JNI_METHOD(void, MediaPlaybackCluster, previousRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13640,12 +13889,12 @@ JNI_METHOD(void, MediaPlaybackCluster, rewindRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13688,12 +13937,12 @@ JNI_METHOD(void, MediaPlaybackCluster, seekRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13737,12 +13986,12 @@ JNI_METHOD(void, MediaPlaybackCluster, skipBackwardRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13786,12 +14035,12 @@ JNI_METHOD(void, MediaPlaybackCluster, skipForwardRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13832,12 +14081,12 @@ JNI_METHOD(void, MediaPlaybackCluster, startOverRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -13878,12 +14127,12 @@ JNI_METHOD(void, MediaPlaybackCluster, stopRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14123,6 +14372,12 @@ JNI_METHOD(jlong, ModeSelectCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ModeSelectCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ModeSelectCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ModeSelectCluster, changeToMode)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject newMode, jobject timedInvokeTimeoutMs)
 {
@@ -14155,12 +14410,12 @@ JNI_METHOD(void, ModeSelectCluster, changeToMode)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14217,7 +14472,8 @@ JNI_METHOD(void, ModeSelectCluster, writeOnModeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -14410,6 +14666,12 @@ JNI_METHOD(jlong, NetworkCommissioningCluster, initWithDevice)(JNIEnv * env, job
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, NetworkCommissioningCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new NetworkCommissioningCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, NetworkCommissioningCluster, addOrUpdateThreadNetwork)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jbyteArray operationalDataset, jobject breadcrumb,
  jobject timedInvokeTimeoutMs)
@@ -14447,12 +14709,12 @@ JNI_METHOD(void, NetworkCommissioningCluster, addOrUpdateThreadNetwork)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14499,12 +14761,12 @@ JNI_METHOD(void, NetworkCommissioningCluster, addOrUpdateWiFiNetwork)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14550,12 +14812,12 @@ JNI_METHOD(void, NetworkCommissioningCluster, connectNetwork)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14601,12 +14863,12 @@ JNI_METHOD(void, NetworkCommissioningCluster, removeNetwork)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14654,12 +14916,12 @@ JNI_METHOD(void, NetworkCommissioningCluster, reorderNetwork)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14704,12 +14966,12 @@ JNI_METHOD(void, NetworkCommissioningCluster, scanNetworks)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14729,7 +14991,8 @@ JNI_METHOD(void, NetworkCommissioningCluster, writeInterfaceEnabledAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -14848,6 +15111,12 @@ JNI_METHOD(jlong, OtaSoftwareUpdateProviderCluster, initWithDevice)(JNIEnv * env
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, OtaSoftwareUpdateProviderCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new OtaSoftwareUpdateProviderCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, OtaSoftwareUpdateProviderCluster, applyUpdateRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jbyteArray updateToken, jobject newVersion,
  jobject timedInvokeTimeoutMs)
@@ -14885,12 +15154,12 @@ JNI_METHOD(void, OtaSoftwareUpdateProviderCluster, applyUpdateRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -14934,12 +15203,12 @@ JNI_METHOD(void, OtaSoftwareUpdateProviderCluster, notifyUpdateApplied)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15001,12 +15270,12 @@ JNI_METHOD(void, OtaSoftwareUpdateProviderCluster, queryImage)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15062,6 +15331,12 @@ JNI_METHOD(jlong, OtaSoftwareUpdateRequestorCluster, initWithDevice)(JNIEnv * en
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, OtaSoftwareUpdateRequestorCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new OtaSoftwareUpdateRequestorCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, OtaSoftwareUpdateRequestorCluster, announceOtaProvider)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject providerNodeId, jobject vendorId,
  jobject announcementReason, jobject metadataForNode, jobject endpoint, jobject timedInvokeTimeoutMs)
@@ -15103,12 +15378,12 @@ JNI_METHOD(void, OtaSoftwareUpdateRequestorCluster, announceOtaProvider)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15281,6 +15556,12 @@ JNI_METHOD(jlong, OccupancySensingCluster, initWithDevice)(JNIEnv * env, jobject
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, OccupancySensingCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new OccupancySensingCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, OccupancySensingCluster, subscribeOccupancyAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -15439,6 +15720,12 @@ JNI_METHOD(jlong, OnOffCluster, initWithDevice)(JNIEnv * env, jobject self, jlon
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, OnOffCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new OnOffCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, OnOffCluster, off)(JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
     chip::DeviceLayer::StackLock lock;
@@ -15468,12 +15755,12 @@ JNI_METHOD(void, OnOffCluster, off)(JNIEnv * env, jobject self, jlong clusterPtr
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15517,12 +15804,12 @@ JNI_METHOD(void, OnOffCluster, offWithEffect)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15560,12 +15847,12 @@ JNI_METHOD(void, OnOffCluster, on)(JNIEnv * env, jobject self, jlong clusterPtr,
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15604,12 +15891,12 @@ JNI_METHOD(void, OnOffCluster, onWithRecallGlobalScene)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15655,12 +15942,12 @@ JNI_METHOD(void, OnOffCluster, onWithTimedOff)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15698,12 +15985,12 @@ JNI_METHOD(void, OnOffCluster, toggle)(JNIEnv * env, jobject self, jlong cluster
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -15796,7 +16083,8 @@ JNI_METHOD(void, OnOffCluster, writeOnTimeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -15879,7 +16167,8 @@ JNI_METHOD(void, OnOffCluster, writeOffWaitTimeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -15963,7 +16252,8 @@ JNI_METHOD(void, OnOffCluster, writeStartUpOnOffAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -16118,6 +16408,12 @@ JNI_METHOD(jlong, OnOffSwitchConfigurationCluster, initWithDevice)(JNIEnv * env,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, OnOffSwitchConfigurationCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new OnOffSwitchConfigurationCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, OnOffSwitchConfigurationCluster, subscribeSwitchTypeAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -16166,7 +16462,8 @@ JNI_METHOD(void, OnOffSwitchConfigurationCluster, writeSwitchActionsAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -16287,6 +16584,12 @@ JNI_METHOD(jlong, OperationalCredentialsCluster, initWithDevice)(JNIEnv * env, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, OperationalCredentialsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new OperationalCredentialsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, OperationalCredentialsCluster, addNOC)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jbyteArray NOCValue, jobject ICACValue, jbyteArray IPKValue,
  jobject caseAdminNode, jobject adminVendorId, jobject timedInvokeTimeoutMs)
@@ -16330,12 +16633,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, addNOC)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16376,12 +16679,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, addTrustedRootCertificate)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16425,12 +16728,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, attestationRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16476,12 +16779,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, certificateChainRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16525,12 +16828,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, opCSRRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16575,12 +16878,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, removeFabric)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16621,12 +16924,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, removeTrustedRootCertificate)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16670,12 +16973,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, updateFabricLabel)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16722,12 +17025,12 @@ JNI_METHOD(void, OperationalCredentialsCluster, updateNOC)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -16900,6 +17203,12 @@ JNI_METHOD(jlong, PowerSourceCluster, initWithDevice)(JNIEnv * env, jobject self
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, PowerSourceCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new PowerSourceCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, PowerSourceCluster, subscribeStatusAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -17279,6 +17588,12 @@ JNI_METHOD(jlong, PowerSourceConfigurationCluster, initWithDevice)(JNIEnv * env,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, PowerSourceConfigurationCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new PowerSourceConfigurationCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(jlong, PressureMeasurementCluster, initWithDevice)(JNIEnv * env, jobject self, jlong devicePtr, jint endpointId)
 {
     chip::DeviceLayer::StackLock lock;
@@ -17288,6 +17603,12 @@ JNI_METHOD(jlong, PressureMeasurementCluster, initWithDevice)(JNIEnv * env, jobj
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, PressureMeasurementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new PressureMeasurementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, PressureMeasurementCluster, subscribeMeasuredValueAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -17445,6 +17766,12 @@ JNI_METHOD(jlong, PumpConfigurationAndControlCluster, initWithDevice)(JNIEnv * e
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, PumpConfigurationAndControlCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new PumpConfigurationAndControlCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, PumpConfigurationAndControlCluster, subscribeMaxPressureAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -18141,7 +18468,8 @@ JNI_METHOD(void, PumpConfigurationAndControlCluster, writeLifetimeRunningHoursAt
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint32_t>() : chip::app::DataModel::Nullable<uint32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -18271,7 +18599,8 @@ JNI_METHOD(void, PumpConfigurationAndControlCluster, writeLifetimeEnergyConsumed
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint32_t>() : chip::app::DataModel::Nullable<uint32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -18359,7 +18688,8 @@ JNI_METHOD(void, PumpConfigurationAndControlCluster, writeOperationModeAttribute
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -18444,7 +18774,8 @@ JNI_METHOD(void, PumpConfigurationAndControlCluster, writeControlModeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -18640,6 +18971,12 @@ JNI_METHOD(jlong, RelativeHumidityMeasurementCluster, initWithDevice)(JNIEnv * e
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, RelativeHumidityMeasurementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new RelativeHumidityMeasurementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, RelativeHumidityMeasurementCluster, subscribeMeasuredValueAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -18838,6 +19175,12 @@ JNI_METHOD(jlong, ScenesCluster, initWithDevice)(JNIEnv * env, jobject self, jlo
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ScenesCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ScenesCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ScenesCluster, addScene)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject groupId, jobject sceneId, jobject transitionTime,
  jstring sceneName, jobject clusterId, jobject length, jobject value, jobject timedInvokeTimeoutMs)
@@ -18878,12 +19221,12 @@ JNI_METHOD(void, ScenesCluster, addScene)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -18927,12 +19270,12 @@ JNI_METHOD(void, ScenesCluster, getSceneMembership)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -18977,12 +19320,12 @@ JNI_METHOD(void, ScenesCluster, recallScene)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19025,12 +19368,12 @@ JNI_METHOD(void, ScenesCluster, removeAllScenes)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19074,12 +19417,12 @@ JNI_METHOD(void, ScenesCluster, removeScene)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19122,12 +19465,12 @@ JNI_METHOD(void, ScenesCluster, storeScene)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19170,12 +19513,12 @@ JNI_METHOD(void, ScenesCluster, viewScene)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19415,6 +19758,12 @@ JNI_METHOD(jlong, SoftwareDiagnosticsCluster, initWithDevice)(JNIEnv * env, jobj
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, SoftwareDiagnosticsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new SoftwareDiagnosticsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, SoftwareDiagnosticsCluster, resetWatermarks)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -19445,12 +19794,12 @@ JNI_METHOD(void, SoftwareDiagnosticsCluster, resetWatermarks)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19617,6 +19966,12 @@ JNI_METHOD(jlong, SwitchCluster, initWithDevice)(JNIEnv * env, jobject self, jlo
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, SwitchCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new SwitchCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, SwitchCluster, subscribeNumberOfPositionsAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -19811,6 +20166,12 @@ JNI_METHOD(jlong, TargetNavigatorCluster, initWithDevice)(JNIEnv * env, jobject
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, TargetNavigatorCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new TargetNavigatorCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, TargetNavigatorCluster, navigateTargetRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject target, jstring data, jobject timedInvokeTimeoutMs)
 {
@@ -19847,12 +20208,12 @@ JNI_METHOD(void, TargetNavigatorCluster, navigateTargetRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -19945,6 +20306,12 @@ JNI_METHOD(jlong, TemperatureMeasurementCluster, initWithDevice)(JNIEnv * env, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, TemperatureMeasurementCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new TemperatureMeasurementCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, TemperatureMeasurementCluster, subscribeMeasuredValueAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -20142,6 +20509,12 @@ JNI_METHOD(jlong, TestClusterCluster, initWithDevice)(JNIEnv * env, jobject self
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, TestClusterCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new TestClusterCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, TestClusterCluster, simpleStructEchoRequest)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject a, jobject b, jobject c, jbyteArray d, jstring e,
  jobject f, jobject g, jobject h, jobject timedInvokeTimeoutMs)
@@ -20178,12 +20551,12 @@ JNI_METHOD(void, TestClusterCluster, simpleStructEchoRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20222,12 +20595,12 @@ JNI_METHOD(void, TestClusterCluster, test)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20272,12 +20645,12 @@ JNI_METHOD(void, TestClusterCluster, testAddArguments)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20324,12 +20697,12 @@ JNI_METHOD(void, TestClusterCluster, testEmitTestEventRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20373,12 +20746,12 @@ JNI_METHOD(void, TestClusterCluster, testEnumsRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20421,12 +20794,12 @@ JNI_METHOD(void, TestClusterCluster, testListInt8UArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20470,12 +20843,12 @@ JNI_METHOD(void, TestClusterCluster, testListInt8UReverseRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20519,12 +20892,12 @@ JNI_METHOD(void, TestClusterCluster, testListNestedStructListArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20568,12 +20941,12 @@ JNI_METHOD(void, TestClusterCluster, testListStructArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20616,12 +20989,12 @@ JNI_METHOD(void, TestClusterCluster, testNestedStructArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20665,12 +21038,12 @@ JNI_METHOD(void, TestClusterCluster, testNestedStructListArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20709,12 +21082,12 @@ JNI_METHOD(void, TestClusterCluster, testNotHandled)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20765,12 +21138,12 @@ JNI_METHOD(void, TestClusterCluster, testNullableOptionalRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20813,12 +21186,12 @@ JNI_METHOD(void, TestClusterCluster, testSimpleOptionalArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20860,12 +21233,12 @@ JNI_METHOD(void, TestClusterCluster, testSpecific)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20909,12 +21282,12 @@ JNI_METHOD(void, TestClusterCluster, testStructArgumentRequest)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20953,12 +21326,12 @@ JNI_METHOD(void, TestClusterCluster, testUnknownCommand)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -20995,8 +21368,8 @@ JNI_METHOD(void, TestClusterCluster, timedInvokeRequest)
     auto successFn = chip::Callback::Callback<CHIPDefaultSuccessCallbackType>::FromCancelable(onSuccess->Cancel());
     auto failureFn = chip::Callback::Callback<CHIPDefaultFailureCallbackType>::FromCancelable(onFailure->Cancel());
 
-    err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                    chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+    err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                               chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
                                                                                        CHIP_ERROR_INCORRECT_STATE));
@@ -21015,7 +21388,8 @@ JNI_METHOD(void, TestClusterCluster, writeBooleanAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21099,7 +21473,8 @@ JNI_METHOD(void, TestClusterCluster, writeBitmap8Attribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21183,7 +21558,8 @@ JNI_METHOD(void, TestClusterCluster, writeBitmap16Attribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21267,7 +21643,8 @@ JNI_METHOD(void, TestClusterCluster, writeBitmap32Attribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21351,7 +21728,8 @@ JNI_METHOD(void, TestClusterCluster, writeBitmap64Attribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21435,7 +21813,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt8uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21519,7 +21898,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt16uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21603,7 +21983,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt24uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21687,7 +22068,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt32uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21771,7 +22153,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt40uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21855,7 +22238,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt48uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -21939,7 +22323,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt56uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22023,7 +22408,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt64uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22107,7 +22493,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt8sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22191,7 +22578,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt16sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22275,7 +22663,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt24sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22359,7 +22748,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt32sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22443,7 +22833,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt40sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22527,7 +22918,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt48sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22611,7 +23003,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt56sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22695,7 +23088,8 @@ JNI_METHOD(void, TestClusterCluster, writeInt64sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22779,7 +23173,8 @@ JNI_METHOD(void, TestClusterCluster, writeEnum8Attribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22863,7 +23258,8 @@ JNI_METHOD(void, TestClusterCluster, writeEnum16Attribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -22947,7 +23343,8 @@ JNI_METHOD(void, TestClusterCluster, writeFloatSingleAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().FloatToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23031,7 +23428,8 @@ JNI_METHOD(void, TestClusterCluster, writeFloatDoubleAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().DoubleToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23115,7 +23513,8 @@ JNI_METHOD(void, TestClusterCluster, writeOctetStringAttribute)
     cppValue = chip::JniByteArray(env, static_cast<jbyteArray>(value)).byteSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23199,7 +23598,8 @@ JNI_METHOD(void, TestClusterCluster, writeLongOctetStringAttribute)
     cppValue = chip::JniByteArray(env, static_cast<jbyteArray>(value)).byteSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23283,7 +23683,8 @@ JNI_METHOD(void, TestClusterCluster, writeCharStringAttribute)
     cppValue = chip::JniUtfString(env, static_cast<jstring>(value)).charSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23367,7 +23768,8 @@ JNI_METHOD(void, TestClusterCluster, writeLongCharStringAttribute)
     cppValue = chip::JniUtfString(env, static_cast<jstring>(value)).charSpan();
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23451,7 +23853,8 @@ JNI_METHOD(void, TestClusterCluster, writeEpochUsAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23535,7 +23938,8 @@ JNI_METHOD(void, TestClusterCluster, writeEpochSAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().LongToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23619,7 +24023,8 @@ JNI_METHOD(void, TestClusterCluster, writeVendorIdAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23704,7 +24109,8 @@ JNI_METHOD(void, TestClusterCluster, writeEnumAttrAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23788,7 +24194,8 @@ JNI_METHOD(void, TestClusterCluster, writeRangeRestrictedInt8uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23872,7 +24279,8 @@ JNI_METHOD(void, TestClusterCluster, writeRangeRestrictedInt8sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -23956,7 +24364,8 @@ JNI_METHOD(void, TestClusterCluster, writeRangeRestrictedInt16uAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24040,7 +24449,8 @@ JNI_METHOD(void, TestClusterCluster, writeRangeRestrictedInt16sAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24124,7 +24534,8 @@ JNI_METHOD(void, TestClusterCluster, writeTimedWriteBooleanAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24164,7 +24575,8 @@ JNI_METHOD(void, TestClusterCluster, writeUnsupportedAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().BooleanToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24253,7 +24665,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableBooleanAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<bool>() : chip::app::DataModel::Nullable<bool>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24343,7 +24756,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableBitmap8Attribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint8_t>() : chip::app::DataModel::Nullable<uint8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24433,7 +24847,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableBitmap16Attribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint16_t>() : chip::app::DataModel::Nullable<uint16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24523,7 +24938,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableBitmap32Attribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint32_t>() : chip::app::DataModel::Nullable<uint32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24613,7 +25029,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableBitmap64Attribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint64_t>() : chip::app::DataModel::Nullable<uint64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24703,7 +25120,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt8uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint8_t>() : chip::app::DataModel::Nullable<uint8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24793,7 +25211,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt16uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint16_t>() : chip::app::DataModel::Nullable<uint16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24883,7 +25302,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt24uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint32_t>() : chip::app::DataModel::Nullable<uint32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -24973,7 +25393,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt32uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint32_t>() : chip::app::DataModel::Nullable<uint32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25063,7 +25484,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt40uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint64_t>() : chip::app::DataModel::Nullable<uint64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25153,7 +25575,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt48uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint64_t>() : chip::app::DataModel::Nullable<uint64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25243,7 +25666,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt56uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint64_t>() : chip::app::DataModel::Nullable<uint64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25333,7 +25757,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt64uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint64_t>() : chip::app::DataModel::Nullable<uint64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25423,7 +25848,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt8sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int8_t>() : chip::app::DataModel::Nullable<int8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25513,7 +25939,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt16sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int16_t>() : chip::app::DataModel::Nullable<int16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25603,7 +26030,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt24sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int32_t>() : chip::app::DataModel::Nullable<int32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25693,7 +26121,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt32sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int32_t>() : chip::app::DataModel::Nullable<int32_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25783,7 +26212,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt40sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int64_t>() : chip::app::DataModel::Nullable<int64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25873,7 +26303,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt48sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int64_t>() : chip::app::DataModel::Nullable<int64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -25963,7 +26394,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt56sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int64_t>() : chip::app::DataModel::Nullable<int64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26053,7 +26485,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableInt64sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int64_t>() : chip::app::DataModel::Nullable<int64_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26143,7 +26576,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableEnum8Attribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint8_t>() : chip::app::DataModel::Nullable<uint8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26233,7 +26667,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableEnum16Attribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint16_t>() : chip::app::DataModel::Nullable<uint16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26323,7 +26758,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableFloatSingleAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<float>() : chip::app::DataModel::Nullable<float>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26414,7 +26850,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableFloatDoubleAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<double>() : chip::app::DataModel::Nullable<double>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26506,7 +26943,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableOctetStringAttribute)
                                 : chip::app::DataModel::Nullable<chip::ByteSpan>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26598,7 +27036,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableCharStringAttribute)
                                 : chip::app::DataModel::Nullable<chip::CharSpan>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26690,7 +27129,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableEnumAttrAttribute)
                                 : chip::app::DataModel::Nullable<chip::app::Clusters::TestCluster::SimpleEnum>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26780,7 +27220,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableRangeRestrictedInt8uAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint8_t>() : chip::app::DataModel::Nullable<uint8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26873,7 +27314,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableRangeRestrictedInt8sAttribute)
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int8_t>() : chip::app::DataModel::Nullable<int8_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -26966,7 +27408,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableRangeRestrictedInt16uAttribute
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<uint16_t>() : chip::app::DataModel::Nullable<uint16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -27059,7 +27502,8 @@ JNI_METHOD(void, TestClusterCluster, writeNullableRangeRestrictedInt16sAttribute
     cppValue = value == nullptr ? chip::app::DataModel::Nullable<int16_t>() : chip::app::DataModel::Nullable<int16_t>(valueValue);
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -27182,6 +27626,12 @@ JNI_METHOD(jlong, ThermostatCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ThermostatCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ThermostatCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ThermostatCluster, clearWeeklySchedule)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -27212,12 +27662,12 @@ JNI_METHOD(void, ThermostatCluster, clearWeeklySchedule)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -27259,12 +27709,12 @@ JNI_METHOD(void, ThermostatCluster, getRelayStatusLog)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -27312,12 +27762,12 @@ JNI_METHOD(void, ThermostatCluster, getWeeklySchedule)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -27365,12 +27815,12 @@ JNI_METHOD(void, ThermostatCluster, setWeeklySchedule)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -27412,12 +27862,12 @@ JNI_METHOD(void, ThermostatCluster, setpointRaiseLower)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -27622,7 +28072,8 @@ JNI_METHOD(void, ThermostatCluster, writeOccupiedCoolingSetpointAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -27706,7 +28157,8 @@ JNI_METHOD(void, ThermostatCluster, writeOccupiedHeatingSetpointAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -27790,7 +28242,8 @@ JNI_METHOD(void, ThermostatCluster, writeMinHeatSetpointLimitAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -27874,7 +28327,8 @@ JNI_METHOD(void, ThermostatCluster, writeMaxHeatSetpointLimitAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -27958,7 +28412,8 @@ JNI_METHOD(void, ThermostatCluster, writeMinCoolSetpointLimitAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28042,7 +28497,8 @@ JNI_METHOD(void, ThermostatCluster, writeMaxCoolSetpointLimitAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28126,7 +28582,8 @@ JNI_METHOD(void, ThermostatCluster, writeMinSetpointDeadBandAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28210,7 +28667,8 @@ JNI_METHOD(void, ThermostatCluster, writeControlSequenceOfOperationAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28294,7 +28752,8 @@ JNI_METHOD(void, ThermostatCluster, writeSystemModeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28562,6 +29021,13 @@ JNI_METHOD(jlong, ThermostatUserInterfaceConfigurationCluster, initWithDevice)
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ThermostatUserInterfaceConfigurationCluster, initWithGroup)
+(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ThermostatUserInterfaceConfigurationCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ThermostatUserInterfaceConfigurationCluster, writeTemperatureDisplayModeAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject value, jobject timedWriteTimeoutMs)
 {
@@ -28572,7 +29038,8 @@ JNI_METHOD(void, ThermostatUserInterfaceConfigurationCluster, writeTemperatureDi
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28659,7 +29126,8 @@ JNI_METHOD(void, ThermostatUserInterfaceConfigurationCluster, writeKeypadLockout
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28746,7 +29214,8 @@ JNI_METHOD(void, ThermostatUserInterfaceConfigurationCluster, writeScheduleProgr
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -28869,6 +29338,12 @@ JNI_METHOD(jlong, ThreadNetworkDiagnosticsCluster, initWithDevice)(JNIEnv * env,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, ThreadNetworkDiagnosticsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new ThreadNetworkDiagnosticsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, ThreadNetworkDiagnosticsCluster, resetCounts)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -28899,12 +29374,12 @@ JNI_METHOD(void, ThreadNetworkDiagnosticsCluster, resetCounts)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -31144,6 +31619,12 @@ JNI_METHOD(jlong, UserLabelCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, UserLabelCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new UserLabelCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(jlong, WakeOnLanCluster, initWithDevice)(JNIEnv * env, jobject self, jlong devicePtr, jint endpointId)
 {
     chip::DeviceLayer::StackLock lock;
@@ -31153,6 +31634,12 @@ JNI_METHOD(jlong, WakeOnLanCluster, initWithDevice)(JNIEnv * env, jobject self,
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, WakeOnLanCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new WakeOnLanCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, WakeOnLanCluster, subscribeWakeOnLanMacAddressAttribute)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jint minInterval, jint maxInterval)
 {
@@ -31236,6 +31723,12 @@ JNI_METHOD(jlong, WiFiNetworkDiagnosticsCluster, initWithDevice)(JNIEnv * env, j
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, WiFiNetworkDiagnosticsCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new WiFiNetworkDiagnosticsCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, WiFiNetworkDiagnosticsCluster, resetCounts)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -31266,12 +31759,12 @@ JNI_METHOD(void, WiFiNetworkDiagnosticsCluster, resetCounts)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -31813,6 +32306,12 @@ JNI_METHOD(jlong, WindowCoveringCluster, initWithDevice)(JNIEnv * env, jobject s
     return reinterpret_cast<jlong>(cppCluster);
 }
 
+JNI_METHOD(jlong, WindowCoveringCluster, initWithGroup)(JNIEnv * env, jobject self, jlong controllerPtr, jint groupId)
+{
+    chip::DeviceLayer::StackLock lock;
+    return InitGroupCluster(env, new WindowCoveringCluster(), controllerPtr, groupId);
+}
+
 JNI_METHOD(void, WindowCoveringCluster, downOrClose)
 (JNIEnv * env, jobject self, jlong clusterPtr, jobject callback, jobject timedInvokeTimeoutMs)
 {
@@ -31843,12 +32342,12 @@ JNI_METHOD(void, WindowCoveringCluster, downOrClose)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -31893,12 +32392,12 @@ JNI_METHOD(void, WindowCoveringCluster, goToLiftPercentage)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -31939,12 +32438,12 @@ JNI_METHOD(void, WindowCoveringCluster, goToLiftValue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -31989,12 +32488,12 @@ JNI_METHOD(void, WindowCoveringCluster, goToTiltPercentage)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -32035,12 +32534,12 @@ JNI_METHOD(void, WindowCoveringCluster, goToTiltValue)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -32079,12 +32578,12 @@ JNI_METHOD(void, WindowCoveringCluster, stopMotion)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -32123,12 +32622,12 @@ JNI_METHOD(void, WindowCoveringCluster, upOrOpen)
 
     if (timedInvokeTimeoutMs == nullptr)
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall);
     }
     else
     {
-        err = cppCluster->InvokeCommand(request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
-                                        chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
+        err = InvokeOrBatchCommand(*cppCluster, request, onSuccess->mContext, successFn->mCall, failureFn->mCall,
+                                   chip::JniReferences::GetInstance().IntegerToPrimitive(timedInvokeTimeoutMs));
     }
     VerifyOrReturn(err == CHIP_NO_ERROR,
                    AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(env, callback, "Error invoking command",
@@ -32770,7 +33269,8 @@ JNI_METHOD(void, WindowCoveringCluster, writeModeAttribute)
     cppValue = static_cast<decltype(cppValue)>(chip::JniReferences::GetInstance().IntegerToPrimitive(value));
 
     std::unique_ptr<CHIPDefaultSuccessCallback, void (*)(CHIPDefaultSuccessCallback *)> onSuccess(
-        Platform::New<CHIPDefaultSuccessCallback>(callback), Platform::Delete<CHIPDefaultSuccessCallback>);
+        Platform::New<CHIPDefaultSuccessCallback>(callback, AndroidMetrics::Timer::kWriteRoundTrip),
+        Platform::Delete<CHIPDefaultSuccessCallback>);
     VerifyOrReturn(onSuccess.get() != nullptr,
                    chip::AndroidClusterExceptions::GetInstance().ReturnIllegalStateException(
                        env, callback, "Error creating native success callback", CHIP_ERROR_NO_MEMORY));
@@ -30,7 +30,7 @@
 namespace chip {
 
 CHIPAccountLoginClusterGetSetupPINResponseCallback::CHIPAccountLoginClusterGetSetupPINResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPAccountLoginClusterGetSetupPINResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPAccountLoginClusterGetSetupPINResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -73,6 +73,7 @@ void CHIPAccountLoginClusterGetSetupPINResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPAccountLoginClusterGetSetupPINResponseCallback *>(context),
                     chip::Platform::Delete<CHIPAccountLoginClusterGetSetupPINResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -90,7 +91,8 @@ void CHIPAccountLoginClusterGetSetupPINResponseCallback::CallbackFn(
 }
 CHIPApplicationLauncherClusterLauncherResponseCallback::CHIPApplicationLauncherClusterLauncherResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPApplicationLauncherClusterLauncherResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPApplicationLauncherClusterLauncherResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -133,6 +135,7 @@ void CHIPApplicationLauncherClusterLauncherResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPApplicationLauncherClusterLauncherResponseCallback *>(context),
                     chip::Platform::Delete<CHIPApplicationLauncherClusterLauncherResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -156,7 +159,7 @@ void CHIPApplicationLauncherClusterLauncherResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, data);
 }
 CHIPChannelClusterChangeChannelResponseCallback::CHIPChannelClusterChangeChannelResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPChannelClusterChangeChannelResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPChannelClusterChangeChannelResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -198,6 +201,7 @@ void CHIPChannelClusterChangeChannelResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPChannelClusterChangeChannelResponseCallback *>(context),
                     chip::Platform::Delete<CHIPChannelClusterChangeChannelResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -219,7 +223,7 @@ void CHIPChannelClusterChangeChannelResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, channelMatch, errorType);
 }
 CHIPContentLauncherClusterLaunchResponseCallback::CHIPContentLauncherClusterLaunchResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPContentLauncherClusterLaunchResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPContentLauncherClusterLaunchResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -261,6 +265,7 @@ void CHIPContentLauncherClusterLaunchResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPContentLauncherClusterLaunchResponseCallback *>(context),
                     chip::Platform::Delete<CHIPContentLauncherClusterLaunchResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -284,7 +289,8 @@ void CHIPContentLauncherClusterLaunchResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, data);
 }
 CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback::CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPDiagnosticLogsClusterRetrieveLogsResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPDiagnosticLogsClusterRetrieveLogsResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -327,6 +333,7 @@ void CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback *>(context),
                     chip::Platform::Delete<CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -363,7 +370,8 @@ void CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback::CallbackFn(
 }
 CHIPDoorLockClusterGetCredentialStatusResponseCallback::CHIPDoorLockClusterGetCredentialStatusResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPDoorLockClusterGetCredentialStatusResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPDoorLockClusterGetCredentialStatusResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -406,6 +414,7 @@ void CHIPDoorLockClusterGetCredentialStatusResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPDoorLockClusterGetCredentialStatusResponseCallback *>(context),
                     chip::Platform::Delete<CHIPDoorLockClusterGetCredentialStatusResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -438,7 +447,7 @@ void CHIPDoorLockClusterGetCredentialStatusResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, credentialExists, userIndex, nextCredentialIndex);
 }
 CHIPDoorLockClusterGetUserResponseCallback::CHIPDoorLockClusterGetUserResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPDoorLockClusterGetUserResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPDoorLockClusterGetUserResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -480,6 +489,7 @@ void CHIPDoorLockClusterGetUserResponseCallback::CallbackFn(
         reinterpret_cast<CHIPDoorLockClusterGetUserResponseCallback *>(context),
         chip::Platform::Delete<CHIPDoorLockClusterGetUserResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -554,7 +564,7 @@ void CHIPDoorLockClusterGetUserResponseCallback::CallbackFn(
                         credentials, creatorFabricIndex, lastModifiedFabricIndex, nextUserIndex);
 }
 CHIPDoorLockClusterSetCredentialResponseCallback::CHIPDoorLockClusterSetCredentialResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPDoorLockClusterSetCredentialResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPDoorLockClusterSetCredentialResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -596,6 +606,7 @@ void CHIPDoorLockClusterSetCredentialResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPDoorLockClusterSetCredentialResponseCallback *>(context),
                     chip::Platform::Delete<CHIPDoorLockClusterSetCredentialResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -629,7 +640,8 @@ void CHIPDoorLockClusterSetCredentialResponseCallback::CallbackFn(
 }
 CHIPGeneralCommissioningClusterArmFailSafeResponseCallback::CHIPGeneralCommissioningClusterArmFailSafeResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPGeneralCommissioningClusterArmFailSafeResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGeneralCommissioningClusterArmFailSafeResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -672,6 +684,7 @@ void CHIPGeneralCommissioningClusterArmFailSafeResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPGeneralCommissioningClusterArmFailSafeResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGeneralCommissioningClusterArmFailSafeResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -696,7 +709,8 @@ void CHIPGeneralCommissioningClusterArmFailSafeResponseCallback::CallbackFn(
 }
 CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback::
     CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -741,6 +755,7 @@ void CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback::Callb
         cppCallback(reinterpret_cast<CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -765,7 +780,8 @@ void CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback::Callb
 }
 CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback::
     CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -810,6 +826,7 @@ void CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback::Callbac
         cppCallback(reinterpret_cast<CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -834,7 +851,8 @@ void CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback::Callbac
 }
 CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback::
     CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -879,6 +897,7 @@ void CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback::Callback
         cppCallback(reinterpret_cast<CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -895,7 +914,8 @@ void CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback::Callback
 }
 CHIPGroupKeyManagementClusterKeySetReadResponseCallback::CHIPGroupKeyManagementClusterKeySetReadResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPGroupKeyManagementClusterKeySetReadResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGroupKeyManagementClusterKeySetReadResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -938,6 +958,7 @@ void CHIPGroupKeyManagementClusterKeySetReadResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPGroupKeyManagementClusterKeySetReadResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGroupKeyManagementClusterKeySetReadResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -953,7 +974,7 @@ void CHIPGroupKeyManagementClusterKeySetReadResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, groupKeySet);
 }
 CHIPGroupsClusterAddGroupResponseCallback::CHIPGroupsClusterAddGroupResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGroupsClusterAddGroupResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGroupsClusterAddGroupResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -995,6 +1016,7 @@ void CHIPGroupsClusterAddGroupResponseCallback::CallbackFn(
         reinterpret_cast<CHIPGroupsClusterAddGroupResponseCallback *>(context),
         chip::Platform::Delete<CHIPGroupsClusterAddGroupResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1020,7 +1042,7 @@ void CHIPGroupsClusterAddGroupResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId);
 }
 CHIPGroupsClusterGetGroupMembershipResponseCallback::CHIPGroupsClusterGetGroupMembershipResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGroupsClusterGetGroupMembershipResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGroupsClusterGetGroupMembershipResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1063,6 +1085,7 @@ void CHIPGroupsClusterGetGroupMembershipResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPGroupsClusterGetGroupMembershipResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGroupsClusterGetGroupMembershipResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1084,7 +1107,7 @@ void CHIPGroupsClusterGetGroupMembershipResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, capacity, groupList);
 }
 CHIPGroupsClusterRemoveGroupResponseCallback::CHIPGroupsClusterRemoveGroupResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGroupsClusterRemoveGroupResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGroupsClusterRemoveGroupResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1126,6 +1149,7 @@ void CHIPGroupsClusterRemoveGroupResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPGroupsClusterRemoveGroupResponseCallback *>(context),
                     chip::Platform::Delete<CHIPGroupsClusterRemoveGroupResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1151,7 +1175,7 @@ void CHIPGroupsClusterRemoveGroupResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId);
 }
 CHIPGroupsClusterViewGroupResponseCallback::CHIPGroupsClusterViewGroupResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPGroupsClusterViewGroupResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPGroupsClusterViewGroupResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1193,6 +1217,7 @@ void CHIPGroupsClusterViewGroupResponseCallback::CallbackFn(
         reinterpret_cast<CHIPGroupsClusterViewGroupResponseCallback *>(context),
         chip::Platform::Delete<CHIPGroupsClusterViewGroupResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1222,7 +1247,7 @@ void CHIPGroupsClusterViewGroupResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId, groupName);
 }
 CHIPIdentifyClusterIdentifyQueryResponseCallback::CHIPIdentifyClusterIdentifyQueryResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPIdentifyClusterIdentifyQueryResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPIdentifyClusterIdentifyQueryResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1264,6 +1289,7 @@ void CHIPIdentifyClusterIdentifyQueryResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPIdentifyClusterIdentifyQueryResponseCallback *>(context),
                     chip::Platform::Delete<CHIPIdentifyClusterIdentifyQueryResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1282,7 +1308,7 @@ void CHIPIdentifyClusterIdentifyQueryResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, timeout);
 }
 CHIPKeypadInputClusterSendKeyResponseCallback::CHIPKeypadInputClusterSendKeyResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPKeypadInputClusterSendKeyResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPKeypadInputClusterSendKeyResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1324,6 +1350,7 @@ void CHIPKeypadInputClusterSendKeyResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPKeypadInputClusterSendKeyResponseCallback *>(context),
                     chip::Platform::Delete<CHIPKeypadInputClusterSendKeyResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1342,7 +1369,7 @@ void CHIPKeypadInputClusterSendKeyResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status);
 }
 CHIPMediaPlaybackClusterPlaybackResponseCallback::CHIPMediaPlaybackClusterPlaybackResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPMediaPlaybackClusterPlaybackResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPMediaPlaybackClusterPlaybackResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1384,6 +1411,7 @@ void CHIPMediaPlaybackClusterPlaybackResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPMediaPlaybackClusterPlaybackResponseCallback *>(context),
                     chip::Platform::Delete<CHIPMediaPlaybackClusterPlaybackResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1403,7 +1431,8 @@ void CHIPMediaPlaybackClusterPlaybackResponseCallback::CallbackFn(
 }
 CHIPNetworkCommissioningClusterConnectNetworkResponseCallback::CHIPNetworkCommissioningClusterConnectNetworkResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPNetworkCommissioningClusterConnectNetworkResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPNetworkCommissioningClusterConnectNetworkResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1446,6 +1475,7 @@ void CHIPNetworkCommissioningClusterConnectNetworkResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPNetworkCommissioningClusterConnectNetworkResponseCallback *>(context),
                     chip::Platform::Delete<CHIPNetworkCommissioningClusterConnectNetworkResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1476,7 +1506,8 @@ void CHIPNetworkCommissioningClusterConnectNetworkResponseCallback::CallbackFn(
 }
 CHIPNetworkCommissioningClusterNetworkConfigResponseCallback::CHIPNetworkCommissioningClusterNetworkConfigResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPNetworkCommissioningClusterNetworkConfigResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPNetworkCommissioningClusterNetworkConfigResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1519,6 +1550,7 @@ void CHIPNetworkCommissioningClusterNetworkConfigResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPNetworkCommissioningClusterNetworkConfigResponseCallback *>(context),
                     chip::Platform::Delete<CHIPNetworkCommissioningClusterNetworkConfigResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1543,7 +1575,8 @@ void CHIPNetworkCommissioningClusterNetworkConfigResponseCallback::CallbackFn(
 }
 CHIPNetworkCommissioningClusterScanNetworksResponseCallback::CHIPNetworkCommissioningClusterScanNetworksResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPNetworkCommissioningClusterScanNetworksResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPNetworkCommissioningClusterScanNetworksResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1586,6 +1619,7 @@ void CHIPNetworkCommissioningClusterScanNetworksResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPNetworkCommissioningClusterScanNetworksResponseCallback *>(context),
                     chip::Platform::Delete<CHIPNetworkCommissioningClusterScanNetworksResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1632,7 +1666,8 @@ void CHIPNetworkCommissioningClusterScanNetworksResponseCallback::CallbackFn(
 }
 CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback::CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1676,6 +1711,7 @@ void CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback::CallbackFn
         cppCallback(reinterpret_cast<CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback *>(context),
                     chip::Platform::Delete<CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1703,7 +1739,8 @@ void CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback::CallbackFn
 }
 CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback::CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1747,6 +1784,7 @@ void CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback *>(context),
                     chip::Platform::Delete<CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1864,7 +1902,8 @@ void CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback::CallbackFn(
 }
 CHIPOperationalCredentialsClusterAttestationResponseCallback::CHIPOperationalCredentialsClusterAttestationResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPOperationalCredentialsClusterAttestationResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPOperationalCredentialsClusterAttestationResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1907,6 +1946,7 @@ void CHIPOperationalCredentialsClusterAttestationResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPOperationalCredentialsClusterAttestationResponseCallback *>(context),
                     chip::Platform::Delete<CHIPOperationalCredentialsClusterAttestationResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1928,7 +1968,8 @@ void CHIPOperationalCredentialsClusterAttestationResponseCallback::CallbackFn(
 }
 CHIPOperationalCredentialsClusterCertificateChainResponseCallback::
     CHIPOperationalCredentialsClusterCertificateChainResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPOperationalCredentialsClusterCertificateChainResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPOperationalCredentialsClusterCertificateChainResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1973,6 +2014,7 @@ void CHIPOperationalCredentialsClusterCertificateChainResponseCallback::Callback
         cppCallback(reinterpret_cast<CHIPOperationalCredentialsClusterCertificateChainResponseCallback *>(context),
                     chip::Platform::Delete<CHIPOperationalCredentialsClusterCertificateChainResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -1989,7 +2031,7 @@ void CHIPOperationalCredentialsClusterCertificateChainResponseCallback::Callback
     env->CallVoidMethod(javaCallbackRef, javaMethod, Certificate);
 }
 CHIPOperationalCredentialsClusterNOCResponseCallback::CHIPOperationalCredentialsClusterNOCResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPOperationalCredentialsClusterNOCResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPOperationalCredentialsClusterNOCResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2032,6 +2074,7 @@ void CHIPOperationalCredentialsClusterNOCResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPOperationalCredentialsClusterNOCResponseCallback *>(context),
                     chip::Platform::Delete<CHIPOperationalCredentialsClusterNOCResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2062,7 +2105,8 @@ void CHIPOperationalCredentialsClusterNOCResponseCallback::CallbackFn(
 }
 CHIPOperationalCredentialsClusterOpCSRResponseCallback::CHIPOperationalCredentialsClusterOpCSRResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPOperationalCredentialsClusterOpCSRResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPOperationalCredentialsClusterOpCSRResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2105,6 +2149,7 @@ void CHIPOperationalCredentialsClusterOpCSRResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPOperationalCredentialsClusterOpCSRResponseCallback *>(context),
                     chip::Platform::Delete<CHIPOperationalCredentialsClusterOpCSRResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2125,7 +2170,7 @@ void CHIPOperationalCredentialsClusterOpCSRResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, NOCSRElements, AttestationSignature);
 }
 CHIPScenesClusterAddSceneResponseCallback::CHIPScenesClusterAddSceneResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPScenesClusterAddSceneResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPScenesClusterAddSceneResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2167,6 +2212,7 @@ void CHIPScenesClusterAddSceneResponseCallback::CallbackFn(
         reinterpret_cast<CHIPScenesClusterAddSceneResponseCallback *>(context),
         chip::Platform::Delete<CHIPScenesClusterAddSceneResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2198,7 +2244,7 @@ void CHIPScenesClusterAddSceneResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId, sceneId);
 }
 CHIPScenesClusterGetSceneMembershipResponseCallback::CHIPScenesClusterGetSceneMembershipResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPScenesClusterGetSceneMembershipResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPScenesClusterGetSceneMembershipResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2241,6 +2287,7 @@ void CHIPScenesClusterGetSceneMembershipResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPScenesClusterGetSceneMembershipResponseCallback *>(context),
                     chip::Platform::Delete<CHIPScenesClusterGetSceneMembershipResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2282,7 +2329,7 @@ void CHIPScenesClusterGetSceneMembershipResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, capacity, groupId, sceneCount, sceneList);
 }
 CHIPScenesClusterRemoveAllScenesResponseCallback::CHIPScenesClusterRemoveAllScenesResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPScenesClusterRemoveAllScenesResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPScenesClusterRemoveAllScenesResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2324,6 +2371,7 @@ void CHIPScenesClusterRemoveAllScenesResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPScenesClusterRemoveAllScenesResponseCallback *>(context),
                     chip::Platform::Delete<CHIPScenesClusterRemoveAllScenesResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2349,7 +2397,7 @@ void CHIPScenesClusterRemoveAllScenesResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId);
 }
 CHIPScenesClusterRemoveSceneResponseCallback::CHIPScenesClusterRemoveSceneResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPScenesClusterRemoveSceneResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPScenesClusterRemoveSceneResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2391,6 +2439,7 @@ void CHIPScenesClusterRemoveSceneResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPScenesClusterRemoveSceneResponseCallback *>(context),
                     chip::Platform::Delete<CHIPScenesClusterRemoveSceneResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2422,7 +2471,7 @@ void CHIPScenesClusterRemoveSceneResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId, sceneId);
 }
 CHIPScenesClusterStoreSceneResponseCallback::CHIPScenesClusterStoreSceneResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPScenesClusterStoreSceneResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPScenesClusterStoreSceneResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2464,6 +2513,7 @@ void CHIPScenesClusterStoreSceneResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPScenesClusterStoreSceneResponseCallback *>(context),
                     chip::Platform::Delete<CHIPScenesClusterStoreSceneResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2495,7 +2545,7 @@ void CHIPScenesClusterStoreSceneResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, groupId, sceneId);
 }
 CHIPScenesClusterViewSceneResponseCallback::CHIPScenesClusterViewSceneResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPScenesClusterViewSceneResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPScenesClusterViewSceneResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2537,6 +2587,7 @@ void CHIPScenesClusterViewSceneResponseCallback::CallbackFn(
         reinterpret_cast<CHIPScenesClusterViewSceneResponseCallback *>(context),
         chip::Platform::Delete<CHIPScenesClusterViewSceneResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2583,7 +2634,8 @@ void CHIPScenesClusterViewSceneResponseCallback::CallbackFn(
 }
 CHIPTargetNavigatorClusterNavigateTargetResponseCallback::CHIPTargetNavigatorClusterNavigateTargetResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPTargetNavigatorClusterNavigateTargetResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTargetNavigatorClusterNavigateTargetResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2626,6 +2678,7 @@ void CHIPTargetNavigatorClusterNavigateTargetResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTargetNavigatorClusterNavigateTargetResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTargetNavigatorClusterNavigateTargetResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2649,7 +2702,7 @@ void CHIPTargetNavigatorClusterNavigateTargetResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, status, data);
 }
 CHIPTestClusterClusterBooleanResponseCallback::CHIPTestClusterClusterBooleanResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterBooleanResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterBooleanResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2691,6 +2744,7 @@ void CHIPTestClusterClusterBooleanResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterBooleanResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterBooleanResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2709,7 +2763,7 @@ void CHIPTestClusterClusterBooleanResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, value);
 }
 CHIPTestClusterClusterSimpleStructResponseCallback::CHIPTestClusterClusterSimpleStructResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterSimpleStructResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterSimpleStructResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2752,6 +2806,7 @@ void CHIPTestClusterClusterSimpleStructResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterSimpleStructResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterSimpleStructResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2768,7 +2823,8 @@ void CHIPTestClusterClusterSimpleStructResponseCallback::CallbackFn(
 }
 CHIPTestClusterClusterTestAddArgumentsResponseCallback::CHIPTestClusterClusterTestAddArgumentsResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterTestAddArgumentsResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterTestAddArgumentsResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2811,6 +2867,7 @@ void CHIPTestClusterClusterTestAddArgumentsResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterTestAddArgumentsResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterTestAddArgumentsResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2830,7 +2887,8 @@ void CHIPTestClusterClusterTestAddArgumentsResponseCallback::CallbackFn(
 }
 CHIPTestClusterClusterTestEmitTestEventResponseCallback::CHIPTestClusterClusterTestEmitTestEventResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterTestEmitTestEventResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterTestEmitTestEventResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2873,6 +2931,7 @@ void CHIPTestClusterClusterTestEmitTestEventResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterTestEmitTestEventResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterTestEmitTestEventResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2891,7 +2950,7 @@ void CHIPTestClusterClusterTestEmitTestEventResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, value);
 }
 CHIPTestClusterClusterTestEnumsResponseCallback::CHIPTestClusterClusterTestEnumsResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterTestEnumsResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterTestEnumsResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2933,6 +2992,7 @@ void CHIPTestClusterClusterTestEnumsResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterTestEnumsResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterTestEnumsResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -2959,7 +3019,8 @@ void CHIPTestClusterClusterTestEnumsResponseCallback::CallbackFn(
 }
 CHIPTestClusterClusterTestListInt8UReverseResponseCallback::CHIPTestClusterClusterTestListInt8UReverseResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterTestListInt8UReverseResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterTestListInt8UReverseResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3002,6 +3063,7 @@ void CHIPTestClusterClusterTestListInt8UReverseResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterTestListInt8UReverseResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterTestListInt8UReverseResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -3018,7 +3080,8 @@ void CHIPTestClusterClusterTestListInt8UReverseResponseCallback::CallbackFn(
 }
 CHIPTestClusterClusterTestNullableOptionalResponseCallback::CHIPTestClusterClusterTestNullableOptionalResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterTestNullableOptionalResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterTestNullableOptionalResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3061,6 +3124,7 @@ void CHIPTestClusterClusterTestNullableOptionalResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterTestNullableOptionalResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterTestNullableOptionalResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -3131,7 +3195,7 @@ void CHIPTestClusterClusterTestNullableOptionalResponseCallback::CallbackFn(
     env->CallVoidMethod(javaCallbackRef, javaMethod, wasPresent, wasNull, value, originalValue);
 }
 CHIPTestClusterClusterTestSpecificResponseCallback::CHIPTestClusterClusterTestSpecificResponseCallback(jobject javaCallback) :
-    Callback::Callback<CHIPTestClusterClusterTestSpecificResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPTestClusterClusterTestSpecificResponseCallbackType>(CallbackFn, this), startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3174,6 +3238,7 @@ void CHIPTestClusterClusterTestSpecificResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPTestClusterClusterTestSpecificResponseCallback *>(context),
                     chip::Platform::Delete<CHIPTestClusterClusterTestSpecificResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -3193,7 +3258,8 @@ void CHIPTestClusterClusterTestSpecificResponseCallback::CallbackFn(
 }
 CHIPThermostatClusterGetRelayStatusLogResponseCallback::CHIPThermostatClusterGetRelayStatusLogResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPThermostatClusterGetRelayStatusLogResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPThermostatClusterGetRelayStatusLogResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3236,6 +3302,7 @@ void CHIPThermostatClusterGetRelayStatusLogResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPThermostatClusterGetRelayStatusLogResponseCallback *>(context),
                     chip::Platform::Delete<CHIPThermostatClusterGetRelayStatusLogResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
@@ -3290,7 +3357,8 @@ void CHIPThermostatClusterGetRelayStatusLogResponseCallback::CallbackFn(
 }
 CHIPThermostatClusterGetWeeklyScheduleResponseCallback::CHIPThermostatClusterGetWeeklyScheduleResponseCallback(
     jobject javaCallback) :
-    Callback::Callback<CHIPThermostatClusterGetWeeklyScheduleResponseCallbackType>(CallbackFn, this)
+    Callback::Callback<CHIPThermostatClusterGetWeeklyScheduleResponseCallbackType>(CallbackFn, this),
+    startTime(AndroidMetrics::Now())
 {
     JNIEnv * env = JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3333,6 +3401,7 @@ void CHIPThermostatClusterGetWeeklyScheduleResponseCallback::CallbackFn(
         cppCallback(reinterpret_cast<CHIPThermostatClusterGetWeeklyScheduleResponseCallback *>(context),
                     chip::Platform::Delete<CHIPThermostatClusterGetWeeklyScheduleResponseCallback>);
     VerifyOrReturn(cppCallback != nullptr, ChipLogError(Zcl, "Error invoking Java callback: failed to cast native callback"));
+    AndroidMetrics::GetInstance().RecordSince(AndroidMetrics::Timer::kCommandRoundTrip, cppCallback->startTime);
 
     javaCallbackRef = cppCallback->javaCallbackRef;
     // Java callback is allowed to be null, exit early if this is the case.
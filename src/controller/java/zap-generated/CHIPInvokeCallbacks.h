@@ -19,6 +19,7 @@
 #include "CHIPCallbackTypes.h"
 
 #include <app-common/zap-generated/cluster-objects.h>
+#include <controller/java/AndroidMetrics.h>
 #include <jni.h>
 #include <zap-generated/CHIPClientCallbacks.h>
 
@@ -37,6 +38,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPApplicationLauncherClusterLauncherResponseCallback
@@ -52,6 +54,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPChannelClusterChangeChannelResponseCallback
@@ -67,6 +70,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPContentLauncherClusterLaunchResponseCallback
@@ -82,6 +86,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDiagnosticLogsClusterRetrieveLogsResponseCallback
@@ -97,6 +102,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDoorLockClusterGetCredentialStatusResponseCallback
@@ -112,6 +118,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDoorLockClusterGetUserResponseCallback : public Callback::Callback<CHIPDoorLockClusterGetUserResponseCallbackType>
@@ -125,6 +132,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDoorLockClusterSetCredentialResponseCallback
@@ -140,6 +148,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralCommissioningClusterArmFailSafeResponseCallback
@@ -155,6 +164,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralCommissioningClusterCommissioningCompleteResponseCallback
@@ -171,6 +181,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralCommissioningClusterSetRegulatoryConfigResponseCallback
@@ -187,6 +198,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupKeyManagementClusterKeySetReadAllIndicesResponseCallback
@@ -203,6 +215,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupKeyManagementClusterKeySetReadResponseCallback
@@ -218,6 +231,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupsClusterAddGroupResponseCallback : public Callback::Callback<CHIPGroupsClusterAddGroupResponseCallbackType>
@@ -231,6 +245,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupsClusterGetGroupMembershipResponseCallback
@@ -246,6 +261,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupsClusterRemoveGroupResponseCallback : public Callback::Callback<CHIPGroupsClusterRemoveGroupResponseCallbackType>
@@ -259,6 +275,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupsClusterViewGroupResponseCallback : public Callback::Callback<CHIPGroupsClusterViewGroupResponseCallbackType>
@@ -272,6 +289,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIdentifyClusterIdentifyQueryResponseCallback
@@ -287,6 +305,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPKeypadInputClusterSendKeyResponseCallback : public Callback::Callback<CHIPKeypadInputClusterSendKeyResponseCallbackType>
@@ -300,6 +319,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPMediaPlaybackClusterPlaybackResponseCallback
@@ -315,6 +335,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPNetworkCommissioningClusterConnectNetworkResponseCallback
@@ -330,6 +351,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPNetworkCommissioningClusterNetworkConfigResponseCallback
@@ -345,6 +367,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPNetworkCommissioningClusterScanNetworksResponseCallback
@@ -360,6 +383,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOtaSoftwareUpdateProviderClusterApplyUpdateResponseCallback
@@ -376,6 +400,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOtaSoftwareUpdateProviderClusterQueryImageResponseCallback
@@ -392,6 +417,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsClusterAttestationResponseCallback
@@ -407,6 +433,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsClusterCertificateChainResponseCallback
@@ -423,6 +450,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsClusterNOCResponseCallback
@@ -438,6 +466,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsClusterOpCSRResponseCallback
@@ -453,6 +482,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesClusterAddSceneResponseCallback : public Callback::Callback<CHIPScenesClusterAddSceneResponseCallbackType>
@@ -466,6 +496,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesClusterGetSceneMembershipResponseCallback
@@ -481,6 +512,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesClusterRemoveAllScenesResponseCallback
@@ -496,6 +528,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesClusterRemoveSceneResponseCallback : public Callback::Callback<CHIPScenesClusterRemoveSceneResponseCallbackType>
@@ -509,6 +542,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesClusterStoreSceneResponseCallback : public Callback::Callback<CHIPScenesClusterStoreSceneResponseCallbackType>
@@ -522,6 +556,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesClusterViewSceneResponseCallback : public Callback::Callback<CHIPScenesClusterViewSceneResponseCallbackType>
@@ -535,6 +570,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTargetNavigatorClusterNavigateTargetResponseCallback
@@ -550,6 +586,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterBooleanResponseCallback : public Callback::Callback<CHIPTestClusterClusterBooleanResponseCallbackType>
@@ -563,6 +600,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterSimpleStructResponseCallback
@@ -578,6 +616,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterTestAddArgumentsResponseCallback
@@ -593,6 +632,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterTestEmitTestEventResponseCallback
@@ -608,6 +648,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterTestEnumsResponseCallback
@@ -623,6 +664,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterTestListInt8UReverseResponseCallback
@@ -638,6 +680,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterTestNullableOptionalResponseCallback
@@ -653,6 +696,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterClusterTestSpecificResponseCallback
@@ -668,6 +712,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThermostatClusterGetRelayStatusLogResponseCallback
@@ -683,6 +728,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThermostatClusterGetWeeklyScheduleResponseCallback
@@ -698,6 +744,7 @@ public:
 
 private:
     jobject javaCallbackRef;
+    System::Clock::Microseconds64 startTime;
 };
 
 } // namespace chip
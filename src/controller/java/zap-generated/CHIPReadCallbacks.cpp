@@ -20,6 +20,7 @@
 
 #include <zap-generated/CHIPClientCallbacks.h>
 
+#include <controller/java/AndroidPrimitiveLists.h>
 #include <jni.h>
 #include <lib/support/CodeUtils.h>
 #include <lib/support/JniReferences.h>
@@ -27,7 +28,8 @@
 #include <platform/PlatformManager.h>
 
 CHIPBooleanAttributeCallback::CHIPBooleanAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<BooleanAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<BooleanAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -76,7 +78,8 @@ void CHIPBooleanAttributeCallback::CallbackFn(void * context, bool value)
 }
 
 CHIPCharStringAttributeCallback::CHIPCharStringAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CharStringAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CharStringAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -128,7 +131,8 @@ void CHIPCharStringAttributeCallback::CallbackFn(void * context, const chip::Cha
 }
 
 CHIPDoubleAttributeCallback::CHIPDoubleAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<DoubleAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<DoubleAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -177,7 +181,7 @@ void CHIPDoubleAttributeCallback::CallbackFn(void * context, double value)
 }
 
 CHIPFloatAttributeCallback::CHIPFloatAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<FloatAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<FloatAttributeCallback>(CallbackFn, this), keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -226,7 +230,7 @@ void CHIPFloatAttributeCallback::CallbackFn(void * context, float value)
 }
 
 CHIPInt8sAttributeCallback::CHIPInt8sAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int8sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int8sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -275,7 +279,7 @@ void CHIPInt8sAttributeCallback::CallbackFn(void * context, int8_t value)
 }
 
 CHIPInt8uAttributeCallback::CHIPInt8uAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int8uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int8uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -324,7 +328,8 @@ void CHIPInt8uAttributeCallback::CallbackFn(void * context, uint8_t value)
 }
 
 CHIPInt16sAttributeCallback::CHIPInt16sAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int16sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int16sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -373,7 +378,8 @@ void CHIPInt16sAttributeCallback::CallbackFn(void * context, int16_t value)
 }
 
 CHIPInt16uAttributeCallback::CHIPInt16uAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int16uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int16uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -422,7 +428,8 @@ void CHIPInt16uAttributeCallback::CallbackFn(void * context, uint16_t value)
 }
 
 CHIPInt32sAttributeCallback::CHIPInt32sAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int32sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int32sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -471,7 +478,8 @@ void CHIPInt32sAttributeCallback::CallbackFn(void * context, int32_t value)
 }
 
 CHIPInt32uAttributeCallback::CHIPInt32uAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int32uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int32uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -520,7 +528,8 @@ void CHIPInt32uAttributeCallback::CallbackFn(void * context, uint32_t value)
 }
 
 CHIPInt64sAttributeCallback::CHIPInt64sAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int64sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int64sAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -569,7 +578,8 @@ void CHIPInt64sAttributeCallback::CallbackFn(void * context, int64_t value)
 }
 
 CHIPInt64uAttributeCallback::CHIPInt64uAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<Int64uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<Int64uAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -618,7 +628,8 @@ void CHIPInt64uAttributeCallback::CallbackFn(void * context, uint64_t value)
 }
 
 CHIPOctetStringAttributeCallback::CHIPOctetStringAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<OctetStringAttributeCallback>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<OctetStringAttributeCallback>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -673,7 +684,8 @@ void CHIPOctetStringAttributeCallback::CallbackFn(void * context, const chip::By
 }
 
 CHIPAccessControlAclAttributeCallback::CHIPAccessControlAclAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPAccessControlClusterAclAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPAccessControlClusterAclAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -720,6 +732,59 @@ void CHIPAccessControlAclAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$AccessControlCluster$AclAttributeList$Callback", primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class AclAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding AclAttribute value"));
+        chip::PrimitiveColumn<jint> fabricIndexColumn;
+        VerifyOrReturn(fabricIndexColumn.Alloc(size), ChipLogError(Zcl, "No memory for AclAttribute value"));
+        chip::PrimitiveColumn<jint> privilegeColumn;
+        VerifyOrReturn(privilegeColumn.Alloc(size), ChipLogError(Zcl, "No memory for AclAttribute value"));
+        chip::PrimitiveColumn<jint> authModeColumn;
+        VerifyOrReturn(authModeColumn.Alloc(size), ChipLogError(Zcl, "No memory for AclAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            fabricIndexColumn.Set(count, static_cast<jint>(entry.fabricIndex));
+            privilegeColumn.Set(count, static_cast<jint>(entry.privilege));
+            authModeColumn.Set(count, static_cast<jint>(entry.authMode));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding AclAttribute value: %" CHIP_ERROR_FORMAT, iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$AccessControlCluster$AclAttributeList", primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class AclAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[I[I[I)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess", "(Lchip/devicecontroller/ChipClusters$AccessControlCluster$AclAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find AclAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               fabricIndexColumn.ToJavaArray(env, length), privilegeColumn.ToJavaArray(env, length),
+                                               authModeColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create AclAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -808,7 +873,8 @@ void CHIPAccessControlAclAttributeCallback::CallbackFn(
 }
 
 CHIPAccessControlExtensionAttributeCallback::CHIPAccessControlExtensionAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPAccessControlClusterExtensionAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPAccessControlClusterExtensionAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -926,7 +992,7 @@ void CHIPAccessControlExtensionAttributeCallback::CallbackFn(
 CHIPAccessControlAttributeListAttributeCallback::CHIPAccessControlAttributeListAttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPAccessControlClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -971,6 +1037,11 @@ void CHIPAccessControlAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1016,7 +1087,7 @@ void CHIPAccessControlAttributeListAttributeCallback::CallbackFn(
 CHIPAccountLoginAttributeListAttributeCallback::CHIPAccountLoginAttributeListAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPAccountLoginClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1061,6 +1132,11 @@ void CHIPAccountLoginAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1106,7 +1182,7 @@ void CHIPAccountLoginAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPAdministratorCommissioningAdminFabricIndexAttributeCallback::CHIPAdministratorCommissioningAdminFabricIndexAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPAdministratorCommissioningClusterAdminFabricIndexAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1166,7 +1242,7 @@ void CHIPAdministratorCommissioningAdminFabricIndexAttributeCallback::CallbackFn
 CHIPAdministratorCommissioningAttributeListAttributeCallback::CHIPAdministratorCommissioningAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPAdministratorCommissioningClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1211,6 +1287,11 @@ void CHIPAdministratorCommissioningAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1256,7 +1337,7 @@ void CHIPAdministratorCommissioningAttributeListAttributeCallback::CallbackFn(
 CHIPApplicationBasicAllowedVendorListAttributeCallback::CHIPApplicationBasicAllowedVendorListAttributeCallback(jobject javaCallback,
                                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPApplicationBasicClusterAllowedVendorListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1301,6 +1382,11 @@ void CHIPApplicationBasicAllowedVendorListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1346,7 +1432,7 @@ void CHIPApplicationBasicAllowedVendorListAttributeCallback::CallbackFn(
 CHIPApplicationBasicAttributeListAttributeCallback::CHIPApplicationBasicAttributeListAttributeCallback(jobject javaCallback,
                                                                                                        bool keepAlive) :
     chip::Callback::Callback<CHIPApplicationBasicClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1391,6 +1477,11 @@ void CHIPApplicationBasicAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1436,7 +1527,7 @@ void CHIPApplicationBasicAttributeListAttributeCallback::CallbackFn(
 CHIPApplicationLauncherApplicationLauncherListAttributeCallback::CHIPApplicationLauncherApplicationLauncherListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPApplicationLauncherClusterApplicationLauncherListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1481,6 +1572,11 @@ void CHIPApplicationLauncherApplicationLauncherListAttributeCallback::CallbackFn
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1526,7 +1622,7 @@ void CHIPApplicationLauncherApplicationLauncherListAttributeCallback::CallbackFn
 CHIPApplicationLauncherAttributeListAttributeCallback::CHIPApplicationLauncherAttributeListAttributeCallback(jobject javaCallback,
                                                                                                              bool keepAlive) :
     chip::Callback::Callback<CHIPApplicationLauncherClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1571,6 +1667,11 @@ void CHIPApplicationLauncherAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1616,7 +1717,7 @@ void CHIPApplicationLauncherAttributeListAttributeCallback::CallbackFn(
 CHIPAudioOutputAudioOutputListAttributeCallback::CHIPAudioOutputAudioOutputListAttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPAudioOutputClusterAudioOutputListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1749,7 +1850,8 @@ void CHIPAudioOutputAudioOutputListAttributeCallback::CallbackFn(
 }
 
 CHIPAudioOutputAttributeListAttributeCallback::CHIPAudioOutputAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPAudioOutputClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPAudioOutputClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1794,6 +1896,11 @@ void CHIPAudioOutputAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1839,7 +1946,7 @@ void CHIPAudioOutputAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPBarrierControlAttributeListAttributeCallback::CHIPBarrierControlAttributeListAttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPBarrierControlClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1884,6 +1991,11 @@ void CHIPBarrierControlAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -1927,7 +2039,8 @@ void CHIPBarrierControlAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPBasicVendorIDAttributeCallback::CHIPBasicVendorIDAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPBasicClusterVendorIDAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPBasicClusterVendorIDAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -1985,7 +2098,8 @@ void CHIPBasicVendorIDAttributeCallback::CallbackFn(void * context, chip::Vendor
 }
 
 CHIPBasicAttributeListAttributeCallback::CHIPBasicAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPBasicClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPBasicClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2030,6 +2144,11 @@ void CHIPBasicAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -2075,7 +2194,7 @@ void CHIPBasicAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPBinaryInputBasicAttributeListAttributeCallback::CHIPBinaryInputBasicAttributeListAttributeCallback(jobject javaCallback,
                                                                                                        bool keepAlive) :
     chip::Callback::Callback<CHIPBinaryInputBasicClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2120,6 +2239,11 @@ void CHIPBinaryInputBasicAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -2163,7 +2287,8 @@ void CHIPBinaryInputBasicAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPBindingAttributeListAttributeCallback::CHIPBindingAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPBindingClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPBindingClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2208,6 +2333,11 @@ void CHIPBindingAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -2253,7 +2383,7 @@ void CHIPBindingAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPBooleanStateAttributeListAttributeCallback::CHIPBooleanStateAttributeListAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPBooleanStateClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2298,6 +2428,11 @@ void CHIPBooleanStateAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -2341,7 +2476,8 @@ void CHIPBooleanStateAttributeListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPBridgedActionsActionListAttributeCallback::CHIPBridgedActionsActionListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPBridgedActionsClusterActionListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPBridgedActionsClusterActionListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2522,7 +2658,7 @@ void CHIPBridgedActionsActionListAttributeCallback::CallbackFn(
 CHIPBridgedActionsEndpointListAttributeCallback::CHIPBridgedActionsEndpointListAttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPBridgedActionsClusterEndpointListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2657,7 +2793,7 @@ void CHIPBridgedActionsEndpointListAttributeCallback::CallbackFn(
 CHIPBridgedActionsAttributeListAttributeCallback::CHIPBridgedActionsAttributeListAttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPBridgedActionsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2702,6 +2838,11 @@ void CHIPBridgedActionsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -2747,7 +2888,7 @@ void CHIPBridgedActionsAttributeListAttributeCallback::CallbackFn(
 CHIPBridgedDeviceBasicAttributeListAttributeCallback::CHIPBridgedDeviceBasicAttributeListAttributeCallback(jobject javaCallback,
                                                                                                            bool keepAlive) :
     chip::Callback::Callback<CHIPBridgedDeviceBasicClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2792,6 +2933,11 @@ void CHIPBridgedDeviceBasicAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -2835,7 +2981,8 @@ void CHIPBridgedDeviceBasicAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPChannelChannelListAttributeCallback::CHIPChannelChannelListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPChannelClusterChannelListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPChannelClusterChannelListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -2993,7 +3140,8 @@ void CHIPChannelChannelListAttributeCallback::CallbackFn(
 }
 
 CHIPChannelAttributeListAttributeCallback::CHIPChannelAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPChannelClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPChannelClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3038,6 +3186,11 @@ void CHIPChannelAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3083,7 +3236,7 @@ void CHIPChannelAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPColorControlAttributeListAttributeCallback::CHIPColorControlAttributeListAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPColorControlClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3128,6 +3281,11 @@ void CHIPColorControlAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3173,7 +3331,7 @@ void CHIPColorControlAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPContentLauncherAcceptHeaderListAttributeCallback::CHIPContentLauncherAcceptHeaderListAttributeCallback(jobject javaCallback,
                                                                                                            bool keepAlive) :
     chip::Callback::Callback<CHIPContentLauncherClusterAcceptHeaderListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3218,6 +3376,11 @@ void CHIPContentLauncherAcceptHeaderListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3260,7 +3423,7 @@ void CHIPContentLauncherAcceptHeaderListAttributeCallback::CallbackFn(
 CHIPContentLauncherAttributeListAttributeCallback::CHIPContentLauncherAttributeListAttributeCallback(jobject javaCallback,
                                                                                                      bool keepAlive) :
     chip::Callback::Callback<CHIPContentLauncherClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3305,6 +3468,11 @@ void CHIPContentLauncherAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3348,7 +3516,8 @@ void CHIPContentLauncherAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPDescriptorDeviceListAttributeCallback::CHIPDescriptorDeviceListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDescriptorClusterDeviceListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDescriptorClusterDeviceListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3394,6 +3563,57 @@ void CHIPDescriptorDeviceListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$DescriptorCluster$DeviceListAttributeList$Callback", primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class DeviceListAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding DeviceListAttribute value"));
+        chip::PrimitiveColumn<jlong> typeColumn;
+        VerifyOrReturn(typeColumn.Alloc(size), ChipLogError(Zcl, "No memory for DeviceListAttribute value"));
+        chip::PrimitiveColumn<jint> revisionColumn;
+        VerifyOrReturn(revisionColumn.Alloc(size), ChipLogError(Zcl, "No memory for DeviceListAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            typeColumn.Set(count, static_cast<jlong>(entry.type));
+            revisionColumn.Set(count, static_cast<jint>(entry.revision));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding DeviceListAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$DescriptorCluster$DeviceListAttributeList", primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class DeviceListAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[J[I)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$DescriptorCluster$DeviceListAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find DeviceListAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length, typeColumn.ToJavaArray(env, length),
+                                               revisionColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create DeviceListAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3467,7 +3687,8 @@ void CHIPDescriptorDeviceListAttributeCallback::CallbackFn(
 }
 
 CHIPDescriptorServerListAttributeCallback::CHIPDescriptorServerListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDescriptorClusterServerListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDescriptorClusterServerListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3512,6 +3733,11 @@ void CHIPDescriptorServerListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3554,7 +3780,8 @@ void CHIPDescriptorServerListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPDescriptorClientListAttributeCallback::CHIPDescriptorClientListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDescriptorClusterClientListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDescriptorClusterClientListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3599,6 +3826,11 @@ void CHIPDescriptorClientListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3641,7 +3873,8 @@ void CHIPDescriptorClientListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPDescriptorPartsListAttributeCallback::CHIPDescriptorPartsListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDescriptorClusterPartsListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDescriptorClusterPartsListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3686,6 +3919,11 @@ void CHIPDescriptorPartsListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3728,7 +3966,8 @@ void CHIPDescriptorPartsListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPDescriptorAttributeListAttributeCallback::CHIPDescriptorAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDescriptorClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDescriptorClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3773,6 +4012,11 @@ void CHIPDescriptorAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3818,7 +4062,7 @@ void CHIPDescriptorAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPDiagnosticLogsAttributeListAttributeCallback::CHIPDiagnosticLogsAttributeListAttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPDiagnosticLogsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3863,6 +4107,11 @@ void CHIPDiagnosticLogsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -3906,7 +4155,8 @@ void CHIPDiagnosticLogsAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPDoorLockLockStateAttributeCallback::CHIPDoorLockLockStateAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDoorLockClusterLockStateAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDoorLockClusterLockStateAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -3965,7 +4215,8 @@ void CHIPDoorLockLockStateAttributeCallback::CallbackFn(
 }
 
 CHIPDoorLockDoorStateAttributeCallback::CHIPDoorLockDoorStateAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDoorLockClusterDoorStateAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDoorLockClusterDoorStateAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4024,7 +4275,8 @@ void CHIPDoorLockDoorStateAttributeCallback::CallbackFn(
 }
 
 CHIPDoorLockAttributeListAttributeCallback::CHIPDoorLockAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPDoorLockClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPDoorLockClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4069,6 +4321,11 @@ void CHIPDoorLockAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4114,7 +4371,7 @@ void CHIPDoorLockAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPElectricalMeasurementAttributeListAttributeCallback::CHIPElectricalMeasurementAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPElectricalMeasurementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4159,6 +4416,11 @@ void CHIPElectricalMeasurementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4204,7 +4466,7 @@ void CHIPElectricalMeasurementAttributeListAttributeCallback::CallbackFn(
 CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback::CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPEthernetNetworkDiagnosticsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4249,6 +4511,11 @@ void CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4292,7 +4559,8 @@ void CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPFixedLabelLabelListAttributeCallback::CHIPFixedLabelLabelListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPFixedLabelClusterLabelListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPFixedLabelClusterLabelListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4405,7 +4673,8 @@ void CHIPFixedLabelLabelListAttributeCallback::CallbackFn(
 }
 
 CHIPFixedLabelAttributeListAttributeCallback::CHIPFixedLabelAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPFixedLabelClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPFixedLabelClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4450,6 +4719,11 @@ void CHIPFixedLabelAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4495,7 +4769,7 @@ void CHIPFixedLabelAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPFlowMeasurementAttributeListAttributeCallback::CHIPFlowMeasurementAttributeListAttributeCallback(jobject javaCallback,
                                                                                                      bool keepAlive) :
     chip::Callback::Callback<CHIPFlowMeasurementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4540,6 +4814,11 @@ void CHIPFlowMeasurementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4585,7 +4864,7 @@ void CHIPFlowMeasurementAttributeListAttributeCallback::CallbackFn(
 CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback::
     CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralCommissioningClusterBasicCommissioningInfoListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4633,6 +4912,59 @@ void CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback::Callba
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$GeneralCommissioningCluster$BasicCommissioningInfoListAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR,
+                   ChipLogError(Zcl, "Could not find class BasicCommissioningInfoListAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding BasicCommissioningInfoListAttribute value"));
+        chip::PrimitiveColumn<jlong> failSafeExpiryLengthMsColumn;
+        VerifyOrReturn(failSafeExpiryLengthMsColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for BasicCommissioningInfoListAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            failSafeExpiryLengthMsColumn.Set(count, static_cast<jlong>(entry.failSafeExpiryLengthMs));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding BasicCommissioningInfoListAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$GeneralCommissioningCluster$BasicCommissioningInfoListAttributeList",
+            primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class BasicCommissioningInfoListAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[J)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$GeneralCommissioningCluster$BasicCommissioningInfoListAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find BasicCommissioningInfoListAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               failSafeExpiryLengthMsColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr,
+                       ChipLogError(Zcl, "Could not create BasicCommissioningInfoListAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4697,7 +5029,7 @@ void CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback::Callba
 CHIPGeneralCommissioningAttributeListAttributeCallback::CHIPGeneralCommissioningAttributeListAttributeCallback(jobject javaCallback,
                                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralCommissioningClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4742,6 +5074,11 @@ void CHIPGeneralCommissioningAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -4787,7 +5124,7 @@ void CHIPGeneralCommissioningAttributeListAttributeCallback::CallbackFn(
 CHIPGeneralDiagnosticsNetworkInterfacesAttributeCallback::CHIPGeneralDiagnosticsNetworkInterfacesAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralDiagnosticsClusterNetworkInterfacesAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -4975,7 +5312,7 @@ void CHIPGeneralDiagnosticsNetworkInterfacesAttributeCallback::CallbackFn(
 CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback::CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralDiagnosticsClusterActiveHardwareFaultsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5020,6 +5357,11 @@ void CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5065,7 +5407,7 @@ void CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback::CallbackFn(
 CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback::CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralDiagnosticsClusterActiveRadioFaultsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5110,6 +5452,11 @@ void CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback::CallbackFn(void *
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5155,7 +5502,7 @@ void CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback::CallbackFn(void *
 CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback::CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralDiagnosticsClusterActiveNetworkFaultsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5200,6 +5547,11 @@ void CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5245,7 +5597,7 @@ void CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback::CallbackFn(
 CHIPGeneralDiagnosticsAttributeListAttributeCallback::CHIPGeneralDiagnosticsAttributeListAttributeCallback(jobject javaCallback,
                                                                                                            bool keepAlive) :
     chip::Callback::Callback<CHIPGeneralDiagnosticsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5290,6 +5642,11 @@ void CHIPGeneralDiagnosticsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5335,7 +5692,7 @@ void CHIPGeneralDiagnosticsAttributeListAttributeCallback::CallbackFn(
 CHIPGroupKeyManagementGroupKeyMapAttributeCallback::CHIPGroupKeyManagementGroupKeyMapAttributeCallback(jobject javaCallback,
                                                                                                        bool keepAlive) :
     chip::Callback::Callback<CHIPGroupKeyManagementClusterGroupKeyMapAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5381,6 +5738,62 @@ void CHIPGroupKeyManagementGroupKeyMapAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$GroupKeyManagementCluster$GroupKeyMapAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class GroupKeyMapAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding GroupKeyMapAttribute value"));
+        chip::PrimitiveColumn<jint> fabricIndexColumn;
+        VerifyOrReturn(fabricIndexColumn.Alloc(size), ChipLogError(Zcl, "No memory for GroupKeyMapAttribute value"));
+        chip::PrimitiveColumn<jint> groupIdColumn;
+        VerifyOrReturn(groupIdColumn.Alloc(size), ChipLogError(Zcl, "No memory for GroupKeyMapAttribute value"));
+        chip::PrimitiveColumn<jint> groupKeySetIDColumn;
+        VerifyOrReturn(groupKeySetIDColumn.Alloc(size), ChipLogError(Zcl, "No memory for GroupKeyMapAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            fabricIndexColumn.Set(count, static_cast<jint>(entry.fabricIndex));
+            groupIdColumn.Set(count, static_cast<jint>(entry.groupId));
+            groupKeySetIDColumn.Set(count, static_cast<jint>(entry.groupKeySetID));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding GroupKeyMapAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$GroupKeyManagementCluster$GroupKeyMapAttributeList", primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class GroupKeyMapAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[I[I[I)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$GroupKeyManagementCluster$GroupKeyMapAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find GroupKeyMapAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               fabricIndexColumn.ToJavaArray(env, length), groupIdColumn.ToJavaArray(env, length),
+                                               groupKeySetIDColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create GroupKeyMapAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5473,7 +5886,7 @@ void CHIPGroupKeyManagementGroupKeyMapAttributeCallback::CallbackFn(
 CHIPGroupKeyManagementGroupTableAttributeCallback::CHIPGroupKeyManagementGroupTableAttributeCallback(jobject javaCallback,
                                                                                                      bool keepAlive) :
     chip::Callback::Callback<CHIPGroupKeyManagementClusterGroupTableAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5607,7 +6020,7 @@ void CHIPGroupKeyManagementGroupTableAttributeCallback::CallbackFn(
 CHIPGroupKeyManagementAttributeListAttributeCallback::CHIPGroupKeyManagementAttributeListAttributeCallback(jobject javaCallback,
                                                                                                            bool keepAlive) :
     chip::Callback::Callback<CHIPGroupKeyManagementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5652,6 +6065,11 @@ void CHIPGroupKeyManagementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5695,7 +6113,8 @@ void CHIPGroupKeyManagementAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPGroupsAttributeListAttributeCallback::CHIPGroupsAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPGroupsClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPGroupsClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5740,6 +6159,11 @@ void CHIPGroupsAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5783,7 +6207,8 @@ void CHIPGroupsAttributeListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPIdentifyAttributeListAttributeCallback::CHIPIdentifyAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPIdentifyClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPIdentifyClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5828,6 +6253,11 @@ void CHIPIdentifyAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -5873,7 +6303,7 @@ void CHIPIdentifyAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPIlluminanceMeasurementMeasuredValueAttributeCallback::CHIPIlluminanceMeasurementMeasuredValueAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPIlluminanceMeasurementClusterMeasuredValueAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5934,7 +6364,7 @@ void CHIPIlluminanceMeasurementMeasuredValueAttributeCallback::CallbackFn(void *
 CHIPIlluminanceMeasurementMinMeasuredValueAttributeCallback::CHIPIlluminanceMeasurementMinMeasuredValueAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPIlluminanceMeasurementClusterMinMeasuredValueAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -5995,7 +6425,7 @@ void CHIPIlluminanceMeasurementMinMeasuredValueAttributeCallback::CallbackFn(voi
 CHIPIlluminanceMeasurementMaxMeasuredValueAttributeCallback::CHIPIlluminanceMeasurementMaxMeasuredValueAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPIlluminanceMeasurementClusterMaxMeasuredValueAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6056,7 +6486,7 @@ void CHIPIlluminanceMeasurementMaxMeasuredValueAttributeCallback::CallbackFn(voi
 CHIPIlluminanceMeasurementLightSensorTypeAttributeCallback::CHIPIlluminanceMeasurementLightSensorTypeAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPIlluminanceMeasurementClusterLightSensorTypeAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6117,7 +6547,7 @@ void CHIPIlluminanceMeasurementLightSensorTypeAttributeCallback::CallbackFn(void
 CHIPIlluminanceMeasurementAttributeListAttributeCallback::CHIPIlluminanceMeasurementAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPIlluminanceMeasurementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6162,6 +6592,11 @@ void CHIPIlluminanceMeasurementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -6205,7 +6640,8 @@ void CHIPIlluminanceMeasurementAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPKeypadInputAttributeListAttributeCallback::CHIPKeypadInputAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPKeypadInputClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPKeypadInputClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6250,6 +6686,11 @@ void CHIPKeypadInputAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -6293,7 +6734,8 @@ void CHIPKeypadInputAttributeListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPLevelControlOnLevelAttributeCallback::CHIPLevelControlOnLevelAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPLevelControlClusterOnLevelAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPLevelControlClusterOnLevelAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6353,7 +6795,7 @@ void CHIPLevelControlOnLevelAttributeCallback::CallbackFn(void * context, const
 CHIPLevelControlOnTransitionTimeAttributeCallback::CHIPLevelControlOnTransitionTimeAttributeCallback(jobject javaCallback,
                                                                                                      bool keepAlive) :
     chip::Callback::Callback<CHIPLevelControlClusterOnTransitionTimeAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6414,7 +6856,7 @@ void CHIPLevelControlOnTransitionTimeAttributeCallback::CallbackFn(void * contex
 CHIPLevelControlOffTransitionTimeAttributeCallback::CHIPLevelControlOffTransitionTimeAttributeCallback(jobject javaCallback,
                                                                                                        bool keepAlive) :
     chip::Callback::Callback<CHIPLevelControlClusterOffTransitionTimeAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6475,7 +6917,7 @@ void CHIPLevelControlOffTransitionTimeAttributeCallback::CallbackFn(void * conte
 CHIPLevelControlDefaultMoveRateAttributeCallback::CHIPLevelControlDefaultMoveRateAttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPLevelControlClusterDefaultMoveRateAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6536,7 +6978,7 @@ void CHIPLevelControlDefaultMoveRateAttributeCallback::CallbackFn(void * context
 CHIPLevelControlAttributeListAttributeCallback::CHIPLevelControlAttributeListAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPLevelControlClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6581,6 +7023,11 @@ void CHIPLevelControlAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -6626,7 +7073,7 @@ void CHIPLevelControlAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPLocalizationConfigurationSupportedLocalesAttributeCallback::CHIPLocalizationConfigurationSupportedLocalesAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPLocalizationConfigurationClusterSupportedLocalesAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6671,6 +7118,11 @@ void CHIPLocalizationConfigurationSupportedLocalesAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -6711,7 +7163,8 @@ void CHIPLocalizationConfigurationSupportedLocalesAttributeCallback::CallbackFn(
 }
 
 CHIPLowPowerAttributeListAttributeCallback::CHIPLowPowerAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPLowPowerClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPLowPowerClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6756,6 +7209,11 @@ void CHIPLowPowerAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -6799,7 +7257,8 @@ void CHIPLowPowerAttributeListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPMediaInputMediaInputListAttributeCallback::CHIPMediaInputMediaInputListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPMediaInputClusterMediaInputListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPMediaInputClusterMediaInputListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6944,7 +7403,8 @@ void CHIPMediaInputMediaInputListAttributeCallback::CallbackFn(
 }
 
 CHIPMediaInputAttributeListAttributeCallback::CHIPMediaInputAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPMediaInputClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPMediaInputClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -6989,6 +7449,11 @@ void CHIPMediaInputAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7034,7 +7499,7 @@ void CHIPMediaInputAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPMediaPlaybackAttributeListAttributeCallback::CHIPMediaPlaybackAttributeListAttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPMediaPlaybackClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7079,6 +7544,11 @@ void CHIPMediaPlaybackAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7122,7 +7592,8 @@ void CHIPMediaPlaybackAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPModeSelectSupportedModesAttributeCallback::CHIPModeSelectSupportedModesAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPModeSelectClusterSupportedModesAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPModeSelectClusterSupportedModesAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7255,7 +7726,8 @@ void CHIPModeSelectSupportedModesAttributeCallback::CallbackFn(
 }
 
 CHIPModeSelectAttributeListAttributeCallback::CHIPModeSelectAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPModeSelectClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPModeSelectClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7300,6 +7772,11 @@ void CHIPModeSelectAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7345,7 +7822,7 @@ void CHIPModeSelectAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPNetworkCommissioningNetworksAttributeCallback::CHIPNetworkCommissioningNetworksAttributeCallback(jobject javaCallback,
                                                                                                      bool keepAlive) :
     chip::Callback::Callback<CHIPNetworkCommissioningClusterNetworksAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7464,7 +7941,7 @@ void CHIPNetworkCommissioningNetworksAttributeCallback::CallbackFn(
 CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback::CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOtaSoftwareUpdateProviderClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7509,6 +7986,11 @@ void CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7554,7 +8036,7 @@ void CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback::CallbackFn(
 CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback::
     CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOtaSoftwareUpdateRequestorClusterDefaultOtaProvidersAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7602,6 +8084,64 @@ void CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback::Callbac
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$OtaSoftwareUpdateRequestorCluster$DefaultOtaProvidersAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class DefaultOtaProvidersAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding DefaultOtaProvidersAttribute value"));
+        chip::PrimitiveColumn<jint> fabricIndexColumn;
+        VerifyOrReturn(fabricIndexColumn.Alloc(size), ChipLogError(Zcl, "No memory for DefaultOtaProvidersAttribute value"));
+        chip::PrimitiveColumn<jlong> providerNodeIDColumn;
+        VerifyOrReturn(providerNodeIDColumn.Alloc(size), ChipLogError(Zcl, "No memory for DefaultOtaProvidersAttribute value"));
+        chip::PrimitiveColumn<jint> endpointColumn;
+        VerifyOrReturn(endpointColumn.Alloc(size), ChipLogError(Zcl, "No memory for DefaultOtaProvidersAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            fabricIndexColumn.Set(count, static_cast<jint>(entry.fabricIndex));
+            providerNodeIDColumn.Set(count, static_cast<jlong>(entry.providerNodeID));
+            endpointColumn.Set(count, static_cast<jint>(entry.endpoint));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding DefaultOtaProvidersAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$OtaSoftwareUpdateRequestorCluster$DefaultOtaProvidersAttributeList",
+            primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class DefaultOtaProvidersAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[I[J[I)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$OtaSoftwareUpdateRequestorCluster$DefaultOtaProvidersAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find DefaultOtaProvidersAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               fabricIndexColumn.ToJavaArray(env, length),
+                                               providerNodeIDColumn.ToJavaArray(env, length),
+                                               endpointColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create DefaultOtaProvidersAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7696,7 +8236,7 @@ void CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback::Callbac
 CHIPOtaSoftwareUpdateRequestorUpdateStateProgressAttributeCallback::
     CHIPOtaSoftwareUpdateRequestorUpdateStateProgressAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOtaSoftwareUpdateRequestorClusterUpdateStateProgressAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7758,7 +8298,7 @@ void CHIPOtaSoftwareUpdateRequestorUpdateStateProgressAttributeCallback::Callbac
 CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback::CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOtaSoftwareUpdateRequestorClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7803,6 +8343,11 @@ void CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7848,7 +8393,7 @@ void CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback::CallbackFn(
 CHIPOccupancySensingAttributeListAttributeCallback::CHIPOccupancySensingAttributeListAttributeCallback(jobject javaCallback,
                                                                                                        bool keepAlive) :
     chip::Callback::Callback<CHIPOccupancySensingClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7893,6 +8438,11 @@ void CHIPOccupancySensingAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -7936,7 +8486,8 @@ void CHIPOccupancySensingAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPOnOffAttributeListAttributeCallback::CHIPOnOffAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPOnOffClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPOnOffClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -7981,6 +8532,11 @@ void CHIPOnOffAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8026,7 +8582,7 @@ void CHIPOnOffAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPOnOffSwitchConfigurationAttributeListAttributeCallback::CHIPOnOffSwitchConfigurationAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOnOffSwitchConfigurationClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8071,6 +8627,11 @@ void CHIPOnOffSwitchConfigurationAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8116,7 +8677,7 @@ void CHIPOnOffSwitchConfigurationAttributeListAttributeCallback::CallbackFn(
 CHIPOperationalCredentialsFabricsListAttributeCallback::CHIPOperationalCredentialsFabricsListAttributeCallback(jobject javaCallback,
                                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPOperationalCredentialsClusterFabricsListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8296,7 +8857,7 @@ void CHIPOperationalCredentialsFabricsListAttributeCallback::CallbackFn(
 CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback::
     CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOperationalCredentialsClusterTrustedRootCertificatesAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8342,6 +8903,11 @@ void CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback::Callbac
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8384,7 +8950,7 @@ void CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback::Callbac
 CHIPOperationalCredentialsCurrentFabricIndexAttributeCallback::CHIPOperationalCredentialsCurrentFabricIndexAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOperationalCredentialsClusterCurrentFabricIndexAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8444,7 +9010,7 @@ void CHIPOperationalCredentialsCurrentFabricIndexAttributeCallback::CallbackFn(v
 CHIPOperationalCredentialsAttributeListAttributeCallback::CHIPOperationalCredentialsAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPOperationalCredentialsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8489,6 +9055,11 @@ void CHIPOperationalCredentialsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8534,7 +9105,7 @@ void CHIPOperationalCredentialsAttributeListAttributeCallback::CallbackFn(
 CHIPPowerSourceActiveBatteryFaultsAttributeCallback::CHIPPowerSourceActiveBatteryFaultsAttributeCallback(jobject javaCallback,
                                                                                                          bool keepAlive) :
     chip::Callback::Callback<CHIPPowerSourceClusterActiveBatteryFaultsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8579,6 +9150,11 @@ void CHIPPowerSourceActiveBatteryFaultsAttributeCallback::CallbackFn(void * cont
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8622,7 +9198,8 @@ void CHIPPowerSourceActiveBatteryFaultsAttributeCallback::CallbackFn(void * cont
 }
 
 CHIPPowerSourceAttributeListAttributeCallback::CHIPPowerSourceAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPPowerSourceClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPPowerSourceClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8667,6 +9244,11 @@ void CHIPPowerSourceAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8712,7 +9294,7 @@ void CHIPPowerSourceAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPPowerSourceConfigurationSourcesAttributeCallback::CHIPPowerSourceConfigurationSourcesAttributeCallback(jobject javaCallback,
                                                                                                            bool keepAlive) :
     chip::Callback::Callback<CHIPPowerSourceConfigurationClusterSourcesAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8757,6 +9339,11 @@ void CHIPPowerSourceConfigurationSourcesAttributeCallback::CallbackFn(void * con
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8801,7 +9388,7 @@ void CHIPPowerSourceConfigurationSourcesAttributeCallback::CallbackFn(void * con
 CHIPPowerSourceConfigurationAttributeListAttributeCallback::CHIPPowerSourceConfigurationAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPPowerSourceConfigurationClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8846,6 +9433,11 @@ void CHIPPowerSourceConfigurationAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8891,7 +9483,7 @@ void CHIPPowerSourceConfigurationAttributeListAttributeCallback::CallbackFn(
 CHIPPressureMeasurementAttributeListAttributeCallback::CHIPPressureMeasurementAttributeListAttributeCallback(jobject javaCallback,
                                                                                                              bool keepAlive) :
     chip::Callback::Callback<CHIPPressureMeasurementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -8936,6 +9528,11 @@ void CHIPPressureMeasurementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -8981,7 +9578,7 @@ void CHIPPressureMeasurementAttributeListAttributeCallback::CallbackFn(
 CHIPPumpConfigurationAndControlLifetimeRunningHoursAttributeCallback::
     CHIPPumpConfigurationAndControlLifetimeRunningHoursAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPPumpConfigurationAndControlClusterLifetimeRunningHoursAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9043,7 +9640,7 @@ void CHIPPumpConfigurationAndControlLifetimeRunningHoursAttributeCallback::Callb
 CHIPPumpConfigurationAndControlLifetimeEnergyConsumedAttributeCallback::
     CHIPPumpConfigurationAndControlLifetimeEnergyConsumedAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPPumpConfigurationAndControlClusterLifetimeEnergyConsumedAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9105,7 +9702,7 @@ void CHIPPumpConfigurationAndControlLifetimeEnergyConsumedAttributeCallback::Cal
 CHIPPumpConfigurationAndControlAttributeListAttributeCallback::CHIPPumpConfigurationAndControlAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPPumpConfigurationAndControlClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9150,6 +9747,11 @@ void CHIPPumpConfigurationAndControlAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -9195,7 +9797,7 @@ void CHIPPumpConfigurationAndControlAttributeListAttributeCallback::CallbackFn(
 CHIPRelativeHumidityMeasurementAttributeListAttributeCallback::CHIPRelativeHumidityMeasurementAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPRelativeHumidityMeasurementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9240,6 +9842,11 @@ void CHIPRelativeHumidityMeasurementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -9283,7 +9890,8 @@ void CHIPRelativeHumidityMeasurementAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPScenesAttributeListAttributeCallback::CHIPScenesAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPScenesClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPScenesClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9328,6 +9936,11 @@ void CHIPScenesAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -9373,7 +9986,7 @@ void CHIPScenesAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPSoftwareDiagnosticsThreadMetricsAttributeCallback::CHIPSoftwareDiagnosticsThreadMetricsAttributeCallback(jobject javaCallback,
                                                                                                              bool keepAlive) :
     chip::Callback::Callback<CHIPSoftwareDiagnosticsClusterThreadMetricsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9541,7 +10154,7 @@ void CHIPSoftwareDiagnosticsThreadMetricsAttributeCallback::CallbackFn(
 CHIPSoftwareDiagnosticsAttributeListAttributeCallback::CHIPSoftwareDiagnosticsAttributeListAttributeCallback(jobject javaCallback,
                                                                                                              bool keepAlive) :
     chip::Callback::Callback<CHIPSoftwareDiagnosticsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9586,6 +10199,11 @@ void CHIPSoftwareDiagnosticsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -9629,7 +10247,8 @@ void CHIPSoftwareDiagnosticsAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPSwitchAttributeListAttributeCallback::CHIPSwitchAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPSwitchClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPSwitchClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9674,6 +10293,11 @@ void CHIPSwitchAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -9719,7 +10343,7 @@ void CHIPSwitchAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPTargetNavigatorTargetNavigatorListAttributeCallback::CHIPTargetNavigatorTargetNavigatorListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTargetNavigatorClusterTargetNavigatorListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9839,7 +10463,7 @@ void CHIPTargetNavigatorTargetNavigatorListAttributeCallback::CallbackFn(
 CHIPTargetNavigatorAttributeListAttributeCallback::CHIPTargetNavigatorAttributeListAttributeCallback(jobject javaCallback,
                                                                                                      bool keepAlive) :
     chip::Callback::Callback<CHIPTargetNavigatorClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9884,6 +10508,11 @@ void CHIPTargetNavigatorAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -9929,7 +10558,7 @@ void CHIPTargetNavigatorAttributeListAttributeCallback::CallbackFn(
 CHIPTemperatureMeasurementAttributeListAttributeCallback::CHIPTemperatureMeasurementAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTemperatureMeasurementClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -9974,6 +10603,11 @@ void CHIPTemperatureMeasurementAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -10017,7 +10651,8 @@ void CHIPTemperatureMeasurementAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPTestClusterListInt8uAttributeCallback::CHIPTestClusterListInt8uAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPTestClusterClusterListInt8uAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPTestClusterClusterListInt8uAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10062,6 +10697,11 @@ void CHIPTestClusterListInt8uAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -10106,7 +10746,7 @@ void CHIPTestClusterListInt8uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterListOctetStringAttributeCallback::CHIPTestClusterListOctetStringAttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterListOctetStringAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10151,6 +10791,11 @@ void CHIPTestClusterListOctetStringAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -10193,7 +10838,7 @@ void CHIPTestClusterListOctetStringAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterListStructOctetStringAttributeCallback::CHIPTestClusterListStructOctetStringAttributeCallback(jobject javaCallback,
                                                                                                              bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterListStructOctetStringAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10312,7 +10957,8 @@ void CHIPTestClusterListStructOctetStringAttributeCallback::CallbackFn(
 }
 
 CHIPTestClusterVendorIdAttributeCallback::CHIPTestClusterVendorIdAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPTestClusterClusterVendorIdAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPTestClusterClusterVendorIdAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10372,7 +11018,7 @@ void CHIPTestClusterVendorIdAttributeCallback::CallbackFn(void * context, chip::
 CHIPTestClusterListNullablesAndOptionalsStructAttributeCallback::CHIPTestClusterListNullablesAndOptionalsStructAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterListNullablesAndOptionalsStructAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10602,7 +11248,7 @@ void CHIPTestClusterListNullablesAndOptionalsStructAttributeCallback::CallbackFn
 CHIPTestClusterListLongOctetStringAttributeCallback::CHIPTestClusterListLongOctetStringAttributeCallback(jobject javaCallback,
                                                                                                          bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterListLongOctetStringAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10647,6 +11293,11 @@ void CHIPTestClusterListLongOctetStringAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -10689,7 +11340,7 @@ void CHIPTestClusterListLongOctetStringAttributeCallback::CallbackFn(
 CHIPTestClusterNullableBooleanAttributeCallback::CHIPTestClusterNullableBooleanAttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableBooleanAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10749,7 +11400,7 @@ void CHIPTestClusterNullableBooleanAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableBitmap8AttributeCallback::CHIPTestClusterNullableBitmap8AttributeCallback(jobject javaCallback,
                                                                                                  bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableBitmap8AttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10810,7 +11461,7 @@ void CHIPTestClusterNullableBitmap8AttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableBitmap16AttributeCallback::CHIPTestClusterNullableBitmap16AttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableBitmap16AttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10871,7 +11522,7 @@ void CHIPTestClusterNullableBitmap16AttributeCallback::CallbackFn(void * context
 CHIPTestClusterNullableBitmap32AttributeCallback::CHIPTestClusterNullableBitmap32AttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableBitmap32AttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10932,7 +11583,7 @@ void CHIPTestClusterNullableBitmap32AttributeCallback::CallbackFn(void * context
 CHIPTestClusterNullableBitmap64AttributeCallback::CHIPTestClusterNullableBitmap64AttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableBitmap64AttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -10991,7 +11642,8 @@ void CHIPTestClusterNullableBitmap64AttributeCallback::CallbackFn(void * context
 }
 
 CHIPTestClusterNullableInt8uAttributeCallback::CHIPTestClusterNullableInt8uAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPTestClusterClusterNullableInt8uAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPTestClusterClusterNullableInt8uAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11052,7 +11704,7 @@ void CHIPTestClusterNullableInt8uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt16uAttributeCallback::CHIPTestClusterNullableInt16uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt16uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11113,7 +11765,7 @@ void CHIPTestClusterNullableInt16uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt24uAttributeCallback::CHIPTestClusterNullableInt24uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt24uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11174,7 +11826,7 @@ void CHIPTestClusterNullableInt24uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt32uAttributeCallback::CHIPTestClusterNullableInt32uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt32uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11235,7 +11887,7 @@ void CHIPTestClusterNullableInt32uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt40uAttributeCallback::CHIPTestClusterNullableInt40uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt40uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11296,7 +11948,7 @@ void CHIPTestClusterNullableInt40uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt48uAttributeCallback::CHIPTestClusterNullableInt48uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt48uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11357,7 +12009,7 @@ void CHIPTestClusterNullableInt48uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt56uAttributeCallback::CHIPTestClusterNullableInt56uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt56uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11418,7 +12070,7 @@ void CHIPTestClusterNullableInt56uAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt64uAttributeCallback::CHIPTestClusterNullableInt64uAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt64uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11477,7 +12129,8 @@ void CHIPTestClusterNullableInt64uAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPTestClusterNullableInt8sAttributeCallback::CHIPTestClusterNullableInt8sAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPTestClusterClusterNullableInt8sAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPTestClusterClusterNullableInt8sAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11537,7 +12190,7 @@ void CHIPTestClusterNullableInt8sAttributeCallback::CallbackFn(void * context, c
 CHIPTestClusterNullableInt16sAttributeCallback::CHIPTestClusterNullableInt16sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt16sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11598,7 +12251,7 @@ void CHIPTestClusterNullableInt16sAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt24sAttributeCallback::CHIPTestClusterNullableInt24sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt24sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11659,7 +12312,7 @@ void CHIPTestClusterNullableInt24sAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt32sAttributeCallback::CHIPTestClusterNullableInt32sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt32sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11720,7 +12373,7 @@ void CHIPTestClusterNullableInt32sAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt40sAttributeCallback::CHIPTestClusterNullableInt40sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt40sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11781,7 +12434,7 @@ void CHIPTestClusterNullableInt40sAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt48sAttributeCallback::CHIPTestClusterNullableInt48sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt48sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11842,7 +12495,7 @@ void CHIPTestClusterNullableInt48sAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt56sAttributeCallback::CHIPTestClusterNullableInt56sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt56sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11903,7 +12556,7 @@ void CHIPTestClusterNullableInt56sAttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableInt64sAttributeCallback::CHIPTestClusterNullableInt64sAttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableInt64sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -11962,7 +12615,8 @@ void CHIPTestClusterNullableInt64sAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPTestClusterNullableEnum8AttributeCallback::CHIPTestClusterNullableEnum8AttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPTestClusterClusterNullableEnum8AttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPTestClusterClusterNullableEnum8AttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12023,7 +12677,7 @@ void CHIPTestClusterNullableEnum8AttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableEnum16AttributeCallback::CHIPTestClusterNullableEnum16AttributeCallback(jobject javaCallback,
                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableEnum16AttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12084,7 +12738,7 @@ void CHIPTestClusterNullableEnum16AttributeCallback::CallbackFn(void * context,
 CHIPTestClusterNullableFloatSingleAttributeCallback::CHIPTestClusterNullableFloatSingleAttributeCallback(jobject javaCallback,
                                                                                                          bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableFloatSingleAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12145,7 +12799,7 @@ void CHIPTestClusterNullableFloatSingleAttributeCallback::CallbackFn(void * cont
 CHIPTestClusterNullableFloatDoubleAttributeCallback::CHIPTestClusterNullableFloatDoubleAttributeCallback(jobject javaCallback,
                                                                                                          bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableFloatDoubleAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12206,7 +12860,7 @@ void CHIPTestClusterNullableFloatDoubleAttributeCallback::CallbackFn(void * cont
 CHIPTestClusterNullableOctetStringAttributeCallback::CHIPTestClusterNullableOctetStringAttributeCallback(jobject javaCallback,
                                                                                                          bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableOctetStringAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12265,7 +12919,7 @@ void CHIPTestClusterNullableOctetStringAttributeCallback::CallbackFn(void * cont
 CHIPTestClusterNullableCharStringAttributeCallback::CHIPTestClusterNullableCharStringAttributeCallback(jobject javaCallback,
                                                                                                        bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableCharStringAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12324,7 +12978,7 @@ void CHIPTestClusterNullableCharStringAttributeCallback::CallbackFn(void * conte
 CHIPTestClusterNullableEnumAttrAttributeCallback::CHIPTestClusterNullableEnumAttrAttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableEnumAttrAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12385,7 +13039,7 @@ void CHIPTestClusterNullableEnumAttrAttributeCallback::CallbackFn(
 CHIPTestClusterNullableRangeRestrictedInt8uAttributeCallback::CHIPTestClusterNullableRangeRestrictedInt8uAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableRangeRestrictedInt8uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12446,7 +13100,7 @@ void CHIPTestClusterNullableRangeRestrictedInt8uAttributeCallback::CallbackFn(vo
 CHIPTestClusterNullableRangeRestrictedInt8sAttributeCallback::CHIPTestClusterNullableRangeRestrictedInt8sAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableRangeRestrictedInt8sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12507,7 +13161,7 @@ void CHIPTestClusterNullableRangeRestrictedInt8sAttributeCallback::CallbackFn(vo
 CHIPTestClusterNullableRangeRestrictedInt16uAttributeCallback::CHIPTestClusterNullableRangeRestrictedInt16uAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableRangeRestrictedInt16uAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12568,7 +13222,7 @@ void CHIPTestClusterNullableRangeRestrictedInt16uAttributeCallback::CallbackFn(
 CHIPTestClusterNullableRangeRestrictedInt16sAttributeCallback::CHIPTestClusterNullableRangeRestrictedInt16sAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPTestClusterClusterNullableRangeRestrictedInt16sAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12627,7 +13281,8 @@ void CHIPTestClusterNullableRangeRestrictedInt16sAttributeCallback::CallbackFn(
 }
 
 CHIPTestClusterAttributeListAttributeCallback::CHIPTestClusterAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPTestClusterClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPTestClusterClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12672,6 +13327,11 @@ void CHIPTestClusterAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -12715,7 +13375,8 @@ void CHIPTestClusterAttributeListAttributeCallback::CallbackFn(void * context,
 }
 
 CHIPThermostatAttributeListAttributeCallback::CHIPThermostatAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPThermostatClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPThermostatClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12760,6 +13421,11 @@ void CHIPThermostatAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -12805,7 +13471,7 @@ void CHIPThermostatAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback::
     CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThermostatUserInterfaceConfigurationClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12851,6 +13517,11 @@ void CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback::Cal
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -12896,7 +13567,7 @@ void CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback::Cal
 CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback::CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThreadNetworkDiagnosticsClusterNeighborTableListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -12943,6 +13614,105 @@ void CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$NeighborTableListAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class NeighborTableListAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jlong> extAddressColumn;
+        VerifyOrReturn(extAddressColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jlong> ageColumn;
+        VerifyOrReturn(ageColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jint> rloc16Column;
+        VerifyOrReturn(rloc16Column.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jlong> linkFrameCounterColumn;
+        VerifyOrReturn(linkFrameCounterColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jlong> mleFrameCounterColumn;
+        VerifyOrReturn(mleFrameCounterColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jint> lqiColumn;
+        VerifyOrReturn(lqiColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jint> averageRssiColumn;
+        VerifyOrReturn(averageRssiColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jint> lastRssiColumn;
+        VerifyOrReturn(lastRssiColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jint> frameErrorRateColumn;
+        VerifyOrReturn(frameErrorRateColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jint> messageErrorRateColumn;
+        VerifyOrReturn(messageErrorRateColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jboolean> rxOnWhenIdleColumn;
+        VerifyOrReturn(rxOnWhenIdleColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jboolean> fullThreadDeviceColumn;
+        VerifyOrReturn(fullThreadDeviceColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jboolean> fullNetworkDataColumn;
+        VerifyOrReturn(fullNetworkDataColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+        chip::PrimitiveColumn<jboolean> isChildColumn;
+        VerifyOrReturn(isChildColumn.Alloc(size), ChipLogError(Zcl, "No memory for NeighborTableListAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            extAddressColumn.Set(count, static_cast<jlong>(entry.extAddress));
+            ageColumn.Set(count, static_cast<jlong>(entry.age));
+            rloc16Column.Set(count, static_cast<jint>(entry.rloc16));
+            linkFrameCounterColumn.Set(count, static_cast<jlong>(entry.linkFrameCounter));
+            mleFrameCounterColumn.Set(count, static_cast<jlong>(entry.mleFrameCounter));
+            lqiColumn.Set(count, static_cast<jint>(entry.lqi));
+            averageRssiColumn.Set(count, static_cast<jint>(entry.averageRssi));
+            lastRssiColumn.Set(count, static_cast<jint>(entry.lastRssi));
+            frameErrorRateColumn.Set(count, static_cast<jint>(entry.frameErrorRate));
+            messageErrorRateColumn.Set(count, static_cast<jint>(entry.messageErrorRate));
+            rxOnWhenIdleColumn.Set(count, static_cast<jboolean>(entry.rxOnWhenIdle));
+            fullThreadDeviceColumn.Set(count, static_cast<jboolean>(entry.fullThreadDevice));
+            fullNetworkDataColumn.Set(count, static_cast<jboolean>(entry.fullNetworkData));
+            isChildColumn.Set(count, static_cast<jboolean>(entry.isChild));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding NeighborTableListAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$NeighborTableListAttributeList",
+            primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class NeighborTableListAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[J[J[I[J[J[I[I[I[I[I[Z[Z[Z[Z)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$NeighborTableListAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find NeighborTableListAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               extAddressColumn.ToJavaArray(env, length), ageColumn.ToJavaArray(env, length),
+                                               rloc16Column.ToJavaArray(env, length),
+                                               linkFrameCounterColumn.ToJavaArray(env, length),
+                                               mleFrameCounterColumn.ToJavaArray(env, length), lqiColumn.ToJavaArray(env, length),
+                                               averageRssiColumn.ToJavaArray(env, length), lastRssiColumn.ToJavaArray(env, length),
+                                               frameErrorRateColumn.ToJavaArray(env, length),
+                                               messageErrorRateColumn.ToJavaArray(env, length),
+                                               rxOnWhenIdleColumn.ToJavaArray(env, length),
+                                               fullThreadDeviceColumn.ToJavaArray(env, length),
+                                               fullNetworkDataColumn.ToJavaArray(env, length),
+                                               isChildColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create NeighborTableListAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -13207,7 +13977,7 @@ void CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback::CallbackFn(
 CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback::CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThreadNetworkDiagnosticsClusterRouteTableListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -13254,6 +14024,88 @@ void CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$RouteTableListAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class RouteTableListAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jlong> extAddressColumn;
+        VerifyOrReturn(extAddressColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> rloc16Column;
+        VerifyOrReturn(rloc16Column.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> routerIdColumn;
+        VerifyOrReturn(routerIdColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> nextHopColumn;
+        VerifyOrReturn(nextHopColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> pathCostColumn;
+        VerifyOrReturn(pathCostColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> LQIInColumn;
+        VerifyOrReturn(LQIInColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> LQIOutColumn;
+        VerifyOrReturn(LQIOutColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jint> ageColumn;
+        VerifyOrReturn(ageColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jboolean> allocatedColumn;
+        VerifyOrReturn(allocatedColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+        chip::PrimitiveColumn<jboolean> linkEstablishedColumn;
+        VerifyOrReturn(linkEstablishedColumn.Alloc(size), ChipLogError(Zcl, "No memory for RouteTableListAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            extAddressColumn.Set(count, static_cast<jlong>(entry.extAddress));
+            rloc16Column.Set(count, static_cast<jint>(entry.rloc16));
+            routerIdColumn.Set(count, static_cast<jint>(entry.routerId));
+            nextHopColumn.Set(count, static_cast<jint>(entry.nextHop));
+            pathCostColumn.Set(count, static_cast<jint>(entry.pathCost));
+            LQIInColumn.Set(count, static_cast<jint>(entry.LQIIn));
+            LQIOutColumn.Set(count, static_cast<jint>(entry.LQIOut));
+            ageColumn.Set(count, static_cast<jint>(entry.age));
+            allocatedColumn.Set(count, static_cast<jboolean>(entry.allocated));
+            linkEstablishedColumn.Set(count, static_cast<jboolean>(entry.linkEstablished));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding RouteTableListAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$RouteTableListAttributeList",
+            primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class RouteTableListAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[J[I[I[I[I[I[I[I[Z[Z)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$RouteTableListAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find RouteTableListAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               extAddressColumn.ToJavaArray(env, length), rloc16Column.ToJavaArray(env, length),
+                                               routerIdColumn.ToJavaArray(env, length), nextHopColumn.ToJavaArray(env, length),
+                                               pathCostColumn.ToJavaArray(env, length), LQIInColumn.ToJavaArray(env, length),
+                                               LQIOutColumn.ToJavaArray(env, length), ageColumn.ToJavaArray(env, length),
+                                               allocatedColumn.ToJavaArray(env, length),
+                                               linkEstablishedColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create RouteTableListAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -13456,7 +14308,7 @@ void CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback::CallbackFn(
 CHIPThreadNetworkDiagnosticsSecurityPolicyAttributeCallback::CHIPThreadNetworkDiagnosticsSecurityPolicyAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThreadNetworkDiagnosticsClusterSecurityPolicyAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -13503,6 +14355,59 @@ void CHIPThreadNetworkDiagnosticsSecurityPolicyAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$SecurityPolicyAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class SecurityPolicyAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding SecurityPolicyAttribute value"));
+        chip::PrimitiveColumn<jint> rotationTimeColumn;
+        VerifyOrReturn(rotationTimeColumn.Alloc(size), ChipLogError(Zcl, "No memory for SecurityPolicyAttribute value"));
+        chip::PrimitiveColumn<jint> flagsColumn;
+        VerifyOrReturn(flagsColumn.Alloc(size), ChipLogError(Zcl, "No memory for SecurityPolicyAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            rotationTimeColumn.Set(count, static_cast<jint>(entry.rotationTime));
+            flagsColumn.Set(count, static_cast<jint>(entry.flags));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding SecurityPolicyAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$SecurityPolicyAttributeList",
+            primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class SecurityPolicyAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[I[I)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$SecurityPolicyAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find SecurityPolicyAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               rotationTimeColumn.ToJavaArray(env, length), flagsColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr, ChipLogError(Zcl, "Could not create SecurityPolicyAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -13582,7 +14487,7 @@ CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback::
     CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThreadNetworkDiagnosticsClusterOperationalDatasetComponentsAttributeCallbackType>(CallbackFn,
                                                                                                                    this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -13630,6 +14535,115 @@ void CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback::
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    jclass primitiveCallbackClass;
+    err = chip::JniReferences::GetInstance().GetClassRef(
+        env,
+        "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$OperationalDatasetComponentsAttributeList$Callback",
+        primitiveCallbackClass);
+    VerifyOrReturn(err == CHIP_NO_ERROR,
+                   ChipLogError(Zcl, "Could not find class OperationalDatasetComponentsAttributeList$Callback"));
+    chip::JniClass primitiveCallbackJniClass(primitiveCallbackClass);
+    if (env->IsInstanceOf(javaCallbackRef, primitiveCallbackClass))
+    {
+        size_t size = 0;
+        err         = list.ComputeSize(&size);
+        VerifyOrReturn(err == CHIP_NO_ERROR && chip::CanCastTo<jsize>(size),
+                       ChipLogError(Zcl, "Error decoding OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> activeTimestampPresentColumn;
+        VerifyOrReturn(activeTimestampPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> pendingTimestampPresentColumn;
+        VerifyOrReturn(pendingTimestampPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> masterKeyPresentColumn;
+        VerifyOrReturn(masterKeyPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> networkNamePresentColumn;
+        VerifyOrReturn(networkNamePresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> extendedPanIdPresentColumn;
+        VerifyOrReturn(extendedPanIdPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> meshLocalPrefixPresentColumn;
+        VerifyOrReturn(meshLocalPrefixPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> delayPresentColumn;
+        VerifyOrReturn(delayPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> panIdPresentColumn;
+        VerifyOrReturn(panIdPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> channelPresentColumn;
+        VerifyOrReturn(channelPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> pskcPresentColumn;
+        VerifyOrReturn(pskcPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> securityPolicyPresentColumn;
+        VerifyOrReturn(securityPolicyPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+        chip::PrimitiveColumn<jboolean> channelMaskPresentColumn;
+        VerifyOrReturn(channelMaskPresentColumn.Alloc(size),
+                       ChipLogError(Zcl, "No memory for OperationalDatasetComponentsAttribute value"));
+
+        size_t count = 0;
+        auto iter    = list.begin();
+        while (count < size && iter.Next())
+        {
+            auto & entry = iter.GetValue();
+            activeTimestampPresentColumn.Set(count, static_cast<jboolean>(entry.activeTimestampPresent));
+            pendingTimestampPresentColumn.Set(count, static_cast<jboolean>(entry.pendingTimestampPresent));
+            masterKeyPresentColumn.Set(count, static_cast<jboolean>(entry.masterKeyPresent));
+            networkNamePresentColumn.Set(count, static_cast<jboolean>(entry.networkNamePresent));
+            extendedPanIdPresentColumn.Set(count, static_cast<jboolean>(entry.extendedPanIdPresent));
+            meshLocalPrefixPresentColumn.Set(count, static_cast<jboolean>(entry.meshLocalPrefixPresent));
+            delayPresentColumn.Set(count, static_cast<jboolean>(entry.delayPresent));
+            panIdPresentColumn.Set(count, static_cast<jboolean>(entry.panIdPresent));
+            channelPresentColumn.Set(count, static_cast<jboolean>(entry.channelPresent));
+            pskcPresentColumn.Set(count, static_cast<jboolean>(entry.pskcPresent));
+            securityPolicyPresentColumn.Set(count, static_cast<jboolean>(entry.securityPolicyPresent));
+            channelMaskPresentColumn.Set(count, static_cast<jboolean>(entry.channelMaskPresent));
+            count++;
+        }
+        VerifyOrReturn(iter.GetStatus() == CHIP_NO_ERROR,
+                       ChipLogError(Zcl, "Error decoding OperationalDatasetComponentsAttribute value: %" CHIP_ERROR_FORMAT,
+                                    iter.GetStatus().Format()));
+
+        jclass primitiveListClass;
+        err = chip::JniReferences::GetInstance().GetClassRef(
+            env, "chip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$OperationalDatasetComponentsAttributeList",
+            primitiveListClass);
+        VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Could not find class OperationalDatasetComponentsAttributeList"));
+        chip::JniClass primitiveListJniClass(primitiveListClass);
+        jmethodID primitiveListCtor  = env->GetMethodID(primitiveListClass, "<init>", "(I[Z[Z[Z[Z[Z[Z[Z[Z[Z[Z[Z[Z)V");
+        jmethodID primitiveOnSuccess = env->GetMethodID(
+            primitiveCallbackClass, "onSuccess",
+            "(Lchip/devicecontroller/ChipClusters$ThreadNetworkDiagnosticsCluster$OperationalDatasetComponentsAttributeList;)V");
+        VerifyOrReturn(primitiveListCtor != nullptr && primitiveOnSuccess != nullptr,
+                       ChipLogError(Zcl, "Could not find OperationalDatasetComponentsAttributeList methods"));
+
+        jsize length          = static_cast<jsize>(count);
+        jobject primitiveList = env->NewObject(primitiveListClass, primitiveListCtor, length,
+                                               activeTimestampPresentColumn.ToJavaArray(env, length),
+                                               pendingTimestampPresentColumn.ToJavaArray(env, length),
+                                               masterKeyPresentColumn.ToJavaArray(env, length),
+                                               networkNamePresentColumn.ToJavaArray(env, length),
+                                               extendedPanIdPresentColumn.ToJavaArray(env, length),
+                                               meshLocalPrefixPresentColumn.ToJavaArray(env, length),
+                                               delayPresentColumn.ToJavaArray(env, length),
+                                               panIdPresentColumn.ToJavaArray(env, length),
+                                               channelPresentColumn.ToJavaArray(env, length),
+                                               pskcPresentColumn.ToJavaArray(env, length),
+                                               securityPolicyPresentColumn.ToJavaArray(env, length),
+                                               channelMaskPresentColumn.ToJavaArray(env, length));
+        VerifyOrReturn(primitiveList != nullptr,
+                       ChipLogError(Zcl, "Could not create OperationalDatasetComponentsAttributeList object"));
+
+        env->ExceptionClear();
+        env->CallVoidMethod(javaCallbackRef, primitiveOnSuccess, primitiveList);
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -13872,7 +14886,7 @@ void CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback::
 CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback::
     CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThreadNetworkDiagnosticsClusterActiveNetworkFaultsListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -13918,6 +14932,11 @@ void CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback::Callb
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -13963,7 +14982,7 @@ void CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback::Callb
 CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback::CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPThreadNetworkDiagnosticsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14008,6 +15027,11 @@ void CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -14051,7 +15075,8 @@ void CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback::CallbackFn(
 }
 
 CHIPUserLabelLabelListAttributeCallback::CHIPUserLabelLabelListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPUserLabelClusterLabelListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPUserLabelClusterLabelListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14164,7 +15189,8 @@ void CHIPUserLabelLabelListAttributeCallback::CallbackFn(
 }
 
 CHIPWakeOnLanAttributeListAttributeCallback::CHIPWakeOnLanAttributeListAttributeCallback(jobject javaCallback, bool keepAlive) :
-    chip::Callback::Callback<CHIPWakeOnLanClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive)
+    chip::Callback::Callback<CHIPWakeOnLanClusterAttributeListAttributeCallbackType>(CallbackFn, this), keepAlive(keepAlive),
+    startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14209,6 +15235,11 @@ void CHIPWakeOnLanAttributeListAttributeCallback::CallbackFn(void * context,
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -14254,7 +15285,7 @@ void CHIPWakeOnLanAttributeListAttributeCallback::CallbackFn(void * context,
 CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback::CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWiFiNetworkDiagnosticsClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14299,6 +15330,11 @@ void CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -14344,7 +15380,7 @@ void CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback::CallbackFn(
 CHIPWindowCoveringCurrentPositionLiftAttributeCallback::CHIPWindowCoveringCurrentPositionLiftAttributeCallback(jobject javaCallback,
                                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterCurrentPositionLiftAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14405,7 +15441,7 @@ void CHIPWindowCoveringCurrentPositionLiftAttributeCallback::CallbackFn(void * c
 CHIPWindowCoveringCurrentPositionTiltAttributeCallback::CHIPWindowCoveringCurrentPositionTiltAttributeCallback(jobject javaCallback,
                                                                                                                bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterCurrentPositionTiltAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14466,7 +15502,7 @@ void CHIPWindowCoveringCurrentPositionTiltAttributeCallback::CallbackFn(void * c
 CHIPWindowCoveringCurrentPositionLiftPercentageAttributeCallback::CHIPWindowCoveringCurrentPositionLiftPercentageAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterCurrentPositionLiftPercentageAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14528,7 +15564,7 @@ void CHIPWindowCoveringCurrentPositionLiftPercentageAttributeCallback::CallbackF
 CHIPWindowCoveringCurrentPositionTiltPercentageAttributeCallback::CHIPWindowCoveringCurrentPositionTiltPercentageAttributeCallback(
     jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterCurrentPositionTiltPercentageAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14590,7 +15626,7 @@ void CHIPWindowCoveringCurrentPositionTiltPercentageAttributeCallback::CallbackF
 CHIPWindowCoveringTargetPositionLiftPercent100thsAttributeCallback::
     CHIPWindowCoveringTargetPositionLiftPercent100thsAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterTargetPositionLiftPercent100thsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14652,7 +15688,7 @@ void CHIPWindowCoveringTargetPositionLiftPercent100thsAttributeCallback::Callbac
 CHIPWindowCoveringTargetPositionTiltPercent100thsAttributeCallback::
     CHIPWindowCoveringTargetPositionTiltPercent100thsAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterTargetPositionTiltPercent100thsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14714,7 +15750,7 @@ void CHIPWindowCoveringTargetPositionTiltPercent100thsAttributeCallback::Callbac
 CHIPWindowCoveringCurrentPositionLiftPercent100thsAttributeCallback::
     CHIPWindowCoveringCurrentPositionLiftPercent100thsAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterCurrentPositionLiftPercent100thsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14776,7 +15812,7 @@ void CHIPWindowCoveringCurrentPositionLiftPercent100thsAttributeCallback::Callba
 CHIPWindowCoveringCurrentPositionTiltPercent100thsAttributeCallback::
     CHIPWindowCoveringCurrentPositionTiltPercent100thsAttributeCallback(jobject javaCallback, bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterCurrentPositionTiltPercent100thsAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14838,7 +15874,7 @@ void CHIPWindowCoveringCurrentPositionTiltPercent100thsAttributeCallback::Callba
 CHIPWindowCoveringAttributeListAttributeCallback::CHIPWindowCoveringAttributeListAttributeCallback(jobject javaCallback,
                                                                                                    bool keepAlive) :
     chip::Callback::Callback<CHIPWindowCoveringClusterAttributeListAttributeCallbackType>(CallbackFn, this),
-    keepAlive(keepAlive)
+    keepAlive(keepAlive), startTime(chip::AndroidMetrics::Now())
 {
     JNIEnv * env = chip::JniReferences::GetInstance().GetEnvForCurrentThread();
     if (env == nullptr)
@@ -14883,6 +15919,11 @@ void CHIPWindowCoveringAttributeListAttributeCallback::CallbackFn(
     VerifyOrReturn(javaCallbackRef != nullptr,
                    ChipLogProgress(Zcl, "Early return from attribute callback since Java callback is null"));
 
+    if (chip::PrimitiveListDelivery::TryDeliver(env, javaCallbackRef, list))
+    {
+        return;
+    }
+
     jclass arrayListClass;
     err = chip::JniReferences::GetInstance().GetClassRef(env, "java/util/ArrayList", arrayListClass);
     VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error using Java ArrayList"));
@@ -19,6 +19,7 @@
 #include "CHIPCallbackTypes.h"
 
 #include <controller/java/AndroidCallbacks.h>
+#include <controller/java/AndroidMetrics.h>
 #include <jni.h>
 #include <lib/support/ErrorStr.h>
 #include <lib/support/JniReferences.h>
@@ -35,9 +36,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBooleanAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, bool value);
@@ -48,9 +57,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPCharStringAttributeCallback : public chip::Callback::Callback<CharStringAttributeCallback>
 {
@@ -63,9 +77,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPCharStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::CharSpan value);
@@ -76,9 +98,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPDoubleAttributeCallback : public chip::Callback::Callback<DoubleAttributeCallback>
 {
@@ -91,9 +118,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDoubleAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, double value);
@@ -104,9 +139,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPFloatAttributeCallback : public chip::Callback::Callback<FloatAttributeCallback>
 {
@@ -119,9 +159,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPFloatAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, float value);
@@ -132,9 +180,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt8sAttributeCallback : public chip::Callback::Callback<Int8sAttributeCallback>
 {
@@ -147,9 +200,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt8sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, int8_t value);
@@ -160,9 +221,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt8uAttributeCallback : public chip::Callback::Callback<Int8uAttributeCallback>
 {
@@ -175,9 +241,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt8uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, uint8_t value);
@@ -188,9 +262,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt16sAttributeCallback : public chip::Callback::Callback<Int16sAttributeCallback>
 {
@@ -203,9 +282,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt16sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, int16_t value);
@@ -216,9 +303,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt16uAttributeCallback : public chip::Callback::Callback<Int16uAttributeCallback>
 {
@@ -231,9 +323,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt16uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, uint16_t value);
@@ -244,9 +344,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt32sAttributeCallback : public chip::Callback::Callback<Int32sAttributeCallback>
 {
@@ -259,9 +364,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt32sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, int32_t value);
@@ -272,9 +385,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt32uAttributeCallback : public chip::Callback::Callback<Int32uAttributeCallback>
 {
@@ -287,9 +405,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt32uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, uint32_t value);
@@ -300,9 +426,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt64sAttributeCallback : public chip::Callback::Callback<Int64sAttributeCallback>
 {
@@ -315,9 +446,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt64sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, int64_t value);
@@ -328,9 +467,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPInt64uAttributeCallback : public chip::Callback::Callback<Int64uAttributeCallback>
 {
@@ -343,9 +487,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPInt64uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, uint64_t value);
@@ -356,9 +508,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 class CHIPOctetStringAttributeCallback : public chip::Callback::Callback<OctetStringAttributeCallback>
 {
@@ -371,9 +528,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOctetStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::ByteSpan value);
@@ -384,9 +549,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAccessControlAclAttributeCallback : public chip::Callback::Callback<CHIPAccessControlClusterAclAttributeCallbackType>
@@ -400,9 +570,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAccessControlAclAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -416,9 +594,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAccessControlExtensionAttributeCallback
@@ -433,9 +616,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAccessControlExtensionAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -449,9 +640,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAccessControlAttributeListAttributeCallback
@@ -466,9 +662,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAccessControlAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -479,9 +683,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAccountLoginAttributeListAttributeCallback
@@ -496,9 +705,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAccountLoginAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -509,9 +726,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAdministratorCommissioningAdminFabricIndexAttributeCallback
@@ -526,9 +748,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAdministratorCommissioningAdminFabricIndexAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, chip::FabricIndex value);
@@ -539,9 +769,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAdministratorCommissioningAttributeListAttributeCallback
@@ -556,9 +791,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAdministratorCommissioningAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -569,9 +812,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPApplicationBasicAllowedVendorListAttributeCallback
@@ -586,9 +834,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPApplicationBasicAllowedVendorListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::VendorId> & list);
@@ -599,9 +855,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPApplicationBasicAttributeListAttributeCallback
@@ -616,9 +877,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPApplicationBasicAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -629,9 +898,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPApplicationLauncherApplicationLauncherListAttributeCallback
@@ -646,9 +920,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPApplicationLauncherApplicationLauncherListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint16_t> & list);
@@ -659,9 +941,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPApplicationLauncherAttributeListAttributeCallback
@@ -676,9 +963,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPApplicationLauncherAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -689,9 +984,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAudioOutputAudioOutputListAttributeCallback
@@ -706,9 +1006,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAudioOutputAudioOutputListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -721,9 +1029,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPAudioOutputAttributeListAttributeCallback
@@ -738,9 +1051,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPAudioOutputAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -751,9 +1072,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBarrierControlAttributeListAttributeCallback
@@ -768,9 +1094,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBarrierControlAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -781,9 +1115,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBasicVendorIDAttributeCallback : public chip::Callback::Callback<CHIPBasicClusterVendorIDAttributeCallbackType>
@@ -797,9 +1136,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBasicVendorIDAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, chip::VendorId value);
@@ -810,9 +1157,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBasicAttributeListAttributeCallback : public chip::Callback::Callback<CHIPBasicClusterAttributeListAttributeCallbackType>
@@ -826,9 +1178,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBasicAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -839,9 +1199,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBinaryInputBasicAttributeListAttributeCallback
@@ -856,9 +1221,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBinaryInputBasicAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -869,9 +1242,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBindingAttributeListAttributeCallback
@@ -886,9 +1264,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBindingAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -899,9 +1285,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBooleanStateAttributeListAttributeCallback
@@ -916,9 +1307,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBooleanStateAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -929,9 +1328,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBridgedActionsActionListAttributeCallback
@@ -946,9 +1350,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBridgedActionsActionListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -962,9 +1374,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBridgedActionsEndpointListAttributeCallback
@@ -979,9 +1396,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBridgedActionsEndpointListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -995,9 +1420,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBridgedActionsAttributeListAttributeCallback
@@ -1012,9 +1442,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBridgedActionsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1025,9 +1463,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPBridgedDeviceBasicAttributeListAttributeCallback
@@ -1042,9 +1485,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPBridgedDeviceBasicAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1055,9 +1506,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPChannelChannelListAttributeCallback : public chip::Callback::Callback<CHIPChannelClusterChannelListAttributeCallbackType>
@@ -1071,9 +1527,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPChannelChannelListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void
@@ -1086,9 +1550,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPChannelAttributeListAttributeCallback
@@ -1103,9 +1572,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPChannelAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1116,9 +1593,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPColorControlAttributeListAttributeCallback
@@ -1133,9 +1615,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPColorControlAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1146,9 +1636,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPContentLauncherAcceptHeaderListAttributeCallback
@@ -1163,9 +1658,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPContentLauncherAcceptHeaderListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::CharSpan> & list);
@@ -1176,9 +1679,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPContentLauncherAttributeListAttributeCallback
@@ -1193,9 +1701,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPContentLauncherAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1206,9 +1722,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDescriptorDeviceListAttributeCallback
@@ -1223,9 +1744,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDescriptorDeviceListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -1238,9 +1767,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDescriptorServerListAttributeCallback
@@ -1255,9 +1789,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDescriptorServerListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::ClusterId> & list);
@@ -1268,9 +1810,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDescriptorClientListAttributeCallback
@@ -1285,9 +1832,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDescriptorClientListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::ClusterId> & list);
@@ -1298,9 +1853,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDescriptorPartsListAttributeCallback
@@ -1315,9 +1875,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDescriptorPartsListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::EndpointId> & list);
@@ -1328,9 +1896,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDescriptorAttributeListAttributeCallback
@@ -1345,9 +1918,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDescriptorAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1358,9 +1939,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDiagnosticLogsAttributeListAttributeCallback
@@ -1375,9 +1961,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDiagnosticLogsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1388,9 +1982,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDoorLockLockStateAttributeCallback : public chip::Callback::Callback<CHIPDoorLockClusterLockStateAttributeCallbackType>
@@ -1404,9 +2003,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDoorLockLockStateAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -1418,9 +2025,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDoorLockDoorStateAttributeCallback : public chip::Callback::Callback<CHIPDoorLockClusterDoorStateAttributeCallbackType>
@@ -1434,9 +2046,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDoorLockDoorStateAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -1448,9 +2068,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPDoorLockAttributeListAttributeCallback
@@ -1465,9 +2090,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPDoorLockAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1478,9 +2111,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPElectricalMeasurementAttributeListAttributeCallback
@@ -1495,9 +2133,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPElectricalMeasurementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1508,9 +2154,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback
@@ -1525,9 +2176,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPEthernetNetworkDiagnosticsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1538,9 +2197,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPFixedLabelLabelListAttributeCallback
@@ -1555,9 +2219,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPFixedLabelLabelListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -1570,9 +2242,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPFixedLabelAttributeListAttributeCallback
@@ -1587,9 +2264,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPFixedLabelAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1600,9 +2285,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPFlowMeasurementAttributeListAttributeCallback
@@ -1617,9 +2307,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPFlowMeasurementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1630,9 +2328,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback
@@ -1647,9 +2350,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralCommissioningBasicCommissioningInfoListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void
@@ -1663,9 +2374,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralCommissioningAttributeListAttributeCallback
@@ -1680,9 +2396,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralCommissioningAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1693,9 +2417,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralDiagnosticsNetworkInterfacesAttributeCallback
@@ -1710,9 +2439,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralDiagnosticsNetworkInterfacesAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -1725,9 +2462,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback
@@ -1742,9 +2484,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralDiagnosticsActiveHardwareFaultsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint8_t> & list);
@@ -1755,9 +2505,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback
@@ -1772,9 +2527,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralDiagnosticsActiveRadioFaultsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint8_t> & list);
@@ -1785,9 +2548,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback
@@ -1802,9 +2570,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralDiagnosticsActiveNetworkFaultsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint8_t> & list);
@@ -1815,9 +2591,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGeneralDiagnosticsAttributeListAttributeCallback
@@ -1832,9 +2613,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGeneralDiagnosticsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1845,9 +2634,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupKeyManagementGroupKeyMapAttributeCallback
@@ -1862,9 +2656,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGroupKeyManagementGroupKeyMapAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -1878,9 +2680,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupKeyManagementGroupTableAttributeCallback
@@ -1895,9 +2702,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGroupKeyManagementGroupTableAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -1911,9 +2726,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupKeyManagementAttributeListAttributeCallback
@@ -1928,9 +2748,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGroupKeyManagementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1941,9 +2769,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPGroupsAttributeListAttributeCallback
@@ -1958,9 +2791,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPGroupsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -1971,9 +2812,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIdentifyAttributeListAttributeCallback
@@ -1988,9 +2834,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPIdentifyAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2001,9 +2855,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIlluminanceMeasurementMeasuredValueAttributeCallback
@@ -2018,9 +2877,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPIlluminanceMeasurementMeasuredValueAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -2031,9 +2898,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIlluminanceMeasurementMinMeasuredValueAttributeCallback
@@ -2048,9 +2920,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPIlluminanceMeasurementMinMeasuredValueAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -2061,9 +2941,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIlluminanceMeasurementMaxMeasuredValueAttributeCallback
@@ -2078,9 +2963,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPIlluminanceMeasurementMaxMeasuredValueAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -2091,9 +2984,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIlluminanceMeasurementLightSensorTypeAttributeCallback
@@ -2108,9 +3006,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPIlluminanceMeasurementLightSensorTypeAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -2121,9 +3027,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPIlluminanceMeasurementAttributeListAttributeCallback
@@ -2138,9 +3049,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPIlluminanceMeasurementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2151,9 +3070,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPKeypadInputAttributeListAttributeCallback
@@ -2168,9 +3092,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPKeypadInputAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2181,9 +3113,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLevelControlOnLevelAttributeCallback
@@ -2198,9 +3135,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLevelControlOnLevelAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -2211,9 +3156,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLevelControlOnTransitionTimeAttributeCallback
@@ -2228,9 +3178,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLevelControlOnTransitionTimeAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -2241,9 +3199,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLevelControlOffTransitionTimeAttributeCallback
@@ -2258,9 +3221,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLevelControlOffTransitionTimeAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -2271,9 +3242,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLevelControlDefaultMoveRateAttributeCallback
@@ -2288,9 +3264,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLevelControlDefaultMoveRateAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -2301,9 +3285,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLevelControlAttributeListAttributeCallback
@@ -2318,9 +3307,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLevelControlAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2331,9 +3328,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLocalizationConfigurationSupportedLocalesAttributeCallback
@@ -2348,9 +3350,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLocalizationConfigurationSupportedLocalesAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::CharSpan> & list);
@@ -2361,9 +3371,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPLowPowerAttributeListAttributeCallback
@@ -2378,9 +3393,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPLowPowerAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2391,9 +3414,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPMediaInputMediaInputListAttributeCallback
@@ -2408,9 +3436,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPMediaInputMediaInputListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -2423,9 +3459,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPMediaInputAttributeListAttributeCallback
@@ -2440,9 +3481,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPMediaInputAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2453,9 +3502,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPMediaPlaybackAttributeListAttributeCallback
@@ -2470,9 +3524,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPMediaPlaybackAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2483,9 +3545,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPModeSelectSupportedModesAttributeCallback
@@ -2500,9 +3567,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPModeSelectSupportedModesAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -2516,9 +3591,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPModeSelectAttributeListAttributeCallback
@@ -2533,9 +3613,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPModeSelectAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2546,9 +3634,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPNetworkCommissioningNetworksAttributeCallback
@@ -2563,9 +3656,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPNetworkCommissioningNetworksAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -2579,9 +3680,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback
@@ -2596,9 +3702,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOtaSoftwareUpdateProviderAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2609,9 +3723,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback
@@ -2626,9 +3745,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -2641,9 +3768,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOtaSoftwareUpdateRequestorUpdateStateProgressAttributeCallback
@@ -2658,9 +3790,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOtaSoftwareUpdateRequestorUpdateStateProgressAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -2671,9 +3811,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback
@@ -2688,9 +3833,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOtaSoftwareUpdateRequestorAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2701,9 +3854,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOccupancySensingAttributeListAttributeCallback
@@ -2718,9 +3876,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOccupancySensingAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2731,9 +3897,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOnOffAttributeListAttributeCallback : public chip::Callback::Callback<CHIPOnOffClusterAttributeListAttributeCallbackType>
@@ -2747,9 +3918,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOnOffAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2760,9 +3939,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOnOffSwitchConfigurationAttributeListAttributeCallback
@@ -2777,9 +3961,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOnOffSwitchConfigurationAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2790,9 +3982,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsFabricsListAttributeCallback
@@ -2807,9 +4004,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOperationalCredentialsFabricsListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -2822,9 +4027,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback
@@ -2839,9 +4049,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOperationalCredentialsTrustedRootCertificatesAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::ByteSpan> & list);
@@ -2852,9 +4070,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsCurrentFabricIndexAttributeCallback
@@ -2869,9 +4092,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOperationalCredentialsCurrentFabricIndexAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, chip::FabricIndex value);
@@ -2882,9 +4113,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPOperationalCredentialsAttributeListAttributeCallback
@@ -2899,9 +4135,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPOperationalCredentialsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2912,9 +4156,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPowerSourceActiveBatteryFaultsAttributeCallback
@@ -2929,9 +4178,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPowerSourceActiveBatteryFaultsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint8_t> & list);
@@ -2942,9 +4199,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPowerSourceAttributeListAttributeCallback
@@ -2959,9 +4221,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPowerSourceAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -2972,9 +4242,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPowerSourceConfigurationSourcesAttributeCallback
@@ -2989,9 +4264,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPowerSourceConfigurationSourcesAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint8_t> & list);
@@ -3002,9 +4285,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPowerSourceConfigurationAttributeListAttributeCallback
@@ -3019,9 +4307,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPowerSourceConfigurationAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3032,9 +4328,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPressureMeasurementAttributeListAttributeCallback
@@ -3049,9 +4350,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPressureMeasurementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3062,9 +4371,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPumpConfigurationAndControlLifetimeRunningHoursAttributeCallback
@@ -3079,9 +4393,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPumpConfigurationAndControlLifetimeRunningHoursAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint32_t> & value);
@@ -3092,9 +4414,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPumpConfigurationAndControlLifetimeEnergyConsumedAttributeCallback
@@ -3109,9 +4436,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPumpConfigurationAndControlLifetimeEnergyConsumedAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint32_t> & value);
@@ -3122,9 +4457,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPPumpConfigurationAndControlAttributeListAttributeCallback
@@ -3139,9 +4479,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPPumpConfigurationAndControlAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3152,9 +4500,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPRelativeHumidityMeasurementAttributeListAttributeCallback
@@ -3169,9 +4522,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPRelativeHumidityMeasurementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3182,9 +4543,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPScenesAttributeListAttributeCallback
@@ -3199,9 +4565,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPScenesAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3212,9 +4586,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPSoftwareDiagnosticsThreadMetricsAttributeCallback
@@ -3229,9 +4608,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPSoftwareDiagnosticsThreadMetricsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -3245,9 +4632,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPSoftwareDiagnosticsAttributeListAttributeCallback
@@ -3262,9 +4654,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPSoftwareDiagnosticsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3275,9 +4675,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPSwitchAttributeListAttributeCallback
@@ -3292,9 +4697,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPSwitchAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3305,9 +4718,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTargetNavigatorTargetNavigatorListAttributeCallback
@@ -3322,9 +4740,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTargetNavigatorTargetNavigatorListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -3337,9 +4763,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTargetNavigatorAttributeListAttributeCallback
@@ -3354,9 +4785,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTargetNavigatorAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3367,9 +4806,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTemperatureMeasurementAttributeListAttributeCallback
@@ -3384,9 +4828,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTemperatureMeasurementAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -3397,9 +4849,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterListInt8uAttributeCallback
@@ -3414,9 +4871,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterListInt8uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<uint8_t> & list);
@@ -3427,9 +4892,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterListOctetStringAttributeCallback
@@ -3444,9 +4914,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterListOctetStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::ByteSpan> & list);
@@ -3457,9 +4935,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterListStructOctetStringAttributeCallback
@@ -3474,9 +4957,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterListStructOctetStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -3490,9 +4981,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterVendorIdAttributeCallback
@@ -3507,9 +5003,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterVendorIdAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, chip::VendorId value);
@@ -3520,9 +5024,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterListNullablesAndOptionalsStructAttributeCallback
@@ -3537,9 +5046,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterListNullablesAndOptionalsStructAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -3552,9 +5069,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterListLongOctetStringAttributeCallback
@@ -3569,9 +5091,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterListLongOctetStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::ByteSpan> & list);
@@ -3582,9 +5112,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableBooleanAttributeCallback
@@ -3599,9 +5134,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableBooleanAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<bool> & value);
@@ -3612,9 +5155,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableBitmap8AttributeCallback
@@ -3629,9 +5177,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableBitmap8AttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -3642,9 +5198,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableBitmap16AttributeCallback
@@ -3659,9 +5220,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableBitmap16AttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -3672,9 +5241,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableBitmap32AttributeCallback
@@ -3689,9 +5263,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableBitmap32AttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint32_t> & value);
@@ -3702,9 +5284,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableBitmap64AttributeCallback
@@ -3719,9 +5306,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableBitmap64AttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint64_t> & value);
@@ -3732,9 +5327,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt8uAttributeCallback
@@ -3749,9 +5349,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt8uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -3762,9 +5370,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt16uAttributeCallback
@@ -3779,9 +5392,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt16uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -3792,9 +5413,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt24uAttributeCallback
@@ -3809,9 +5435,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt24uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint32_t> & value);
@@ -3822,9 +5456,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt32uAttributeCallback
@@ -3839,9 +5478,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt32uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint32_t> & value);
@@ -3852,9 +5499,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt40uAttributeCallback
@@ -3869,9 +5521,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt40uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint64_t> & value);
@@ -3882,9 +5542,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt48uAttributeCallback
@@ -3899,9 +5564,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt48uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint64_t> & value);
@@ -3912,9 +5585,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt56uAttributeCallback
@@ -3929,9 +5607,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt56uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint64_t> & value);
@@ -3942,9 +5628,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt64uAttributeCallback
@@ -3959,9 +5650,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt64uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint64_t> & value);
@@ -3972,9 +5671,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt8sAttributeCallback
@@ -3989,9 +5693,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt8sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int8_t> & value);
@@ -4002,9 +5714,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt16sAttributeCallback
@@ -4019,9 +5736,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt16sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int16_t> & value);
@@ -4032,9 +5757,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt24sAttributeCallback
@@ -4049,9 +5779,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt24sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int32_t> & value);
@@ -4062,9 +5800,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt32sAttributeCallback
@@ -4079,9 +5822,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt32sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int32_t> & value);
@@ -4092,9 +5843,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt40sAttributeCallback
@@ -4109,9 +5865,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt40sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int64_t> & value);
@@ -4122,9 +5886,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt48sAttributeCallback
@@ -4139,9 +5908,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt48sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int64_t> & value);
@@ -4152,9 +5929,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt56sAttributeCallback
@@ -4169,9 +5951,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt56sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int64_t> & value);
@@ -4182,9 +5972,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableInt64sAttributeCallback
@@ -4199,9 +5994,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableInt64sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int64_t> & value);
@@ -4212,9 +6015,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableEnum8AttributeCallback
@@ -4229,9 +6037,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableEnum8AttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -4242,9 +6058,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableEnum16AttributeCallback
@@ -4259,9 +6080,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableEnum16AttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -4272,9 +6101,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableFloatSingleAttributeCallback
@@ -4289,9 +6123,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableFloatSingleAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<float> & value);
@@ -4302,9 +6144,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableFloatDoubleAttributeCallback
@@ -4319,9 +6166,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableFloatDoubleAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<double> & value);
@@ -4332,9 +6187,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableOctetStringAttributeCallback
@@ -4349,9 +6209,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableOctetStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::ByteSpan> & value);
@@ -4362,9 +6230,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableCharStringAttributeCallback
@@ -4379,9 +6252,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableCharStringAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::CharSpan> & value);
@@ -4392,9 +6273,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableEnumAttrAttributeCallback
@@ -4409,9 +6295,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableEnumAttrAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -4423,9 +6317,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableRangeRestrictedInt8uAttributeCallback
@@ -4440,9 +6339,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableRangeRestrictedInt8uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint8_t> & value);
@@ -4453,9 +6360,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableRangeRestrictedInt8sAttributeCallback
@@ -4470,9 +6382,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableRangeRestrictedInt8sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int8_t> & value);
@@ -4483,9 +6403,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableRangeRestrictedInt16uAttributeCallback
@@ -4500,9 +6425,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableRangeRestrictedInt16uAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -4513,9 +6446,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterNullableRangeRestrictedInt16sAttributeCallback
@@ -4530,9 +6468,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterNullableRangeRestrictedInt16sAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<int16_t> & value);
@@ -4543,9 +6489,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPTestClusterAttributeListAttributeCallback
@@ -4560,9 +6511,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPTestClusterAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -4573,9 +6532,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThermostatAttributeListAttributeCallback
@@ -4590,9 +6554,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThermostatAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -4603,9 +6575,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback
@@ -4620,9 +6597,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThermostatUserInterfaceConfigurationAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -4633,9 +6618,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback
@@ -4650,9 +6640,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThreadNetworkDiagnosticsNeighborTableListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -4665,9 +6663,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback
@@ -4682,9 +6685,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThreadNetworkDiagnosticsRouteTableListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -4697,9 +6708,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThreadNetworkDiagnosticsSecurityPolicyAttributeCallback
@@ -4714,9 +6730,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThreadNetworkDiagnosticsSecurityPolicyAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context,
@@ -4729,9 +6753,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback
@@ -4746,9 +6775,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void
@@ -4763,9 +6800,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback
@@ -4780,9 +6822,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void
@@ -4795,9 +6845,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback
@@ -4812,9 +6867,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPThreadNetworkDiagnosticsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -4825,9 +6888,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPUserLabelLabelListAttributeCallback : public chip::Callback::Callback<CHIPUserLabelClusterLabelListAttributeCallbackType>
@@ -4841,9 +6909,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPUserLabelLabelListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(
@@ -4856,9 +6932,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWakeOnLanAttributeListAttributeCallback
@@ -4873,9 +6954,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWakeOnLanAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -4886,9 +6975,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback
@@ -4903,9 +6997,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWiFiNetworkDiagnosticsAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -4916,9 +7018,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringCurrentPositionLiftAttributeCallback
@@ -4933,9 +7040,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringCurrentPositionLiftAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -4946,9 +7061,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringCurrentPositionTiltAttributeCallback
@@ -4963,9 +7083,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringCurrentPositionTiltAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<uint16_t> & value);
@@ -4976,9 +7104,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringCurrentPositionLiftPercentageAttributeCallback
@@ -4993,9 +7126,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringCurrentPositionLiftPercentageAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::Percent> & value);
@@ -5006,9 +7147,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringCurrentPositionTiltPercentageAttributeCallback
@@ -5023,9 +7169,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringCurrentPositionTiltPercentageAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::Percent> & value);
@@ -5036,9 +7190,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringTargetPositionLiftPercent100thsAttributeCallback
@@ -5053,9 +7212,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringTargetPositionLiftPercent100thsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::Percent100ths> & value);
@@ -5066,9 +7233,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringTargetPositionTiltPercent100thsAttributeCallback
@@ -5083,9 +7255,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringTargetPositionTiltPercent100thsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::Percent100ths> & value);
@@ -5096,9 +7276,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringCurrentPositionLiftPercent100thsAttributeCallback
@@ -5113,9 +7298,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringCurrentPositionLiftPercent100thsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::Percent100ths> & value);
@@ -5126,9 +7319,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringCurrentPositionTiltPercent100thsAttributeCallback
@@ -5143,9 +7341,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringCurrentPositionTiltPercent100thsAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::Nullable<chip::Percent100ths> & value);
@@ -5156,9 +7362,14 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
 
 class CHIPWindowCoveringAttributeListAttributeCallback
@@ -5173,9 +7384,17 @@ public:
     {
         if (!callback->keepAlive)
         {
+            if (callback->recordMetrics)
+            {
+                chip::AndroidMetrics::GetInstance().RecordSince(chip::AndroidMetrics::Timer::kReadRoundTrip, callback->startTime);
+            }
             callback->Cancel();
             chip::Platform::Delete<CHIPWindowCoveringAttributeListAttributeCallback>(callback);
         }
+        else
+        {
+            chip::AndroidMetrics::GetInstance().Increment(chip::AndroidMetrics::Counter::kSubscriptionReports);
+        }
     }
 
     static void CallbackFn(void * context, const chip::app::DataModel::DecodableList<chip::AttributeId> & list);
@@ -5186,7 +7405,12 @@ public:
         VerifyOrReturn(err == CHIP_NO_ERROR, ChipLogError(Zcl, "Error calling onSubscriptionEstablished: %s", ErrorStr(err)));
     };
 
+    // Used when the value is delivered as part of a larger interaction, which records its own metrics.
+    void DisableMetrics() { recordMetrics = false; }
+
 private:
     jobject javaCallbackRef;
     bool keepAlive;
+    bool recordMetrics = true;
+    chip::System::Clock::Microseconds64 startTime;
 };
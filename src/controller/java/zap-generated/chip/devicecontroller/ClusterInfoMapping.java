@@ -24,6 +24,7 @@ import chip.clusterinfo.ClusterCommandCallback;
 import chip.clusterinfo.ClusterInfo;
 import chip.clusterinfo.CommandParameterInfo;
 import chip.clusterinfo.CommandResponseInfo;
+import chip.clusterinfo.CommandResponseView;
 import chip.clusterinfo.DelegatedClusterCallback;
 import chip.clusterinfo.InteractionInfo;
 import chip.devicecontroller.ChipClusters.DefaultClusterCallback;
@@ -32,13 +33,18 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public class ClusterInfoMapping {
 
   public static class DelegatedCharStringAttributeCallback
       implements ChipClusters.CharStringAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "String")
+    };
     /** Indicates a successful read for a CHAR_STRING attribute. */
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -47,10 +53,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(String value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "String");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -61,8 +66,12 @@ public class ClusterInfoMapping {
 
   public static class DelegatedOctetStringAttributeCallback
       implements ChipClusters.OctetStringAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "byte[]")
+    };
     /** Indicates a successful read for an OCTET_STRING attribute. */
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -71,10 +80,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(byte[] value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "byte[]");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -85,7 +93,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedIntegerAttributeCallback
       implements ChipClusters.IntegerAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -94,10 +106,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(int value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "int");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.addInt(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -108,7 +119,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedLongAttributeCallback
       implements ChipClusters.LongAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "long")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -117,10 +132,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(long value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "long");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.addLong(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -131,7 +145,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedBooleanAttributeCallback
       implements ChipClusters.BooleanAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "boolean")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -140,10 +158,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(boolean value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "boolean");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.addBoolean(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -154,7 +171,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedFloatAttributeCallback
       implements ChipClusters.FloatAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "float")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -163,10 +184,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(float value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "float");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.addFloat(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -177,7 +197,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedDoubleAttributeCallback
       implements ChipClusters.DoubleAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "double")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -186,10 +210,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(double value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("value", "double");
-      responseValues.put(setupPINResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.addDouble(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -200,7 +223,9 @@ public class ClusterInfoMapping {
 
   public static class DelegatedDefaultClusterCallback
       implements DefaultClusterCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {};
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -211,8 +236,8 @@ public class ClusterInfoMapping {
     // each callback interface.
     @Override
     public void onSuccess() {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.deliverTo(callback);
     }
 
     @Override
@@ -223,7 +248,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedAccessControlClusterAclAttributeCallback
       implements ChipClusters.AccessControlCluster.AclAttributeCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<ChipClusters.AccessControlCluster.AclAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -232,13 +261,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.AccessControlCluster.AclAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.AccessControlCluster.AclAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -250,7 +275,12 @@ public class ClusterInfoMapping {
   public static class DelegatedAccessControlClusterExtensionAttributeCallback
       implements ChipClusters.AccessControlCluster.ExtensionAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.AccessControlCluster.ExtensionAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -259,13 +289,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.AccessControlCluster.ExtensionAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.AccessControlCluster.ExtensionAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -277,7 +303,11 @@ public class ClusterInfoMapping {
   public static class DelegatedAccessControlClusterAttributeListAttributeCallback
       implements ChipClusters.AccessControlCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -286,11 +316,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -302,7 +330,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGetSetupPINResponseCallback
       implements ChipClusters.AccountLoginCluster.GetSetupPINResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("setupPIN", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -311,10 +343,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(String setupPIN) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo setupPINResponseValue = new CommandResponseInfo("setupPIN", "String");
-      responseValues.put(setupPINResponseValue, setupPIN);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(setupPIN);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -326,7 +357,11 @@ public class ClusterInfoMapping {
   public static class DelegatedAccountLoginClusterAttributeListAttributeCallback
       implements ChipClusters.AccountLoginCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -335,11 +370,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -351,7 +384,11 @@ public class ClusterInfoMapping {
   public static class DelegatedAdministratorCommissioningClusterAttributeListAttributeCallback
       implements ChipClusters.AdministratorCommissioningCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -360,11 +397,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -376,7 +411,11 @@ public class ClusterInfoMapping {
   public static class DelegatedApplicationBasicClusterAllowedVendorListAttributeCallback
       implements ChipClusters.ApplicationBasicCluster.AllowedVendorListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -385,12 +424,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -402,7 +438,11 @@ public class ClusterInfoMapping {
   public static class DelegatedApplicationBasicClusterAttributeListAttributeCallback
       implements ChipClusters.ApplicationBasicCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -411,11 +451,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -427,7 +465,12 @@ public class ClusterInfoMapping {
   public static class DelegatedLauncherResponseCallback
       implements ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("data", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -436,12 +479,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, String data) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo dataResponseValue = new CommandResponseInfo("data", "String");
-      responseValues.put(dataResponseValue, data);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(data);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -453,7 +494,11 @@ public class ClusterInfoMapping {
   public static class DelegatedApplicationLauncherClusterApplicationLauncherListAttributeCallback
       implements ChipClusters.ApplicationLauncherCluster.ApplicationLauncherListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -462,12 +507,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -479,7 +521,11 @@ public class ClusterInfoMapping {
   public static class DelegatedApplicationLauncherClusterAttributeListAttributeCallback
       implements ChipClusters.ApplicationLauncherCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -488,11 +534,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -504,7 +548,12 @@ public class ClusterInfoMapping {
   public static class DelegatedAudioOutputClusterAudioOutputListAttributeCallback
       implements ChipClusters.AudioOutputCluster.AudioOutputListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.AudioOutputCluster.AudioOutputListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -514,13 +563,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.AudioOutputCluster.AudioOutputListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.AudioOutputCluster.AudioOutputListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -532,7 +577,11 @@ public class ClusterInfoMapping {
   public static class DelegatedAudioOutputClusterAttributeListAttributeCallback
       implements ChipClusters.AudioOutputCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -541,11 +590,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -557,7 +604,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBarrierControlClusterAttributeListAttributeCallback
       implements ChipClusters.BarrierControlCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -566,11 +617,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -582,7 +631,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBasicClusterAttributeListAttributeCallback
       implements ChipClusters.BasicCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -591,11 +644,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -607,7 +658,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBinaryInputBasicClusterAttributeListAttributeCallback
       implements ChipClusters.BinaryInputBasicCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -616,11 +671,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -632,7 +685,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBindingClusterAttributeListAttributeCallback
       implements ChipClusters.BindingCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -641,11 +698,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -657,7 +712,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBooleanStateClusterAttributeListAttributeCallback
       implements ChipClusters.BooleanStateCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -666,11 +725,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -682,7 +739,12 @@ public class ClusterInfoMapping {
   public static class DelegatedBridgedActionsClusterActionListAttributeCallback
       implements ChipClusters.BridgedActionsCluster.ActionListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.BridgedActionsCluster.ActionListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -691,13 +753,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.BridgedActionsCluster.ActionListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.BridgedActionsCluster.ActionListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -709,7 +767,12 @@ public class ClusterInfoMapping {
   public static class DelegatedBridgedActionsClusterEndpointListAttributeCallback
       implements ChipClusters.BridgedActionsCluster.EndpointListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.BridgedActionsCluster.EndpointListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -719,13 +782,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.BridgedActionsCluster.EndpointListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.BridgedActionsCluster.EndpointListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -737,7 +796,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBridgedActionsClusterAttributeListAttributeCallback
       implements ChipClusters.BridgedActionsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -746,11 +809,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -762,7 +823,11 @@ public class ClusterInfoMapping {
   public static class DelegatedBridgedDeviceBasicClusterAttributeListAttributeCallback
       implements ChipClusters.BridgedDeviceBasicCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -771,11 +836,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -787,7 +850,11 @@ public class ClusterInfoMapping {
   public static class DelegatedChangeChannelResponseCallback
       implements ChipClusters.ChannelCluster.ChangeChannelResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("errorType", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -798,12 +865,11 @@ public class ClusterInfoMapping {
     public void onSuccess( // channelMatch: Struct ChannelInfo
         // Conversion from this type to Java is not properly implemented yet
         Integer errorType) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
+      CommandResponseView view = responseView.acquire();
       // channelMatch: Struct ChannelInfo
       // Conversion from this type to Java is not properly implemented yet
-      CommandResponseInfo errorTypeResponseValue = new CommandResponseInfo("errorType", "int");
-      responseValues.put(errorTypeResponseValue, errorType);
-      callback.onSuccess(responseValues);
+      view.add(errorType);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -815,7 +881,11 @@ public class ClusterInfoMapping {
   public static class DelegatedChannelClusterChannelListAttributeCallback
       implements ChipClusters.ChannelCluster.ChannelListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<ChipClusters.ChannelCluster.ChannelListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -824,13 +894,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.ChannelCluster.ChannelListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.ChannelCluster.ChannelListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -842,7 +908,11 @@ public class ClusterInfoMapping {
   public static class DelegatedChannelClusterAttributeListAttributeCallback
       implements ChipClusters.ChannelCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -851,11 +921,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -867,7 +935,11 @@ public class ClusterInfoMapping {
   public static class DelegatedColorControlClusterAttributeListAttributeCallback
       implements ChipClusters.ColorControlCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -876,11 +948,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -892,7 +962,12 @@ public class ClusterInfoMapping {
   public static class DelegatedLaunchResponseCallback
       implements ChipClusters.ContentLauncherCluster.LaunchResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("data", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -901,12 +976,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, String data) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo dataResponseValue = new CommandResponseInfo("data", "String");
-      responseValues.put(dataResponseValue, data);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(data);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -918,7 +991,11 @@ public class ClusterInfoMapping {
   public static class DelegatedContentLauncherClusterAcceptHeaderListAttributeCallback
       implements ChipClusters.ContentLauncherCluster.AcceptHeaderListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<String>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -927,12 +1004,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<String>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -944,7 +1018,11 @@ public class ClusterInfoMapping {
   public static class DelegatedContentLauncherClusterAttributeListAttributeCallback
       implements ChipClusters.ContentLauncherCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -953,11 +1031,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -969,7 +1045,12 @@ public class ClusterInfoMapping {
   public static class DelegatedDescriptorClusterDeviceListAttributeCallback
       implements ChipClusters.DescriptorCluster.DeviceListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.DescriptorCluster.DeviceListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -978,13 +1059,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.DescriptorCluster.DeviceListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.DescriptorCluster.DeviceListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -996,7 +1073,11 @@ public class ClusterInfoMapping {
   public static class DelegatedDescriptorClusterServerListAttributeCallback
       implements ChipClusters.DescriptorCluster.ServerListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1005,11 +1086,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1021,7 +1100,11 @@ public class ClusterInfoMapping {
   public static class DelegatedDescriptorClusterClientListAttributeCallback
       implements ChipClusters.DescriptorCluster.ClientListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1030,11 +1113,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1046,7 +1127,11 @@ public class ClusterInfoMapping {
   public static class DelegatedDescriptorClusterPartsListAttributeCallback
       implements ChipClusters.DescriptorCluster.PartsListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1055,12 +1140,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1072,7 +1154,11 @@ public class ClusterInfoMapping {
   public static class DelegatedDescriptorClusterAttributeListAttributeCallback
       implements ChipClusters.DescriptorCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1081,11 +1167,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1097,7 +1181,14 @@ public class ClusterInfoMapping {
   public static class DelegatedRetrieveLogsResponseCallback
       implements ChipClusters.DiagnosticLogsCluster.RetrieveLogsResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("content", "byte[]"),
+      new CommandResponseInfo("timeStamp", "long"),
+      new CommandResponseInfo("timeSinceBoot", "long")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1106,17 +1197,12 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, byte[] content, Long timeStamp, Long timeSinceBoot) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo contentResponseValue = new CommandResponseInfo("content", "byte[]");
-      responseValues.put(contentResponseValue, content);
-      CommandResponseInfo timeStampResponseValue = new CommandResponseInfo("timeStamp", "long");
-      responseValues.put(timeStampResponseValue, timeStamp);
-      CommandResponseInfo timeSinceBootResponseValue =
-          new CommandResponseInfo("timeSinceBoot", "long");
-      responseValues.put(timeSinceBootResponseValue, timeSinceBoot);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(content);
+      view.add(timeStamp);
+      view.add(timeSinceBoot);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1128,7 +1214,11 @@ public class ClusterInfoMapping {
   public static class DelegatedDiagnosticLogsClusterAttributeListAttributeCallback
       implements ChipClusters.DiagnosticLogsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1137,11 +1227,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1153,7 +1241,13 @@ public class ClusterInfoMapping {
   public static class DelegatedGetCredentialStatusResponseCallback
       implements ChipClusters.DoorLockCluster.GetCredentialStatusResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("credentialExists", "boolean"),
+      new CommandResponseInfo("userIndex", "int"),
+      new CommandResponseInfo("nextCredentialIndex", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1165,16 +1259,11 @@ public class ClusterInfoMapping {
         Boolean credentialExists,
         @Nullable Integer userIndex,
         @Nullable Integer nextCredentialIndex) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo credentialExistsResponseValue =
-          new CommandResponseInfo("credentialExists", "boolean");
-      responseValues.put(credentialExistsResponseValue, credentialExists);
-      CommandResponseInfo userIndexResponseValue = new CommandResponseInfo("userIndex", "int");
-      responseValues.put(userIndexResponseValue, userIndex);
-      CommandResponseInfo nextCredentialIndexResponseValue =
-          new CommandResponseInfo("nextCredentialIndex", "int");
-      responseValues.put(nextCredentialIndexResponseValue, nextCredentialIndex);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(credentialExists);
+      view.add(userIndex);
+      view.add(nextCredentialIndex);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1185,7 +1274,19 @@ public class ClusterInfoMapping {
 
   public static class DelegatedGetUserResponseCallback
       implements ChipClusters.DoorLockCluster.GetUserResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("userIndex", "int"),
+      new CommandResponseInfo("userName", "String"),
+      new CommandResponseInfo("userUniqueId", "long"),
+      new CommandResponseInfo("userStatus", "int"),
+      new CommandResponseInfo("userType", "int"),
+      new CommandResponseInfo("credentialRule", "int"),
+      new CommandResponseInfo("creatorFabricIndex", "int"),
+      new CommandResponseInfo("lastModifiedFabricIndex", "int"),
+      new CommandResponseInfo("nextUserIndex", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1205,33 +1306,19 @@ public class ClusterInfoMapping {
         @Nullable Integer creatorFabricIndex,
         @Nullable Integer lastModifiedFabricIndex,
         Integer nextUserIndex) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo userIndexResponseValue = new CommandResponseInfo("userIndex", "int");
-      responseValues.put(userIndexResponseValue, userIndex);
-      CommandResponseInfo userNameResponseValue = new CommandResponseInfo("userName", "String");
-      responseValues.put(userNameResponseValue, userName);
-      CommandResponseInfo userUniqueIdResponseValue =
-          new CommandResponseInfo("userUniqueId", "long");
-      responseValues.put(userUniqueIdResponseValue, userUniqueId);
-      CommandResponseInfo userStatusResponseValue = new CommandResponseInfo("userStatus", "int");
-      responseValues.put(userStatusResponseValue, userStatus);
-      CommandResponseInfo userTypeResponseValue = new CommandResponseInfo("userType", "int");
-      responseValues.put(userTypeResponseValue, userType);
-      CommandResponseInfo credentialRuleResponseValue =
-          new CommandResponseInfo("credentialRule", "int");
-      responseValues.put(credentialRuleResponseValue, credentialRule);
+      CommandResponseView view = responseView.acquire();
+      view.add(userIndex);
+      view.add(userName);
+      view.add(userUniqueId);
+      view.add(userStatus);
+      view.add(userType);
+      view.add(credentialRule);
       // credentials: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      CommandResponseInfo creatorFabricIndexResponseValue =
-          new CommandResponseInfo("creatorFabricIndex", "int");
-      responseValues.put(creatorFabricIndexResponseValue, creatorFabricIndex);
-      CommandResponseInfo lastModifiedFabricIndexResponseValue =
-          new CommandResponseInfo("lastModifiedFabricIndex", "int");
-      responseValues.put(lastModifiedFabricIndexResponseValue, lastModifiedFabricIndex);
-      CommandResponseInfo nextUserIndexResponseValue =
-          new CommandResponseInfo("nextUserIndex", "int");
-      responseValues.put(nextUserIndexResponseValue, nextUserIndex);
-      callback.onSuccess(responseValues);
+      view.add(creatorFabricIndex);
+      view.add(lastModifiedFabricIndex);
+      view.add(nextUserIndex);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1243,7 +1330,13 @@ public class ClusterInfoMapping {
   public static class DelegatedSetCredentialResponseCallback
       implements ChipClusters.DoorLockCluster.SetCredentialResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("userIndex", "int"),
+      new CommandResponseInfo("nextCredentialIndex", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1253,15 +1346,11 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         Integer status, @Nullable Integer userIndex, @Nullable Integer nextCredentialIndex) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo userIndexResponseValue = new CommandResponseInfo("userIndex", "int");
-      responseValues.put(userIndexResponseValue, userIndex);
-      CommandResponseInfo nextCredentialIndexResponseValue =
-          new CommandResponseInfo("nextCredentialIndex", "int");
-      responseValues.put(nextCredentialIndexResponseValue, nextCredentialIndex);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(userIndex);
+      view.add(nextCredentialIndex);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1273,7 +1362,11 @@ public class ClusterInfoMapping {
   public static class DelegatedDoorLockClusterAttributeListAttributeCallback
       implements ChipClusters.DoorLockCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1282,11 +1375,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1298,7 +1389,11 @@ public class ClusterInfoMapping {
   public static class DelegatedElectricalMeasurementClusterAttributeListAttributeCallback
       implements ChipClusters.ElectricalMeasurementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1307,11 +1402,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1323,7 +1416,11 @@ public class ClusterInfoMapping {
   public static class DelegatedEthernetNetworkDiagnosticsClusterAttributeListAttributeCallback
       implements ChipClusters.EthernetNetworkDiagnosticsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1332,11 +1429,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1348,7 +1443,12 @@ public class ClusterInfoMapping {
   public static class DelegatedFixedLabelClusterLabelListAttributeCallback
       implements ChipClusters.FixedLabelCluster.LabelListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.FixedLabelCluster.LabelListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1357,13 +1457,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.FixedLabelCluster.LabelListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.FixedLabelCluster.LabelListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1375,7 +1471,11 @@ public class ClusterInfoMapping {
   public static class DelegatedFixedLabelClusterAttributeListAttributeCallback
       implements ChipClusters.FixedLabelCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1384,11 +1484,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1400,7 +1498,11 @@ public class ClusterInfoMapping {
   public static class DelegatedFlowMeasurementClusterAttributeListAttributeCallback
       implements ChipClusters.FlowMeasurementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1409,11 +1511,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1425,7 +1525,12 @@ public class ClusterInfoMapping {
   public static class DelegatedArmFailSafeResponseCallback
       implements ChipClusters.GeneralCommissioningCluster.ArmFailSafeResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("errorCode", "int"),
+      new CommandResponseInfo("debugText", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1434,12 +1539,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer errorCode, String debugText) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo errorCodeResponseValue = new CommandResponseInfo("errorCode", "int");
-      responseValues.put(errorCodeResponseValue, errorCode);
-      CommandResponseInfo debugTextResponseValue = new CommandResponseInfo("debugText", "String");
-      responseValues.put(debugTextResponseValue, debugText);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(errorCode);
+      view.add(debugText);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1451,7 +1554,12 @@ public class ClusterInfoMapping {
   public static class DelegatedCommissioningCompleteResponseCallback
       implements ChipClusters.GeneralCommissioningCluster.CommissioningCompleteResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("errorCode", "int"),
+      new CommandResponseInfo("debugText", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1460,12 +1568,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer errorCode, String debugText) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo errorCodeResponseValue = new CommandResponseInfo("errorCode", "int");
-      responseValues.put(errorCodeResponseValue, errorCode);
-      CommandResponseInfo debugTextResponseValue = new CommandResponseInfo("debugText", "String");
-      responseValues.put(debugTextResponseValue, debugText);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(errorCode);
+      view.add(debugText);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1477,7 +1583,12 @@ public class ClusterInfoMapping {
   public static class DelegatedSetRegulatoryConfigResponseCallback
       implements ChipClusters.GeneralCommissioningCluster.SetRegulatoryConfigResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("errorCode", "int"),
+      new CommandResponseInfo("debugText", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1486,12 +1597,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer errorCode, String debugText) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo errorCodeResponseValue = new CommandResponseInfo("errorCode", "int");
-      responseValues.put(errorCodeResponseValue, errorCode);
-      CommandResponseInfo debugTextResponseValue = new CommandResponseInfo("debugText", "String");
-      responseValues.put(debugTextResponseValue, debugText);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(errorCode);
+      view.add(debugText);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1505,7 +1614,13 @@ public class ClusterInfoMapping {
       implements ChipClusters.GeneralCommissioningCluster
               .BasicCommissioningInfoListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList",
+          "List<ChipClusters.GeneralCommissioningCluster.BasicCommissioningInfoListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1516,14 +1631,9 @@ public class ClusterInfoMapping {
     public void onSuccess(
         List<ChipClusters.GeneralCommissioningCluster.BasicCommissioningInfoListAttribute>
             valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.GeneralCommissioningCluster.BasicCommissioningInfoListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1535,7 +1645,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGeneralCommissioningClusterAttributeListAttributeCallback
       implements ChipClusters.GeneralCommissioningCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1544,11 +1658,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1560,7 +1672,12 @@ public class ClusterInfoMapping {
   public static class DelegatedGeneralDiagnosticsClusterNetworkInterfacesAttributeCallback
       implements ChipClusters.GeneralDiagnosticsCluster.NetworkInterfacesAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.GeneralDiagnosticsCluster.NetworkInterfacesAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1570,14 +1687,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.GeneralDiagnosticsCluster.NetworkInterfacesAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.GeneralDiagnosticsCluster.NetworkInterfacesAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1589,7 +1701,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGeneralDiagnosticsClusterActiveHardwareFaultsAttributeCallback
       implements ChipClusters.GeneralDiagnosticsCluster.ActiveHardwareFaultsAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1598,12 +1714,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1615,7 +1728,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGeneralDiagnosticsClusterActiveRadioFaultsAttributeCallback
       implements ChipClusters.GeneralDiagnosticsCluster.ActiveRadioFaultsAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1624,12 +1741,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1641,7 +1755,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGeneralDiagnosticsClusterActiveNetworkFaultsAttributeCallback
       implements ChipClusters.GeneralDiagnosticsCluster.ActiveNetworkFaultsAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1650,12 +1768,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1667,7 +1782,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGeneralDiagnosticsClusterAttributeListAttributeCallback
       implements ChipClusters.GeneralDiagnosticsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1676,11 +1795,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1692,7 +1809,9 @@ public class ClusterInfoMapping {
   public static class DelegatedKeySetReadAllIndicesResponseCallback
       implements ChipClusters.GroupKeyManagementCluster.KeySetReadAllIndicesResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {};
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1703,10 +1822,10 @@ public class ClusterInfoMapping {
     public void onSuccess( // groupKeySetIDs: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
+      CommandResponseView view = responseView.acquire();
       // groupKeySetIDs: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1718,7 +1837,9 @@ public class ClusterInfoMapping {
   public static class DelegatedKeySetReadResponseCallback
       implements ChipClusters.GroupKeyManagementCluster.KeySetReadResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {};
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1729,10 +1850,10 @@ public class ClusterInfoMapping {
     public void onSuccess( // groupKeySet: Struct GroupKeySet
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
+      CommandResponseView view = responseView.acquire();
       // groupKeySet: Struct GroupKeySet
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1744,7 +1865,12 @@ public class ClusterInfoMapping {
   public static class DelegatedGroupKeyManagementClusterGroupKeyMapAttributeCallback
       implements ChipClusters.GroupKeyManagementCluster.GroupKeyMapAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.GroupKeyManagementCluster.GroupKeyMapAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1754,13 +1880,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.GroupKeyManagementCluster.GroupKeyMapAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.GroupKeyManagementCluster.GroupKeyMapAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1772,7 +1894,12 @@ public class ClusterInfoMapping {
   public static class DelegatedGroupKeyManagementClusterGroupTableAttributeCallback
       implements ChipClusters.GroupKeyManagementCluster.GroupTableAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.GroupKeyManagementCluster.GroupTableAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1782,13 +1909,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.GroupKeyManagementCluster.GroupTableAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.GroupKeyManagementCluster.GroupTableAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1800,7 +1923,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGroupKeyManagementClusterAttributeListAttributeCallback
       implements ChipClusters.GroupKeyManagementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1809,11 +1936,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1824,7 +1949,12 @@ public class ClusterInfoMapping {
 
   public static class DelegatedAddGroupResponseCallback
       implements ChipClusters.GroupsCluster.AddGroupResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1833,12 +1963,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1850,7 +1978,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGetGroupMembershipResponseCallback
       implements ChipClusters.GroupsCluster.GetGroupMembershipResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("capacity", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1862,12 +1994,11 @@ public class ClusterInfoMapping {
         // groupList: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo capacityResponseValue = new CommandResponseInfo("capacity", "int");
-      responseValues.put(capacityResponseValue, capacity);
+      CommandResponseView view = responseView.acquire();
+      view.add(capacity);
       // groupList: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1878,7 +2009,12 @@ public class ClusterInfoMapping {
 
   public static class DelegatedRemoveGroupResponseCallback
       implements ChipClusters.GroupsCluster.RemoveGroupResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1887,12 +2023,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1903,7 +2037,13 @@ public class ClusterInfoMapping {
 
   public static class DelegatedViewGroupResponseCallback
       implements ChipClusters.GroupsCluster.ViewGroupResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int"),
+      new CommandResponseInfo("groupName", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1912,14 +2052,11 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId, String groupName) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      CommandResponseInfo groupNameResponseValue = new CommandResponseInfo("groupName", "String");
-      responseValues.put(groupNameResponseValue, groupName);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.add(groupName);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1931,7 +2068,11 @@ public class ClusterInfoMapping {
   public static class DelegatedGroupsClusterAttributeListAttributeCallback
       implements ChipClusters.GroupsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1940,11 +2081,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1956,7 +2095,11 @@ public class ClusterInfoMapping {
   public static class DelegatedIdentifyQueryResponseCallback
       implements ChipClusters.IdentifyCluster.IdentifyQueryResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("timeout", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1965,10 +2108,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer timeout) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo timeoutResponseValue = new CommandResponseInfo("timeout", "int");
-      responseValues.put(timeoutResponseValue, timeout);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(timeout);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -1980,7 +2122,11 @@ public class ClusterInfoMapping {
   public static class DelegatedIdentifyClusterAttributeListAttributeCallback
       implements ChipClusters.IdentifyCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -1989,11 +2135,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2005,7 +2149,11 @@ public class ClusterInfoMapping {
   public static class DelegatedIlluminanceMeasurementClusterAttributeListAttributeCallback
       implements ChipClusters.IlluminanceMeasurementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2014,11 +2162,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2029,7 +2175,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedSendKeyResponseCallback
       implements ChipClusters.KeypadInputCluster.SendKeyResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2038,10 +2188,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2053,7 +2202,11 @@ public class ClusterInfoMapping {
   public static class DelegatedKeypadInputClusterAttributeListAttributeCallback
       implements ChipClusters.KeypadInputCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2062,11 +2215,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2078,7 +2229,11 @@ public class ClusterInfoMapping {
   public static class DelegatedLevelControlClusterAttributeListAttributeCallback
       implements ChipClusters.LevelControlCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2087,11 +2242,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2103,7 +2256,11 @@ public class ClusterInfoMapping {
   public static class DelegatedLocalizationConfigurationClusterSupportedLocalesAttributeCallback
       implements ChipClusters.LocalizationConfigurationCluster.SupportedLocalesAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<String>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2112,12 +2269,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<String>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2129,7 +2283,11 @@ public class ClusterInfoMapping {
   public static class DelegatedLowPowerClusterAttributeListAttributeCallback
       implements ChipClusters.LowPowerCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2138,11 +2296,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2154,7 +2310,12 @@ public class ClusterInfoMapping {
   public static class DelegatedMediaInputClusterMediaInputListAttributeCallback
       implements ChipClusters.MediaInputCluster.MediaInputListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.MediaInputCluster.MediaInputListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2163,13 +2324,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.MediaInputCluster.MediaInputListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.MediaInputCluster.MediaInputListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2181,7 +2338,11 @@ public class ClusterInfoMapping {
   public static class DelegatedMediaInputClusterAttributeListAttributeCallback
       implements ChipClusters.MediaInputCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2190,11 +2351,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2206,7 +2365,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPlaybackResponseCallback
       implements ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2215,10 +2378,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2230,7 +2392,11 @@ public class ClusterInfoMapping {
   public static class DelegatedMediaPlaybackClusterAttributeListAttributeCallback
       implements ChipClusters.MediaPlaybackCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2239,11 +2405,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2255,7 +2419,12 @@ public class ClusterInfoMapping {
   public static class DelegatedModeSelectClusterSupportedModesAttributeCallback
       implements ChipClusters.ModeSelectCluster.SupportedModesAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.ModeSelectCluster.SupportedModesAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2264,13 +2433,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.ModeSelectCluster.SupportedModesAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.ModeSelectCluster.SupportedModesAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2282,7 +2447,11 @@ public class ClusterInfoMapping {
   public static class DelegatedModeSelectClusterAttributeListAttributeCallback
       implements ChipClusters.ModeSelectCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2291,11 +2460,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2307,7 +2474,13 @@ public class ClusterInfoMapping {
   public static class DelegatedConnectNetworkResponseCallback
       implements ChipClusters.NetworkCommissioningCluster.ConnectNetworkResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("NetworkingStatus", "int"),
+      new CommandResponseInfo("DebugText", "String"),
+      new CommandResponseInfo("ErrorValue", "long")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2316,15 +2489,11 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer NetworkingStatus, String DebugText, Long ErrorValue) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo NetworkingStatusResponseValue =
-          new CommandResponseInfo("NetworkingStatus", "int");
-      responseValues.put(NetworkingStatusResponseValue, NetworkingStatus);
-      CommandResponseInfo DebugTextResponseValue = new CommandResponseInfo("DebugText", "String");
-      responseValues.put(DebugTextResponseValue, DebugText);
-      CommandResponseInfo ErrorValueResponseValue = new CommandResponseInfo("ErrorValue", "long");
-      responseValues.put(ErrorValueResponseValue, ErrorValue);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(NetworkingStatus);
+      view.add(DebugText);
+      view.add(ErrorValue);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2336,7 +2505,12 @@ public class ClusterInfoMapping {
   public static class DelegatedNetworkConfigResponseCallback
       implements ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("NetworkingStatus", "int"),
+      new CommandResponseInfo("DebugText", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2345,13 +2519,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer NetworkingStatus, String DebugText) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo NetworkingStatusResponseValue =
-          new CommandResponseInfo("NetworkingStatus", "int");
-      responseValues.put(NetworkingStatusResponseValue, NetworkingStatus);
-      CommandResponseInfo DebugTextResponseValue = new CommandResponseInfo("DebugText", "String");
-      responseValues.put(DebugTextResponseValue, DebugText);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(NetworkingStatus);
+      view.add(DebugText);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2363,7 +2534,12 @@ public class ClusterInfoMapping {
   public static class DelegatedScanNetworksResponseCallback
       implements ChipClusters.NetworkCommissioningCluster.ScanNetworksResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("NetworkingStatus", "int"),
+      new CommandResponseInfo("DebugText", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2377,17 +2553,14 @@ public class ClusterInfoMapping {
         // ThreadScanResults: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo NetworkingStatusResponseValue =
-          new CommandResponseInfo("NetworkingStatus", "int");
-      responseValues.put(NetworkingStatusResponseValue, NetworkingStatus);
-      CommandResponseInfo DebugTextResponseValue = new CommandResponseInfo("DebugText", "String");
-      responseValues.put(DebugTextResponseValue, DebugText);
+      CommandResponseView view = responseView.acquire();
+      view.add(NetworkingStatus);
+      view.add(DebugText);
       // WiFiScanResults: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
       // ThreadScanResults: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2399,7 +2572,12 @@ public class ClusterInfoMapping {
   public static class DelegatedNetworkCommissioningClusterNetworksAttributeCallback
       implements ChipClusters.NetworkCommissioningCluster.NetworksAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.NetworkCommissioningCluster.NetworksAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2409,13 +2587,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.NetworkCommissioningCluster.NetworksAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.NetworkCommissioningCluster.NetworksAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2427,7 +2601,12 @@ public class ClusterInfoMapping {
   public static class DelegatedApplyUpdateResponseCallback
       implements ChipClusters.OtaSoftwareUpdateProviderCluster.ApplyUpdateResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("action", "int"),
+      new CommandResponseInfo("delayedActionTime", "long")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2436,13 +2615,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer action, Long delayedActionTime) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo actionResponseValue = new CommandResponseInfo("action", "int");
-      responseValues.put(actionResponseValue, action);
-      CommandResponseInfo delayedActionTimeResponseValue =
-          new CommandResponseInfo("delayedActionTime", "long");
-      responseValues.put(delayedActionTimeResponseValue, delayedActionTime);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(action);
+      view.add(delayedActionTime);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2454,7 +2630,18 @@ public class ClusterInfoMapping {
   public static class DelegatedQueryImageResponseCallback
       implements ChipClusters.OtaSoftwareUpdateProviderCluster.QueryImageResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("delayedActionTime", "long"),
+      new CommandResponseInfo("imageURI", "String"),
+      new CommandResponseInfo("softwareVersion", "long"),
+      new CommandResponseInfo("softwareVersionString", "String"),
+      new CommandResponseInfo("updateToken", "byte[]"),
+      new CommandResponseInfo("userConsentNeeded", "boolean"),
+      new CommandResponseInfo("metadataForRequestor", "byte[]")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2471,30 +2658,16 @@ public class ClusterInfoMapping {
         Optional<byte[]> updateToken,
         Optional<Boolean> userConsentNeeded,
         Optional<byte[]> metadataForRequestor) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo delayedActionTimeResponseValue =
-          new CommandResponseInfo("delayedActionTime", "long");
-      responseValues.put(delayedActionTimeResponseValue, delayedActionTime);
-      CommandResponseInfo imageURIResponseValue = new CommandResponseInfo("imageURI", "String");
-      responseValues.put(imageURIResponseValue, imageURI);
-      CommandResponseInfo softwareVersionResponseValue =
-          new CommandResponseInfo("softwareVersion", "long");
-      responseValues.put(softwareVersionResponseValue, softwareVersion);
-      CommandResponseInfo softwareVersionStringResponseValue =
-          new CommandResponseInfo("softwareVersionString", "String");
-      responseValues.put(softwareVersionStringResponseValue, softwareVersionString);
-      CommandResponseInfo updateTokenResponseValue =
-          new CommandResponseInfo("updateToken", "byte[]");
-      responseValues.put(updateTokenResponseValue, updateToken);
-      CommandResponseInfo userConsentNeededResponseValue =
-          new CommandResponseInfo("userConsentNeeded", "boolean");
-      responseValues.put(userConsentNeededResponseValue, userConsentNeeded);
-      CommandResponseInfo metadataForRequestorResponseValue =
-          new CommandResponseInfo("metadataForRequestor", "byte[]");
-      responseValues.put(metadataForRequestorResponseValue, metadataForRequestor);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(delayedActionTime);
+      view.add(imageURI);
+      view.add(softwareVersion);
+      view.add(softwareVersionString);
+      view.add(updateToken);
+      view.add(userConsentNeeded);
+      view.add(metadataForRequestor);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2506,7 +2679,11 @@ public class ClusterInfoMapping {
   public static class DelegatedOtaSoftwareUpdateProviderClusterAttributeListAttributeCallback
       implements ChipClusters.OtaSoftwareUpdateProviderCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2515,11 +2692,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2532,7 +2707,13 @@ public class ClusterInfoMapping {
       implements ChipClusters.OtaSoftwareUpdateRequestorCluster
               .DefaultOtaProvidersAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList",
+          "List<ChipClusters.OtaSoftwareUpdateRequestorCluster.DefaultOtaProvidersAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2543,14 +2724,9 @@ public class ClusterInfoMapping {
     public void onSuccess(
         List<ChipClusters.OtaSoftwareUpdateRequestorCluster.DefaultOtaProvidersAttribute>
             valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.OtaSoftwareUpdateRequestorCluster.DefaultOtaProvidersAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2562,7 +2738,11 @@ public class ClusterInfoMapping {
   public static class DelegatedOtaSoftwareUpdateRequestorClusterAttributeListAttributeCallback
       implements ChipClusters.OtaSoftwareUpdateRequestorCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2571,11 +2751,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2587,7 +2765,11 @@ public class ClusterInfoMapping {
   public static class DelegatedOccupancySensingClusterAttributeListAttributeCallback
       implements ChipClusters.OccupancySensingCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2596,11 +2778,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2612,7 +2792,11 @@ public class ClusterInfoMapping {
   public static class DelegatedOnOffClusterAttributeListAttributeCallback
       implements ChipClusters.OnOffCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2621,11 +2805,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2637,7 +2819,11 @@ public class ClusterInfoMapping {
   public static class DelegatedOnOffSwitchConfigurationClusterAttributeListAttributeCallback
       implements ChipClusters.OnOffSwitchConfigurationCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2646,11 +2832,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2662,7 +2846,12 @@ public class ClusterInfoMapping {
   public static class DelegatedAttestationResponseCallback
       implements ChipClusters.OperationalCredentialsCluster.AttestationResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("AttestationElements", "byte[]"),
+      new CommandResponseInfo("Signature", "byte[]")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2671,13 +2860,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(byte[] AttestationElements, byte[] Signature) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo AttestationElementsResponseValue =
-          new CommandResponseInfo("AttestationElements", "byte[]");
-      responseValues.put(AttestationElementsResponseValue, AttestationElements);
-      CommandResponseInfo SignatureResponseValue = new CommandResponseInfo("Signature", "byte[]");
-      responseValues.put(SignatureResponseValue, Signature);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(AttestationElements);
+      view.add(Signature);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2689,7 +2875,11 @@ public class ClusterInfoMapping {
   public static class DelegatedCertificateChainResponseCallback
       implements ChipClusters.OperationalCredentialsCluster.CertificateChainResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("Certificate", "byte[]")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2698,11 +2888,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(byte[] Certificate) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo CertificateResponseValue =
-          new CommandResponseInfo("Certificate", "byte[]");
-      responseValues.put(CertificateResponseValue, Certificate);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(Certificate);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2714,7 +2902,13 @@ public class ClusterInfoMapping {
   public static class DelegatedNOCResponseCallback
       implements ChipClusters.OperationalCredentialsCluster.NOCResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("StatusCode", "int"),
+      new CommandResponseInfo("FabricIndex", "int"),
+      new CommandResponseInfo("DebugText", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2723,14 +2917,11 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer StatusCode, Integer FabricIndex, String DebugText) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo StatusCodeResponseValue = new CommandResponseInfo("StatusCode", "int");
-      responseValues.put(StatusCodeResponseValue, StatusCode);
-      CommandResponseInfo FabricIndexResponseValue = new CommandResponseInfo("FabricIndex", "int");
-      responseValues.put(FabricIndexResponseValue, FabricIndex);
-      CommandResponseInfo DebugTextResponseValue = new CommandResponseInfo("DebugText", "String");
-      responseValues.put(DebugTextResponseValue, DebugText);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(StatusCode);
+      view.add(FabricIndex);
+      view.add(DebugText);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2742,7 +2933,12 @@ public class ClusterInfoMapping {
   public static class DelegatedOpCSRResponseCallback
       implements ChipClusters.OperationalCredentialsCluster.OpCSRResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("NOCSRElements", "byte[]"),
+      new CommandResponseInfo("AttestationSignature", "byte[]")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2751,14 +2947,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(byte[] NOCSRElements, byte[] AttestationSignature) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo NOCSRElementsResponseValue =
-          new CommandResponseInfo("NOCSRElements", "byte[]");
-      responseValues.put(NOCSRElementsResponseValue, NOCSRElements);
-      CommandResponseInfo AttestationSignatureResponseValue =
-          new CommandResponseInfo("AttestationSignature", "byte[]");
-      responseValues.put(AttestationSignatureResponseValue, AttestationSignature);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(NOCSRElements);
+      view.add(AttestationSignature);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2770,7 +2962,12 @@ public class ClusterInfoMapping {
   public static class DelegatedOperationalCredentialsClusterFabricsListAttributeCallback
       implements ChipClusters.OperationalCredentialsCluster.FabricsListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.OperationalCredentialsCluster.FabricsListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2780,13 +2977,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.OperationalCredentialsCluster.FabricsListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.OperationalCredentialsCluster.FabricsListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2799,7 +2992,11 @@ public class ClusterInfoMapping {
       implements ChipClusters.OperationalCredentialsCluster
               .TrustedRootCertificatesAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<byte[]>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2808,12 +3005,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<byte[]>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2825,7 +3019,11 @@ public class ClusterInfoMapping {
   public static class DelegatedOperationalCredentialsClusterAttributeListAttributeCallback
       implements ChipClusters.OperationalCredentialsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2834,11 +3032,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2850,7 +3046,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPowerSourceClusterActiveBatteryFaultsAttributeCallback
       implements ChipClusters.PowerSourceCluster.ActiveBatteryFaultsAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2859,12 +3059,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2876,7 +3073,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPowerSourceClusterAttributeListAttributeCallback
       implements ChipClusters.PowerSourceCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2885,11 +3086,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2901,7 +3100,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPowerSourceConfigurationClusterSourcesAttributeCallback
       implements ChipClusters.PowerSourceConfigurationCluster.SourcesAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2910,12 +3113,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2927,7 +3127,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPowerSourceConfigurationClusterAttributeListAttributeCallback
       implements ChipClusters.PowerSourceConfigurationCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2936,11 +3140,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2952,7 +3154,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPressureMeasurementClusterAttributeListAttributeCallback
       implements ChipClusters.PressureMeasurementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2961,11 +3167,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -2977,7 +3181,11 @@ public class ClusterInfoMapping {
   public static class DelegatedPumpConfigurationAndControlClusterAttributeListAttributeCallback
       implements ChipClusters.PumpConfigurationAndControlCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -2986,11 +3194,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3002,7 +3208,11 @@ public class ClusterInfoMapping {
   public static class DelegatedRelativeHumidityMeasurementClusterAttributeListAttributeCallback
       implements ChipClusters.RelativeHumidityMeasurementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3011,11 +3221,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3026,7 +3234,13 @@ public class ClusterInfoMapping {
 
   public static class DelegatedAddSceneResponseCallback
       implements ChipClusters.ScenesCluster.AddSceneResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int"),
+      new CommandResponseInfo("sceneId", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3035,14 +3249,11 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId, Integer sceneId) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      CommandResponseInfo sceneIdResponseValue = new CommandResponseInfo("sceneId", "int");
-      responseValues.put(sceneIdResponseValue, sceneId);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.add(sceneId);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3054,7 +3265,14 @@ public class ClusterInfoMapping {
   public static class DelegatedGetSceneMembershipResponseCallback
       implements ChipClusters.ScenesCluster.GetSceneMembershipResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("capacity", "int"),
+      new CommandResponseInfo("groupId", "int"),
+      new CommandResponseInfo("sceneCount", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3066,18 +3284,14 @@ public class ClusterInfoMapping {
         // sceneList: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo capacityResponseValue = new CommandResponseInfo("capacity", "int");
-      responseValues.put(capacityResponseValue, capacity);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      CommandResponseInfo sceneCountResponseValue = new CommandResponseInfo("sceneCount", "int");
-      responseValues.put(sceneCountResponseValue, sceneCount);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(capacity);
+      view.add(groupId);
+      view.add(sceneCount);
       // sceneList: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3089,7 +3303,12 @@ public class ClusterInfoMapping {
   public static class DelegatedRemoveAllScenesResponseCallback
       implements ChipClusters.ScenesCluster.RemoveAllScenesResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3098,12 +3317,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3114,7 +3331,13 @@ public class ClusterInfoMapping {
 
   public static class DelegatedRemoveSceneResponseCallback
       implements ChipClusters.ScenesCluster.RemoveSceneResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int"),
+      new CommandResponseInfo("sceneId", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3123,14 +3346,11 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId, Integer sceneId) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      CommandResponseInfo sceneIdResponseValue = new CommandResponseInfo("sceneId", "int");
-      responseValues.put(sceneIdResponseValue, sceneId);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.add(sceneId);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3141,7 +3361,13 @@ public class ClusterInfoMapping {
 
   public static class DelegatedStoreSceneResponseCallback
       implements ChipClusters.ScenesCluster.StoreSceneResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int"),
+      new CommandResponseInfo("sceneId", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3150,14 +3376,11 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, Integer groupId, Integer sceneId) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      CommandResponseInfo sceneIdResponseValue = new CommandResponseInfo("sceneId", "int");
-      responseValues.put(sceneIdResponseValue, sceneId);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.add(sceneId);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3168,7 +3391,15 @@ public class ClusterInfoMapping {
 
   public static class DelegatedViewSceneResponseCallback
       implements ChipClusters.ScenesCluster.ViewSceneResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("groupId", "int"),
+      new CommandResponseInfo("sceneId", "int"),
+      new CommandResponseInfo("transitionTime", "int"),
+      new CommandResponseInfo("sceneName", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3181,21 +3412,15 @@ public class ClusterInfoMapping {
         // extensionFieldSets: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo groupIdResponseValue = new CommandResponseInfo("groupId", "int");
-      responseValues.put(groupIdResponseValue, groupId);
-      CommandResponseInfo sceneIdResponseValue = new CommandResponseInfo("sceneId", "int");
-      responseValues.put(sceneIdResponseValue, sceneId);
-      CommandResponseInfo transitionTimeResponseValue =
-          new CommandResponseInfo("transitionTime", "int");
-      responseValues.put(transitionTimeResponseValue, transitionTime);
-      CommandResponseInfo sceneNameResponseValue = new CommandResponseInfo("sceneName", "String");
-      responseValues.put(sceneNameResponseValue, sceneName);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(groupId);
+      view.add(sceneId);
+      view.add(transitionTime);
+      view.add(sceneName);
       // extensionFieldSets: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3207,7 +3432,11 @@ public class ClusterInfoMapping {
   public static class DelegatedScenesClusterAttributeListAttributeCallback
       implements ChipClusters.ScenesCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3216,11 +3445,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3232,7 +3459,12 @@ public class ClusterInfoMapping {
   public static class DelegatedSoftwareDiagnosticsClusterThreadMetricsAttributeCallback
       implements ChipClusters.SoftwareDiagnosticsCluster.ThreadMetricsAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.SoftwareDiagnosticsCluster.ThreadMetricsAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3242,13 +3474,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.SoftwareDiagnosticsCluster.ThreadMetricsAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.SoftwareDiagnosticsCluster.ThreadMetricsAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3260,7 +3488,11 @@ public class ClusterInfoMapping {
   public static class DelegatedSoftwareDiagnosticsClusterAttributeListAttributeCallback
       implements ChipClusters.SoftwareDiagnosticsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3269,11 +3501,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3285,7 +3515,11 @@ public class ClusterInfoMapping {
   public static class DelegatedSwitchClusterAttributeListAttributeCallback
       implements ChipClusters.SwitchCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3294,11 +3528,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3310,7 +3542,12 @@ public class ClusterInfoMapping {
   public static class DelegatedNavigateTargetResponseCallback
       implements ChipClusters.TargetNavigatorCluster.NavigateTargetResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("status", "int"),
+      new CommandResponseInfo("data", "String")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3319,12 +3556,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer status, String data) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo statusResponseValue = new CommandResponseInfo("status", "int");
-      responseValues.put(statusResponseValue, status);
-      CommandResponseInfo dataResponseValue = new CommandResponseInfo("data", "String");
-      responseValues.put(dataResponseValue, data);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(status);
+      view.add(data);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3336,7 +3571,12 @@ public class ClusterInfoMapping {
   public static class DelegatedTargetNavigatorClusterTargetNavigatorListAttributeCallback
       implements ChipClusters.TargetNavigatorCluster.TargetNavigatorListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.TargetNavigatorCluster.TargetNavigatorListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3346,14 +3586,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.TargetNavigatorCluster.TargetNavigatorListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.TargetNavigatorCluster.TargetNavigatorListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3365,7 +3600,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTargetNavigatorClusterAttributeListAttributeCallback
       implements ChipClusters.TargetNavigatorCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3374,11 +3613,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3390,7 +3627,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTemperatureMeasurementClusterAttributeListAttributeCallback
       implements ChipClusters.TemperatureMeasurementCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3399,11 +3640,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3414,7 +3653,11 @@ public class ClusterInfoMapping {
 
   public static class DelegatedBooleanResponseCallback
       implements ChipClusters.TestClusterCluster.BooleanResponseCallback, DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "boolean")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3423,10 +3666,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Boolean value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo valueResponseValue = new CommandResponseInfo("value", "boolean");
-      responseValues.put(valueResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3438,7 +3680,9 @@ public class ClusterInfoMapping {
   public static class DelegatedSimpleStructResponseCallback
       implements ChipClusters.TestClusterCluster.SimpleStructResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {};
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3449,10 +3693,10 @@ public class ClusterInfoMapping {
     public void onSuccess( // arg1: Struct SimpleStruct
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
+      CommandResponseView view = responseView.acquire();
       // arg1: Struct SimpleStruct
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3464,7 +3708,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestAddArgumentsResponseCallback
       implements ChipClusters.TestClusterCluster.TestAddArgumentsResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("returnValue", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3473,10 +3721,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer returnValue) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo returnValueResponseValue = new CommandResponseInfo("returnValue", "int");
-      responseValues.put(returnValueResponseValue, returnValue);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(returnValue);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3488,7 +3735,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestEmitTestEventResponseCallback
       implements ChipClusters.TestClusterCluster.TestEmitTestEventResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("value", "long")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3497,10 +3748,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Long value) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo valueResponseValue = new CommandResponseInfo("value", "long");
-      responseValues.put(valueResponseValue, value);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(value);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3512,7 +3762,12 @@ public class ClusterInfoMapping {
   public static class DelegatedTestEnumsResponseCallback
       implements ChipClusters.TestClusterCluster.TestEnumsResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("arg1", "int"),
+      new CommandResponseInfo("arg2", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3521,12 +3776,10 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer arg1, Integer arg2) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo arg1ResponseValue = new CommandResponseInfo("arg1", "int");
-      responseValues.put(arg1ResponseValue, arg1);
-      CommandResponseInfo arg2ResponseValue = new CommandResponseInfo("arg2", "int");
-      responseValues.put(arg2ResponseValue, arg2);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(arg1);
+      view.add(arg2);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3538,7 +3791,9 @@ public class ClusterInfoMapping {
   public static class DelegatedTestListInt8UReverseResponseCallback
       implements ChipClusters.TestClusterCluster.TestListInt8UReverseResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {};
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3549,10 +3804,10 @@ public class ClusterInfoMapping {
     public void onSuccess( // arg1: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
+      CommandResponseView view = responseView.acquire();
       // arg1: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3564,7 +3819,14 @@ public class ClusterInfoMapping {
   public static class DelegatedTestNullableOptionalResponseCallback
       implements ChipClusters.TestClusterCluster.TestNullableOptionalResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("wasPresent", "boolean"),
+      new CommandResponseInfo("wasNull", "boolean"),
+      new CommandResponseInfo("value", "int"),
+      new CommandResponseInfo("originalValue", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3577,18 +3839,12 @@ public class ClusterInfoMapping {
         Optional<Boolean> wasNull,
         Optional<Integer> value,
         Optional<Integer> originalValue) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo wasPresentResponseValue =
-          new CommandResponseInfo("wasPresent", "boolean");
-      responseValues.put(wasPresentResponseValue, wasPresent);
-      CommandResponseInfo wasNullResponseValue = new CommandResponseInfo("wasNull", "boolean");
-      responseValues.put(wasNullResponseValue, wasNull);
-      CommandResponseInfo valueResponseValue = new CommandResponseInfo("value", "int");
-      responseValues.put(valueResponseValue, value);
-      CommandResponseInfo originalValueResponseValue =
-          new CommandResponseInfo("originalValue", "int");
-      responseValues.put(originalValueResponseValue, originalValue);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(wasPresent);
+      view.add(wasNull);
+      view.add(value);
+      view.add(originalValue);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3600,7 +3856,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestSpecificResponseCallback
       implements ChipClusters.TestClusterCluster.TestSpecificResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("returnValue", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3609,10 +3869,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(Integer returnValue) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo returnValueResponseValue = new CommandResponseInfo("returnValue", "int");
-      responseValues.put(returnValueResponseValue, returnValue);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(returnValue);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3624,7 +3883,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestClusterClusterListInt8uAttributeCallback
       implements ChipClusters.TestClusterCluster.ListInt8uAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3633,12 +3896,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3650,7 +3910,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestClusterClusterListOctetStringAttributeCallback
       implements ChipClusters.TestClusterCluster.ListOctetStringAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<byte[]>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3659,12 +3923,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<byte[]>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3676,7 +3937,12 @@ public class ClusterInfoMapping {
   public static class DelegatedTestClusterClusterListStructOctetStringAttributeCallback
       implements ChipClusters.TestClusterCluster.ListStructOctetStringAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.TestClusterCluster.ListStructOctetStringAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3686,13 +3952,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.TestClusterCluster.ListStructOctetStringAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.TestClusterCluster.ListStructOctetStringAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3704,7 +3966,13 @@ public class ClusterInfoMapping {
   public static class DelegatedTestClusterClusterListNullablesAndOptionalsStructAttributeCallback
       implements ChipClusters.TestClusterCluster.ListNullablesAndOptionalsStructAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList",
+          "List<ChipClusters.TestClusterCluster.ListNullablesAndOptionalsStructAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3714,14 +3982,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.TestClusterCluster.ListNullablesAndOptionalsStructAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.TestClusterCluster.ListNullablesAndOptionalsStructAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3733,7 +3996,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestClusterClusterListLongOctetStringAttributeCallback
       implements ChipClusters.TestClusterCluster.ListLongOctetStringAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<byte[]>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3742,12 +4009,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<byte[]>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3759,7 +4023,11 @@ public class ClusterInfoMapping {
   public static class DelegatedTestClusterClusterAttributeListAttributeCallback
       implements ChipClusters.TestClusterCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3768,11 +4036,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3784,7 +4050,16 @@ public class ClusterInfoMapping {
   public static class DelegatedGetRelayStatusLogResponseCallback
       implements ChipClusters.ThermostatCluster.GetRelayStatusLogResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("timeOfDay", "int"),
+      new CommandResponseInfo("relayStatus", "int"),
+      new CommandResponseInfo("localTemperature", "int"),
+      new CommandResponseInfo("humidityInPercentage", "int"),
+      new CommandResponseInfo("setpoint", "int"),
+      new CommandResponseInfo("unreadEntries", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3799,23 +4074,14 @@ public class ClusterInfoMapping {
         Integer humidityInPercentage,
         Integer setpoint,
         Integer unreadEntries) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo timeOfDayResponseValue = new CommandResponseInfo("timeOfDay", "int");
-      responseValues.put(timeOfDayResponseValue, timeOfDay);
-      CommandResponseInfo relayStatusResponseValue = new CommandResponseInfo("relayStatus", "int");
-      responseValues.put(relayStatusResponseValue, relayStatus);
-      CommandResponseInfo localTemperatureResponseValue =
-          new CommandResponseInfo("localTemperature", "int");
-      responseValues.put(localTemperatureResponseValue, localTemperature);
-      CommandResponseInfo humidityInPercentageResponseValue =
-          new CommandResponseInfo("humidityInPercentage", "int");
-      responseValues.put(humidityInPercentageResponseValue, humidityInPercentage);
-      CommandResponseInfo setpointResponseValue = new CommandResponseInfo("setpoint", "int");
-      responseValues.put(setpointResponseValue, setpoint);
-      CommandResponseInfo unreadEntriesResponseValue =
-          new CommandResponseInfo("unreadEntries", "int");
-      responseValues.put(unreadEntriesResponseValue, unreadEntries);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(timeOfDay);
+      view.add(relayStatus);
+      view.add(localTemperature);
+      view.add(humidityInPercentage);
+      view.add(setpoint);
+      view.add(unreadEntries);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3827,7 +4093,13 @@ public class ClusterInfoMapping {
   public static class DelegatedGetWeeklyScheduleResponseCallback
       implements ChipClusters.ThermostatCluster.GetWeeklyScheduleResponseCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("numberOfTransitionsForSequence", "int"),
+      new CommandResponseInfo("dayOfWeekForSequence", "int"),
+      new CommandResponseInfo("modeForSequence", "int")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3842,20 +4114,13 @@ public class ClusterInfoMapping {
         // payload: /* TYPE WARNING: array array defaults to */ uint8_t *
         // Conversion from this type to Java is not properly implemented yet
         ) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo numberOfTransitionsForSequenceResponseValue =
-          new CommandResponseInfo("numberOfTransitionsForSequence", "int");
-      responseValues.put(
-          numberOfTransitionsForSequenceResponseValue, numberOfTransitionsForSequence);
-      CommandResponseInfo dayOfWeekForSequenceResponseValue =
-          new CommandResponseInfo("dayOfWeekForSequence", "int");
-      responseValues.put(dayOfWeekForSequenceResponseValue, dayOfWeekForSequence);
-      CommandResponseInfo modeForSequenceResponseValue =
-          new CommandResponseInfo("modeForSequence", "int");
-      responseValues.put(modeForSequenceResponseValue, modeForSequence);
+      CommandResponseView view = responseView.acquire();
+      view.add(numberOfTransitionsForSequence);
+      view.add(dayOfWeekForSequence);
+      view.add(modeForSequence);
       // payload: /* TYPE WARNING: array array defaults to */ uint8_t *
       // Conversion from this type to Java is not properly implemented yet
-      callback.onSuccess(responseValues);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3867,7 +4132,11 @@ public class ClusterInfoMapping {
   public static class DelegatedThermostatClusterAttributeListAttributeCallback
       implements ChipClusters.ThermostatCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3876,11 +4145,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3894,7 +4161,11 @@ public class ClusterInfoMapping {
       implements ChipClusters.ThermostatUserInterfaceConfigurationCluster
               .AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3903,11 +4174,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3919,7 +4188,13 @@ public class ClusterInfoMapping {
   public static class DelegatedThreadNetworkDiagnosticsClusterNeighborTableListAttributeCallback
       implements ChipClusters.ThreadNetworkDiagnosticsCluster.NeighborTableListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList",
+          "List<ChipClusters.ThreadNetworkDiagnosticsCluster.NeighborTableListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3929,14 +4204,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.ThreadNetworkDiagnosticsCluster.NeighborTableListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.ThreadNetworkDiagnosticsCluster.NeighborTableListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3948,7 +4218,12 @@ public class ClusterInfoMapping {
   public static class DelegatedThreadNetworkDiagnosticsClusterRouteTableListAttributeCallback
       implements ChipClusters.ThreadNetworkDiagnosticsCluster.RouteTableListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.ThreadNetworkDiagnosticsCluster.RouteTableListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3958,14 +4233,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.ThreadNetworkDiagnosticsCluster.RouteTableListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.ThreadNetworkDiagnosticsCluster.RouteTableListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -3977,7 +4247,12 @@ public class ClusterInfoMapping {
   public static class DelegatedThreadNetworkDiagnosticsClusterSecurityPolicyAttributeCallback
       implements ChipClusters.ThreadNetworkDiagnosticsCluster.SecurityPolicyAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList", "List<ChipClusters.ThreadNetworkDiagnosticsCluster.SecurityPolicyAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -3987,14 +4262,9 @@ public class ClusterInfoMapping {
     @Override
     public void onSuccess(
         List<ChipClusters.ThreadNetworkDiagnosticsCluster.SecurityPolicyAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.ThreadNetworkDiagnosticsCluster.SecurityPolicyAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4008,7 +4278,13 @@ public class ClusterInfoMapping {
       implements ChipClusters.ThreadNetworkDiagnosticsCluster
               .OperationalDatasetComponentsAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo(
+          "valueList",
+          "List<ChipClusters.ThreadNetworkDiagnosticsCluster.OperationalDatasetComponentsAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4019,14 +4295,9 @@ public class ClusterInfoMapping {
     public void onSuccess(
         List<ChipClusters.ThreadNetworkDiagnosticsCluster.OperationalDatasetComponentsAttribute>
             valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList",
-              "List<ChipClusters.ThreadNetworkDiagnosticsCluster.OperationalDatasetComponentsAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4040,7 +4311,11 @@ public class ClusterInfoMapping {
       implements ChipClusters.ThreadNetworkDiagnosticsCluster
               .ActiveNetworkFaultsListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Integer>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4049,12 +4324,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo("valueList", "List<Integer>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4066,7 +4338,11 @@ public class ClusterInfoMapping {
   public static class DelegatedThreadNetworkDiagnosticsClusterAttributeListAttributeCallback
       implements ChipClusters.ThreadNetworkDiagnosticsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4075,11 +4351,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4091,7 +4365,11 @@ public class ClusterInfoMapping {
   public static class DelegatedUserLabelClusterLabelListAttributeCallback
       implements ChipClusters.UserLabelCluster.LabelListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<ChipClusters.UserLabelCluster.LabelListAttribute>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4100,13 +4378,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<ChipClusters.UserLabelCluster.LabelListAttribute> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo =
-          new CommandResponseInfo(
-              "valueList", "List<ChipClusters.UserLabelCluster.LabelListAttribute>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4118,7 +4392,11 @@ public class ClusterInfoMapping {
   public static class DelegatedWakeOnLanClusterAttributeListAttributeCallback
       implements ChipClusters.WakeOnLanCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4127,11 +4405,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4143,7 +4419,11 @@ public class ClusterInfoMapping {
   public static class DelegatedWiFiNetworkDiagnosticsClusterAttributeListAttributeCallback
       implements ChipClusters.WiFiNetworkDiagnosticsCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4152,11 +4432,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4168,7 +4446,11 @@ public class ClusterInfoMapping {
   public static class DelegatedWindowCoveringClusterAttributeListAttributeCallback
       implements ChipClusters.WindowCoveringCluster.AttributeListAttributeCallback,
           DelegatedClusterCallback {
+    private static final CommandResponseInfo[] RESPONSE_INFOS = {
+      new CommandResponseInfo("valueList", "List<Long>")
+    };
     private ClusterCommandCallback callback;
+    private final CommandResponseView responseView = new CommandResponseView(RESPONSE_INFOS);
 
     @Override
     public void setCallbackDelegate(ClusterCommandCallback callback) {
@@ -4177,11 +4459,9 @@ public class ClusterInfoMapping {
 
     @Override
     public void onSuccess(List<Object> valueList) {
-      Map<CommandResponseInfo, Object> responseValues = new LinkedHashMap<>();
-      CommandResponseInfo commandResponseInfo = new CommandResponseInfo("valueList", "List<Long>");
-
-      responseValues.put(commandResponseInfo, valueList);
-      callback.onSuccess(responseValues);
+      CommandResponseView view = responseView.acquire();
+      view.add(valueList);
+      view.deliverTo(callback);
     }
 
     @Override
@@ -4190,327 +4470,311 @@ public class ClusterInfoMapping {
     }
   }
 
+  // The names of the supported clusters. Not to be modified.
+  static final String[] CLUSTER_NAMES = {
+    "accessControl",
+    "accountLogin",
+    "administratorCommissioning",
+    "applicationBasic",
+    "applicationLauncher",
+    "audioOutput",
+    "barrierControl",
+    "basic",
+    "binaryInputBasic",
+    "binding",
+    "booleanState",
+    "bridgedActions",
+    "bridgedDeviceBasic",
+    "channel",
+    "colorControl",
+    "contentLauncher",
+    "descriptor",
+    "diagnosticLogs",
+    "doorLock",
+    "electricalMeasurement",
+    "ethernetNetworkDiagnostics",
+    "fixedLabel",
+    "flowMeasurement",
+    "generalCommissioning",
+    "generalDiagnostics",
+    "groupKeyManagement",
+    "groups",
+    "identify",
+    "illuminanceMeasurement",
+    "keypadInput",
+    "levelControl",
+    "localizationConfiguration",
+    "lowPower",
+    "mediaInput",
+    "mediaPlayback",
+    "modeSelect",
+    "networkCommissioning",
+    "otaSoftwareUpdateProvider",
+    "otaSoftwareUpdateRequestor",
+    "occupancySensing",
+    "onOff",
+    "onOffSwitchConfiguration",
+    "operationalCredentials",
+    "powerSource",
+    "powerSourceConfiguration",
+    "pressureMeasurement",
+    "pumpConfigurationAndControl",
+    "relativeHumidityMeasurement",
+    "scenes",
+    "softwareDiagnostics",
+    "switch",
+    "targetNavigator",
+    "temperatureMeasurement",
+    "testCluster",
+    "thermostat",
+    "thermostatUserInterfaceConfiguration",
+    "threadNetworkDiagnostics",
+    "userLabel",
+    "wakeOnLan",
+    "wiFiNetworkDiagnostics",
+    "windowCovering",
+  };
+
+  // The IDs of the clusters in CLUSTER_NAMES, in the same order. Not to be modified.
+  static final long[] CLUSTER_IDS = {
+    31L, 1294L, 60L, 1293L, 1292L, 1291L, 259L, 40L, 15L, 30L, 69L, 37L, 57L, 1284L, 768L, 1290L,
+    29L, 50L, 257L, 2820L, 55L, 64L, 1028L, 48L, 51L, 63L, 4L, 3L, 1024L, 1289L, 8L, 43L, 1288L,
+    1287L, 1286L, 80L, 49L, 41L, 42L, 1030L, 6L, 7L, 62L, 47L, 46L, 1027L, 512L, 1029L, 5L, 52L,
+    59L, 1285L, 1026L, 1295L, 513L, 516L, 53L, 65L, 1283L, 54L, 258L
+  };
+
+  /**
+   * Returns the interactions of every supported cluster, keyed by cluster name. The {@link
+   * ClusterInfo} of a cluster is only built the first time it is looked up.
+   */
   public Map<String, ClusterInfo> getClusterMap() {
-    Map<String, ClusterInfo> clusterMap = initializeClusterMap();
-    Map<String, Map<String, InteractionInfo>> commandMap = getCommandMap();
-    combineCommand(clusterMap, commandMap);
-    Map<String, Map<String, InteractionInfo>> readAttributeMap =
-        new ClusterReadMapping().getReadAttributeMap();
-    combineCommand(clusterMap, readAttributeMap);
-    Map<String, Map<String, InteractionInfo>> writeAttributeMap =
-        new ClusterWriteMapping().getWriteAttributeMap();
-    combineCommand(clusterMap, writeAttributeMap);
-    return clusterMap;
+    return new LazyClusterInfoMap(CLUSTER_NAMES, this::getClusterInfo);
+  }
+
+  /**
+   * Builds the commands and attribute reads and writes of one cluster, or returns null if the
+   * cluster is not supported.
+   */
+  @Nullable
+  public ClusterInfo getClusterInfo(String clusterName) {
+    ClusterInfo clusterInfo = newClusterInfo(clusterName);
+    if (clusterInfo == null) {
+      return null;
+    }
+    clusterInfo.combineCommands(getCommandMap(clusterName));
+    clusterInfo.combineCommands(new ClusterReadMapping().getReadAttributeMap(clusterName));
+    clusterInfo.combineCommands(new ClusterWriteMapping().getWriteAttributeMap(clusterName));
+    return clusterInfo;
   }
 
   public Map<String, ClusterInfo> initializeClusterMap() {
     Map<String, ClusterInfo> clusterMap = new HashMap<>();
-    ClusterInfo accessControlClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.AccessControlCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("accessControl", accessControlClusterInfo);
-    ClusterInfo accountLoginClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.AccountLoginCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("accountLogin", accountLoginClusterInfo);
-    ClusterInfo administratorCommissioningClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) ->
-                new ChipClusters.AdministratorCommissioningCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("administratorCommissioning", administratorCommissioningClusterInfo);
-    ClusterInfo applicationBasicClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ApplicationBasicCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("applicationBasic", applicationBasicClusterInfo);
-    ClusterInfo applicationLauncherClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ApplicationLauncherCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("applicationLauncher", applicationLauncherClusterInfo);
-    ClusterInfo audioOutputClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.AudioOutputCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("audioOutput", audioOutputClusterInfo);
-    ClusterInfo barrierControlClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BarrierControlCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("barrierControl", barrierControlClusterInfo);
-    ClusterInfo basicClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BasicCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("basic", basicClusterInfo);
-    ClusterInfo binaryInputBasicClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BinaryInputBasicCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("binaryInputBasic", binaryInputBasicClusterInfo);
-    ClusterInfo bindingClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BindingCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("binding", bindingClusterInfo);
-    ClusterInfo booleanStateClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BooleanStateCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("booleanState", booleanStateClusterInfo);
-    ClusterInfo bridgedActionsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BridgedActionsCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("bridgedActions", bridgedActionsClusterInfo);
-    ClusterInfo bridgedDeviceBasicClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.BridgedDeviceBasicCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("bridgedDeviceBasic", bridgedDeviceBasicClusterInfo);
-    ClusterInfo channelClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ChannelCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("channel", channelClusterInfo);
-    ClusterInfo colorControlClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ColorControlCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("colorControl", colorControlClusterInfo);
-    ClusterInfo contentLauncherClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ContentLauncherCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("contentLauncher", contentLauncherClusterInfo);
-    ClusterInfo descriptorClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.DescriptorCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("descriptor", descriptorClusterInfo);
-    ClusterInfo diagnosticLogsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.DiagnosticLogsCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("diagnosticLogs", diagnosticLogsClusterInfo);
-    ClusterInfo doorLockClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.DoorLockCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("doorLock", doorLockClusterInfo);
-    ClusterInfo electricalMeasurementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ElectricalMeasurementCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("electricalMeasurement", electricalMeasurementClusterInfo);
-    ClusterInfo ethernetNetworkDiagnosticsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) ->
-                new ChipClusters.EthernetNetworkDiagnosticsCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("ethernetNetworkDiagnostics", ethernetNetworkDiagnosticsClusterInfo);
-    ClusterInfo fixedLabelClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.FixedLabelCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("fixedLabel", fixedLabelClusterInfo);
-    ClusterInfo flowMeasurementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.FlowMeasurementCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("flowMeasurement", flowMeasurementClusterInfo);
-    ClusterInfo generalCommissioningClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.GeneralCommissioningCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("generalCommissioning", generalCommissioningClusterInfo);
-    ClusterInfo generalDiagnosticsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.GeneralDiagnosticsCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("generalDiagnostics", generalDiagnosticsClusterInfo);
-    ClusterInfo groupKeyManagementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.GroupKeyManagementCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("groupKeyManagement", groupKeyManagementClusterInfo);
-    ClusterInfo groupsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.GroupsCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("groups", groupsClusterInfo);
-    ClusterInfo identifyClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.IdentifyCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("identify", identifyClusterInfo);
-    ClusterInfo illuminanceMeasurementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.IlluminanceMeasurementCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("illuminanceMeasurement", illuminanceMeasurementClusterInfo);
-    ClusterInfo keypadInputClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.KeypadInputCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("keypadInput", keypadInputClusterInfo);
-    ClusterInfo levelControlClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.LevelControlCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("levelControl", levelControlClusterInfo);
-    ClusterInfo localizationConfigurationClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.LocalizationConfigurationCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("localizationConfiguration", localizationConfigurationClusterInfo);
-    ClusterInfo lowPowerClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.LowPowerCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("lowPower", lowPowerClusterInfo);
-    ClusterInfo mediaInputClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.MediaInputCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("mediaInput", mediaInputClusterInfo);
-    ClusterInfo mediaPlaybackClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.MediaPlaybackCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("mediaPlayback", mediaPlaybackClusterInfo);
-    ClusterInfo modeSelectClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ModeSelectCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("modeSelect", modeSelectClusterInfo);
-    ClusterInfo networkCommissioningClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.NetworkCommissioningCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("networkCommissioning", networkCommissioningClusterInfo);
-    ClusterInfo otaSoftwareUpdateProviderClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.OtaSoftwareUpdateProviderCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("otaSoftwareUpdateProvider", otaSoftwareUpdateProviderClusterInfo);
-    ClusterInfo otaSoftwareUpdateRequestorClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) ->
-                new ChipClusters.OtaSoftwareUpdateRequestorCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("otaSoftwareUpdateRequestor", otaSoftwareUpdateRequestorClusterInfo);
-    ClusterInfo occupancySensingClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.OccupancySensingCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("occupancySensing", occupancySensingClusterInfo);
-    ClusterInfo onOffClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.OnOffCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("onOff", onOffClusterInfo);
-    ClusterInfo onOffSwitchConfigurationClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.OnOffSwitchConfigurationCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("onOffSwitchConfiguration", onOffSwitchConfigurationClusterInfo);
-    ClusterInfo operationalCredentialsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.OperationalCredentialsCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("operationalCredentials", operationalCredentialsClusterInfo);
-    ClusterInfo powerSourceClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.PowerSourceCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("powerSource", powerSourceClusterInfo);
-    ClusterInfo powerSourceConfigurationClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.PowerSourceConfigurationCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("powerSourceConfiguration", powerSourceConfigurationClusterInfo);
-    ClusterInfo pressureMeasurementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.PressureMeasurementCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("pressureMeasurement", pressureMeasurementClusterInfo);
-    ClusterInfo pumpConfigurationAndControlClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) ->
-                new ChipClusters.PumpConfigurationAndControlCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("pumpConfigurationAndControl", pumpConfigurationAndControlClusterInfo);
-    ClusterInfo relativeHumidityMeasurementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) ->
-                new ChipClusters.RelativeHumidityMeasurementCluster(ptr, endpointId),
-            new HashMap<>());
-    clusterMap.put("relativeHumidityMeasurement", relativeHumidityMeasurementClusterInfo);
-    ClusterInfo scenesClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ScenesCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("scenes", scenesClusterInfo);
-    ClusterInfo softwareDiagnosticsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.SoftwareDiagnosticsCluster(ptr, endpointId),
+    for (String clusterName : CLUSTER_NAMES) {
+      clusterMap.put(clusterName, newClusterInfo(clusterName));
+    }
+    return clusterMap;
+  }
+
+  @Nullable
+  static ClusterInfo newClusterInfo(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.AccessControlCluster.CLUSTER_ID), new HashMap<>());
+      case "accountLogin":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.AccountLoginCluster.CLUSTER_ID), new HashMap<>());
+      case "administratorCommissioning":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("softwareDiagnostics", softwareDiagnosticsClusterInfo);
-    ClusterInfo switchClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.SwitchCluster(ptr, endpointId), new HashMap<>());
-    clusterMap.put("switch", switchClusterInfo);
-    ClusterInfo targetNavigatorClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.TargetNavigatorCluster(ptr, endpointId),
+      case "applicationBasic":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ApplicationBasicCluster.CLUSTER_ID), new HashMap<>());
+      case "applicationLauncher":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ApplicationLauncherCluster.CLUSTER_ID), new HashMap<>());
+      case "audioOutput":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.AudioOutputCluster.CLUSTER_ID), new HashMap<>());
+      case "barrierControl":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BarrierControlCluster.CLUSTER_ID), new HashMap<>());
+      case "basic":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BasicCluster.CLUSTER_ID), new HashMap<>());
+      case "binaryInputBasic":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BinaryInputBasicCluster.CLUSTER_ID), new HashMap<>());
+      case "binding":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BindingCluster.CLUSTER_ID), new HashMap<>());
+      case "booleanState":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BooleanStateCluster.CLUSTER_ID), new HashMap<>());
+      case "bridgedActions":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BridgedActionsCluster.CLUSTER_ID), new HashMap<>());
+      case "bridgedDeviceBasic":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.BridgedDeviceBasicCluster.CLUSTER_ID), new HashMap<>());
+      case "channel":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ChannelCluster.CLUSTER_ID), new HashMap<>());
+      case "colorControl":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ColorControlCluster.CLUSTER_ID), new HashMap<>());
+      case "contentLauncher":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ContentLauncherCluster.CLUSTER_ID), new HashMap<>());
+      case "descriptor":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.DescriptorCluster.CLUSTER_ID), new HashMap<>());
+      case "diagnosticLogs":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.DiagnosticLogsCluster.CLUSTER_ID), new HashMap<>());
+      case "doorLock":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.DoorLockCluster.CLUSTER_ID), new HashMap<>());
+      case "electricalMeasurement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID), new HashMap<>());
+      case "ethernetNetworkDiagnostics":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("targetNavigator", targetNavigatorClusterInfo);
-    ClusterInfo temperatureMeasurementClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.TemperatureMeasurementCluster(ptr, endpointId),
+      case "fixedLabel":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.FixedLabelCluster.CLUSTER_ID), new HashMap<>());
+      case "flowMeasurement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.FlowMeasurementCluster.CLUSTER_ID), new HashMap<>());
+      case "generalCommissioning":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.GeneralCommissioningCluster.CLUSTER_ID), new HashMap<>());
+      case "generalDiagnostics":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID), new HashMap<>());
+      case "groupKeyManagement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.GroupKeyManagementCluster.CLUSTER_ID), new HashMap<>());
+      case "groups":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.GroupsCluster.CLUSTER_ID), new HashMap<>());
+      case "identify":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.IdentifyCluster.CLUSTER_ID), new HashMap<>());
+      case "illuminanceMeasurement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID), new HashMap<>());
+      case "keypadInput":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.KeypadInputCluster.CLUSTER_ID), new HashMap<>());
+      case "levelControl":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.LevelControlCluster.CLUSTER_ID), new HashMap<>());
+      case "localizationConfiguration":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.LocalizationConfigurationCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("temperatureMeasurement", temperatureMeasurementClusterInfo);
-    ClusterInfo testClusterClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.TestClusterCluster(ptr, endpointId),
+      case "lowPower":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.LowPowerCluster.CLUSTER_ID), new HashMap<>());
+      case "mediaInput":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.MediaInputCluster.CLUSTER_ID), new HashMap<>());
+      case "mediaPlayback":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.MediaPlaybackCluster.CLUSTER_ID), new HashMap<>());
+      case "modeSelect":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ModeSelectCluster.CLUSTER_ID), new HashMap<>());
+      case "networkCommissioning":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.NetworkCommissioningCluster.CLUSTER_ID), new HashMap<>());
+      case "otaSoftwareUpdateProvider":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.OtaSoftwareUpdateProviderCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("testCluster", testClusterClusterInfo);
-    ClusterInfo thermostatClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ThermostatCluster(ptr, endpointId),
+      case "otaSoftwareUpdateRequestor":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("thermostat", thermostatClusterInfo);
-    ClusterInfo thermostatUserInterfaceConfigurationClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) ->
-                new ChipClusters.ThermostatUserInterfaceConfigurationCluster(ptr, endpointId),
+      case "occupancySensing":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.OccupancySensingCluster.CLUSTER_ID), new HashMap<>());
+      case "onOff":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.OnOffCluster.CLUSTER_ID), new HashMap<>());
+      case "onOffSwitchConfiguration":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.OnOffSwitchConfigurationCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put(
-        "thermostatUserInterfaceConfiguration", thermostatUserInterfaceConfigurationClusterInfo);
-    ClusterInfo threadNetworkDiagnosticsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.ThreadNetworkDiagnosticsCluster(ptr, endpointId),
+      case "operationalCredentials":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.OperationalCredentialsCluster.CLUSTER_ID), new HashMap<>());
+      case "powerSource":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.PowerSourceCluster.CLUSTER_ID), new HashMap<>());
+      case "powerSourceConfiguration":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.PowerSourceConfigurationCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("threadNetworkDiagnostics", threadNetworkDiagnosticsClusterInfo);
-    ClusterInfo userLabelClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.UserLabelCluster(ptr, endpointId),
+      case "pressureMeasurement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.PressureMeasurementCluster.CLUSTER_ID), new HashMap<>());
+      case "pumpConfigurationAndControl":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("userLabel", userLabelClusterInfo);
-    ClusterInfo wakeOnLanClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.WakeOnLanCluster(ptr, endpointId),
+      case "relativeHumidityMeasurement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("wakeOnLan", wakeOnLanClusterInfo);
-    ClusterInfo wiFiNetworkDiagnosticsClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.WiFiNetworkDiagnosticsCluster(ptr, endpointId),
+      case "scenes":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ScenesCluster.CLUSTER_ID), new HashMap<>());
+      case "softwareDiagnostics":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID), new HashMap<>());
+      case "switch":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.SwitchCluster.CLUSTER_ID), new HashMap<>());
+      case "targetNavigator":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.TargetNavigatorCluster.CLUSTER_ID), new HashMap<>());
+      case "temperatureMeasurement":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID), new HashMap<>());
+      case "testCluster":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.TestClusterCluster.CLUSTER_ID), new HashMap<>());
+      case "thermostat":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ThermostatCluster.CLUSTER_ID), new HashMap<>());
+      case "thermostatUserInterfaceConfiguration":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("wiFiNetworkDiagnostics", wiFiNetworkDiagnosticsClusterInfo);
-    ClusterInfo windowCoveringClusterInfo =
-        new ClusterInfo(
-            (ptr, endpointId) -> new ChipClusters.WindowCoveringCluster(ptr, endpointId),
+      case "threadNetworkDiagnostics":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID),
             new HashMap<>());
-    clusterMap.put("windowCovering", windowCoveringClusterInfo);
-    return clusterMap;
+      case "userLabel":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.UserLabelCluster.CLUSTER_ID), new HashMap<>());
+      case "wakeOnLan":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.WakeOnLanCluster.CLUSTER_ID), new HashMap<>());
+      case "wiFiNetworkDiagnostics":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID), new HashMap<>());
+      case "windowCovering":
+        return new ClusterInfo(
+            new NewCluster(ChipClusters.WindowCoveringCluster.CLUSTER_ID), new HashMap<>());
+      default:
+        return null;
+    }
   }
 
   public void combineCommand(
@@ -4600,11 +4864,310 @@ public class ClusterInfoMapping {
     destination.get("windowCovering").combineCommands(source.get("windowCovering"));
   }
 
-  @SuppressWarnings("unchecked")
   public Map<String, Map<String, InteractionInfo>> getCommandMap() {
     Map<String, Map<String, InteractionInfo>> commandMap = new HashMap<>();
+    for (String clusterName : CLUSTER_NAMES) {
+      commandMap.put(clusterName, getCommandMap(clusterName));
+    }
+    return commandMap;
+  }
+
+  /** Returns the commands of one cluster, or null if the cluster is not supported. */
+  @Nullable
+  public Map<String, InteractionInfo> getCommandMap(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return getAccessControlCommandMap();
+      case "accountLogin":
+        return getAccountLoginCommandMap();
+      case "administratorCommissioning":
+        return getAdministratorCommissioningCommandMap();
+      case "applicationBasic":
+        return getApplicationBasicCommandMap();
+      case "applicationLauncher":
+        return getApplicationLauncherCommandMap();
+      case "audioOutput":
+        return getAudioOutputCommandMap();
+      case "barrierControl":
+        return getBarrierControlCommandMap();
+      case "basic":
+        return getBasicCommandMap();
+      case "binaryInputBasic":
+        return getBinaryInputBasicCommandMap();
+      case "binding":
+        return getBindingCommandMap();
+      case "booleanState":
+        return getBooleanStateCommandMap();
+      case "bridgedActions":
+        return getBridgedActionsCommandMap();
+      case "bridgedDeviceBasic":
+        return getBridgedDeviceBasicCommandMap();
+      case "channel":
+        return getChannelCommandMap();
+      case "colorControl":
+        return getColorControlCommandMap();
+      case "contentLauncher":
+        return getContentLauncherCommandMap();
+      case "descriptor":
+        return getDescriptorCommandMap();
+      case "diagnosticLogs":
+        return getDiagnosticLogsCommandMap();
+      case "doorLock":
+        return getDoorLockCommandMap();
+      case "electricalMeasurement":
+        return getElectricalMeasurementCommandMap();
+      case "ethernetNetworkDiagnostics":
+        return getEthernetNetworkDiagnosticsCommandMap();
+      case "fixedLabel":
+        return getFixedLabelCommandMap();
+      case "flowMeasurement":
+        return getFlowMeasurementCommandMap();
+      case "generalCommissioning":
+        return getGeneralCommissioningCommandMap();
+      case "generalDiagnostics":
+        return getGeneralDiagnosticsCommandMap();
+      case "groupKeyManagement":
+        return getGroupKeyManagementCommandMap();
+      case "groups":
+        return getGroupsCommandMap();
+      case "identify":
+        return getIdentifyCommandMap();
+      case "illuminanceMeasurement":
+        return getIlluminanceMeasurementCommandMap();
+      case "keypadInput":
+        return getKeypadInputCommandMap();
+      case "levelControl":
+        return getLevelControlCommandMap();
+      case "localizationConfiguration":
+        return getLocalizationConfigurationCommandMap();
+      case "lowPower":
+        return getLowPowerCommandMap();
+      case "mediaInput":
+        return getMediaInputCommandMap();
+      case "mediaPlayback":
+        return getMediaPlaybackCommandMap();
+      case "modeSelect":
+        return getModeSelectCommandMap();
+      case "networkCommissioning":
+        return getNetworkCommissioningCommandMap();
+      case "otaSoftwareUpdateProvider":
+        return getOtaSoftwareUpdateProviderCommandMap();
+      case "otaSoftwareUpdateRequestor":
+        return getOtaSoftwareUpdateRequestorCommandMap();
+      case "occupancySensing":
+        return getOccupancySensingCommandMap();
+      case "onOff":
+        return getOnOffCommandMap();
+      case "onOffSwitchConfiguration":
+        return getOnOffSwitchConfigurationCommandMap();
+      case "operationalCredentials":
+        return getOperationalCredentialsCommandMap();
+      case "powerSource":
+        return getPowerSourceCommandMap();
+      case "powerSourceConfiguration":
+        return getPowerSourceConfigurationCommandMap();
+      case "pressureMeasurement":
+        return getPressureMeasurementCommandMap();
+      case "pumpConfigurationAndControl":
+        return getPumpConfigurationAndControlCommandMap();
+      case "relativeHumidityMeasurement":
+        return getRelativeHumidityMeasurementCommandMap();
+      case "scenes":
+        return getScenesCommandMap();
+      case "softwareDiagnostics":
+        return getSoftwareDiagnosticsCommandMap();
+      case "switch":
+        return getSwitchCommandMap();
+      case "targetNavigator":
+        return getTargetNavigatorCommandMap();
+      case "temperatureMeasurement":
+        return getTemperatureMeasurementCommandMap();
+      case "testCluster":
+        return getTestClusterCommandMap();
+      case "thermostat":
+        return getThermostatCommandMap();
+      case "thermostatUserInterfaceConfiguration":
+        return getThermostatUserInterfaceConfigurationCommandMap();
+      case "threadNetworkDiagnostics":
+        return getThreadNetworkDiagnosticsCommandMap();
+      case "userLabel":
+        return getUserLabelCommandMap();
+      case "wakeOnLan":
+        return getWakeOnLanCommandMap();
+      case "wiFiNetworkDiagnostics":
+        return getWiFiNetworkDiagnosticsCommandMap();
+      case "windowCovering":
+        return getWindowCoveringCommandMap();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns the IDs of the commands of {@link #getCommandMap(String)}, in the order of its entries,
+   * or null if the cluster is not supported.
+   */
+  @Nullable
+  public long[] getCommandIds(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return new long[] {};
+      case "accountLogin":
+        return new long[] {0L, 2L, 3L};
+      case "administratorCommissioning":
+        return new long[] {1L, 0L, 2L};
+      case "applicationBasic":
+        return new long[] {};
+      case "applicationLauncher":
+        return new long[] {2L, 0L, 1L};
+      case "audioOutput":
+        return new long[] {1L, 0L};
+      case "barrierControl":
+        return new long[] {0L, 1L};
+      case "basic":
+        return new long[] {268566528L};
+      case "binaryInputBasic":
+        return new long[] {};
+      case "binding":
+        return new long[] {0L, 1L};
+      case "booleanState":
+        return new long[] {};
+      case "bridgedActions":
+        return new long[] {10L, 11L, 8L, 9L, 0L, 1L, 5L, 6L, 7L, 2L, 3L, 4L};
+      case "bridgedDeviceBasic":
+        return new long[] {};
+      case "channel":
+        return new long[] {2L, 0L, 3L};
+      case "colorControl":
+        return new long[] {
+          68L, 65L, 64L, 67L, 66L, 8L, 75L, 1L, 4L, 7L, 10L, 0L, 6L, 3L, 9L, 76L, 2L, 5L, 71L
+        };
+      case "contentLauncher":
+        return new long[] {0L, 1L};
+      case "descriptor":
+        return new long[] {};
+      case "diagnosticLogs":
+        return new long[] {0L};
+      case "doorLock":
+        return new long[] {38L, 29L, 36L, 27L, 0L, 34L, 26L, 1L};
+      case "electricalMeasurement":
+        return new long[] {};
+      case "ethernetNetworkDiagnostics":
+        return new long[] {0L};
+      case "fixedLabel":
+        return new long[] {};
+      case "flowMeasurement":
+        return new long[] {};
+      case "generalCommissioning":
+        return new long[] {0L, 4L, 2L};
+      case "generalDiagnostics":
+        return new long[] {};
+      case "groupKeyManagement":
+        return new long[] {1L, 4L, 3L, 0L};
+      case "groups":
+        return new long[] {0L, 5L, 2L, 4L, 3L, 1L};
+      case "identify":
+        return new long[] {0L, 1L, 64L};
+      case "illuminanceMeasurement":
+        return new long[] {};
+      case "keypadInput":
+        return new long[] {0L};
+      case "levelControl":
+        return new long[] {1L, 0L, 4L, 5L, 2L, 6L, 3L, 7L};
+      case "localizationConfiguration":
+        return new long[] {};
+      case "lowPower":
+        return new long[] {0L};
+      case "mediaInput":
+        return new long[] {2L, 3L, 0L, 1L};
+      case "mediaPlayback":
+        return new long[] {7L, 5L, 1L, 0L, 4L, 6L, 11L, 9L, 8L, 3L, 2L};
+      case "modeSelect":
+        return new long[] {0L};
+      case "networkCommissioning":
+        return new long[] {3L, 2L, 6L, 4L, 8L, 0L};
+      case "otaSoftwareUpdateProvider":
+        return new long[] {2L, 4L, 0L};
+      case "otaSoftwareUpdateRequestor":
+        return new long[] {0L};
+      case "occupancySensing":
+        return new long[] {};
+      case "onOff":
+        return new long[] {0L, 64L, 1L, 65L, 66L, 2L};
+      case "onOffSwitchConfiguration":
+        return new long[] {};
+      case "operationalCredentials":
+        return new long[] {6L, 11L, 0L, 2L, 4L, 10L, 12L, 9L, 7L};
+      case "powerSource":
+        return new long[] {};
+      case "powerSourceConfiguration":
+        return new long[] {};
+      case "pressureMeasurement":
+        return new long[] {};
+      case "pumpConfigurationAndControl":
+        return new long[] {};
+      case "relativeHumidityMeasurement":
+        return new long[] {};
+      case "scenes":
+        return new long[] {0L, 6L, 5L, 3L, 2L, 4L, 1L};
+      case "softwareDiagnostics":
+        return new long[] {0L};
+      case "switch":
+        return new long[] {};
+      case "targetNavigator":
+        return new long[] {0L};
+      case "temperatureMeasurement":
+        return new long[] {};
+      case "testCluster":
+        return new long[] {
+          17L, 0L, 4L, 20L, 14L, 10L, 13L, 12L, 9L, 8L, 11L, 1L, 15L, 19L, 2L, 7L, 3L, 18L
+        };
+      case "thermostat":
+        return new long[] {3L, 4L, 2L, 1L, 0L};
+      case "thermostatUserInterfaceConfiguration":
+        return new long[] {};
+      case "threadNetworkDiagnostics":
+        return new long[] {0L};
+      case "userLabel":
+        return new long[] {};
+      case "wakeOnLan":
+        return new long[] {};
+      case "wiFiNetworkDiagnostics":
+        return new long[] {0L};
+      case "windowCovering":
+        return new long[] {1L, 5L, 4L, 8L, 7L, 2L, 0L};
+      default:
+        return null;
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAccessControlCommandMap() {
     Map<String, InteractionInfo> accessControlClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("accessControl", accessControlClusterInteractionInfoMap);
+    return accessControlClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeAccessControl(
+      ChipClusters.AccessControlCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAccessControlCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAccountLoginCommandMap() {
     Map<String, InteractionInfo> accountLoginClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> accountLogingetSetupPINRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -4616,15 +5179,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo accountLogingetSetupPINRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccountLoginCluster) cluster)
-                  .getSetupPINRequest(
-                      (ChipClusters.AccountLoginCluster.GetSetupPINResponseCallback) callback,
-                      (String) commandArguments.get("tempAccountIdentifier"),
-                      10000);
-            },
-            () -> new DelegatedGetSetupPINResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AccountLoginCluster.CLUSTER_ID,
+            0L,
             accountLogingetSetupPINRequestCommandParams);
     accountLoginClusterInteractionInfoMap.put(
         "getSetupPINRequest", accountLogingetSetupPINRequestInteractionInfo);
@@ -4642,32 +5199,65 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo accountLoginloginRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccountLoginCluster) cluster)
-                  .loginRequest(
-                      (DefaultClusterCallback) callback,
-                      (String) commandArguments.get("tempAccountIdentifier"),
-                      (String) commandArguments.get("setupPIN"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            accountLoginloginRequestCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AccountLoginCluster.CLUSTER_ID, 2L, accountLoginloginRequestCommandParams);
     accountLoginClusterInteractionInfoMap.put(
         "loginRequest", accountLoginloginRequestInteractionInfo);
     Map<String, CommandParameterInfo> accountLoginlogoutRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo accountLoginlogoutRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccountLoginCluster) cluster)
-                  .logoutRequest((DefaultClusterCallback) callback, 10000);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AccountLoginCluster.CLUSTER_ID,
+            3L,
             accountLoginlogoutRequestCommandParams);
     accountLoginClusterInteractionInfoMap.put(
         "logoutRequest", accountLoginlogoutRequestInteractionInfo);
-    commandMap.put("accountLogin", accountLoginClusterInteractionInfoMap);
+    return accountLoginClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeAccountLogin(
+      ChipClusters.AccountLoginCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.getSetupPINRequest(
+            (ChipClusters.AccountLoginCluster.GetSetupPINResponseCallback) callback,
+            (String) commandArguments[0],
+            10000);
+        break;
+      case 2:
+        cluster.loginRequest(
+            (DefaultClusterCallback) callback,
+            (String) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 3:
+        cluster.logoutRequest((DefaultClusterCallback) callback, 10000);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAccountLoginCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedGetSetupPINResponseCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAdministratorCommissioningCommandMap() {
     Map<String, InteractionInfo> administratorCommissioningClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo>
@@ -4682,14 +5272,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo administratorCommissioningopenBasicCommissioningWindowInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .openBasicCommissioningWindow(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("commissioningTimeout"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            1L,
             administratorCommissioningopenBasicCommissioningWindowCommandParams);
     administratorCommissioningClusterInteractionInfoMap.put(
         "openBasicCommissioningWindow",
@@ -4739,19 +5324,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo administratorCommissioningopenCommissioningWindowInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .openCommissioningWindow(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("commissioningTimeout"),
-                      (byte[]) commandArguments.get("PAKEVerifier"),
-                      (Integer) commandArguments.get("discriminator"),
-                      (Long) commandArguments.get("iterations"),
-                      (byte[]) commandArguments.get("salt"),
-                      (Integer) commandArguments.get("passcodeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            0L,
             administratorCommissioningopenCommissioningWindowCommandParams);
     administratorCommissioningClusterInteractionInfoMap.put(
         "openCommissioningWindow",
@@ -4760,19 +5335,85 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo administratorCommissioningrevokeCommissioningInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .revokeCommissioning((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            2L,
             administratorCommissioningrevokeCommissioningCommandParams);
     administratorCommissioningClusterInteractionInfoMap.put(
         "revokeCommissioning", administratorCommissioningrevokeCommissioningInteractionInfo);
-    commandMap.put(
-        "administratorCommissioning", administratorCommissioningClusterInteractionInfoMap);
+    return administratorCommissioningClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeAdministratorCommissioning(
+      ChipClusters.AdministratorCommissioningCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 1:
+        cluster.openBasicCommissioningWindow(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 0:
+        cluster.openCommissioningWindow(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (byte[]) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Long) commandArguments[3],
+            (byte[]) commandArguments[4],
+            (Integer) commandArguments[5]);
+        break;
+      case 2:
+        cluster.revokeCommissioning((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAdministratorCommissioningCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getApplicationBasicCommandMap() {
     Map<String, InteractionInfo> applicationBasicClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("applicationBasic", applicationBasicClusterInteractionInfoMap);
+    return applicationBasicClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeApplicationBasic(
+      ChipClusters.ApplicationBasicCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newApplicationBasicCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getApplicationLauncherCommandMap() {
     Map<String, InteractionInfo> applicationLauncherClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> applicationLauncherhideAppRequestCommandParams =
@@ -4789,15 +5430,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo applicationLauncherhideAppRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationLauncherCluster) cluster)
-                  .hideAppRequest(
-                      (ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback) callback,
-                      (Integer) commandArguments.get("catalogVendorId"),
-                      (String) commandArguments.get("applicationId"));
-            },
-            () -> new DelegatedLauncherResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ApplicationLauncherCluster.CLUSTER_ID,
+            2L,
             applicationLauncherhideAppRequestCommandParams);
     applicationLauncherClusterInteractionInfoMap.put(
         "hideAppRequest", applicationLauncherhideAppRequestInteractionInfo);
@@ -4820,16 +5455,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo applicationLauncherlaunchAppRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationLauncherCluster) cluster)
-                  .launchAppRequest(
-                      (ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback) callback,
-                      (String) commandArguments.get("data"),
-                      (Integer) commandArguments.get("catalogVendorId"),
-                      (String) commandArguments.get("applicationId"));
-            },
-            () -> new DelegatedLauncherResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ApplicationLauncherCluster.CLUSTER_ID,
+            0L,
             applicationLauncherlaunchAppRequestCommandParams);
     applicationLauncherClusterInteractionInfoMap.put(
         "launchAppRequest", applicationLauncherlaunchAppRequestInteractionInfo);
@@ -4847,19 +5475,61 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo applicationLauncherstopAppRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationLauncherCluster) cluster)
-                  .stopAppRequest(
-                      (ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback) callback,
-                      (Integer) commandArguments.get("catalogVendorId"),
-                      (String) commandArguments.get("applicationId"));
-            },
-            () -> new DelegatedLauncherResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ApplicationLauncherCluster.CLUSTER_ID,
+            1L,
             applicationLauncherstopAppRequestCommandParams);
     applicationLauncherClusterInteractionInfoMap.put(
         "stopAppRequest", applicationLauncherstopAppRequestInteractionInfo);
-    commandMap.put("applicationLauncher", applicationLauncherClusterInteractionInfoMap);
+    return applicationLauncherClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeApplicationLauncher(
+      ChipClusters.ApplicationLauncherCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 2:
+        cluster.hideAppRequest(
+            (ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 0:
+        cluster.launchAppRequest(
+            (ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback) callback,
+            (String) commandArguments[0],
+            (Integer) commandArguments[1],
+            (String) commandArguments[2]);
+        break;
+      case 1:
+        cluster.stopAppRequest(
+            (ChipClusters.ApplicationLauncherCluster.LauncherResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newApplicationLauncherCommandCallback(int commandId) {
+    switch (commandId) {
+      case 2:
+        return new DelegatedLauncherResponseCallback();
+      case 0:
+        return new DelegatedLauncherResponseCallback();
+      case 1:
+        return new DelegatedLauncherResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getAudioOutputCommandMap() {
     Map<String, InteractionInfo> audioOutputClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> audioOutputrenameOutputRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -4875,15 +5545,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo audioOutputrenameOutputRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AudioOutputCluster) cluster)
-                  .renameOutputRequest(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("index"),
-                      (String) commandArguments.get("name"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AudioOutputCluster.CLUSTER_ID,
+            1L,
             audioOutputrenameOutputRequestCommandParams);
     audioOutputClusterInteractionInfoMap.put(
         "renameOutputRequest", audioOutputrenameOutputRequestInteractionInfo);
@@ -4896,17 +5560,50 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo audioOutputselectOutputRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AudioOutputCluster) cluster)
-                  .selectOutputRequest(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("index"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.AudioOutputCluster.CLUSTER_ID,
+            0L,
             audioOutputselectOutputRequestCommandParams);
     audioOutputClusterInteractionInfoMap.put(
         "selectOutputRequest", audioOutputselectOutputRequestInteractionInfo);
-    commandMap.put("audioOutput", audioOutputClusterInteractionInfoMap);
+    return audioOutputClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeAudioOutput(
+      ChipClusters.AudioOutputCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 1:
+        cluster.renameOutputRequest(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 0:
+        cluster.selectOutputRequest(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAudioOutputCommandCallback(int commandId) {
+    switch (commandId) {
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBarrierControlCommandMap() {
     Map<String, InteractionInfo> barrierControlClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> barrierControlbarrierControlGoToPercentCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -4917,14 +5614,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo barrierControlbarrierControlGoToPercentInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .barrierControlGoToPercent(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("percentOpen"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            0L,
             barrierControlbarrierControlGoToPercentCommandParams);
     barrierControlClusterInteractionInfoMap.put(
         "barrierControlGoToPercent", barrierControlbarrierControlGoToPercentInteractionInfo);
@@ -4932,32 +5624,109 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo barrierControlbarrierControlStopInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .barrierControlStop((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            1L,
             barrierControlbarrierControlStopCommandParams);
     barrierControlClusterInteractionInfoMap.put(
         "barrierControlStop", barrierControlbarrierControlStopInteractionInfo);
-    commandMap.put("barrierControl", barrierControlClusterInteractionInfoMap);
+    return barrierControlClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBarrierControl(
+      ChipClusters.BarrierControlCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.barrierControlGoToPercent(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 1:
+        cluster.barrierControlStop((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBarrierControlCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBasicCommandMap() {
     Map<String, InteractionInfo> basicClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> basicmfgSpecificPingCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo basicmfgSpecificPingInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .mfgSpecificPing((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            basicmfgSpecificPingCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 268566528L, basicmfgSpecificPingCommandParams);
     basicClusterInteractionInfoMap.put("mfgSpecificPing", basicmfgSpecificPingInteractionInfo);
-    commandMap.put("basic", basicClusterInteractionInfoMap);
+    return basicClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBasic(
+      ChipClusters.BasicCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 268566528:
+        cluster.mfgSpecificPing((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBasicCommandCallback(int commandId) {
+    switch (commandId) {
+      case 268566528:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBinaryInputBasicCommandMap() {
     Map<String, InteractionInfo> binaryInputBasicClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("binaryInputBasic", binaryInputBasicClusterInteractionInfoMap);
+    return binaryInputBasicClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBinaryInputBasic(
+      ChipClusters.BinaryInputBasicCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBinaryInputBasicCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBindingCommandMap() {
     Map<String, InteractionInfo> bindingClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> bindingbindCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -4979,18 +5748,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bindingbindInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BindingCluster) cluster)
-                  .bind(
-                      (DefaultClusterCallback) callback,
-                      (Long) commandArguments.get("nodeId"),
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("endpointId"),
-                      (Long) commandArguments.get("clusterId"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            bindingbindCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BindingCluster.CLUSTER_ID, 0L, bindingbindCommandParams);
     bindingClusterInteractionInfoMap.put("bind", bindingbindInteractionInfo);
     Map<String, CommandParameterInfo> bindingunbindCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5012,22 +5771,78 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bindingunbindInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BindingCluster) cluster)
-                  .unbind(
-                      (DefaultClusterCallback) callback,
-                      (Long) commandArguments.get("nodeId"),
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("endpointId"),
-                      (Long) commandArguments.get("clusterId"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            bindingunbindCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BindingCluster.CLUSTER_ID, 1L, bindingunbindCommandParams);
     bindingClusterInteractionInfoMap.put("unbind", bindingunbindInteractionInfo);
-    commandMap.put("binding", bindingClusterInteractionInfoMap);
+    return bindingClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBinding(
+      ChipClusters.BindingCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.bind(
+            (DefaultClusterCallback) callback,
+            (Long) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Long) commandArguments[3]);
+        break;
+      case 1:
+        cluster.unbind(
+            (DefaultClusterCallback) callback,
+            (Long) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Long) commandArguments[3]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBindingCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBooleanStateCommandMap() {
     Map<String, InteractionInfo> booleanStateClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("booleanState", booleanStateClusterInteractionInfoMap);
+    return booleanStateClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBooleanState(
+      ChipClusters.BooleanStateCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBooleanStateCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBridgedActionsCommandMap() {
     Map<String, InteractionInfo> bridgedActionsClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> bridgedActionsdisableActionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5043,15 +5858,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsdisableActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .disableAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            10L,
             bridgedActionsdisableActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "disableAction", bridgedActionsdisableActionInteractionInfo);
@@ -5074,16 +5883,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsdisableActionWithDurationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .disableActionWithDuration(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"),
-                      (Long) commandArguments.get("duration"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            11L,
             bridgedActionsdisableActionWithDurationCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "disableActionWithDuration", bridgedActionsdisableActionWithDurationInteractionInfo);
@@ -5101,15 +5903,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsenableActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .enableAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            8L,
             bridgedActionsenableActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "enableAction", bridgedActionsenableActionInteractionInfo);
@@ -5132,16 +5928,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsenableActionWithDurationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .enableActionWithDuration(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"),
-                      (Long) commandArguments.get("duration"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            9L,
             bridgedActionsenableActionWithDurationCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "enableActionWithDuration", bridgedActionsenableActionWithDurationInteractionInfo);
@@ -5159,15 +5948,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsinstantActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .instantAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            0L,
             bridgedActionsinstantActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "instantAction", bridgedActionsinstantActionInteractionInfo);
@@ -5192,16 +5975,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsinstantActionWithTransitionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .instantActionWithTransition(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"),
-                      (Integer) commandArguments.get("transitionTime"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            1L,
             bridgedActionsinstantActionWithTransitionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "instantActionWithTransition", bridgedActionsinstantActionWithTransitionInteractionInfo);
@@ -5219,15 +5995,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionspauseActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .pauseAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            5L,
             bridgedActionspauseActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "pauseAction", bridgedActionspauseActionInteractionInfo);
@@ -5250,16 +6020,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionspauseActionWithDurationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .pauseActionWithDuration(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"),
-                      (Long) commandArguments.get("duration"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            6L,
             bridgedActionspauseActionWithDurationCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "pauseActionWithDuration", bridgedActionspauseActionWithDurationInteractionInfo);
@@ -5277,15 +6040,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsresumeActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .resumeAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            7L,
             bridgedActionsresumeActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "resumeAction", bridgedActionsresumeActionInteractionInfo);
@@ -5303,15 +6060,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsstartActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .startAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            2L,
             bridgedActionsstartActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "startAction", bridgedActionsstartActionInteractionInfo);
@@ -5334,16 +6085,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsstartActionWithDurationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .startActionWithDuration(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"),
-                      (Long) commandArguments.get("duration"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            3L,
             bridgedActionsstartActionWithDurationCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "startActionWithDuration", bridgedActionsstartActionWithDurationInteractionInfo);
@@ -5361,22 +6105,163 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo bridgedActionsstopActionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .stopAction(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("actionID"),
-                      (Optional<Long>) commandArguments.get("invokeID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            4L,
             bridgedActionsstopActionCommandParams);
     bridgedActionsClusterInteractionInfoMap.put(
         "stopAction", bridgedActionsstopActionInteractionInfo);
-    commandMap.put("bridgedActions", bridgedActionsClusterInteractionInfoMap);
-    Map<String, InteractionInfo> bridgedDeviceBasicClusterInteractionInfoMap =
+    return bridgedActionsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBridgedActions(
+      ChipClusters.BridgedActionsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 10:
+        cluster.disableAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      case 11:
+        cluster.disableActionWithDuration(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 8:
+        cluster.enableAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      case 9:
+        cluster.enableActionWithDuration(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 0:
+        cluster.instantAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      case 1:
+        cluster.instantActionWithTransition(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1],
+            (Integer) commandArguments[2]);
+        break;
+      case 5:
+        cluster.pauseAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      case 6:
+        cluster.pauseActionWithDuration(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 7:
+        cluster.resumeAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      case 2:
+        cluster.startAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      case 3:
+        cluster.startActionWithDuration(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 4:
+        cluster.stopAction(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Optional<Long>) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBridgedActionsCommandCallback(int commandId) {
+    switch (commandId) {
+      case 10:
+        return new DelegatedDefaultClusterCallback();
+      case 11:
+        return new DelegatedDefaultClusterCallback();
+      case 8:
+        return new DelegatedDefaultClusterCallback();
+      case 9:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 5:
+        return new DelegatedDefaultClusterCallback();
+      case 6:
+        return new DelegatedDefaultClusterCallback();
+      case 7:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 4:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getBridgedDeviceBasicCommandMap() {
+    Map<String, InteractionInfo> bridgedDeviceBasicClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("bridgedDeviceBasic", bridgedDeviceBasicClusterInteractionInfoMap);
+    return bridgedDeviceBasicClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeBridgedDeviceBasic(
+      ChipClusters.BridgedDeviceBasicCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBridgedDeviceBasicCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getChannelCommandMap() {
     Map<String, InteractionInfo> channelClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> channelchangeChannelByNumberRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5392,15 +6277,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo channelchangeChannelByNumberRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ChannelCluster) cluster)
-                  .changeChannelByNumberRequest(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("majorNumber"),
-                      (Integer) commandArguments.get("minorNumber"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ChannelCluster.CLUSTER_ID,
+            2L,
             channelchangeChannelByNumberRequestCommandParams);
     channelClusterInteractionInfoMap.put(
         "changeChannelByNumberRequest", channelchangeChannelByNumberRequestInteractionInfo);
@@ -5413,15 +6292,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo channelchangeChannelRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ChannelCluster) cluster)
-                  .changeChannelRequest(
-                      (ChipClusters.ChannelCluster.ChangeChannelResponseCallback) callback,
-                      (String) commandArguments.get("match"));
-            },
-            () -> new DelegatedChangeChannelResponseCallback(),
-            channelchangeChannelRequestCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ChannelCluster.CLUSTER_ID, 0L, channelchangeChannelRequestCommandParams);
     channelClusterInteractionInfoMap.put(
         "changeChannelRequest", channelchangeChannelRequestInteractionInfo);
     Map<String, CommandParameterInfo> channelskipChannelRequestCommandParams =
@@ -5433,17 +6305,55 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo channelskipChannelRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ChannelCluster) cluster)
-                  .skipChannelRequest(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("count"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            channelskipChannelRequestCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ChannelCluster.CLUSTER_ID, 3L, channelskipChannelRequestCommandParams);
     channelClusterInteractionInfoMap.put(
         "skipChannelRequest", channelskipChannelRequestInteractionInfo);
-    commandMap.put("channel", channelClusterInteractionInfoMap);
+    return channelClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeChannel(
+      ChipClusters.ChannelCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 2:
+        cluster.changeChannelByNumberRequest(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 0:
+        cluster.changeChannelRequest(
+            (ChipClusters.ChannelCluster.ChangeChannelResponseCallback) callback,
+            (String) commandArguments[0]);
+        break;
+      case 3:
+        cluster.skipChannelRequest(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newChannelCommandCallback(int commandId) {
+    switch (commandId) {
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedChangeChannelResponseCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getColorControlCommandMap() {
     Map<String, InteractionInfo> colorControlClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> colorControlcolorLoopSetCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5484,20 +6394,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlcolorLoopSetInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .colorLoopSet(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("updateFlags"),
-                      (Integer) commandArguments.get("action"),
-                      (Integer) commandArguments.get("direction"),
-                      (Integer) commandArguments.get("time"),
-                      (Integer) commandArguments.get("startHue"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            68L,
             colorControlcolorLoopSetCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "colorLoopSet", colorControlcolorLoopSetInteractionInfo);
@@ -5525,17 +6424,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlenhancedMoveHueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .enhancedMoveHue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("moveMode"),
-                      (Integer) commandArguments.get("rate"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            65L,
             colorControlenhancedMoveHueCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "enhancedMoveHue", colorControlenhancedMoveHueInteractionInfo);
@@ -5568,18 +6459,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlenhancedMoveToHueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .enhancedMoveToHue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("enhancedHue"),
-                      (Integer) commandArguments.get("direction"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            64L,
             colorControlenhancedMoveToHueCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "enhancedMoveToHue", colorControlenhancedMoveToHueInteractionInfo);
@@ -5616,18 +6498,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlenhancedMoveToHueAndSaturationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .enhancedMoveToHueAndSaturation(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("enhancedHue"),
-                      (Integer) commandArguments.get("saturation"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            67L,
             colorControlenhancedMoveToHueAndSaturationCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "enhancedMoveToHueAndSaturation",
@@ -5661,18 +6534,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlenhancedStepHueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .enhancedStepHue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepMode"),
-                      (Integer) commandArguments.get("stepSize"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            66L,
             colorControlenhancedStepHueCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "enhancedStepHue", colorControlenhancedStepHueInteractionInfo);
@@ -5698,18 +6562,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveColorInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveColor(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("rateX"),
-                      (Integer) commandArguments.get("rateY"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            colorControlmoveColorCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 8L, colorControlmoveColorCommandParams);
     colorControlClusterInteractionInfoMap.put("moveColor", colorControlmoveColorInteractionInfo);
     Map<String, CommandParameterInfo> colorControlmoveColorTemperatureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5749,19 +6603,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveColorTemperatureInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveColorTemperature(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("moveMode"),
-                      (Integer) commandArguments.get("rate"),
-                      (Integer) commandArguments.get("colorTemperatureMinimum"),
-                      (Integer) commandArguments.get("colorTemperatureMaximum"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            75L,
             colorControlmoveColorTemperatureCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "moveColorTemperature", colorControlmoveColorTemperatureInteractionInfo);
@@ -5788,18 +6632,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveHueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveHue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("moveMode"),
-                      (Integer) commandArguments.get("rate"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            colorControlmoveHueCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 1L, colorControlmoveHueCommandParams);
     colorControlClusterInteractionInfoMap.put("moveHue", colorControlmoveHueInteractionInfo);
     Map<String, CommandParameterInfo> colorControlmoveSaturationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5825,17 +6659,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveSaturationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveSaturation(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("moveMode"),
-                      (Integer) commandArguments.get("rate"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            4L,
             colorControlmoveSaturationCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "moveSaturation", colorControlmoveSaturationInteractionInfo);
@@ -5868,19 +6694,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveToColorInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveToColor(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("colorX"),
-                      (Integer) commandArguments.get("colorY"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            colorControlmoveToColorCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 7L, colorControlmoveToColorCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "moveToColor", colorControlmoveToColorInteractionInfo);
     Map<String, CommandParameterInfo> colorControlmoveToColorTemperatureCommandParams =
@@ -5907,17 +6722,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveToColorTemperatureInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveToColorTemperature(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("colorTemperature"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            10L,
             colorControlmoveToColorTemperatureCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "moveToColorTemperature", colorControlmoveToColorTemperatureInteractionInfo);
@@ -5949,19 +6756,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveToHueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveToHue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("hue"),
-                      (Integer) commandArguments.get("direction"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            colorControlmoveToHueCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 0L, colorControlmoveToHueCommandParams);
     colorControlClusterInteractionInfoMap.put("moveToHue", colorControlmoveToHueInteractionInfo);
     Map<String, CommandParameterInfo> colorControlmoveToHueAndSaturationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -5992,18 +6788,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveToHueAndSaturationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveToHueAndSaturation(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("hue"),
-                      (Integer) commandArguments.get("saturation"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            6L,
             colorControlmoveToHueAndSaturationCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "moveToHueAndSaturation", colorControlmoveToHueAndSaturationInteractionInfo);
@@ -6031,17 +6818,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlmoveToSaturationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .moveToSaturation(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("saturation"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            3L,
             colorControlmoveToSaturationCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "moveToSaturation", colorControlmoveToSaturationInteractionInfo);
@@ -6072,19 +6851,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlstepColorInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .stepColor(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepX"),
-                      (Integer) commandArguments.get("stepY"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            colorControlstepColorCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 9L, colorControlstepColorCommandParams);
     colorControlClusterInteractionInfoMap.put("stepColor", colorControlstepColorInteractionInfo);
     Map<String, CommandParameterInfo> colorControlstepColorTemperatureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6129,20 +6897,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlstepColorTemperatureInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .stepColorTemperature(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepMode"),
-                      (Integer) commandArguments.get("stepSize"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("colorTemperatureMinimum"),
-                      (Integer) commandArguments.get("colorTemperatureMaximum"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            76L,
             colorControlstepColorTemperatureCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "stepColorTemperature", colorControlstepColorTemperatureInteractionInfo);
@@ -6175,19 +6932,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlstepHueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .stepHue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepMode"),
-                      (Integer) commandArguments.get("stepSize"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            colorControlstepHueCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 2L, colorControlstepHueCommandParams);
     colorControlClusterInteractionInfoMap.put("stepHue", colorControlstepHueInteractionInfo);
     Map<String, CommandParameterInfo> colorControlstepSaturationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6218,18 +6964,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlstepSaturationInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .stepSaturation(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepMode"),
-                      (Integer) commandArguments.get("stepSize"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            5L,
             colorControlstepSaturationCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "stepSaturation", colorControlstepSaturationInteractionInfo);
@@ -6247,19 +6984,241 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo colorControlstopMoveStepInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .stopMoveStep(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("optionsMask"),
-                      (Integer) commandArguments.get("optionsOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            71L,
             colorControlstopMoveStepCommandParams);
     colorControlClusterInteractionInfoMap.put(
         "stopMoveStep", colorControlstopMoveStepInteractionInfo);
-    commandMap.put("colorControl", colorControlClusterInteractionInfoMap);
+    return colorControlClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeColorControl(
+      ChipClusters.ColorControlCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 68:
+        cluster.colorLoopSet(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Integer) commandArguments[6]);
+        break;
+      case 65:
+        cluster.enhancedMoveHue(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 64:
+        cluster.enhancedMoveToHue(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 67:
+        cluster.enhancedMoveToHueAndSaturation(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 66:
+        cluster.enhancedStepHue(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 8:
+        cluster.moveColor(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 75:
+        cluster.moveColorTemperature(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4],
+            (Integer) commandArguments[5]);
+        break;
+      case 1:
+        cluster.moveHue(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 4:
+        cluster.moveSaturation(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 7:
+        cluster.moveToColor(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 10:
+        cluster.moveToColorTemperature(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 0:
+        cluster.moveToHue(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 6:
+        cluster.moveToHueAndSaturation(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 3:
+        cluster.moveToSaturation(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 9:
+        cluster.stepColor(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 76:
+        cluster.stepColorTemperature(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Integer) commandArguments[6]);
+        break;
+      case 2:
+        cluster.stepHue(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 5:
+        cluster.stepSaturation(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 71:
+        cluster.stopMoveStep(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newColorControlCommandCallback(int commandId) {
+    switch (commandId) {
+      case 68:
+        return new DelegatedDefaultClusterCallback();
+      case 65:
+        return new DelegatedDefaultClusterCallback();
+      case 64:
+        return new DelegatedDefaultClusterCallback();
+      case 67:
+        return new DelegatedDefaultClusterCallback();
+      case 66:
+        return new DelegatedDefaultClusterCallback();
+      case 8:
+        return new DelegatedDefaultClusterCallback();
+      case 75:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 4:
+        return new DelegatedDefaultClusterCallback();
+      case 7:
+        return new DelegatedDefaultClusterCallback();
+      case 10:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 6:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 9:
+        return new DelegatedDefaultClusterCallback();
+      case 76:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 5:
+        return new DelegatedDefaultClusterCallback();
+      case 71:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getContentLauncherCommandMap() {
     Map<String, InteractionInfo> contentLauncherClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> contentLauncherlaunchContentRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6275,15 +7234,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo contentLauncherlaunchContentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .launchContentRequest(
-                      (ChipClusters.ContentLauncherCluster.LaunchResponseCallback) callback,
-                      (Boolean) commandArguments.get("autoPlay"),
-                      (String) commandArguments.get("data"));
-            },
-            () -> new DelegatedLaunchResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            0L,
             contentLauncherlaunchContentRequestCommandParams);
     contentLauncherClusterInteractionInfoMap.put(
         "launchContentRequest", contentLauncherlaunchContentRequestInteractionInfo);
@@ -6306,22 +7259,78 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo contentLauncherlaunchURLRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .launchURLRequest(
-                      (ChipClusters.ContentLauncherCluster.LaunchResponseCallback) callback,
-                      (String) commandArguments.get("contentURL"),
-                      (String) commandArguments.get("displayString"),
-                      (String) commandArguments.get("providerName"));
-            },
-            () -> new DelegatedLaunchResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            1L,
             contentLauncherlaunchURLRequestCommandParams);
     contentLauncherClusterInteractionInfoMap.put(
         "launchURLRequest", contentLauncherlaunchURLRequestInteractionInfo);
-    commandMap.put("contentLauncher", contentLauncherClusterInteractionInfoMap);
+    return contentLauncherClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeContentLauncher(
+      ChipClusters.ContentLauncherCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.launchContentRequest(
+            (ChipClusters.ContentLauncherCluster.LaunchResponseCallback) callback,
+            (Boolean) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 1:
+        cluster.launchURLRequest(
+            (ChipClusters.ContentLauncherCluster.LaunchResponseCallback) callback,
+            (String) commandArguments[0],
+            (String) commandArguments[1],
+            (String) commandArguments[2]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newContentLauncherCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedLaunchResponseCallback();
+      case 1:
+        return new DelegatedLaunchResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDescriptorCommandMap() {
     Map<String, InteractionInfo> descriptorClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("descriptor", descriptorClusterInteractionInfoMap);
+    return descriptorClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeDescriptor(
+      ChipClusters.DescriptorCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newDescriptorCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDiagnosticLogsCommandMap() {
     Map<String, InteractionInfo> diagnosticLogsClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> diagnosticLogsretrieveLogsRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6345,20 +7354,45 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo diagnosticLogsretrieveLogsRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DiagnosticLogsCluster) cluster)
-                  .retrieveLogsRequest(
-                      (ChipClusters.DiagnosticLogsCluster.RetrieveLogsResponseCallback) callback,
-                      (Integer) commandArguments.get("intent"),
-                      (Integer) commandArguments.get("requestedProtocol"),
-                      (byte[]) commandArguments.get("transferFileDesignator"));
-            },
-            () -> new DelegatedRetrieveLogsResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DiagnosticLogsCluster.CLUSTER_ID,
+            0L,
             diagnosticLogsretrieveLogsRequestCommandParams);
     diagnosticLogsClusterInteractionInfoMap.put(
         "retrieveLogsRequest", diagnosticLogsretrieveLogsRequestInteractionInfo);
-    commandMap.put("diagnosticLogs", diagnosticLogsClusterInteractionInfoMap);
+    return diagnosticLogsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeDiagnosticLogs(
+      ChipClusters.DiagnosticLogsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.retrieveLogsRequest(
+            (ChipClusters.DiagnosticLogsCluster.RetrieveLogsResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (byte[]) commandArguments[2]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newDiagnosticLogsCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedRetrieveLogsResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getDoorLockCommandMap() {
     Map<String, InteractionInfo> doorLockClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> doorLockclearCredentialCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6374,16 +7408,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLockclearCredentialInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .clearCredential(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("credentialType"),
-                      (Integer) commandArguments.get("credentialIndex"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            doorLockclearCredentialCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 38L, doorLockclearCredentialCommandParams);
     doorLockClusterInteractionInfoMap.put(
         "clearCredential", doorLockclearCredentialInteractionInfo);
     Map<String, CommandParameterInfo> doorLockclearUserCommandParams =
@@ -6394,15 +7420,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLockclearUserInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .clearUser(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("userIndex"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            doorLockclearUserCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 29L, doorLockclearUserCommandParams);
     doorLockClusterInteractionInfoMap.put("clearUser", doorLockclearUserInteractionInfo);
     Map<String, CommandParameterInfo> doorLockgetCredentialStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6418,16 +7437,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLockgetCredentialStatusInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .getCredentialStatus(
-                      (ChipClusters.DoorLockCluster.GetCredentialStatusResponseCallback) callback,
-                      (Integer) commandArguments.get("credentialType"),
-                      (Integer) commandArguments.get("credentialIndex"));
-            },
-            () -> new DelegatedGetCredentialStatusResponseCallback(),
-            doorLockgetCredentialStatusCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 36L, doorLockgetCredentialStatusCommandParams);
     doorLockClusterInteractionInfoMap.put(
         "getCredentialStatus", doorLockgetCredentialStatusInteractionInfo);
     Map<String, CommandParameterInfo> doorLockgetUserCommandParams =
@@ -6438,15 +7449,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLockgetUserInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .getUser(
-                      (ChipClusters.DoorLockCluster.GetUserResponseCallback) callback,
-                      (Integer) commandArguments.get("userIndex"));
-            },
-            () -> new DelegatedGetUserResponseCallback(),
-            doorLockgetUserCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 27L, doorLockgetUserCommandParams);
     doorLockClusterInteractionInfoMap.put("getUser", doorLockgetUserInteractionInfo);
     Map<String, CommandParameterInfo> doorLocklockDoorCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6456,15 +7460,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLocklockDoorInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .lockDoor(
-                      (DefaultClusterCallback) callback,
-                      (Optional<byte[]>) commandArguments.get("pinCode"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            doorLocklockDoorCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 0L, doorLocklockDoorCommandParams);
     doorLockClusterInteractionInfoMap.put("lockDoor", doorLocklockDoorInteractionInfo);
     Map<String, CommandParameterInfo> doorLocksetCredentialCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6500,20 +7497,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLocksetCredentialInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .setCredential(
-                      (ChipClusters.DoorLockCluster.SetCredentialResponseCallback) callback,
-                      (Integer) commandArguments.get("operationType"),
-                      (Integer) commandArguments.get("credentialType"),
-                      (Integer) commandArguments.get("credentialIndex"),
-                      (byte[]) commandArguments.get("credentialData"),
-                      (Integer) commandArguments.get("userIndex"),
-                      (Integer) commandArguments.get("userStatus"));
-            },
-            () -> new DelegatedSetCredentialResponseCallback(),
-            doorLocksetCredentialCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 34L, doorLocksetCredentialCommandParams);
     doorLockClusterInteractionInfoMap.put("setCredential", doorLocksetCredentialInteractionInfo);
     Map<String, CommandParameterInfo> doorLocksetUserCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6550,21 +7535,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLocksetUserInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .setUser(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("operationType"),
-                      (Integer) commandArguments.get("userIndex"),
-                      (String) commandArguments.get("userName"),
-                      (Long) commandArguments.get("userUniqueId"),
-                      (Integer) commandArguments.get("userStatus"),
-                      (Integer) commandArguments.get("userType"),
-                      (Integer) commandArguments.get("credentialRule"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            doorLocksetUserCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 26L, doorLocksetUserCommandParams);
     doorLockClusterInteractionInfoMap.put("setUser", doorLocksetUserInteractionInfo);
     Map<String, CommandParameterInfo> doorLockunlockDoorCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6574,41 +7546,215 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo doorLockunlockDoorInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .unlockDoor(
-                      (DefaultClusterCallback) callback,
-                      (Optional<byte[]>) commandArguments.get("pinCode"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            doorLockunlockDoorCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 1L, doorLockunlockDoorCommandParams);
     doorLockClusterInteractionInfoMap.put("unlockDoor", doorLockunlockDoorInteractionInfo);
-    commandMap.put("doorLock", doorLockClusterInteractionInfoMap);
+    return doorLockClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeDoorLock(
+      ChipClusters.DoorLockCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 38:
+        cluster.clearCredential(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 29:
+        cluster.clearUser((DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 36:
+        cluster.getCredentialStatus(
+            (ChipClusters.DoorLockCluster.GetCredentialStatusResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 27:
+        cluster.getUser(
+            (ChipClusters.DoorLockCluster.GetUserResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 0:
+        cluster.lockDoor((DefaultClusterCallback) callback, (Optional<byte[]>) commandArguments[0]);
+        break;
+      case 34:
+        cluster.setCredential(
+            (ChipClusters.DoorLockCluster.SetCredentialResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (byte[]) commandArguments[3],
+            (Integer) commandArguments[4],
+            (Integer) commandArguments[5]);
+        break;
+      case 26:
+        cluster.setUser(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (String) commandArguments[2],
+            (Long) commandArguments[3],
+            (Integer) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Integer) commandArguments[6]);
+        break;
+      case 1:
+        cluster.unlockDoor(
+            (DefaultClusterCallback) callback, (Optional<byte[]>) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newDoorLockCommandCallback(int commandId) {
+    switch (commandId) {
+      case 38:
+        return new DelegatedDefaultClusterCallback();
+      case 29:
+        return new DelegatedDefaultClusterCallback();
+      case 36:
+        return new DelegatedGetCredentialStatusResponseCallback();
+      case 27:
+        return new DelegatedGetUserResponseCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 34:
+        return new DelegatedSetCredentialResponseCallback();
+      case 26:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getElectricalMeasurementCommandMap() {
     Map<String, InteractionInfo> electricalMeasurementClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("electricalMeasurement", electricalMeasurementClusterInteractionInfoMap);
+    return electricalMeasurementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeElectricalMeasurement(
+      ChipClusters.ElectricalMeasurementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newElectricalMeasurementCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getEthernetNetworkDiagnosticsCommandMap() {
     Map<String, InteractionInfo> ethernetNetworkDiagnosticsClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> ethernetNetworkDiagnosticsresetCountsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo ethernetNetworkDiagnosticsresetCountsInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .resetCounts((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            0L,
             ethernetNetworkDiagnosticsresetCountsCommandParams);
     ethernetNetworkDiagnosticsClusterInteractionInfoMap.put(
         "resetCounts", ethernetNetworkDiagnosticsresetCountsInteractionInfo);
-    commandMap.put(
-        "ethernetNetworkDiagnostics", ethernetNetworkDiagnosticsClusterInteractionInfoMap);
+    return ethernetNetworkDiagnosticsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeEthernetNetworkDiagnostics(
+      ChipClusters.EthernetNetworkDiagnosticsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.resetCounts((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newEthernetNetworkDiagnosticsCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFixedLabelCommandMap() {
     Map<String, InteractionInfo> fixedLabelClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("fixedLabel", fixedLabelClusterInteractionInfoMap);
+    return fixedLabelClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeFixedLabel(
+      ChipClusters.FixedLabelCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newFixedLabelCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getFlowMeasurementCommandMap() {
     Map<String, InteractionInfo> flowMeasurementClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("flowMeasurement", flowMeasurementClusterInteractionInfoMap);
+    return flowMeasurementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeFlowMeasurement(
+      ChipClusters.FlowMeasurementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newFlowMeasurementCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGeneralCommissioningCommandMap() {
     Map<String, InteractionInfo> generalCommissioningClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> generalCommissioningarmFailSafeCommandParams =
@@ -6631,17 +7777,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo generalCommissioningarmFailSafeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .armFailSafe(
-                      (ChipClusters.GeneralCommissioningCluster.ArmFailSafeResponseCallback)
-                          callback,
-                      (Integer) commandArguments.get("expiryLengthSeconds"),
-                      (Long) commandArguments.get("breadcrumb"),
-                      (Long) commandArguments.get("timeoutMs"));
-            },
-            () -> new DelegatedArmFailSafeResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            0L,
             generalCommissioningarmFailSafeCommandParams);
     generalCommissioningClusterInteractionInfoMap.put(
         "armFailSafe", generalCommissioningarmFailSafeInteractionInfo);
@@ -6649,15 +7787,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo generalCommissioningcommissioningCompleteInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .commissioningComplete(
-                      (ChipClusters.GeneralCommissioningCluster
-                              .CommissioningCompleteResponseCallback)
-                          callback);
-            },
-            () -> new DelegatedCommissioningCompleteResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            4L,
             generalCommissioningcommissioningCompleteCommandParams);
     generalCommissioningClusterInteractionInfoMap.put(
         "commissioningComplete", generalCommissioningcommissioningCompleteInteractionInfo);
@@ -6685,25 +7817,88 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo generalCommissioningsetRegulatoryConfigInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .setRegulatoryConfig(
-                      (ChipClusters.GeneralCommissioningCluster.SetRegulatoryConfigResponseCallback)
-                          callback,
-                      (Integer) commandArguments.get("location"),
-                      (String) commandArguments.get("countryCode"),
-                      (Long) commandArguments.get("breadcrumb"),
-                      (Long) commandArguments.get("timeoutMs"));
-            },
-            () -> new DelegatedSetRegulatoryConfigResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            2L,
             generalCommissioningsetRegulatoryConfigCommandParams);
     generalCommissioningClusterInteractionInfoMap.put(
         "setRegulatoryConfig", generalCommissioningsetRegulatoryConfigInteractionInfo);
-    commandMap.put("generalCommissioning", generalCommissioningClusterInteractionInfoMap);
+    return generalCommissioningClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeGeneralCommissioning(
+      ChipClusters.GeneralCommissioningCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.armFailSafe(
+            (ChipClusters.GeneralCommissioningCluster.ArmFailSafeResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Long) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 4:
+        cluster.commissioningComplete(
+            (ChipClusters.GeneralCommissioningCluster.CommissioningCompleteResponseCallback)
+                callback);
+        break;
+      case 2:
+        cluster.setRegulatoryConfig(
+            (ChipClusters.GeneralCommissioningCluster.SetRegulatoryConfigResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1],
+            (Long) commandArguments[2],
+            (Long) commandArguments[3]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGeneralCommissioningCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedArmFailSafeResponseCallback();
+      case 4:
+        return new DelegatedCommissioningCompleteResponseCallback();
+      case 2:
+        return new DelegatedSetRegulatoryConfigResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGeneralDiagnosticsCommandMap() {
     Map<String, InteractionInfo> generalDiagnosticsClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("generalDiagnostics", generalDiagnosticsClusterInteractionInfoMap);
+    return generalDiagnosticsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeGeneralDiagnostics(
+      ChipClusters.GeneralDiagnosticsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGeneralDiagnosticsCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGroupKeyManagementCommandMap() {
     Map<String, InteractionInfo> groupKeyManagementClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> groupKeyManagementkeySetReadCommandParams =
@@ -6715,14 +7910,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupKeyManagementkeySetReadInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .keySetRead(
-                      (ChipClusters.GroupKeyManagementCluster.KeySetReadResponseCallback) callback,
-                      (Integer) commandArguments.get("groupKeySetID"));
-            },
-            () -> new DelegatedKeySetReadResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            1L,
             groupKeyManagementkeySetReadCommandParams);
     groupKeyManagementClusterInteractionInfoMap.put(
         "keySetRead", groupKeyManagementkeySetReadInteractionInfo);
@@ -6735,15 +7925,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupKeyManagementkeySetReadAllIndicesInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .keySetReadAllIndices(
-                      (ChipClusters.GroupKeyManagementCluster.KeySetReadAllIndicesResponseCallback)
-                          callback,
-                      (Integer) commandArguments.get("groupKeySetIDs"));
-            },
-            () -> new DelegatedKeySetReadAllIndicesResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            4L,
             groupKeyManagementkeySetReadAllIndicesCommandParams);
     groupKeyManagementClusterInteractionInfoMap.put(
         "keySetReadAllIndices", groupKeyManagementkeySetReadAllIndicesInteractionInfo);
@@ -6756,14 +7940,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupKeyManagementkeySetRemoveInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .keySetRemove(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("groupKeySetID"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            3L,
             groupKeyManagementkeySetRemoveCommandParams);
     groupKeyManagementClusterInteractionInfoMap.put(
         "keySetRemove", groupKeyManagementkeySetRemoveInteractionInfo);
@@ -6811,25 +7990,69 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupKeyManagementkeySetWriteInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .keySetWrite(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("groupKeySetID"),
-                      (Integer) commandArguments.get("securityPolicy"),
-                      (byte[]) commandArguments.get("epochKey0"),
-                      (Long) commandArguments.get("epochStartTime0"),
-                      (byte[]) commandArguments.get("epochKey1"),
-                      (Long) commandArguments.get("epochStartTime1"),
-                      (byte[]) commandArguments.get("epochKey2"),
-                      (Long) commandArguments.get("epochStartTime2"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            0L,
             groupKeyManagementkeySetWriteCommandParams);
     groupKeyManagementClusterInteractionInfoMap.put(
         "keySetWrite", groupKeyManagementkeySetWriteInteractionInfo);
-    commandMap.put("groupKeyManagement", groupKeyManagementClusterInteractionInfoMap);
+    return groupKeyManagementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeGroupKeyManagement(
+      ChipClusters.GroupKeyManagementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 1:
+        cluster.keySetRead(
+            (ChipClusters.GroupKeyManagementCluster.KeySetReadResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 4:
+        cluster.keySetReadAllIndices(
+            (ChipClusters.GroupKeyManagementCluster.KeySetReadAllIndicesResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 3:
+        cluster.keySetRemove((DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 0:
+        cluster.keySetWrite(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (byte[]) commandArguments[2],
+            (Long) commandArguments[3],
+            (byte[]) commandArguments[4],
+            (Long) commandArguments[5],
+            (byte[]) commandArguments[6],
+            (Long) commandArguments[7]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGroupKeyManagementCommandCallback(int commandId) {
+    switch (commandId) {
+      case 1:
+        return new DelegatedKeySetReadResponseCallback();
+      case 4:
+        return new DelegatedKeySetReadAllIndicesResponseCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getGroupsCommandMap() {
     Map<String, InteractionInfo> groupsClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> groupsaddGroupCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6843,16 +8066,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupsaddGroupInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .addGroup(
-                      (ChipClusters.GroupsCluster.AddGroupResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (String) commandArguments.get("groupName"));
-            },
-            () -> new DelegatedAddGroupResponseCallback(),
-            groupsaddGroupCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 0L, groupsaddGroupCommandParams);
     groupsClusterInteractionInfoMap.put("addGroup", groupsaddGroupInteractionInfo);
     Map<String, CommandParameterInfo> groupsaddGroupIfIdentifyingCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6868,16 +8083,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupsaddGroupIfIdentifyingInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .addGroupIfIdentifying(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (String) commandArguments.get("groupName"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            groupsaddGroupIfIdentifyingCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 5L, groupsaddGroupIfIdentifyingCommandParams);
     groupsClusterInteractionInfoMap.put(
         "addGroupIfIdentifying", groupsaddGroupIfIdentifyingInteractionInfo);
     Map<String, CommandParameterInfo> groupsgetGroupMembershipCommandParams =
@@ -6889,28 +8096,16 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupsgetGroupMembershipInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .getGroupMembership(
-                      (ChipClusters.GroupsCluster.GetGroupMembershipResponseCallback) callback,
-                      (Integer) commandArguments.get("groupList"));
-            },
-            () -> new DelegatedGetGroupMembershipResponseCallback(),
-            groupsgetGroupMembershipCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 2L, groupsgetGroupMembershipCommandParams);
     groupsClusterInteractionInfoMap.put(
         "getGroupMembership", groupsgetGroupMembershipInteractionInfo);
     Map<String, CommandParameterInfo> groupsremoveAllGroupsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo groupsremoveAllGroupsInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .removeAllGroups((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            groupsremoveAllGroupsCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 4L, groupsremoveAllGroupsCommandParams);
     groupsClusterInteractionInfoMap.put("removeAllGroups", groupsremoveAllGroupsInteractionInfo);
     Map<String, CommandParameterInfo> groupsremoveGroupCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6920,15 +8115,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupsremoveGroupInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .removeGroup(
-                      (ChipClusters.GroupsCluster.RemoveGroupResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"));
-            },
-            () -> new DelegatedRemoveGroupResponseCallback(),
-            groupsremoveGroupCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 3L, groupsremoveGroupCommandParams);
     groupsClusterInteractionInfoMap.put("removeGroup", groupsremoveGroupInteractionInfo);
     Map<String, CommandParameterInfo> groupsviewGroupCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6938,17 +8126,75 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo groupsviewGroupInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .viewGroup(
-                      (ChipClusters.GroupsCluster.ViewGroupResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"));
-            },
-            () -> new DelegatedViewGroupResponseCallback(),
-            groupsviewGroupCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 1L, groupsviewGroupCommandParams);
     groupsClusterInteractionInfoMap.put("viewGroup", groupsviewGroupInteractionInfo);
-    commandMap.put("groups", groupsClusterInteractionInfoMap);
+    return groupsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeGroups(
+      ChipClusters.GroupsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.addGroup(
+            (ChipClusters.GroupsCluster.AddGroupResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 5:
+        cluster.addGroupIfIdentifying(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 2:
+        cluster.getGroupMembership(
+            (ChipClusters.GroupsCluster.GetGroupMembershipResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 4:
+        cluster.removeAllGroups((DefaultClusterCallback) callback);
+        break;
+      case 3:
+        cluster.removeGroup(
+            (ChipClusters.GroupsCluster.RemoveGroupResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 1:
+        cluster.viewGroup(
+            (ChipClusters.GroupsCluster.ViewGroupResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGroupsCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedAddGroupResponseCallback();
+      case 5:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedGetGroupMembershipResponseCallback();
+      case 4:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedRemoveGroupResponseCallback();
+      case 1:
+        return new DelegatedViewGroupResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getIdentifyCommandMap() {
     Map<String, InteractionInfo> identifyClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> identifyidentifyCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6959,28 +8205,15 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo identifyidentifyInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .identify(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("identifyTime"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            identifyidentifyCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID, 0L, identifyidentifyCommandParams);
     identifyClusterInteractionInfoMap.put("identify", identifyidentifyInteractionInfo);
     Map<String, CommandParameterInfo> identifyidentifyQueryCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo identifyidentifyQueryInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .identifyQuery(
-                      (ChipClusters.IdentifyCluster.IdentifyQueryResponseCallback) callback);
-            },
-            () -> new DelegatedIdentifyQueryResponseCallback(),
-            identifyidentifyQueryCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID, 1L, identifyidentifyQueryCommandParams);
     identifyClusterInteractionInfoMap.put("identifyQuery", identifyidentifyQueryInteractionInfo);
     Map<String, CommandParameterInfo> identifytriggerEffectCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -6996,21 +8229,78 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo identifytriggerEffectInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .triggerEffect(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("effectIdentifier"),
-                      (Integer) commandArguments.get("effectVariant"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            identifytriggerEffectCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID, 64L, identifytriggerEffectCommandParams);
     identifyClusterInteractionInfoMap.put("triggerEffect", identifytriggerEffectInteractionInfo);
-    commandMap.put("identify", identifyClusterInteractionInfoMap);
+    return identifyClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeIdentify(
+      ChipClusters.IdentifyCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.identify((DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 1:
+        cluster.identifyQuery(
+            (ChipClusters.IdentifyCluster.IdentifyQueryResponseCallback) callback);
+        break;
+      case 64:
+        cluster.triggerEffect(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newIdentifyCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedIdentifyQueryResponseCallback();
+      case 64:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getIlluminanceMeasurementCommandMap() {
     Map<String, InteractionInfo> illuminanceMeasurementClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("illuminanceMeasurement", illuminanceMeasurementClusterInteractionInfoMap);
+    return illuminanceMeasurementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeIlluminanceMeasurement(
+      ChipClusters.IlluminanceMeasurementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newIlluminanceMeasurementCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getKeypadInputCommandMap() {
     Map<String, InteractionInfo> keypadInputClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> keypadInputsendKeyRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -7021,18 +8311,41 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo keypadInputsendKeyRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.KeypadInputCluster) cluster)
-                  .sendKeyRequest(
-                      (ChipClusters.KeypadInputCluster.SendKeyResponseCallback) callback,
-                      (Integer) commandArguments.get("keyCode"));
-            },
-            () -> new DelegatedSendKeyResponseCallback(),
-            keypadInputsendKeyRequestCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.KeypadInputCluster.CLUSTER_ID, 0L, keypadInputsendKeyRequestCommandParams);
     keypadInputClusterInteractionInfoMap.put(
         "sendKeyRequest", keypadInputsendKeyRequestInteractionInfo);
-    commandMap.put("keypadInput", keypadInputClusterInteractionInfoMap);
+    return keypadInputClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeKeypadInput(
+      ChipClusters.KeypadInputCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.sendKeyRequest(
+            (ChipClusters.KeypadInputCluster.SendKeyResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newKeypadInputCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedSendKeyResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLevelControlCommandMap() {
     Map<String, InteractionInfo> levelControlClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> levelControlmoveCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -7055,18 +8368,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlmoveInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .move(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("moveMode"),
-                      (Integer) commandArguments.get("rate"),
-                      (Integer) commandArguments.get("optionMask"),
-                      (Integer) commandArguments.get("optionOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            levelControlmoveCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 1L, levelControlmoveCommandParams);
     levelControlClusterInteractionInfoMap.put("move", levelControlmoveInteractionInfo);
     Map<String, CommandParameterInfo> levelControlmoveToLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -7092,18 +8395,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlmoveToLevelInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .moveToLevel(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("level"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionMask"),
-                      (Integer) commandArguments.get("optionOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            levelControlmoveToLevelCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 0L, levelControlmoveToLevelCommandParams);
     levelControlClusterInteractionInfoMap.put(
         "moveToLevel", levelControlmoveToLevelInteractionInfo);
     Map<String, CommandParameterInfo> levelControlmoveToLevelWithOnOffCommandParams =
@@ -7120,15 +8413,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlmoveToLevelWithOnOffInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .moveToLevelWithOnOff(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("level"),
-                      (Integer) commandArguments.get("transitionTime"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            4L,
             levelControlmoveToLevelWithOnOffCommandParams);
     levelControlClusterInteractionInfoMap.put(
         "moveToLevelWithOnOff", levelControlmoveToLevelWithOnOffInteractionInfo);
@@ -7146,15 +8433,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlmoveWithOnOffInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .moveWithOnOff(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("moveMode"),
-                      (Integer) commandArguments.get("rate"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            5L,
             levelControlmoveWithOnOffCommandParams);
     levelControlClusterInteractionInfoMap.put(
         "moveWithOnOff", levelControlmoveWithOnOffInteractionInfo);
@@ -7184,19 +8465,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlstepInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .step(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepMode"),
-                      (Integer) commandArguments.get("stepSize"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (Integer) commandArguments.get("optionMask"),
-                      (Integer) commandArguments.get("optionOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            levelControlstepCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 2L, levelControlstepCommandParams);
     levelControlClusterInteractionInfoMap.put("step", levelControlstepInteractionInfo);
     Map<String, CommandParameterInfo> levelControlstepWithOnOffCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -7217,16 +8487,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlstepWithOnOffInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .stepWithOnOff(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("stepMode"),
-                      (Integer) commandArguments.get("stepSize"),
-                      (Integer) commandArguments.get("transitionTime"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            6L,
             levelControlstepWithOnOffCommandParams);
     levelControlClusterInteractionInfoMap.put(
         "stepWithOnOff", levelControlstepWithOnOffInteractionInfo);
@@ -7243,58 +8506,184 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo levelControlstopInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .stop(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("optionMask"),
-                      (Integer) commandArguments.get("optionOverride"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            levelControlstopCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 3L, levelControlstopCommandParams);
     levelControlClusterInteractionInfoMap.put("stop", levelControlstopInteractionInfo);
     Map<String, CommandParameterInfo> levelControlstopWithOnOffCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo levelControlstopWithOnOffInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .stopWithOnOff((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            7L,
             levelControlstopWithOnOffCommandParams);
     levelControlClusterInteractionInfoMap.put(
         "stopWithOnOff", levelControlstopWithOnOffInteractionInfo);
-    commandMap.put("levelControl", levelControlClusterInteractionInfoMap);
+    return levelControlClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeLevelControl(
+      ChipClusters.LevelControlCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 1:
+        cluster.move(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 0:
+        cluster.moveToLevel(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 4:
+        cluster.moveToLevelWithOnOff(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 5:
+        cluster.moveWithOnOff(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 2:
+        cluster.step(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 6:
+        cluster.stepWithOnOff(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2]);
+        break;
+      case 3:
+        cluster.stop(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 7:
+        cluster.stopWithOnOff((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newLevelControlCommandCallback(int commandId) {
+    switch (commandId) {
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 4:
+        return new DelegatedDefaultClusterCallback();
+      case 5:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 6:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 7:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLocalizationConfigurationCommandMap() {
     Map<String, InteractionInfo> localizationConfigurationClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("localizationConfiguration", localizationConfigurationClusterInteractionInfoMap);
+    return localizationConfigurationClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeLocalizationConfiguration(
+      ChipClusters.LocalizationConfigurationCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newLocalizationConfigurationCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getLowPowerCommandMap() {
     Map<String, InteractionInfo> lowPowerClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> lowPowersleepCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo lowPowersleepInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LowPowerCluster) cluster).sleep((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            lowPowersleepCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.LowPowerCluster.CLUSTER_ID, 0L, lowPowersleepCommandParams);
     lowPowerClusterInteractionInfoMap.put("sleep", lowPowersleepInteractionInfo);
-    commandMap.put("lowPower", lowPowerClusterInteractionInfoMap);
+    return lowPowerClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeLowPower(
+      ChipClusters.LowPowerCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.sleep((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newLowPowerCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMediaInputCommandMap() {
     Map<String, InteractionInfo> mediaInputClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> mediaInputhideInputStatusRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaInputhideInputStatusRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .hideInputStatusRequest((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            2L,
             mediaInputhideInputStatusRequestCommandParams);
     mediaInputClusterInteractionInfoMap.put(
         "hideInputStatusRequest", mediaInputhideInputStatusRequestInteractionInfo);
@@ -7312,15 +8701,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo mediaInputrenameInputRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .renameInputRequest(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("index"),
-                      (String) commandArguments.get("name"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            3L,
             mediaInputrenameInputRequestCommandParams);
     mediaInputClusterInteractionInfoMap.put(
         "renameInputRequest", mediaInputrenameInputRequestInteractionInfo);
@@ -7333,13 +8716,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo mediaInputselectInputRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .selectInputRequest(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("index"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            0L,
             mediaInputselectInputRequestCommandParams);
     mediaInputClusterInteractionInfoMap.put(
         "selectInputRequest", mediaInputselectInputRequestInteractionInfo);
@@ -7347,28 +8726,68 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaInputshowInputStatusRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .showInputStatusRequest((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            1L,
             mediaInputshowInputStatusRequestCommandParams);
     mediaInputClusterInteractionInfoMap.put(
         "showInputStatusRequest", mediaInputshowInputStatusRequestInteractionInfo);
-    commandMap.put("mediaInput", mediaInputClusterInteractionInfoMap);
+    return mediaInputClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeMediaInput(
+      ChipClusters.MediaInputCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 2:
+        cluster.hideInputStatusRequest((DefaultClusterCallback) callback);
+        break;
+      case 3:
+        cluster.renameInputRequest(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      case 0:
+        cluster.selectInputRequest(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 1:
+        cluster.showInputStatusRequest((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newMediaInputCommandCallback(int commandId) {
+    switch (commandId) {
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getMediaPlaybackCommandMap() {
     Map<String, InteractionInfo> mediaPlaybackClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> mediaPlaybackfastForwardRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackfastForwardRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .fastForwardRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            7L,
             mediaPlaybackfastForwardRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "fastForwardRequest", mediaPlaybackfastForwardRequestInteractionInfo);
@@ -7376,13 +8795,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybacknextRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .nextRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            5L,
             mediaPlaybacknextRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "nextRequest", mediaPlaybacknextRequestInteractionInfo);
@@ -7390,13 +8805,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackpauseRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .pauseRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            1L,
             mediaPlaybackpauseRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "pauseRequest", mediaPlaybackpauseRequestInteractionInfo);
@@ -7404,13 +8815,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackplayRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .playRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            0L,
             mediaPlaybackplayRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "playRequest", mediaPlaybackplayRequestInteractionInfo);
@@ -7418,13 +8825,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackpreviousRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .previousRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            4L,
             mediaPlaybackpreviousRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "previousRequest", mediaPlaybackpreviousRequestInteractionInfo);
@@ -7432,13 +8835,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackrewindRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .rewindRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            6L,
             mediaPlaybackrewindRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "rewindRequest", mediaPlaybackrewindRequestInteractionInfo);
@@ -7451,14 +8850,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo mediaPlaybackseekRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .seekRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback,
-                      (Long) commandArguments.get("position"));
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            11L,
             mediaPlaybackseekRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "seekRequest", mediaPlaybackseekRequestInteractionInfo);
@@ -7473,14 +8867,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo mediaPlaybackskipBackwardRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .skipBackwardRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback,
-                      (Long) commandArguments.get("deltaPositionMilliseconds"));
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            9L,
             mediaPlaybackskipBackwardRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "skipBackwardRequest", mediaPlaybackskipBackwardRequestInteractionInfo);
@@ -7495,14 +8884,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo mediaPlaybackskipForwardRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .skipForwardRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback,
-                      (Long) commandArguments.get("deltaPositionMilliseconds"));
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            8L,
             mediaPlaybackskipForwardRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "skipForwardRequest", mediaPlaybackskipForwardRequestInteractionInfo);
@@ -7510,13 +8894,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackstartOverRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .startOverRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            3L,
             mediaPlaybackstartOverRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "startOverRequest", mediaPlaybackstartOverRequestInteractionInfo);
@@ -7524,17 +8904,101 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo mediaPlaybackstopRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .stopRequest(
-                      (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
-            },
-            () -> new DelegatedPlaybackResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            2L,
             mediaPlaybackstopRequestCommandParams);
     mediaPlaybackClusterInteractionInfoMap.put(
         "stopRequest", mediaPlaybackstopRequestInteractionInfo);
-    commandMap.put("mediaPlayback", mediaPlaybackClusterInteractionInfoMap);
+    return mediaPlaybackClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeMediaPlayback(
+      ChipClusters.MediaPlaybackCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 7:
+        cluster.fastForwardRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 5:
+        cluster.nextRequest((ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 1:
+        cluster.pauseRequest((ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 0:
+        cluster.playRequest((ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 4:
+        cluster.previousRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 6:
+        cluster.rewindRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 11:
+        cluster.seekRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback,
+            (Long) commandArguments[0]);
+        break;
+      case 9:
+        cluster.skipBackwardRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback,
+            (Long) commandArguments[0]);
+        break;
+      case 8:
+        cluster.skipForwardRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback,
+            (Long) commandArguments[0]);
+        break;
+      case 3:
+        cluster.startOverRequest(
+            (ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      case 2:
+        cluster.stopRequest((ChipClusters.MediaPlaybackCluster.PlaybackResponseCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newMediaPlaybackCommandCallback(int commandId) {
+    switch (commandId) {
+      case 7:
+        return new DelegatedPlaybackResponseCallback();
+      case 5:
+        return new DelegatedPlaybackResponseCallback();
+      case 1:
+        return new DelegatedPlaybackResponseCallback();
+      case 0:
+        return new DelegatedPlaybackResponseCallback();
+      case 4:
+        return new DelegatedPlaybackResponseCallback();
+      case 6:
+        return new DelegatedPlaybackResponseCallback();
+      case 11:
+        return new DelegatedPlaybackResponseCallback();
+      case 9:
+        return new DelegatedPlaybackResponseCallback();
+      case 8:
+        return new DelegatedPlaybackResponseCallback();
+      case 3:
+        return new DelegatedPlaybackResponseCallback();
+      case 2:
+        return new DelegatedPlaybackResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getModeSelectCommandMap() {
     Map<String, InteractionInfo> modeSelectClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> modeSelectchangeToModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -7545,16 +9009,38 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo modeSelectchangeToModeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .changeToMode(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("newMode"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            modeSelectchangeToModeCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID, 0L, modeSelectchangeToModeCommandParams);
     modeSelectClusterInteractionInfoMap.put("changeToMode", modeSelectchangeToModeInteractionInfo);
-    commandMap.put("modeSelect", modeSelectClusterInteractionInfoMap);
+    return modeSelectClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeModeSelect(
+      ChipClusters.ModeSelectCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.changeToMode((DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newModeSelectCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getNetworkCommissioningCommandMap() {
     Map<String, InteractionInfo> networkCommissioningClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> networkCommissioningaddOrUpdateThreadNetworkCommandParams =
@@ -7574,16 +9060,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo networkCommissioningaddOrUpdateThreadNetworkInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .addOrUpdateThreadNetwork(
-                      (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("operationalDataset"),
-                      (Long) commandArguments.get("breadcrumb"));
-            },
-            () -> new DelegatedNetworkConfigResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            3L,
             networkCommissioningaddOrUpdateThreadNetworkCommandParams);
     networkCommissioningClusterInteractionInfoMap.put(
         "addOrUpdateThreadNetwork", networkCommissioningaddOrUpdateThreadNetworkInteractionInfo);
@@ -7606,17 +9085,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo networkCommissioningaddOrUpdateWiFiNetworkInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .addOrUpdateWiFiNetwork(
-                      (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("ssid"),
-                      (byte[]) commandArguments.get("credentials"),
-                      (Long) commandArguments.get("breadcrumb"));
-            },
-            () -> new DelegatedNetworkConfigResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            2L,
             networkCommissioningaddOrUpdateWiFiNetworkCommandParams);
     networkCommissioningClusterInteractionInfoMap.put(
         "addOrUpdateWiFiNetwork", networkCommissioningaddOrUpdateWiFiNetworkInteractionInfo);
@@ -7634,16 +9105,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo networkCommissioningconnectNetworkInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .connectNetwork(
-                      (ChipClusters.NetworkCommissioningCluster.ConnectNetworkResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("networkID"),
-                      (Long) commandArguments.get("breadcrumb"));
-            },
-            () -> new DelegatedConnectNetworkResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            6L,
             networkCommissioningconnectNetworkCommandParams);
     networkCommissioningClusterInteractionInfoMap.put(
         "connectNetwork", networkCommissioningconnectNetworkInteractionInfo);
@@ -7661,16 +9125,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo networkCommissioningremoveNetworkInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .removeNetwork(
-                      (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("networkID"),
-                      (Long) commandArguments.get("breadcrumb"));
-            },
-            () -> new DelegatedNetworkConfigResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            4L,
             networkCommissioningremoveNetworkCommandParams);
     networkCommissioningClusterInteractionInfoMap.put(
         "removeNetwork", networkCommissioningremoveNetworkInteractionInfo);
@@ -7693,17 +9150,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo networkCommissioningreorderNetworkInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .reorderNetwork(
-                      (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("networkID"),
-                      (Integer) commandArguments.get("networkIndex"),
-                      (Long) commandArguments.get("breadcrumb"));
-            },
-            () -> new DelegatedNetworkConfigResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            8L,
             networkCommissioningreorderNetworkCommandParams);
     networkCommissioningClusterInteractionInfoMap.put(
         "reorderNetwork", networkCommissioningreorderNetworkInteractionInfo);
@@ -7721,20 +9170,86 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo networkCommissioningscanNetworksInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .scanNetworks(
-                      (ChipClusters.NetworkCommissioningCluster.ScanNetworksResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("ssid"),
-                      (Long) commandArguments.get("breadcrumb"));
-            },
-            () -> new DelegatedScanNetworksResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            0L,
             networkCommissioningscanNetworksCommandParams);
     networkCommissioningClusterInteractionInfoMap.put(
         "scanNetworks", networkCommissioningscanNetworksInteractionInfo);
-    commandMap.put("networkCommissioning", networkCommissioningClusterInteractionInfoMap);
+    return networkCommissioningClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeNetworkCommissioning(
+      ChipClusters.NetworkCommissioningCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 3:
+        cluster.addOrUpdateThreadNetwork(
+            (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Long) commandArguments[1]);
+        break;
+      case 2:
+        cluster.addOrUpdateWiFiNetwork(
+            (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (byte[]) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 6:
+        cluster.connectNetwork(
+            (ChipClusters.NetworkCommissioningCluster.ConnectNetworkResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Long) commandArguments[1]);
+        break;
+      case 4:
+        cluster.removeNetwork(
+            (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Long) commandArguments[1]);
+        break;
+      case 8:
+        cluster.reorderNetwork(
+            (ChipClusters.NetworkCommissioningCluster.NetworkConfigResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Long) commandArguments[2]);
+        break;
+      case 0:
+        cluster.scanNetworks(
+            (ChipClusters.NetworkCommissioningCluster.ScanNetworksResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Long) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newNetworkCommissioningCommandCallback(int commandId) {
+    switch (commandId) {
+      case 3:
+        return new DelegatedNetworkConfigResponseCallback();
+      case 2:
+        return new DelegatedNetworkConfigResponseCallback();
+      case 6:
+        return new DelegatedConnectNetworkResponseCallback();
+      case 4:
+        return new DelegatedNetworkConfigResponseCallback();
+      case 8:
+        return new DelegatedNetworkConfigResponseCallback();
+      case 0:
+        return new DelegatedScanNetworksResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateProviderCommandMap() {
     Map<String, InteractionInfo> otaSoftwareUpdateProviderClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> otaSoftwareUpdateProviderapplyUpdateRequestCommandParams =
@@ -7752,16 +9267,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo otaSoftwareUpdateProviderapplyUpdateRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateProviderCluster) cluster)
-                  .applyUpdateRequest(
-                      (ChipClusters.OtaSoftwareUpdateProviderCluster.ApplyUpdateResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("updateToken"),
-                      (Long) commandArguments.get("newVersion"));
-            },
-            () -> new DelegatedApplyUpdateResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateProviderCluster.CLUSTER_ID,
+            2L,
             otaSoftwareUpdateProviderapplyUpdateRequestCommandParams);
     otaSoftwareUpdateProviderClusterInteractionInfoMap.put(
         "applyUpdateRequest", otaSoftwareUpdateProviderapplyUpdateRequestInteractionInfo);
@@ -7782,15 +9290,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo otaSoftwareUpdateProvidernotifyUpdateAppliedInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateProviderCluster) cluster)
-                  .notifyUpdateApplied(
-                      (DefaultClusterCallback) callback,
-                      (byte[]) commandArguments.get("updateToken"),
-                      (Long) commandArguments.get("softwareVersion"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateProviderCluster.CLUSTER_ID,
+            4L,
             otaSoftwareUpdateProvidernotifyUpdateAppliedCommandParams);
     otaSoftwareUpdateProviderClusterInteractionInfoMap.put(
         "notifyUpdateApplied", otaSoftwareUpdateProvidernotifyUpdateAppliedInteractionInfo);
@@ -7843,26 +9345,67 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo otaSoftwareUpdateProviderqueryImageInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateProviderCluster) cluster)
-                  .queryImage(
-                      (ChipClusters.OtaSoftwareUpdateProviderCluster.QueryImageResponseCallback)
-                          callback,
-                      (Integer) commandArguments.get("vendorId"),
-                      (Integer) commandArguments.get("productId"),
-                      (Long) commandArguments.get("softwareVersion"),
-                      (Integer) commandArguments.get("protocolsSupported"),
-                      (Optional<Integer>) commandArguments.get("hardwareVersion"),
-                      (Optional<String>) commandArguments.get("location"),
-                      (Optional<Boolean>) commandArguments.get("requestorCanConsent"),
-                      (Optional<byte[]>) commandArguments.get("metadataForProvider"));
-            },
-            () -> new DelegatedQueryImageResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateProviderCluster.CLUSTER_ID,
+            0L,
             otaSoftwareUpdateProviderqueryImageCommandParams);
     otaSoftwareUpdateProviderClusterInteractionInfoMap.put(
         "queryImage", otaSoftwareUpdateProviderqueryImageInteractionInfo);
-    commandMap.put("otaSoftwareUpdateProvider", otaSoftwareUpdateProviderClusterInteractionInfoMap);
+    return otaSoftwareUpdateProviderClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeOtaSoftwareUpdateProvider(
+      ChipClusters.OtaSoftwareUpdateProviderCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 2:
+        cluster.applyUpdateRequest(
+            (ChipClusters.OtaSoftwareUpdateProviderCluster.ApplyUpdateResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Long) commandArguments[1]);
+        break;
+      case 4:
+        cluster.notifyUpdateApplied(
+            (DefaultClusterCallback) callback,
+            (byte[]) commandArguments[0],
+            (Long) commandArguments[1]);
+        break;
+      case 0:
+        cluster.queryImage(
+            (ChipClusters.OtaSoftwareUpdateProviderCluster.QueryImageResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Long) commandArguments[2],
+            (Integer) commandArguments[3],
+            (Optional<Integer>) commandArguments[4],
+            (Optional<String>) commandArguments[5],
+            (Optional<Boolean>) commandArguments[6],
+            (Optional<byte[]>) commandArguments[7]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOtaSoftwareUpdateProviderCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      case 2:
+        return new DelegatedApplyUpdateResponseCallback();
+      case 4:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedQueryImageResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateRequestorCommandMap() {
     Map<String, InteractionInfo> otaSoftwareUpdateRequestorClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> otaSoftwareUpdateRequestorannounceOtaProviderCommandParams =
@@ -7900,36 +9443,80 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo otaSoftwareUpdateRequestorannounceOtaProviderInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .announceOtaProvider(
-                      (DefaultClusterCallback) callback,
-                      (Long) commandArguments.get("providerNodeId"),
-                      (Integer) commandArguments.get("vendorId"),
-                      (Integer) commandArguments.get("announcementReason"),
-                      (Optional<byte[]>) commandArguments.get("metadataForNode"),
-                      (Integer) commandArguments.get("endpoint"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            0L,
             otaSoftwareUpdateRequestorannounceOtaProviderCommandParams);
     otaSoftwareUpdateRequestorClusterInteractionInfoMap.put(
         "announceOtaProvider", otaSoftwareUpdateRequestorannounceOtaProviderInteractionInfo);
-    commandMap.put(
-        "otaSoftwareUpdateRequestor", otaSoftwareUpdateRequestorClusterInteractionInfoMap);
+    return otaSoftwareUpdateRequestorClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeOtaSoftwareUpdateRequestor(
+      ChipClusters.OtaSoftwareUpdateRequestorCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.announceOtaProvider(
+            (DefaultClusterCallback) callback,
+            (Long) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Optional<byte[]>) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOtaSoftwareUpdateRequestorCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOccupancySensingCommandMap() {
     Map<String, InteractionInfo> occupancySensingClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("occupancySensing", occupancySensingClusterInteractionInfoMap);
+    return occupancySensingClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeOccupancySensing(
+      ChipClusters.OccupancySensingCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOccupancySensingCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOnOffCommandMap() {
     Map<String, InteractionInfo> onOffClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> onOffoffCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo onOffoffInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster).off((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            onOffoffCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 0L, onOffoffCommandParams);
     onOffClusterInteractionInfoMap.put("off", onOffoffInteractionInfo);
     Map<String, CommandParameterInfo> onOffoffWithEffectCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -7944,39 +9531,22 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo onOffoffWithEffectInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .offWithEffect(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("effectId"),
-                      (Integer) commandArguments.get("effectVariant"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            onOffoffWithEffectCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 64L, onOffoffWithEffectCommandParams);
     onOffClusterInteractionInfoMap.put("offWithEffect", onOffoffWithEffectInteractionInfo);
     Map<String, CommandParameterInfo> onOffonCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo onOffonInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster).on((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            onOffonCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 1L, onOffonCommandParams);
     onOffClusterInteractionInfoMap.put("on", onOffonInteractionInfo);
     Map<String, CommandParameterInfo> onOffonWithRecallGlobalSceneCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo onOffonWithRecallGlobalSceneInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .onWithRecallGlobalScene((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            onOffonWithRecallGlobalSceneCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 65L, onOffonWithRecallGlobalSceneCommandParams);
     onOffClusterInteractionInfoMap.put(
         "onWithRecallGlobalScene", onOffonWithRecallGlobalSceneInteractionInfo);
     Map<String, CommandParameterInfo> onOffonWithTimedOffCommandParams =
@@ -7997,33 +9567,104 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo onOffonWithTimedOffInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .onWithTimedOff(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("onOffControl"),
-                      (Integer) commandArguments.get("onTime"),
-                      (Integer) commandArguments.get("offWaitTime"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            onOffonWithTimedOffCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 66L, onOffonWithTimedOffCommandParams);
     onOffClusterInteractionInfoMap.put("onWithTimedOff", onOffonWithTimedOffInteractionInfo);
     Map<String, CommandParameterInfo> onOfftoggleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo onOfftoggleInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster).toggle((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            onOfftoggleCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 2L, onOfftoggleCommandParams);
     onOffClusterInteractionInfoMap.put("toggle", onOfftoggleInteractionInfo);
-    commandMap.put("onOff", onOffClusterInteractionInfoMap);
+    return onOffClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeOnOff(
+      ChipClusters.OnOffCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.off((DefaultClusterCallback) callback);
+        break;
+      case 64:
+        cluster.offWithEffect(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 1:
+        cluster.on((DefaultClusterCallback) callback);
+        break;
+      case 65:
+        cluster.onWithRecallGlobalScene((DefaultClusterCallback) callback);
+        break;
+      case 66:
+        cluster.onWithTimedOff(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2]);
+        break;
+      case 2:
+        cluster.toggle((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOnOffCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 64:
+        return new DelegatedDefaultClusterCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 65:
+        return new DelegatedDefaultClusterCallback();
+      case 66:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOnOffSwitchConfigurationCommandMap() {
     Map<String, InteractionInfo> onOffSwitchConfigurationClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("onOffSwitchConfiguration", onOffSwitchConfigurationClusterInteractionInfoMap);
+    return onOffSwitchConfigurationClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeOnOffSwitchConfiguration(
+      ChipClusters.OnOffSwitchConfigurationCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOnOffSwitchConfigurationCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getOperationalCredentialsCommandMap() {
     Map<String, InteractionInfo> operationalCredentialsClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> operationalCredentialsaddNOCCommandParams =
@@ -8055,18 +9696,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsaddNOCInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .addNOC(
-                      (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
-                      (byte[]) commandArguments.get("NOCValue"),
-                      (Optional<byte[]>) commandArguments.get("ICACValue"),
-                      (byte[]) commandArguments.get("IPKValue"),
-                      (Long) commandArguments.get("caseAdminNode"),
-                      (Integer) commandArguments.get("adminVendorId"));
-            },
-            () -> new DelegatedNOCResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            6L,
             operationalCredentialsaddNOCCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "addNOC", operationalCredentialsaddNOCInteractionInfo);
@@ -8081,14 +9713,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsaddTrustedRootCertificateInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .addTrustedRootCertificate(
-                      (DefaultClusterCallback) callback,
-                      (byte[]) commandArguments.get("rootCertificate"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            11L,
             operationalCredentialsaddTrustedRootCertificateCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "addTrustedRootCertificate",
@@ -8104,15 +9731,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsattestationRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .attestationRequest(
-                      (ChipClusters.OperationalCredentialsCluster.AttestationResponseCallback)
-                          callback,
-                      (byte[]) commandArguments.get("attestationNonce"));
-            },
-            () -> new DelegatedAttestationResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            0L,
             operationalCredentialsattestationRequestCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "attestationRequest", operationalCredentialsattestationRequestInteractionInfo);
@@ -8127,15 +9748,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialscertificateChainRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .certificateChainRequest(
-                      (ChipClusters.OperationalCredentialsCluster.CertificateChainResponseCallback)
-                          callback,
-                      (Integer) commandArguments.get("certificateType"));
-            },
-            () -> new DelegatedCertificateChainResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            2L,
             operationalCredentialscertificateChainRequestCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "certificateChainRequest", operationalCredentialscertificateChainRequestInteractionInfo);
@@ -8148,14 +9763,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsopCSRRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .opCSRRequest(
-                      (ChipClusters.OperationalCredentialsCluster.OpCSRResponseCallback) callback,
-                      (byte[]) commandArguments.get("CSRNonce"));
-            },
-            () -> new DelegatedOpCSRResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            4L,
             operationalCredentialsopCSRRequestCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "opCSRRequest", operationalCredentialsopCSRRequestInteractionInfo);
@@ -8168,14 +9778,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsremoveFabricInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .removeFabric(
-                      (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
-                      (Integer) commandArguments.get("fabricIndex"));
-            },
-            () -> new DelegatedNOCResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            10L,
             operationalCredentialsremoveFabricCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "removeFabric", operationalCredentialsremoveFabricInteractionInfo);
@@ -8191,14 +9796,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsremoveTrustedRootCertificateInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .removeTrustedRootCertificate(
-                      (DefaultClusterCallback) callback,
-                      (byte[]) commandArguments.get("trustedRootIdentifier"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            12L,
             operationalCredentialsremoveTrustedRootCertificateCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "removeTrustedRootCertificate",
@@ -8212,14 +9812,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsupdateFabricLabelInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .updateFabricLabel(
-                      (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
-                      (String) commandArguments.get("label"));
-            },
-            () -> new DelegatedNOCResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            9L,
             operationalCredentialsupdateFabricLabelCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "updateFabricLabel", operationalCredentialsupdateFabricLabelInteractionInfo);
@@ -8237,35 +9832,234 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo operationalCredentialsupdateNOCInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .updateNOC(
-                      (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
-                      (byte[]) commandArguments.get("NOCValue"),
-                      (Optional<byte[]>) commandArguments.get("ICACValue"));
-            },
-            () -> new DelegatedNOCResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            7L,
             operationalCredentialsupdateNOCCommandParams);
     operationalCredentialsClusterInteractionInfoMap.put(
         "updateNOC", operationalCredentialsupdateNOCInteractionInfo);
-    commandMap.put("operationalCredentials", operationalCredentialsClusterInteractionInfoMap);
+    return operationalCredentialsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeOperationalCredentials(
+      ChipClusters.OperationalCredentialsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 6:
+        cluster.addNOC(
+            (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Optional<byte[]>) commandArguments[1],
+            (byte[]) commandArguments[2],
+            (Long) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 11:
+        cluster.addTrustedRootCertificate(
+            (DefaultClusterCallback) callback, (byte[]) commandArguments[0]);
+        break;
+      case 0:
+        cluster.attestationRequest(
+            (ChipClusters.OperationalCredentialsCluster.AttestationResponseCallback) callback,
+            (byte[]) commandArguments[0]);
+        break;
+      case 2:
+        cluster.certificateChainRequest(
+            (ChipClusters.OperationalCredentialsCluster.CertificateChainResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 4:
+        cluster.opCSRRequest(
+            (ChipClusters.OperationalCredentialsCluster.OpCSRResponseCallback) callback,
+            (byte[]) commandArguments[0]);
+        break;
+      case 10:
+        cluster.removeFabric(
+            (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 12:
+        cluster.removeTrustedRootCertificate(
+            (DefaultClusterCallback) callback, (byte[]) commandArguments[0]);
+        break;
+      case 9:
+        cluster.updateFabricLabel(
+            (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
+            (String) commandArguments[0]);
+        break;
+      case 7:
+        cluster.updateNOC(
+            (ChipClusters.OperationalCredentialsCluster.NOCResponseCallback) callback,
+            (byte[]) commandArguments[0],
+            (Optional<byte[]>) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOperationalCredentialsCommandCallback(int commandId) {
+    switch (commandId) {
+      case 6:
+        return new DelegatedNOCResponseCallback();
+      case 11:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedAttestationResponseCallback();
+      case 2:
+        return new DelegatedCertificateChainResponseCallback();
+      case 4:
+        return new DelegatedOpCSRResponseCallback();
+      case 10:
+        return new DelegatedNOCResponseCallback();
+      case 12:
+        return new DelegatedDefaultClusterCallback();
+      case 9:
+        return new DelegatedNOCResponseCallback();
+      case 7:
+        return new DelegatedNOCResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPowerSourceCommandMap() {
     Map<String, InteractionInfo> powerSourceClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("powerSource", powerSourceClusterInteractionInfoMap);
+    return powerSourceClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokePowerSource(
+      ChipClusters.PowerSourceCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPowerSourceCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPowerSourceConfigurationCommandMap() {
     Map<String, InteractionInfo> powerSourceConfigurationClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("powerSourceConfiguration", powerSourceConfigurationClusterInteractionInfoMap);
+    return powerSourceConfigurationClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokePowerSourceConfiguration(
+      ChipClusters.PowerSourceConfigurationCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPowerSourceConfigurationCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPressureMeasurementCommandMap() {
     Map<String, InteractionInfo> pressureMeasurementClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("pressureMeasurement", pressureMeasurementClusterInteractionInfoMap);
+    return pressureMeasurementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokePressureMeasurement(
+      ChipClusters.PressureMeasurementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPressureMeasurementCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getPumpConfigurationAndControlCommandMap() {
     Map<String, InteractionInfo> pumpConfigurationAndControlClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put(
-        "pumpConfigurationAndControl", pumpConfigurationAndControlClusterInteractionInfoMap);
+    return pumpConfigurationAndControlClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokePumpConfigurationAndControl(
+      ChipClusters.PumpConfigurationAndControlCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPumpConfigurationAndControlCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getRelativeHumidityMeasurementCommandMap() {
     Map<String, InteractionInfo> relativeHumidityMeasurementClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put(
-        "relativeHumidityMeasurement", relativeHumidityMeasurementClusterInteractionInfoMap);
+    return relativeHumidityMeasurementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeRelativeHumidityMeasurement(
+      ChipClusters.RelativeHumidityMeasurementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newRelativeHumidityMeasurementCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getScenesCommandMap() {
     Map<String, InteractionInfo> scenesClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> scenesaddSceneCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8300,21 +10094,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesaddSceneInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .addScene(
-                      (ChipClusters.ScenesCluster.AddSceneResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("sceneId"),
-                      (Integer) commandArguments.get("transitionTime"),
-                      (String) commandArguments.get("sceneName"),
-                      (Long) commandArguments.get("clusterId"),
-                      (Integer) commandArguments.get("length"),
-                      (Integer) commandArguments.get("value"));
-            },
-            () -> new DelegatedAddSceneResponseCallback(),
-            scenesaddSceneCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 0L, scenesaddSceneCommandParams);
     scenesClusterInteractionInfoMap.put("addScene", scenesaddSceneInteractionInfo);
     Map<String, CommandParameterInfo> scenesgetSceneMembershipCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8325,15 +10106,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesgetSceneMembershipInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .getSceneMembership(
-                      (ChipClusters.ScenesCluster.GetSceneMembershipResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"));
-            },
-            () -> new DelegatedGetSceneMembershipResponseCallback(),
-            scenesgetSceneMembershipCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 6L, scenesgetSceneMembershipCommandParams);
     scenesClusterInteractionInfoMap.put(
         "getSceneMembership", scenesgetSceneMembershipInteractionInfo);
     Map<String, CommandParameterInfo> scenesrecallSceneCommandParams =
@@ -8353,17 +10127,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesrecallSceneInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .recallScene(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("sceneId"),
-                      (Integer) commandArguments.get("transitionTime"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            scenesrecallSceneCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 5L, scenesrecallSceneCommandParams);
     scenesClusterInteractionInfoMap.put("recallScene", scenesrecallSceneInteractionInfo);
     Map<String, CommandParameterInfo> scenesremoveAllScenesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8374,15 +10139,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesremoveAllScenesInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .removeAllScenes(
-                      (ChipClusters.ScenesCluster.RemoveAllScenesResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"));
-            },
-            () -> new DelegatedRemoveAllScenesResponseCallback(),
-            scenesremoveAllScenesCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 3L, scenesremoveAllScenesCommandParams);
     scenesClusterInteractionInfoMap.put("removeAllScenes", scenesremoveAllScenesInteractionInfo);
     Map<String, CommandParameterInfo> scenesremoveSceneCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8396,16 +10154,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesremoveSceneInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .removeScene(
-                      (ChipClusters.ScenesCluster.RemoveSceneResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("sceneId"));
-            },
-            () -> new DelegatedRemoveSceneResponseCallback(),
-            scenesremoveSceneCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 2L, scenesremoveSceneCommandParams);
     scenesClusterInteractionInfoMap.put("removeScene", scenesremoveSceneInteractionInfo);
     Map<String, CommandParameterInfo> scenesstoreSceneCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8419,16 +10169,8 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesstoreSceneInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .storeScene(
-                      (ChipClusters.ScenesCluster.StoreSceneResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("sceneId"));
-            },
-            () -> new DelegatedStoreSceneResponseCallback(),
-            scenesstoreSceneCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 4L, scenesstoreSceneCommandParams);
     scenesClusterInteractionInfoMap.put("storeScene", scenesstoreSceneInteractionInfo);
     Map<String, CommandParameterInfo> scenesviewSceneCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8442,36 +10184,159 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo scenesviewSceneInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .viewScene(
-                      (ChipClusters.ScenesCluster.ViewSceneResponseCallback) callback,
-                      (Integer) commandArguments.get("groupId"),
-                      (Integer) commandArguments.get("sceneId"));
-            },
-            () -> new DelegatedViewSceneResponseCallback(),
-            scenesviewSceneCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 1L, scenesviewSceneCommandParams);
     scenesClusterInteractionInfoMap.put("viewScene", scenesviewSceneInteractionInfo);
-    commandMap.put("scenes", scenesClusterInteractionInfoMap);
+    return scenesClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeScenes(
+      ChipClusters.ScenesCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.addScene(
+            (ChipClusters.ScenesCluster.AddSceneResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (String) commandArguments[3],
+            (Long) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Integer) commandArguments[6]);
+        break;
+      case 6:
+        cluster.getSceneMembership(
+            (ChipClusters.ScenesCluster.GetSceneMembershipResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 5:
+        cluster.recallScene(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2]);
+        break;
+      case 3:
+        cluster.removeAllScenes(
+            (ChipClusters.ScenesCluster.RemoveAllScenesResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 2:
+        cluster.removeScene(
+            (ChipClusters.ScenesCluster.RemoveSceneResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 4:
+        cluster.storeScene(
+            (ChipClusters.ScenesCluster.StoreSceneResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 1:
+        cluster.viewScene(
+            (ChipClusters.ScenesCluster.ViewSceneResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newScenesCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedAddSceneResponseCallback();
+      case 6:
+        return new DelegatedGetSceneMembershipResponseCallback();
+      case 5:
+        return new DelegatedDefaultClusterCallback();
+      case 3:
+        return new DelegatedRemoveAllScenesResponseCallback();
+      case 2:
+        return new DelegatedRemoveSceneResponseCallback();
+      case 4:
+        return new DelegatedStoreSceneResponseCallback();
+      case 1:
+        return new DelegatedViewSceneResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSoftwareDiagnosticsCommandMap() {
     Map<String, InteractionInfo> softwareDiagnosticsClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> softwareDiagnosticsresetWatermarksCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo softwareDiagnosticsresetWatermarksInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .resetWatermarks((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            0L,
             softwareDiagnosticsresetWatermarksCommandParams);
     softwareDiagnosticsClusterInteractionInfoMap.put(
         "resetWatermarks", softwareDiagnosticsresetWatermarksInteractionInfo);
-    commandMap.put("softwareDiagnostics", softwareDiagnosticsClusterInteractionInfoMap);
+    return softwareDiagnosticsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeSoftwareDiagnostics(
+      ChipClusters.SoftwareDiagnosticsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.resetWatermarks((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newSoftwareDiagnosticsCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getSwitchCommandMap() {
     Map<String, InteractionInfo> switchClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("switch", switchClusterInteractionInfoMap);
+    return switchClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeSwitch(
+      ChipClusters.SwitchCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newSwitchCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTargetNavigatorCommandMap() {
     Map<String, InteractionInfo> targetNavigatorClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> targetNavigatornavigateTargetRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8487,22 +10352,70 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo targetNavigatornavigateTargetRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TargetNavigatorCluster) cluster)
-                  .navigateTargetRequest(
-                      (ChipClusters.TargetNavigatorCluster.NavigateTargetResponseCallback) callback,
-                      (Integer) commandArguments.get("target"),
-                      (String) commandArguments.get("data"));
-            },
-            () -> new DelegatedNavigateTargetResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TargetNavigatorCluster.CLUSTER_ID,
+            0L,
             targetNavigatornavigateTargetRequestCommandParams);
     targetNavigatorClusterInteractionInfoMap.put(
         "navigateTargetRequest", targetNavigatornavigateTargetRequestInteractionInfo);
-    commandMap.put("targetNavigator", targetNavigatorClusterInteractionInfoMap);
+    return targetNavigatorClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeTargetNavigator(
+      ChipClusters.TargetNavigatorCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.navigateTargetRequest(
+            (ChipClusters.TargetNavigatorCluster.NavigateTargetResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (String) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newTargetNavigatorCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedNavigateTargetResponseCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTemperatureMeasurementCommandMap() {
     Map<String, InteractionInfo> temperatureMeasurementClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put("temperatureMeasurement", temperatureMeasurementClusterInteractionInfoMap);
+    return temperatureMeasurementClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeTemperatureMeasurement(
+      ChipClusters.TemperatureMeasurementCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newTemperatureMeasurementCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getTestClusterCommandMap() {
     Map<String, InteractionInfo> testClusterClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> testClustersimpleStructEchoRequestCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8548,21 +10461,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustersimpleStructEchoRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .simpleStructEchoRequest(
-                      (ChipClusters.TestClusterCluster.SimpleStructResponseCallback) callback,
-                      (Integer) commandArguments.get("a"),
-                      (Boolean) commandArguments.get("b"),
-                      (Integer) commandArguments.get("c"),
-                      (byte[]) commandArguments.get("d"),
-                      (String) commandArguments.get("e"),
-                      (Integer) commandArguments.get("f"),
-                      (Float) commandArguments.get("g"),
-                      (Double) commandArguments.get("h"));
-            },
-            () -> new DelegatedSimpleStructResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            17L,
             testClustersimpleStructEchoRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "simpleStructEchoRequest", testClustersimpleStructEchoRequestInteractionInfo);
@@ -8570,12 +10471,8 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo testClustertestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster).test((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            testClustertestCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 0L, testClustertestCommandParams);
     testClusterClusterInteractionInfoMap.put("test", testClustertestInteractionInfo);
     Map<String, CommandParameterInfo> testClustertestAddArgumentsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -8591,15 +10488,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestAddArgumentsInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testAddArguments(
-                      (ChipClusters.TestClusterCluster.TestAddArgumentsResponseCallback) callback,
-                      (Integer) commandArguments.get("arg1"),
-                      (Integer) commandArguments.get("arg2"));
-            },
-            () -> new DelegatedTestAddArgumentsResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            4L,
             testClustertestAddArgumentsCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testAddArguments", testClustertestAddArgumentsInteractionInfo);
@@ -8622,16 +10513,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestEmitTestEventRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testEmitTestEventRequest(
-                      (ChipClusters.TestClusterCluster.TestEmitTestEventResponseCallback) callback,
-                      (Integer) commandArguments.get("arg1"),
-                      (Integer) commandArguments.get("arg2"),
-                      (Boolean) commandArguments.get("arg3"));
-            },
-            () -> new DelegatedTestEmitTestEventResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            20L,
             testClustertestEmitTestEventRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testEmitTestEventRequest", testClustertestEmitTestEventRequestInteractionInfo);
@@ -8649,15 +10533,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestEnumsRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testEnumsRequest(
-                      (ChipClusters.TestClusterCluster.TestEnumsResponseCallback) callback,
-                      (Integer) commandArguments.get("arg1"),
-                      (Integer) commandArguments.get("arg2"));
-            },
-            () -> new DelegatedTestEnumsResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            14L,
             testClustertestEnumsRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testEnumsRequest", testClustertestEnumsRequestInteractionInfo);
@@ -8670,14 +10548,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestListInt8UArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testListInt8UArgumentRequest(
-                      (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
-                      (Integer) commandArguments.get("arg1"));
-            },
-            () -> new DelegatedBooleanResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            10L,
             testClustertestListInt8UArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testListInt8UArgumentRequest", testClustertestListInt8UArgumentRequestInteractionInfo);
@@ -8690,15 +10563,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestListInt8UReverseRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testListInt8UReverseRequest(
-                      (ChipClusters.TestClusterCluster.TestListInt8UReverseResponseCallback)
-                          callback,
-                      (Integer) commandArguments.get("arg1"));
-            },
-            () -> new DelegatedTestListInt8UReverseResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            13L,
             testClustertestListInt8UReverseRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testListInt8UReverseRequest", testClustertestListInt8UReverseRequestInteractionInfo);
@@ -8732,18 +10599,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestListNestedStructListArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testListNestedStructListArgumentRequest(
-                      (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
-                      (Integer) commandArguments.get("a"),
-                      (Boolean) commandArguments.get("b"),
-                      (Long) commandArguments.get("e"),
-                      (byte[]) commandArguments.get("f"),
-                      (Integer) commandArguments.get("g"));
-            },
-            () -> new DelegatedBooleanResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            12L,
             testClustertestListNestedStructListArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testListNestedStructListArgumentRequest",
@@ -8792,21 +10650,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestListStructArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testListStructArgumentRequest(
-                      (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
-                      (Integer) commandArguments.get("a"),
-                      (Boolean) commandArguments.get("b"),
-                      (Integer) commandArguments.get("c"),
-                      (byte[]) commandArguments.get("d"),
-                      (String) commandArguments.get("e"),
-                      (Integer) commandArguments.get("f"),
-                      (Float) commandArguments.get("g"),
-                      (Double) commandArguments.get("h"));
-            },
-            () -> new DelegatedBooleanResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            9L,
             testClustertestListStructArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testListStructArgumentRequest", testClustertestListStructArgumentRequestInteractionInfo);
@@ -8824,15 +10670,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestNestedStructArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testNestedStructArgumentRequest(
-                      (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
-                      (Integer) commandArguments.get("a"),
-                      (Boolean) commandArguments.get("b"));
-            },
-            () -> new DelegatedBooleanResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            8L,
             testClustertestNestedStructArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testNestedStructArgumentRequest",
@@ -8866,18 +10706,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestNestedStructListArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testNestedStructListArgumentRequest(
-                      (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
-                      (Integer) commandArguments.get("a"),
-                      (Boolean) commandArguments.get("b"),
-                      (Long) commandArguments.get("e"),
-                      (byte[]) commandArguments.get("f"),
-                      (Integer) commandArguments.get("g"));
-            },
-            () -> new DelegatedBooleanResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            11L,
             testClustertestNestedStructListArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testNestedStructListArgumentRequest",
@@ -8886,13 +10717,8 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo testClustertestNotHandledInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testNotHandled((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            testClustertestNotHandledCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 1L, testClustertestNotHandledCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testNotHandled", testClustertestNotHandledInteractionInfo);
     Map<String, CommandParameterInfo> testClustertestNullableOptionalRequestCommandParams =
@@ -8904,15 +10730,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestNullableOptionalRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testNullableOptionalRequest(
-                      (ChipClusters.TestClusterCluster.TestNullableOptionalResponseCallback)
-                          callback,
-                      (Optional<Integer>) commandArguments.get("arg1"));
-            },
-            () -> new DelegatedTestNullableOptionalResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            15L,
             testClustertestNullableOptionalRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testNullableOptionalRequest", testClustertestNullableOptionalRequestInteractionInfo);
@@ -8925,14 +10745,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestSimpleOptionalArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testSimpleOptionalArgumentRequest(
-                      (DefaultClusterCallback) callback,
-                      (Optional<Boolean>) commandArguments.get("arg1"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            19L,
             testClustertestSimpleOptionalArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testSimpleOptionalArgumentRequest",
@@ -8941,14 +10756,8 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo testClustertestSpecificInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testSpecific(
-                      (ChipClusters.TestClusterCluster.TestSpecificResponseCallback) callback);
-            },
-            () -> new DelegatedTestSpecificResponseCallback(),
-            testClustertestSpecificCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 2L, testClustertestSpecificCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testSpecific", testClustertestSpecificInteractionInfo);
     Map<String, CommandParameterInfo> testClustertestStructArgumentRequestCommandParams =
@@ -8995,21 +10804,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo testClustertestStructArgumentRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testStructArgumentRequest(
-                      (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
-                      (Integer) commandArguments.get("a"),
-                      (Boolean) commandArguments.get("b"),
-                      (Integer) commandArguments.get("c"),
-                      (byte[]) commandArguments.get("d"),
-                      (String) commandArguments.get("e"),
-                      (Integer) commandArguments.get("f"),
-                      (Float) commandArguments.get("g"),
-                      (Double) commandArguments.get("h"));
-            },
-            () -> new DelegatedBooleanResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            7L,
             testClustertestStructArgumentRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testStructArgumentRequest", testClustertestStructArgumentRequestInteractionInfo);
@@ -9017,12 +10814,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo testClustertestUnknownCommandInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .testUnknownCommand((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            3L,
             testClustertestUnknownCommandCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "testUnknownCommand", testClustertestUnknownCommandInteractionInfo);
@@ -9030,27 +10824,194 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo testClustertimedInvokeRequestInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .timedInvokeRequest((DefaultClusterCallback) callback, 10000);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            18L,
             testClustertimedInvokeRequestCommandParams);
     testClusterClusterInteractionInfoMap.put(
         "timedInvokeRequest", testClustertimedInvokeRequestInteractionInfo);
-    commandMap.put("testCluster", testClusterClusterInteractionInfoMap);
+    return testClusterClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeTestCluster(
+      ChipClusters.TestClusterCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 17:
+        cluster.simpleStructEchoRequest(
+            (ChipClusters.TestClusterCluster.SimpleStructResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Boolean) commandArguments[1],
+            (Integer) commandArguments[2],
+            (byte[]) commandArguments[3],
+            (String) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Float) commandArguments[6],
+            (Double) commandArguments[7]);
+        break;
+      case 0:
+        cluster.test((DefaultClusterCallback) callback);
+        break;
+      case 4:
+        cluster.testAddArguments(
+            (ChipClusters.TestClusterCluster.TestAddArgumentsResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 20:
+        cluster.testEmitTestEventRequest(
+            (ChipClusters.TestClusterCluster.TestEmitTestEventResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Boolean) commandArguments[2]);
+        break;
+      case 14:
+        cluster.testEnumsRequest(
+            (ChipClusters.TestClusterCluster.TestEnumsResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 10:
+        cluster.testListInt8UArgumentRequest(
+            (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 13:
+        cluster.testListInt8UReverseRequest(
+            (ChipClusters.TestClusterCluster.TestListInt8UReverseResponseCallback) callback,
+            (Integer) commandArguments[0]);
+        break;
+      case 12:
+        cluster.testListNestedStructListArgumentRequest(
+            (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Boolean) commandArguments[1],
+            (Long) commandArguments[2],
+            (byte[]) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 9:
+        cluster.testListStructArgumentRequest(
+            (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Boolean) commandArguments[1],
+            (Integer) commandArguments[2],
+            (byte[]) commandArguments[3],
+            (String) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Float) commandArguments[6],
+            (Double) commandArguments[7]);
+        break;
+      case 8:
+        cluster.testNestedStructArgumentRequest(
+            (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Boolean) commandArguments[1]);
+        break;
+      case 11:
+        cluster.testNestedStructListArgumentRequest(
+            (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Boolean) commandArguments[1],
+            (Long) commandArguments[2],
+            (byte[]) commandArguments[3],
+            (Integer) commandArguments[4]);
+        break;
+      case 1:
+        cluster.testNotHandled((DefaultClusterCallback) callback);
+        break;
+      case 15:
+        cluster.testNullableOptionalRequest(
+            (ChipClusters.TestClusterCluster.TestNullableOptionalResponseCallback) callback,
+            (Optional<Integer>) commandArguments[0]);
+        break;
+      case 19:
+        cluster.testSimpleOptionalArgumentRequest(
+            (DefaultClusterCallback) callback, (Optional<Boolean>) commandArguments[0]);
+        break;
+      case 2:
+        cluster.testSpecific(
+            (ChipClusters.TestClusterCluster.TestSpecificResponseCallback) callback);
+        break;
+      case 7:
+        cluster.testStructArgumentRequest(
+            (ChipClusters.TestClusterCluster.BooleanResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Boolean) commandArguments[1],
+            (Integer) commandArguments[2],
+            (byte[]) commandArguments[3],
+            (String) commandArguments[4],
+            (Integer) commandArguments[5],
+            (Float) commandArguments[6],
+            (Double) commandArguments[7]);
+        break;
+      case 3:
+        cluster.testUnknownCommand((DefaultClusterCallback) callback);
+        break;
+      case 18:
+        cluster.timedInvokeRequest((DefaultClusterCallback) callback, 10000);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newTestClusterCommandCallback(int commandId) {
+    switch (commandId) {
+      case 17:
+        return new DelegatedSimpleStructResponseCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      case 4:
+        return new DelegatedTestAddArgumentsResponseCallback();
+      case 20:
+        return new DelegatedTestEmitTestEventResponseCallback();
+      case 14:
+        return new DelegatedTestEnumsResponseCallback();
+      case 10:
+        return new DelegatedBooleanResponseCallback();
+      case 13:
+        return new DelegatedTestListInt8UReverseResponseCallback();
+      case 12:
+        return new DelegatedBooleanResponseCallback();
+      case 9:
+        return new DelegatedBooleanResponseCallback();
+      case 8:
+        return new DelegatedBooleanResponseCallback();
+      case 11:
+        return new DelegatedBooleanResponseCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 15:
+        return new DelegatedTestNullableOptionalResponseCallback();
+      case 19:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedTestSpecificResponseCallback();
+      case 7:
+        return new DelegatedBooleanResponseCallback();
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 18:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThermostatCommandMap() {
     Map<String, InteractionInfo> thermostatClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> thermostatclearWeeklyScheduleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo thermostatclearWeeklyScheduleInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .clearWeeklySchedule((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            3L,
             thermostatclearWeeklyScheduleCommandParams);
     thermostatClusterInteractionInfoMap.put(
         "clearWeeklySchedule", thermostatclearWeeklyScheduleInteractionInfo);
@@ -9058,13 +11019,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo thermostatgetRelayStatusLogInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .getRelayStatusLog(
-                      (ChipClusters.ThermostatCluster.GetRelayStatusLogResponseCallback) callback);
-            },
-            () -> new DelegatedGetRelayStatusLogResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            4L,
             thermostatgetRelayStatusLogCommandParams);
     thermostatClusterInteractionInfoMap.put(
         "getRelayStatusLog", thermostatgetRelayStatusLogInteractionInfo);
@@ -9082,15 +11039,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo thermostatgetWeeklyScheduleInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .getWeeklySchedule(
-                      (ChipClusters.ThermostatCluster.GetWeeklyScheduleResponseCallback) callback,
-                      (Integer) commandArguments.get("daysToReturn"),
-                      (Integer) commandArguments.get("modeToReturn"));
-            },
-            () -> new DelegatedGetWeeklyScheduleResponseCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            2L,
             thermostatgetWeeklyScheduleCommandParams);
     thermostatClusterInteractionInfoMap.put(
         "getWeeklySchedule", thermostatgetWeeklyScheduleInteractionInfo);
@@ -9121,17 +11072,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo thermostatsetWeeklyScheduleInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .setWeeklySchedule(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("numberOfTransitionsForSequence"),
-                      (Integer) commandArguments.get("dayOfWeekForSequence"),
-                      (Integer) commandArguments.get("modeForSequence"),
-                      (Integer) commandArguments.get("payload"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            1L,
             thermostatsetWeeklyScheduleCommandParams);
     thermostatClusterInteractionInfoMap.put(
         "setWeeklySchedule", thermostatsetWeeklyScheduleInteractionInfo);
@@ -9149,71 +11092,241 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo thermostatsetpointRaiseLowerInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .setpointRaiseLower(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("mode"),
-                      (Integer) commandArguments.get("amount"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            0L,
             thermostatsetpointRaiseLowerCommandParams);
     thermostatClusterInteractionInfoMap.put(
         "setpointRaiseLower", thermostatsetpointRaiseLowerInteractionInfo);
-    commandMap.put("thermostat", thermostatClusterInteractionInfoMap);
+    return thermostatClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeThermostat(
+      ChipClusters.ThermostatCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 3:
+        cluster.clearWeeklySchedule((DefaultClusterCallback) callback);
+        break;
+      case 4:
+        cluster.getRelayStatusLog(
+            (ChipClusters.ThermostatCluster.GetRelayStatusLogResponseCallback) callback);
+        break;
+      case 2:
+        cluster.getWeeklySchedule(
+            (ChipClusters.ThermostatCluster.GetWeeklyScheduleResponseCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 1:
+        cluster.setWeeklySchedule(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1],
+            (Integer) commandArguments[2],
+            (Integer) commandArguments[3]);
+        break;
+      case 0:
+        cluster.setpointRaiseLower(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newThermostatCommandCallback(int commandId) {
+    switch (commandId) {
+      case 3:
+        return new DelegatedDefaultClusterCallback();
+      case 4:
+        return new DelegatedGetRelayStatusLogResponseCallback();
+      case 2:
+        return new DelegatedGetWeeklyScheduleResponseCallback();
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThermostatUserInterfaceConfigurationCommandMap() {
     Map<String, InteractionInfo> thermostatUserInterfaceConfigurationClusterInteractionInfoMap =
         new LinkedHashMap<>();
-    commandMap.put(
-        "thermostatUserInterfaceConfiguration",
-        thermostatUserInterfaceConfigurationClusterInteractionInfoMap);
+    return thermostatUserInterfaceConfigurationClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeThermostatUserInterfaceConfiguration(
+      ChipClusters.ThermostatUserInterfaceConfigurationCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newThermostatUserInterfaceConfigurationCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getThreadNetworkDiagnosticsCommandMap() {
     Map<String, InteractionInfo> threadNetworkDiagnosticsClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> threadNetworkDiagnosticsresetCountsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo threadNetworkDiagnosticsresetCountsInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .resetCounts((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            0L,
             threadNetworkDiagnosticsresetCountsCommandParams);
     threadNetworkDiagnosticsClusterInteractionInfoMap.put(
         "resetCounts", threadNetworkDiagnosticsresetCountsInteractionInfo);
-    commandMap.put("threadNetworkDiagnostics", threadNetworkDiagnosticsClusterInteractionInfoMap);
+    return threadNetworkDiagnosticsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeThreadNetworkDiagnostics(
+      ChipClusters.ThreadNetworkDiagnosticsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.resetCounts((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newThreadNetworkDiagnosticsCommandCallback(
+      int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getUserLabelCommandMap() {
     Map<String, InteractionInfo> userLabelClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("userLabel", userLabelClusterInteractionInfoMap);
+    return userLabelClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeUserLabel(
+      ChipClusters.UserLabelCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newUserLabelCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWakeOnLanCommandMap() {
     Map<String, InteractionInfo> wakeOnLanClusterInteractionInfoMap = new LinkedHashMap<>();
-    commandMap.put("wakeOnLan", wakeOnLanClusterInteractionInfoMap);
+    return wakeOnLanClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeWakeOnLan(
+      ChipClusters.WakeOnLanCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newWakeOnLanCommandCallback(int commandId) {
+    switch (commandId) {
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWiFiNetworkDiagnosticsCommandMap() {
     Map<String, InteractionInfo> wiFiNetworkDiagnosticsClusterInteractionInfoMap =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> wiFiNetworkDiagnosticsresetCountsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo wiFiNetworkDiagnosticsresetCountsInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .resetCounts((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            0L,
             wiFiNetworkDiagnosticsresetCountsCommandParams);
     wiFiNetworkDiagnosticsClusterInteractionInfoMap.put(
         "resetCounts", wiFiNetworkDiagnosticsresetCountsInteractionInfo);
-    commandMap.put("wiFiNetworkDiagnostics", wiFiNetworkDiagnosticsClusterInteractionInfoMap);
+    return wiFiNetworkDiagnosticsClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeWiFiNetworkDiagnostics(
+      ChipClusters.WiFiNetworkDiagnosticsCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 0:
+        cluster.resetCounts((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newWiFiNetworkDiagnosticsCommandCallback(int commandId) {
+    switch (commandId) {
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, InteractionInfo> getWindowCoveringCommandMap() {
     Map<String, InteractionInfo> windowCoveringClusterInteractionInfoMap = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> windowCoveringdownOrCloseCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo windowCoveringdownOrCloseInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .downOrClose((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            1L,
             windowCoveringdownOrCloseCommandParams);
     windowCoveringClusterInteractionInfoMap.put(
         "downOrClose", windowCoveringdownOrCloseInteractionInfo);
@@ -9234,15 +11347,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo windowCoveringgoToLiftPercentageInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .goToLiftPercentage(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("liftPercentageValue"),
-                      (Integer) commandArguments.get("liftPercent100thsValue"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            5L,
             windowCoveringgoToLiftPercentageCommandParams);
     windowCoveringClusterInteractionInfoMap.put(
         "goToLiftPercentage", windowCoveringgoToLiftPercentageInteractionInfo);
@@ -9255,14 +11362,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo windowCoveringgoToLiftValueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .goToLiftValue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("liftValue"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            4L,
             windowCoveringgoToLiftValueCommandParams);
     windowCoveringClusterInteractionInfoMap.put(
         "goToLiftValue", windowCoveringgoToLiftValueInteractionInfo);
@@ -9283,15 +11385,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo windowCoveringgoToTiltPercentageInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .goToTiltPercentage(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("tiltPercentageValue"),
-                      (Integer) commandArguments.get("tiltPercent100thsValue"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            8L,
             windowCoveringgoToTiltPercentageCommandParams);
     windowCoveringClusterInteractionInfoMap.put(
         "goToTiltPercentage", windowCoveringgoToTiltPercentageInteractionInfo);
@@ -9304,14 +11400,9 @@ public class ClusterInfoMapping {
 
     // Populate commands
     InteractionInfo windowCoveringgoToTiltValueInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .goToTiltValue(
-                      (DefaultClusterCallback) callback,
-                      (Integer) commandArguments.get("tiltValue"));
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            7L,
             windowCoveringgoToTiltValueCommandParams);
     windowCoveringClusterInteractionInfoMap.put(
         "goToTiltValue", windowCoveringgoToTiltValueInteractionInfo);
@@ -9319,12 +11410,9 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo windowCoveringstopMotionInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .stopMotion((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            2L,
             windowCoveringstopMotionCommandParams);
     windowCoveringClusterInteractionInfoMap.put(
         "stopMotion", windowCoveringstopMotionInteractionInfo);
@@ -9332,15 +11420,563 @@ public class ClusterInfoMapping {
         new LinkedHashMap<String, CommandParameterInfo>();
     // Populate commands
     InteractionInfo windowCoveringupOrOpenInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .upOrOpen((DefaultClusterCallback) callback);
-            },
-            () -> new DelegatedDefaultClusterCallback(),
-            windowCoveringupOrOpenCommandParams);
+        InvokeCommand.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID, 0L, windowCoveringupOrOpenCommandParams);
     windowCoveringClusterInteractionInfoMap.put("upOrOpen", windowCoveringupOrOpenInteractionInfo);
-    commandMap.put("windowCovering", windowCoveringClusterInteractionInfoMap);
-    return commandMap;
+    return windowCoveringClusterInteractionInfoMap;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void invokeWindowCovering(
+      ChipClusters.WindowCoveringCluster cluster,
+      int commandId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (commandId) {
+      case 1:
+        cluster.downOrClose((DefaultClusterCallback) callback);
+        break;
+      case 5:
+        cluster.goToLiftPercentage(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 4:
+        cluster.goToLiftValue((DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 8:
+        cluster.goToTiltPercentage(
+            (DefaultClusterCallback) callback,
+            (Integer) commandArguments[0],
+            (Integer) commandArguments[1]);
+        break;
+      case 7:
+        cluster.goToTiltValue((DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 2:
+        cluster.stopMotion((DefaultClusterCallback) callback);
+        break;
+      case 0:
+        cluster.upOrOpen((DefaultClusterCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  private static DelegatedClusterCallback newWindowCoveringCommandCallback(int commandId) {
+    switch (commandId) {
+      case 1:
+        return new DelegatedDefaultClusterCallback();
+      case 5:
+        return new DelegatedDefaultClusterCallback();
+      case 4:
+        return new DelegatedDefaultClusterCallback();
+      case 8:
+        return new DelegatedDefaultClusterCallback();
+      case 7:
+        return new DelegatedDefaultClusterCallback();
+      case 2:
+        return new DelegatedDefaultClusterCallback();
+      case 0:
+        return new DelegatedDefaultClusterCallback();
+      default:
+        throw new IllegalStateException("Unsupported command " + commandId);
+    }
+  }
+
+  /** Creates the objects of one cluster. One class serves every cluster. */
+  private static final class NewCluster implements ClusterInfo.ClusterConstructor {
+    private final long clusterId;
+
+    private NewCluster(long clusterId) {
+      this.clusterId = clusterId;
+    }
+
+    @Override
+    public ChipClusters.BaseChipCluster create(Long devicePtr, int endpointId) {
+      return ChipClusters.newCluster(clusterId, devicePtr, endpointId);
+    }
+  }
+
+  /**
+   * Invokes one command and supplies the callback for its response. One class serves every command
+   * of every cluster, where each command used to take two lambda classes of its own.
+   */
+  private static final class InvokeCommand
+      implements InteractionInfo.PositionalCommandFunction, Supplier<DelegatedClusterCallback> {
+    private final int clusterId;
+    private final int commandId;
+
+    private InvokeCommand(long clusterId, long commandId) {
+      this.clusterId = (int) clusterId;
+      this.commandId = (int) commandId;
+    }
+
+    static InteractionInfo newInteractionInfo(
+        long clusterId, long commandId, Map<String, CommandParameterInfo> commandParams) {
+      InvokeCommand invokeCommand = new InvokeCommand(clusterId, commandId);
+      return InteractionInfo.positional(invokeCommand, invokeCommand, commandParams);
+    }
+
+    @Override
+    public void invokeCommand(
+        ChipClusters.BaseChipCluster cluster, Object callback, Object[] commandArguments) {
+      switch (clusterId) {
+        case 31:
+          invokeAccessControl(
+              (ChipClusters.AccessControlCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1294:
+          invokeAccountLogin(
+              (ChipClusters.AccountLoginCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 60:
+          invokeAdministratorCommissioning(
+              (ChipClusters.AdministratorCommissioningCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1293:
+          invokeApplicationBasic(
+              (ChipClusters.ApplicationBasicCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1292:
+          invokeApplicationLauncher(
+              (ChipClusters.ApplicationLauncherCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1291:
+          invokeAudioOutput(
+              (ChipClusters.AudioOutputCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 259:
+          invokeBarrierControl(
+              (ChipClusters.BarrierControlCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 40:
+          invokeBasic((ChipClusters.BasicCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 15:
+          invokeBinaryInputBasic(
+              (ChipClusters.BinaryInputBasicCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 30:
+          invokeBinding(
+              (ChipClusters.BindingCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 69:
+          invokeBooleanState(
+              (ChipClusters.BooleanStateCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 37:
+          invokeBridgedActions(
+              (ChipClusters.BridgedActionsCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 57:
+          invokeBridgedDeviceBasic(
+              (ChipClusters.BridgedDeviceBasicCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1284:
+          invokeChannel(
+              (ChipClusters.ChannelCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 768:
+          invokeColorControl(
+              (ChipClusters.ColorControlCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1290:
+          invokeContentLauncher(
+              (ChipClusters.ContentLauncherCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 29:
+          invokeDescriptor(
+              (ChipClusters.DescriptorCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 50:
+          invokeDiagnosticLogs(
+              (ChipClusters.DiagnosticLogsCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 257:
+          invokeDoorLock(
+              (ChipClusters.DoorLockCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 2820:
+          invokeElectricalMeasurement(
+              (ChipClusters.ElectricalMeasurementCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 55:
+          invokeEthernetNetworkDiagnostics(
+              (ChipClusters.EthernetNetworkDiagnosticsCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 64:
+          invokeFixedLabel(
+              (ChipClusters.FixedLabelCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1028:
+          invokeFlowMeasurement(
+              (ChipClusters.FlowMeasurementCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 48:
+          invokeGeneralCommissioning(
+              (ChipClusters.GeneralCommissioningCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 51:
+          invokeGeneralDiagnostics(
+              (ChipClusters.GeneralDiagnosticsCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 63:
+          invokeGroupKeyManagement(
+              (ChipClusters.GroupKeyManagementCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 4:
+          invokeGroups((ChipClusters.GroupsCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 3:
+          invokeIdentify(
+              (ChipClusters.IdentifyCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1024:
+          invokeIlluminanceMeasurement(
+              (ChipClusters.IlluminanceMeasurementCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1289:
+          invokeKeypadInput(
+              (ChipClusters.KeypadInputCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 8:
+          invokeLevelControl(
+              (ChipClusters.LevelControlCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 43:
+          invokeLocalizationConfiguration(
+              (ChipClusters.LocalizationConfigurationCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1288:
+          invokeLowPower(
+              (ChipClusters.LowPowerCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1287:
+          invokeMediaInput(
+              (ChipClusters.MediaInputCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1286:
+          invokeMediaPlayback(
+              (ChipClusters.MediaPlaybackCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 80:
+          invokeModeSelect(
+              (ChipClusters.ModeSelectCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 49:
+          invokeNetworkCommissioning(
+              (ChipClusters.NetworkCommissioningCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 41:
+          invokeOtaSoftwareUpdateProvider(
+              (ChipClusters.OtaSoftwareUpdateProviderCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 42:
+          invokeOtaSoftwareUpdateRequestor(
+              (ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1030:
+          invokeOccupancySensing(
+              (ChipClusters.OccupancySensingCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 6:
+          invokeOnOff((ChipClusters.OnOffCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 7:
+          invokeOnOffSwitchConfiguration(
+              (ChipClusters.OnOffSwitchConfigurationCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 62:
+          invokeOperationalCredentials(
+              (ChipClusters.OperationalCredentialsCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 47:
+          invokePowerSource(
+              (ChipClusters.PowerSourceCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 46:
+          invokePowerSourceConfiguration(
+              (ChipClusters.PowerSourceConfigurationCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1027:
+          invokePressureMeasurement(
+              (ChipClusters.PressureMeasurementCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 512:
+          invokePumpConfigurationAndControl(
+              (ChipClusters.PumpConfigurationAndControlCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1029:
+          invokeRelativeHumidityMeasurement(
+              (ChipClusters.RelativeHumidityMeasurementCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 5:
+          invokeScenes((ChipClusters.ScenesCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 52:
+          invokeSoftwareDiagnostics(
+              (ChipClusters.SoftwareDiagnosticsCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 59:
+          invokeSwitch((ChipClusters.SwitchCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1285:
+          invokeTargetNavigator(
+              (ChipClusters.TargetNavigatorCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1026:
+          invokeTemperatureMeasurement(
+              (ChipClusters.TemperatureMeasurementCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 1295:
+          invokeTestCluster(
+              (ChipClusters.TestClusterCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 513:
+          invokeThermostat(
+              (ChipClusters.ThermostatCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 516:
+          invokeThermostatUserInterfaceConfiguration(
+              (ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 53:
+          invokeThreadNetworkDiagnostics(
+              (ChipClusters.ThreadNetworkDiagnosticsCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 65:
+          invokeUserLabel(
+              (ChipClusters.UserLabelCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 1283:
+          invokeWakeOnLan(
+              (ChipClusters.WakeOnLanCluster) cluster, commandId, callback, commandArguments);
+          break;
+        case 54:
+          invokeWiFiNetworkDiagnostics(
+              (ChipClusters.WiFiNetworkDiagnosticsCluster) cluster,
+              commandId,
+              callback,
+              commandArguments);
+          break;
+        case 258:
+          invokeWindowCovering(
+              (ChipClusters.WindowCoveringCluster) cluster, commandId, callback, commandArguments);
+          break;
+        default:
+          throw new IllegalStateException("Unsupported cluster " + clusterId);
+      }
+    }
+
+    @Override
+    public DelegatedClusterCallback get() {
+      switch (clusterId) {
+        case 31:
+          return newAccessControlCommandCallback(commandId);
+        case 1294:
+          return newAccountLoginCommandCallback(commandId);
+        case 60:
+          return newAdministratorCommissioningCommandCallback(commandId);
+        case 1293:
+          return newApplicationBasicCommandCallback(commandId);
+        case 1292:
+          return newApplicationLauncherCommandCallback(commandId);
+        case 1291:
+          return newAudioOutputCommandCallback(commandId);
+        case 259:
+          return newBarrierControlCommandCallback(commandId);
+        case 40:
+          return newBasicCommandCallback(commandId);
+        case 15:
+          return newBinaryInputBasicCommandCallback(commandId);
+        case 30:
+          return newBindingCommandCallback(commandId);
+        case 69:
+          return newBooleanStateCommandCallback(commandId);
+        case 37:
+          return newBridgedActionsCommandCallback(commandId);
+        case 57:
+          return newBridgedDeviceBasicCommandCallback(commandId);
+        case 1284:
+          return newChannelCommandCallback(commandId);
+        case 768:
+          return newColorControlCommandCallback(commandId);
+        case 1290:
+          return newContentLauncherCommandCallback(commandId);
+        case 29:
+          return newDescriptorCommandCallback(commandId);
+        case 50:
+          return newDiagnosticLogsCommandCallback(commandId);
+        case 257:
+          return newDoorLockCommandCallback(commandId);
+        case 2820:
+          return newElectricalMeasurementCommandCallback(commandId);
+        case 55:
+          return newEthernetNetworkDiagnosticsCommandCallback(commandId);
+        case 64:
+          return newFixedLabelCommandCallback(commandId);
+        case 1028:
+          return newFlowMeasurementCommandCallback(commandId);
+        case 48:
+          return newGeneralCommissioningCommandCallback(commandId);
+        case 51:
+          return newGeneralDiagnosticsCommandCallback(commandId);
+        case 63:
+          return newGroupKeyManagementCommandCallback(commandId);
+        case 4:
+          return newGroupsCommandCallback(commandId);
+        case 3:
+          return newIdentifyCommandCallback(commandId);
+        case 1024:
+          return newIlluminanceMeasurementCommandCallback(commandId);
+        case 1289:
+          return newKeypadInputCommandCallback(commandId);
+        case 8:
+          return newLevelControlCommandCallback(commandId);
+        case 43:
+          return newLocalizationConfigurationCommandCallback(commandId);
+        case 1288:
+          return newLowPowerCommandCallback(commandId);
+        case 1287:
+          return newMediaInputCommandCallback(commandId);
+        case 1286:
+          return newMediaPlaybackCommandCallback(commandId);
+        case 80:
+          return newModeSelectCommandCallback(commandId);
+        case 49:
+          return newNetworkCommissioningCommandCallback(commandId);
+        case 41:
+          return newOtaSoftwareUpdateProviderCommandCallback(commandId);
+        case 42:
+          return newOtaSoftwareUpdateRequestorCommandCallback(commandId);
+        case 1030:
+          return newOccupancySensingCommandCallback(commandId);
+        case 6:
+          return newOnOffCommandCallback(commandId);
+        case 7:
+          return newOnOffSwitchConfigurationCommandCallback(commandId);
+        case 62:
+          return newOperationalCredentialsCommandCallback(commandId);
+        case 47:
+          return newPowerSourceCommandCallback(commandId);
+        case 46:
+          return newPowerSourceConfigurationCommandCallback(commandId);
+        case 1027:
+          return newPressureMeasurementCommandCallback(commandId);
+        case 512:
+          return newPumpConfigurationAndControlCommandCallback(commandId);
+        case 1029:
+          return newRelativeHumidityMeasurementCommandCallback(commandId);
+        case 5:
+          return newScenesCommandCallback(commandId);
+        case 52:
+          return newSoftwareDiagnosticsCommandCallback(commandId);
+        case 59:
+          return newSwitchCommandCallback(commandId);
+        case 1285:
+          return newTargetNavigatorCommandCallback(commandId);
+        case 1026:
+          return newTemperatureMeasurementCommandCallback(commandId);
+        case 1295:
+          return newTestClusterCommandCallback(commandId);
+        case 513:
+          return newThermostatCommandCallback(commandId);
+        case 516:
+          return newThermostatUserInterfaceConfigurationCommandCallback(commandId);
+        case 53:
+          return newThreadNetworkDiagnosticsCommandCallback(commandId);
+        case 65:
+          return newUserLabelCommandCallback(commandId);
+        case 1283:
+          return newWakeOnLanCommandCallback(commandId);
+        case 54:
+          return newWiFiNetworkDiagnosticsCommandCallback(commandId);
+        case 258:
+          return newWindowCoveringCommandCallback(commandId);
+        default:
+          throw new IllegalStateException("Unsupported cluster " + clusterId);
+      }
+    }
   }
 }
@@ -19,110 +19,529 @@
 
 package chip.devicecontroller;
 
+import androidx.annotation.Nullable;
 import chip.clusterinfo.CommandParameterInfo;
+import chip.clusterinfo.DelegatedClusterCallback;
 import chip.clusterinfo.InteractionInfo;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClusterReadMapping {
 
   public Map<String, Map<String, InteractionInfo>> getReadAttributeMap() {
     Map<String, Map<String, InteractionInfo>> readAttributeMap = new HashMap<>();
+    readAttributeMap.put("accessControl", getAccessControlReadAttributeMap());
+    readAttributeMap.put("accountLogin", getAccountLoginReadAttributeMap());
+    readAttributeMap.put(
+        "administratorCommissioning", getAdministratorCommissioningReadAttributeMap());
+    readAttributeMap.put("applicationBasic", getApplicationBasicReadAttributeMap());
+    readAttributeMap.put("applicationLauncher", getApplicationLauncherReadAttributeMap());
+    readAttributeMap.put("audioOutput", getAudioOutputReadAttributeMap());
+    readAttributeMap.put("barrierControl", getBarrierControlReadAttributeMap());
+    readAttributeMap.put("basic", getBasicReadAttributeMap());
+    readAttributeMap.put("binaryInputBasic", getBinaryInputBasicReadAttributeMap());
+    readAttributeMap.put("binding", getBindingReadAttributeMap());
+    readAttributeMap.put("booleanState", getBooleanStateReadAttributeMap());
+    readAttributeMap.put("bridgedActions", getBridgedActionsReadAttributeMap());
+    readAttributeMap.put("bridgedDeviceBasic", getBridgedDeviceBasicReadAttributeMap());
+    readAttributeMap.put("channel", getChannelReadAttributeMap());
+    readAttributeMap.put("colorControl", getColorControlReadAttributeMap());
+    readAttributeMap.put("contentLauncher", getContentLauncherReadAttributeMap());
+    readAttributeMap.put("descriptor", getDescriptorReadAttributeMap());
+    readAttributeMap.put("diagnosticLogs", getDiagnosticLogsReadAttributeMap());
+    readAttributeMap.put("doorLock", getDoorLockReadAttributeMap());
+    readAttributeMap.put("electricalMeasurement", getElectricalMeasurementReadAttributeMap());
+    readAttributeMap.put(
+        "ethernetNetworkDiagnostics", getEthernetNetworkDiagnosticsReadAttributeMap());
+    readAttributeMap.put("fixedLabel", getFixedLabelReadAttributeMap());
+    readAttributeMap.put("flowMeasurement", getFlowMeasurementReadAttributeMap());
+    readAttributeMap.put("generalCommissioning", getGeneralCommissioningReadAttributeMap());
+    readAttributeMap.put("generalDiagnostics", getGeneralDiagnosticsReadAttributeMap());
+    readAttributeMap.put("groupKeyManagement", getGroupKeyManagementReadAttributeMap());
+    readAttributeMap.put("groups", getGroupsReadAttributeMap());
+    readAttributeMap.put("identify", getIdentifyReadAttributeMap());
+    readAttributeMap.put("illuminanceMeasurement", getIlluminanceMeasurementReadAttributeMap());
+    readAttributeMap.put("keypadInput", getKeypadInputReadAttributeMap());
+    readAttributeMap.put("levelControl", getLevelControlReadAttributeMap());
+    readAttributeMap.put(
+        "localizationConfiguration", getLocalizationConfigurationReadAttributeMap());
+    readAttributeMap.put("lowPower", getLowPowerReadAttributeMap());
+    readAttributeMap.put("mediaInput", getMediaInputReadAttributeMap());
+    readAttributeMap.put("mediaPlayback", getMediaPlaybackReadAttributeMap());
+    readAttributeMap.put("modeSelect", getModeSelectReadAttributeMap());
+    readAttributeMap.put("networkCommissioning", getNetworkCommissioningReadAttributeMap());
+    readAttributeMap.put(
+        "otaSoftwareUpdateProvider", getOtaSoftwareUpdateProviderReadAttributeMap());
+    readAttributeMap.put(
+        "otaSoftwareUpdateRequestor", getOtaSoftwareUpdateRequestorReadAttributeMap());
+    readAttributeMap.put("occupancySensing", getOccupancySensingReadAttributeMap());
+    readAttributeMap.put("onOff", getOnOffReadAttributeMap());
+    readAttributeMap.put("onOffSwitchConfiguration", getOnOffSwitchConfigurationReadAttributeMap());
+    readAttributeMap.put("operationalCredentials", getOperationalCredentialsReadAttributeMap());
+    readAttributeMap.put("powerSource", getPowerSourceReadAttributeMap());
+    readAttributeMap.put("powerSourceConfiguration", getPowerSourceConfigurationReadAttributeMap());
+    readAttributeMap.put("pressureMeasurement", getPressureMeasurementReadAttributeMap());
+    readAttributeMap.put(
+        "pumpConfigurationAndControl", getPumpConfigurationAndControlReadAttributeMap());
+    readAttributeMap.put(
+        "relativeHumidityMeasurement", getRelativeHumidityMeasurementReadAttributeMap());
+    readAttributeMap.put("scenes", getScenesReadAttributeMap());
+    readAttributeMap.put("softwareDiagnostics", getSoftwareDiagnosticsReadAttributeMap());
+    readAttributeMap.put("switch", getSwitchReadAttributeMap());
+    readAttributeMap.put("targetNavigator", getTargetNavigatorReadAttributeMap());
+    readAttributeMap.put("temperatureMeasurement", getTemperatureMeasurementReadAttributeMap());
+    readAttributeMap.put("testCluster", getTestClusterReadAttributeMap());
+    readAttributeMap.put("thermostat", getThermostatReadAttributeMap());
+    readAttributeMap.put(
+        "thermostatUserInterfaceConfiguration",
+        getThermostatUserInterfaceConfigurationReadAttributeMap());
+    readAttributeMap.put("threadNetworkDiagnostics", getThreadNetworkDiagnosticsReadAttributeMap());
+    readAttributeMap.put("userLabel", getUserLabelReadAttributeMap());
+    readAttributeMap.put("wakeOnLan", getWakeOnLanReadAttributeMap());
+    readAttributeMap.put("wiFiNetworkDiagnostics", getWiFiNetworkDiagnosticsReadAttributeMap());
+    readAttributeMap.put("windowCovering", getWindowCoveringReadAttributeMap());
+    return readAttributeMap;
+  }
+
+  /** Returns the attribute reads of one cluster, or null if the cluster is not supported. */
+  @Nullable
+  public Map<String, InteractionInfo> getReadAttributeMap(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return getAccessControlReadAttributeMap();
+      case "accountLogin":
+        return getAccountLoginReadAttributeMap();
+      case "administratorCommissioning":
+        return getAdministratorCommissioningReadAttributeMap();
+      case "applicationBasic":
+        return getApplicationBasicReadAttributeMap();
+      case "applicationLauncher":
+        return getApplicationLauncherReadAttributeMap();
+      case "audioOutput":
+        return getAudioOutputReadAttributeMap();
+      case "barrierControl":
+        return getBarrierControlReadAttributeMap();
+      case "basic":
+        return getBasicReadAttributeMap();
+      case "binaryInputBasic":
+        return getBinaryInputBasicReadAttributeMap();
+      case "binding":
+        return getBindingReadAttributeMap();
+      case "booleanState":
+        return getBooleanStateReadAttributeMap();
+      case "bridgedActions":
+        return getBridgedActionsReadAttributeMap();
+      case "bridgedDeviceBasic":
+        return getBridgedDeviceBasicReadAttributeMap();
+      case "channel":
+        return getChannelReadAttributeMap();
+      case "colorControl":
+        return getColorControlReadAttributeMap();
+      case "contentLauncher":
+        return getContentLauncherReadAttributeMap();
+      case "descriptor":
+        return getDescriptorReadAttributeMap();
+      case "diagnosticLogs":
+        return getDiagnosticLogsReadAttributeMap();
+      case "doorLock":
+        return getDoorLockReadAttributeMap();
+      case "electricalMeasurement":
+        return getElectricalMeasurementReadAttributeMap();
+      case "ethernetNetworkDiagnostics":
+        return getEthernetNetworkDiagnosticsReadAttributeMap();
+      case "fixedLabel":
+        return getFixedLabelReadAttributeMap();
+      case "flowMeasurement":
+        return getFlowMeasurementReadAttributeMap();
+      case "generalCommissioning":
+        return getGeneralCommissioningReadAttributeMap();
+      case "generalDiagnostics":
+        return getGeneralDiagnosticsReadAttributeMap();
+      case "groupKeyManagement":
+        return getGroupKeyManagementReadAttributeMap();
+      case "groups":
+        return getGroupsReadAttributeMap();
+      case "identify":
+        return getIdentifyReadAttributeMap();
+      case "illuminanceMeasurement":
+        return getIlluminanceMeasurementReadAttributeMap();
+      case "keypadInput":
+        return getKeypadInputReadAttributeMap();
+      case "levelControl":
+        return getLevelControlReadAttributeMap();
+      case "localizationConfiguration":
+        return getLocalizationConfigurationReadAttributeMap();
+      case "lowPower":
+        return getLowPowerReadAttributeMap();
+      case "mediaInput":
+        return getMediaInputReadAttributeMap();
+      case "mediaPlayback":
+        return getMediaPlaybackReadAttributeMap();
+      case "modeSelect":
+        return getModeSelectReadAttributeMap();
+      case "networkCommissioning":
+        return getNetworkCommissioningReadAttributeMap();
+      case "otaSoftwareUpdateProvider":
+        return getOtaSoftwareUpdateProviderReadAttributeMap();
+      case "otaSoftwareUpdateRequestor":
+        return getOtaSoftwareUpdateRequestorReadAttributeMap();
+      case "occupancySensing":
+        return getOccupancySensingReadAttributeMap();
+      case "onOff":
+        return getOnOffReadAttributeMap();
+      case "onOffSwitchConfiguration":
+        return getOnOffSwitchConfigurationReadAttributeMap();
+      case "operationalCredentials":
+        return getOperationalCredentialsReadAttributeMap();
+      case "powerSource":
+        return getPowerSourceReadAttributeMap();
+      case "powerSourceConfiguration":
+        return getPowerSourceConfigurationReadAttributeMap();
+      case "pressureMeasurement":
+        return getPressureMeasurementReadAttributeMap();
+      case "pumpConfigurationAndControl":
+        return getPumpConfigurationAndControlReadAttributeMap();
+      case "relativeHumidityMeasurement":
+        return getRelativeHumidityMeasurementReadAttributeMap();
+      case "scenes":
+        return getScenesReadAttributeMap();
+      case "softwareDiagnostics":
+        return getSoftwareDiagnosticsReadAttributeMap();
+      case "switch":
+        return getSwitchReadAttributeMap();
+      case "targetNavigator":
+        return getTargetNavigatorReadAttributeMap();
+      case "temperatureMeasurement":
+        return getTemperatureMeasurementReadAttributeMap();
+      case "testCluster":
+        return getTestClusterReadAttributeMap();
+      case "thermostat":
+        return getThermostatReadAttributeMap();
+      case "thermostatUserInterfaceConfiguration":
+        return getThermostatUserInterfaceConfigurationReadAttributeMap();
+      case "threadNetworkDiagnostics":
+        return getThreadNetworkDiagnosticsReadAttributeMap();
+      case "userLabel":
+        return getUserLabelReadAttributeMap();
+      case "wakeOnLan":
+        return getWakeOnLanReadAttributeMap();
+      case "wiFiNetworkDiagnostics":
+        return getWiFiNetworkDiagnosticsReadAttributeMap();
+      case "windowCovering":
+        return getWindowCoveringReadAttributeMap();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns the IDs of the attributes read by {@link #getReadAttributeMap(String)}, in the order of
+   * its entries, or null if the cluster is not supported.
+   */
+  @Nullable
+  public long[] getReadAttributeIds(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return new long[] {0L, 1L, 65531L, 65533L};
+      case "accountLogin":
+        return new long[] {65531L, 65533L};
+      case "administratorCommissioning":
+        return new long[] {0L, 1L, 2L, 65531L, 65533L};
+      case "applicationBasic":
+        return new long[] {0L, 1L, 2L, 3L, 5L, 6L, 7L, 65531L, 65533L};
+      case "applicationLauncher":
+        return new long[] {0L, 65531L, 65533L};
+      case "audioOutput":
+        return new long[] {0L, 1L, 65531L, 65533L};
+      case "barrierControl":
+        return new long[] {1L, 2L, 3L, 10L, 65531L, 65533L};
+      case "basic":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L,
+          65531L, 65533L
+        };
+      case "binaryInputBasic":
+        return new long[] {81L, 85L, 111L, 65531L, 65533L};
+      case "binding":
+        return new long[] {65531L, 65533L};
+      case "booleanState":
+        return new long[] {0L, 65531L, 65533L};
+      case "bridgedActions":
+        return new long[] {0L, 1L, 2L, 65531L, 65533L};
+      case "bridgedDeviceBasic":
+        return new long[] {65531L, 65533L};
+      case "channel":
+        return new long[] {0L, 65531L, 65533L};
+      case "colorControl":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 15L, 16L, 17L, 18L, 19L, 21L, 22L, 23L, 25L, 26L, 27L,
+          32L, 33L, 34L, 36L, 37L, 38L, 40L, 41L, 42L, 48L, 49L, 50L, 51L, 52L, 54L, 55L, 56L, 58L,
+          59L, 60L, 16384L, 16385L, 16386L, 16387L, 16388L, 16389L, 16390L, 16394L, 16395L, 16396L,
+          16397L, 16400L, 65531L, 65533L
+        };
+      case "contentLauncher":
+        return new long[] {0L, 1L, 65531L, 65533L};
+      case "descriptor":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "diagnosticLogs":
+        return new long[] {65531L};
+      case "doorLock":
+        return new long[] {
+          0L, 1L, 2L, 3L, 17L, 18L, 23L, 24L, 33L, 35L, 36L, 37L, 38L, 41L, 43L, 48L, 65531L,
+          65533L
+        };
+      case "electricalMeasurement":
+        return new long[] {
+          0L, 772L, 1285L, 1286L, 1287L, 1288L, 1289L, 1290L, 1291L, 1292L, 1293L, 65531L, 65533L
+        };
+      case "ethernetNetworkDiagnostics":
+        return new long[] {0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 65531L, 65532L, 65533L};
+      case "fixedLabel":
+        return new long[] {0L, 65531L, 65533L};
+      case "flowMeasurement":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "generalCommissioning":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "generalDiagnostics":
+        return new long[] {0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 65531L, 65533L};
+      case "groupKeyManagement":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "groups":
+        return new long[] {0L, 65531L, 65533L};
+      case "identify":
+        return new long[] {0L, 1L, 65531L, 65533L};
+      case "illuminanceMeasurement":
+        return new long[] {0L, 1L, 2L, 3L, 4L, 65531L, 65533L};
+      case "keypadInput":
+        return new long[] {65531L, 65533L};
+      case "levelControl":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 15L, 16L, 17L, 18L, 19L, 20L, 16384L, 65531L, 65533L
+        };
+      case "localizationConfiguration":
+        return new long[] {1L, 2L};
+      case "lowPower":
+        return new long[] {65531L, 65533L};
+      case "mediaInput":
+        return new long[] {0L, 1L, 65531L, 65533L};
+      case "mediaPlayback":
+        return new long[] {0L, 1L, 2L, 4L, 5L, 6L, 65531L, 65533L};
+      case "modeSelect":
+        return new long[] {0L, 1L, 2L, 3L, 4L, 65531L, 65533L};
+      case "networkCommissioning":
+        return new long[] {0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 65532L, 65533L};
+      case "otaSoftwareUpdateProvider":
+        return new long[] {65531L, 65533L};
+      case "otaSoftwareUpdateRequestor":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "occupancySensing":
+        return new long[] {0L, 1L, 2L, 65531L, 65533L};
+      case "onOff":
+        return new long[] {0L, 16384L, 16385L, 16386L, 16387L, 65531L, 65532L, 65533L};
+      case "onOffSwitchConfiguration":
+        return new long[] {0L, 16L, 65531L, 65533L};
+      case "operationalCredentials":
+        return new long[] {1L, 2L, 3L, 4L, 5L, 65531L, 65533L};
+      case "powerSource":
+        return new long[] {0L, 1L, 2L, 11L, 12L, 13L, 14L, 18L, 26L, 65531L, 65532L, 65533L};
+      case "powerSourceConfiguration":
+        return new long[] {0L, 65531L, 65533L};
+      case "pressureMeasurement":
+        return new long[] {0L, 1L, 2L, 65531L, 65533L};
+      case "pumpConfigurationAndControl":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 16L, 17L, 18L, 19L, 20L, 21L, 22L,
+          23L, 32L, 33L, 34L, 65531L, 65532L, 65533L
+        };
+      case "relativeHumidityMeasurement":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "scenes":
+        return new long[] {0L, 1L, 2L, 3L, 4L, 65531L, 65533L};
+      case "softwareDiagnostics":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65532L, 65533L};
+      case "switch":
+        return new long[] {0L, 1L, 2L, 65531L, 65532L, 65533L};
+      case "targetNavigator":
+        return new long[] {0L, 1L, 65531L, 65533L};
+      case "temperatureMeasurement":
+        return new long[] {0L, 1L, 2L, 3L, 65531L, 65533L};
+      case "testCluster":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L,
+          20L, 21L, 22L, 23L, 24L, 25L, 26L, 27L, 28L, 29L, 30L, 31L, 32L, 33L, 34L, 35L, 36L, 38L,
+          39L, 40L, 41L, 42L, 48L, 255L, 32768L, 32769L, 32770L, 32771L, 32772L, 32773L, 32774L,
+          32775L, 32776L, 32777L, 32778L, 32779L, 32780L, 32781L, 32782L, 32783L, 32784L, 32785L,
+          32786L, 32787L, 32788L, 32789L, 32790L, 32791L, 32792L, 32793L, 32798L, 32804L, 32806L,
+          32807L, 32808L, 32809L, 65531L, 65533L
+        };
+      case "thermostat":
+        return new long[] {
+          0L, 3L, 4L, 5L, 6L, 17L, 18L, 21L, 22L, 23L, 24L, 25L, 27L, 28L, 32L, 33L, 34L, 65531L,
+          65532L, 65533L
+        };
+      case "thermostatUserInterfaceConfiguration":
+        return new long[] {0L, 1L, 2L, 65531L, 65533L};
+      case "threadNetworkDiagnostics":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L,
+          20L, 21L, 22L, 23L, 24L, 25L, 26L, 27L, 28L, 29L, 30L, 31L, 32L, 33L, 34L, 35L, 36L, 37L,
+          38L, 39L, 40L, 41L, 42L, 43L, 44L, 45L, 46L, 47L, 48L, 49L, 50L, 51L, 52L, 53L, 54L, 55L,
+          56L, 57L, 58L, 59L, 60L, 61L, 62L, 65531L, 65532L, 65533L
+        };
+      case "userLabel":
+        return new long[] {0L, 65533L};
+      case "wakeOnLan":
+        return new long[] {0L, 65531L, 65533L};
+      case "wiFiNetworkDiagnostics":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 65531L, 65532L, 65533L
+        };
+      case "windowCovering":
+        return new long[] {
+          0L, 3L, 4L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L, 23L, 26L,
+          65531L, 65532L, 65533L
+        };
+      default:
+        return null;
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAccessControlReadAttributeMap() {
     Map<String, InteractionInfo> readAccessControlInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readAccessControlAclCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAccessControlAclAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccessControlCluster) cluster)
-                  .readAclAttribute(
-                      (ChipClusters.AccessControlCluster.AclAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedAccessControlClusterAclAttributeCallback(),
-            readAccessControlAclCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AccessControlCluster.CLUSTER_ID, 0L, readAccessControlAclCommandParams);
     readAccessControlInteractionInfo.put(
         "readAclAttribute", readAccessControlAclAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readAccessControlExtensionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAccessControlExtensionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccessControlCluster) cluster)
-                  .readExtensionAttribute(
-                      (ChipClusters.AccessControlCluster.ExtensionAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedAccessControlClusterExtensionAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AccessControlCluster.CLUSTER_ID,
+            1L,
             readAccessControlExtensionCommandParams);
     readAccessControlInteractionInfo.put(
         "readExtensionAttribute", readAccessControlExtensionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readAccessControlAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAccessControlAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccessControlCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.AccessControlCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedAccessControlClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AccessControlCluster.CLUSTER_ID,
+            65531L,
             readAccessControlAttributeListCommandParams);
     readAccessControlInteractionInfo.put(
         "readAttributeListAttribute", readAccessControlAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readAccessControlClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAccessControlClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccessControlCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AccessControlCluster.CLUSTER_ID,
+            65533L,
             readAccessControlClusterRevisionCommandParams);
     readAccessControlInteractionInfo.put(
         "readClusterRevisionAttribute", readAccessControlClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("accessControl", readAccessControlInteractionInfo);
+    return readAccessControlInteractionInfo;
+  }
+
+  private static void readAccessControl(
+      ChipClusters.AccessControlCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readAclAttribute((ChipClusters.AccessControlCluster.AclAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readExtensionAttribute(
+            (ChipClusters.AccessControlCluster.ExtensionAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.AccessControlCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAccessControlReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedAccessControlClusterAclAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedAccessControlClusterExtensionAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedAccessControlClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAccountLoginReadAttributeMap() {
     Map<String, InteractionInfo> readAccountLoginInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readAccountLoginAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAccountLoginAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccountLoginCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.AccountLoginCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedAccountLoginClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AccountLoginCluster.CLUSTER_ID,
+            65531L,
             readAccountLoginAttributeListCommandParams);
     readAccountLoginInteractionInfo.put(
         "readAttributeListAttribute", readAccountLoginAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readAccountLoginClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAccountLoginClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AccountLoginCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AccountLoginCluster.CLUSTER_ID,
+            65533L,
             readAccountLoginClusterRevisionCommandParams);
     readAccountLoginInteractionInfo.put(
         "readClusterRevisionAttribute", readAccountLoginClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("accountLogin", readAccountLoginInteractionInfo);
+    return readAccountLoginInteractionInfo;
+  }
+
+  private static void readAccountLogin(
+      ChipClusters.AccountLoginCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.AccountLoginCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAccountLoginReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping.DelegatedAccountLoginClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAdministratorCommissioningReadAttributeMap() {
     Map<String, InteractionInfo> readAdministratorCommissioningInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readAdministratorCommissioningWindowStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAdministratorCommissioningWindowStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .readWindowStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            0L,
             readAdministratorCommissioningWindowStatusCommandParams);
     readAdministratorCommissioningInteractionInfo.put(
         "readWindowStatusAttribute",
@@ -130,15 +549,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readAdministratorCommissioningAdminFabricIndexCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAdministratorCommissioningAdminFabricIndexAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .readAdminFabricIndexAttribute(
-                      (ChipClusters.AdministratorCommissioningCluster
-                              .AdminFabricIndexAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            1L,
             readAdministratorCommissioningAdminFabricIndexCommandParams);
     readAdministratorCommissioningInteractionInfo.put(
         "readAdminFabricIndexAttribute",
@@ -146,12 +559,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readAdministratorCommissioningAdminVendorIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAdministratorCommissioningAdminVendorIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .readAdminVendorIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            2L,
             readAdministratorCommissioningAdminVendorIdCommandParams);
     readAdministratorCommissioningInteractionInfo.put(
         "readAdminVendorIdAttribute",
@@ -159,17 +569,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readAdministratorCommissioningAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAdministratorCommissioningAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.AdministratorCommissioningCluster
-                              .AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedAdministratorCommissioningClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            65531L,
             readAdministratorCommissioningAttributeListCommandParams);
     readAdministratorCommissioningInteractionInfo.put(
         "readAttributeListAttribute",
@@ -177,53 +579,88 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readAdministratorCommissioningClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAdministratorCommissioningClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AdministratorCommissioningCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AdministratorCommissioningCluster.CLUSTER_ID,
+            65533L,
             readAdministratorCommissioningClusterRevisionCommandParams);
     readAdministratorCommissioningInteractionInfo.put(
         "readClusterRevisionAttribute",
         readAdministratorCommissioningClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put(
-        "administratorCommissioning", readAdministratorCommissioningInteractionInfo);
+    return readAdministratorCommissioningInteractionInfo;
+  }
+
+  private static void readAdministratorCommissioning(
+      ChipClusters.AdministratorCommissioningCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readWindowStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readAdminFabricIndexAttribute(
+            (ChipClusters.AdministratorCommissioningCluster.AdminFabricIndexAttributeCallback)
+                callback);
+        break;
+      case 2:
+        cluster.readAdminVendorIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.AdministratorCommissioningCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAdministratorCommissioningReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedAdministratorCommissioningClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getApplicationBasicReadAttributeMap() {
     Map<String, InteractionInfo> readApplicationBasicInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readApplicationBasicVendorNameCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicVendorNameAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readVendorNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            0L,
             readApplicationBasicVendorNameCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readVendorNameAttribute", readApplicationBasicVendorNameAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readApplicationBasicVendorIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicVendorIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readVendorIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            1L,
             readApplicationBasicVendorIdCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readVendorIdAttribute", readApplicationBasicVendorIdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readApplicationBasicApplicationNameCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicApplicationNameAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readApplicationNameAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            2L,
             readApplicationBasicApplicationNameCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readApplicationNameAttribute",
@@ -231,24 +668,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readApplicationBasicProductIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicProductIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readProductIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            3L,
             readApplicationBasicProductIdCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readProductIdAttribute", readApplicationBasicProductIdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readApplicationBasicApplicationStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicApplicationStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readApplicationStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            5L,
             readApplicationBasicApplicationStatusCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readApplicationStatusAttribute",
@@ -256,13 +687,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readApplicationBasicApplicationVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicApplicationVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readApplicationVersionAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            6L,
             readApplicationBasicApplicationVersionCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readApplicationVersionAttribute",
@@ -270,16 +697,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readApplicationBasicAllowedVendorListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicAllowedVendorListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readAllowedVendorListAttribute(
-                      (ChipClusters.ApplicationBasicCluster.AllowedVendorListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedApplicationBasicClusterAllowedVendorListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            7L,
             readApplicationBasicAllowedVendorListCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readAllowedVendorListAttribute",
@@ -287,48 +707,98 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readApplicationBasicAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ApplicationBasicCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedApplicationBasicClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            65531L,
             readApplicationBasicAttributeListCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readAttributeListAttribute", readApplicationBasicAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readApplicationBasicClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationBasicClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationBasicCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationBasicCluster.CLUSTER_ID,
+            65533L,
             readApplicationBasicClusterRevisionCommandParams);
     readApplicationBasicInteractionInfo.put(
         "readClusterRevisionAttribute",
         readApplicationBasicClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("applicationBasic", readApplicationBasicInteractionInfo);
+    return readApplicationBasicInteractionInfo;
+  }
+
+  private static void readApplicationBasic(
+      ChipClusters.ApplicationBasicCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readVendorNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readVendorIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readApplicationNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readProductIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readApplicationStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readApplicationVersionAttribute(
+            (ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readAllowedVendorListAttribute(
+            (ChipClusters.ApplicationBasicCluster.AllowedVendorListAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ApplicationBasicCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newApplicationBasicReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping
+            .DelegatedApplicationBasicClusterAllowedVendorListAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedApplicationBasicClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getApplicationLauncherReadAttributeMap() {
     Map<String, InteractionInfo> readApplicationLauncherInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readApplicationLauncherApplicationLauncherListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationLauncherApplicationLauncherListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationLauncherCluster) cluster)
-                  .readApplicationLauncherListAttribute(
-                      (ChipClusters.ApplicationLauncherCluster
-                              .ApplicationLauncherListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedApplicationLauncherClusterApplicationLauncherListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationLauncherCluster.CLUSTER_ID,
+            0L,
             readApplicationLauncherApplicationLauncherListCommandParams);
     readApplicationLauncherInteractionInfo.put(
         "readApplicationLauncherListAttribute",
@@ -336,59 +806,77 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readApplicationLauncherAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationLauncherAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationLauncherCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ApplicationLauncherCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedApplicationLauncherClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationLauncherCluster.CLUSTER_ID,
+            65531L,
             readApplicationLauncherAttributeListCommandParams);
     readApplicationLauncherInteractionInfo.put(
         "readAttributeListAttribute", readApplicationLauncherAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readApplicationLauncherClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readApplicationLauncherClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ApplicationLauncherCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ApplicationLauncherCluster.CLUSTER_ID,
+            65533L,
             readApplicationLauncherClusterRevisionCommandParams);
     readApplicationLauncherInteractionInfo.put(
         "readClusterRevisionAttribute",
         readApplicationLauncherClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("applicationLauncher", readApplicationLauncherInteractionInfo);
+    return readApplicationLauncherInteractionInfo;
+  }
+
+  private static void readApplicationLauncher(
+      ChipClusters.ApplicationLauncherCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readApplicationLauncherListAttribute(
+            (ChipClusters.ApplicationLauncherCluster.ApplicationLauncherListAttributeCallback)
+                callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ApplicationLauncherCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newApplicationLauncherReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedApplicationLauncherClusterApplicationLauncherListAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedApplicationLauncherClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAudioOutputReadAttributeMap() {
     Map<String, InteractionInfo> readAudioOutputInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readAudioOutputAudioOutputListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAudioOutputAudioOutputListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AudioOutputCluster) cluster)
-                  .readAudioOutputListAttribute(
-                      (ChipClusters.AudioOutputCluster.AudioOutputListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedAudioOutputClusterAudioOutputListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AudioOutputCluster.CLUSTER_ID,
+            0L,
             readAudioOutputAudioOutputListCommandParams);
     readAudioOutputInteractionInfo.put(
         "readAudioOutputListAttribute", readAudioOutputAudioOutputListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readAudioOutputCurrentAudioOutputCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAudioOutputCurrentAudioOutputAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AudioOutputCluster) cluster)
-                  .readCurrentAudioOutputAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AudioOutputCluster.CLUSTER_ID,
+            1L,
             readAudioOutputCurrentAudioOutputCommandParams);
     readAudioOutputInteractionInfo.put(
         "readCurrentAudioOutputAttribute",
@@ -396,41 +884,69 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readAudioOutputAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAudioOutputAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AudioOutputCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.AudioOutputCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedAudioOutputClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AudioOutputCluster.CLUSTER_ID,
+            65531L,
             readAudioOutputAttributeListCommandParams);
     readAudioOutputInteractionInfo.put(
         "readAttributeListAttribute", readAudioOutputAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readAudioOutputClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readAudioOutputClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.AudioOutputCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.AudioOutputCluster.CLUSTER_ID,
+            65533L,
             readAudioOutputClusterRevisionCommandParams);
     readAudioOutputInteractionInfo.put(
         "readClusterRevisionAttribute", readAudioOutputClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("audioOutput", readAudioOutputInteractionInfo);
+    return readAudioOutputInteractionInfo;
+  }
+
+  private static void readAudioOutput(
+      ChipClusters.AudioOutputCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readAudioOutputListAttribute(
+            (ChipClusters.AudioOutputCluster.AudioOutputListAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentAudioOutputAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.AudioOutputCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newAudioOutputReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedAudioOutputClusterAudioOutputListAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedAudioOutputClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBarrierControlReadAttributeMap() {
     Map<String, InteractionInfo> readBarrierControlInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBarrierControlBarrierMovingStateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBarrierControlBarrierMovingStateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .readBarrierMovingStateAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            1L,
             readBarrierControlBarrierMovingStateCommandParams);
     readBarrierControlInteractionInfo.put(
         "readBarrierMovingStateAttribute",
@@ -438,13 +954,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readBarrierControlBarrierSafetyStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBarrierControlBarrierSafetyStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .readBarrierSafetyStatusAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            2L,
             readBarrierControlBarrierSafetyStatusCommandParams);
     readBarrierControlInteractionInfo.put(
         "readBarrierSafetyStatusAttribute",
@@ -452,13 +964,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readBarrierControlBarrierCapabilitiesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBarrierControlBarrierCapabilitiesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .readBarrierCapabilitiesAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            3L,
             readBarrierControlBarrierCapabilitiesCommandParams);
     readBarrierControlInteractionInfo.put(
         "readBarrierCapabilitiesAttribute",
@@ -466,54 +974,88 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readBarrierControlBarrierPositionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBarrierControlBarrierPositionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .readBarrierPositionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            10L,
             readBarrierControlBarrierPositionCommandParams);
     readBarrierControlInteractionInfo.put(
         "readBarrierPositionAttribute", readBarrierControlBarrierPositionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBarrierControlAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBarrierControlAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BarrierControlCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedBarrierControlClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            65531L,
             readBarrierControlAttributeListCommandParams);
     readBarrierControlInteractionInfo.put(
         "readAttributeListAttribute", readBarrierControlAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBarrierControlClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBarrierControlClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BarrierControlCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BarrierControlCluster.CLUSTER_ID,
+            65533L,
             readBarrierControlClusterRevisionCommandParams);
     readBarrierControlInteractionInfo.put(
         "readClusterRevisionAttribute", readBarrierControlClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("barrierControl", readBarrierControlInteractionInfo);
+    return readBarrierControlInteractionInfo;
+  }
+
+  private static void readBarrierControl(
+      ChipClusters.BarrierControlCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 1:
+        cluster.readBarrierMovingStateAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readBarrierSafetyStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readBarrierCapabilitiesAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 10:
+        cluster.readBarrierPositionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BarrierControlCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBarrierControlReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedBarrierControlClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBasicReadAttributeMap() {
     Map<String, InteractionInfo> readBasicInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBasicInteractionModelVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicInteractionModelVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readInteractionModelVersionAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID,
+            0L,
             readBasicInteractionModelVersionCommandParams);
     readBasicInteractionInfo.put(
         "readInteractionModelVersionAttribute",
@@ -521,549 +1063,698 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readBasicVendorNameCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicVendorNameAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readVendorNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicVendorNameCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 1L, readBasicVendorNameCommandParams);
     readBasicInteractionInfo.put(
         "readVendorNameAttribute", readBasicVendorNameAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicVendorIDCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicVendorIDAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readVendorIDAttribute(
-                      (ChipClusters.BasicCluster.VendorIDAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readBasicVendorIDCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 2L, readBasicVendorIDCommandParams);
     readBasicInteractionInfo.put(
         "readVendorIDAttribute", readBasicVendorIDAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicProductNameCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicProductNameAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readProductNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicProductNameCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 3L, readBasicProductNameCommandParams);
     readBasicInteractionInfo.put(
         "readProductNameAttribute", readBasicProductNameAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicProductIDCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicProductIDAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readProductIDAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readBasicProductIDCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 4L, readBasicProductIDCommandParams);
     readBasicInteractionInfo.put(
         "readProductIDAttribute", readBasicProductIDAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicNodeLabelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicNodeLabelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readNodeLabelAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicNodeLabelCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 5L, readBasicNodeLabelCommandParams);
     readBasicInteractionInfo.put(
         "readNodeLabelAttribute", readBasicNodeLabelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicLocationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicLocationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readLocationAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicLocationCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 6L, readBasicLocationCommandParams);
     readBasicInteractionInfo.put(
         "readLocationAttribute", readBasicLocationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicHardwareVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicHardwareVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readHardwareVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readBasicHardwareVersionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 7L, readBasicHardwareVersionCommandParams);
     readBasicInteractionInfo.put(
         "readHardwareVersionAttribute", readBasicHardwareVersionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicHardwareVersionStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicHardwareVersionStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readHardwareVersionStringAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicHardwareVersionStringCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 8L, readBasicHardwareVersionStringCommandParams);
     readBasicInteractionInfo.put(
         "readHardwareVersionStringAttribute",
         readBasicHardwareVersionStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicSoftwareVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicSoftwareVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readSoftwareVersionAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readBasicSoftwareVersionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 9L, readBasicSoftwareVersionCommandParams);
     readBasicInteractionInfo.put(
         "readSoftwareVersionAttribute", readBasicSoftwareVersionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicSoftwareVersionStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicSoftwareVersionStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readSoftwareVersionStringAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicSoftwareVersionStringCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 10L, readBasicSoftwareVersionStringCommandParams);
     readBasicInteractionInfo.put(
         "readSoftwareVersionStringAttribute",
         readBasicSoftwareVersionStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicManufacturingDateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicManufacturingDateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readManufacturingDateAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicManufacturingDateCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 11L, readBasicManufacturingDateCommandParams);
     readBasicInteractionInfo.put(
         "readManufacturingDateAttribute", readBasicManufacturingDateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicPartNumberCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicPartNumberAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readPartNumberAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicPartNumberCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 12L, readBasicPartNumberCommandParams);
     readBasicInteractionInfo.put(
         "readPartNumberAttribute", readBasicPartNumberAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicProductURLCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicProductURLAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readProductURLAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicProductURLCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 13L, readBasicProductURLCommandParams);
     readBasicInteractionInfo.put(
         "readProductURLAttribute", readBasicProductURLAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicProductLabelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicProductLabelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readProductLabelAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicProductLabelCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 14L, readBasicProductLabelCommandParams);
     readBasicInteractionInfo.put(
         "readProductLabelAttribute", readBasicProductLabelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicSerialNumberCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicSerialNumberAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readSerialNumberAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicSerialNumberCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 15L, readBasicSerialNumberCommandParams);
     readBasicInteractionInfo.put(
         "readSerialNumberAttribute", readBasicSerialNumberAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicLocalConfigDisabledCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicLocalConfigDisabledAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readLocalConfigDisabledAttribute(
-                      (ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readBasicLocalConfigDisabledCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 16L, readBasicLocalConfigDisabledCommandParams);
     readBasicInteractionInfo.put(
         "readLocalConfigDisabledAttribute", readBasicLocalConfigDisabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicReachableCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicReachableAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readReachableAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readBasicReachableCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 17L, readBasicReachableCommandParams);
     readBasicInteractionInfo.put(
         "readReachableAttribute", readBasicReachableAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicUniqueIDCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicUniqueIDAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readUniqueIDAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readBasicUniqueIDCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 18L, readBasicUniqueIDCommandParams);
     readBasicInteractionInfo.put(
         "readUniqueIDAttribute", readBasicUniqueIDAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BasicCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBasicClusterAttributeListAttributeCallback(),
-            readBasicAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 65531L, readBasicAttributeListCommandParams);
     readBasicInteractionInfo.put(
         "readAttributeListAttribute", readBasicAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBasicClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBasicClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readBasicClusterRevisionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 65533L, readBasicClusterRevisionCommandParams);
     readBasicInteractionInfo.put(
         "readClusterRevisionAttribute", readBasicClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("basic", readBasicInteractionInfo);
+    return readBasicInteractionInfo;
+  }
+
+  private static void readBasic(
+      ChipClusters.BasicCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readInteractionModelVersionAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readVendorNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readVendorIDAttribute(
+            (ChipClusters.BasicCluster.VendorIDAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readProductNameAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readProductIDAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readNodeLabelAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readLocationAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readHardwareVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readHardwareVersionStringAttribute(
+            (ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 9:
+        cluster.readSoftwareVersionAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 10:
+        cluster.readSoftwareVersionStringAttribute(
+            (ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readManufacturingDateAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 12:
+        cluster.readPartNumberAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 13:
+        cluster.readProductURLAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 14:
+        cluster.readProductLabelAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 15:
+        cluster.readSerialNumberAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readLocalConfigDisabledAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readReachableAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readUniqueIDAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BasicCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBasicReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 9:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 13:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 14:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 15:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedBasicClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBinaryInputBasicReadAttributeMap() {
     Map<String, InteractionInfo> readBinaryInputBasicInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBinaryInputBasicOutOfServiceCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBinaryInputBasicOutOfServiceAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .readOutOfServiceAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            81L,
             readBinaryInputBasicOutOfServiceCommandParams);
     readBinaryInputBasicInteractionInfo.put(
         "readOutOfServiceAttribute", readBinaryInputBasicOutOfServiceAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBinaryInputBasicPresentValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBinaryInputBasicPresentValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .readPresentValueAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            85L,
             readBinaryInputBasicPresentValueCommandParams);
     readBinaryInputBasicInteractionInfo.put(
         "readPresentValueAttribute", readBinaryInputBasicPresentValueAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBinaryInputBasicStatusFlagsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBinaryInputBasicStatusFlagsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .readStatusFlagsAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            111L,
             readBinaryInputBasicStatusFlagsCommandParams);
     readBinaryInputBasicInteractionInfo.put(
         "readStatusFlagsAttribute", readBinaryInputBasicStatusFlagsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBinaryInputBasicAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBinaryInputBasicAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BinaryInputBasicCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedBinaryInputBasicClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            65531L,
             readBinaryInputBasicAttributeListCommandParams);
     readBinaryInputBasicInteractionInfo.put(
         "readAttributeListAttribute", readBinaryInputBasicAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBinaryInputBasicClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBinaryInputBasicClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            65533L,
             readBinaryInputBasicClusterRevisionCommandParams);
     readBinaryInputBasicInteractionInfo.put(
         "readClusterRevisionAttribute",
         readBinaryInputBasicClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("binaryInputBasic", readBinaryInputBasicInteractionInfo);
+    return readBinaryInputBasicInteractionInfo;
+  }
+
+  private static void readBinaryInputBasic(
+      ChipClusters.BinaryInputBasicCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 81:
+        cluster.readOutOfServiceAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 85:
+        cluster.readPresentValueAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 111:
+        cluster.readStatusFlagsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BinaryInputBasicCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBinaryInputBasicReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 81:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 85:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 111:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedBinaryInputBasicClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBindingReadAttributeMap() {
     Map<String, InteractionInfo> readBindingInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBindingAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBindingAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BindingCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BindingCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBindingClusterAttributeListAttributeCallback(),
-            readBindingAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BindingCluster.CLUSTER_ID, 65531L, readBindingAttributeListCommandParams);
     readBindingInteractionInfo.put(
         "readAttributeListAttribute", readBindingAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBindingClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBindingClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BindingCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BindingCluster.CLUSTER_ID,
+            65533L,
             readBindingClusterRevisionCommandParams);
     readBindingInteractionInfo.put(
         "readClusterRevisionAttribute", readBindingClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("binding", readBindingInteractionInfo);
+    return readBindingInteractionInfo;
+  }
+
+  private static void readBinding(
+      ChipClusters.BindingCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BindingCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBindingReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping.DelegatedBindingClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBooleanStateReadAttributeMap() {
     Map<String, InteractionInfo> readBooleanStateInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBooleanStateStateValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBooleanStateStateValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BooleanStateCluster) cluster)
-                  .readStateValueAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BooleanStateCluster.CLUSTER_ID,
+            0L,
             readBooleanStateStateValueCommandParams);
     readBooleanStateInteractionInfo.put(
         "readStateValueAttribute", readBooleanStateStateValueAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBooleanStateAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBooleanStateAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BooleanStateCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BooleanStateCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedBooleanStateClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BooleanStateCluster.CLUSTER_ID,
+            65531L,
             readBooleanStateAttributeListCommandParams);
     readBooleanStateInteractionInfo.put(
         "readAttributeListAttribute", readBooleanStateAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBooleanStateClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBooleanStateClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BooleanStateCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BooleanStateCluster.CLUSTER_ID,
+            65533L,
             readBooleanStateClusterRevisionCommandParams);
     readBooleanStateInteractionInfo.put(
         "readClusterRevisionAttribute", readBooleanStateClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("booleanState", readBooleanStateInteractionInfo);
+    return readBooleanStateInteractionInfo;
+  }
+
+  private static void readBooleanState(
+      ChipClusters.BooleanStateCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readStateValueAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BooleanStateCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBooleanStateReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedBooleanStateClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBridgedActionsReadAttributeMap() {
     Map<String, InteractionInfo> readBridgedActionsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBridgedActionsActionListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedActionsActionListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .readActionListAttribute(
-                      (ChipClusters.BridgedActionsCluster.ActionListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedBridgedActionsClusterActionListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            0L,
             readBridgedActionsActionListCommandParams);
     readBridgedActionsInteractionInfo.put(
         "readActionListAttribute", readBridgedActionsActionListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBridgedActionsEndpointListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedActionsEndpointListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .readEndpointListAttribute(
-                      (ChipClusters.BridgedActionsCluster.EndpointListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedBridgedActionsClusterEndpointListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            1L,
             readBridgedActionsEndpointListCommandParams);
     readBridgedActionsInteractionInfo.put(
         "readEndpointListAttribute", readBridgedActionsEndpointListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBridgedActionsSetupUrlCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedActionsSetupUrlAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .readSetupUrlAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            2L,
             readBridgedActionsSetupUrlCommandParams);
     readBridgedActionsInteractionInfo.put(
         "readSetupUrlAttribute", readBridgedActionsSetupUrlAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBridgedActionsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedActionsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BridgedActionsCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedBridgedActionsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            65531L,
             readBridgedActionsAttributeListCommandParams);
     readBridgedActionsInteractionInfo.put(
         "readAttributeListAttribute", readBridgedActionsAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBridgedActionsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedActionsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedActionsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedActionsCluster.CLUSTER_ID,
+            65533L,
             readBridgedActionsClusterRevisionCommandParams);
     readBridgedActionsInteractionInfo.put(
         "readClusterRevisionAttribute", readBridgedActionsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("bridgedActions", readBridgedActionsInteractionInfo);
+    return readBridgedActionsInteractionInfo;
+  }
+
+  private static void readBridgedActions(
+      ChipClusters.BridgedActionsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readActionListAttribute(
+            (ChipClusters.BridgedActionsCluster.ActionListAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readEndpointListAttribute(
+            (ChipClusters.BridgedActionsCluster.EndpointListAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readSetupUrlAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BridgedActionsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBridgedActionsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedBridgedActionsClusterActionListAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedBridgedActionsClusterEndpointListAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedBridgedActionsClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBridgedDeviceBasicReadAttributeMap() {
     Map<String, InteractionInfo> readBridgedDeviceBasicInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readBridgedDeviceBasicAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedDeviceBasicAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedDeviceBasicCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.BridgedDeviceBasicCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedBridgedDeviceBasicClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedDeviceBasicCluster.CLUSTER_ID,
+            65531L,
             readBridgedDeviceBasicAttributeListCommandParams);
     readBridgedDeviceBasicInteractionInfo.put(
         "readAttributeListAttribute", readBridgedDeviceBasicAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readBridgedDeviceBasicClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readBridgedDeviceBasicClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BridgedDeviceBasicCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.BridgedDeviceBasicCluster.CLUSTER_ID,
+            65533L,
             readBridgedDeviceBasicClusterRevisionCommandParams);
     readBridgedDeviceBasicInteractionInfo.put(
         "readClusterRevisionAttribute",
         readBridgedDeviceBasicClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("bridgedDeviceBasic", readBridgedDeviceBasicInteractionInfo);
+    return readBridgedDeviceBasicInteractionInfo;
+  }
+
+  private static void readBridgedDeviceBasic(
+      ChipClusters.BridgedDeviceBasicCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.BridgedDeviceBasicCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newBridgedDeviceBasicReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedBridgedDeviceBasicClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getChannelReadAttributeMap() {
     Map<String, InteractionInfo> readChannelInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readChannelChannelListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readChannelChannelListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ChannelCluster) cluster)
-                  .readChannelListAttribute(
-                      (ChipClusters.ChannelCluster.ChannelListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedChannelClusterChannelListAttributeCallback(),
-            readChannelChannelListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ChannelCluster.CLUSTER_ID, 0L, readChannelChannelListCommandParams);
     readChannelInteractionInfo.put(
         "readChannelListAttribute", readChannelChannelListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readChannelAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readChannelAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ChannelCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ChannelCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedChannelClusterAttributeListAttributeCallback(),
-            readChannelAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ChannelCluster.CLUSTER_ID, 65531L, readChannelAttributeListCommandParams);
     readChannelInteractionInfo.put(
         "readAttributeListAttribute", readChannelAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readChannelClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readChannelClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ChannelCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ChannelCluster.CLUSTER_ID,
+            65533L,
             readChannelClusterRevisionCommandParams);
     readChannelInteractionInfo.put(
         "readClusterRevisionAttribute", readChannelClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("channel", readChannelInteractionInfo);
+    return readChannelInteractionInfo;
+  }
+
+  private static void readChannel(
+      ChipClusters.ChannelCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readChannelListAttribute(
+            (ChipClusters.ChannelCluster.ChannelListAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ChannelCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newChannelReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedChannelClusterChannelListAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedChannelClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getColorControlReadAttributeMap() {
     Map<String, InteractionInfo> readColorControlInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readColorControlCurrentHueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlCurrentHueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readCurrentHueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            0L,
             readColorControlCurrentHueCommandParams);
     readColorControlInteractionInfo.put(
         "readCurrentHueAttribute", readColorControlCurrentHueAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlCurrentSaturationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlCurrentSaturationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readCurrentSaturationAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            1L,
             readColorControlCurrentSaturationCommandParams);
     readColorControlInteractionInfo.put(
         "readCurrentSaturationAttribute",
@@ -1071,48 +1762,32 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlRemainingTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlRemainingTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readRemainingTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            2L,
             readColorControlRemainingTimeCommandParams);
     readColorControlInteractionInfo.put(
         "readRemainingTimeAttribute", readColorControlRemainingTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlCurrentXCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlCurrentXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readCurrentXAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readColorControlCurrentXCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 3L, readColorControlCurrentXCommandParams);
     readColorControlInteractionInfo.put(
         "readCurrentXAttribute", readColorControlCurrentXAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlCurrentYCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlCurrentYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readCurrentYAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readColorControlCurrentYCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID, 4L, readColorControlCurrentYCommandParams);
     readColorControlInteractionInfo.put(
         "readCurrentYAttribute", readColorControlCurrentYAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlDriftCompensationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlDriftCompensationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readDriftCompensationAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            5L,
             readColorControlDriftCompensationCommandParams);
     readColorControlInteractionInfo.put(
         "readDriftCompensationAttribute",
@@ -1120,50 +1795,36 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlCompensationTextCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlCompensationTextAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readCompensationTextAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            6L,
             readColorControlCompensationTextCommandParams);
     readColorControlInteractionInfo.put(
         "readCompensationTextAttribute", readColorControlCompensationTextAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorTemperatureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorTemperatureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorTemperatureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            7L,
             readColorControlColorTemperatureCommandParams);
     readColorControlInteractionInfo.put(
         "readColorTemperatureAttribute", readColorControlColorTemperatureAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            8L,
             readColorControlColorModeCommandParams);
     readColorControlInteractionInfo.put(
         "readColorModeAttribute", readColorControlColorModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorControlOptionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorControlOptionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorControlOptionsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            15L,
             readColorControlColorControlOptionsCommandParams);
     readColorControlInteractionInfo.put(
         "readColorControlOptionsAttribute",
@@ -1171,12 +1832,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlNumberOfPrimariesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlNumberOfPrimariesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readNumberOfPrimariesAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16L,
             readColorControlNumberOfPrimariesCommandParams);
     readColorControlInteractionInfo.put(
         "readNumberOfPrimariesAttribute",
@@ -1184,36 +1842,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlPrimary1XCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary1XAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary1XAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            17L,
             readColorControlPrimary1XCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary1XAttribute", readColorControlPrimary1XAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary1YCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary1YAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary1YAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            18L,
             readColorControlPrimary1YCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary1YAttribute", readColorControlPrimary1YAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary1IntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary1IntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary1IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            19L,
             readColorControlPrimary1IntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary1IntensityAttribute",
@@ -1221,36 +1870,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlPrimary2XCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary2XAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary2XAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            21L,
             readColorControlPrimary2XCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary2XAttribute", readColorControlPrimary2XAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary2YCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary2YAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary2YAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            22L,
             readColorControlPrimary2YCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary2YAttribute", readColorControlPrimary2YAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary2IntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary2IntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary2IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            23L,
             readColorControlPrimary2IntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary2IntensityAttribute",
@@ -1258,36 +1898,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlPrimary3XCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary3XAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary3XAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            25L,
             readColorControlPrimary3XCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary3XAttribute", readColorControlPrimary3XAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary3YCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary3YAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary3YAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            26L,
             readColorControlPrimary3YCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary3YAttribute", readColorControlPrimary3YAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary3IntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary3IntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary3IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            27L,
             readColorControlPrimary3IntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary3IntensityAttribute",
@@ -1295,36 +1926,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlPrimary4XCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary4XAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary4XAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            32L,
             readColorControlPrimary4XCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary4XAttribute", readColorControlPrimary4XAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary4YCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary4YAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary4YAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            33L,
             readColorControlPrimary4YCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary4YAttribute", readColorControlPrimary4YAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary4IntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary4IntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary4IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            34L,
             readColorControlPrimary4IntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary4IntensityAttribute",
@@ -1332,36 +1954,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlPrimary5XCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary5XAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary5XAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            36L,
             readColorControlPrimary5XCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary5XAttribute", readColorControlPrimary5XAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary5YCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary5YAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary5YAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            37L,
             readColorControlPrimary5YCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary5YAttribute", readColorControlPrimary5YAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary5IntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary5IntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary5IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            38L,
             readColorControlPrimary5IntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary5IntensityAttribute",
@@ -1369,36 +1982,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlPrimary6XCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary6XAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary6XAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            40L,
             readColorControlPrimary6XCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary6XAttribute", readColorControlPrimary6XAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary6YCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary6YAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary6YAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            41L,
             readColorControlPrimary6YCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary6YAttribute", readColorControlPrimary6YAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlPrimary6IntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlPrimary6IntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readPrimary6IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            42L,
             readColorControlPrimary6IntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readPrimary6IntensityAttribute",
@@ -1406,61 +2010,45 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlWhitePointXCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlWhitePointXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readWhitePointXAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            48L,
             readColorControlWhitePointXCommandParams);
     readColorControlInteractionInfo.put(
         "readWhitePointXAttribute", readColorControlWhitePointXAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlWhitePointYCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlWhitePointYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readWhitePointYAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            49L,
             readColorControlWhitePointYCommandParams);
     readColorControlInteractionInfo.put(
         "readWhitePointYAttribute", readColorControlWhitePointYAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointRXCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointRXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointRXAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            50L,
             readColorControlColorPointRXCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointRXAttribute", readColorControlColorPointRXAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointRYCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointRYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointRYAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            51L,
             readColorControlColorPointRYCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointRYAttribute", readColorControlColorPointRYAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointRIntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointRIntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointRIntensityAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            52L,
             readColorControlColorPointRIntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointRIntensityAttribute",
@@ -1468,37 +2056,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorPointGXCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointGXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointGXAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            54L,
             readColorControlColorPointGXCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointGXAttribute", readColorControlColorPointGXAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointGYCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointGYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointGYAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            55L,
             readColorControlColorPointGYCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointGYAttribute", readColorControlColorPointGYAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointGIntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointGIntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointGIntensityAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            56L,
             readColorControlColorPointGIntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointGIntensityAttribute",
@@ -1506,37 +2084,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorPointBXCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointBXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointBXAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            58L,
             readColorControlColorPointBXCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointBXAttribute", readColorControlColorPointBXAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointBYCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointBYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointBYAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            59L,
             readColorControlColorPointBYCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointBYAttribute", readColorControlColorPointBYAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorPointBIntensityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorPointBIntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorPointBIntensityAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            60L,
             readColorControlColorPointBIntensityCommandParams);
     readColorControlInteractionInfo.put(
         "readColorPointBIntensityAttribute",
@@ -1544,13 +2112,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlEnhancedCurrentHueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlEnhancedCurrentHueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readEnhancedCurrentHueAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16384L,
             readColorControlEnhancedCurrentHueCommandParams);
     readColorControlInteractionInfo.put(
         "readEnhancedCurrentHueAttribute",
@@ -1558,12 +2122,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlEnhancedColorModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlEnhancedColorModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readEnhancedColorModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16385L,
             readColorControlEnhancedColorModeCommandParams);
     readColorControlInteractionInfo.put(
         "readEnhancedColorModeAttribute",
@@ -1571,25 +2132,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorLoopActiveCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorLoopActiveAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorLoopActiveAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16386L,
             readColorControlColorLoopActiveCommandParams);
     readColorControlInteractionInfo.put(
         "readColorLoopActiveAttribute", readColorControlColorLoopActiveAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorLoopDirectionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorLoopDirectionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorLoopDirectionAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16387L,
             readColorControlColorLoopDirectionCommandParams);
     readColorControlInteractionInfo.put(
         "readColorLoopDirectionAttribute",
@@ -1597,25 +2151,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorLoopTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorLoopTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorLoopTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16388L,
             readColorControlColorLoopTimeCommandParams);
     readColorControlInteractionInfo.put(
         "readColorLoopTimeAttribute", readColorControlColorLoopTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlColorLoopStartEnhancedHueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorLoopStartEnhancedHueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorLoopStartEnhancedHueAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16389L,
             readColorControlColorLoopStartEnhancedHueCommandParams);
     readColorControlInteractionInfo.put(
         "readColorLoopStartEnhancedHueAttribute",
@@ -1623,13 +2170,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorLoopStoredEnhancedHueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorLoopStoredEnhancedHueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorLoopStoredEnhancedHueAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16390L,
             readColorControlColorLoopStoredEnhancedHueCommandParams);
     readColorControlInteractionInfo.put(
         "readColorLoopStoredEnhancedHueAttribute",
@@ -1637,12 +2180,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorCapabilitiesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorCapabilitiesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorCapabilitiesAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16394L,
             readColorControlColorCapabilitiesCommandParams);
     readColorControlInteractionInfo.put(
         "readColorCapabilitiesAttribute",
@@ -1650,13 +2190,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorTempPhysicalMinCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorTempPhysicalMinAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorTempPhysicalMinAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16395L,
             readColorControlColorTempPhysicalMinCommandParams);
     readColorControlInteractionInfo.put(
         "readColorTempPhysicalMinAttribute",
@@ -1664,13 +2200,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlColorTempPhysicalMaxCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlColorTempPhysicalMaxAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readColorTempPhysicalMaxAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16396L,
             readColorControlColorTempPhysicalMaxCommandParams);
     readColorControlInteractionInfo.put(
         "readColorTempPhysicalMaxAttribute",
@@ -1678,13 +2210,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlCoupleColorTempToLevelMinMiredsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlCoupleColorTempToLevelMinMiredsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readCoupleColorTempToLevelMinMiredsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16397L,
             readColorControlCoupleColorTempToLevelMinMiredsCommandParams);
     readColorControlInteractionInfo.put(
         "readCoupleColorTempToLevelMinMiredsAttribute",
@@ -1692,13 +2220,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlStartUpColorTemperatureMiredsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlStartUpColorTemperatureMiredsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readStartUpColorTemperatureMiredsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16400L,
             readColorControlStartUpColorTemperatureMiredsCommandParams);
     readColorControlInteractionInfo.put(
         "readStartUpColorTemperatureMiredsAttribute",
@@ -1706,44 +2230,322 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readColorControlAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ColorControlCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedColorControlClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            65531L,
             readColorControlAttributeListCommandParams);
     readColorControlInteractionInfo.put(
         "readAttributeListAttribute", readColorControlAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readColorControlClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readColorControlClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            65533L,
             readColorControlClusterRevisionCommandParams);
     readColorControlInteractionInfo.put(
         "readClusterRevisionAttribute", readColorControlClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("colorControl", readColorControlInteractionInfo);
+    return readColorControlInteractionInfo;
+  }
+
+  private static void readColorControl(
+      ChipClusters.ColorControlCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readCurrentHueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentSaturationAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readRemainingTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readCurrentXAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readCurrentYAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readDriftCompensationAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readCompensationTextAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readColorTemperatureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readColorModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 15:
+        cluster.readColorControlOptionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readNumberOfPrimariesAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readPrimary1XAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readPrimary1YAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 19:
+        cluster.readPrimary1IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 21:
+        cluster.readPrimary2XAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 22:
+        cluster.readPrimary2YAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readPrimary2IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 25:
+        cluster.readPrimary3XAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 26:
+        cluster.readPrimary3YAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 27:
+        cluster.readPrimary3IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 32:
+        cluster.readPrimary4XAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 33:
+        cluster.readPrimary4YAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 34:
+        cluster.readPrimary4IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 36:
+        cluster.readPrimary5XAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 37:
+        cluster.readPrimary5YAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 38:
+        cluster.readPrimary5IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 40:
+        cluster.readPrimary6XAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 41:
+        cluster.readPrimary6YAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 42:
+        cluster.readPrimary6IntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 48:
+        cluster.readWhitePointXAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 49:
+        cluster.readWhitePointYAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 50:
+        cluster.readColorPointRXAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 51:
+        cluster.readColorPointRYAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 52:
+        cluster.readColorPointRIntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 54:
+        cluster.readColorPointGXAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 55:
+        cluster.readColorPointGYAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 56:
+        cluster.readColorPointGIntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 58:
+        cluster.readColorPointBXAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 59:
+        cluster.readColorPointBYAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 60:
+        cluster.readColorPointBIntensityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16384:
+        cluster.readEnhancedCurrentHueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16385:
+        cluster.readEnhancedColorModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16386:
+        cluster.readColorLoopActiveAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16387:
+        cluster.readColorLoopDirectionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16388:
+        cluster.readColorLoopTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16389:
+        cluster.readColorLoopStartEnhancedHueAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16390:
+        cluster.readColorLoopStoredEnhancedHueAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16394:
+        cluster.readColorCapabilitiesAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16395:
+        cluster.readColorTempPhysicalMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16396:
+        cluster.readColorTempPhysicalMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16397:
+        cluster.readCoupleColorTempToLevelMinMiredsAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16400:
+        cluster.readStartUpColorTemperatureMiredsAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ColorControlCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newColorControlReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 15:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 19:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 21:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 22:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 25:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 26:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 27:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 33:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 34:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 36:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 37:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 38:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 40:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 41:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 42:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 48:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 49:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 50:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 51:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 52:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 54:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 55:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 56:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 58:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 59:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 60:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16384:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16385:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16386:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16387:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16388:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16389:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16390:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16394:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16395:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16396:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16397:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16400:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedColorControlClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getContentLauncherReadAttributeMap() {
     Map<String, InteractionInfo> readContentLauncherInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readContentLauncherAcceptHeaderListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readContentLauncherAcceptHeaderListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .readAcceptHeaderListAttribute(
-                      (ChipClusters.ContentLauncherCluster.AcceptHeaderListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedContentLauncherClusterAcceptHeaderListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            0L,
             readContentLauncherAcceptHeaderListCommandParams);
     readContentLauncherInteractionInfo.put(
         "readAcceptHeaderListAttribute",
@@ -1751,13 +2553,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readContentLauncherSupportedStreamingProtocolsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readContentLauncherSupportedStreamingProtocolsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .readSupportedStreamingProtocolsAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            1L,
             readContentLauncherSupportedStreamingProtocolsCommandParams);
     readContentLauncherInteractionInfo.put(
         "readSupportedStreamingProtocolsAttribute",
@@ -1765,189 +2563,237 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readContentLauncherAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readContentLauncherAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ContentLauncherCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedContentLauncherClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            65531L,
             readContentLauncherAttributeListCommandParams);
     readContentLauncherInteractionInfo.put(
         "readAttributeListAttribute", readContentLauncherAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readContentLauncherClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readContentLauncherClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            65533L,
             readContentLauncherClusterRevisionCommandParams);
     readContentLauncherInteractionInfo.put(
         "readClusterRevisionAttribute", readContentLauncherClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("contentLauncher", readContentLauncherInteractionInfo);
+    return readContentLauncherInteractionInfo;
+  }
+
+  private static void readContentLauncher(
+      ChipClusters.ContentLauncherCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readAcceptHeaderListAttribute(
+            (ChipClusters.ContentLauncherCluster.AcceptHeaderListAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readSupportedStreamingProtocolsAttribute(
+            (ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ContentLauncherCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newContentLauncherReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedContentLauncherClusterAcceptHeaderListAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedContentLauncherClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getDescriptorReadAttributeMap() {
     Map<String, InteractionInfo> readDescriptorInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readDescriptorDeviceListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDescriptorDeviceListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DescriptorCluster) cluster)
-                  .readDeviceListAttribute(
-                      (ChipClusters.DescriptorCluster.DeviceListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDescriptorClusterDeviceListAttributeCallback(),
-            readDescriptorDeviceListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DescriptorCluster.CLUSTER_ID, 0L, readDescriptorDeviceListCommandParams);
     readDescriptorInteractionInfo.put(
         "readDeviceListAttribute", readDescriptorDeviceListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDescriptorServerListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDescriptorServerListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DescriptorCluster) cluster)
-                  .readServerListAttribute(
-                      (ChipClusters.DescriptorCluster.ServerListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDescriptorClusterServerListAttributeCallback(),
-            readDescriptorServerListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DescriptorCluster.CLUSTER_ID, 1L, readDescriptorServerListCommandParams);
     readDescriptorInteractionInfo.put(
         "readServerListAttribute", readDescriptorServerListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDescriptorClientListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDescriptorClientListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DescriptorCluster) cluster)
-                  .readClientListAttribute(
-                      (ChipClusters.DescriptorCluster.ClientListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDescriptorClusterClientListAttributeCallback(),
-            readDescriptorClientListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DescriptorCluster.CLUSTER_ID, 2L, readDescriptorClientListCommandParams);
     readDescriptorInteractionInfo.put(
         "readClientListAttribute", readDescriptorClientListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDescriptorPartsListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDescriptorPartsListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DescriptorCluster) cluster)
-                  .readPartsListAttribute(
-                      (ChipClusters.DescriptorCluster.PartsListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDescriptorClusterPartsListAttributeCallback(),
-            readDescriptorPartsListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DescriptorCluster.CLUSTER_ID, 3L, readDescriptorPartsListCommandParams);
     readDescriptorInteractionInfo.put(
         "readPartsListAttribute", readDescriptorPartsListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDescriptorAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDescriptorAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DescriptorCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.DescriptorCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDescriptorClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DescriptorCluster.CLUSTER_ID,
+            65531L,
             readDescriptorAttributeListCommandParams);
     readDescriptorInteractionInfo.put(
         "readAttributeListAttribute", readDescriptorAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDescriptorClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDescriptorClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DescriptorCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DescriptorCluster.CLUSTER_ID,
+            65533L,
             readDescriptorClusterRevisionCommandParams);
     readDescriptorInteractionInfo.put(
         "readClusterRevisionAttribute", readDescriptorClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("descriptor", readDescriptorInteractionInfo);
+    return readDescriptorInteractionInfo;
+  }
+
+  private static void readDescriptor(
+      ChipClusters.DescriptorCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readDeviceListAttribute(
+            (ChipClusters.DescriptorCluster.DeviceListAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readServerListAttribute(
+            (ChipClusters.DescriptorCluster.ServerListAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readClientListAttribute(
+            (ChipClusters.DescriptorCluster.ClientListAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readPartsListAttribute(
+            (ChipClusters.DescriptorCluster.PartsListAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.DescriptorCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newDescriptorReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedDescriptorClusterDeviceListAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedDescriptorClusterServerListAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedDescriptorClusterClientListAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedDescriptorClusterPartsListAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedDescriptorClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getDiagnosticLogsReadAttributeMap() {
     Map<String, InteractionInfo> readDiagnosticLogsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readDiagnosticLogsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDiagnosticLogsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DiagnosticLogsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.DiagnosticLogsCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedDiagnosticLogsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DiagnosticLogsCluster.CLUSTER_ID,
+            65531L,
             readDiagnosticLogsAttributeListCommandParams);
     readDiagnosticLogsInteractionInfo.put(
         "readAttributeListAttribute", readDiagnosticLogsAttributeListAttributeInteractionInfo);
-    readAttributeMap.put("diagnosticLogs", readDiagnosticLogsInteractionInfo);
+    return readDiagnosticLogsInteractionInfo;
+  }
+
+  private static void readDiagnosticLogs(
+      ChipClusters.DiagnosticLogsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.DiagnosticLogsCluster.AttributeListAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newDiagnosticLogsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedDiagnosticLogsClusterAttributeListAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getDoorLockReadAttributeMap() {
     Map<String, InteractionInfo> readDoorLockInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readDoorLockLockStateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockLockStateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readLockStateAttribute(
-                      (ChipClusters.DoorLockCluster.LockStateAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readDoorLockLockStateCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 0L, readDoorLockLockStateCommandParams);
     readDoorLockInteractionInfo.put(
         "readLockStateAttribute", readDoorLockLockStateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockLockTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockLockTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readLockTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readDoorLockLockTypeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 1L, readDoorLockLockTypeCommandParams);
     readDoorLockInteractionInfo.put(
         "readLockTypeAttribute", readDoorLockLockTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockActuatorEnabledCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockActuatorEnabledAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readActuatorEnabledAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readDoorLockActuatorEnabledCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 2L, readDoorLockActuatorEnabledCommandParams);
     readDoorLockInteractionInfo.put(
         "readActuatorEnabledAttribute", readDoorLockActuatorEnabledAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockDoorStateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockDoorStateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readDoorStateAttribute(
-                      (ChipClusters.DoorLockCluster.DoorStateAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readDoorLockDoorStateCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 3L, readDoorLockDoorStateCommandParams);
     readDoorLockInteractionInfo.put(
         "readDoorStateAttribute", readDoorLockDoorStateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockNumberOfTotalUsersSupportedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockNumberOfTotalUsersSupportedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readNumberOfTotalUsersSupportedAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            17L,
             readDoorLockNumberOfTotalUsersSupportedCommandParams);
     readDoorLockInteractionInfo.put(
         "readNumberOfTotalUsersSupportedAttribute",
@@ -1955,13 +2801,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readDoorLockNumberOfPINUsersSupportedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockNumberOfPINUsersSupportedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readNumberOfPINUsersSupportedAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            18L,
             readDoorLockNumberOfPINUsersSupportedCommandParams);
     readDoorLockInteractionInfo.put(
         "readNumberOfPINUsersSupportedAttribute",
@@ -1969,85 +2811,55 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readDoorLockMaxPINCodeLengthCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockMaxPINCodeLengthAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readMaxPINCodeLengthAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            23L,
             readDoorLockMaxPINCodeLengthCommandParams);
     readDoorLockInteractionInfo.put(
         "readMaxPINCodeLengthAttribute", readDoorLockMaxPINCodeLengthAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockMinPINCodeLengthCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockMinPINCodeLengthAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readMinPINCodeLengthAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            24L,
             readDoorLockMinPINCodeLengthCommandParams);
     readDoorLockInteractionInfo.put(
         "readMinPINCodeLengthAttribute", readDoorLockMinPINCodeLengthAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockLanguageCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockLanguageAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readLanguageAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readDoorLockLanguageCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 33L, readDoorLockLanguageCommandParams);
     readDoorLockInteractionInfo.put(
         "readLanguageAttribute", readDoorLockLanguageAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockAutoRelockTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockAutoRelockTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readAutoRelockTimeAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readDoorLockAutoRelockTimeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 35L, readDoorLockAutoRelockTimeCommandParams);
     readDoorLockInteractionInfo.put(
         "readAutoRelockTimeAttribute", readDoorLockAutoRelockTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockSoundVolumeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockSoundVolumeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readSoundVolumeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readDoorLockSoundVolumeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 36L, readDoorLockSoundVolumeCommandParams);
     readDoorLockInteractionInfo.put(
         "readSoundVolumeAttribute", readDoorLockSoundVolumeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockOperatingModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockOperatingModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readOperatingModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readDoorLockOperatingModeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 37L, readDoorLockOperatingModeCommandParams);
     readDoorLockInteractionInfo.put(
         "readOperatingModeAttribute", readDoorLockOperatingModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockSupportedOperatingModesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockSupportedOperatingModesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readSupportedOperatingModesAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            38L,
             readDoorLockSupportedOperatingModesCommandParams);
     readDoorLockInteractionInfo.put(
         "readSupportedOperatingModesAttribute",
@@ -2055,13 +2867,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readDoorLockEnableOneTouchLockingCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockEnableOneTouchLockingAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readEnableOneTouchLockingAttribute(
-                      (ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            41L,
             readDoorLockEnableOneTouchLockingCommandParams);
     readDoorLockInteractionInfo.put(
         "readEnableOneTouchLockingAttribute",
@@ -2069,13 +2877,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readDoorLockEnablePrivacyModeButtonCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockEnablePrivacyModeButtonAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readEnablePrivacyModeButtonAttribute(
-                      (ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            43L,
             readDoorLockEnablePrivacyModeButtonCommandParams);
     readDoorLockInteractionInfo.put(
         "readEnablePrivacyModeButtonAttribute",
@@ -2083,13 +2887,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readDoorLockWrongCodeEntryLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockWrongCodeEntryLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readWrongCodeEntryLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            48L,
             readDoorLockWrongCodeEntryLimitCommandParams);
     readDoorLockInteractionInfo.put(
         "readWrongCodeEntryLimitAttribute",
@@ -2097,39 +2897,145 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readDoorLockAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.DoorLockCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDoorLockClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            65531L,
             readDoorLockAttributeListCommandParams);
     readDoorLockInteractionInfo.put(
         "readAttributeListAttribute", readDoorLockAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readDoorLockClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readDoorLockClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            65533L,
             readDoorLockClusterRevisionCommandParams);
     readDoorLockInteractionInfo.put(
         "readClusterRevisionAttribute", readDoorLockClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("doorLock", readDoorLockInteractionInfo);
+    return readDoorLockInteractionInfo;
+  }
+
+  private static void readDoorLock(
+      ChipClusters.DoorLockCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readLockStateAttribute(
+            (ChipClusters.DoorLockCluster.LockStateAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readLockTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readActuatorEnabledAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readDoorStateAttribute(
+            (ChipClusters.DoorLockCluster.DoorStateAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readNumberOfTotalUsersSupportedAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readNumberOfPINUsersSupportedAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readMaxPINCodeLengthAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 24:
+        cluster.readMinPINCodeLengthAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 33:
+        cluster.readLanguageAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 35:
+        cluster.readAutoRelockTimeAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 36:
+        cluster.readSoundVolumeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 37:
+        cluster.readOperatingModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 38:
+        cluster.readSupportedOperatingModesAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 41:
+        cluster.readEnableOneTouchLockingAttribute(
+            (ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 43:
+        cluster.readEnablePrivacyModeButtonAttribute(
+            (ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 48:
+        cluster.readWrongCodeEntryLimitAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.DoorLockCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newDoorLockReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 24:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 33:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 35:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 36:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 37:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 38:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 41:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 43:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 48:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedDoorLockClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getElectricalMeasurementReadAttributeMap() {
     Map<String, InteractionInfo> readElectricalMeasurementInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readElectricalMeasurementMeasurementTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementMeasurementTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readMeasurementTypeAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            0L,
             readElectricalMeasurementMeasurementTypeCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readMeasurementTypeAttribute",
@@ -2137,12 +3043,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementTotalActivePowerCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementTotalActivePowerAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readTotalActivePowerAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            772L,
             readElectricalMeasurementTotalActivePowerCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readTotalActivePowerAttribute",
@@ -2150,24 +3053,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementRmsVoltageCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementRmsVoltageAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readRmsVoltageAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1285L,
             readElectricalMeasurementRmsVoltageCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readRmsVoltageAttribute", readElectricalMeasurementRmsVoltageAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readElectricalMeasurementRmsVoltageMinCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementRmsVoltageMinAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readRmsVoltageMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1286L,
             readElectricalMeasurementRmsVoltageMinCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readRmsVoltageMinAttribute",
@@ -2175,12 +3072,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementRmsVoltageMaxCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementRmsVoltageMaxAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readRmsVoltageMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1287L,
             readElectricalMeasurementRmsVoltageMaxCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readRmsVoltageMaxAttribute",
@@ -2188,24 +3082,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementRmsCurrentCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementRmsCurrentAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readRmsCurrentAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1288L,
             readElectricalMeasurementRmsCurrentCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readRmsCurrentAttribute", readElectricalMeasurementRmsCurrentAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readElectricalMeasurementRmsCurrentMinCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementRmsCurrentMinAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readRmsCurrentMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1289L,
             readElectricalMeasurementRmsCurrentMinCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readRmsCurrentMinAttribute",
@@ -2213,12 +3101,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementRmsCurrentMaxCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementRmsCurrentMaxAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readRmsCurrentMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1290L,
             readElectricalMeasurementRmsCurrentMaxCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readRmsCurrentMaxAttribute",
@@ -2226,24 +3111,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementActivePowerCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementActivePowerAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readActivePowerAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1291L,
             readElectricalMeasurementActivePowerCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readActivePowerAttribute", readElectricalMeasurementActivePowerAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readElectricalMeasurementActivePowerMinCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementActivePowerMinAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readActivePowerMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1292L,
             readElectricalMeasurementActivePowerMinCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readActivePowerMinAttribute",
@@ -2251,12 +3130,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementActivePowerMaxCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementActivePowerMaxAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readActivePowerMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            1293L,
             readElectricalMeasurementActivePowerMaxCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readActivePowerMaxAttribute",
@@ -2264,16 +3140,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ElectricalMeasurementCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedElectricalMeasurementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            65531L,
             readElectricalMeasurementAttributeListCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readAttributeListAttribute",
@@ -2281,40 +3150,116 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readElectricalMeasurementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readElectricalMeasurementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ElectricalMeasurementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ElectricalMeasurementCluster.CLUSTER_ID,
+            65533L,
             readElectricalMeasurementClusterRevisionCommandParams);
     readElectricalMeasurementInteractionInfo.put(
         "readClusterRevisionAttribute",
         readElectricalMeasurementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("electricalMeasurement", readElectricalMeasurementInteractionInfo);
+    return readElectricalMeasurementInteractionInfo;
+  }
+
+  private static void readElectricalMeasurement(
+      ChipClusters.ElectricalMeasurementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMeasurementTypeAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 772:
+        cluster.readTotalActivePowerAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 1285:
+        cluster.readRmsVoltageAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1286:
+        cluster.readRmsVoltageMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1287:
+        cluster.readRmsVoltageMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1288:
+        cluster.readRmsCurrentAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1289:
+        cluster.readRmsCurrentMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1290:
+        cluster.readRmsCurrentMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1291:
+        cluster.readActivePowerAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1292:
+        cluster.readActivePowerMinAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1293:
+        cluster.readActivePowerMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ElectricalMeasurementCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newElectricalMeasurementReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 772:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 1285:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1286:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1287:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1288:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1289:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1290:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1291:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1292:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1293:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedElectricalMeasurementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getEthernetNetworkDiagnosticsReadAttributeMap() {
     Map<String, InteractionInfo> readEthernetNetworkDiagnosticsInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsPHYRateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsPHYRateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readPHYRateAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            0L,
             readEthernetNetworkDiagnosticsPHYRateCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readPHYRateAttribute", readEthernetNetworkDiagnosticsPHYRateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsFullDuplexCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsFullDuplexAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readFullDuplexAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            1L,
             readEthernetNetworkDiagnosticsFullDuplexCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readFullDuplexAttribute",
@@ -2322,12 +3267,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsPacketRxCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsPacketRxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readPacketRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            2L,
             readEthernetNetworkDiagnosticsPacketRxCountCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readPacketRxCountAttribute",
@@ -2335,12 +3277,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsPacketTxCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsPacketTxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readPacketTxCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            3L,
             readEthernetNetworkDiagnosticsPacketTxCountCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readPacketTxCountAttribute",
@@ -2348,12 +3287,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsTxErrCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsTxErrCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readTxErrCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            4L,
             readEthernetNetworkDiagnosticsTxErrCountCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readTxErrCountAttribute",
@@ -2361,12 +3297,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsCollisionCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsCollisionCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readCollisionCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            5L,
             readEthernetNetworkDiagnosticsCollisionCountCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readCollisionCountAttribute",
@@ -2374,12 +3307,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsOverrunCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsOverrunCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readOverrunCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            6L,
             readEthernetNetworkDiagnosticsOverrunCountCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readOverrunCountAttribute",
@@ -2387,12 +3317,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsCarrierDetectCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsCarrierDetectAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readCarrierDetectAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            7L,
             readEthernetNetworkDiagnosticsCarrierDetectCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readCarrierDetectAttribute",
@@ -2400,12 +3327,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsTimeSinceResetCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsTimeSinceResetAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readTimeSinceResetAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            8L,
             readEthernetNetworkDiagnosticsTimeSinceResetCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readTimeSinceResetAttribute",
@@ -2413,17 +3337,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.EthernetNetworkDiagnosticsCluster
-                              .AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedEthernetNetworkDiagnosticsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            65531L,
             readEthernetNetworkDiagnosticsAttributeListCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readAttributeListAttribute",
@@ -2431,12 +3347,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            65532L,
             readEthernetNetworkDiagnosticsFeatureMapCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readFeatureMapAttribute",
@@ -2444,80 +3357,174 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readEthernetNetworkDiagnosticsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readEthernetNetworkDiagnosticsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.EthernetNetworkDiagnosticsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.EthernetNetworkDiagnosticsCluster.CLUSTER_ID,
+            65533L,
             readEthernetNetworkDiagnosticsClusterRevisionCommandParams);
     readEthernetNetworkDiagnosticsInteractionInfo.put(
         "readClusterRevisionAttribute",
         readEthernetNetworkDiagnosticsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put(
-        "ethernetNetworkDiagnostics", readEthernetNetworkDiagnosticsInteractionInfo);
+    return readEthernetNetworkDiagnosticsInteractionInfo;
+  }
+
+  private static void readEthernetNetworkDiagnostics(
+      ChipClusters.EthernetNetworkDiagnosticsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readPHYRateAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readFullDuplexAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readPacketRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readPacketTxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readTxErrCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readCollisionCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readOverrunCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readCarrierDetectAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readTimeSinceResetAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.EthernetNetworkDiagnosticsCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newEthernetNetworkDiagnosticsReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedEthernetNetworkDiagnosticsClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getFixedLabelReadAttributeMap() {
     Map<String, InteractionInfo> readFixedLabelInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readFixedLabelLabelListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFixedLabelLabelListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FixedLabelCluster) cluster)
-                  .readLabelListAttribute(
-                      (ChipClusters.FixedLabelCluster.LabelListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedFixedLabelClusterLabelListAttributeCallback(),
-            readFixedLabelLabelListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FixedLabelCluster.CLUSTER_ID, 0L, readFixedLabelLabelListCommandParams);
     readFixedLabelInteractionInfo.put(
         "readLabelListAttribute", readFixedLabelLabelListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readFixedLabelAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFixedLabelAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FixedLabelCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.FixedLabelCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedFixedLabelClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FixedLabelCluster.CLUSTER_ID,
+            65531L,
             readFixedLabelAttributeListCommandParams);
     readFixedLabelInteractionInfo.put(
         "readAttributeListAttribute", readFixedLabelAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readFixedLabelClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFixedLabelClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FixedLabelCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FixedLabelCluster.CLUSTER_ID,
+            65533L,
             readFixedLabelClusterRevisionCommandParams);
     readFixedLabelInteractionInfo.put(
         "readClusterRevisionAttribute", readFixedLabelClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("fixedLabel", readFixedLabelInteractionInfo);
+    return readFixedLabelInteractionInfo;
+  }
+
+  private static void readFixedLabel(
+      ChipClusters.FixedLabelCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readLabelListAttribute(
+            (ChipClusters.FixedLabelCluster.LabelListAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.FixedLabelCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newFixedLabelReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedFixedLabelClusterLabelListAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedFixedLabelClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getFlowMeasurementReadAttributeMap() {
     Map<String, InteractionInfo> readFlowMeasurementInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readFlowMeasurementMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFlowMeasurementMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FlowMeasurementCluster) cluster)
-                  .readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FlowMeasurementCluster.CLUSTER_ID,
+            0L,
             readFlowMeasurementMeasuredValueCommandParams);
     readFlowMeasurementInteractionInfo.put(
         "readMeasuredValueAttribute", readFlowMeasurementMeasuredValueAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readFlowMeasurementMinMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFlowMeasurementMinMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FlowMeasurementCluster) cluster)
-                  .readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FlowMeasurementCluster.CLUSTER_ID,
+            1L,
             readFlowMeasurementMinMeasuredValueCommandParams);
     readFlowMeasurementInteractionInfo.put(
         "readMinMeasuredValueAttribute",
@@ -2525,12 +3532,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readFlowMeasurementMaxMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFlowMeasurementMaxMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FlowMeasurementCluster) cluster)
-                  .readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FlowMeasurementCluster.CLUSTER_ID,
+            2L,
             readFlowMeasurementMaxMeasuredValueCommandParams);
     readFlowMeasurementInteractionInfo.put(
         "readMaxMeasuredValueAttribute",
@@ -2538,54 +3542,88 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readFlowMeasurementToleranceCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFlowMeasurementToleranceAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FlowMeasurementCluster) cluster)
-                  .readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FlowMeasurementCluster.CLUSTER_ID,
+            3L,
             readFlowMeasurementToleranceCommandParams);
     readFlowMeasurementInteractionInfo.put(
         "readToleranceAttribute", readFlowMeasurementToleranceAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readFlowMeasurementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFlowMeasurementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FlowMeasurementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.FlowMeasurementCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedFlowMeasurementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FlowMeasurementCluster.CLUSTER_ID,
+            65531L,
             readFlowMeasurementAttributeListCommandParams);
     readFlowMeasurementInteractionInfo.put(
         "readAttributeListAttribute", readFlowMeasurementAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readFlowMeasurementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readFlowMeasurementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.FlowMeasurementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.FlowMeasurementCluster.CLUSTER_ID,
+            65533L,
             readFlowMeasurementClusterRevisionCommandParams);
     readFlowMeasurementInteractionInfo.put(
         "readClusterRevisionAttribute", readFlowMeasurementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("flowMeasurement", readFlowMeasurementInteractionInfo);
+    return readFlowMeasurementInteractionInfo;
+  }
+
+  private static void readFlowMeasurement(
+      ChipClusters.FlowMeasurementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.FlowMeasurementCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newFlowMeasurementReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedFlowMeasurementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGeneralCommissioningReadAttributeMap() {
     Map<String, InteractionInfo> readGeneralCommissioningInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readGeneralCommissioningBreadcrumbCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralCommissioningBreadcrumbAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .readBreadcrumbAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            0L,
             readGeneralCommissioningBreadcrumbCommandParams);
     readGeneralCommissioningInteractionInfo.put(
         "readBreadcrumbAttribute", readGeneralCommissioningBreadcrumbAttributeInteractionInfo);
@@ -2593,17 +3631,9 @@ public class ClusterReadMapping {
         readGeneralCommissioningBasicCommissioningInfoListCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralCommissioningBasicCommissioningInfoListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .readBasicCommissioningInfoListAttribute(
-                      (ChipClusters.GeneralCommissioningCluster
-                              .BasicCommissioningInfoListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralCommissioningClusterBasicCommissioningInfoListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            1L,
             readGeneralCommissioningBasicCommissioningInfoListCommandParams);
     readGeneralCommissioningInteractionInfo.put(
         "readBasicCommissioningInfoListAttribute",
@@ -2611,12 +3641,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralCommissioningRegulatoryConfigCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralCommissioningRegulatoryConfigAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .readRegulatoryConfigAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            2L,
             readGeneralCommissioningRegulatoryConfigCommandParams);
     readGeneralCommissioningInteractionInfo.put(
         "readRegulatoryConfigAttribute",
@@ -2624,13 +3651,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralCommissioningLocationCapabilityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralCommissioningLocationCapabilityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .readLocationCapabilityAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            3L,
             readGeneralCommissioningLocationCapabilityCommandParams);
     readGeneralCommissioningInteractionInfo.put(
         "readLocationCapabilityAttribute",
@@ -2638,16 +3661,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralCommissioningAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralCommissioningAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.GeneralCommissioningCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralCommissioningClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            65531L,
             readGeneralCommissioningAttributeListCommandParams);
     readGeneralCommissioningInteractionInfo.put(
         "readAttributeListAttribute",
@@ -2655,31 +3671,74 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralCommissioningClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralCommissioningClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            65533L,
             readGeneralCommissioningClusterRevisionCommandParams);
     readGeneralCommissioningInteractionInfo.put(
         "readClusterRevisionAttribute",
         readGeneralCommissioningClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("generalCommissioning", readGeneralCommissioningInteractionInfo);
+    return readGeneralCommissioningInteractionInfo;
+  }
+
+  private static void readGeneralCommissioning(
+      ChipClusters.GeneralCommissioningCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readBreadcrumbAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readBasicCommissioningInfoListAttribute(
+            (ChipClusters.GeneralCommissioningCluster.BasicCommissioningInfoListAttributeCallback)
+                callback);
+        break;
+      case 2:
+        cluster.readRegulatoryConfigAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readLocationCapabilityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.GeneralCommissioningCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGeneralCommissioningReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping
+            .DelegatedGeneralCommissioningClusterBasicCommissioningInfoListAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedGeneralCommissioningClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGeneralDiagnosticsReadAttributeMap() {
     Map<String, InteractionInfo> readGeneralDiagnosticsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readGeneralDiagnosticsNetworkInterfacesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsNetworkInterfacesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readNetworkInterfacesAttribute(
-                      (ChipClusters.GeneralDiagnosticsCluster.NetworkInterfacesAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralDiagnosticsClusterNetworkInterfacesAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            0L,
             readGeneralDiagnosticsNetworkInterfacesCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readNetworkInterfacesAttribute",
@@ -2687,37 +3746,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralDiagnosticsRebootCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsRebootCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readRebootCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            1L,
             readGeneralDiagnosticsRebootCountCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readRebootCountAttribute", readGeneralDiagnosticsRebootCountAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGeneralDiagnosticsUpTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsUpTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readUpTimeAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            2L,
             readGeneralDiagnosticsUpTimeCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readUpTimeAttribute", readGeneralDiagnosticsUpTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGeneralDiagnosticsTotalOperationalHoursCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsTotalOperationalHoursAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readTotalOperationalHoursAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            3L,
             readGeneralDiagnosticsTotalOperationalHoursCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readTotalOperationalHoursAttribute",
@@ -2725,28 +3774,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralDiagnosticsBootReasonsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsBootReasonsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readBootReasonsAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            4L,
             readGeneralDiagnosticsBootReasonsCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readBootReasonsAttribute", readGeneralDiagnosticsBootReasonsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGeneralDiagnosticsActiveHardwareFaultsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsActiveHardwareFaultsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readActiveHardwareFaultsAttribute(
-                      (ChipClusters.GeneralDiagnosticsCluster.ActiveHardwareFaultsAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralDiagnosticsClusterActiveHardwareFaultsAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            5L,
             readGeneralDiagnosticsActiveHardwareFaultsCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readActiveHardwareFaultsAttribute",
@@ -2754,16 +3793,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralDiagnosticsActiveRadioFaultsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsActiveRadioFaultsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readActiveRadioFaultsAttribute(
-                      (ChipClusters.GeneralDiagnosticsCluster.ActiveRadioFaultsAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralDiagnosticsClusterActiveRadioFaultsAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            6L,
             readGeneralDiagnosticsActiveRadioFaultsCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readActiveRadioFaultsAttribute",
@@ -2771,16 +3803,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralDiagnosticsActiveNetworkFaultsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsActiveNetworkFaultsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readActiveNetworkFaultsAttribute(
-                      (ChipClusters.GeneralDiagnosticsCluster.ActiveNetworkFaultsAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralDiagnosticsClusterActiveNetworkFaultsAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            7L,
             readGeneralDiagnosticsActiveNetworkFaultsCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readActiveNetworkFaultsAttribute",
@@ -2788,76 +3813,127 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGeneralDiagnosticsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.GeneralDiagnosticsCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGeneralDiagnosticsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            65531L,
             readGeneralDiagnosticsAttributeListCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readAttributeListAttribute", readGeneralDiagnosticsAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGeneralDiagnosticsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGeneralDiagnosticsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralDiagnosticsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GeneralDiagnosticsCluster.CLUSTER_ID,
+            65533L,
             readGeneralDiagnosticsClusterRevisionCommandParams);
     readGeneralDiagnosticsInteractionInfo.put(
         "readClusterRevisionAttribute",
         readGeneralDiagnosticsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("generalDiagnostics", readGeneralDiagnosticsInteractionInfo);
+    return readGeneralDiagnosticsInteractionInfo;
+  }
+
+  private static void readGeneralDiagnostics(
+      ChipClusters.GeneralDiagnosticsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readNetworkInterfacesAttribute(
+            (ChipClusters.GeneralDiagnosticsCluster.NetworkInterfacesAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readRebootCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readUpTimeAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readTotalOperationalHoursAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readBootReasonsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readActiveHardwareFaultsAttribute(
+            (ChipClusters.GeneralDiagnosticsCluster.ActiveHardwareFaultsAttributeCallback)
+                callback);
+        break;
+      case 6:
+        cluster.readActiveRadioFaultsAttribute(
+            (ChipClusters.GeneralDiagnosticsCluster.ActiveRadioFaultsAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readActiveNetworkFaultsAttribute(
+            (ChipClusters.GeneralDiagnosticsCluster.ActiveNetworkFaultsAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.GeneralDiagnosticsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGeneralDiagnosticsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedGeneralDiagnosticsClusterNetworkInterfacesAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping
+            .DelegatedGeneralDiagnosticsClusterActiveHardwareFaultsAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping
+            .DelegatedGeneralDiagnosticsClusterActiveRadioFaultsAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping
+            .DelegatedGeneralDiagnosticsClusterActiveNetworkFaultsAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedGeneralDiagnosticsClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGroupKeyManagementReadAttributeMap() {
     Map<String, InteractionInfo> readGroupKeyManagementInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readGroupKeyManagementGroupKeyMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupKeyManagementGroupKeyMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .readGroupKeyMapAttribute(
-                      (ChipClusters.GroupKeyManagementCluster.GroupKeyMapAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGroupKeyManagementClusterGroupKeyMapAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            0L,
             readGroupKeyManagementGroupKeyMapCommandParams);
     readGroupKeyManagementInteractionInfo.put(
         "readGroupKeyMapAttribute", readGroupKeyManagementGroupKeyMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGroupKeyManagementGroupTableCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupKeyManagementGroupTableAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .readGroupTableAttribute(
-                      (ChipClusters.GroupKeyManagementCluster.GroupTableAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGroupKeyManagementClusterGroupTableAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            1L,
             readGroupKeyManagementGroupTableCommandParams);
     readGroupKeyManagementInteractionInfo.put(
         "readGroupTableAttribute", readGroupKeyManagementGroupTableAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGroupKeyManagementMaxGroupsPerFabricCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupKeyManagementMaxGroupsPerFabricAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .readMaxGroupsPerFabricAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            2L,
             readGroupKeyManagementMaxGroupsPerFabricCommandParams);
     readGroupKeyManagementInteractionInfo.put(
         "readMaxGroupsPerFabricAttribute",
@@ -2865,13 +3941,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGroupKeyManagementMaxGroupKeysPerFabricCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupKeyManagementMaxGroupKeysPerFabricAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .readMaxGroupKeysPerFabricAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            3L,
             readGroupKeyManagementMaxGroupKeysPerFabricCommandParams);
     readGroupKeyManagementInteractionInfo.put(
         "readMaxGroupKeysPerFabricAttribute",
@@ -2879,135 +3951,215 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readGroupKeyManagementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupKeyManagementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.GroupKeyManagementCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedGroupKeyManagementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            65531L,
             readGroupKeyManagementAttributeListCommandParams);
     readGroupKeyManagementInteractionInfo.put(
         "readAttributeListAttribute", readGroupKeyManagementAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGroupKeyManagementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupKeyManagementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupKeyManagementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupKeyManagementCluster.CLUSTER_ID,
+            65533L,
             readGroupKeyManagementClusterRevisionCommandParams);
     readGroupKeyManagementInteractionInfo.put(
         "readClusterRevisionAttribute",
         readGroupKeyManagementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("groupKeyManagement", readGroupKeyManagementInteractionInfo);
+    return readGroupKeyManagementInteractionInfo;
+  }
+
+  private static void readGroupKeyManagement(
+      ChipClusters.GroupKeyManagementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readGroupKeyMapAttribute(
+            (ChipClusters.GroupKeyManagementCluster.GroupKeyMapAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readGroupTableAttribute(
+            (ChipClusters.GroupKeyManagementCluster.GroupTableAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMaxGroupsPerFabricAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readMaxGroupKeysPerFabricAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.GroupKeyManagementCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGroupKeyManagementReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedGroupKeyManagementClusterGroupKeyMapAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping
+            .DelegatedGroupKeyManagementClusterGroupTableAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedGroupKeyManagementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGroupsReadAttributeMap() {
     Map<String, InteractionInfo> readGroupsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readGroupsNameSupportCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupsNameSupportAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .readNameSupportAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readGroupsNameSupportCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 0L, readGroupsNameSupportCommandParams);
     readGroupsInteractionInfo.put(
         "readNameSupportAttribute", readGroupsNameSupportAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGroupsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.GroupsCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedGroupsClusterAttributeListAttributeCallback(),
-            readGroupsAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 65531L, readGroupsAttributeListCommandParams);
     readGroupsInteractionInfo.put(
         "readAttributeListAttribute", readGroupsAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readGroupsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readGroupsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GroupsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readGroupsClusterRevisionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.GroupsCluster.CLUSTER_ID, 65533L, readGroupsClusterRevisionCommandParams);
     readGroupsInteractionInfo.put(
         "readClusterRevisionAttribute", readGroupsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("groups", readGroupsInteractionInfo);
+    return readGroupsInteractionInfo;
+  }
+
+  private static void readGroups(
+      ChipClusters.GroupsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readNameSupportAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.GroupsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newGroupsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedGroupsClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getIdentifyReadAttributeMap() {
     Map<String, InteractionInfo> readIdentifyInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readIdentifyIdentifyTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIdentifyIdentifyTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .readIdentifyTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readIdentifyIdentifyTimeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID, 0L, readIdentifyIdentifyTimeCommandParams);
     readIdentifyInteractionInfo.put(
         "readIdentifyTimeAttribute", readIdentifyIdentifyTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readIdentifyIdentifyTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIdentifyIdentifyTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .readIdentifyTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readIdentifyIdentifyTypeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID, 1L, readIdentifyIdentifyTypeCommandParams);
     readIdentifyInteractionInfo.put(
         "readIdentifyTypeAttribute", readIdentifyIdentifyTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readIdentifyAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIdentifyAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.IdentifyCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIdentifyClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID,
+            65531L,
             readIdentifyAttributeListCommandParams);
     readIdentifyInteractionInfo.put(
         "readAttributeListAttribute", readIdentifyAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readIdentifyClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIdentifyClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID,
+            65533L,
             readIdentifyClusterRevisionCommandParams);
     readIdentifyInteractionInfo.put(
         "readClusterRevisionAttribute", readIdentifyClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("identify", readIdentifyInteractionInfo);
+    return readIdentifyInteractionInfo;
+  }
+
+  private static void readIdentify(
+      ChipClusters.IdentifyCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readIdentifyTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readIdentifyTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.IdentifyCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newIdentifyReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedIdentifyClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getIlluminanceMeasurementReadAttributeMap() {
     Map<String, InteractionInfo> readIlluminanceMeasurementInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readIlluminanceMeasurementMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readMeasuredValueAttribute(
-                      (ChipClusters.IlluminanceMeasurementCluster.MeasuredValueAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            0L,
             readIlluminanceMeasurementMeasuredValueCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readMeasuredValueAttribute",
@@ -3015,14 +4167,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readIlluminanceMeasurementMinMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementMinMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readMinMeasuredValueAttribute(
-                      (ChipClusters.IlluminanceMeasurementCluster.MinMeasuredValueAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            1L,
             readIlluminanceMeasurementMinMeasuredValueCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readMinMeasuredValueAttribute",
@@ -3030,14 +4177,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readIlluminanceMeasurementMaxMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementMaxMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readMaxMeasuredValueAttribute(
-                      (ChipClusters.IlluminanceMeasurementCluster.MaxMeasuredValueAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            2L,
             readIlluminanceMeasurementMaxMeasuredValueCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readMaxMeasuredValueAttribute",
@@ -3045,26 +4187,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readIlluminanceMeasurementToleranceCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementToleranceAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            3L,
             readIlluminanceMeasurementToleranceCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readToleranceAttribute", readIlluminanceMeasurementToleranceAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readIlluminanceMeasurementLightSensorTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementLightSensorTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readLightSensorTypeAttribute(
-                      (ChipClusters.IlluminanceMeasurementCluster.LightSensorTypeAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            4L,
             readIlluminanceMeasurementLightSensorTypeCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readLightSensorTypeAttribute",
@@ -3072,16 +4206,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readIlluminanceMeasurementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.IlluminanceMeasurementCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedIlluminanceMeasurementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            65531L,
             readIlluminanceMeasurementAttributeListCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readAttributeListAttribute",
@@ -3089,152 +4216,197 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readIlluminanceMeasurementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readIlluminanceMeasurementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IlluminanceMeasurementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.IlluminanceMeasurementCluster.CLUSTER_ID,
+            65533L,
             readIlluminanceMeasurementClusterRevisionCommandParams);
     readIlluminanceMeasurementInteractionInfo.put(
         "readClusterRevisionAttribute",
         readIlluminanceMeasurementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("illuminanceMeasurement", readIlluminanceMeasurementInteractionInfo);
+    return readIlluminanceMeasurementInteractionInfo;
+  }
+
+  private static void readIlluminanceMeasurement(
+      ChipClusters.IlluminanceMeasurementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMeasuredValueAttribute(
+            (ChipClusters.IlluminanceMeasurementCluster.MeasuredValueAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readMinMeasuredValueAttribute(
+            (ChipClusters.IlluminanceMeasurementCluster.MinMeasuredValueAttributeCallback)
+                callback);
+        break;
+      case 2:
+        cluster.readMaxMeasuredValueAttribute(
+            (ChipClusters.IlluminanceMeasurementCluster.MaxMeasuredValueAttributeCallback)
+                callback);
+        break;
+      case 3:
+        cluster.readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readLightSensorTypeAttribute(
+            (ChipClusters.IlluminanceMeasurementCluster.LightSensorTypeAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.IlluminanceMeasurementCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newIlluminanceMeasurementReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedIlluminanceMeasurementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getKeypadInputReadAttributeMap() {
     Map<String, InteractionInfo> readKeypadInputInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readKeypadInputAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readKeypadInputAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.KeypadInputCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.KeypadInputCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedKeypadInputClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.KeypadInputCluster.CLUSTER_ID,
+            65531L,
             readKeypadInputAttributeListCommandParams);
     readKeypadInputInteractionInfo.put(
         "readAttributeListAttribute", readKeypadInputAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readKeypadInputClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readKeypadInputClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.KeypadInputCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.KeypadInputCluster.CLUSTER_ID,
+            65533L,
             readKeypadInputClusterRevisionCommandParams);
     readKeypadInputInteractionInfo.put(
         "readClusterRevisionAttribute", readKeypadInputClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("keypadInput", readKeypadInputInteractionInfo);
+    return readKeypadInputInteractionInfo;
+  }
+
+  private static void readKeypadInput(
+      ChipClusters.KeypadInputCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.KeypadInputCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newKeypadInputReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping.DelegatedKeypadInputClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getLevelControlReadAttributeMap() {
     Map<String, InteractionInfo> readLevelControlInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readLevelControlCurrentLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlCurrentLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readCurrentLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            0L,
             readLevelControlCurrentLevelCommandParams);
     readLevelControlInteractionInfo.put(
         "readCurrentLevelAttribute", readLevelControlCurrentLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlRemainingTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlRemainingTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readRemainingTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            1L,
             readLevelControlRemainingTimeCommandParams);
     readLevelControlInteractionInfo.put(
         "readRemainingTimeAttribute", readLevelControlRemainingTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlMinLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlMinLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readMinLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readLevelControlMinLevelCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 2L, readLevelControlMinLevelCommandParams);
     readLevelControlInteractionInfo.put(
         "readMinLevelAttribute", readLevelControlMinLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlMaxLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlMaxLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readMaxLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readLevelControlMaxLevelCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 3L, readLevelControlMaxLevelCommandParams);
     readLevelControlInteractionInfo.put(
         "readMaxLevelAttribute", readLevelControlMaxLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlCurrentFrequencyCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlCurrentFrequencyAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readCurrentFrequencyAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            4L,
             readLevelControlCurrentFrequencyCommandParams);
     readLevelControlInteractionInfo.put(
         "readCurrentFrequencyAttribute", readLevelControlCurrentFrequencyAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlMinFrequencyCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlMinFrequencyAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readMinFrequencyAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            5L,
             readLevelControlMinFrequencyCommandParams);
     readLevelControlInteractionInfo.put(
         "readMinFrequencyAttribute", readLevelControlMinFrequencyAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlMaxFrequencyCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlMaxFrequencyAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readMaxFrequencyAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            6L,
             readLevelControlMaxFrequencyCommandParams);
     readLevelControlInteractionInfo.put(
         "readMaxFrequencyAttribute", readLevelControlMaxFrequencyAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlOptionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlOptionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readOptionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readLevelControlOptionsCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 15L, readLevelControlOptionsCommandParams);
     readLevelControlInteractionInfo.put(
         "readOptionsAttribute", readLevelControlOptionsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlOnOffTransitionTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlOnOffTransitionTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readOnOffTransitionTimeAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            16L,
             readLevelControlOnOffTransitionTimeCommandParams);
     readLevelControlInteractionInfo.put(
         "readOnOffTransitionTimeAttribute",
@@ -3242,41 +4414,25 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readLevelControlOnLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlOnLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readOnLevelAttribute(
-                      (ChipClusters.LevelControlCluster.OnLevelAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readLevelControlOnLevelCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID, 17L, readLevelControlOnLevelCommandParams);
     readLevelControlInteractionInfo.put(
         "readOnLevelAttribute", readLevelControlOnLevelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlOnTransitionTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlOnTransitionTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readOnTransitionTimeAttribute(
-                      (ChipClusters.LevelControlCluster.OnTransitionTimeAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            18L,
             readLevelControlOnTransitionTimeCommandParams);
     readLevelControlInteractionInfo.put(
         "readOnTransitionTimeAttribute", readLevelControlOnTransitionTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlOffTransitionTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlOffTransitionTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readOffTransitionTimeAttribute(
-                      (ChipClusters.LevelControlCluster.OffTransitionTimeAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            19L,
             readLevelControlOffTransitionTimeCommandParams);
     readLevelControlInteractionInfo.put(
         "readOffTransitionTimeAttribute",
@@ -3284,26 +4440,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readLevelControlDefaultMoveRateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlDefaultMoveRateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readDefaultMoveRateAttribute(
-                      (ChipClusters.LevelControlCluster.DefaultMoveRateAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            20L,
             readLevelControlDefaultMoveRateCommandParams);
     readLevelControlInteractionInfo.put(
         "readDefaultMoveRateAttribute", readLevelControlDefaultMoveRateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlStartUpCurrentLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlStartUpCurrentLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readStartUpCurrentLevelAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            16384L,
             readLevelControlStartUpCurrentLevelCommandParams);
     readLevelControlInteractionInfo.put(
         "readStartUpCurrentLevelAttribute",
@@ -3311,41 +4459,133 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readLevelControlAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.LevelControlCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedLevelControlClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            65531L,
             readLevelControlAttributeListCommandParams);
     readLevelControlInteractionInfo.put(
         "readAttributeListAttribute", readLevelControlAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLevelControlClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLevelControlClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            65533L,
             readLevelControlClusterRevisionCommandParams);
     readLevelControlInteractionInfo.put(
         "readClusterRevisionAttribute", readLevelControlClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("levelControl", readLevelControlInteractionInfo);
+    return readLevelControlInteractionInfo;
+  }
+
+  private static void readLevelControl(
+      ChipClusters.LevelControlCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readCurrentLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readRemainingTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMinLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readMaxLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readCurrentFrequencyAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readMinFrequencyAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readMaxFrequencyAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 15:
+        cluster.readOptionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readOnOffTransitionTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readOnLevelAttribute(
+            (ChipClusters.LevelControlCluster.OnLevelAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readOnTransitionTimeAttribute(
+            (ChipClusters.LevelControlCluster.OnTransitionTimeAttributeCallback) callback);
+        break;
+      case 19:
+        cluster.readOffTransitionTimeAttribute(
+            (ChipClusters.LevelControlCluster.OffTransitionTimeAttributeCallback) callback);
+        break;
+      case 20:
+        cluster.readDefaultMoveRateAttribute(
+            (ChipClusters.LevelControlCluster.DefaultMoveRateAttributeCallback) callback);
+        break;
+      case 16384:
+        cluster.readStartUpCurrentLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.LevelControlCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newLevelControlReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 15:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 19:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 20:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16384:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedLevelControlClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getLocalizationConfigurationReadAttributeMap() {
     Map<String, InteractionInfo> readLocalizationConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readLocalizationConfigurationActiveLocaleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLocalizationConfigurationActiveLocaleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LocalizationConfigurationCluster) cluster)
-                  .readActiveLocaleAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LocalizationConfigurationCluster.CLUSTER_ID,
+            1L,
             readLocalizationConfigurationActiveLocaleCommandParams);
     readLocalizationConfigurationInteractionInfo.put(
         "readActiveLocaleAttribute",
@@ -3353,331 +4593,443 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readLocalizationConfigurationSupportedLocalesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLocalizationConfigurationSupportedLocalesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LocalizationConfigurationCluster) cluster)
-                  .readSupportedLocalesAttribute(
-                      (ChipClusters.LocalizationConfigurationCluster
-                              .SupportedLocalesAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedLocalizationConfigurationClusterSupportedLocalesAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LocalizationConfigurationCluster.CLUSTER_ID,
+            2L,
             readLocalizationConfigurationSupportedLocalesCommandParams);
     readLocalizationConfigurationInteractionInfo.put(
         "readSupportedLocalesAttribute",
         readLocalizationConfigurationSupportedLocalesAttributeInteractionInfo);
-    readAttributeMap.put("localizationConfiguration", readLocalizationConfigurationInteractionInfo);
+    return readLocalizationConfigurationInteractionInfo;
+  }
+
+  private static void readLocalizationConfiguration(
+      ChipClusters.LocalizationConfigurationCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 1:
+        cluster.readActiveLocaleAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readSupportedLocalesAttribute(
+            (ChipClusters.LocalizationConfigurationCluster.SupportedLocalesAttributeCallback)
+                callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newLocalizationConfigurationReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 1:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping
+            .DelegatedLocalizationConfigurationClusterSupportedLocalesAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getLowPowerReadAttributeMap() {
     Map<String, InteractionInfo> readLowPowerInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readLowPowerAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLowPowerAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LowPowerCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.LowPowerCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLowPowerClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LowPowerCluster.CLUSTER_ID,
+            65531L,
             readLowPowerAttributeListCommandParams);
     readLowPowerInteractionInfo.put(
         "readAttributeListAttribute", readLowPowerAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readLowPowerClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readLowPowerClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LowPowerCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.LowPowerCluster.CLUSTER_ID,
+            65533L,
             readLowPowerClusterRevisionCommandParams);
     readLowPowerInteractionInfo.put(
         "readClusterRevisionAttribute", readLowPowerClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("lowPower", readLowPowerInteractionInfo);
+    return readLowPowerInteractionInfo;
+  }
+
+  private static void readLowPower(
+      ChipClusters.LowPowerCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.LowPowerCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newLowPowerReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping.DelegatedLowPowerClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getMediaInputReadAttributeMap() {
     Map<String, InteractionInfo> readMediaInputInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readMediaInputMediaInputListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaInputMediaInputListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .readMediaInputListAttribute(
-                      (ChipClusters.MediaInputCluster.MediaInputListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedMediaInputClusterMediaInputListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            0L,
             readMediaInputMediaInputListCommandParams);
     readMediaInputInteractionInfo.put(
         "readMediaInputListAttribute", readMediaInputMediaInputListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaInputCurrentMediaInputCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaInputCurrentMediaInputAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .readCurrentMediaInputAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            1L,
             readMediaInputCurrentMediaInputCommandParams);
     readMediaInputInteractionInfo.put(
         "readCurrentMediaInputAttribute", readMediaInputCurrentMediaInputAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaInputAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaInputAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.MediaInputCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedMediaInputClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            65531L,
             readMediaInputAttributeListCommandParams);
     readMediaInputInteractionInfo.put(
         "readAttributeListAttribute", readMediaInputAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaInputClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaInputClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaInputCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaInputCluster.CLUSTER_ID,
+            65533L,
             readMediaInputClusterRevisionCommandParams);
     readMediaInputInteractionInfo.put(
         "readClusterRevisionAttribute", readMediaInputClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("mediaInput", readMediaInputInteractionInfo);
+    return readMediaInputInteractionInfo;
+  }
+
+  private static void readMediaInput(
+      ChipClusters.MediaInputCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMediaInputListAttribute(
+            (ChipClusters.MediaInputCluster.MediaInputListAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentMediaInputAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.MediaInputCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newMediaInputReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedMediaInputClusterMediaInputListAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedMediaInputClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getMediaPlaybackReadAttributeMap() {
     Map<String, InteractionInfo> readMediaPlaybackInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readMediaPlaybackPlaybackStateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackPlaybackStateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readPlaybackStateAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            0L,
             readMediaPlaybackPlaybackStateCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readPlaybackStateAttribute", readMediaPlaybackPlaybackStateAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackStartTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackStartTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readStartTimeAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            1L,
             readMediaPlaybackStartTimeCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readStartTimeAttribute", readMediaPlaybackStartTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackDurationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackDurationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readDurationAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            2L,
             readMediaPlaybackDurationCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readDurationAttribute", readMediaPlaybackDurationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackPlaybackSpeedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackPlaybackSpeedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readPlaybackSpeedAttribute((ChipClusters.FloatAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedFloatAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            4L,
             readMediaPlaybackPlaybackSpeedCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readPlaybackSpeedAttribute", readMediaPlaybackPlaybackSpeedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackSeekRangeEndCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackSeekRangeEndAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readSeekRangeEndAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            5L,
             readMediaPlaybackSeekRangeEndCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readSeekRangeEndAttribute", readMediaPlaybackSeekRangeEndAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackSeekRangeStartCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackSeekRangeStartAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readSeekRangeStartAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            6L,
             readMediaPlaybackSeekRangeStartCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readSeekRangeStartAttribute", readMediaPlaybackSeekRangeStartAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.MediaPlaybackCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedMediaPlaybackClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            65531L,
             readMediaPlaybackAttributeListCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readAttributeListAttribute", readMediaPlaybackAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readMediaPlaybackClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readMediaPlaybackClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.MediaPlaybackCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.MediaPlaybackCluster.CLUSTER_ID,
+            65533L,
             readMediaPlaybackClusterRevisionCommandParams);
     readMediaPlaybackInteractionInfo.put(
         "readClusterRevisionAttribute", readMediaPlaybackClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("mediaPlayback", readMediaPlaybackInteractionInfo);
+    return readMediaPlaybackInteractionInfo;
+  }
+
+  private static void readMediaPlayback(
+      ChipClusters.MediaPlaybackCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readPlaybackStateAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readStartTimeAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readDurationAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readPlaybackSpeedAttribute((ChipClusters.FloatAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readSeekRangeEndAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readSeekRangeStartAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.MediaPlaybackCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newMediaPlaybackReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedFloatAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedMediaPlaybackClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getModeSelectReadAttributeMap() {
     Map<String, InteractionInfo> readModeSelectInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readModeSelectCurrentModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectCurrentModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readCurrentModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readModeSelectCurrentModeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID, 0L, readModeSelectCurrentModeCommandParams);
     readModeSelectInteractionInfo.put(
         "readCurrentModeAttribute", readModeSelectCurrentModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readModeSelectSupportedModesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectSupportedModesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readSupportedModesAttribute(
-                      (ChipClusters.ModeSelectCluster.SupportedModesAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedModeSelectClusterSupportedModesAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID,
+            1L,
             readModeSelectSupportedModesCommandParams);
     readModeSelectInteractionInfo.put(
         "readSupportedModesAttribute", readModeSelectSupportedModesAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readModeSelectOnModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectOnModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readOnModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readModeSelectOnModeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID, 2L, readModeSelectOnModeCommandParams);
     readModeSelectInteractionInfo.put(
         "readOnModeAttribute", readModeSelectOnModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readModeSelectStartUpModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectStartUpModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readStartUpModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readModeSelectStartUpModeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID, 3L, readModeSelectStartUpModeCommandParams);
     readModeSelectInteractionInfo.put(
         "readStartUpModeAttribute", readModeSelectStartUpModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readModeSelectDescriptionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectDescriptionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readDescriptionAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
-            readModeSelectDescriptionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID, 4L, readModeSelectDescriptionCommandParams);
     readModeSelectInteractionInfo.put(
         "readDescriptionAttribute", readModeSelectDescriptionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readModeSelectAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ModeSelectCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedModeSelectClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID,
+            65531L,
             readModeSelectAttributeListCommandParams);
     readModeSelectInteractionInfo.put(
         "readAttributeListAttribute", readModeSelectAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readModeSelectClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readModeSelectClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID,
+            65533L,
             readModeSelectClusterRevisionCommandParams);
     readModeSelectInteractionInfo.put(
         "readClusterRevisionAttribute", readModeSelectClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("modeSelect", readModeSelectInteractionInfo);
+    return readModeSelectInteractionInfo;
+  }
+
+  private static void readModeSelect(
+      ChipClusters.ModeSelectCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readCurrentModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readSupportedModesAttribute(
+            (ChipClusters.ModeSelectCluster.SupportedModesAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readOnModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readStartUpModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readDescriptionAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ModeSelectCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newModeSelectReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedModeSelectClusterSupportedModesAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedModeSelectClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getNetworkCommissioningReadAttributeMap() {
     Map<String, InteractionInfo> readNetworkCommissioningInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readNetworkCommissioningMaxNetworksCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningMaxNetworksAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readMaxNetworksAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            0L,
             readNetworkCommissioningMaxNetworksCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readMaxNetworksAttribute", readNetworkCommissioningMaxNetworksAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readNetworkCommissioningNetworksCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningNetworksAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readNetworksAttribute(
-                      (ChipClusters.NetworkCommissioningCluster.NetworksAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedNetworkCommissioningClusterNetworksAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            1L,
             readNetworkCommissioningNetworksCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readNetworksAttribute", readNetworkCommissioningNetworksAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readNetworkCommissioningScanMaxTimeSecondsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningScanMaxTimeSecondsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readScanMaxTimeSecondsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            2L,
             readNetworkCommissioningScanMaxTimeSecondsCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readScanMaxTimeSecondsAttribute",
@@ -3685,13 +5037,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readNetworkCommissioningConnectMaxTimeSecondsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningConnectMaxTimeSecondsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readConnectMaxTimeSecondsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            3L,
             readNetworkCommissioningConnectMaxTimeSecondsCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readConnectMaxTimeSecondsAttribute",
@@ -3699,12 +5047,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readNetworkCommissioningInterfaceEnabledCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningInterfaceEnabledAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readInterfaceEnabledAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            4L,
             readNetworkCommissioningInterfaceEnabledCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readInterfaceEnabledAttribute",
@@ -3712,13 +5057,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readNetworkCommissioningLastNetworkingStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningLastNetworkingStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readLastNetworkingStatusAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            5L,
             readNetworkCommissioningLastNetworkingStatusCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readLastNetworkingStatusAttribute",
@@ -3726,12 +5067,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readNetworkCommissioningLastNetworkIDCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningLastNetworkIDAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readLastNetworkIDAttribute((ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            6L,
             readNetworkCommissioningLastNetworkIDCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readLastNetworkIDAttribute",
@@ -3739,13 +5077,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readNetworkCommissioningLastConnectErrorValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningLastConnectErrorValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readLastConnectErrorValueAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            7L,
             readNetworkCommissioningLastConnectErrorValueCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readLastConnectErrorValueAttribute",
@@ -3753,44 +5087,102 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readNetworkCommissioningFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            65532L,
             readNetworkCommissioningFeatureMapCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readFeatureMapAttribute", readNetworkCommissioningFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readNetworkCommissioningClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readNetworkCommissioningClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            65533L,
             readNetworkCommissioningClusterRevisionCommandParams);
     readNetworkCommissioningInteractionInfo.put(
         "readClusterRevisionAttribute",
         readNetworkCommissioningClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("networkCommissioning", readNetworkCommissioningInteractionInfo);
+    return readNetworkCommissioningInteractionInfo;
+  }
+
+  private static void readNetworkCommissioning(
+      ChipClusters.NetworkCommissioningCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMaxNetworksAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readNetworksAttribute(
+            (ChipClusters.NetworkCommissioningCluster.NetworksAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readScanMaxTimeSecondsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readConnectMaxTimeSecondsAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readInterfaceEnabledAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readLastNetworkingStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readLastNetworkIDAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readLastConnectErrorValueAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newNetworkCommissioningReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping
+            .DelegatedNetworkCommissioningClusterNetworksAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateProviderReadAttributeMap() {
     Map<String, InteractionInfo> readOtaSoftwareUpdateProviderInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readOtaSoftwareUpdateProviderAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateProviderAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateProviderCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.OtaSoftwareUpdateProviderCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOtaSoftwareUpdateProviderClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateProviderCluster.CLUSTER_ID,
+            65531L,
             readOtaSoftwareUpdateProviderAttributeListCommandParams);
     readOtaSoftwareUpdateProviderInteractionInfo.put(
         "readAttributeListAttribute",
@@ -3798,34 +5190,55 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOtaSoftwareUpdateProviderClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateProviderClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateProviderCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateProviderCluster.CLUSTER_ID,
+            65533L,
             readOtaSoftwareUpdateProviderClusterRevisionCommandParams);
     readOtaSoftwareUpdateProviderInteractionInfo.put(
         "readClusterRevisionAttribute",
         readOtaSoftwareUpdateProviderClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("otaSoftwareUpdateProvider", readOtaSoftwareUpdateProviderInteractionInfo);
+    return readOtaSoftwareUpdateProviderInteractionInfo;
+  }
+
+  private static void readOtaSoftwareUpdateProvider(
+      ChipClusters.OtaSoftwareUpdateProviderCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.OtaSoftwareUpdateProviderCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOtaSoftwareUpdateProviderReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedOtaSoftwareUpdateProviderClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateRequestorReadAttributeMap() {
     Map<String, InteractionInfo> readOtaSoftwareUpdateRequestorInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo>
         readOtaSoftwareUpdateRequestorDefaultOtaProvidersCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateRequestorDefaultOtaProvidersAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .readDefaultOtaProvidersAttribute(
-                      (ChipClusters.OtaSoftwareUpdateRequestorCluster
-                              .DefaultOtaProvidersAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOtaSoftwareUpdateRequestorClusterDefaultOtaProvidersAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            0L,
             readOtaSoftwareUpdateRequestorDefaultOtaProvidersCommandParams);
     readOtaSoftwareUpdateRequestorInteractionInfo.put(
         "readDefaultOtaProvidersAttribute",
@@ -3833,12 +5246,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOtaSoftwareUpdateRequestorUpdatePossibleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateRequestorUpdatePossibleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .readUpdatePossibleAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            1L,
             readOtaSoftwareUpdateRequestorUpdatePossibleCommandParams);
     readOtaSoftwareUpdateRequestorInteractionInfo.put(
         "readUpdatePossibleAttribute",
@@ -3846,12 +5256,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOtaSoftwareUpdateRequestorUpdateStateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateRequestorUpdateStateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .readUpdateStateAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            2L,
             readOtaSoftwareUpdateRequestorUpdateStateCommandParams);
     readOtaSoftwareUpdateRequestorInteractionInfo.put(
         "readUpdateStateAttribute",
@@ -3860,15 +5267,9 @@ public class ClusterReadMapping {
         readOtaSoftwareUpdateRequestorUpdateStateProgressCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateRequestorUpdateStateProgressAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .readUpdateStateProgressAttribute(
-                      (ChipClusters.OtaSoftwareUpdateRequestorCluster
-                              .UpdateStateProgressAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            3L,
             readOtaSoftwareUpdateRequestorUpdateStateProgressCommandParams);
     readOtaSoftwareUpdateRequestorInteractionInfo.put(
         "readUpdateStateProgressAttribute",
@@ -3876,17 +5277,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOtaSoftwareUpdateRequestorAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateRequestorAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.OtaSoftwareUpdateRequestorCluster
-                              .AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOtaSoftwareUpdateRequestorClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            65531L,
             readOtaSoftwareUpdateRequestorAttributeListCommandParams);
     readOtaSoftwareUpdateRequestorInteractionInfo.put(
         "readAttributeListAttribute",
@@ -3894,41 +5287,87 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOtaSoftwareUpdateRequestorClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOtaSoftwareUpdateRequestorClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OtaSoftwareUpdateRequestorCluster.CLUSTER_ID,
+            65533L,
             readOtaSoftwareUpdateRequestorClusterRevisionCommandParams);
     readOtaSoftwareUpdateRequestorInteractionInfo.put(
         "readClusterRevisionAttribute",
         readOtaSoftwareUpdateRequestorClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put(
-        "otaSoftwareUpdateRequestor", readOtaSoftwareUpdateRequestorInteractionInfo);
+    return readOtaSoftwareUpdateRequestorInteractionInfo;
+  }
+
+  private static void readOtaSoftwareUpdateRequestor(
+      ChipClusters.OtaSoftwareUpdateRequestorCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readDefaultOtaProvidersAttribute(
+            (ChipClusters.OtaSoftwareUpdateRequestorCluster.DefaultOtaProvidersAttributeCallback)
+                callback);
+        break;
+      case 1:
+        cluster.readUpdatePossibleAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readUpdateStateAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readUpdateStateProgressAttribute(
+            (ChipClusters.OtaSoftwareUpdateRequestorCluster.UpdateStateProgressAttributeCallback)
+                callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.OtaSoftwareUpdateRequestorCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOtaSoftwareUpdateRequestorReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedOtaSoftwareUpdateRequestorClusterDefaultOtaProvidersAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedOtaSoftwareUpdateRequestorClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOccupancySensingReadAttributeMap() {
     Map<String, InteractionInfo> readOccupancySensingInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readOccupancySensingOccupancyCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOccupancySensingOccupancyAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OccupancySensingCluster) cluster)
-                  .readOccupancyAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OccupancySensingCluster.CLUSTER_ID,
+            0L,
             readOccupancySensingOccupancyCommandParams);
     readOccupancySensingInteractionInfo.put(
         "readOccupancyAttribute", readOccupancySensingOccupancyAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOccupancySensingOccupancySensorTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOccupancySensingOccupancySensorTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OccupancySensingCluster) cluster)
-                  .readOccupancySensorTypeAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OccupancySensingCluster.CLUSTER_ID,
+            1L,
             readOccupancySensingOccupancySensorTypeCommandParams);
     readOccupancySensingInteractionInfo.put(
         "readOccupancySensorTypeAttribute",
@@ -3936,13 +5375,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOccupancySensingOccupancySensorTypeBitmapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOccupancySensingOccupancySensorTypeBitmapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OccupancySensingCluster) cluster)
-                  .readOccupancySensorTypeBitmapAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OccupancySensingCluster.CLUSTER_ID,
+            2L,
             readOccupancySensingOccupancySensorTypeBitmapCommandParams);
     readOccupancySensingInteractionInfo.put(
         "readOccupancySensorTypeBitmapAttribute",
@@ -3950,154 +5385,201 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOccupancySensingAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOccupancySensingAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OccupancySensingCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.OccupancySensingCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOccupancySensingClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OccupancySensingCluster.CLUSTER_ID,
+            65531L,
             readOccupancySensingAttributeListCommandParams);
     readOccupancySensingInteractionInfo.put(
         "readAttributeListAttribute", readOccupancySensingAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOccupancySensingClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOccupancySensingClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OccupancySensingCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OccupancySensingCluster.CLUSTER_ID,
+            65533L,
             readOccupancySensingClusterRevisionCommandParams);
     readOccupancySensingInteractionInfo.put(
         "readClusterRevisionAttribute",
         readOccupancySensingClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("occupancySensing", readOccupancySensingInteractionInfo);
+    return readOccupancySensingInteractionInfo;
+  }
+
+  private static void readOccupancySensing(
+      ChipClusters.OccupancySensingCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readOccupancyAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readOccupancySensorTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readOccupancySensorTypeBitmapAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.OccupancySensingCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOccupancySensingReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedOccupancySensingClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOnOffReadAttributeMap() {
     Map<String, InteractionInfo> readOnOffInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readOnOffOnOffCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffOnOffAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readOnOffAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readOnOffOnOffCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 0L, readOnOffOnOffCommandParams);
     readOnOffInteractionInfo.put("readOnOffAttribute", readOnOffOnOffAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffGlobalSceneControlCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffGlobalSceneControlAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readGlobalSceneControlAttribute(
-                      (ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readOnOffGlobalSceneControlCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16384L, readOnOffGlobalSceneControlCommandParams);
     readOnOffInteractionInfo.put(
         "readGlobalSceneControlAttribute", readOnOffGlobalSceneControlAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffOnTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffOnTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readOnTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readOnOffOnTimeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16385L, readOnOffOnTimeCommandParams);
     readOnOffInteractionInfo.put("readOnTimeAttribute", readOnOffOnTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffOffWaitTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffOffWaitTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readOffWaitTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readOnOffOffWaitTimeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16386L, readOnOffOffWaitTimeCommandParams);
     readOnOffInteractionInfo.put(
         "readOffWaitTimeAttribute", readOnOffOffWaitTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffStartUpOnOffCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffStartUpOnOffAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readStartUpOnOffAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readOnOffStartUpOnOffCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16387L, readOnOffStartUpOnOffCommandParams);
     readOnOffInteractionInfo.put(
         "readStartUpOnOffAttribute", readOnOffStartUpOnOffAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.OnOffCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOnOffClusterAttributeListAttributeCallback(),
-            readOnOffAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 65531L, readOnOffAttributeListCommandParams);
     readOnOffInteractionInfo.put(
         "readAttributeListAttribute", readOnOffAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readOnOffFeatureMapCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 65532L, readOnOffFeatureMapCommandParams);
     readOnOffInteractionInfo.put(
         "readFeatureMapAttribute", readOnOffFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readOnOffClusterRevisionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 65533L, readOnOffClusterRevisionCommandParams);
     readOnOffInteractionInfo.put(
         "readClusterRevisionAttribute", readOnOffClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("onOff", readOnOffInteractionInfo);
+    return readOnOffInteractionInfo;
+  }
+
+  private static void readOnOff(
+      ChipClusters.OnOffCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readOnOffAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 16384:
+        cluster.readGlobalSceneControlAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 16385:
+        cluster.readOnTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16386:
+        cluster.readOffWaitTimeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16387:
+        cluster.readStartUpOnOffAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.OnOffCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOnOffReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 16384:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 16385:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16386:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16387:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedOnOffClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOnOffSwitchConfigurationReadAttributeMap() {
     Map<String, InteractionInfo> readOnOffSwitchConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readOnOffSwitchConfigurationSwitchTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffSwitchConfigurationSwitchTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffSwitchConfigurationCluster) cluster)
-                  .readSwitchTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffSwitchConfigurationCluster.CLUSTER_ID,
+            0L,
             readOnOffSwitchConfigurationSwitchTypeCommandParams);
     readOnOffSwitchConfigurationInteractionInfo.put(
         "readSwitchTypeAttribute", readOnOffSwitchConfigurationSwitchTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOnOffSwitchConfigurationSwitchActionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffSwitchConfigurationSwitchActionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffSwitchConfigurationCluster) cluster)
-                  .readSwitchActionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffSwitchConfigurationCluster.CLUSTER_ID,
+            16L,
             readOnOffSwitchConfigurationSwitchActionsCommandParams);
     readOnOffSwitchConfigurationInteractionInfo.put(
         "readSwitchActionsAttribute",
@@ -4105,16 +5587,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOnOffSwitchConfigurationAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffSwitchConfigurationAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffSwitchConfigurationCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.OnOffSwitchConfigurationCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOnOffSwitchConfigurationClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffSwitchConfigurationCluster.CLUSTER_ID,
+            65531L,
             readOnOffSwitchConfigurationAttributeListCommandParams);
     readOnOffSwitchConfigurationInteractionInfo.put(
         "readAttributeListAttribute",
@@ -4122,43 +5597,70 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOnOffSwitchConfigurationClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOnOffSwitchConfigurationClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffSwitchConfigurationCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OnOffSwitchConfigurationCluster.CLUSTER_ID,
+            65533L,
             readOnOffSwitchConfigurationClusterRevisionCommandParams);
     readOnOffSwitchConfigurationInteractionInfo.put(
         "readClusterRevisionAttribute",
         readOnOffSwitchConfigurationClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("onOffSwitchConfiguration", readOnOffSwitchConfigurationInteractionInfo);
+    return readOnOffSwitchConfigurationInteractionInfo;
+  }
+
+  private static void readOnOffSwitchConfiguration(
+      ChipClusters.OnOffSwitchConfigurationCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readSwitchTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readSwitchActionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.OnOffSwitchConfigurationCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOnOffSwitchConfigurationReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedOnOffSwitchConfigurationClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOperationalCredentialsReadAttributeMap() {
     Map<String, InteractionInfo> readOperationalCredentialsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readOperationalCredentialsFabricsListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsFabricsListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readFabricsListAttribute(
-                      (ChipClusters.OperationalCredentialsCluster.FabricsListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOperationalCredentialsClusterFabricsListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            1L,
             readOperationalCredentialsFabricsListCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readFabricsListAttribute", readOperationalCredentialsFabricsListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readOperationalCredentialsSupportedFabricsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsSupportedFabricsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readSupportedFabricsAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            2L,
             readOperationalCredentialsSupportedFabricsCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readSupportedFabricsAttribute",
@@ -4166,13 +5668,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOperationalCredentialsCommissionedFabricsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsCommissionedFabricsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readCommissionedFabricsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            3L,
             readOperationalCredentialsCommissionedFabricsCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readCommissionedFabricsAttribute",
@@ -4181,17 +5679,9 @@ public class ClusterReadMapping {
         readOperationalCredentialsTrustedRootCertificatesCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsTrustedRootCertificatesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readTrustedRootCertificatesAttribute(
-                      (ChipClusters.OperationalCredentialsCluster
-                              .TrustedRootCertificatesAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOperationalCredentialsClusterTrustedRootCertificatesAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            4L,
             readOperationalCredentialsTrustedRootCertificatesCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readTrustedRootCertificatesAttribute",
@@ -4199,15 +5689,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOperationalCredentialsCurrentFabricIndexCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsCurrentFabricIndexAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readCurrentFabricIndexAttribute(
-                      (ChipClusters.OperationalCredentialsCluster
-                              .CurrentFabricIndexAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            5L,
             readOperationalCredentialsCurrentFabricIndexCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readCurrentFabricIndexAttribute",
@@ -4215,16 +5699,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOperationalCredentialsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.OperationalCredentialsCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedOperationalCredentialsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            65531L,
             readOperationalCredentialsAttributeListCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readAttributeListAttribute",
@@ -4232,76 +5709,115 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readOperationalCredentialsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readOperationalCredentialsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OperationalCredentialsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.OperationalCredentialsCluster.CLUSTER_ID,
+            65533L,
             readOperationalCredentialsClusterRevisionCommandParams);
     readOperationalCredentialsInteractionInfo.put(
         "readClusterRevisionAttribute",
         readOperationalCredentialsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("operationalCredentials", readOperationalCredentialsInteractionInfo);
+    return readOperationalCredentialsInteractionInfo;
+  }
+
+  private static void readOperationalCredentials(
+      ChipClusters.OperationalCredentialsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 1:
+        cluster.readFabricsListAttribute(
+            (ChipClusters.OperationalCredentialsCluster.FabricsListAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readSupportedFabricsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readCommissionedFabricsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readTrustedRootCertificatesAttribute(
+            (ChipClusters.OperationalCredentialsCluster.TrustedRootCertificatesAttributeCallback)
+                callback);
+        break;
+      case 5:
+        cluster.readCurrentFabricIndexAttribute(
+            (ChipClusters.OperationalCredentialsCluster.CurrentFabricIndexAttributeCallback)
+                callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.OperationalCredentialsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newOperationalCredentialsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 1:
+        return new ClusterInfoMapping
+            .DelegatedOperationalCredentialsClusterFabricsListAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping
+            .DelegatedOperationalCredentialsClusterTrustedRootCertificatesAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedOperationalCredentialsClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPowerSourceReadAttributeMap() {
     Map<String, InteractionInfo> readPowerSourceInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readPowerSourceStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readPowerSourceStatusCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID, 0L, readPowerSourceStatusCommandParams);
     readPowerSourceInteractionInfo.put(
         "readStatusAttribute", readPowerSourceStatusAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceOrderCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceOrderAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readOrderAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readPowerSourceOrderCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID, 1L, readPowerSourceOrderCommandParams);
     readPowerSourceInteractionInfo.put(
         "readOrderAttribute", readPowerSourceOrderAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceDescriptionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceDescriptionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readDescriptionAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            2L,
             readPowerSourceDescriptionCommandParams);
     readPowerSourceInteractionInfo.put(
         "readDescriptionAttribute", readPowerSourceDescriptionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceBatteryVoltageCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceBatteryVoltageAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readBatteryVoltageAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            11L,
             readPowerSourceBatteryVoltageCommandParams);
     readPowerSourceInteractionInfo.put(
         "readBatteryVoltageAttribute", readPowerSourceBatteryVoltageAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceBatteryPercentRemainingCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceBatteryPercentRemainingAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readBatteryPercentRemainingAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            12L,
             readPowerSourceBatteryPercentRemainingCommandParams);
     readPowerSourceInteractionInfo.put(
         "readBatteryPercentRemainingAttribute",
@@ -4309,12 +5825,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPowerSourceBatteryTimeRemainingCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceBatteryTimeRemainingAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readBatteryTimeRemainingAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            13L,
             readPowerSourceBatteryTimeRemainingCommandParams);
     readPowerSourceInteractionInfo.put(
         "readBatteryTimeRemainingAttribute",
@@ -4322,13 +5835,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPowerSourceBatteryChargeLevelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceBatteryChargeLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readBatteryChargeLevelAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            14L,
             readPowerSourceBatteryChargeLevelCommandParams);
     readPowerSourceInteractionInfo.put(
         "readBatteryChargeLevelAttribute",
@@ -4336,16 +5845,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPowerSourceActiveBatteryFaultsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceActiveBatteryFaultsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readActiveBatteryFaultsAttribute(
-                      (ChipClusters.PowerSourceCluster.ActiveBatteryFaultsAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedPowerSourceClusterActiveBatteryFaultsAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            18L,
             readPowerSourceActiveBatteryFaultsCommandParams);
     readPowerSourceInteractionInfo.put(
         "readActiveBatteryFaultsAttribute",
@@ -4353,13 +5855,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPowerSourceBatteryChargeStateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceBatteryChargeStateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readBatteryChargeStateAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            26L,
             readPowerSourceBatteryChargeStateCommandParams);
     readPowerSourceInteractionInfo.put(
         "readBatteryChargeStateAttribute",
@@ -4367,73 +5865,130 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPowerSourceAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.PowerSourceCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedPowerSourceClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            65531L,
             readPowerSourceAttributeListCommandParams);
     readPowerSourceInteractionInfo.put(
         "readAttributeListAttribute", readPowerSourceAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            65532L,
             readPowerSourceFeatureMapCommandParams);
     readPowerSourceInteractionInfo.put(
         "readFeatureMapAttribute", readPowerSourceFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceCluster.CLUSTER_ID,
+            65533L,
             readPowerSourceClusterRevisionCommandParams);
     readPowerSourceInteractionInfo.put(
         "readClusterRevisionAttribute", readPowerSourceClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("powerSource", readPowerSourceInteractionInfo);
+    return readPowerSourceInteractionInfo;
+  }
+
+  private static void readPowerSource(
+      ChipClusters.PowerSourceCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readOrderAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readDescriptionAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readBatteryVoltageAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 12:
+        cluster.readBatteryPercentRemainingAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 13:
+        cluster.readBatteryTimeRemainingAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 14:
+        cluster.readBatteryChargeLevelAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readActiveBatteryFaultsAttribute(
+            (ChipClusters.PowerSourceCluster.ActiveBatteryFaultsAttributeCallback) callback);
+        break;
+      case 26:
+        cluster.readBatteryChargeStateAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.PowerSourceCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPowerSourceReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 13:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 14:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping
+            .DelegatedPowerSourceClusterActiveBatteryFaultsAttributeCallback();
+      case 26:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedPowerSourceClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPowerSourceConfigurationReadAttributeMap() {
     Map<String, InteractionInfo> readPowerSourceConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readPowerSourceConfigurationSourcesCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceConfigurationSourcesAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceConfigurationCluster) cluster)
-                  .readSourcesAttribute(
-                      (ChipClusters.PowerSourceConfigurationCluster.SourcesAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedPowerSourceConfigurationClusterSourcesAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceConfigurationCluster.CLUSTER_ID,
+            0L,
             readPowerSourceConfigurationSourcesCommandParams);
     readPowerSourceConfigurationInteractionInfo.put(
         "readSourcesAttribute", readPowerSourceConfigurationSourcesAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPowerSourceConfigurationAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceConfigurationAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceConfigurationCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.PowerSourceConfigurationCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedPowerSourceConfigurationClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceConfigurationCluster.CLUSTER_ID,
+            65531L,
             readPowerSourceConfigurationAttributeListCommandParams);
     readPowerSourceConfigurationInteractionInfo.put(
         "readAttributeListAttribute",
@@ -4441,39 +5996,67 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPowerSourceConfigurationClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPowerSourceConfigurationClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PowerSourceConfigurationCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PowerSourceConfigurationCluster.CLUSTER_ID,
+            65533L,
             readPowerSourceConfigurationClusterRevisionCommandParams);
     readPowerSourceConfigurationInteractionInfo.put(
         "readClusterRevisionAttribute",
         readPowerSourceConfigurationClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("powerSourceConfiguration", readPowerSourceConfigurationInteractionInfo);
+    return readPowerSourceConfigurationInteractionInfo;
+  }
+
+  private static void readPowerSourceConfiguration(
+      ChipClusters.PowerSourceConfigurationCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readSourcesAttribute(
+            (ChipClusters.PowerSourceConfigurationCluster.SourcesAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.PowerSourceConfigurationCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPowerSourceConfigurationReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedPowerSourceConfigurationClusterSourcesAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedPowerSourceConfigurationClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPressureMeasurementReadAttributeMap() {
     Map<String, InteractionInfo> readPressureMeasurementInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readPressureMeasurementMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPressureMeasurementMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PressureMeasurementCluster) cluster)
-                  .readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PressureMeasurementCluster.CLUSTER_ID,
+            0L,
             readPressureMeasurementMeasuredValueCommandParams);
     readPressureMeasurementInteractionInfo.put(
         "readMeasuredValueAttribute", readPressureMeasurementMeasuredValueAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPressureMeasurementMinMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPressureMeasurementMinMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PressureMeasurementCluster) cluster)
-                  .readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PressureMeasurementCluster.CLUSTER_ID,
+            1L,
             readPressureMeasurementMinMeasuredValueCommandParams);
     readPressureMeasurementInteractionInfo.put(
         "readMinMeasuredValueAttribute",
@@ -4481,12 +6064,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPressureMeasurementMaxMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPressureMeasurementMaxMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PressureMeasurementCluster) cluster)
-                  .readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PressureMeasurementCluster.CLUSTER_ID,
+            2L,
             readPressureMeasurementMaxMeasuredValueCommandParams);
     readPressureMeasurementInteractionInfo.put(
         "readMaxMeasuredValueAttribute",
@@ -4494,44 +6074,76 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPressureMeasurementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPressureMeasurementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PressureMeasurementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.PressureMeasurementCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedPressureMeasurementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PressureMeasurementCluster.CLUSTER_ID,
+            65531L,
             readPressureMeasurementAttributeListCommandParams);
     readPressureMeasurementInteractionInfo.put(
         "readAttributeListAttribute", readPressureMeasurementAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPressureMeasurementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPressureMeasurementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PressureMeasurementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PressureMeasurementCluster.CLUSTER_ID,
+            65533L,
             readPressureMeasurementClusterRevisionCommandParams);
     readPressureMeasurementInteractionInfo.put(
         "readClusterRevisionAttribute",
         readPressureMeasurementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("pressureMeasurement", readPressureMeasurementInteractionInfo);
+    return readPressureMeasurementInteractionInfo;
+  }
+
+  private static void readPressureMeasurement(
+      ChipClusters.PressureMeasurementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.PressureMeasurementCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPressureMeasurementReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedPressureMeasurementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPumpConfigurationAndControlReadAttributeMap() {
     Map<String, InteractionInfo> readPumpConfigurationAndControlInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxPressureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxPressureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            0L,
             readPumpConfigurationAndControlMaxPressureCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxPressureAttribute",
@@ -4539,36 +6151,27 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxSpeedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxSpeedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            1L,
             readPumpConfigurationAndControlMaxSpeedCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxSpeedAttribute", readPumpConfigurationAndControlMaxSpeedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxFlowCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxFlowAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxFlowAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            2L,
             readPumpConfigurationAndControlMaxFlowCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxFlowAttribute", readPumpConfigurationAndControlMaxFlowAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMinConstPressureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMinConstPressureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMinConstPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            3L,
             readPumpConfigurationAndControlMinConstPressureCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMinConstPressureAttribute",
@@ -4576,12 +6179,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxConstPressureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxConstPressureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxConstPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            4L,
             readPumpConfigurationAndControlMaxConstPressureCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxConstPressureAttribute",
@@ -4589,12 +6189,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMinCompPressureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMinCompPressureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMinCompPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            5L,
             readPumpConfigurationAndControlMinCompPressureCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMinCompPressureAttribute",
@@ -4602,12 +6199,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxCompPressureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxCompPressureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxCompPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            6L,
             readPumpConfigurationAndControlMaxCompPressureCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxCompPressureAttribute",
@@ -4615,12 +6209,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMinConstSpeedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMinConstSpeedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMinConstSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            7L,
             readPumpConfigurationAndControlMinConstSpeedCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMinConstSpeedAttribute",
@@ -4628,12 +6219,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxConstSpeedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxConstSpeedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxConstSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            8L,
             readPumpConfigurationAndControlMaxConstSpeedCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxConstSpeedAttribute",
@@ -4641,12 +6229,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMinConstFlowCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMinConstFlowAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMinConstFlowAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            9L,
             readPumpConfigurationAndControlMinConstFlowCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMinConstFlowAttribute",
@@ -4654,12 +6239,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxConstFlowCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxConstFlowAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxConstFlowAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            10L,
             readPumpConfigurationAndControlMaxConstFlowCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxConstFlowAttribute",
@@ -4667,12 +6249,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMinConstTempCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMinConstTempAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMinConstTempAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            11L,
             readPumpConfigurationAndControlMinConstTempCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMinConstTempAttribute",
@@ -4680,12 +6259,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlMaxConstTempCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlMaxConstTempAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readMaxConstTempAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            12L,
             readPumpConfigurationAndControlMaxConstTempCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readMaxConstTempAttribute",
@@ -4693,12 +6269,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlPumpStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlPumpStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readPumpStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            16L,
             readPumpConfigurationAndControlPumpStatusCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readPumpStatusAttribute",
@@ -4707,13 +6280,9 @@ public class ClusterReadMapping {
         readPumpConfigurationAndControlEffectiveOperationModeCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlEffectiveOperationModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readEffectiveOperationModeAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            17L,
             readPumpConfigurationAndControlEffectiveOperationModeCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readEffectiveOperationModeAttribute",
@@ -4722,13 +6291,9 @@ public class ClusterReadMapping {
         readPumpConfigurationAndControlEffectiveControlModeCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlEffectiveControlModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readEffectiveControlModeAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            18L,
             readPumpConfigurationAndControlEffectiveControlModeCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readEffectiveControlModeAttribute",
@@ -4736,24 +6301,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlCapacityCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlCapacityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readCapacityAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            19L,
             readPumpConfigurationAndControlCapacityCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readCapacityAttribute", readPumpConfigurationAndControlCapacityAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlSpeedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlSpeedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            20L,
             readPumpConfigurationAndControlSpeedCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readSpeedAttribute", readPumpConfigurationAndControlSpeedAttributeInteractionInfo);
@@ -4761,15 +6320,9 @@ public class ClusterReadMapping {
         readPumpConfigurationAndControlLifetimeRunningHoursCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlLifetimeRunningHoursAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readLifetimeRunningHoursAttribute(
-                      (ChipClusters.PumpConfigurationAndControlCluster
-                              .LifetimeRunningHoursAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            21L,
             readPumpConfigurationAndControlLifetimeRunningHoursCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readLifetimeRunningHoursAttribute",
@@ -4777,12 +6330,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlPowerCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlPowerAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readPowerAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            22L,
             readPumpConfigurationAndControlPowerCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readPowerAttribute", readPumpConfigurationAndControlPowerAttributeInteractionInfo);
@@ -4790,15 +6340,9 @@ public class ClusterReadMapping {
         readPumpConfigurationAndControlLifetimeEnergyConsumedCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlLifetimeEnergyConsumedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readLifetimeEnergyConsumedAttribute(
-                      (ChipClusters.PumpConfigurationAndControlCluster
-                              .LifetimeEnergyConsumedAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            23L,
             readPumpConfigurationAndControlLifetimeEnergyConsumedCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readLifetimeEnergyConsumedAttribute",
@@ -4806,12 +6350,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlOperationModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlOperationModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readOperationModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            32L,
             readPumpConfigurationAndControlOperationModeCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readOperationModeAttribute",
@@ -4819,12 +6360,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlControlModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlControlModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readControlModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            33L,
             readPumpConfigurationAndControlControlModeCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readControlModeAttribute",
@@ -4832,29 +6370,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlAlarmMaskCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlAlarmMaskAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readAlarmMaskAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            34L,
             readPumpConfigurationAndControlAlarmMaskCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readAlarmMaskAttribute", readPumpConfigurationAndControlAlarmMaskAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.PumpConfigurationAndControlCluster
-                              .AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedPumpConfigurationAndControlClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            65531L,
             readPumpConfigurationAndControlAttributeListCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readAttributeListAttribute",
@@ -4862,12 +6389,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            65532L,
             readPumpConfigurationAndControlFeatureMapCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readFeatureMapAttribute",
@@ -4875,29 +6399,184 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readPumpConfigurationAndControlClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readPumpConfigurationAndControlClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            65533L,
             readPumpConfigurationAndControlClusterRevisionCommandParams);
     readPumpConfigurationAndControlInteractionInfo.put(
         "readClusterRevisionAttribute",
         readPumpConfigurationAndControlClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put(
-        "pumpConfigurationAndControl", readPumpConfigurationAndControlInteractionInfo);
+    return readPumpConfigurationAndControlInteractionInfo;
+  }
+
+  private static void readPumpConfigurationAndControl(
+      ChipClusters.PumpConfigurationAndControlCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMaxPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readMaxSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMaxFlowAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readMinConstPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readMaxConstPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readMinCompPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readMaxCompPressureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readMinConstSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readMaxConstSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 9:
+        cluster.readMinConstFlowAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 10:
+        cluster.readMaxConstFlowAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readMinConstTempAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 12:
+        cluster.readMaxConstTempAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readPumpStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readEffectiveOperationModeAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readEffectiveControlModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 19:
+        cluster.readCapacityAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 20:
+        cluster.readSpeedAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 21:
+        cluster.readLifetimeRunningHoursAttribute(
+            (ChipClusters.PumpConfigurationAndControlCluster.LifetimeRunningHoursAttributeCallback)
+                callback);
+        break;
+      case 22:
+        cluster.readPowerAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readLifetimeEnergyConsumedAttribute(
+            (ChipClusters.PumpConfigurationAndControlCluster.LifetimeEnergyConsumedAttributeCallback)
+                callback);
+        break;
+      case 32:
+        cluster.readOperationModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 33:
+        cluster.readControlModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 34:
+        cluster.readAlarmMaskAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.PumpConfigurationAndControlCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newPumpConfigurationAndControlReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 9:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 19:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 20:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 21:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 22:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 33:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 34:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedPumpConfigurationAndControlClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getRelativeHumidityMeasurementReadAttributeMap() {
     Map<String, InteractionInfo> readRelativeHumidityMeasurementInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readRelativeHumidityMeasurementMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readRelativeHumidityMeasurementMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.RelativeHumidityMeasurementCluster) cluster)
-                  .readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID,
+            0L,
             readRelativeHumidityMeasurementMeasuredValueCommandParams);
     readRelativeHumidityMeasurementInteractionInfo.put(
         "readMeasuredValueAttribute",
@@ -4905,12 +6584,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readRelativeHumidityMeasurementMinMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readRelativeHumidityMeasurementMinMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.RelativeHumidityMeasurementCluster) cluster)
-                  .readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID,
+            1L,
             readRelativeHumidityMeasurementMinMeasuredValueCommandParams);
     readRelativeHumidityMeasurementInteractionInfo.put(
         "readMinMeasuredValueAttribute",
@@ -4918,12 +6594,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readRelativeHumidityMeasurementMaxMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readRelativeHumidityMeasurementMaxMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.RelativeHumidityMeasurementCluster) cluster)
-                  .readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID,
+            2L,
             readRelativeHumidityMeasurementMaxMeasuredValueCommandParams);
     readRelativeHumidityMeasurementInteractionInfo.put(
         "readMaxMeasuredValueAttribute",
@@ -4931,29 +6604,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readRelativeHumidityMeasurementToleranceCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readRelativeHumidityMeasurementToleranceAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.RelativeHumidityMeasurementCluster) cluster)
-                  .readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID,
+            3L,
             readRelativeHumidityMeasurementToleranceCommandParams);
     readRelativeHumidityMeasurementInteractionInfo.put(
         "readToleranceAttribute", readRelativeHumidityMeasurementToleranceAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readRelativeHumidityMeasurementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readRelativeHumidityMeasurementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.RelativeHumidityMeasurementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.RelativeHumidityMeasurementCluster
-                              .AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedRelativeHumidityMeasurementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID,
+            65531L,
             readRelativeHumidityMeasurementAttributeListCommandParams);
     readRelativeHumidityMeasurementInteractionInfo.put(
         "readAttributeListAttribute",
@@ -4961,131 +6623,187 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readRelativeHumidityMeasurementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readRelativeHumidityMeasurementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.RelativeHumidityMeasurementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.RelativeHumidityMeasurementCluster.CLUSTER_ID,
+            65533L,
             readRelativeHumidityMeasurementClusterRevisionCommandParams);
     readRelativeHumidityMeasurementInteractionInfo.put(
         "readClusterRevisionAttribute",
         readRelativeHumidityMeasurementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put(
-        "relativeHumidityMeasurement", readRelativeHumidityMeasurementInteractionInfo);
+    return readRelativeHumidityMeasurementInteractionInfo;
+  }
+
+  private static void readRelativeHumidityMeasurement(
+      ChipClusters.RelativeHumidityMeasurementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.RelativeHumidityMeasurementCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newRelativeHumidityMeasurementReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedRelativeHumidityMeasurementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getScenesReadAttributeMap() {
     Map<String, InteractionInfo> readScenesInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readScenesSceneCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesSceneCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readSceneCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readScenesSceneCountCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 0L, readScenesSceneCountCommandParams);
     readScenesInteractionInfo.put(
         "readSceneCountAttribute", readScenesSceneCountAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readScenesCurrentSceneCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesCurrentSceneAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readCurrentSceneAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readScenesCurrentSceneCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 1L, readScenesCurrentSceneCommandParams);
     readScenesInteractionInfo.put(
         "readCurrentSceneAttribute", readScenesCurrentSceneAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readScenesCurrentGroupCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesCurrentGroupAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readCurrentGroupAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readScenesCurrentGroupCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 2L, readScenesCurrentGroupCommandParams);
     readScenesInteractionInfo.put(
         "readCurrentGroupAttribute", readScenesCurrentGroupAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readScenesSceneValidCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesSceneValidAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readSceneValidAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readScenesSceneValidCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 3L, readScenesSceneValidCommandParams);
     readScenesInteractionInfo.put(
         "readSceneValidAttribute", readScenesSceneValidAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readScenesNameSupportCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesNameSupportAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readNameSupportAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readScenesNameSupportCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 4L, readScenesNameSupportCommandParams);
     readScenesInteractionInfo.put(
         "readNameSupportAttribute", readScenesNameSupportAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readScenesAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ScenesCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedScenesClusterAttributeListAttributeCallback(),
-            readScenesAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 65531L, readScenesAttributeListCommandParams);
     readScenesInteractionInfo.put(
         "readAttributeListAttribute", readScenesAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readScenesClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readScenesClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ScenesCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readScenesClusterRevisionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ScenesCluster.CLUSTER_ID, 65533L, readScenesClusterRevisionCommandParams);
     readScenesInteractionInfo.put(
         "readClusterRevisionAttribute", readScenesClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("scenes", readScenesInteractionInfo);
+    return readScenesInteractionInfo;
+  }
+
+  private static void readScenes(
+      ChipClusters.ScenesCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readSceneCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentSceneAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readCurrentGroupAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readSceneValidAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readNameSupportAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ScenesCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newScenesReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedScenesClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getSoftwareDiagnosticsReadAttributeMap() {
     Map<String, InteractionInfo> readSoftwareDiagnosticsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsThreadMetricsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsThreadMetricsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readThreadMetricsAttribute(
-                      (ChipClusters.SoftwareDiagnosticsCluster.ThreadMetricsAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedSoftwareDiagnosticsClusterThreadMetricsAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            0L,
             readSoftwareDiagnosticsThreadMetricsCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readThreadMetricsAttribute", readSoftwareDiagnosticsThreadMetricsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsCurrentHeapFreeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsCurrentHeapFreeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readCurrentHeapFreeAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            1L,
             readSoftwareDiagnosticsCurrentHeapFreeCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readCurrentHeapFreeAttribute",
@@ -5093,12 +6811,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsCurrentHeapUsedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsCurrentHeapUsedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readCurrentHeapUsedAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            2L,
             readSoftwareDiagnosticsCurrentHeapUsedCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readCurrentHeapUsedAttribute",
@@ -5106,13 +6821,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsCurrentHeapHighWatermarkCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsCurrentHeapHighWatermarkAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readCurrentHeapHighWatermarkAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            3L,
             readSoftwareDiagnosticsCurrentHeapHighWatermarkCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readCurrentHeapHighWatermarkAttribute",
@@ -5120,134 +6831,190 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.SoftwareDiagnosticsCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedSoftwareDiagnosticsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            65531L,
             readSoftwareDiagnosticsAttributeListCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readAttributeListAttribute", readSoftwareDiagnosticsAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            65532L,
             readSoftwareDiagnosticsFeatureMapCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readFeatureMapAttribute", readSoftwareDiagnosticsFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSoftwareDiagnosticsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSoftwareDiagnosticsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SoftwareDiagnosticsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SoftwareDiagnosticsCluster.CLUSTER_ID,
+            65533L,
             readSoftwareDiagnosticsClusterRevisionCommandParams);
     readSoftwareDiagnosticsInteractionInfo.put(
         "readClusterRevisionAttribute",
         readSoftwareDiagnosticsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("softwareDiagnostics", readSoftwareDiagnosticsInteractionInfo);
+    return readSoftwareDiagnosticsInteractionInfo;
+  }
+
+  private static void readSoftwareDiagnostics(
+      ChipClusters.SoftwareDiagnosticsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readThreadMetricsAttribute(
+            (ChipClusters.SoftwareDiagnosticsCluster.ThreadMetricsAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentHeapFreeAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readCurrentHeapUsedAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readCurrentHeapHighWatermarkAttribute(
+            (ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.SoftwareDiagnosticsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newSoftwareDiagnosticsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedSoftwareDiagnosticsClusterThreadMetricsAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedSoftwareDiagnosticsClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getSwitchReadAttributeMap() {
     Map<String, InteractionInfo> readSwitchInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readSwitchNumberOfPositionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSwitchNumberOfPositionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SwitchCluster) cluster)
-                  .readNumberOfPositionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readSwitchNumberOfPositionsCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SwitchCluster.CLUSTER_ID, 0L, readSwitchNumberOfPositionsCommandParams);
     readSwitchInteractionInfo.put(
         "readNumberOfPositionsAttribute", readSwitchNumberOfPositionsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSwitchCurrentPositionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSwitchCurrentPositionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SwitchCluster) cluster)
-                  .readCurrentPositionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readSwitchCurrentPositionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SwitchCluster.CLUSTER_ID, 1L, readSwitchCurrentPositionCommandParams);
     readSwitchInteractionInfo.put(
         "readCurrentPositionAttribute", readSwitchCurrentPositionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSwitchMultiPressMaxCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSwitchMultiPressMaxAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SwitchCluster) cluster)
-                  .readMultiPressMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readSwitchMultiPressMaxCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SwitchCluster.CLUSTER_ID, 2L, readSwitchMultiPressMaxCommandParams);
     readSwitchInteractionInfo.put(
         "readMultiPressMaxAttribute", readSwitchMultiPressMaxAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSwitchAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSwitchAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SwitchCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.SwitchCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedSwitchClusterAttributeListAttributeCallback(),
-            readSwitchAttributeListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SwitchCluster.CLUSTER_ID, 65531L, readSwitchAttributeListCommandParams);
     readSwitchInteractionInfo.put(
         "readAttributeListAttribute", readSwitchAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSwitchFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSwitchFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SwitchCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readSwitchFeatureMapCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SwitchCluster.CLUSTER_ID, 65532L, readSwitchFeatureMapCommandParams);
     readSwitchInteractionInfo.put(
         "readFeatureMapAttribute", readSwitchFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readSwitchClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readSwitchClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.SwitchCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readSwitchClusterRevisionCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.SwitchCluster.CLUSTER_ID, 65533L, readSwitchClusterRevisionCommandParams);
     readSwitchInteractionInfo.put(
         "readClusterRevisionAttribute", readSwitchClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("switch", readSwitchInteractionInfo);
+    return readSwitchInteractionInfo;
+  }
+
+  private static void readSwitch(
+      ChipClusters.SwitchCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readNumberOfPositionsAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentPositionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMultiPressMaxAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.SwitchCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newSwitchReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedSwitchClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getTargetNavigatorReadAttributeMap() {
     Map<String, InteractionInfo> readTargetNavigatorInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readTargetNavigatorTargetNavigatorListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTargetNavigatorTargetNavigatorListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TargetNavigatorCluster) cluster)
-                  .readTargetNavigatorListAttribute(
-                      (ChipClusters.TargetNavigatorCluster.TargetNavigatorListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTargetNavigatorClusterTargetNavigatorListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TargetNavigatorCluster.CLUSTER_ID,
+            0L,
             readTargetNavigatorTargetNavigatorListCommandParams);
     readTargetNavigatorInteractionInfo.put(
         "readTargetNavigatorListAttribute",
@@ -5255,13 +7022,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTargetNavigatorCurrentNavigatorTargetCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTargetNavigatorCurrentNavigatorTargetAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TargetNavigatorCluster) cluster)
-                  .readCurrentNavigatorTargetAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TargetNavigatorCluster.CLUSTER_ID,
+            1L,
             readTargetNavigatorCurrentNavigatorTargetCommandParams);
     readTargetNavigatorInteractionInfo.put(
         "readCurrentNavigatorTargetAttribute",
@@ -5269,42 +7032,72 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTargetNavigatorAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTargetNavigatorAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TargetNavigatorCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.TargetNavigatorCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTargetNavigatorClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TargetNavigatorCluster.CLUSTER_ID,
+            65531L,
             readTargetNavigatorAttributeListCommandParams);
     readTargetNavigatorInteractionInfo.put(
         "readAttributeListAttribute", readTargetNavigatorAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTargetNavigatorClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTargetNavigatorClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TargetNavigatorCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TargetNavigatorCluster.CLUSTER_ID,
+            65533L,
             readTargetNavigatorClusterRevisionCommandParams);
     readTargetNavigatorInteractionInfo.put(
         "readClusterRevisionAttribute", readTargetNavigatorClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("targetNavigator", readTargetNavigatorInteractionInfo);
+    return readTargetNavigatorInteractionInfo;
+  }
+
+  private static void readTargetNavigator(
+      ChipClusters.TargetNavigatorCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readTargetNavigatorListAttribute(
+            (ChipClusters.TargetNavigatorCluster.TargetNavigatorListAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readCurrentNavigatorTargetAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.TargetNavigatorCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newTargetNavigatorReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping
+            .DelegatedTargetNavigatorClusterTargetNavigatorListAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedTargetNavigatorClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getTemperatureMeasurementReadAttributeMap() {
     Map<String, InteractionInfo> readTemperatureMeasurementInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readTemperatureMeasurementMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTemperatureMeasurementMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TemperatureMeasurementCluster) cluster)
-                  .readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID,
+            0L,
             readTemperatureMeasurementMeasuredValueCommandParams);
     readTemperatureMeasurementInteractionInfo.put(
         "readMeasuredValueAttribute",
@@ -5312,12 +7105,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTemperatureMeasurementMinMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTemperatureMeasurementMinMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TemperatureMeasurementCluster) cluster)
-                  .readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID,
+            1L,
             readTemperatureMeasurementMinMeasuredValueCommandParams);
     readTemperatureMeasurementInteractionInfo.put(
         "readMinMeasuredValueAttribute",
@@ -5325,12 +7115,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTemperatureMeasurementMaxMeasuredValueCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTemperatureMeasurementMaxMeasuredValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TemperatureMeasurementCluster) cluster)
-                  .readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID,
+            2L,
             readTemperatureMeasurementMaxMeasuredValueCommandParams);
     readTemperatureMeasurementInteractionInfo.put(
         "readMaxMeasuredValueAttribute",
@@ -5338,28 +7125,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTemperatureMeasurementToleranceCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTemperatureMeasurementToleranceAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TemperatureMeasurementCluster) cluster)
-                  .readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID,
+            3L,
             readTemperatureMeasurementToleranceCommandParams);
     readTemperatureMeasurementInteractionInfo.put(
         "readToleranceAttribute", readTemperatureMeasurementToleranceAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTemperatureMeasurementAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTemperatureMeasurementAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TemperatureMeasurementCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.TemperatureMeasurementCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTemperatureMeasurementClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID,
+            65531L,
             readTemperatureMeasurementAttributeListCommandParams);
     readTemperatureMeasurementInteractionInfo.put(
         "readAttributeListAttribute",
@@ -5367,371 +7144,275 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTemperatureMeasurementClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTemperatureMeasurementClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TemperatureMeasurementCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TemperatureMeasurementCluster.CLUSTER_ID,
+            65533L,
             readTemperatureMeasurementClusterRevisionCommandParams);
     readTemperatureMeasurementInteractionInfo.put(
         "readClusterRevisionAttribute",
         readTemperatureMeasurementClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("temperatureMeasurement", readTemperatureMeasurementInteractionInfo);
+    return readTemperatureMeasurementInteractionInfo;
+  }
+
+  private static void readTemperatureMeasurement(
+      ChipClusters.TemperatureMeasurementCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readMinMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readMaxMeasuredValueAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readToleranceAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.TemperatureMeasurementCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newTemperatureMeasurementReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedTemperatureMeasurementClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getTestClusterReadAttributeMap() {
     Map<String, InteractionInfo> readTestClusterInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readTestClusterBooleanCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterBooleanAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readBooleanAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
-            readTestClusterBooleanCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 0L, readTestClusterBooleanCommandParams);
     readTestClusterInteractionInfo.put(
         "readBooleanAttribute", readTestClusterBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterBitmap8CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterBitmap8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readBitmap8Attribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterBitmap8CommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 1L, readTestClusterBitmap8CommandParams);
     readTestClusterInteractionInfo.put(
         "readBitmap8Attribute", readTestClusterBitmap8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterBitmap16CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterBitmap16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readBitmap16Attribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterBitmap16CommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 2L, readTestClusterBitmap16CommandParams);
     readTestClusterInteractionInfo.put(
         "readBitmap16Attribute", readTestClusterBitmap16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterBitmap32CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterBitmap32AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readBitmap32Attribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterBitmap32CommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 3L, readTestClusterBitmap32CommandParams);
     readTestClusterInteractionInfo.put(
         "readBitmap32Attribute", readTestClusterBitmap32AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterBitmap64CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterBitmap64AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readBitmap64Attribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterBitmap64CommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 4L, readTestClusterBitmap64CommandParams);
     readTestClusterInteractionInfo.put(
         "readBitmap64Attribute", readTestClusterBitmap64AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt8uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt8uAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterInt8uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 5L, readTestClusterInt8uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt8uAttribute", readTestClusterInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt16uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt16uAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterInt16uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 6L, readTestClusterInt16uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt16uAttribute", readTestClusterInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt24uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt24uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt24uAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt24uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 7L, readTestClusterInt24uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt24uAttribute", readTestClusterInt24uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt32uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt32uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt32uAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt32uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 8L, readTestClusterInt32uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt32uAttribute", readTestClusterInt32uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt40uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt40uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt40uAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt40uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 9L, readTestClusterInt40uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt40uAttribute", readTestClusterInt40uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt48uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt48uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt48uAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt48uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 10L, readTestClusterInt48uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt48uAttribute", readTestClusterInt48uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt56uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt56uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt56uAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt56uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 11L, readTestClusterInt56uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt56uAttribute", readTestClusterInt56uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt64uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt64uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt64uAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt64uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 12L, readTestClusterInt64uCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt64uAttribute", readTestClusterInt64uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt8sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt8sAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterInt8sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 13L, readTestClusterInt8sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt8sAttribute", readTestClusterInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt16sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt16sAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterInt16sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 14L, readTestClusterInt16sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt16sAttribute", readTestClusterInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt24sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt24sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt24sAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt24sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 15L, readTestClusterInt24sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt24sAttribute", readTestClusterInt24sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt32sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt32sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt32sAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt32sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 16L, readTestClusterInt32sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt32sAttribute", readTestClusterInt32sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt40sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt40sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt40sAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt40sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 17L, readTestClusterInt40sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt40sAttribute", readTestClusterInt40sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt48sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt48sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt48sAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt48sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 18L, readTestClusterInt48sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt48sAttribute", readTestClusterInt48sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt56sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt56sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt56sAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt56sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 19L, readTestClusterInt56sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt56sAttribute", readTestClusterInt56sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterInt64sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterInt64sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readInt64sAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterInt64sCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 20L, readTestClusterInt64sCommandParams);
     readTestClusterInteractionInfo.put(
         "readInt64sAttribute", readTestClusterInt64sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterEnum8CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterEnum8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readEnum8Attribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterEnum8CommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 21L, readTestClusterEnum8CommandParams);
     readTestClusterInteractionInfo.put(
         "readEnum8Attribute", readTestClusterEnum8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterEnum16CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterEnum16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readEnum16Attribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterEnum16CommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 22L, readTestClusterEnum16CommandParams);
     readTestClusterInteractionInfo.put(
         "readEnum16Attribute", readTestClusterEnum16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterFloatSingleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterFloatSingleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readFloatSingleAttribute((ChipClusters.FloatAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedFloatAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            23L,
             readTestClusterFloatSingleCommandParams);
     readTestClusterInteractionInfo.put(
         "readFloatSingleAttribute", readTestClusterFloatSingleAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterFloatDoubleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterFloatDoubleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readFloatDoubleAttribute((ChipClusters.DoubleAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDoubleAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            24L,
             readTestClusterFloatDoubleCommandParams);
     readTestClusterInteractionInfo.put(
         "readFloatDoubleAttribute", readTestClusterFloatDoubleAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterOctetStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readOctetStringAttribute((ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            25L,
             readTestClusterOctetStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readOctetStringAttribute", readTestClusterOctetStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterListInt8uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterListInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readListInt8uAttribute(
-                      (ChipClusters.TestClusterCluster.ListInt8uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedTestClusterClusterListInt8uAttributeCallback(),
-            readTestClusterListInt8uCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 26L, readTestClusterListInt8uCommandParams);
     readTestClusterInteractionInfo.put(
         "readListInt8uAttribute", readTestClusterListInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterListOctetStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterListOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readListOctetStringAttribute(
-                      (ChipClusters.TestClusterCluster.ListOctetStringAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTestClusterClusterListOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            27L,
             readTestClusterListOctetStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readListOctetStringAttribute", readTestClusterListOctetStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterListStructOctetStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterListStructOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readListStructOctetStringAttribute(
-                      (ChipClusters.TestClusterCluster.ListStructOctetStringAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTestClusterClusterListStructOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            28L,
             readTestClusterListStructOctetStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readListStructOctetStringAttribute",
@@ -5739,91 +7420,57 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterLongOctetStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterLongOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readLongOctetStringAttribute(
-                      (ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            29L,
             readTestClusterLongOctetStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readLongOctetStringAttribute", readTestClusterLongOctetStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterCharStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterCharStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readCharStringAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            30L,
             readTestClusterCharStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readCharStringAttribute", readTestClusterCharStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterLongCharStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterLongCharStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readLongCharStringAttribute((ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            31L,
             readTestClusterLongCharStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readLongCharStringAttribute", readTestClusterLongCharStringAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterEpochUsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterEpochUsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readEpochUsAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterEpochUsCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 32L, readTestClusterEpochUsCommandParams);
     readTestClusterInteractionInfo.put(
         "readEpochUsAttribute", readTestClusterEpochUsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterEpochSCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterEpochSAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readEpochSAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
-            readTestClusterEpochSCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 33L, readTestClusterEpochSCommandParams);
     readTestClusterInteractionInfo.put(
         "readEpochSAttribute", readTestClusterEpochSAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterVendorIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterVendorIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readVendorIdAttribute(
-                      (ChipClusters.TestClusterCluster.VendorIdAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterVendorIdCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 34L, readTestClusterVendorIdCommandParams);
     readTestClusterInteractionInfo.put(
         "readVendorIdAttribute", readTestClusterVendorIdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterListNullablesAndOptionalsStructCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterListNullablesAndOptionalsStructAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readListNullablesAndOptionalsStructAttribute(
-                      (ChipClusters.TestClusterCluster
-                              .ListNullablesAndOptionalsStructAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTestClusterClusterListNullablesAndOptionalsStructAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            35L,
             readTestClusterListNullablesAndOptionalsStructCommandParams);
     readTestClusterInteractionInfo.put(
         "readListNullablesAndOptionalsStructAttribute",
@@ -5831,25 +7478,16 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterEnumAttrCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterEnumAttrAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readEnumAttrAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readTestClusterEnumAttrCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 36L, readTestClusterEnumAttrCommandParams);
     readTestClusterInteractionInfo.put(
         "readEnumAttrAttribute", readTestClusterEnumAttrAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterRangeRestrictedInt8uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterRangeRestrictedInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readRangeRestrictedInt8uAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            38L,
             readTestClusterRangeRestrictedInt8uCommandParams);
     readTestClusterInteractionInfo.put(
         "readRangeRestrictedInt8uAttribute",
@@ -5857,13 +7495,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterRangeRestrictedInt8sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterRangeRestrictedInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readRangeRestrictedInt8sAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            39L,
             readTestClusterRangeRestrictedInt8sCommandParams);
     readTestClusterInteractionInfo.put(
         "readRangeRestrictedInt8sAttribute",
@@ -5871,13 +7505,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterRangeRestrictedInt16uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterRangeRestrictedInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readRangeRestrictedInt16uAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            40L,
             readTestClusterRangeRestrictedInt16uCommandParams);
     readTestClusterInteractionInfo.put(
         "readRangeRestrictedInt16uAttribute",
@@ -5885,13 +7515,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterRangeRestrictedInt16sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterRangeRestrictedInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readRangeRestrictedInt16sAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            41L,
             readTestClusterRangeRestrictedInt16sCommandParams);
     readTestClusterInteractionInfo.put(
         "readRangeRestrictedInt16sAttribute",
@@ -5899,16 +7525,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterListLongOctetStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterListLongOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readListLongOctetStringAttribute(
-                      (ChipClusters.TestClusterCluster.ListLongOctetStringAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedTestClusterClusterListLongOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            42L,
             readTestClusterListLongOctetStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readListLongOctetStringAttribute",
@@ -5916,337 +7535,234 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterTimedWriteBooleanCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterTimedWriteBooleanAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readTimedWriteBooleanAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            48L,
             readTestClusterTimedWriteBooleanCommandParams);
     readTestClusterInteractionInfo.put(
         "readTimedWriteBooleanAttribute", readTestClusterTimedWriteBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterUnsupportedCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterUnsupportedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readUnsupportedAttribute((ChipClusters.BooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            255L,
             readTestClusterUnsupportedCommandParams);
     readTestClusterInteractionInfo.put(
         "readUnsupportedAttribute", readTestClusterUnsupportedAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableBooleanCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableBooleanAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableBooleanAttribute(
-                      (ChipClusters.TestClusterCluster.NullableBooleanAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedBooleanAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32768L,
             readTestClusterNullableBooleanCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableBooleanAttribute", readTestClusterNullableBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableBitmap8CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableBitmap8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableBitmap8Attribute(
-                      (ChipClusters.TestClusterCluster.NullableBitmap8AttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32769L,
             readTestClusterNullableBitmap8CommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableBitmap8Attribute", readTestClusterNullableBitmap8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableBitmap16CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableBitmap16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableBitmap16Attribute(
-                      (ChipClusters.TestClusterCluster.NullableBitmap16AttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32770L,
             readTestClusterNullableBitmap16CommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableBitmap16Attribute", readTestClusterNullableBitmap16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableBitmap32CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableBitmap32AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableBitmap32Attribute(
-                      (ChipClusters.TestClusterCluster.NullableBitmap32AttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32771L,
             readTestClusterNullableBitmap32CommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableBitmap32Attribute", readTestClusterNullableBitmap32AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableBitmap64CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableBitmap64AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableBitmap64Attribute(
-                      (ChipClusters.TestClusterCluster.NullableBitmap64AttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32772L,
             readTestClusterNullableBitmap64CommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableBitmap64Attribute", readTestClusterNullableBitmap64AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt8uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt8uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt8uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32773L,
             readTestClusterNullableInt8uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt8uAttribute", readTestClusterNullableInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt16uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt16uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt16uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32774L,
             readTestClusterNullableInt16uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt16uAttribute", readTestClusterNullableInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt24uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt24uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt24uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt24uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32775L,
             readTestClusterNullableInt24uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt24uAttribute", readTestClusterNullableInt24uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt32uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt32uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt32uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt32uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32776L,
             readTestClusterNullableInt32uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt32uAttribute", readTestClusterNullableInt32uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt40uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt40uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt40uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt40uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32777L,
             readTestClusterNullableInt40uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt40uAttribute", readTestClusterNullableInt40uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt48uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt48uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt48uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt48uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32778L,
             readTestClusterNullableInt48uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt48uAttribute", readTestClusterNullableInt48uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt56uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt56uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt56uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt56uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32779L,
             readTestClusterNullableInt56uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt56uAttribute", readTestClusterNullableInt56uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt64uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt64uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt64uAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt64uAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32780L,
             readTestClusterNullableInt64uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt64uAttribute", readTestClusterNullableInt64uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt8sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt8sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt8sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32781L,
             readTestClusterNullableInt8sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt8sAttribute", readTestClusterNullableInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt16sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt16sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt16sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32782L,
             readTestClusterNullableInt16sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt16sAttribute", readTestClusterNullableInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt24sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt24sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt24sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt24sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32783L,
             readTestClusterNullableInt24sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt24sAttribute", readTestClusterNullableInt24sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt32sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt32sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt32sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt32sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32784L,
             readTestClusterNullableInt32sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt32sAttribute", readTestClusterNullableInt32sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt40sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt40sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt40sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt40sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32785L,
             readTestClusterNullableInt40sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt40sAttribute", readTestClusterNullableInt40sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt48sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt48sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt48sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt48sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32786L,
             readTestClusterNullableInt48sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt48sAttribute", readTestClusterNullableInt48sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt56sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt56sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt56sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt56sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32787L,
             readTestClusterNullableInt56sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt56sAttribute", readTestClusterNullableInt56sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableInt64sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableInt64sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableInt64sAttribute(
-                      (ChipClusters.TestClusterCluster.NullableInt64sAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32788L,
             readTestClusterNullableInt64sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableInt64sAttribute", readTestClusterNullableInt64sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableEnum8CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableEnum8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableEnum8Attribute(
-                      (ChipClusters.TestClusterCluster.NullableEnum8AttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32789L,
             readTestClusterNullableEnum8CommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableEnum8Attribute", readTestClusterNullableEnum8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableEnum16CommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableEnum16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableEnum16Attribute(
-                      (ChipClusters.TestClusterCluster.NullableEnum16AttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32790L,
             readTestClusterNullableEnum16CommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableEnum16Attribute", readTestClusterNullableEnum16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableFloatSingleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableFloatSingleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableFloatSingleAttribute(
-                      (ChipClusters.TestClusterCluster.NullableFloatSingleAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedFloatAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32791L,
             readTestClusterNullableFloatSingleCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableFloatSingleAttribute",
@@ -6254,14 +7770,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableFloatDoubleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableFloatDoubleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableFloatDoubleAttribute(
-                      (ChipClusters.TestClusterCluster.NullableFloatDoubleAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedDoubleAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32792L,
             readTestClusterNullableFloatDoubleCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableFloatDoubleAttribute",
@@ -6269,14 +7780,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableOctetStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableOctetStringAttribute(
-                      (ChipClusters.TestClusterCluster.NullableOctetStringAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32793L,
             readTestClusterNullableOctetStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableOctetStringAttribute",
@@ -6284,14 +7790,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableCharStringCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableCharStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableCharStringAttribute(
-                      (ChipClusters.TestClusterCluster.NullableCharStringAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32798L,
             readTestClusterNullableCharStringCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableCharStringAttribute",
@@ -6299,28 +7800,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableEnumAttrCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableEnumAttrAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableEnumAttrAttribute(
-                      (ChipClusters.TestClusterCluster.NullableEnumAttrAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32804L,
             readTestClusterNullableEnumAttrCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableEnumAttrAttribute", readTestClusterNullableEnumAttrAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterNullableRangeRestrictedInt8uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableRangeRestrictedInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableRangeRestrictedInt8uAttribute(
-                      (ChipClusters.TestClusterCluster
-                              .NullableRangeRestrictedInt8uAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32806L,
             readTestClusterNullableRangeRestrictedInt8uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableRangeRestrictedInt8uAttribute",
@@ -6328,15 +7819,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableRangeRestrictedInt8sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableRangeRestrictedInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableRangeRestrictedInt8sAttribute(
-                      (ChipClusters.TestClusterCluster
-                              .NullableRangeRestrictedInt8sAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32807L,
             readTestClusterNullableRangeRestrictedInt8sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableRangeRestrictedInt8sAttribute",
@@ -6344,15 +7829,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableRangeRestrictedInt16uCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableRangeRestrictedInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableRangeRestrictedInt16uAttribute(
-                      (ChipClusters.TestClusterCluster
-                              .NullableRangeRestrictedInt16uAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32808L,
             readTestClusterNullableRangeRestrictedInt16uCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableRangeRestrictedInt16uAttribute",
@@ -6360,15 +7839,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterNullableRangeRestrictedInt16sCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterNullableRangeRestrictedInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readNullableRangeRestrictedInt16sAttribute(
-                      (ChipClusters.TestClusterCluster
-                              .NullableRangeRestrictedInt16sAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32809L,
             readTestClusterNullableRangeRestrictedInt16sCommandParams);
     readTestClusterInteractionInfo.put(
         "readNullableRangeRestrictedInt16sAttribute",
@@ -6376,53 +7849,495 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readTestClusterAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.TestClusterCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping.DelegatedTestClusterClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            65531L,
             readTestClusterAttributeListCommandParams);
     readTestClusterInteractionInfo.put(
         "readAttributeListAttribute", readTestClusterAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readTestClusterClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readTestClusterClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            65533L,
             readTestClusterClusterRevisionCommandParams);
     readTestClusterInteractionInfo.put(
         "readClusterRevisionAttribute", readTestClusterClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("testCluster", readTestClusterInteractionInfo);
+    return readTestClusterInteractionInfo;
+  }
+
+  private static void readTestCluster(
+      ChipClusters.TestClusterCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readBooleanAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readBitmap8Attribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readBitmap16Attribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readBitmap32Attribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readBitmap64Attribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readInt8uAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readInt16uAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readInt24uAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readInt32uAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 9:
+        cluster.readInt40uAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 10:
+        cluster.readInt48uAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readInt56uAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 12:
+        cluster.readInt64uAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 13:
+        cluster.readInt8sAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 14:
+        cluster.readInt16sAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 15:
+        cluster.readInt24sAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readInt32sAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readInt40sAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readInt48sAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 19:
+        cluster.readInt56sAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 20:
+        cluster.readInt64sAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 21:
+        cluster.readEnum8Attribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 22:
+        cluster.readEnum16Attribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readFloatSingleAttribute((ChipClusters.FloatAttributeCallback) callback);
+        break;
+      case 24:
+        cluster.readFloatDoubleAttribute((ChipClusters.DoubleAttributeCallback) callback);
+        break;
+      case 25:
+        cluster.readOctetStringAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 26:
+        cluster.readListInt8uAttribute(
+            (ChipClusters.TestClusterCluster.ListInt8uAttributeCallback) callback);
+        break;
+      case 27:
+        cluster.readListOctetStringAttribute(
+            (ChipClusters.TestClusterCluster.ListOctetStringAttributeCallback) callback);
+        break;
+      case 28:
+        cluster.readListStructOctetStringAttribute(
+            (ChipClusters.TestClusterCluster.ListStructOctetStringAttributeCallback) callback);
+        break;
+      case 29:
+        cluster.readLongOctetStringAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 30:
+        cluster.readCharStringAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 31:
+        cluster.readLongCharStringAttribute((ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 32:
+        cluster.readEpochUsAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 33:
+        cluster.readEpochSAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 34:
+        cluster.readVendorIdAttribute(
+            (ChipClusters.TestClusterCluster.VendorIdAttributeCallback) callback);
+        break;
+      case 35:
+        cluster.readListNullablesAndOptionalsStructAttribute(
+            (ChipClusters.TestClusterCluster.ListNullablesAndOptionalsStructAttributeCallback)
+                callback);
+        break;
+      case 36:
+        cluster.readEnumAttrAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 38:
+        cluster.readRangeRestrictedInt8uAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 39:
+        cluster.readRangeRestrictedInt8sAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 40:
+        cluster.readRangeRestrictedInt16uAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 41:
+        cluster.readRangeRestrictedInt16sAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 42:
+        cluster.readListLongOctetStringAttribute(
+            (ChipClusters.TestClusterCluster.ListLongOctetStringAttributeCallback) callback);
+        break;
+      case 48:
+        cluster.readTimedWriteBooleanAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 255:
+        cluster.readUnsupportedAttribute((ChipClusters.BooleanAttributeCallback) callback);
+        break;
+      case 32768:
+        cluster.readNullableBooleanAttribute(
+            (ChipClusters.TestClusterCluster.NullableBooleanAttributeCallback) callback);
+        break;
+      case 32769:
+        cluster.readNullableBitmap8Attribute(
+            (ChipClusters.TestClusterCluster.NullableBitmap8AttributeCallback) callback);
+        break;
+      case 32770:
+        cluster.readNullableBitmap16Attribute(
+            (ChipClusters.TestClusterCluster.NullableBitmap16AttributeCallback) callback);
+        break;
+      case 32771:
+        cluster.readNullableBitmap32Attribute(
+            (ChipClusters.TestClusterCluster.NullableBitmap32AttributeCallback) callback);
+        break;
+      case 32772:
+        cluster.readNullableBitmap64Attribute(
+            (ChipClusters.TestClusterCluster.NullableBitmap64AttributeCallback) callback);
+        break;
+      case 32773:
+        cluster.readNullableInt8uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt8uAttributeCallback) callback);
+        break;
+      case 32774:
+        cluster.readNullableInt16uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt16uAttributeCallback) callback);
+        break;
+      case 32775:
+        cluster.readNullableInt24uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt24uAttributeCallback) callback);
+        break;
+      case 32776:
+        cluster.readNullableInt32uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt32uAttributeCallback) callback);
+        break;
+      case 32777:
+        cluster.readNullableInt40uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt40uAttributeCallback) callback);
+        break;
+      case 32778:
+        cluster.readNullableInt48uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt48uAttributeCallback) callback);
+        break;
+      case 32779:
+        cluster.readNullableInt56uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt56uAttributeCallback) callback);
+        break;
+      case 32780:
+        cluster.readNullableInt64uAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt64uAttributeCallback) callback);
+        break;
+      case 32781:
+        cluster.readNullableInt8sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt8sAttributeCallback) callback);
+        break;
+      case 32782:
+        cluster.readNullableInt16sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt16sAttributeCallback) callback);
+        break;
+      case 32783:
+        cluster.readNullableInt24sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt24sAttributeCallback) callback);
+        break;
+      case 32784:
+        cluster.readNullableInt32sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt32sAttributeCallback) callback);
+        break;
+      case 32785:
+        cluster.readNullableInt40sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt40sAttributeCallback) callback);
+        break;
+      case 32786:
+        cluster.readNullableInt48sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt48sAttributeCallback) callback);
+        break;
+      case 32787:
+        cluster.readNullableInt56sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt56sAttributeCallback) callback);
+        break;
+      case 32788:
+        cluster.readNullableInt64sAttribute(
+            (ChipClusters.TestClusterCluster.NullableInt64sAttributeCallback) callback);
+        break;
+      case 32789:
+        cluster.readNullableEnum8Attribute(
+            (ChipClusters.TestClusterCluster.NullableEnum8AttributeCallback) callback);
+        break;
+      case 32790:
+        cluster.readNullableEnum16Attribute(
+            (ChipClusters.TestClusterCluster.NullableEnum16AttributeCallback) callback);
+        break;
+      case 32791:
+        cluster.readNullableFloatSingleAttribute(
+            (ChipClusters.TestClusterCluster.NullableFloatSingleAttributeCallback) callback);
+        break;
+      case 32792:
+        cluster.readNullableFloatDoubleAttribute(
+            (ChipClusters.TestClusterCluster.NullableFloatDoubleAttributeCallback) callback);
+        break;
+      case 32793:
+        cluster.readNullableOctetStringAttribute(
+            (ChipClusters.TestClusterCluster.NullableOctetStringAttributeCallback) callback);
+        break;
+      case 32798:
+        cluster.readNullableCharStringAttribute(
+            (ChipClusters.TestClusterCluster.NullableCharStringAttributeCallback) callback);
+        break;
+      case 32804:
+        cluster.readNullableEnumAttrAttribute(
+            (ChipClusters.TestClusterCluster.NullableEnumAttrAttributeCallback) callback);
+        break;
+      case 32806:
+        cluster.readNullableRangeRestrictedInt8uAttribute(
+            (ChipClusters.TestClusterCluster.NullableRangeRestrictedInt8uAttributeCallback)
+                callback);
+        break;
+      case 32807:
+        cluster.readNullableRangeRestrictedInt8sAttribute(
+            (ChipClusters.TestClusterCluster.NullableRangeRestrictedInt8sAttributeCallback)
+                callback);
+        break;
+      case 32808:
+        cluster.readNullableRangeRestrictedInt16uAttribute(
+            (ChipClusters.TestClusterCluster.NullableRangeRestrictedInt16uAttributeCallback)
+                callback);
+        break;
+      case 32809:
+        cluster.readNullableRangeRestrictedInt16sAttribute(
+            (ChipClusters.TestClusterCluster.NullableRangeRestrictedInt16sAttributeCallback)
+                callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.TestClusterCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newTestClusterReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 9:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 13:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 14:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 15:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 19:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 20:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 21:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 22:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedFloatAttributeCallback();
+      case 24:
+        return new ClusterInfoMapping.DelegatedDoubleAttributeCallback();
+      case 25:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 26:
+        return new ClusterInfoMapping.DelegatedTestClusterClusterListInt8uAttributeCallback();
+      case 27:
+        return new ClusterInfoMapping.DelegatedTestClusterClusterListOctetStringAttributeCallback();
+      case 28:
+        return new ClusterInfoMapping
+            .DelegatedTestClusterClusterListStructOctetStringAttributeCallback();
+      case 29:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 30:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 31:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 32:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 33:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 34:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 35:
+        return new ClusterInfoMapping
+            .DelegatedTestClusterClusterListNullablesAndOptionalsStructAttributeCallback();
+      case 36:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 38:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 39:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 40:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 41:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 42:
+        return new ClusterInfoMapping
+            .DelegatedTestClusterClusterListLongOctetStringAttributeCallback();
+      case 48:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 255:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 32768:
+        return new ClusterInfoMapping.DelegatedBooleanAttributeCallback();
+      case 32769:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32770:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32771:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32772:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32773:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32774:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32775:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32776:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32777:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32778:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32779:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32780:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32781:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32782:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32783:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32784:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32785:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32786:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32787:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32788:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32789:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32790:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32791:
+        return new ClusterInfoMapping.DelegatedFloatAttributeCallback();
+      case 32792:
+        return new ClusterInfoMapping.DelegatedDoubleAttributeCallback();
+      case 32793:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 32798:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 32804:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32806:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32807:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32808:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32809:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedTestClusterClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getThermostatReadAttributeMap() {
     Map<String, InteractionInfo> readThermostatInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readThermostatLocalTemperatureCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatLocalTemperatureAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readLocalTemperatureAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            0L,
             readThermostatLocalTemperatureCommandParams);
     readThermostatInteractionInfo.put(
         "readLocalTemperatureAttribute", readThermostatLocalTemperatureAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThermostatAbsMinHeatSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatAbsMinHeatSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readAbsMinHeatSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            3L,
             readThermostatAbsMinHeatSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readAbsMinHeatSetpointLimitAttribute",
@@ -6430,13 +8345,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatAbsMaxHeatSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatAbsMaxHeatSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readAbsMaxHeatSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            4L,
             readThermostatAbsMaxHeatSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readAbsMaxHeatSetpointLimitAttribute",
@@ -6444,13 +8355,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatAbsMinCoolSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatAbsMinCoolSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readAbsMinCoolSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            5L,
             readThermostatAbsMinCoolSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readAbsMinCoolSetpointLimitAttribute",
@@ -6458,13 +8365,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatAbsMaxCoolSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatAbsMaxCoolSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readAbsMaxCoolSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            6L,
             readThermostatAbsMaxCoolSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readAbsMaxCoolSetpointLimitAttribute",
@@ -6472,13 +8375,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatOccupiedCoolingSetpointCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatOccupiedCoolingSetpointAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readOccupiedCoolingSetpointAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            17L,
             readThermostatOccupiedCoolingSetpointCommandParams);
     readThermostatInteractionInfo.put(
         "readOccupiedCoolingSetpointAttribute",
@@ -6486,13 +8385,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatOccupiedHeatingSetpointCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatOccupiedHeatingSetpointAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readOccupiedHeatingSetpointAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            18L,
             readThermostatOccupiedHeatingSetpointCommandParams);
     readThermostatInteractionInfo.put(
         "readOccupiedHeatingSetpointAttribute",
@@ -6500,13 +8395,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatMinHeatSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatMinHeatSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readMinHeatSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            21L,
             readThermostatMinHeatSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readMinHeatSetpointLimitAttribute",
@@ -6514,13 +8405,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatMaxHeatSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatMaxHeatSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readMaxHeatSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            22L,
             readThermostatMaxHeatSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readMaxHeatSetpointLimitAttribute",
@@ -6528,13 +8415,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatMinCoolSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatMinCoolSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readMinCoolSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            23L,
             readThermostatMinCoolSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readMinCoolSetpointLimitAttribute",
@@ -6542,13 +8425,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatMaxCoolSetpointLimitCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatMaxCoolSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readMaxCoolSetpointLimitAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            24L,
             readThermostatMaxCoolSetpointLimitCommandParams);
     readThermostatInteractionInfo.put(
         "readMaxCoolSetpointLimitAttribute",
@@ -6556,13 +8435,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatMinSetpointDeadBandCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatMinSetpointDeadBandAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readMinSetpointDeadBandAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            25L,
             readThermostatMinSetpointDeadBandCommandParams);
     readThermostatInteractionInfo.put(
         "readMinSetpointDeadBandAttribute",
@@ -6570,13 +8445,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatControlSequenceOfOperationCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatControlSequenceOfOperationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readControlSequenceOfOperationAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            27L,
             readThermostatControlSequenceOfOperationCommandParams);
     readThermostatInteractionInfo.put(
         "readControlSequenceOfOperationAttribute",
@@ -6584,37 +8455,23 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatSystemModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatSystemModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readSystemModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readThermostatSystemModeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID, 28L, readThermostatSystemModeCommandParams);
     readThermostatInteractionInfo.put(
         "readSystemModeAttribute", readThermostatSystemModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThermostatStartOfWeekCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatStartOfWeekAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readStartOfWeekAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readThermostatStartOfWeekCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID, 32L, readThermostatStartOfWeekCommandParams);
     readThermostatInteractionInfo.put(
         "readStartOfWeekAttribute", readThermostatStartOfWeekAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThermostatNumberOfWeeklyTransitionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatNumberOfWeeklyTransitionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readNumberOfWeeklyTransitionsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            33L,
             readThermostatNumberOfWeeklyTransitionsCommandParams);
     readThermostatInteractionInfo.put(
         "readNumberOfWeeklyTransitionsAttribute",
@@ -6622,13 +8479,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatNumberOfDailyTransitionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatNumberOfDailyTransitionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readNumberOfDailyTransitionsAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            34L,
             readThermostatNumberOfDailyTransitionsCommandParams);
     readThermostatInteractionInfo.put(
         "readNumberOfDailyTransitionsAttribute",
@@ -6636,41 +8489,159 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThermostatAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ThermostatCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedThermostatClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            65531L,
             readThermostatAttributeListCommandParams);
     readThermostatInteractionInfo.put(
         "readAttributeListAttribute", readThermostatAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThermostatFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            65532L,
             readThermostatFeatureMapCommandParams);
     readThermostatInteractionInfo.put(
         "readFeatureMapAttribute", readThermostatFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThermostatClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            65533L,
             readThermostatClusterRevisionCommandParams);
     readThermostatInteractionInfo.put(
         "readClusterRevisionAttribute", readThermostatClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("thermostat", readThermostatInteractionInfo);
+    return readThermostatInteractionInfo;
+  }
+
+  private static void readThermostat(
+      ChipClusters.ThermostatCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readLocalTemperatureAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readAbsMinHeatSetpointLimitAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readAbsMaxHeatSetpointLimitAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readAbsMinCoolSetpointLimitAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readAbsMaxCoolSetpointLimitAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readOccupiedCoolingSetpointAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readOccupiedHeatingSetpointAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 21:
+        cluster.readMinHeatSetpointLimitAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 22:
+        cluster.readMaxHeatSetpointLimitAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readMinCoolSetpointLimitAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 24:
+        cluster.readMaxCoolSetpointLimitAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 25:
+        cluster.readMinSetpointDeadBandAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 27:
+        cluster.readControlSequenceOfOperationAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 28:
+        cluster.readSystemModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 32:
+        cluster.readStartOfWeekAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 33:
+        cluster.readNumberOfWeeklyTransitionsAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 34:
+        cluster.readNumberOfDailyTransitionsAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ThermostatCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newThermostatReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 21:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 22:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 24:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 25:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 27:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 28:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 32:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 33:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 34:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedThermostatClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getThermostatUserInterfaceConfigurationReadAttributeMap() {
     Map<String, InteractionInfo> readThermostatUserInterfaceConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo>
@@ -6678,13 +8649,9 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThermostatUserInterfaceConfigurationTemperatureDisplayModeAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                      .readTemperatureDisplayModeAttribute(
-                          (ChipClusters.IntegerAttributeCallback) callback);
-                },
-                () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+                0L,
                 readThermostatUserInterfaceConfigurationTemperatureDisplayModeCommandParams);
     readThermostatUserInterfaceConfigurationInteractionInfo.put(
         "readTemperatureDisplayModeAttribute",
@@ -6693,12 +8660,9 @@ public class ClusterReadMapping {
         readThermostatUserInterfaceConfigurationKeypadLockoutCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatUserInterfaceConfigurationKeypadLockoutAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                  .readKeypadLockoutAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+            1L,
             readThermostatUserInterfaceConfigurationKeypadLockoutCommandParams);
     readThermostatUserInterfaceConfigurationInteractionInfo.put(
         "readKeypadLockoutAttribute",
@@ -6708,13 +8672,9 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                      .readScheduleProgrammingVisibilityAttribute(
-                          (ChipClusters.IntegerAttributeCallback) callback);
-                },
-                () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+                2L,
                 readThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityCommandParams);
     readThermostatUserInterfaceConfigurationInteractionInfo.put(
         "readScheduleProgrammingVisibilityAttribute",
@@ -6723,17 +8683,9 @@ public class ClusterReadMapping {
         readThermostatUserInterfaceConfigurationAttributeListCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThermostatUserInterfaceConfigurationAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ThermostatUserInterfaceConfigurationCluster
-                              .AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedThermostatUserInterfaceConfigurationClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+            65531L,
             readThermostatUserInterfaceConfigurationAttributeListCommandParams);
     readThermostatUserInterfaceConfigurationInteractionInfo.put(
         "readAttributeListAttribute",
@@ -6743,43 +8695,82 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThermostatUserInterfaceConfigurationClusterRevisionAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                      .readClusterRevisionAttribute(
-                          (ChipClusters.IntegerAttributeCallback) callback);
-                },
-                () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+                65533L,
                 readThermostatUserInterfaceConfigurationClusterRevisionCommandParams);
     readThermostatUserInterfaceConfigurationInteractionInfo.put(
         "readClusterRevisionAttribute",
         readThermostatUserInterfaceConfigurationClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put(
-        "thermostatUserInterfaceConfiguration",
-        readThermostatUserInterfaceConfigurationInteractionInfo);
+    return readThermostatUserInterfaceConfigurationInteractionInfo;
+  }
+
+  private static void readThermostatUserInterfaceConfiguration(
+      ChipClusters.ThermostatUserInterfaceConfigurationCluster cluster,
+      int attributeId,
+      Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readTemperatureDisplayModeAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readKeypadLockoutAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readScheduleProgrammingVisibilityAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ThermostatUserInterfaceConfigurationCluster.AttributeListAttributeCallback)
+                callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newThermostatUserInterfaceConfigurationReadCallback(
+      int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedThermostatUserInterfaceConfigurationClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getThreadNetworkDiagnosticsReadAttributeMap() {
     Map<String, InteractionInfo> readThreadNetworkDiagnosticsInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsChannelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsChannelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readChannelAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            0L,
             readThreadNetworkDiagnosticsChannelCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readChannelAttribute", readThreadNetworkDiagnosticsChannelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRoutingRoleCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRoutingRoleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRoutingRoleAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            1L,
             readThreadNetworkDiagnosticsRoutingRoleCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRoutingRoleAttribute",
@@ -6787,12 +8778,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsNetworkNameCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsNetworkNameAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readNetworkNameAttribute((ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            2L,
             readThreadNetworkDiagnosticsNetworkNameCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readNetworkNameAttribute",
@@ -6800,24 +8788,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsPanIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsPanIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readPanIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            3L,
             readThreadNetworkDiagnosticsPanIdCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readPanIdAttribute", readThreadNetworkDiagnosticsPanIdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsExtendedPanIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsExtendedPanIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readExtendedPanIdAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            4L,
             readThreadNetworkDiagnosticsExtendedPanIdCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readExtendedPanIdAttribute",
@@ -6825,13 +8807,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsMeshLocalPrefixCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsMeshLocalPrefixAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readMeshLocalPrefixAttribute(
-                      (ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            5L,
             readThreadNetworkDiagnosticsMeshLocalPrefixCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readMeshLocalPrefixAttribute",
@@ -6839,12 +8817,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsOverrunCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsOverrunCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readOverrunCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            6L,
             readThreadNetworkDiagnosticsOverrunCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readOverrunCountAttribute",
@@ -6852,17 +8827,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsNeighborTableListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsNeighborTableListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readNeighborTableListAttribute(
-                      (ChipClusters.ThreadNetworkDiagnosticsCluster
-                              .NeighborTableListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedThreadNetworkDiagnosticsClusterNeighborTableListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            7L,
             readThreadNetworkDiagnosticsNeighborTableListCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readNeighborTableListAttribute",
@@ -6870,16 +8837,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRouteTableListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRouteTableListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRouteTableListAttribute(
-                      (ChipClusters.ThreadNetworkDiagnosticsCluster.RouteTableListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedThreadNetworkDiagnosticsClusterRouteTableListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            8L,
             readThreadNetworkDiagnosticsRouteTableListCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRouteTableListAttribute",
@@ -6887,12 +8847,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsPartitionIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsPartitionIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readPartitionIdAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            9L,
             readThreadNetworkDiagnosticsPartitionIdCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readPartitionIdAttribute",
@@ -6900,24 +8857,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsWeightingCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsWeightingAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readWeightingAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            10L,
             readThreadNetworkDiagnosticsWeightingCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readWeightingAttribute", readThreadNetworkDiagnosticsWeightingAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsDataVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsDataVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readDataVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            11L,
             readThreadNetworkDiagnosticsDataVersionCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readDataVersionAttribute",
@@ -6925,12 +8876,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsStableDataVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsStableDataVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readStableDataVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            12L,
             readThreadNetworkDiagnosticsStableDataVersionCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readStableDataVersionAttribute",
@@ -6938,12 +8886,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsLeaderRouterIdCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsLeaderRouterIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readLeaderRouterIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            13L,
             readThreadNetworkDiagnosticsLeaderRouterIdCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readLeaderRouterIdAttribute",
@@ -6951,12 +8896,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsDetachedRoleCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsDetachedRoleCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readDetachedRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            14L,
             readThreadNetworkDiagnosticsDetachedRoleCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readDetachedRoleCountAttribute",
@@ -6964,12 +8906,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsChildRoleCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsChildRoleCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readChildRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            15L,
             readThreadNetworkDiagnosticsChildRoleCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readChildRoleCountAttribute",
@@ -6977,12 +8916,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRouterRoleCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRouterRoleCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRouterRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            16L,
             readThreadNetworkDiagnosticsRouterRoleCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRouterRoleCountAttribute",
@@ -6990,12 +8926,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsLeaderRoleCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsLeaderRoleCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readLeaderRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            17L,
             readThreadNetworkDiagnosticsLeaderRoleCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readLeaderRoleCountAttribute",
@@ -7003,13 +8936,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsAttachAttemptCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsAttachAttemptCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readAttachAttemptCountAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            18L,
             readThreadNetworkDiagnosticsAttachAttemptCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readAttachAttemptCountAttribute",
@@ -7018,13 +8947,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsPartitionIdChangeCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsPartitionIdChangeCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readPartitionIdChangeCountAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            19L,
             readThreadNetworkDiagnosticsPartitionIdChangeCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readPartitionIdChangeCountAttribute",
@@ -7034,13 +8959,9 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThreadNetworkDiagnosticsBetterPartitionAttachAttemptCountAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                      .readBetterPartitionAttachAttemptCountAttribute(
-                          (ChipClusters.IntegerAttributeCallback) callback);
-                },
-                () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+                20L,
                 readThreadNetworkDiagnosticsBetterPartitionAttachAttemptCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readBetterPartitionAttachAttemptCountAttribute",
@@ -7048,12 +8969,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsParentChangeCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsParentChangeCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readParentChangeCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            21L,
             readThreadNetworkDiagnosticsParentChangeCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readParentChangeCountAttribute",
@@ -7061,12 +8979,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxTotalCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxTotalCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxTotalCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            22L,
             readThreadNetworkDiagnosticsTxTotalCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxTotalCountAttribute",
@@ -7074,12 +8989,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxUnicastCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxUnicastCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxUnicastCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            23L,
             readThreadNetworkDiagnosticsTxUnicastCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxUnicastCountAttribute",
@@ -7087,12 +8999,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxBroadcastCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxBroadcastCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxBroadcastCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            24L,
             readThreadNetworkDiagnosticsTxBroadcastCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxBroadcastCountAttribute",
@@ -7100,12 +9009,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxAckRequestedCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxAckRequestedCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxAckRequestedCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            25L,
             readThreadNetworkDiagnosticsTxAckRequestedCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxAckRequestedCountAttribute",
@@ -7113,12 +9019,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxAckedCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxAckedCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxAckedCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            26L,
             readThreadNetworkDiagnosticsTxAckedCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxAckedCountAttribute",
@@ -7127,13 +9030,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsTxNoAckRequestedCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxNoAckRequestedCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxNoAckRequestedCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            27L,
             readThreadNetworkDiagnosticsTxNoAckRequestedCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxNoAckRequestedCountAttribute",
@@ -7141,12 +9040,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxDataCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxDataCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxDataCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            28L,
             readThreadNetworkDiagnosticsTxDataCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxDataCountAttribute",
@@ -7154,12 +9050,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxDataPollCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxDataPollCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxDataPollCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            29L,
             readThreadNetworkDiagnosticsTxDataPollCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxDataPollCountAttribute",
@@ -7167,12 +9060,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxBeaconCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxBeaconCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxBeaconCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            30L,
             readThreadNetworkDiagnosticsTxBeaconCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxBeaconCountAttribute",
@@ -7181,12 +9071,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsTxBeaconRequestCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxBeaconRequestCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxBeaconRequestCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            31L,
             readThreadNetworkDiagnosticsTxBeaconRequestCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxBeaconRequestCountAttribute",
@@ -7194,12 +9081,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxOtherCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxOtherCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxOtherCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            32L,
             readThreadNetworkDiagnosticsTxOtherCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxOtherCountAttribute",
@@ -7207,12 +9091,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxRetryCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxRetryCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxRetryCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            33L,
             readThreadNetworkDiagnosticsTxRetryCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxRetryCountAttribute",
@@ -7222,13 +9103,9 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThreadNetworkDiagnosticsTxDirectMaxRetryExpiryCountAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                      .readTxDirectMaxRetryExpiryCountAttribute(
-                          (ChipClusters.LongAttributeCallback) callback);
-                },
-                () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+                34L,
                 readThreadNetworkDiagnosticsTxDirectMaxRetryExpiryCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxDirectMaxRetryExpiryCountAttribute",
@@ -7238,13 +9115,9 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThreadNetworkDiagnosticsTxIndirectMaxRetryExpiryCountAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                      .readTxIndirectMaxRetryExpiryCountAttribute(
-                          (ChipClusters.LongAttributeCallback) callback);
-                },
-                () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+                35L,
                 readThreadNetworkDiagnosticsTxIndirectMaxRetryExpiryCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxIndirectMaxRetryExpiryCountAttribute",
@@ -7252,12 +9125,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxErrCcaCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxErrCcaCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxErrCcaCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            36L,
             readThreadNetworkDiagnosticsTxErrCcaCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxErrCcaCountAttribute",
@@ -7265,12 +9135,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsTxErrAbortCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxErrAbortCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxErrAbortCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            37L,
             readThreadNetworkDiagnosticsTxErrAbortCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxErrAbortCountAttribute",
@@ -7279,13 +9146,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsTxErrBusyChannelCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsTxErrBusyChannelCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readTxErrBusyChannelCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            38L,
             readThreadNetworkDiagnosticsTxErrBusyChannelCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readTxErrBusyChannelCountAttribute",
@@ -7293,12 +9156,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxTotalCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxTotalCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxTotalCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            39L,
             readThreadNetworkDiagnosticsRxTotalCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxTotalCountAttribute",
@@ -7306,12 +9166,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxUnicastCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxUnicastCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxUnicastCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            40L,
             readThreadNetworkDiagnosticsRxUnicastCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxUnicastCountAttribute",
@@ -7319,12 +9176,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxBroadcastCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxBroadcastCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxBroadcastCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            41L,
             readThreadNetworkDiagnosticsRxBroadcastCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxBroadcastCountAttribute",
@@ -7332,12 +9186,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxDataCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxDataCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxDataCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            42L,
             readThreadNetworkDiagnosticsRxDataCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxDataCountAttribute",
@@ -7345,12 +9196,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxDataPollCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxDataPollCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxDataPollCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            43L,
             readThreadNetworkDiagnosticsRxDataPollCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxDataPollCountAttribute",
@@ -7358,12 +9206,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxBeaconCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxBeaconCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxBeaconCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            44L,
             readThreadNetworkDiagnosticsRxBeaconCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxBeaconCountAttribute",
@@ -7372,12 +9217,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsRxBeaconRequestCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxBeaconRequestCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxBeaconRequestCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            45L,
             readThreadNetworkDiagnosticsRxBeaconRequestCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxBeaconRequestCountAttribute",
@@ -7385,12 +9227,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxOtherCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxOtherCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxOtherCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            46L,
             readThreadNetworkDiagnosticsRxOtherCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxOtherCountAttribute",
@@ -7399,13 +9238,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsRxAddressFilteredCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxAddressFilteredCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxAddressFilteredCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            47L,
             readThreadNetworkDiagnosticsRxAddressFilteredCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxAddressFilteredCountAttribute",
@@ -7414,13 +9249,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsRxDestAddrFilteredCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxDestAddrFilteredCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxDestAddrFilteredCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            48L,
             readThreadNetworkDiagnosticsRxDestAddrFilteredCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxDestAddrFilteredCountAttribute",
@@ -7428,12 +9259,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxDuplicatedCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxDuplicatedCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxDuplicatedCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            49L,
             readThreadNetworkDiagnosticsRxDuplicatedCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxDuplicatedCountAttribute",
@@ -7441,12 +9269,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxErrNoFrameCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxErrNoFrameCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxErrNoFrameCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            50L,
             readThreadNetworkDiagnosticsRxErrNoFrameCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxErrNoFrameCountAttribute",
@@ -7455,13 +9280,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsRxErrUnknownNeighborCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxErrUnknownNeighborCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxErrUnknownNeighborCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            51L,
             readThreadNetworkDiagnosticsRxErrUnknownNeighborCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxErrUnknownNeighborCountAttribute",
@@ -7470,13 +9291,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsRxErrInvalidSrcAddrCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxErrInvalidSrcAddrCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxErrInvalidSrcAddrCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            52L,
             readThreadNetworkDiagnosticsRxErrInvalidSrcAddrCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxErrInvalidSrcAddrCountAttribute",
@@ -7484,12 +9301,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxErrSecCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxErrSecCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxErrSecCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            53L,
             readThreadNetworkDiagnosticsRxErrSecCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxErrSecCountAttribute",
@@ -7497,12 +9311,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxErrFcsCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxErrFcsCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxErrFcsCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            54L,
             readThreadNetworkDiagnosticsRxErrFcsCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxErrFcsCountAttribute",
@@ -7510,12 +9321,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsRxErrOtherCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsRxErrOtherCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readRxErrOtherCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            55L,
             readThreadNetworkDiagnosticsRxErrOtherCountCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readRxErrOtherCountAttribute",
@@ -7523,12 +9331,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsActiveTimestampCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsActiveTimestampAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readActiveTimestampAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            56L,
             readThreadNetworkDiagnosticsActiveTimestampCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readActiveTimestampAttribute",
@@ -7536,12 +9341,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsPendingTimestampCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsPendingTimestampAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readPendingTimestampAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            57L,
             readThreadNetworkDiagnosticsPendingTimestampCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readPendingTimestampAttribute",
@@ -7549,28 +9351,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsDelayCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsDelayAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readDelayAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            58L,
             readThreadNetworkDiagnosticsDelayCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readDelayAttribute", readThreadNetworkDiagnosticsDelayAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsSecurityPolicyCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsSecurityPolicyAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readSecurityPolicyAttribute(
-                      (ChipClusters.ThreadNetworkDiagnosticsCluster.SecurityPolicyAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedThreadNetworkDiagnosticsClusterSecurityPolicyAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            59L,
             readThreadNetworkDiagnosticsSecurityPolicyCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readSecurityPolicyAttribute",
@@ -7578,12 +9370,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsChannelMaskCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsChannelMaskAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readChannelMaskAttribute((ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            60L,
             readThreadNetworkDiagnosticsChannelMaskCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readChannelMaskAttribute",
@@ -7593,17 +9382,9 @@ public class ClusterReadMapping {
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo
         readThreadNetworkDiagnosticsOperationalDatasetComponentsAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                      .readOperationalDatasetComponentsAttribute(
-                          (ChipClusters.ThreadNetworkDiagnosticsCluster
-                                  .OperationalDatasetComponentsAttributeCallback)
-                              callback);
-                },
-                () ->
-                    new ClusterInfoMapping
-                        .DelegatedThreadNetworkDiagnosticsClusterOperationalDatasetComponentsAttributeCallback(),
+            ReadAttribute.newInteractionInfo(
+                ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+                61L,
                 readThreadNetworkDiagnosticsOperationalDatasetComponentsCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readOperationalDatasetComponentsAttribute",
@@ -7612,17 +9393,9 @@ public class ClusterReadMapping {
         readThreadNetworkDiagnosticsActiveNetworkFaultsListCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsActiveNetworkFaultsListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readActiveNetworkFaultsListAttribute(
-                      (ChipClusters.ThreadNetworkDiagnosticsCluster
-                              .ActiveNetworkFaultsListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedThreadNetworkDiagnosticsClusterActiveNetworkFaultsListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            62L,
             readThreadNetworkDiagnosticsActiveNetworkFaultsListCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readActiveNetworkFaultsListAttribute",
@@ -7630,16 +9403,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.ThreadNetworkDiagnosticsCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedThreadNetworkDiagnosticsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            65531L,
             readThreadNetworkDiagnosticsAttributeListCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readAttributeListAttribute",
@@ -7647,67 +9413,448 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            65532L,
             readThreadNetworkDiagnosticsFeatureMapCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readFeatureMapAttribute", readThreadNetworkDiagnosticsFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readThreadNetworkDiagnosticsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readThreadNetworkDiagnosticsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThreadNetworkDiagnosticsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.ThreadNetworkDiagnosticsCluster.CLUSTER_ID,
+            65533L,
             readThreadNetworkDiagnosticsClusterRevisionCommandParams);
     readThreadNetworkDiagnosticsInteractionInfo.put(
         "readClusterRevisionAttribute",
         readThreadNetworkDiagnosticsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("threadNetworkDiagnostics", readThreadNetworkDiagnosticsInteractionInfo);
+    return readThreadNetworkDiagnosticsInteractionInfo;
+  }
+
+  private static void readThreadNetworkDiagnostics(
+      ChipClusters.ThreadNetworkDiagnosticsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readChannelAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readRoutingRoleAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readNetworkNameAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readPanIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readExtendedPanIdAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readMeshLocalPrefixAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readOverrunCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readNeighborTableListAttribute(
+            (ChipClusters.ThreadNetworkDiagnosticsCluster.NeighborTableListAttributeCallback)
+                callback);
+        break;
+      case 8:
+        cluster.readRouteTableListAttribute(
+            (ChipClusters.ThreadNetworkDiagnosticsCluster.RouteTableListAttributeCallback)
+                callback);
+        break;
+      case 9:
+        cluster.readPartitionIdAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 10:
+        cluster.readWeightingAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readDataVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 12:
+        cluster.readStableDataVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 13:
+        cluster.readLeaderRouterIdAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 14:
+        cluster.readDetachedRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 15:
+        cluster.readChildRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 16:
+        cluster.readRouterRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readLeaderRoleCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readAttachAttemptCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 19:
+        cluster.readPartitionIdChangeCountAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 20:
+        cluster.readBetterPartitionAttachAttemptCountAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 21:
+        cluster.readParentChangeCountAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 22:
+        cluster.readTxTotalCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readTxUnicastCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 24:
+        cluster.readTxBroadcastCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 25:
+        cluster.readTxAckRequestedCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 26:
+        cluster.readTxAckedCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 27:
+        cluster.readTxNoAckRequestedCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 28:
+        cluster.readTxDataCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 29:
+        cluster.readTxDataPollCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 30:
+        cluster.readTxBeaconCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 31:
+        cluster.readTxBeaconRequestCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 32:
+        cluster.readTxOtherCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 33:
+        cluster.readTxRetryCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 34:
+        cluster.readTxDirectMaxRetryExpiryCountAttribute(
+            (ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 35:
+        cluster.readTxIndirectMaxRetryExpiryCountAttribute(
+            (ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 36:
+        cluster.readTxErrCcaCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 37:
+        cluster.readTxErrAbortCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 38:
+        cluster.readTxErrBusyChannelCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 39:
+        cluster.readRxTotalCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 40:
+        cluster.readRxUnicastCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 41:
+        cluster.readRxBroadcastCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 42:
+        cluster.readRxDataCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 43:
+        cluster.readRxDataPollCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 44:
+        cluster.readRxBeaconCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 45:
+        cluster.readRxBeaconRequestCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 46:
+        cluster.readRxOtherCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 47:
+        cluster.readRxAddressFilteredCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 48:
+        cluster.readRxDestAddrFilteredCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 49:
+        cluster.readRxDuplicatedCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 50:
+        cluster.readRxErrNoFrameCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 51:
+        cluster.readRxErrUnknownNeighborCountAttribute(
+            (ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 52:
+        cluster.readRxErrInvalidSrcAddrCountAttribute(
+            (ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 53:
+        cluster.readRxErrSecCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 54:
+        cluster.readRxErrFcsCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 55:
+        cluster.readRxErrOtherCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 56:
+        cluster.readActiveTimestampAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 57:
+        cluster.readPendingTimestampAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 58:
+        cluster.readDelayAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 59:
+        cluster.readSecurityPolicyAttribute(
+            (ChipClusters.ThreadNetworkDiagnosticsCluster.SecurityPolicyAttributeCallback)
+                callback);
+        break;
+      case 60:
+        cluster.readChannelMaskAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 61:
+        cluster.readOperationalDatasetComponentsAttribute(
+            (ChipClusters.ThreadNetworkDiagnosticsCluster.OperationalDatasetComponentsAttributeCallback)
+                callback);
+        break;
+      case 62:
+        cluster.readActiveNetworkFaultsListAttribute(
+            (ChipClusters.ThreadNetworkDiagnosticsCluster.ActiveNetworkFaultsListAttributeCallback)
+                callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.ThreadNetworkDiagnosticsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newThreadNetworkDiagnosticsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping
+            .DelegatedThreadNetworkDiagnosticsClusterNeighborTableListAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping
+            .DelegatedThreadNetworkDiagnosticsClusterRouteTableListAttributeCallback();
+      case 9:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 13:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 14:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 15:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 19:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 20:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 21:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 22:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 24:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 25:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 26:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 27:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 28:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 29:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 30:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 31:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 32:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 33:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 34:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 35:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 36:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 37:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 38:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 39:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 40:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 41:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 42:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 43:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 44:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 45:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 46:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 47:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 48:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 49:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 50:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 51:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 52:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 53:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 54:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 55:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 56:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 57:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 58:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 59:
+        return new ClusterInfoMapping
+            .DelegatedThreadNetworkDiagnosticsClusterSecurityPolicyAttributeCallback();
+      case 60:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 61:
+        return new ClusterInfoMapping
+            .DelegatedThreadNetworkDiagnosticsClusterOperationalDatasetComponentsAttributeCallback();
+      case 62:
+        return new ClusterInfoMapping
+            .DelegatedThreadNetworkDiagnosticsClusterActiveNetworkFaultsListAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedThreadNetworkDiagnosticsClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getUserLabelReadAttributeMap() {
     Map<String, InteractionInfo> readUserLabelInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readUserLabelLabelListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readUserLabelLabelListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.UserLabelCluster) cluster)
-                  .readLabelListAttribute(
-                      (ChipClusters.UserLabelCluster.LabelListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedUserLabelClusterLabelListAttributeCallback(),
-            readUserLabelLabelListCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.UserLabelCluster.CLUSTER_ID, 0L, readUserLabelLabelListCommandParams);
     readUserLabelInteractionInfo.put(
         "readLabelListAttribute", readUserLabelLabelListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readUserLabelClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readUserLabelClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.UserLabelCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.UserLabelCluster.CLUSTER_ID,
+            65533L,
             readUserLabelClusterRevisionCommandParams);
     readUserLabelInteractionInfo.put(
         "readClusterRevisionAttribute", readUserLabelClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("userLabel", readUserLabelInteractionInfo);
+    return readUserLabelInteractionInfo;
+  }
+
+  private static void readUserLabel(
+      ChipClusters.UserLabelCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readLabelListAttribute(
+            (ChipClusters.UserLabelCluster.LabelListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newUserLabelReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedUserLabelClusterLabelListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getWakeOnLanReadAttributeMap() {
     Map<String, InteractionInfo> readWakeOnLanInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readWakeOnLanWakeOnLanMacAddressCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWakeOnLanWakeOnLanMacAddressAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WakeOnLanCluster) cluster)
-                  .readWakeOnLanMacAddressAttribute(
-                      (ChipClusters.CharStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedCharStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WakeOnLanCluster.CLUSTER_ID,
+            0L,
             readWakeOnLanWakeOnLanMacAddressCommandParams);
     readWakeOnLanInteractionInfo.put(
         "readWakeOnLanMacAddressAttribute",
@@ -7715,51 +9862,73 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWakeOnLanAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWakeOnLanAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WakeOnLanCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.WakeOnLanCluster.AttributeListAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedWakeOnLanClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WakeOnLanCluster.CLUSTER_ID,
+            65531L,
             readWakeOnLanAttributeListCommandParams);
     readWakeOnLanInteractionInfo.put(
         "readAttributeListAttribute", readWakeOnLanAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWakeOnLanClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWakeOnLanClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WakeOnLanCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WakeOnLanCluster.CLUSTER_ID,
+            65533L,
             readWakeOnLanClusterRevisionCommandParams);
     readWakeOnLanInteractionInfo.put(
         "readClusterRevisionAttribute", readWakeOnLanClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("wakeOnLan", readWakeOnLanInteractionInfo);
+    return readWakeOnLanInteractionInfo;
+  }
+
+  private static void readWakeOnLan(
+      ChipClusters.WakeOnLanCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readWakeOnLanMacAddressAttribute(
+            (ChipClusters.CharStringAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.WakeOnLanCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newWakeOnLanReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedCharStringAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping.DelegatedWakeOnLanClusterAttributeListAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getWiFiNetworkDiagnosticsReadAttributeMap() {
     Map<String, InteractionInfo> readWiFiNetworkDiagnosticsInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsBssidCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsBssidAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readBssidAttribute((ChipClusters.OctetStringAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedOctetStringAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            0L,
             readWiFiNetworkDiagnosticsBssidCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readBssidAttribute", readWiFiNetworkDiagnosticsBssidAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsSecurityTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsSecurityTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readSecurityTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            1L,
             readWiFiNetworkDiagnosticsSecurityTypeCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readSecurityTypeAttribute",
@@ -7767,24 +9936,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsWiFiVersionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsWiFiVersionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readWiFiVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            2L,
             readWiFiNetworkDiagnosticsWiFiVersionCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readWiFiVersionAttribute", readWiFiNetworkDiagnosticsWiFiVersionAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsChannelNumberCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsChannelNumberAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readChannelNumberAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            3L,
             readWiFiNetworkDiagnosticsChannelNumberCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readChannelNumberAttribute",
@@ -7792,24 +9955,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsRssiCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsRssiAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readRssiAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            4L,
             readWiFiNetworkDiagnosticsRssiCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readRssiAttribute", readWiFiNetworkDiagnosticsRssiAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsBeaconLostCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsBeaconLostCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readBeaconLostCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            5L,
             readWiFiNetworkDiagnosticsBeaconLostCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readBeaconLostCountAttribute",
@@ -7817,12 +9974,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsBeaconRxCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsBeaconRxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readBeaconRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            6L,
             readWiFiNetworkDiagnosticsBeaconRxCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readBeaconRxCountAttribute",
@@ -7831,13 +9985,9 @@ public class ClusterReadMapping {
         readWiFiNetworkDiagnosticsPacketMulticastRxCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsPacketMulticastRxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readPacketMulticastRxCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            7L,
             readWiFiNetworkDiagnosticsPacketMulticastRxCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readPacketMulticastRxCountAttribute",
@@ -7846,13 +9996,9 @@ public class ClusterReadMapping {
         readWiFiNetworkDiagnosticsPacketMulticastTxCountCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsPacketMulticastTxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readPacketMulticastTxCountAttribute(
-                      (ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            8L,
             readWiFiNetworkDiagnosticsPacketMulticastTxCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readPacketMulticastTxCountAttribute",
@@ -7860,12 +10006,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsPacketUnicastRxCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsPacketUnicastRxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readPacketUnicastRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            9L,
             readWiFiNetworkDiagnosticsPacketUnicastRxCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readPacketUnicastRxCountAttribute",
@@ -7873,12 +10016,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsPacketUnicastTxCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsPacketUnicastTxCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readPacketUnicastTxCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            10L,
             readWiFiNetworkDiagnosticsPacketUnicastTxCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readPacketUnicastTxCountAttribute",
@@ -7886,12 +10026,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsCurrentMaxRateCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsCurrentMaxRateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readCurrentMaxRateAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            11L,
             readWiFiNetworkDiagnosticsCurrentMaxRateCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readCurrentMaxRateAttribute",
@@ -7899,12 +10036,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsOverrunCountCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsOverrunCountAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readOverrunCountAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            12L,
             readWiFiNetworkDiagnosticsOverrunCountCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readOverrunCountAttribute",
@@ -7912,16 +10046,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.WiFiNetworkDiagnosticsCluster.AttributeListAttributeCallback)
-                          callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedWiFiNetworkDiagnosticsClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            65531L,
             readWiFiNetworkDiagnosticsAttributeListCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readAttributeListAttribute",
@@ -7929,53 +10056,137 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            65532L,
             readWiFiNetworkDiagnosticsFeatureMapCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readFeatureMapAttribute", readWiFiNetworkDiagnosticsFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWiFiNetworkDiagnosticsClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWiFiNetworkDiagnosticsClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WiFiNetworkDiagnosticsCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WiFiNetworkDiagnosticsCluster.CLUSTER_ID,
+            65533L,
             readWiFiNetworkDiagnosticsClusterRevisionCommandParams);
     readWiFiNetworkDiagnosticsInteractionInfo.put(
         "readClusterRevisionAttribute",
         readWiFiNetworkDiagnosticsClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("wiFiNetworkDiagnostics", readWiFiNetworkDiagnosticsInteractionInfo);
+    return readWiFiNetworkDiagnosticsInteractionInfo;
+  }
+
+  private static void readWiFiNetworkDiagnostics(
+      ChipClusters.WiFiNetworkDiagnosticsCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readBssidAttribute((ChipClusters.OctetStringAttributeCallback) callback);
+        break;
+      case 1:
+        cluster.readSecurityTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 2:
+        cluster.readWiFiVersionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readChannelNumberAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readRssiAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 5:
+        cluster.readBeaconLostCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 6:
+        cluster.readBeaconRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readPacketMulticastRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readPacketMulticastTxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 9:
+        cluster.readPacketUnicastRxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 10:
+        cluster.readPacketUnicastTxCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readCurrentMaxRateAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 12:
+        cluster.readOverrunCountAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.WiFiNetworkDiagnosticsCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newWiFiNetworkDiagnosticsReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedOctetStringAttributeCallback();
+      case 1:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 2:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 5:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 6:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 9:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedWiFiNetworkDiagnosticsClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getWindowCoveringReadAttributeMap() {
     Map<String, InteractionInfo> readWindowCoveringInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> readWindowCoveringTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
-            readWindowCoveringTypeCommandParams);
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID, 0L, readWindowCoveringTypeCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readTypeAttribute", readWindowCoveringTypeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWindowCoveringCurrentPositionLiftCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringCurrentPositionLiftAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readCurrentPositionLiftAttribute(
-                      (ChipClusters.WindowCoveringCluster.CurrentPositionLiftAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            3L,
             readWindowCoveringCurrentPositionLiftCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readCurrentPositionLiftAttribute",
@@ -7983,14 +10194,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringCurrentPositionTiltCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringCurrentPositionTiltAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readCurrentPositionTiltAttribute(
-                      (ChipClusters.WindowCoveringCluster.CurrentPositionTiltAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            4L,
             readWindowCoveringCurrentPositionTiltCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readCurrentPositionTiltAttribute",
@@ -7998,27 +10204,18 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringConfigStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringConfigStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readConfigStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            7L,
             readWindowCoveringConfigStatusCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readConfigStatusAttribute", readWindowCoveringConfigStatusAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWindowCoveringCurrentPositionLiftPercentageCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringCurrentPositionLiftPercentageAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readCurrentPositionLiftPercentageAttribute(
-                      (ChipClusters.WindowCoveringCluster
-                              .CurrentPositionLiftPercentageAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            8L,
             readWindowCoveringCurrentPositionLiftPercentageCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readCurrentPositionLiftPercentageAttribute",
@@ -8026,15 +10223,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringCurrentPositionTiltPercentageCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringCurrentPositionTiltPercentageAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readCurrentPositionTiltPercentageAttribute(
-                      (ChipClusters.WindowCoveringCluster
-                              .CurrentPositionTiltPercentageAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            9L,
             readWindowCoveringCurrentPositionTiltPercentageCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readCurrentPositionTiltPercentageAttribute",
@@ -8042,12 +10233,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringOperationalStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringOperationalStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readOperationalStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            10L,
             readWindowCoveringOperationalStatusCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readOperationalStatusAttribute",
@@ -8056,15 +10244,9 @@ public class ClusterReadMapping {
         readWindowCoveringTargetPositionLiftPercent100thsCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringTargetPositionLiftPercent100thsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readTargetPositionLiftPercent100thsAttribute(
-                      (ChipClusters.WindowCoveringCluster
-                              .TargetPositionLiftPercent100thsAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            11L,
             readWindowCoveringTargetPositionLiftPercent100thsCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readTargetPositionLiftPercent100thsAttribute",
@@ -8073,15 +10255,9 @@ public class ClusterReadMapping {
         readWindowCoveringTargetPositionTiltPercent100thsCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringTargetPositionTiltPercent100thsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readTargetPositionTiltPercent100thsAttribute(
-                      (ChipClusters.WindowCoveringCluster
-                              .TargetPositionTiltPercent100thsAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            12L,
             readWindowCoveringTargetPositionTiltPercent100thsCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readTargetPositionTiltPercent100thsAttribute",
@@ -8089,12 +10265,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringEndProductTypeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringEndProductTypeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readEndProductTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            13L,
             readWindowCoveringEndProductTypeCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readEndProductTypeAttribute", readWindowCoveringEndProductTypeAttributeInteractionInfo);
@@ -8102,15 +10275,9 @@ public class ClusterReadMapping {
         readWindowCoveringCurrentPositionLiftPercent100thsCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringCurrentPositionLiftPercent100thsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readCurrentPositionLiftPercent100thsAttribute(
-                      (ChipClusters.WindowCoveringCluster
-                              .CurrentPositionLiftPercent100thsAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            14L,
             readWindowCoveringCurrentPositionLiftPercent100thsCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readCurrentPositionLiftPercent100thsAttribute",
@@ -8119,15 +10286,9 @@ public class ClusterReadMapping {
         readWindowCoveringCurrentPositionTiltPercent100thsCommandParams =
             new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringCurrentPositionTiltPercent100thsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readCurrentPositionTiltPercent100thsAttribute(
-                      (ChipClusters.WindowCoveringCluster
-                              .CurrentPositionTiltPercent100thsAttributeCallback)
-                          callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            15L,
             readWindowCoveringCurrentPositionTiltPercent100thsCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readCurrentPositionTiltPercent100thsAttribute",
@@ -8135,13 +10296,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringInstalledOpenLimitLiftCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringInstalledOpenLimitLiftAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readInstalledOpenLimitLiftAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            16L,
             readWindowCoveringInstalledOpenLimitLiftCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readInstalledOpenLimitLiftAttribute",
@@ -8149,13 +10306,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringInstalledClosedLimitLiftCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringInstalledClosedLimitLiftAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readInstalledClosedLimitLiftAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            17L,
             readWindowCoveringInstalledClosedLimitLiftCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readInstalledClosedLimitLiftAttribute",
@@ -8163,13 +10316,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringInstalledOpenLimitTiltCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringInstalledOpenLimitTiltAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readInstalledOpenLimitTiltAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            18L,
             readWindowCoveringInstalledOpenLimitTiltCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readInstalledOpenLimitTiltAttribute",
@@ -8177,13 +10326,9 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringInstalledClosedLimitTiltCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringInstalledClosedLimitTiltAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readInstalledClosedLimitTiltAttribute(
-                      (ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            19L,
             readWindowCoveringInstalledClosedLimitTiltCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readInstalledClosedLimitTiltAttribute",
@@ -8191,67 +10336,560 @@ public class ClusterReadMapping {
     Map<String, CommandParameterInfo> readWindowCoveringModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            23L,
             readWindowCoveringModeCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readModeAttribute", readWindowCoveringModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWindowCoveringSafetyStatusCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringSafetyStatusAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readSafetyStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            26L,
             readWindowCoveringSafetyStatusCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readSafetyStatusAttribute", readWindowCoveringSafetyStatusAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWindowCoveringAttributeListCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringAttributeListAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readAttributeListAttribute(
-                      (ChipClusters.WindowCoveringCluster.AttributeListAttributeCallback) callback);
-            },
-            () ->
-                new ClusterInfoMapping
-                    .DelegatedWindowCoveringClusterAttributeListAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            65531L,
             readWindowCoveringAttributeListCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readAttributeListAttribute", readWindowCoveringAttributeListAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWindowCoveringFeatureMapCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringFeatureMapAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedLongAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            65532L,
             readWindowCoveringFeatureMapCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readFeatureMapAttribute", readWindowCoveringFeatureMapAttributeInteractionInfo);
     Map<String, CommandParameterInfo> readWindowCoveringClusterRevisionCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
     InteractionInfo readWindowCoveringClusterRevisionAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
-            },
-            () -> new ClusterInfoMapping.DelegatedIntegerAttributeCallback(),
+        ReadAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            65533L,
             readWindowCoveringClusterRevisionCommandParams);
     readWindowCoveringInteractionInfo.put(
         "readClusterRevisionAttribute", readWindowCoveringClusterRevisionAttributeInteractionInfo);
-    readAttributeMap.put("windowCovering", readWindowCoveringInteractionInfo);
-    return readAttributeMap;
+    return readWindowCoveringInteractionInfo;
+  }
+
+  private static void readWindowCovering(
+      ChipClusters.WindowCoveringCluster cluster, int attributeId, Object callback) {
+    switch (attributeId) {
+      case 0:
+        cluster.readTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 3:
+        cluster.readCurrentPositionLiftAttribute(
+            (ChipClusters.WindowCoveringCluster.CurrentPositionLiftAttributeCallback) callback);
+        break;
+      case 4:
+        cluster.readCurrentPositionTiltAttribute(
+            (ChipClusters.WindowCoveringCluster.CurrentPositionTiltAttributeCallback) callback);
+        break;
+      case 7:
+        cluster.readConfigStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 8:
+        cluster.readCurrentPositionLiftPercentageAttribute(
+            (ChipClusters.WindowCoveringCluster.CurrentPositionLiftPercentageAttributeCallback)
+                callback);
+        break;
+      case 9:
+        cluster.readCurrentPositionTiltPercentageAttribute(
+            (ChipClusters.WindowCoveringCluster.CurrentPositionTiltPercentageAttributeCallback)
+                callback);
+        break;
+      case 10:
+        cluster.readOperationalStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 11:
+        cluster.readTargetPositionLiftPercent100thsAttribute(
+            (ChipClusters.WindowCoveringCluster.TargetPositionLiftPercent100thsAttributeCallback)
+                callback);
+        break;
+      case 12:
+        cluster.readTargetPositionTiltPercent100thsAttribute(
+            (ChipClusters.WindowCoveringCluster.TargetPositionTiltPercent100thsAttributeCallback)
+                callback);
+        break;
+      case 13:
+        cluster.readEndProductTypeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 14:
+        cluster.readCurrentPositionLiftPercent100thsAttribute(
+            (ChipClusters.WindowCoveringCluster.CurrentPositionLiftPercent100thsAttributeCallback)
+                callback);
+        break;
+      case 15:
+        cluster.readCurrentPositionTiltPercent100thsAttribute(
+            (ChipClusters.WindowCoveringCluster.CurrentPositionTiltPercent100thsAttributeCallback)
+                callback);
+        break;
+      case 16:
+        cluster.readInstalledOpenLimitLiftAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 17:
+        cluster.readInstalledClosedLimitLiftAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 18:
+        cluster.readInstalledOpenLimitTiltAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 19:
+        cluster.readInstalledClosedLimitTiltAttribute(
+            (ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 23:
+        cluster.readModeAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 26:
+        cluster.readSafetyStatusAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      case 65531:
+        cluster.readAttributeListAttribute(
+            (ChipClusters.WindowCoveringCluster.AttributeListAttributeCallback) callback);
+        break;
+      case 65532:
+        cluster.readFeatureMapAttribute((ChipClusters.LongAttributeCallback) callback);
+        break;
+      case 65533:
+        cluster.readClusterRevisionAttribute((ChipClusters.IntegerAttributeCallback) callback);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static DelegatedClusterCallback newWindowCoveringReadCallback(int attributeId) {
+    switch (attributeId) {
+      case 0:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 3:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 4:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 7:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 8:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 9:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 10:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 11:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 12:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 13:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 14:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 15:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 16:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 17:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 18:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 19:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 23:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 26:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      case 65531:
+        return new ClusterInfoMapping
+            .DelegatedWindowCoveringClusterAttributeListAttributeCallback();
+      case 65532:
+        return new ClusterInfoMapping.DelegatedLongAttributeCallback();
+      case 65533:
+        return new ClusterInfoMapping.DelegatedIntegerAttributeCallback();
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  /**
+   * Reads one attribute and supplies the callback for it. One class serves every attribute of every
+   * cluster, where each attribute used to take two lambda classes of its own.
+   */
+  private static final class ReadAttribute
+      implements InteractionInfo.PositionalCommandFunction, Supplier<DelegatedClusterCallback> {
+    private final int clusterId;
+    private final int attributeId;
+
+    private ReadAttribute(long clusterId, long attributeId) {
+      this.clusterId = (int) clusterId;
+      this.attributeId = (int) attributeId;
+    }
+
+    static InteractionInfo newInteractionInfo(
+        long clusterId, long attributeId, Map<String, CommandParameterInfo> commandParams) {
+      ReadAttribute readAttribute = new ReadAttribute(clusterId, attributeId);
+      return InteractionInfo.positional(readAttribute, readAttribute, commandParams);
+    }
+
+    @Override
+    public void invokeCommand(
+        ChipClusters.BaseChipCluster cluster, Object callback, Object[] commandArguments) {
+      switch (clusterId) {
+        case 31:
+          readAccessControl((ChipClusters.AccessControlCluster) cluster, attributeId, callback);
+          break;
+        case 1294:
+          readAccountLogin((ChipClusters.AccountLoginCluster) cluster, attributeId, callback);
+          break;
+        case 60:
+          readAdministratorCommissioning(
+              (ChipClusters.AdministratorCommissioningCluster) cluster, attributeId, callback);
+          break;
+        case 1293:
+          readApplicationBasic(
+              (ChipClusters.ApplicationBasicCluster) cluster, attributeId, callback);
+          break;
+        case 1292:
+          readApplicationLauncher(
+              (ChipClusters.ApplicationLauncherCluster) cluster, attributeId, callback);
+          break;
+        case 1291:
+          readAudioOutput((ChipClusters.AudioOutputCluster) cluster, attributeId, callback);
+          break;
+        case 259:
+          readBarrierControl((ChipClusters.BarrierControlCluster) cluster, attributeId, callback);
+          break;
+        case 40:
+          readBasic((ChipClusters.BasicCluster) cluster, attributeId, callback);
+          break;
+        case 15:
+          readBinaryInputBasic(
+              (ChipClusters.BinaryInputBasicCluster) cluster, attributeId, callback);
+          break;
+        case 30:
+          readBinding((ChipClusters.BindingCluster) cluster, attributeId, callback);
+          break;
+        case 69:
+          readBooleanState((ChipClusters.BooleanStateCluster) cluster, attributeId, callback);
+          break;
+        case 37:
+          readBridgedActions((ChipClusters.BridgedActionsCluster) cluster, attributeId, callback);
+          break;
+        case 57:
+          readBridgedDeviceBasic(
+              (ChipClusters.BridgedDeviceBasicCluster) cluster, attributeId, callback);
+          break;
+        case 1284:
+          readChannel((ChipClusters.ChannelCluster) cluster, attributeId, callback);
+          break;
+        case 768:
+          readColorControl((ChipClusters.ColorControlCluster) cluster, attributeId, callback);
+          break;
+        case 1290:
+          readContentLauncher((ChipClusters.ContentLauncherCluster) cluster, attributeId, callback);
+          break;
+        case 29:
+          readDescriptor((ChipClusters.DescriptorCluster) cluster, attributeId, callback);
+          break;
+        case 50:
+          readDiagnosticLogs((ChipClusters.DiagnosticLogsCluster) cluster, attributeId, callback);
+          break;
+        case 257:
+          readDoorLock((ChipClusters.DoorLockCluster) cluster, attributeId, callback);
+          break;
+        case 2820:
+          readElectricalMeasurement(
+              (ChipClusters.ElectricalMeasurementCluster) cluster, attributeId, callback);
+          break;
+        case 55:
+          readEthernetNetworkDiagnostics(
+              (ChipClusters.EthernetNetworkDiagnosticsCluster) cluster, attributeId, callback);
+          break;
+        case 64:
+          readFixedLabel((ChipClusters.FixedLabelCluster) cluster, attributeId, callback);
+          break;
+        case 1028:
+          readFlowMeasurement((ChipClusters.FlowMeasurementCluster) cluster, attributeId, callback);
+          break;
+        case 48:
+          readGeneralCommissioning(
+              (ChipClusters.GeneralCommissioningCluster) cluster, attributeId, callback);
+          break;
+        case 51:
+          readGeneralDiagnostics(
+              (ChipClusters.GeneralDiagnosticsCluster) cluster, attributeId, callback);
+          break;
+        case 63:
+          readGroupKeyManagement(
+              (ChipClusters.GroupKeyManagementCluster) cluster, attributeId, callback);
+          break;
+        case 4:
+          readGroups((ChipClusters.GroupsCluster) cluster, attributeId, callback);
+          break;
+        case 3:
+          readIdentify((ChipClusters.IdentifyCluster) cluster, attributeId, callback);
+          break;
+        case 1024:
+          readIlluminanceMeasurement(
+              (ChipClusters.IlluminanceMeasurementCluster) cluster, attributeId, callback);
+          break;
+        case 1289:
+          readKeypadInput((ChipClusters.KeypadInputCluster) cluster, attributeId, callback);
+          break;
+        case 8:
+          readLevelControl((ChipClusters.LevelControlCluster) cluster, attributeId, callback);
+          break;
+        case 43:
+          readLocalizationConfiguration(
+              (ChipClusters.LocalizationConfigurationCluster) cluster, attributeId, callback);
+          break;
+        case 1288:
+          readLowPower((ChipClusters.LowPowerCluster) cluster, attributeId, callback);
+          break;
+        case 1287:
+          readMediaInput((ChipClusters.MediaInputCluster) cluster, attributeId, callback);
+          break;
+        case 1286:
+          readMediaPlayback((ChipClusters.MediaPlaybackCluster) cluster, attributeId, callback);
+          break;
+        case 80:
+          readModeSelect((ChipClusters.ModeSelectCluster) cluster, attributeId, callback);
+          break;
+        case 49:
+          readNetworkCommissioning(
+              (ChipClusters.NetworkCommissioningCluster) cluster, attributeId, callback);
+          break;
+        case 41:
+          readOtaSoftwareUpdateProvider(
+              (ChipClusters.OtaSoftwareUpdateProviderCluster) cluster, attributeId, callback);
+          break;
+        case 42:
+          readOtaSoftwareUpdateRequestor(
+              (ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster, attributeId, callback);
+          break;
+        case 1030:
+          readOccupancySensing(
+              (ChipClusters.OccupancySensingCluster) cluster, attributeId, callback);
+          break;
+        case 6:
+          readOnOff((ChipClusters.OnOffCluster) cluster, attributeId, callback);
+          break;
+        case 7:
+          readOnOffSwitchConfiguration(
+              (ChipClusters.OnOffSwitchConfigurationCluster) cluster, attributeId, callback);
+          break;
+        case 62:
+          readOperationalCredentials(
+              (ChipClusters.OperationalCredentialsCluster) cluster, attributeId, callback);
+          break;
+        case 47:
+          readPowerSource((ChipClusters.PowerSourceCluster) cluster, attributeId, callback);
+          break;
+        case 46:
+          readPowerSourceConfiguration(
+              (ChipClusters.PowerSourceConfigurationCluster) cluster, attributeId, callback);
+          break;
+        case 1027:
+          readPressureMeasurement(
+              (ChipClusters.PressureMeasurementCluster) cluster, attributeId, callback);
+          break;
+        case 512:
+          readPumpConfigurationAndControl(
+              (ChipClusters.PumpConfigurationAndControlCluster) cluster, attributeId, callback);
+          break;
+        case 1029:
+          readRelativeHumidityMeasurement(
+              (ChipClusters.RelativeHumidityMeasurementCluster) cluster, attributeId, callback);
+          break;
+        case 5:
+          readScenes((ChipClusters.ScenesCluster) cluster, attributeId, callback);
+          break;
+        case 52:
+          readSoftwareDiagnostics(
+              (ChipClusters.SoftwareDiagnosticsCluster) cluster, attributeId, callback);
+          break;
+        case 59:
+          readSwitch((ChipClusters.SwitchCluster) cluster, attributeId, callback);
+          break;
+        case 1285:
+          readTargetNavigator((ChipClusters.TargetNavigatorCluster) cluster, attributeId, callback);
+          break;
+        case 1026:
+          readTemperatureMeasurement(
+              (ChipClusters.TemperatureMeasurementCluster) cluster, attributeId, callback);
+          break;
+        case 1295:
+          readTestCluster((ChipClusters.TestClusterCluster) cluster, attributeId, callback);
+          break;
+        case 513:
+          readThermostat((ChipClusters.ThermostatCluster) cluster, attributeId, callback);
+          break;
+        case 516:
+          readThermostatUserInterfaceConfiguration(
+              (ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster,
+              attributeId,
+              callback);
+          break;
+        case 53:
+          readThreadNetworkDiagnostics(
+              (ChipClusters.ThreadNetworkDiagnosticsCluster) cluster, attributeId, callback);
+          break;
+        case 65:
+          readUserLabel((ChipClusters.UserLabelCluster) cluster, attributeId, callback);
+          break;
+        case 1283:
+          readWakeOnLan((ChipClusters.WakeOnLanCluster) cluster, attributeId, callback);
+          break;
+        case 54:
+          readWiFiNetworkDiagnostics(
+              (ChipClusters.WiFiNetworkDiagnosticsCluster) cluster, attributeId, callback);
+          break;
+        case 258:
+          readWindowCovering((ChipClusters.WindowCoveringCluster) cluster, attributeId, callback);
+          break;
+        default:
+          throw new IllegalStateException("Unsupported cluster " + clusterId);
+      }
+    }
+
+    @Override
+    public DelegatedClusterCallback get() {
+      switch (clusterId) {
+        case 31:
+          return newAccessControlReadCallback(attributeId);
+        case 1294:
+          return newAccountLoginReadCallback(attributeId);
+        case 60:
+          return newAdministratorCommissioningReadCallback(attributeId);
+        case 1293:
+          return newApplicationBasicReadCallback(attributeId);
+        case 1292:
+          return newApplicationLauncherReadCallback(attributeId);
+        case 1291:
+          return newAudioOutputReadCallback(attributeId);
+        case 259:
+          return newBarrierControlReadCallback(attributeId);
+        case 40:
+          return newBasicReadCallback(attributeId);
+        case 15:
+          return newBinaryInputBasicReadCallback(attributeId);
+        case 30:
+          return newBindingReadCallback(attributeId);
+        case 69:
+          return newBooleanStateReadCallback(attributeId);
+        case 37:
+          return newBridgedActionsReadCallback(attributeId);
+        case 57:
+          return newBridgedDeviceBasicReadCallback(attributeId);
+        case 1284:
+          return newChannelReadCallback(attributeId);
+        case 768:
+          return newColorControlReadCallback(attributeId);
+        case 1290:
+          return newContentLauncherReadCallback(attributeId);
+        case 29:
+          return newDescriptorReadCallback(attributeId);
+        case 50:
+          return newDiagnosticLogsReadCallback(attributeId);
+        case 257:
+          return newDoorLockReadCallback(attributeId);
+        case 2820:
+          return newElectricalMeasurementReadCallback(attributeId);
+        case 55:
+          return newEthernetNetworkDiagnosticsReadCallback(attributeId);
+        case 64:
+          return newFixedLabelReadCallback(attributeId);
+        case 1028:
+          return newFlowMeasurementReadCallback(attributeId);
+        case 48:
+          return newGeneralCommissioningReadCallback(attributeId);
+        case 51:
+          return newGeneralDiagnosticsReadCallback(attributeId);
+        case 63:
+          return newGroupKeyManagementReadCallback(attributeId);
+        case 4:
+          return newGroupsReadCallback(attributeId);
+        case 3:
+          return newIdentifyReadCallback(attributeId);
+        case 1024:
+          return newIlluminanceMeasurementReadCallback(attributeId);
+        case 1289:
+          return newKeypadInputReadCallback(attributeId);
+        case 8:
+          return newLevelControlReadCallback(attributeId);
+        case 43:
+          return newLocalizationConfigurationReadCallback(attributeId);
+        case 1288:
+          return newLowPowerReadCallback(attributeId);
+        case 1287:
+          return newMediaInputReadCallback(attributeId);
+        case 1286:
+          return newMediaPlaybackReadCallback(attributeId);
+        case 80:
+          return newModeSelectReadCallback(attributeId);
+        case 49:
+          return newNetworkCommissioningReadCallback(attributeId);
+        case 41:
+          return newOtaSoftwareUpdateProviderReadCallback(attributeId);
+        case 42:
+          return newOtaSoftwareUpdateRequestorReadCallback(attributeId);
+        case 1030:
+          return newOccupancySensingReadCallback(attributeId);
+        case 6:
+          return newOnOffReadCallback(attributeId);
+        case 7:
+          return newOnOffSwitchConfigurationReadCallback(attributeId);
+        case 62:
+          return newOperationalCredentialsReadCallback(attributeId);
+        case 47:
+          return newPowerSourceReadCallback(attributeId);
+        case 46:
+          return newPowerSourceConfigurationReadCallback(attributeId);
+        case 1027:
+          return newPressureMeasurementReadCallback(attributeId);
+        case 512:
+          return newPumpConfigurationAndControlReadCallback(attributeId);
+        case 1029:
+          return newRelativeHumidityMeasurementReadCallback(attributeId);
+        case 5:
+          return newScenesReadCallback(attributeId);
+        case 52:
+          return newSoftwareDiagnosticsReadCallback(attributeId);
+        case 59:
+          return newSwitchReadCallback(attributeId);
+        case 1285:
+          return newTargetNavigatorReadCallback(attributeId);
+        case 1026:
+          return newTemperatureMeasurementReadCallback(attributeId);
+        case 1295:
+          return newTestClusterReadCallback(attributeId);
+        case 513:
+          return newThermostatReadCallback(attributeId);
+        case 516:
+          return newThermostatUserInterfaceConfigurationReadCallback(attributeId);
+        case 53:
+          return newThreadNetworkDiagnosticsReadCallback(attributeId);
+        case 65:
+          return newUserLabelReadCallback(attributeId);
+        case 1283:
+          return newWakeOnLanReadCallback(attributeId);
+        case 54:
+          return newWiFiNetworkDiagnosticsReadCallback(attributeId);
+        case 258:
+          return newWindowCoveringReadCallback(attributeId);
+        default:
+          throw new IllegalStateException("Unsupported cluster " + clusterId);
+      }
+    }
   }
 }
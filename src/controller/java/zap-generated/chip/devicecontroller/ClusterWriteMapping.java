@@ -19,32 +19,480 @@
 
 package chip.devicecontroller;
 
+import androidx.annotation.Nullable;
 import chip.clusterinfo.CommandParameterInfo;
+import chip.clusterinfo.DelegatedClusterCallback;
 import chip.clusterinfo.InteractionInfo;
 import chip.devicecontroller.ChipClusters.DefaultClusterCallback;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class ClusterWriteMapping {
   public Map<String, Map<String, InteractionInfo>> getWriteAttributeMap() {
     Map<String, Map<String, InteractionInfo>> writeAttributeMap = new HashMap<>();
+    writeAttributeMap.put("accessControl", getAccessControlWriteAttributeMap());
+    writeAttributeMap.put("accountLogin", getAccountLoginWriteAttributeMap());
+    writeAttributeMap.put(
+        "administratorCommissioning", getAdministratorCommissioningWriteAttributeMap());
+    writeAttributeMap.put("applicationBasic", getApplicationBasicWriteAttributeMap());
+    writeAttributeMap.put("applicationLauncher", getApplicationLauncherWriteAttributeMap());
+    writeAttributeMap.put("audioOutput", getAudioOutputWriteAttributeMap());
+    writeAttributeMap.put("barrierControl", getBarrierControlWriteAttributeMap());
+    writeAttributeMap.put("basic", getBasicWriteAttributeMap());
+    writeAttributeMap.put("binaryInputBasic", getBinaryInputBasicWriteAttributeMap());
+    writeAttributeMap.put("binding", getBindingWriteAttributeMap());
+    writeAttributeMap.put("booleanState", getBooleanStateWriteAttributeMap());
+    writeAttributeMap.put("bridgedActions", getBridgedActionsWriteAttributeMap());
+    writeAttributeMap.put("bridgedDeviceBasic", getBridgedDeviceBasicWriteAttributeMap());
+    writeAttributeMap.put("channel", getChannelWriteAttributeMap());
+    writeAttributeMap.put("colorControl", getColorControlWriteAttributeMap());
+    writeAttributeMap.put("contentLauncher", getContentLauncherWriteAttributeMap());
+    writeAttributeMap.put("descriptor", getDescriptorWriteAttributeMap());
+    writeAttributeMap.put("diagnosticLogs", getDiagnosticLogsWriteAttributeMap());
+    writeAttributeMap.put("doorLock", getDoorLockWriteAttributeMap());
+    writeAttributeMap.put("electricalMeasurement", getElectricalMeasurementWriteAttributeMap());
+    writeAttributeMap.put(
+        "ethernetNetworkDiagnostics", getEthernetNetworkDiagnosticsWriteAttributeMap());
+    writeAttributeMap.put("fixedLabel", getFixedLabelWriteAttributeMap());
+    writeAttributeMap.put("flowMeasurement", getFlowMeasurementWriteAttributeMap());
+    writeAttributeMap.put("generalCommissioning", getGeneralCommissioningWriteAttributeMap());
+    writeAttributeMap.put("generalDiagnostics", getGeneralDiagnosticsWriteAttributeMap());
+    writeAttributeMap.put("groupKeyManagement", getGroupKeyManagementWriteAttributeMap());
+    writeAttributeMap.put("groups", getGroupsWriteAttributeMap());
+    writeAttributeMap.put("identify", getIdentifyWriteAttributeMap());
+    writeAttributeMap.put("illuminanceMeasurement", getIlluminanceMeasurementWriteAttributeMap());
+    writeAttributeMap.put("keypadInput", getKeypadInputWriteAttributeMap());
+    writeAttributeMap.put("levelControl", getLevelControlWriteAttributeMap());
+    writeAttributeMap.put(
+        "localizationConfiguration", getLocalizationConfigurationWriteAttributeMap());
+    writeAttributeMap.put("lowPower", getLowPowerWriteAttributeMap());
+    writeAttributeMap.put("mediaInput", getMediaInputWriteAttributeMap());
+    writeAttributeMap.put("mediaPlayback", getMediaPlaybackWriteAttributeMap());
+    writeAttributeMap.put("modeSelect", getModeSelectWriteAttributeMap());
+    writeAttributeMap.put("networkCommissioning", getNetworkCommissioningWriteAttributeMap());
+    writeAttributeMap.put(
+        "otaSoftwareUpdateProvider", getOtaSoftwareUpdateProviderWriteAttributeMap());
+    writeAttributeMap.put(
+        "otaSoftwareUpdateRequestor", getOtaSoftwareUpdateRequestorWriteAttributeMap());
+    writeAttributeMap.put("occupancySensing", getOccupancySensingWriteAttributeMap());
+    writeAttributeMap.put("onOff", getOnOffWriteAttributeMap());
+    writeAttributeMap.put(
+        "onOffSwitchConfiguration", getOnOffSwitchConfigurationWriteAttributeMap());
+    writeAttributeMap.put("operationalCredentials", getOperationalCredentialsWriteAttributeMap());
+    writeAttributeMap.put("powerSource", getPowerSourceWriteAttributeMap());
+    writeAttributeMap.put(
+        "powerSourceConfiguration", getPowerSourceConfigurationWriteAttributeMap());
+    writeAttributeMap.put("pressureMeasurement", getPressureMeasurementWriteAttributeMap());
+    writeAttributeMap.put(
+        "pumpConfigurationAndControl", getPumpConfigurationAndControlWriteAttributeMap());
+    writeAttributeMap.put(
+        "relativeHumidityMeasurement", getRelativeHumidityMeasurementWriteAttributeMap());
+    writeAttributeMap.put("scenes", getScenesWriteAttributeMap());
+    writeAttributeMap.put("softwareDiagnostics", getSoftwareDiagnosticsWriteAttributeMap());
+    writeAttributeMap.put("switch", getSwitchWriteAttributeMap());
+    writeAttributeMap.put("targetNavigator", getTargetNavigatorWriteAttributeMap());
+    writeAttributeMap.put("temperatureMeasurement", getTemperatureMeasurementWriteAttributeMap());
+    writeAttributeMap.put("testCluster", getTestClusterWriteAttributeMap());
+    writeAttributeMap.put("thermostat", getThermostatWriteAttributeMap());
+    writeAttributeMap.put(
+        "thermostatUserInterfaceConfiguration",
+        getThermostatUserInterfaceConfigurationWriteAttributeMap());
+    writeAttributeMap.put(
+        "threadNetworkDiagnostics", getThreadNetworkDiagnosticsWriteAttributeMap());
+    writeAttributeMap.put("userLabel", getUserLabelWriteAttributeMap());
+    writeAttributeMap.put("wakeOnLan", getWakeOnLanWriteAttributeMap());
+    writeAttributeMap.put("wiFiNetworkDiagnostics", getWiFiNetworkDiagnosticsWriteAttributeMap());
+    writeAttributeMap.put("windowCovering", getWindowCoveringWriteAttributeMap());
+    return writeAttributeMap;
+  }
+
+  /** Returns the attribute writes of one cluster, or null if the cluster is not supported. */
+  @Nullable
+  public Map<String, InteractionInfo> getWriteAttributeMap(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return getAccessControlWriteAttributeMap();
+      case "accountLogin":
+        return getAccountLoginWriteAttributeMap();
+      case "administratorCommissioning":
+        return getAdministratorCommissioningWriteAttributeMap();
+      case "applicationBasic":
+        return getApplicationBasicWriteAttributeMap();
+      case "applicationLauncher":
+        return getApplicationLauncherWriteAttributeMap();
+      case "audioOutput":
+        return getAudioOutputWriteAttributeMap();
+      case "barrierControl":
+        return getBarrierControlWriteAttributeMap();
+      case "basic":
+        return getBasicWriteAttributeMap();
+      case "binaryInputBasic":
+        return getBinaryInputBasicWriteAttributeMap();
+      case "binding":
+        return getBindingWriteAttributeMap();
+      case "booleanState":
+        return getBooleanStateWriteAttributeMap();
+      case "bridgedActions":
+        return getBridgedActionsWriteAttributeMap();
+      case "bridgedDeviceBasic":
+        return getBridgedDeviceBasicWriteAttributeMap();
+      case "channel":
+        return getChannelWriteAttributeMap();
+      case "colorControl":
+        return getColorControlWriteAttributeMap();
+      case "contentLauncher":
+        return getContentLauncherWriteAttributeMap();
+      case "descriptor":
+        return getDescriptorWriteAttributeMap();
+      case "diagnosticLogs":
+        return getDiagnosticLogsWriteAttributeMap();
+      case "doorLock":
+        return getDoorLockWriteAttributeMap();
+      case "electricalMeasurement":
+        return getElectricalMeasurementWriteAttributeMap();
+      case "ethernetNetworkDiagnostics":
+        return getEthernetNetworkDiagnosticsWriteAttributeMap();
+      case "fixedLabel":
+        return getFixedLabelWriteAttributeMap();
+      case "flowMeasurement":
+        return getFlowMeasurementWriteAttributeMap();
+      case "generalCommissioning":
+        return getGeneralCommissioningWriteAttributeMap();
+      case "generalDiagnostics":
+        return getGeneralDiagnosticsWriteAttributeMap();
+      case "groupKeyManagement":
+        return getGroupKeyManagementWriteAttributeMap();
+      case "groups":
+        return getGroupsWriteAttributeMap();
+      case "identify":
+        return getIdentifyWriteAttributeMap();
+      case "illuminanceMeasurement":
+        return getIlluminanceMeasurementWriteAttributeMap();
+      case "keypadInput":
+        return getKeypadInputWriteAttributeMap();
+      case "levelControl":
+        return getLevelControlWriteAttributeMap();
+      case "localizationConfiguration":
+        return getLocalizationConfigurationWriteAttributeMap();
+      case "lowPower":
+        return getLowPowerWriteAttributeMap();
+      case "mediaInput":
+        return getMediaInputWriteAttributeMap();
+      case "mediaPlayback":
+        return getMediaPlaybackWriteAttributeMap();
+      case "modeSelect":
+        return getModeSelectWriteAttributeMap();
+      case "networkCommissioning":
+        return getNetworkCommissioningWriteAttributeMap();
+      case "otaSoftwareUpdateProvider":
+        return getOtaSoftwareUpdateProviderWriteAttributeMap();
+      case "otaSoftwareUpdateRequestor":
+        return getOtaSoftwareUpdateRequestorWriteAttributeMap();
+      case "occupancySensing":
+        return getOccupancySensingWriteAttributeMap();
+      case "onOff":
+        return getOnOffWriteAttributeMap();
+      case "onOffSwitchConfiguration":
+        return getOnOffSwitchConfigurationWriteAttributeMap();
+      case "operationalCredentials":
+        return getOperationalCredentialsWriteAttributeMap();
+      case "powerSource":
+        return getPowerSourceWriteAttributeMap();
+      case "powerSourceConfiguration":
+        return getPowerSourceConfigurationWriteAttributeMap();
+      case "pressureMeasurement":
+        return getPressureMeasurementWriteAttributeMap();
+      case "pumpConfigurationAndControl":
+        return getPumpConfigurationAndControlWriteAttributeMap();
+      case "relativeHumidityMeasurement":
+        return getRelativeHumidityMeasurementWriteAttributeMap();
+      case "scenes":
+        return getScenesWriteAttributeMap();
+      case "softwareDiagnostics":
+        return getSoftwareDiagnosticsWriteAttributeMap();
+      case "switch":
+        return getSwitchWriteAttributeMap();
+      case "targetNavigator":
+        return getTargetNavigatorWriteAttributeMap();
+      case "temperatureMeasurement":
+        return getTemperatureMeasurementWriteAttributeMap();
+      case "testCluster":
+        return getTestClusterWriteAttributeMap();
+      case "thermostat":
+        return getThermostatWriteAttributeMap();
+      case "thermostatUserInterfaceConfiguration":
+        return getThermostatUserInterfaceConfigurationWriteAttributeMap();
+      case "threadNetworkDiagnostics":
+        return getThreadNetworkDiagnosticsWriteAttributeMap();
+      case "userLabel":
+        return getUserLabelWriteAttributeMap();
+      case "wakeOnLan":
+        return getWakeOnLanWriteAttributeMap();
+      case "wiFiNetworkDiagnostics":
+        return getWiFiNetworkDiagnosticsWriteAttributeMap();
+      case "windowCovering":
+        return getWindowCoveringWriteAttributeMap();
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * Returns the IDs of the attributes written by {@link #getWriteAttributeMap(String)}, in the
+   * order of its entries, or null if the cluster is not supported.
+   */
+  @Nullable
+  public long[] getWriteAttributeIds(String clusterName) {
+    switch (clusterName) {
+      case "accessControl":
+        return new long[] {};
+      case "accountLogin":
+        return new long[] {};
+      case "administratorCommissioning":
+        return new long[] {};
+      case "applicationBasic":
+        return new long[] {};
+      case "applicationLauncher":
+        return new long[] {};
+      case "audioOutput":
+        return new long[] {};
+      case "barrierControl":
+        return new long[] {};
+      case "basic":
+        return new long[] {5L, 6L, 16L};
+      case "binaryInputBasic":
+        return new long[] {81L, 85L};
+      case "binding":
+        return new long[] {};
+      case "booleanState":
+        return new long[] {};
+      case "bridgedActions":
+        return new long[] {};
+      case "bridgedDeviceBasic":
+        return new long[] {};
+      case "channel":
+        return new long[] {};
+      case "colorControl":
+        return new long[] {15L, 48L, 49L, 50L, 51L, 52L, 54L, 55L, 56L, 58L, 59L, 60L, 16400L};
+      case "contentLauncher":
+        return new long[] {1L};
+      case "descriptor":
+        return new long[] {};
+      case "diagnosticLogs":
+        return new long[] {};
+      case "doorLock":
+        return new long[] {33L, 35L, 36L, 37L, 41L, 43L, 48L};
+      case "electricalMeasurement":
+        return new long[] {};
+      case "ethernetNetworkDiagnostics":
+        return new long[] {};
+      case "fixedLabel":
+        return new long[] {};
+      case "flowMeasurement":
+        return new long[] {};
+      case "generalCommissioning":
+        return new long[] {0L};
+      case "generalDiagnostics":
+        return new long[] {};
+      case "groupKeyManagement":
+        return new long[] {};
+      case "groups":
+        return new long[] {};
+      case "identify":
+        return new long[] {0L};
+      case "illuminanceMeasurement":
+        return new long[] {};
+      case "keypadInput":
+        return new long[] {};
+      case "levelControl":
+        return new long[] {15L, 16L, 17L, 18L, 19L, 20L, 16384L};
+      case "localizationConfiguration":
+        return new long[] {1L};
+      case "lowPower":
+        return new long[] {};
+      case "mediaInput":
+        return new long[] {};
+      case "mediaPlayback":
+        return new long[] {};
+      case "modeSelect":
+        return new long[] {2L};
+      case "networkCommissioning":
+        return new long[] {4L};
+      case "otaSoftwareUpdateProvider":
+        return new long[] {};
+      case "otaSoftwareUpdateRequestor":
+        return new long[] {};
+      case "occupancySensing":
+        return new long[] {};
+      case "onOff":
+        return new long[] {16385L, 16386L, 16387L};
+      case "onOffSwitchConfiguration":
+        return new long[] {16L};
+      case "operationalCredentials":
+        return new long[] {};
+      case "powerSource":
+        return new long[] {};
+      case "powerSourceConfiguration":
+        return new long[] {};
+      case "pressureMeasurement":
+        return new long[] {};
+      case "pumpConfigurationAndControl":
+        return new long[] {21L, 23L, 32L, 33L};
+      case "relativeHumidityMeasurement":
+        return new long[] {};
+      case "scenes":
+        return new long[] {};
+      case "softwareDiagnostics":
+        return new long[] {};
+      case "switch":
+        return new long[] {};
+      case "targetNavigator":
+        return new long[] {};
+      case "temperatureMeasurement":
+        return new long[] {};
+      case "testCluster":
+        return new long[] {
+          0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L, 13L, 14L, 15L, 16L, 17L, 18L, 19L,
+          20L, 21L, 22L, 23L, 24L, 25L, 29L, 30L, 31L, 32L, 33L, 34L, 36L, 38L, 39L, 40L, 41L, 48L,
+          255L, 32768L, 32769L, 32770L, 32771L, 32772L, 32773L, 32774L, 32775L, 32776L, 32777L,
+          32778L, 32779L, 32780L, 32781L, 32782L, 32783L, 32784L, 32785L, 32786L, 32787L, 32788L,
+          32789L, 32790L, 32791L, 32792L, 32793L, 32798L, 32804L, 32806L, 32807L, 32808L, 32809L
+        };
+      case "thermostat":
+        return new long[] {17L, 18L, 21L, 22L, 23L, 24L, 25L, 27L, 28L};
+      case "thermostatUserInterfaceConfiguration":
+        return new long[] {0L, 1L, 2L};
+      case "threadNetworkDiagnostics":
+        return new long[] {};
+      case "userLabel":
+        return new long[] {};
+      case "wakeOnLan":
+        return new long[] {};
+      case "wiFiNetworkDiagnostics":
+        return new long[] {};
+      case "windowCovering":
+        return new long[] {23L};
+      default:
+        return null;
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAccessControlWriteAttributeMap() {
     Map<String, InteractionInfo> writeAccessControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("accessControl", writeAccessControlInteractionInfo);
+    return writeAccessControlInteractionInfo;
+  }
+
+  private static void writeAccessControl(
+      ChipClusters.AccessControlCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAccountLoginWriteAttributeMap() {
     Map<String, InteractionInfo> writeAccountLoginInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("accountLogin", writeAccountLoginInteractionInfo);
+    return writeAccountLoginInteractionInfo;
+  }
+
+  private static void writeAccountLogin(
+      ChipClusters.AccountLoginCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAdministratorCommissioningWriteAttributeMap() {
     Map<String, InteractionInfo> writeAdministratorCommissioningInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put(
-        "administratorCommissioning", writeAdministratorCommissioningInteractionInfo);
+    return writeAdministratorCommissioningInteractionInfo;
+  }
+
+  private static void writeAdministratorCommissioning(
+      ChipClusters.AdministratorCommissioningCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getApplicationBasicWriteAttributeMap() {
     Map<String, InteractionInfo> writeApplicationBasicInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("applicationBasic", writeApplicationBasicInteractionInfo);
+    return writeApplicationBasicInteractionInfo;
+  }
+
+  private static void writeApplicationBasic(
+      ChipClusters.ApplicationBasicCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getApplicationLauncherWriteAttributeMap() {
     Map<String, InteractionInfo> writeApplicationLauncherInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("applicationLauncher", writeApplicationLauncherInteractionInfo);
+    return writeApplicationLauncherInteractionInfo;
+  }
+
+  private static void writeApplicationLauncher(
+      ChipClusters.ApplicationLauncherCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getAudioOutputWriteAttributeMap() {
     Map<String, InteractionInfo> writeAudioOutputInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("audioOutput", writeAudioOutputInteractionInfo);
+    return writeAudioOutputInteractionInfo;
+  }
+
+  private static void writeAudioOutput(
+      ChipClusters.AudioOutputCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBarrierControlWriteAttributeMap() {
     Map<String, InteractionInfo> writeBarrierControlInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("barrierControl", writeBarrierControlInteractionInfo);
+    return writeBarrierControlInteractionInfo;
+  }
+
+  private static void writeBarrierControl(
+      ChipClusters.BarrierControlCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBasicWriteAttributeMap() {
     Map<String, InteractionInfo> writeBasicInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeBasicNodeLabelCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -52,14 +500,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", String.class);
     writeBasicNodeLabelCommandParams.put("value", basicnodeLabelCommandParameterInfo);
     InteractionInfo writeBasicNodeLabelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .writeNodeLabelAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeBasicNodeLabelCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 5L, writeBasicNodeLabelCommandParams);
     writeBasicInteractionInfo.put(
         "writeNodeLabelAttribute", writeBasicNodeLabelAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBasicLocationCommandParams =
@@ -68,14 +510,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", String.class);
     writeBasicLocationCommandParams.put("value", basiclocationCommandParameterInfo);
     InteractionInfo writeBasicLocationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .writeLocationAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeBasicLocationCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 6L, writeBasicLocationCommandParams);
     writeBasicInteractionInfo.put(
         "writeLocationAttribute", writeBasicLocationAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeBasicLocalConfigDisabledCommandParams =
@@ -85,17 +521,37 @@ public class ClusterWriteMapping {
     writeBasicLocalConfigDisabledCommandParams.put(
         "value", basiclocalConfigDisabledCommandParameterInfo);
     InteractionInfo writeBasicLocalConfigDisabledAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BasicCluster) cluster)
-                  .writeLocalConfigDisabledAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeBasicLocalConfigDisabledCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.BasicCluster.CLUSTER_ID, 16L, writeBasicLocalConfigDisabledCommandParams);
     writeBasicInteractionInfo.put(
         "writeLocalConfigDisabledAttribute", writeBasicLocalConfigDisabledAttributeInteractionInfo);
-    writeAttributeMap.put("basic", writeBasicInteractionInfo);
+    return writeBasicInteractionInfo;
+  }
+
+  private static void writeBasic(
+      ChipClusters.BasicCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 5:
+        cluster.writeNodeLabelAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      case 6:
+        cluster.writeLocationAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      case 16:
+        cluster.writeLocalConfigDisabledAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBinaryInputBasicWriteAttributeMap() {
     Map<String, InteractionInfo> writeBinaryInputBasicInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeBinaryInputBasicOutOfServiceCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -104,13 +560,9 @@ public class ClusterWriteMapping {
     writeBinaryInputBasicOutOfServiceCommandParams.put(
         "value", binaryInputBasicoutOfServiceCommandParameterInfo);
     InteractionInfo writeBinaryInputBasicOutOfServiceAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .writeOutOfServiceAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            81L,
             writeBinaryInputBasicOutOfServiceCommandParams);
     writeBinaryInputBasicInteractionInfo.put(
         "writeOutOfServiceAttribute", writeBinaryInputBasicOutOfServiceAttributeInteractionInfo);
@@ -121,27 +573,115 @@ public class ClusterWriteMapping {
     writeBinaryInputBasicPresentValueCommandParams.put(
         "value", binaryInputBasicpresentValueCommandParameterInfo);
     InteractionInfo writeBinaryInputBasicPresentValueAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.BinaryInputBasicCluster) cluster)
-                  .writePresentValueAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.BinaryInputBasicCluster.CLUSTER_ID,
+            85L,
             writeBinaryInputBasicPresentValueCommandParams);
     writeBinaryInputBasicInteractionInfo.put(
         "writePresentValueAttribute", writeBinaryInputBasicPresentValueAttributeInteractionInfo);
-    writeAttributeMap.put("binaryInputBasic", writeBinaryInputBasicInteractionInfo);
+    return writeBinaryInputBasicInteractionInfo;
+  }
+
+  private static void writeBinaryInputBasic(
+      ChipClusters.BinaryInputBasicCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 81:
+        cluster.writeOutOfServiceAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      case 85:
+        cluster.writePresentValueAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBindingWriteAttributeMap() {
     Map<String, InteractionInfo> writeBindingInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("binding", writeBindingInteractionInfo);
+    return writeBindingInteractionInfo;
+  }
+
+  private static void writeBinding(
+      ChipClusters.BindingCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBooleanStateWriteAttributeMap() {
     Map<String, InteractionInfo> writeBooleanStateInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("booleanState", writeBooleanStateInteractionInfo);
+    return writeBooleanStateInteractionInfo;
+  }
+
+  private static void writeBooleanState(
+      ChipClusters.BooleanStateCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBridgedActionsWriteAttributeMap() {
     Map<String, InteractionInfo> writeBridgedActionsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("bridgedActions", writeBridgedActionsInteractionInfo);
+    return writeBridgedActionsInteractionInfo;
+  }
+
+  private static void writeBridgedActions(
+      ChipClusters.BridgedActionsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getBridgedDeviceBasicWriteAttributeMap() {
     Map<String, InteractionInfo> writeBridgedDeviceBasicInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("bridgedDeviceBasic", writeBridgedDeviceBasicInteractionInfo);
+    return writeBridgedDeviceBasicInteractionInfo;
+  }
+
+  private static void writeBridgedDeviceBasic(
+      ChipClusters.BridgedDeviceBasicCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getChannelWriteAttributeMap() {
     Map<String, InteractionInfo> writeChannelInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("channel", writeChannelInteractionInfo);
+    return writeChannelInteractionInfo;
+  }
+
+  private static void writeChannel(
+      ChipClusters.ChannelCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getColorControlWriteAttributeMap() {
     Map<String, InteractionInfo> writeColorControlInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeColorControlColorControlOptionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -150,13 +690,9 @@ public class ClusterWriteMapping {
     writeColorControlColorControlOptionsCommandParams.put(
         "value", colorControlcolorControlOptionsCommandParameterInfo);
     InteractionInfo writeColorControlColorControlOptionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorControlOptionsAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            15L,
             writeColorControlColorControlOptionsCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorControlOptionsAttribute",
@@ -168,13 +704,9 @@ public class ClusterWriteMapping {
     writeColorControlWhitePointXCommandParams.put(
         "value", colorControlwhitePointXCommandParameterInfo);
     InteractionInfo writeColorControlWhitePointXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeWhitePointXAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            48L,
             writeColorControlWhitePointXCommandParams);
     writeColorControlInteractionInfo.put(
         "writeWhitePointXAttribute", writeColorControlWhitePointXAttributeInteractionInfo);
@@ -185,13 +717,9 @@ public class ClusterWriteMapping {
     writeColorControlWhitePointYCommandParams.put(
         "value", colorControlwhitePointYCommandParameterInfo);
     InteractionInfo writeColorControlWhitePointYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeWhitePointYAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            49L,
             writeColorControlWhitePointYCommandParams);
     writeColorControlInteractionInfo.put(
         "writeWhitePointYAttribute", writeColorControlWhitePointYAttributeInteractionInfo);
@@ -202,13 +730,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointRXCommandParams.put(
         "value", colorControlcolorPointRXCommandParameterInfo);
     InteractionInfo writeColorControlColorPointRXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointRXAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            50L,
             writeColorControlColorPointRXCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointRXAttribute", writeColorControlColorPointRXAttributeInteractionInfo);
@@ -219,13 +743,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointRYCommandParams.put(
         "value", colorControlcolorPointRYCommandParameterInfo);
     InteractionInfo writeColorControlColorPointRYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointRYAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            51L,
             writeColorControlColorPointRYCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointRYAttribute", writeColorControlColorPointRYAttributeInteractionInfo);
@@ -236,13 +756,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointRIntensityCommandParams.put(
         "value", colorControlcolorPointRIntensityCommandParameterInfo);
     InteractionInfo writeColorControlColorPointRIntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointRIntensityAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            52L,
             writeColorControlColorPointRIntensityCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointRIntensityAttribute",
@@ -254,13 +770,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointGXCommandParams.put(
         "value", colorControlcolorPointGXCommandParameterInfo);
     InteractionInfo writeColorControlColorPointGXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointGXAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            54L,
             writeColorControlColorPointGXCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointGXAttribute", writeColorControlColorPointGXAttributeInteractionInfo);
@@ -271,13 +783,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointGYCommandParams.put(
         "value", colorControlcolorPointGYCommandParameterInfo);
     InteractionInfo writeColorControlColorPointGYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointGYAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            55L,
             writeColorControlColorPointGYCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointGYAttribute", writeColorControlColorPointGYAttributeInteractionInfo);
@@ -288,13 +796,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointGIntensityCommandParams.put(
         "value", colorControlcolorPointGIntensityCommandParameterInfo);
     InteractionInfo writeColorControlColorPointGIntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointGIntensityAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            56L,
             writeColorControlColorPointGIntensityCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointGIntensityAttribute",
@@ -306,13 +810,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointBXCommandParams.put(
         "value", colorControlcolorPointBXCommandParameterInfo);
     InteractionInfo writeColorControlColorPointBXAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointBXAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            58L,
             writeColorControlColorPointBXCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointBXAttribute", writeColorControlColorPointBXAttributeInteractionInfo);
@@ -323,13 +823,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointBYCommandParams.put(
         "value", colorControlcolorPointBYCommandParameterInfo);
     InteractionInfo writeColorControlColorPointBYAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointBYAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            59L,
             writeColorControlColorPointBYCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointBYAttribute", writeColorControlColorPointBYAttributeInteractionInfo);
@@ -340,13 +836,9 @@ public class ClusterWriteMapping {
     writeColorControlColorPointBIntensityCommandParams.put(
         "value", colorControlcolorPointBIntensityCommandParameterInfo);
     InteractionInfo writeColorControlColorPointBIntensityAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeColorPointBIntensityAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            60L,
             writeColorControlColorPointBIntensityCommandParams);
     writeColorControlInteractionInfo.put(
         "writeColorPointBIntensityAttribute",
@@ -358,18 +850,80 @@ public class ClusterWriteMapping {
     writeColorControlStartUpColorTemperatureMiredsCommandParams.put(
         "value", colorControlstartUpColorTemperatureMiredsCommandParameterInfo);
     InteractionInfo writeColorControlStartUpColorTemperatureMiredsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ColorControlCluster) cluster)
-                  .writeStartUpColorTemperatureMiredsAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ColorControlCluster.CLUSTER_ID,
+            16400L,
             writeColorControlStartUpColorTemperatureMiredsCommandParams);
     writeColorControlInteractionInfo.put(
         "writeStartUpColorTemperatureMiredsAttribute",
         writeColorControlStartUpColorTemperatureMiredsAttributeInteractionInfo);
-    writeAttributeMap.put("colorControl", writeColorControlInteractionInfo);
+    return writeColorControlInteractionInfo;
+  }
+
+  private static void writeColorControl(
+      ChipClusters.ColorControlCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 15:
+        cluster.writeColorControlOptionsAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 48:
+        cluster.writeWhitePointXAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 49:
+        cluster.writeWhitePointYAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 50:
+        cluster.writeColorPointRXAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 51:
+        cluster.writeColorPointRYAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 52:
+        cluster.writeColorPointRIntensityAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 54:
+        cluster.writeColorPointGXAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 55:
+        cluster.writeColorPointGYAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 56:
+        cluster.writeColorPointGIntensityAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 58:
+        cluster.writeColorPointBXAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 59:
+        cluster.writeColorPointBYAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 60:
+        cluster.writeColorPointBIntensityAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 16400:
+        cluster.writeStartUpColorTemperatureMiredsAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getContentLauncherWriteAttributeMap() {
     Map<String, InteractionInfo> writeContentLauncherInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeContentLauncherSupportedStreamingProtocolsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -378,22 +932,64 @@ public class ClusterWriteMapping {
     writeContentLauncherSupportedStreamingProtocolsCommandParams.put(
         "value", contentLaunchersupportedStreamingProtocolsCommandParameterInfo);
     InteractionInfo writeContentLauncherSupportedStreamingProtocolsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ContentLauncherCluster) cluster)
-                  .writeSupportedStreamingProtocolsAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ContentLauncherCluster.CLUSTER_ID,
+            1L,
             writeContentLauncherSupportedStreamingProtocolsCommandParams);
     writeContentLauncherInteractionInfo.put(
         "writeSupportedStreamingProtocolsAttribute",
         writeContentLauncherSupportedStreamingProtocolsAttributeInteractionInfo);
-    writeAttributeMap.put("contentLauncher", writeContentLauncherInteractionInfo);
+    return writeContentLauncherInteractionInfo;
+  }
+
+  private static void writeContentLauncher(
+      ChipClusters.ContentLauncherCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 1:
+        cluster.writeSupportedStreamingProtocolsAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getDescriptorWriteAttributeMap() {
     Map<String, InteractionInfo> writeDescriptorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("descriptor", writeDescriptorInteractionInfo);
+    return writeDescriptorInteractionInfo;
+  }
+
+  private static void writeDescriptor(
+      ChipClusters.DescriptorCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getDiagnosticLogsWriteAttributeMap() {
     Map<String, InteractionInfo> writeDiagnosticLogsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("diagnosticLogs", writeDiagnosticLogsInteractionInfo);
+    return writeDiagnosticLogsInteractionInfo;
+  }
+
+  private static void writeDiagnosticLogs(
+      ChipClusters.DiagnosticLogsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getDoorLockWriteAttributeMap() {
     Map<String, InteractionInfo> writeDoorLockInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeDoorLockLanguageCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -401,14 +997,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", String.class);
     writeDoorLockLanguageCommandParams.put("value", doorLocklanguageCommandParameterInfo);
     InteractionInfo writeDoorLockLanguageAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeLanguageAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeDoorLockLanguageCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 33L, writeDoorLockLanguageCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeLanguageAttribute", writeDoorLockLanguageAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockAutoRelockTimeCommandParams =
@@ -418,14 +1008,8 @@ public class ClusterWriteMapping {
     writeDoorLockAutoRelockTimeCommandParams.put(
         "value", doorLockautoRelockTimeCommandParameterInfo);
     InteractionInfo writeDoorLockAutoRelockTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeAutoRelockTimeAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeDoorLockAutoRelockTimeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 35L, writeDoorLockAutoRelockTimeCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeAutoRelockTimeAttribute", writeDoorLockAutoRelockTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockSoundVolumeCommandParams =
@@ -434,14 +1018,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeDoorLockSoundVolumeCommandParams.put("value", doorLocksoundVolumeCommandParameterInfo);
     InteractionInfo writeDoorLockSoundVolumeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeSoundVolumeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeDoorLockSoundVolumeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 36L, writeDoorLockSoundVolumeCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeSoundVolumeAttribute", writeDoorLockSoundVolumeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockOperatingModeCommandParams =
@@ -450,14 +1028,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeDoorLockOperatingModeCommandParams.put("value", doorLockoperatingModeCommandParameterInfo);
     InteractionInfo writeDoorLockOperatingModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeOperatingModeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeDoorLockOperatingModeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID, 37L, writeDoorLockOperatingModeCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeOperatingModeAttribute", writeDoorLockOperatingModeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeDoorLockEnableOneTouchLockingCommandParams =
@@ -467,13 +1039,9 @@ public class ClusterWriteMapping {
     writeDoorLockEnableOneTouchLockingCommandParams.put(
         "value", doorLockenableOneTouchLockingCommandParameterInfo);
     InteractionInfo writeDoorLockEnableOneTouchLockingAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeEnableOneTouchLockingAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            41L,
             writeDoorLockEnableOneTouchLockingCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeEnableOneTouchLockingAttribute",
@@ -485,13 +1053,9 @@ public class ClusterWriteMapping {
     writeDoorLockEnablePrivacyModeButtonCommandParams.put(
         "value", doorLockenablePrivacyModeButtonCommandParameterInfo);
     InteractionInfo writeDoorLockEnablePrivacyModeButtonAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeEnablePrivacyModeButtonAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            43L,
             writeDoorLockEnablePrivacyModeButtonCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeEnablePrivacyModeButtonAttribute",
@@ -503,28 +1067,121 @@ public class ClusterWriteMapping {
     writeDoorLockWrongCodeEntryLimitCommandParams.put(
         "value", doorLockwrongCodeEntryLimitCommandParameterInfo);
     InteractionInfo writeDoorLockWrongCodeEntryLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.DoorLockCluster) cluster)
-                  .writeWrongCodeEntryLimitAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.DoorLockCluster.CLUSTER_ID,
+            48L,
             writeDoorLockWrongCodeEntryLimitCommandParams);
     writeDoorLockInteractionInfo.put(
         "writeWrongCodeEntryLimitAttribute",
         writeDoorLockWrongCodeEntryLimitAttributeInteractionInfo);
-    writeAttributeMap.put("doorLock", writeDoorLockInteractionInfo);
+    return writeDoorLockInteractionInfo;
+  }
+
+  private static void writeDoorLock(
+      ChipClusters.DoorLockCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 33:
+        cluster.writeLanguageAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      case 35:
+        cluster.writeAutoRelockTimeAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 36:
+        cluster.writeSoundVolumeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 37:
+        cluster.writeOperatingModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 41:
+        cluster.writeEnableOneTouchLockingAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      case 43:
+        cluster.writeEnablePrivacyModeButtonAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      case 48:
+        cluster.writeWrongCodeEntryLimitAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getElectricalMeasurementWriteAttributeMap() {
     Map<String, InteractionInfo> writeElectricalMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("electricalMeasurement", writeElectricalMeasurementInteractionInfo);
+    return writeElectricalMeasurementInteractionInfo;
+  }
+
+  private static void writeElectricalMeasurement(
+      ChipClusters.ElectricalMeasurementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getEthernetNetworkDiagnosticsWriteAttributeMap() {
     Map<String, InteractionInfo> writeEthernetNetworkDiagnosticsInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put(
-        "ethernetNetworkDiagnostics", writeEthernetNetworkDiagnosticsInteractionInfo);
+    return writeEthernetNetworkDiagnosticsInteractionInfo;
+  }
+
+  private static void writeEthernetNetworkDiagnostics(
+      ChipClusters.EthernetNetworkDiagnosticsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getFixedLabelWriteAttributeMap() {
     Map<String, InteractionInfo> writeFixedLabelInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("fixedLabel", writeFixedLabelInteractionInfo);
+    return writeFixedLabelInteractionInfo;
+  }
+
+  private static void writeFixedLabel(
+      ChipClusters.FixedLabelCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getFlowMeasurementWriteAttributeMap() {
     Map<String, InteractionInfo> writeFlowMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("flowMeasurement", writeFlowMeasurementInteractionInfo);
+    return writeFlowMeasurementInteractionInfo;
+  }
+
+  private static void writeFlowMeasurement(
+      ChipClusters.FlowMeasurementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGeneralCommissioningWriteAttributeMap() {
     Map<String, InteractionInfo> writeGeneralCommissioningInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeGeneralCommissioningBreadcrumbCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -533,23 +1190,79 @@ public class ClusterWriteMapping {
     writeGeneralCommissioningBreadcrumbCommandParams.put(
         "value", generalCommissioningbreadcrumbCommandParameterInfo);
     InteractionInfo writeGeneralCommissioningBreadcrumbAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.GeneralCommissioningCluster) cluster)
-                  .writeBreadcrumbAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.GeneralCommissioningCluster.CLUSTER_ID,
+            0L,
             writeGeneralCommissioningBreadcrumbCommandParams);
     writeGeneralCommissioningInteractionInfo.put(
         "writeBreadcrumbAttribute", writeGeneralCommissioningBreadcrumbAttributeInteractionInfo);
-    writeAttributeMap.put("generalCommissioning", writeGeneralCommissioningInteractionInfo);
+    return writeGeneralCommissioningInteractionInfo;
+  }
+
+  private static void writeGeneralCommissioning(
+      ChipClusters.GeneralCommissioningCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 0:
+        cluster.writeBreadcrumbAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGeneralDiagnosticsWriteAttributeMap() {
     Map<String, InteractionInfo> writeGeneralDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("generalDiagnostics", writeGeneralDiagnosticsInteractionInfo);
+    return writeGeneralDiagnosticsInteractionInfo;
+  }
+
+  private static void writeGeneralDiagnostics(
+      ChipClusters.GeneralDiagnosticsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGroupKeyManagementWriteAttributeMap() {
     Map<String, InteractionInfo> writeGroupKeyManagementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("groupKeyManagement", writeGroupKeyManagementInteractionInfo);
+    return writeGroupKeyManagementInteractionInfo;
+  }
+
+  private static void writeGroupKeyManagement(
+      ChipClusters.GroupKeyManagementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getGroupsWriteAttributeMap() {
     Map<String, InteractionInfo> writeGroupsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("groups", writeGroupsInteractionInfo);
+    return writeGroupsInteractionInfo;
+  }
+
+  private static void writeGroups(
+      ChipClusters.GroupsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getIdentifyWriteAttributeMap() {
     Map<String, InteractionInfo> writeIdentifyInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeIdentifyIdentifyTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -557,21 +1270,61 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeIdentifyIdentifyTimeCommandParams.put("value", identifyidentifyTimeCommandParameterInfo);
     InteractionInfo writeIdentifyIdentifyTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.IdentifyCluster) cluster)
-                  .writeIdentifyTimeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeIdentifyIdentifyTimeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.IdentifyCluster.CLUSTER_ID, 0L, writeIdentifyIdentifyTimeCommandParams);
     writeIdentifyInteractionInfo.put(
         "writeIdentifyTimeAttribute", writeIdentifyIdentifyTimeAttributeInteractionInfo);
-    writeAttributeMap.put("identify", writeIdentifyInteractionInfo);
+    return writeIdentifyInteractionInfo;
+  }
+
+  private static void writeIdentify(
+      ChipClusters.IdentifyCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 0:
+        cluster.writeIdentifyTimeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getIlluminanceMeasurementWriteAttributeMap() {
     Map<String, InteractionInfo> writeIlluminanceMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("illuminanceMeasurement", writeIlluminanceMeasurementInteractionInfo);
+    return writeIlluminanceMeasurementInteractionInfo;
+  }
+
+  private static void writeIlluminanceMeasurement(
+      ChipClusters.IlluminanceMeasurementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getKeypadInputWriteAttributeMap() {
     Map<String, InteractionInfo> writeKeypadInputInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("keypadInput", writeKeypadInputInteractionInfo);
+    return writeKeypadInputInteractionInfo;
+  }
+
+  private static void writeKeypadInput(
+      ChipClusters.KeypadInputCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getLevelControlWriteAttributeMap() {
     Map<String, InteractionInfo> writeLevelControlInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeLevelControlOptionsCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -579,13 +1332,9 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeLevelControlOptionsCommandParams.put("value", levelControloptionsCommandParameterInfo);
     InteractionInfo writeLevelControlOptionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeOptionsAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            15L,
             writeLevelControlOptionsCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeOptionsAttribute", writeLevelControlOptionsAttributeInteractionInfo);
@@ -596,13 +1345,9 @@ public class ClusterWriteMapping {
     writeLevelControlOnOffTransitionTimeCommandParams.put(
         "value", levelControlonOffTransitionTimeCommandParameterInfo);
     InteractionInfo writeLevelControlOnOffTransitionTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeOnOffTransitionTimeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            16L,
             writeLevelControlOnOffTransitionTimeCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeOnOffTransitionTimeAttribute",
@@ -613,13 +1358,9 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeLevelControlOnLevelCommandParams.put("value", levelControlonLevelCommandParameterInfo);
     InteractionInfo writeLevelControlOnLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeOnLevelAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            17L,
             writeLevelControlOnLevelCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeOnLevelAttribute", writeLevelControlOnLevelAttributeInteractionInfo);
@@ -630,13 +1371,9 @@ public class ClusterWriteMapping {
     writeLevelControlOnTransitionTimeCommandParams.put(
         "value", levelControlonTransitionTimeCommandParameterInfo);
     InteractionInfo writeLevelControlOnTransitionTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeOnTransitionTimeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            18L,
             writeLevelControlOnTransitionTimeCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeOnTransitionTimeAttribute",
@@ -648,13 +1385,9 @@ public class ClusterWriteMapping {
     writeLevelControlOffTransitionTimeCommandParams.put(
         "value", levelControloffTransitionTimeCommandParameterInfo);
     InteractionInfo writeLevelControlOffTransitionTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeOffTransitionTimeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            19L,
             writeLevelControlOffTransitionTimeCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeOffTransitionTimeAttribute",
@@ -666,13 +1399,9 @@ public class ClusterWriteMapping {
     writeLevelControlDefaultMoveRateCommandParams.put(
         "value", levelControldefaultMoveRateCommandParameterInfo);
     InteractionInfo writeLevelControlDefaultMoveRateAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeDefaultMoveRateAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            20L,
             writeLevelControlDefaultMoveRateCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeDefaultMoveRateAttribute", writeLevelControlDefaultMoveRateAttributeInteractionInfo);
@@ -683,18 +1412,56 @@ public class ClusterWriteMapping {
     writeLevelControlStartUpCurrentLevelCommandParams.put(
         "value", levelControlstartUpCurrentLevelCommandParameterInfo);
     InteractionInfo writeLevelControlStartUpCurrentLevelAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LevelControlCluster) cluster)
-                  .writeStartUpCurrentLevelAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LevelControlCluster.CLUSTER_ID,
+            16384L,
             writeLevelControlStartUpCurrentLevelCommandParams);
     writeLevelControlInteractionInfo.put(
         "writeStartUpCurrentLevelAttribute",
         writeLevelControlStartUpCurrentLevelAttributeInteractionInfo);
-    writeAttributeMap.put("levelControl", writeLevelControlInteractionInfo);
+    return writeLevelControlInteractionInfo;
+  }
+
+  private static void writeLevelControl(
+      ChipClusters.LevelControlCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 15:
+        cluster.writeOptionsAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 16:
+        cluster.writeOnOffTransitionTimeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 17:
+        cluster.writeOnLevelAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 18:
+        cluster.writeOnTransitionTimeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 19:
+        cluster.writeOffTransitionTimeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 20:
+        cluster.writeDefaultMoveRateAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 16384:
+        cluster.writeStartUpCurrentLevelAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getLocalizationConfigurationWriteAttributeMap() {
     Map<String, InteractionInfo> writeLocalizationConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeLocalizationConfigurationActiveLocaleCommandParams =
@@ -704,25 +1471,80 @@ public class ClusterWriteMapping {
     writeLocalizationConfigurationActiveLocaleCommandParams.put(
         "value", localizationConfigurationactiveLocaleCommandParameterInfo);
     InteractionInfo writeLocalizationConfigurationActiveLocaleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.LocalizationConfigurationCluster) cluster)
-                  .writeActiveLocaleAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.LocalizationConfigurationCluster.CLUSTER_ID,
+            1L,
             writeLocalizationConfigurationActiveLocaleCommandParams);
     writeLocalizationConfigurationInteractionInfo.put(
         "writeActiveLocaleAttribute",
         writeLocalizationConfigurationActiveLocaleAttributeInteractionInfo);
-    writeAttributeMap.put(
-        "localizationConfiguration", writeLocalizationConfigurationInteractionInfo);
+    return writeLocalizationConfigurationInteractionInfo;
+  }
+
+  private static void writeLocalizationConfiguration(
+      ChipClusters.LocalizationConfigurationCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 1:
+        cluster.writeActiveLocaleAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getLowPowerWriteAttributeMap() {
     Map<String, InteractionInfo> writeLowPowerInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("lowPower", writeLowPowerInteractionInfo);
+    return writeLowPowerInteractionInfo;
+  }
+
+  private static void writeLowPower(
+      ChipClusters.LowPowerCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getMediaInputWriteAttributeMap() {
     Map<String, InteractionInfo> writeMediaInputInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("mediaInput", writeMediaInputInteractionInfo);
+    return writeMediaInputInteractionInfo;
+  }
+
+  private static void writeMediaInput(
+      ChipClusters.MediaInputCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getMediaPlaybackWriteAttributeMap() {
     Map<String, InteractionInfo> writeMediaPlaybackInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("mediaPlayback", writeMediaPlaybackInteractionInfo);
+    return writeMediaPlaybackInteractionInfo;
+  }
+
+  private static void writeMediaPlayback(
+      ChipClusters.MediaPlaybackCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getModeSelectWriteAttributeMap() {
     Map<String, InteractionInfo> writeModeSelectInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeModeSelectOnModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -730,17 +1552,29 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeModeSelectOnModeCommandParams.put("value", modeSelectonModeCommandParameterInfo);
     InteractionInfo writeModeSelectOnModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ModeSelectCluster) cluster)
-                  .writeOnModeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeModeSelectOnModeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ModeSelectCluster.CLUSTER_ID, 2L, writeModeSelectOnModeCommandParams);
     writeModeSelectInteractionInfo.put(
         "writeOnModeAttribute", writeModeSelectOnModeAttributeInteractionInfo);
-    writeAttributeMap.put("modeSelect", writeModeSelectInteractionInfo);
+    return writeModeSelectInteractionInfo;
+  }
+
+  private static void writeModeSelect(
+      ChipClusters.ModeSelectCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 2:
+        cluster.writeOnModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getNetworkCommissioningWriteAttributeMap() {
     Map<String, InteractionInfo> writeNetworkCommissioningInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeNetworkCommissioningInterfaceEnabledCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -749,28 +1583,82 @@ public class ClusterWriteMapping {
     writeNetworkCommissioningInterfaceEnabledCommandParams.put(
         "value", networkCommissioninginterfaceEnabledCommandParameterInfo);
     InteractionInfo writeNetworkCommissioningInterfaceEnabledAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.NetworkCommissioningCluster) cluster)
-                  .writeInterfaceEnabledAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.NetworkCommissioningCluster.CLUSTER_ID,
+            4L,
             writeNetworkCommissioningInterfaceEnabledCommandParams);
     writeNetworkCommissioningInteractionInfo.put(
         "writeInterfaceEnabledAttribute",
         writeNetworkCommissioningInterfaceEnabledAttributeInteractionInfo);
-    writeAttributeMap.put("networkCommissioning", writeNetworkCommissioningInteractionInfo);
+    return writeNetworkCommissioningInteractionInfo;
+  }
+
+  private static void writeNetworkCommissioning(
+      ChipClusters.NetworkCommissioningCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 4:
+        cluster.writeInterfaceEnabledAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateProviderWriteAttributeMap() {
     Map<String, InteractionInfo> writeOtaSoftwareUpdateProviderInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put(
-        "otaSoftwareUpdateProvider", writeOtaSoftwareUpdateProviderInteractionInfo);
+    return writeOtaSoftwareUpdateProviderInteractionInfo;
+  }
+
+  private static void writeOtaSoftwareUpdateProvider(
+      ChipClusters.OtaSoftwareUpdateProviderCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOtaSoftwareUpdateRequestorWriteAttributeMap() {
     Map<String, InteractionInfo> writeOtaSoftwareUpdateRequestorInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put(
-        "otaSoftwareUpdateRequestor", writeOtaSoftwareUpdateRequestorInteractionInfo);
+    return writeOtaSoftwareUpdateRequestorInteractionInfo;
+  }
+
+  private static void writeOtaSoftwareUpdateRequestor(
+      ChipClusters.OtaSoftwareUpdateRequestorCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOccupancySensingWriteAttributeMap() {
     Map<String, InteractionInfo> writeOccupancySensingInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("occupancySensing", writeOccupancySensingInteractionInfo);
+    return writeOccupancySensingInteractionInfo;
+  }
+
+  private static void writeOccupancySensing(
+      ChipClusters.OccupancySensingCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOnOffWriteAttributeMap() {
     Map<String, InteractionInfo> writeOnOffInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeOnOffOnTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -778,14 +1666,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeOnOffOnTimeCommandParams.put("value", onOffonTimeCommandParameterInfo);
     InteractionInfo writeOnOffOnTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .writeOnTimeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeOnOffOnTimeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16385L, writeOnOffOnTimeCommandParams);
     writeOnOffInteractionInfo.put("writeOnTimeAttribute", writeOnOffOnTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOnOffOffWaitTimeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -793,14 +1675,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeOnOffOffWaitTimeCommandParams.put("value", onOffoffWaitTimeCommandParameterInfo);
     InteractionInfo writeOnOffOffWaitTimeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .writeOffWaitTimeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeOnOffOffWaitTimeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16386L, writeOnOffOffWaitTimeCommandParams);
     writeOnOffInteractionInfo.put(
         "writeOffWaitTimeAttribute", writeOnOffOffWaitTimeAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeOnOffStartUpOnOffCommandParams =
@@ -809,17 +1685,37 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeOnOffStartUpOnOffCommandParams.put("value", onOffstartUpOnOffCommandParameterInfo);
     InteractionInfo writeOnOffStartUpOnOffAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffCluster) cluster)
-                  .writeStartUpOnOffAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeOnOffStartUpOnOffCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.OnOffCluster.CLUSTER_ID, 16387L, writeOnOffStartUpOnOffCommandParams);
     writeOnOffInteractionInfo.put(
         "writeStartUpOnOffAttribute", writeOnOffStartUpOnOffAttributeInteractionInfo);
-    writeAttributeMap.put("onOff", writeOnOffInteractionInfo);
+    return writeOnOffInteractionInfo;
+  }
+
+  private static void writeOnOff(
+      ChipClusters.OnOffCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 16385:
+        cluster.writeOnTimeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 16386:
+        cluster.writeOffWaitTimeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 16387:
+        cluster.writeStartUpOnOffAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOnOffSwitchConfigurationWriteAttributeMap() {
     Map<String, InteractionInfo> writeOnOffSwitchConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeOnOffSwitchConfigurationSwitchActionsCommandParams =
@@ -829,27 +1725,97 @@ public class ClusterWriteMapping {
     writeOnOffSwitchConfigurationSwitchActionsCommandParams.put(
         "value", onOffSwitchConfigurationswitchActionsCommandParameterInfo);
     InteractionInfo writeOnOffSwitchConfigurationSwitchActionsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.OnOffSwitchConfigurationCluster) cluster)
-                  .writeSwitchActionsAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.OnOffSwitchConfigurationCluster.CLUSTER_ID,
+            16L,
             writeOnOffSwitchConfigurationSwitchActionsCommandParams);
     writeOnOffSwitchConfigurationInteractionInfo.put(
         "writeSwitchActionsAttribute",
         writeOnOffSwitchConfigurationSwitchActionsAttributeInteractionInfo);
-    writeAttributeMap.put("onOffSwitchConfiguration", writeOnOffSwitchConfigurationInteractionInfo);
+    return writeOnOffSwitchConfigurationInteractionInfo;
+  }
+
+  private static void writeOnOffSwitchConfiguration(
+      ChipClusters.OnOffSwitchConfigurationCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 16:
+        cluster.writeSwitchActionsAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getOperationalCredentialsWriteAttributeMap() {
     Map<String, InteractionInfo> writeOperationalCredentialsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("operationalCredentials", writeOperationalCredentialsInteractionInfo);
+    return writeOperationalCredentialsInteractionInfo;
+  }
+
+  private static void writeOperationalCredentials(
+      ChipClusters.OperationalCredentialsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPowerSourceWriteAttributeMap() {
     Map<String, InteractionInfo> writePowerSourceInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("powerSource", writePowerSourceInteractionInfo);
+    return writePowerSourceInteractionInfo;
+  }
+
+  private static void writePowerSource(
+      ChipClusters.PowerSourceCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPowerSourceConfigurationWriteAttributeMap() {
     Map<String, InteractionInfo> writePowerSourceConfigurationInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put("powerSourceConfiguration", writePowerSourceConfigurationInteractionInfo);
+    return writePowerSourceConfigurationInteractionInfo;
+  }
+
+  private static void writePowerSourceConfiguration(
+      ChipClusters.PowerSourceConfigurationCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPressureMeasurementWriteAttributeMap() {
     Map<String, InteractionInfo> writePressureMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("pressureMeasurement", writePressureMeasurementInteractionInfo);
+    return writePressureMeasurementInteractionInfo;
+  }
+
+  private static void writePressureMeasurement(
+      ChipClusters.PressureMeasurementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getPumpConfigurationAndControlWriteAttributeMap() {
     Map<String, InteractionInfo> writePumpConfigurationAndControlInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo>
@@ -860,13 +1826,9 @@ public class ClusterWriteMapping {
     writePumpConfigurationAndControlLifetimeRunningHoursCommandParams.put(
         "value", pumpConfigurationAndControllifetimeRunningHoursCommandParameterInfo);
     InteractionInfo writePumpConfigurationAndControlLifetimeRunningHoursAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .writeLifetimeRunningHoursAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            21L,
             writePumpConfigurationAndControlLifetimeRunningHoursCommandParams);
     writePumpConfigurationAndControlInteractionInfo.put(
         "writeLifetimeRunningHoursAttribute",
@@ -879,13 +1841,9 @@ public class ClusterWriteMapping {
     writePumpConfigurationAndControlLifetimeEnergyConsumedCommandParams.put(
         "value", pumpConfigurationAndControllifetimeEnergyConsumedCommandParameterInfo);
     InteractionInfo writePumpConfigurationAndControlLifetimeEnergyConsumedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .writeLifetimeEnergyConsumedAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            23L,
             writePumpConfigurationAndControlLifetimeEnergyConsumedCommandParams);
     writePumpConfigurationAndControlInteractionInfo.put(
         "writeLifetimeEnergyConsumedAttribute",
@@ -897,13 +1855,9 @@ public class ClusterWriteMapping {
     writePumpConfigurationAndControlOperationModeCommandParams.put(
         "value", pumpConfigurationAndControloperationModeCommandParameterInfo);
     InteractionInfo writePumpConfigurationAndControlOperationModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .writeOperationModeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            32L,
             writePumpConfigurationAndControlOperationModeCommandParams);
     writePumpConfigurationAndControlInteractionInfo.put(
         "writeOperationModeAttribute",
@@ -915,33 +1869,141 @@ public class ClusterWriteMapping {
     writePumpConfigurationAndControlControlModeCommandParams.put(
         "value", pumpConfigurationAndControlcontrolModeCommandParameterInfo);
     InteractionInfo writePumpConfigurationAndControlControlModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.PumpConfigurationAndControlCluster) cluster)
-                  .writeControlModeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.PumpConfigurationAndControlCluster.CLUSTER_ID,
+            33L,
             writePumpConfigurationAndControlControlModeCommandParams);
     writePumpConfigurationAndControlInteractionInfo.put(
         "writeControlModeAttribute",
         writePumpConfigurationAndControlControlModeAttributeInteractionInfo);
-    writeAttributeMap.put(
-        "pumpConfigurationAndControl", writePumpConfigurationAndControlInteractionInfo);
+    return writePumpConfigurationAndControlInteractionInfo;
+  }
+
+  private static void writePumpConfigurationAndControl(
+      ChipClusters.PumpConfigurationAndControlCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 21:
+        cluster.writeLifetimeRunningHoursAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 23:
+        cluster.writeLifetimeEnergyConsumedAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32:
+        cluster.writeOperationModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 33:
+        cluster.writeControlModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getRelativeHumidityMeasurementWriteAttributeMap() {
     Map<String, InteractionInfo> writeRelativeHumidityMeasurementInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put(
-        "relativeHumidityMeasurement", writeRelativeHumidityMeasurementInteractionInfo);
+    return writeRelativeHumidityMeasurementInteractionInfo;
+  }
+
+  private static void writeRelativeHumidityMeasurement(
+      ChipClusters.RelativeHumidityMeasurementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getScenesWriteAttributeMap() {
     Map<String, InteractionInfo> writeScenesInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("scenes", writeScenesInteractionInfo);
+    return writeScenesInteractionInfo;
+  }
+
+  private static void writeScenes(
+      ChipClusters.ScenesCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getSoftwareDiagnosticsWriteAttributeMap() {
     Map<String, InteractionInfo> writeSoftwareDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("softwareDiagnostics", writeSoftwareDiagnosticsInteractionInfo);
+    return writeSoftwareDiagnosticsInteractionInfo;
+  }
+
+  private static void writeSoftwareDiagnostics(
+      ChipClusters.SoftwareDiagnosticsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getSwitchWriteAttributeMap() {
     Map<String, InteractionInfo> writeSwitchInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("switch", writeSwitchInteractionInfo);
+    return writeSwitchInteractionInfo;
+  }
+
+  private static void writeSwitch(
+      ChipClusters.SwitchCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getTargetNavigatorWriteAttributeMap() {
     Map<String, InteractionInfo> writeTargetNavigatorInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("targetNavigator", writeTargetNavigatorInteractionInfo);
+    return writeTargetNavigatorInteractionInfo;
+  }
+
+  private static void writeTargetNavigator(
+      ChipClusters.TargetNavigatorCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getTemperatureMeasurementWriteAttributeMap() {
     Map<String, InteractionInfo> writeTemperatureMeasurementInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("temperatureMeasurement", writeTemperatureMeasurementInteractionInfo);
+    return writeTemperatureMeasurementInteractionInfo;
+  }
+
+  private static void writeTemperatureMeasurement(
+      ChipClusters.TemperatureMeasurementCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getTestClusterWriteAttributeMap() {
     Map<String, InteractionInfo> writeTestClusterInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeTestClusterBooleanCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -949,14 +2011,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", boolean.class);
     writeTestClusterBooleanCommandParams.put("value", testClusterbooleanCommandParameterInfo);
     InteractionInfo writeTestClusterBooleanAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeBooleanAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterBooleanCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 0L, writeTestClusterBooleanCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeBooleanAttribute", writeTestClusterBooleanAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterBitmap8CommandParams =
@@ -965,14 +2021,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterBitmap8CommandParams.put("value", testClusterbitmap8CommandParameterInfo);
     InteractionInfo writeTestClusterBitmap8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeBitmap8Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterBitmap8CommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 1L, writeTestClusterBitmap8CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeBitmap8Attribute", writeTestClusterBitmap8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterBitmap16CommandParams =
@@ -981,14 +2031,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterBitmap16CommandParams.put("value", testClusterbitmap16CommandParameterInfo);
     InteractionInfo writeTestClusterBitmap16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeBitmap16Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterBitmap16CommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 2L, writeTestClusterBitmap16CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeBitmap16Attribute", writeTestClusterBitmap16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterBitmap32CommandParams =
@@ -997,14 +2041,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterBitmap32CommandParams.put("value", testClusterbitmap32CommandParameterInfo);
     InteractionInfo writeTestClusterBitmap32AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeBitmap32Attribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterBitmap32CommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 3L, writeTestClusterBitmap32CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeBitmap32Attribute", writeTestClusterBitmap32AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterBitmap64CommandParams =
@@ -1013,14 +2051,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterBitmap64CommandParams.put("value", testClusterbitmap64CommandParameterInfo);
     InteractionInfo writeTestClusterBitmap64AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeBitmap64Attribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterBitmap64CommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 4L, writeTestClusterBitmap64CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeBitmap64Attribute", writeTestClusterBitmap64AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt8uCommandParams =
@@ -1029,14 +2061,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterInt8uCommandParams.put("value", testClusterint8uCommandParameterInfo);
     InteractionInfo writeTestClusterInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt8uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt8uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 5L, writeTestClusterInt8uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt8uAttribute", writeTestClusterInt8uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt16uCommandParams =
@@ -1045,14 +2071,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterInt16uCommandParams.put("value", testClusterint16uCommandParameterInfo);
     InteractionInfo writeTestClusterInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt16uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt16uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 6L, writeTestClusterInt16uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt16uAttribute", writeTestClusterInt16uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt24uCommandParams =
@@ -1061,14 +2081,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt24uCommandParams.put("value", testClusterint24uCommandParameterInfo);
     InteractionInfo writeTestClusterInt24uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt24uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt24uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 7L, writeTestClusterInt24uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt24uAttribute", writeTestClusterInt24uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt32uCommandParams =
@@ -1077,14 +2091,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt32uCommandParams.put("value", testClusterint32uCommandParameterInfo);
     InteractionInfo writeTestClusterInt32uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt32uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt32uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 8L, writeTestClusterInt32uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt32uAttribute", writeTestClusterInt32uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt40uCommandParams =
@@ -1093,14 +2101,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt40uCommandParams.put("value", testClusterint40uCommandParameterInfo);
     InteractionInfo writeTestClusterInt40uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt40uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt40uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 9L, writeTestClusterInt40uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt40uAttribute", writeTestClusterInt40uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt48uCommandParams =
@@ -1109,14 +2111,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt48uCommandParams.put("value", testClusterint48uCommandParameterInfo);
     InteractionInfo writeTestClusterInt48uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt48uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt48uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 10L, writeTestClusterInt48uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt48uAttribute", writeTestClusterInt48uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt56uCommandParams =
@@ -1125,14 +2121,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt56uCommandParams.put("value", testClusterint56uCommandParameterInfo);
     InteractionInfo writeTestClusterInt56uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt56uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt56uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 11L, writeTestClusterInt56uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt56uAttribute", writeTestClusterInt56uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt64uCommandParams =
@@ -1141,14 +2131,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt64uCommandParams.put("value", testClusterint64uCommandParameterInfo);
     InteractionInfo writeTestClusterInt64uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt64uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt64uCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 12L, writeTestClusterInt64uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt64uAttribute", writeTestClusterInt64uAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt8sCommandParams =
@@ -1157,14 +2141,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterInt8sCommandParams.put("value", testClusterint8sCommandParameterInfo);
     InteractionInfo writeTestClusterInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt8sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt8sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 13L, writeTestClusterInt8sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt8sAttribute", writeTestClusterInt8sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt16sCommandParams =
@@ -1173,14 +2151,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterInt16sCommandParams.put("value", testClusterint16sCommandParameterInfo);
     InteractionInfo writeTestClusterInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt16sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt16sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 14L, writeTestClusterInt16sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt16sAttribute", writeTestClusterInt16sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt24sCommandParams =
@@ -1189,14 +2161,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt24sCommandParams.put("value", testClusterint24sCommandParameterInfo);
     InteractionInfo writeTestClusterInt24sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt24sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt24sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 15L, writeTestClusterInt24sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt24sAttribute", writeTestClusterInt24sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt32sCommandParams =
@@ -1205,14 +2171,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt32sCommandParams.put("value", testClusterint32sCommandParameterInfo);
     InteractionInfo writeTestClusterInt32sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt32sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt32sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 16L, writeTestClusterInt32sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt32sAttribute", writeTestClusterInt32sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt40sCommandParams =
@@ -1221,14 +2181,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt40sCommandParams.put("value", testClusterint40sCommandParameterInfo);
     InteractionInfo writeTestClusterInt40sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt40sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt40sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 17L, writeTestClusterInt40sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt40sAttribute", writeTestClusterInt40sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt48sCommandParams =
@@ -1237,14 +2191,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt48sCommandParams.put("value", testClusterint48sCommandParameterInfo);
     InteractionInfo writeTestClusterInt48sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt48sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt48sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 18L, writeTestClusterInt48sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt48sAttribute", writeTestClusterInt48sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt56sCommandParams =
@@ -1253,14 +2201,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt56sCommandParams.put("value", testClusterint56sCommandParameterInfo);
     InteractionInfo writeTestClusterInt56sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt56sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt56sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 19L, writeTestClusterInt56sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt56sAttribute", writeTestClusterInt56sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterInt64sCommandParams =
@@ -1269,14 +2211,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterInt64sCommandParams.put("value", testClusterint64sCommandParameterInfo);
     InteractionInfo writeTestClusterInt64sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeInt64sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterInt64sCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 20L, writeTestClusterInt64sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeInt64sAttribute", writeTestClusterInt64sAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterEnum8CommandParams =
@@ -1285,14 +2221,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterEnum8CommandParams.put("value", testClusterenum8CommandParameterInfo);
     InteractionInfo writeTestClusterEnum8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeEnum8Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterEnum8CommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 21L, writeTestClusterEnum8CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeEnum8Attribute", writeTestClusterEnum8AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterEnum16CommandParams =
@@ -1301,14 +2231,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterEnum16CommandParams.put("value", testClusterenum16CommandParameterInfo);
     InteractionInfo writeTestClusterEnum16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeEnum16Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterEnum16CommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 22L, writeTestClusterEnum16CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeEnum16Attribute", writeTestClusterEnum16AttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterFloatSingleCommandParams =
@@ -1318,13 +2242,9 @@ public class ClusterWriteMapping {
     writeTestClusterFloatSingleCommandParams.put(
         "value", testClusterfloatSingleCommandParameterInfo);
     InteractionInfo writeTestClusterFloatSingleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeFloatSingleAttribute(
-                      (DefaultClusterCallback) callback, (Float) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            23L,
             writeTestClusterFloatSingleCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeFloatSingleAttribute", writeTestClusterFloatSingleAttributeInteractionInfo);
@@ -1335,13 +2255,9 @@ public class ClusterWriteMapping {
     writeTestClusterFloatDoubleCommandParams.put(
         "value", testClusterfloatDoubleCommandParameterInfo);
     InteractionInfo writeTestClusterFloatDoubleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeFloatDoubleAttribute(
-                      (DefaultClusterCallback) callback, (Double) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            24L,
             writeTestClusterFloatDoubleCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeFloatDoubleAttribute", writeTestClusterFloatDoubleAttributeInteractionInfo);
@@ -1352,13 +2268,9 @@ public class ClusterWriteMapping {
     writeTestClusterOctetStringCommandParams.put(
         "value", testClusteroctetStringCommandParameterInfo);
     InteractionInfo writeTestClusterOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeOctetStringAttribute(
-                      (DefaultClusterCallback) callback, (byte[]) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            25L,
             writeTestClusterOctetStringCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeOctetStringAttribute", writeTestClusterOctetStringAttributeInteractionInfo);
@@ -1369,13 +2281,9 @@ public class ClusterWriteMapping {
     writeTestClusterLongOctetStringCommandParams.put(
         "value", testClusterlongOctetStringCommandParameterInfo);
     InteractionInfo writeTestClusterLongOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeLongOctetStringAttribute(
-                      (DefaultClusterCallback) callback, (byte[]) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            29L,
             writeTestClusterLongOctetStringCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeLongOctetStringAttribute", writeTestClusterLongOctetStringAttributeInteractionInfo);
@@ -1385,13 +2293,9 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", String.class);
     writeTestClusterCharStringCommandParams.put("value", testClustercharStringCommandParameterInfo);
     InteractionInfo writeTestClusterCharStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeCharStringAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            30L,
             writeTestClusterCharStringCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeCharStringAttribute", writeTestClusterCharStringAttributeInteractionInfo);
@@ -1402,13 +2306,9 @@ public class ClusterWriteMapping {
     writeTestClusterLongCharStringCommandParams.put(
         "value", testClusterlongCharStringCommandParameterInfo);
     InteractionInfo writeTestClusterLongCharStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeLongCharStringAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            31L,
             writeTestClusterLongCharStringCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeLongCharStringAttribute", writeTestClusterLongCharStringAttributeInteractionInfo);
@@ -1418,14 +2318,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterEpochUsCommandParams.put("value", testClusterepochUsCommandParameterInfo);
     InteractionInfo writeTestClusterEpochUsAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeEpochUsAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterEpochUsCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 32L, writeTestClusterEpochUsCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeEpochUsAttribute", writeTestClusterEpochUsAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterEpochSCommandParams =
@@ -1434,14 +2328,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", long.class);
     writeTestClusterEpochSCommandParams.put("value", testClusterepochSCommandParameterInfo);
     InteractionInfo writeTestClusterEpochSAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeEpochSAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterEpochSCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 33L, writeTestClusterEpochSCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeEpochSAttribute", writeTestClusterEpochSAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterVendorIdCommandParams =
@@ -1450,14 +2338,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterVendorIdCommandParams.put("value", testClustervendorIdCommandParameterInfo);
     InteractionInfo writeTestClusterVendorIdAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeVendorIdAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterVendorIdCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 34L, writeTestClusterVendorIdCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeVendorIdAttribute", writeTestClusterVendorIdAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterEnumAttrCommandParams =
@@ -1466,14 +2348,8 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeTestClusterEnumAttrCommandParams.put("value", testClusterenumAttrCommandParameterInfo);
     InteractionInfo writeTestClusterEnumAttrAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeEnumAttrAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeTestClusterEnumAttrCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID, 36L, writeTestClusterEnumAttrCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeEnumAttrAttribute", writeTestClusterEnumAttrAttributeInteractionInfo);
     Map<String, CommandParameterInfo> writeTestClusterRangeRestrictedInt8uCommandParams =
@@ -1483,13 +2359,9 @@ public class ClusterWriteMapping {
     writeTestClusterRangeRestrictedInt8uCommandParams.put(
         "value", testClusterrangeRestrictedInt8uCommandParameterInfo);
     InteractionInfo writeTestClusterRangeRestrictedInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeRangeRestrictedInt8uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            38L,
             writeTestClusterRangeRestrictedInt8uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeRangeRestrictedInt8uAttribute",
@@ -1501,13 +2373,9 @@ public class ClusterWriteMapping {
     writeTestClusterRangeRestrictedInt8sCommandParams.put(
         "value", testClusterrangeRestrictedInt8sCommandParameterInfo);
     InteractionInfo writeTestClusterRangeRestrictedInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeRangeRestrictedInt8sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            39L,
             writeTestClusterRangeRestrictedInt8sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeRangeRestrictedInt8sAttribute",
@@ -1519,13 +2387,9 @@ public class ClusterWriteMapping {
     writeTestClusterRangeRestrictedInt16uCommandParams.put(
         "value", testClusterrangeRestrictedInt16uCommandParameterInfo);
     InteractionInfo writeTestClusterRangeRestrictedInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeRangeRestrictedInt16uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            40L,
             writeTestClusterRangeRestrictedInt16uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeRangeRestrictedInt16uAttribute",
@@ -1537,13 +2401,9 @@ public class ClusterWriteMapping {
     writeTestClusterRangeRestrictedInt16sCommandParams.put(
         "value", testClusterrangeRestrictedInt16sCommandParameterInfo);
     InteractionInfo writeTestClusterRangeRestrictedInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeRangeRestrictedInt16sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            41L,
             writeTestClusterRangeRestrictedInt16sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeRangeRestrictedInt16sAttribute",
@@ -1555,15 +2415,9 @@ public class ClusterWriteMapping {
     writeTestClusterTimedWriteBooleanCommandParams.put(
         "value", testClustertimedWriteBooleanCommandParameterInfo);
     InteractionInfo writeTestClusterTimedWriteBooleanAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeTimedWriteBooleanAttribute(
-                      (DefaultClusterCallback) callback,
-                      (Boolean) commandArguments.get("value"),
-                      10000);
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            48L,
             writeTestClusterTimedWriteBooleanCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeTimedWriteBooleanAttribute",
@@ -1575,13 +2429,9 @@ public class ClusterWriteMapping {
     writeTestClusterUnsupportedCommandParams.put(
         "value", testClusterunsupportedCommandParameterInfo);
     InteractionInfo writeTestClusterUnsupportedAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeUnsupportedAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            255L,
             writeTestClusterUnsupportedCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeUnsupportedAttribute", writeTestClusterUnsupportedAttributeInteractionInfo);
@@ -1592,13 +2442,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableBooleanCommandParams.put(
         "value", testClusternullableBooleanCommandParameterInfo);
     InteractionInfo writeTestClusterNullableBooleanAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableBooleanAttribute(
-                      (DefaultClusterCallback) callback, (Boolean) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32768L,
             writeTestClusterNullableBooleanCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableBooleanAttribute", writeTestClusterNullableBooleanAttributeInteractionInfo);
@@ -1609,13 +2455,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableBitmap8CommandParams.put(
         "value", testClusternullableBitmap8CommandParameterInfo);
     InteractionInfo writeTestClusterNullableBitmap8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableBitmap8Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32769L,
             writeTestClusterNullableBitmap8CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableBitmap8Attribute", writeTestClusterNullableBitmap8AttributeInteractionInfo);
@@ -1626,13 +2468,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableBitmap16CommandParams.put(
         "value", testClusternullableBitmap16CommandParameterInfo);
     InteractionInfo writeTestClusterNullableBitmap16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableBitmap16Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32770L,
             writeTestClusterNullableBitmap16CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableBitmap16Attribute", writeTestClusterNullableBitmap16AttributeInteractionInfo);
@@ -1643,13 +2481,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableBitmap32CommandParams.put(
         "value", testClusternullableBitmap32CommandParameterInfo);
     InteractionInfo writeTestClusterNullableBitmap32AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableBitmap32Attribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32771L,
             writeTestClusterNullableBitmap32CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableBitmap32Attribute", writeTestClusterNullableBitmap32AttributeInteractionInfo);
@@ -1660,13 +2494,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableBitmap64CommandParams.put(
         "value", testClusternullableBitmap64CommandParameterInfo);
     InteractionInfo writeTestClusterNullableBitmap64AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableBitmap64Attribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32772L,
             writeTestClusterNullableBitmap64CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableBitmap64Attribute", writeTestClusterNullableBitmap64AttributeInteractionInfo);
@@ -1677,13 +2507,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt8uCommandParams.put(
         "value", testClusternullableInt8uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt8uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32773L,
             writeTestClusterNullableInt8uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt8uAttribute", writeTestClusterNullableInt8uAttributeInteractionInfo);
@@ -1694,13 +2520,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt16uCommandParams.put(
         "value", testClusternullableInt16uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt16uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32774L,
             writeTestClusterNullableInt16uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt16uAttribute", writeTestClusterNullableInt16uAttributeInteractionInfo);
@@ -1711,13 +2533,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt24uCommandParams.put(
         "value", testClusternullableInt24uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt24uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt24uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32775L,
             writeTestClusterNullableInt24uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt24uAttribute", writeTestClusterNullableInt24uAttributeInteractionInfo);
@@ -1728,13 +2546,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt32uCommandParams.put(
         "value", testClusternullableInt32uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt32uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt32uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32776L,
             writeTestClusterNullableInt32uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt32uAttribute", writeTestClusterNullableInt32uAttributeInteractionInfo);
@@ -1745,13 +2559,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt40uCommandParams.put(
         "value", testClusternullableInt40uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt40uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt40uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32777L,
             writeTestClusterNullableInt40uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt40uAttribute", writeTestClusterNullableInt40uAttributeInteractionInfo);
@@ -1762,13 +2572,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt48uCommandParams.put(
         "value", testClusternullableInt48uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt48uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt48uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32778L,
             writeTestClusterNullableInt48uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt48uAttribute", writeTestClusterNullableInt48uAttributeInteractionInfo);
@@ -1779,13 +2585,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt56uCommandParams.put(
         "value", testClusternullableInt56uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt56uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt56uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32779L,
             writeTestClusterNullableInt56uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt56uAttribute", writeTestClusterNullableInt56uAttributeInteractionInfo);
@@ -1796,13 +2598,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt64uCommandParams.put(
         "value", testClusternullableInt64uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt64uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt64uAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32780L,
             writeTestClusterNullableInt64uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt64uAttribute", writeTestClusterNullableInt64uAttributeInteractionInfo);
@@ -1813,13 +2611,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt8sCommandParams.put(
         "value", testClusternullableInt8sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt8sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32781L,
             writeTestClusterNullableInt8sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt8sAttribute", writeTestClusterNullableInt8sAttributeInteractionInfo);
@@ -1830,13 +2624,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt16sCommandParams.put(
         "value", testClusternullableInt16sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt16sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32782L,
             writeTestClusterNullableInt16sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt16sAttribute", writeTestClusterNullableInt16sAttributeInteractionInfo);
@@ -1847,13 +2637,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt24sCommandParams.put(
         "value", testClusternullableInt24sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt24sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt24sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32783L,
             writeTestClusterNullableInt24sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt24sAttribute", writeTestClusterNullableInt24sAttributeInteractionInfo);
@@ -1864,13 +2650,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt32sCommandParams.put(
         "value", testClusternullableInt32sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt32sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt32sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32784L,
             writeTestClusterNullableInt32sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt32sAttribute", writeTestClusterNullableInt32sAttributeInteractionInfo);
@@ -1881,13 +2663,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt40sCommandParams.put(
         "value", testClusternullableInt40sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt40sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt40sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32785L,
             writeTestClusterNullableInt40sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt40sAttribute", writeTestClusterNullableInt40sAttributeInteractionInfo);
@@ -1898,13 +2676,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt48sCommandParams.put(
         "value", testClusternullableInt48sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt48sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt48sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32786L,
             writeTestClusterNullableInt48sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt48sAttribute", writeTestClusterNullableInt48sAttributeInteractionInfo);
@@ -1915,13 +2689,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt56sCommandParams.put(
         "value", testClusternullableInt56sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt56sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt56sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32787L,
             writeTestClusterNullableInt56sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt56sAttribute", writeTestClusterNullableInt56sAttributeInteractionInfo);
@@ -1932,13 +2702,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableInt64sCommandParams.put(
         "value", testClusternullableInt64sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableInt64sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableInt64sAttribute(
-                      (DefaultClusterCallback) callback, (Long) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32788L,
             writeTestClusterNullableInt64sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableInt64sAttribute", writeTestClusterNullableInt64sAttributeInteractionInfo);
@@ -1949,13 +2715,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableEnum8CommandParams.put(
         "value", testClusternullableEnum8CommandParameterInfo);
     InteractionInfo writeTestClusterNullableEnum8AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableEnum8Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32789L,
             writeTestClusterNullableEnum8CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableEnum8Attribute", writeTestClusterNullableEnum8AttributeInteractionInfo);
@@ -1966,13 +2728,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableEnum16CommandParams.put(
         "value", testClusternullableEnum16CommandParameterInfo);
     InteractionInfo writeTestClusterNullableEnum16AttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableEnum16Attribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32790L,
             writeTestClusterNullableEnum16CommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableEnum16Attribute", writeTestClusterNullableEnum16AttributeInteractionInfo);
@@ -1983,13 +2741,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableFloatSingleCommandParams.put(
         "value", testClusternullableFloatSingleCommandParameterInfo);
     InteractionInfo writeTestClusterNullableFloatSingleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableFloatSingleAttribute(
-                      (DefaultClusterCallback) callback, (Float) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32791L,
             writeTestClusterNullableFloatSingleCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableFloatSingleAttribute",
@@ -2001,13 +2755,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableFloatDoubleCommandParams.put(
         "value", testClusternullableFloatDoubleCommandParameterInfo);
     InteractionInfo writeTestClusterNullableFloatDoubleAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableFloatDoubleAttribute(
-                      (DefaultClusterCallback) callback, (Double) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32792L,
             writeTestClusterNullableFloatDoubleCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableFloatDoubleAttribute",
@@ -2019,13 +2769,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableOctetStringCommandParams.put(
         "value", testClusternullableOctetStringCommandParameterInfo);
     InteractionInfo writeTestClusterNullableOctetStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableOctetStringAttribute(
-                      (DefaultClusterCallback) callback, (byte[]) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32793L,
             writeTestClusterNullableOctetStringCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableOctetStringAttribute",
@@ -2037,13 +2783,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableCharStringCommandParams.put(
         "value", testClusternullableCharStringCommandParameterInfo);
     InteractionInfo writeTestClusterNullableCharStringAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableCharStringAttribute(
-                      (DefaultClusterCallback) callback, (String) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32798L,
             writeTestClusterNullableCharStringCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableCharStringAttribute",
@@ -2055,13 +2797,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableEnumAttrCommandParams.put(
         "value", testClusternullableEnumAttrCommandParameterInfo);
     InteractionInfo writeTestClusterNullableEnumAttrAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableEnumAttrAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32804L,
             writeTestClusterNullableEnumAttrCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableEnumAttrAttribute", writeTestClusterNullableEnumAttrAttributeInteractionInfo);
@@ -2072,13 +2810,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableRangeRestrictedInt8uCommandParams.put(
         "value", testClusternullableRangeRestrictedInt8uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableRangeRestrictedInt8uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableRangeRestrictedInt8uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32806L,
             writeTestClusterNullableRangeRestrictedInt8uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableRangeRestrictedInt8uAttribute",
@@ -2090,13 +2824,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableRangeRestrictedInt8sCommandParams.put(
         "value", testClusternullableRangeRestrictedInt8sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableRangeRestrictedInt8sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableRangeRestrictedInt8sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32807L,
             writeTestClusterNullableRangeRestrictedInt8sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableRangeRestrictedInt8sAttribute",
@@ -2108,13 +2838,9 @@ public class ClusterWriteMapping {
     writeTestClusterNullableRangeRestrictedInt16uCommandParams.put(
         "value", testClusternullableRangeRestrictedInt16uCommandParameterInfo);
     InteractionInfo writeTestClusterNullableRangeRestrictedInt16uAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableRangeRestrictedInt16uAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32808L,
             writeTestClusterNullableRangeRestrictedInt16uCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableRangeRestrictedInt16uAttribute",
@@ -2126,18 +2852,299 @@ public class ClusterWriteMapping {
     writeTestClusterNullableRangeRestrictedInt16sCommandParams.put(
         "value", testClusternullableRangeRestrictedInt16sCommandParameterInfo);
     InteractionInfo writeTestClusterNullableRangeRestrictedInt16sAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.TestClusterCluster) cluster)
-                  .writeNullableRangeRestrictedInt16sAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.TestClusterCluster.CLUSTER_ID,
+            32809L,
             writeTestClusterNullableRangeRestrictedInt16sCommandParams);
     writeTestClusterInteractionInfo.put(
         "writeNullableRangeRestrictedInt16sAttribute",
         writeTestClusterNullableRangeRestrictedInt16sAttributeInteractionInfo);
-    writeAttributeMap.put("testCluster", writeTestClusterInteractionInfo);
+    return writeTestClusterInteractionInfo;
+  }
+
+  private static void writeTestCluster(
+      ChipClusters.TestClusterCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 0:
+        cluster.writeBooleanAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      case 1:
+        cluster.writeBitmap8Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 2:
+        cluster.writeBitmap16Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 3:
+        cluster.writeBitmap32Attribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 4:
+        cluster.writeBitmap64Attribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 5:
+        cluster.writeInt8uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 6:
+        cluster.writeInt16uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 7:
+        cluster.writeInt24uAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 8:
+        cluster.writeInt32uAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 9:
+        cluster.writeInt40uAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 10:
+        cluster.writeInt48uAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 11:
+        cluster.writeInt56uAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 12:
+        cluster.writeInt64uAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 13:
+        cluster.writeInt8sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 14:
+        cluster.writeInt16sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 15:
+        cluster.writeInt24sAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 16:
+        cluster.writeInt32sAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 17:
+        cluster.writeInt40sAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 18:
+        cluster.writeInt48sAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 19:
+        cluster.writeInt56sAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 20:
+        cluster.writeInt64sAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 21:
+        cluster.writeEnum8Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 22:
+        cluster.writeEnum16Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 23:
+        cluster.writeFloatSingleAttribute(
+            (DefaultClusterCallback) callback, (Float) commandArguments[0]);
+        break;
+      case 24:
+        cluster.writeFloatDoubleAttribute(
+            (DefaultClusterCallback) callback, (Double) commandArguments[0]);
+        break;
+      case 25:
+        cluster.writeOctetStringAttribute(
+            (DefaultClusterCallback) callback, (byte[]) commandArguments[0]);
+        break;
+      case 29:
+        cluster.writeLongOctetStringAttribute(
+            (DefaultClusterCallback) callback, (byte[]) commandArguments[0]);
+        break;
+      case 30:
+        cluster.writeCharStringAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      case 31:
+        cluster.writeLongCharStringAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      case 32:
+        cluster.writeEpochUsAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 33:
+        cluster.writeEpochSAttribute((DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 34:
+        cluster.writeVendorIdAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 36:
+        cluster.writeEnumAttrAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 38:
+        cluster.writeRangeRestrictedInt8uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 39:
+        cluster.writeRangeRestrictedInt8sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 40:
+        cluster.writeRangeRestrictedInt16uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 41:
+        cluster.writeRangeRestrictedInt16sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 48:
+        cluster.writeTimedWriteBooleanAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0], 10000);
+        break;
+      case 255:
+        cluster.writeUnsupportedAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      case 32768:
+        cluster.writeNullableBooleanAttribute(
+            (DefaultClusterCallback) callback, (Boolean) commandArguments[0]);
+        break;
+      case 32769:
+        cluster.writeNullableBitmap8Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32770:
+        cluster.writeNullableBitmap16Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32771:
+        cluster.writeNullableBitmap32Attribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32772:
+        cluster.writeNullableBitmap64Attribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32773:
+        cluster.writeNullableInt8uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32774:
+        cluster.writeNullableInt16uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32775:
+        cluster.writeNullableInt24uAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32776:
+        cluster.writeNullableInt32uAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32777:
+        cluster.writeNullableInt40uAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32778:
+        cluster.writeNullableInt48uAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32779:
+        cluster.writeNullableInt56uAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32780:
+        cluster.writeNullableInt64uAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32781:
+        cluster.writeNullableInt8sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32782:
+        cluster.writeNullableInt16sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32783:
+        cluster.writeNullableInt24sAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32784:
+        cluster.writeNullableInt32sAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32785:
+        cluster.writeNullableInt40sAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32786:
+        cluster.writeNullableInt48sAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32787:
+        cluster.writeNullableInt56sAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32788:
+        cluster.writeNullableInt64sAttribute(
+            (DefaultClusterCallback) callback, (Long) commandArguments[0]);
+        break;
+      case 32789:
+        cluster.writeNullableEnum8Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32790:
+        cluster.writeNullableEnum16Attribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32791:
+        cluster.writeNullableFloatSingleAttribute(
+            (DefaultClusterCallback) callback, (Float) commandArguments[0]);
+        break;
+      case 32792:
+        cluster.writeNullableFloatDoubleAttribute(
+            (DefaultClusterCallback) callback, (Double) commandArguments[0]);
+        break;
+      case 32793:
+        cluster.writeNullableOctetStringAttribute(
+            (DefaultClusterCallback) callback, (byte[]) commandArguments[0]);
+        break;
+      case 32798:
+        cluster.writeNullableCharStringAttribute(
+            (DefaultClusterCallback) callback, (String) commandArguments[0]);
+        break;
+      case 32804:
+        cluster.writeNullableEnumAttrAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32806:
+        cluster.writeNullableRangeRestrictedInt8uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32807:
+        cluster.writeNullableRangeRestrictedInt8sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32808:
+        cluster.writeNullableRangeRestrictedInt16uAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 32809:
+        cluster.writeNullableRangeRestrictedInt16sAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getThermostatWriteAttributeMap() {
     Map<String, InteractionInfo> writeThermostatInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeThermostatOccupiedCoolingSetpointCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -2146,13 +3153,9 @@ public class ClusterWriteMapping {
     writeThermostatOccupiedCoolingSetpointCommandParams.put(
         "value", thermostatoccupiedCoolingSetpointCommandParameterInfo);
     InteractionInfo writeThermostatOccupiedCoolingSetpointAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeOccupiedCoolingSetpointAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            17L,
             writeThermostatOccupiedCoolingSetpointCommandParams);
     writeThermostatInteractionInfo.put(
         "writeOccupiedCoolingSetpointAttribute",
@@ -2164,13 +3167,9 @@ public class ClusterWriteMapping {
     writeThermostatOccupiedHeatingSetpointCommandParams.put(
         "value", thermostatoccupiedHeatingSetpointCommandParameterInfo);
     InteractionInfo writeThermostatOccupiedHeatingSetpointAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeOccupiedHeatingSetpointAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            18L,
             writeThermostatOccupiedHeatingSetpointCommandParams);
     writeThermostatInteractionInfo.put(
         "writeOccupiedHeatingSetpointAttribute",
@@ -2182,13 +3181,9 @@ public class ClusterWriteMapping {
     writeThermostatMinHeatSetpointLimitCommandParams.put(
         "value", thermostatminHeatSetpointLimitCommandParameterInfo);
     InteractionInfo writeThermostatMinHeatSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeMinHeatSetpointLimitAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            21L,
             writeThermostatMinHeatSetpointLimitCommandParams);
     writeThermostatInteractionInfo.put(
         "writeMinHeatSetpointLimitAttribute",
@@ -2200,13 +3195,9 @@ public class ClusterWriteMapping {
     writeThermostatMaxHeatSetpointLimitCommandParams.put(
         "value", thermostatmaxHeatSetpointLimitCommandParameterInfo);
     InteractionInfo writeThermostatMaxHeatSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeMaxHeatSetpointLimitAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            22L,
             writeThermostatMaxHeatSetpointLimitCommandParams);
     writeThermostatInteractionInfo.put(
         "writeMaxHeatSetpointLimitAttribute",
@@ -2218,13 +3209,9 @@ public class ClusterWriteMapping {
     writeThermostatMinCoolSetpointLimitCommandParams.put(
         "value", thermostatminCoolSetpointLimitCommandParameterInfo);
     InteractionInfo writeThermostatMinCoolSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeMinCoolSetpointLimitAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            23L,
             writeThermostatMinCoolSetpointLimitCommandParams);
     writeThermostatInteractionInfo.put(
         "writeMinCoolSetpointLimitAttribute",
@@ -2236,13 +3223,9 @@ public class ClusterWriteMapping {
     writeThermostatMaxCoolSetpointLimitCommandParams.put(
         "value", thermostatmaxCoolSetpointLimitCommandParameterInfo);
     InteractionInfo writeThermostatMaxCoolSetpointLimitAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeMaxCoolSetpointLimitAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            24L,
             writeThermostatMaxCoolSetpointLimitCommandParams);
     writeThermostatInteractionInfo.put(
         "writeMaxCoolSetpointLimitAttribute",
@@ -2254,13 +3237,9 @@ public class ClusterWriteMapping {
     writeThermostatMinSetpointDeadBandCommandParams.put(
         "value", thermostatminSetpointDeadBandCommandParameterInfo);
     InteractionInfo writeThermostatMinSetpointDeadBandAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeMinSetpointDeadBandAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            25L,
             writeThermostatMinSetpointDeadBandCommandParams);
     writeThermostatInteractionInfo.put(
         "writeMinSetpointDeadBandAttribute",
@@ -2272,13 +3251,9 @@ public class ClusterWriteMapping {
     writeThermostatControlSequenceOfOperationCommandParams.put(
         "value", thermostatcontrolSequenceOfOperationCommandParameterInfo);
     InteractionInfo writeThermostatControlSequenceOfOperationAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeControlSequenceOfOperationAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID,
+            27L,
             writeThermostatControlSequenceOfOperationCommandParams);
     writeThermostatInteractionInfo.put(
         "writeControlSequenceOfOperationAttribute",
@@ -2289,17 +3264,61 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeThermostatSystemModeCommandParams.put("value", thermostatsystemModeCommandParameterInfo);
     InteractionInfo writeThermostatSystemModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatCluster) cluster)
-                  .writeSystemModeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
-            writeThermostatSystemModeCommandParams);
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatCluster.CLUSTER_ID, 28L, writeThermostatSystemModeCommandParams);
     writeThermostatInteractionInfo.put(
         "writeSystemModeAttribute", writeThermostatSystemModeAttributeInteractionInfo);
-    writeAttributeMap.put("thermostat", writeThermostatInteractionInfo);
+    return writeThermostatInteractionInfo;
+  }
+
+  private static void writeThermostat(
+      ChipClusters.ThermostatCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 17:
+        cluster.writeOccupiedCoolingSetpointAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 18:
+        cluster.writeOccupiedHeatingSetpointAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 21:
+        cluster.writeMinHeatSetpointLimitAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 22:
+        cluster.writeMaxHeatSetpointLimitAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 23:
+        cluster.writeMinCoolSetpointLimitAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 24:
+        cluster.writeMaxCoolSetpointLimitAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 25:
+        cluster.writeMinSetpointDeadBandAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 27:
+        cluster.writeControlSequenceOfOperationAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 28:
+        cluster.writeSystemModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getThermostatUserInterfaceConfigurationWriteAttributeMap() {
     Map<String, InteractionInfo> writeThermostatUserInterfaceConfigurationInteractionInfo =
         new LinkedHashMap<>();
     Map<String, CommandParameterInfo>
@@ -2312,14 +3331,9 @@ public class ClusterWriteMapping {
         "value", thermostatUserInterfaceConfigurationtemperatureDisplayModeCommandParameterInfo);
     InteractionInfo
         writeThermostatUserInterfaceConfigurationTemperatureDisplayModeAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                      .writeTemperatureDisplayModeAttribute(
-                          (DefaultClusterCallback) callback,
-                          (Integer) commandArguments.get("value"));
-                },
-                () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+            WriteAttribute.newInteractionInfo(
+                ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+                0L,
                 writeThermostatUserInterfaceConfigurationTemperatureDisplayModeCommandParams);
     writeThermostatUserInterfaceConfigurationInteractionInfo.put(
         "writeTemperatureDisplayModeAttribute",
@@ -2332,13 +3346,9 @@ public class ClusterWriteMapping {
     writeThermostatUserInterfaceConfigurationKeypadLockoutCommandParams.put(
         "value", thermostatUserInterfaceConfigurationkeypadLockoutCommandParameterInfo);
     InteractionInfo writeThermostatUserInterfaceConfigurationKeypadLockoutAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                  .writeKeypadLockoutAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+            1L,
             writeThermostatUserInterfaceConfigurationKeypadLockoutCommandParams);
     writeThermostatUserInterfaceConfigurationInteractionInfo.put(
         "writeKeypadLockoutAttribute",
@@ -2354,30 +3364,105 @@ public class ClusterWriteMapping {
         thermostatUserInterfaceConfigurationscheduleProgrammingVisibilityCommandParameterInfo);
     InteractionInfo
         writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityAttributeInteractionInfo =
-            new InteractionInfo(
-                (cluster, callback, commandArguments) -> {
-                  ((ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster)
-                      .writeScheduleProgrammingVisibilityAttribute(
-                          (DefaultClusterCallback) callback,
-                          (Integer) commandArguments.get("value"));
-                },
-                () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+            WriteAttribute.newInteractionInfo(
+                ChipClusters.ThermostatUserInterfaceConfigurationCluster.CLUSTER_ID,
+                2L,
                 writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityCommandParams);
     writeThermostatUserInterfaceConfigurationInteractionInfo.put(
         "writeScheduleProgrammingVisibilityAttribute",
         writeThermostatUserInterfaceConfigurationScheduleProgrammingVisibilityAttributeInteractionInfo);
-    writeAttributeMap.put(
-        "thermostatUserInterfaceConfiguration",
-        writeThermostatUserInterfaceConfigurationInteractionInfo);
+    return writeThermostatUserInterfaceConfigurationInteractionInfo;
+  }
+
+  private static void writeThermostatUserInterfaceConfiguration(
+      ChipClusters.ThermostatUserInterfaceConfigurationCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 0:
+        cluster.writeTemperatureDisplayModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 1:
+        cluster.writeKeypadLockoutAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      case 2:
+        cluster.writeScheduleProgrammingVisibilityAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getThreadNetworkDiagnosticsWriteAttributeMap() {
     Map<String, InteractionInfo> writeThreadNetworkDiagnosticsInteractionInfo =
         new LinkedHashMap<>();
-    writeAttributeMap.put("threadNetworkDiagnostics", writeThreadNetworkDiagnosticsInteractionInfo);
+    return writeThreadNetworkDiagnosticsInteractionInfo;
+  }
+
+  private static void writeThreadNetworkDiagnostics(
+      ChipClusters.ThreadNetworkDiagnosticsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getUserLabelWriteAttributeMap() {
     Map<String, InteractionInfo> writeUserLabelInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("userLabel", writeUserLabelInteractionInfo);
+    return writeUserLabelInteractionInfo;
+  }
+
+  private static void writeUserLabel(
+      ChipClusters.UserLabelCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getWakeOnLanWriteAttributeMap() {
     Map<String, InteractionInfo> writeWakeOnLanInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("wakeOnLan", writeWakeOnLanInteractionInfo);
+    return writeWakeOnLanInteractionInfo;
+  }
+
+  private static void writeWakeOnLan(
+      ChipClusters.WakeOnLanCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getWiFiNetworkDiagnosticsWriteAttributeMap() {
     Map<String, InteractionInfo> writeWiFiNetworkDiagnosticsInteractionInfo = new LinkedHashMap<>();
-    writeAttributeMap.put("wiFiNetworkDiagnostics", writeWiFiNetworkDiagnosticsInteractionInfo);
+    return writeWiFiNetworkDiagnosticsInteractionInfo;
+  }
+
+  private static void writeWiFiNetworkDiagnostics(
+      ChipClusters.WiFiNetworkDiagnosticsCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  private static Map<String, InteractionInfo> getWindowCoveringWriteAttributeMap() {
     Map<String, InteractionInfo> writeWindowCoveringInteractionInfo = new LinkedHashMap<>();
     Map<String, CommandParameterInfo> writeWindowCoveringModeCommandParams =
         new LinkedHashMap<String, CommandParameterInfo>();
@@ -2385,17 +3470,406 @@ public class ClusterWriteMapping {
         new CommandParameterInfo("value", int.class);
     writeWindowCoveringModeCommandParams.put("value", windowCoveringmodeCommandParameterInfo);
     InteractionInfo writeWindowCoveringModeAttributeInteractionInfo =
-        new InteractionInfo(
-            (cluster, callback, commandArguments) -> {
-              ((ChipClusters.WindowCoveringCluster) cluster)
-                  .writeModeAttribute(
-                      (DefaultClusterCallback) callback, (Integer) commandArguments.get("value"));
-            },
-            () -> new ClusterInfoMapping.DelegatedDefaultClusterCallback(),
+        WriteAttribute.newInteractionInfo(
+            ChipClusters.WindowCoveringCluster.CLUSTER_ID,
+            23L,
             writeWindowCoveringModeCommandParams);
     writeWindowCoveringInteractionInfo.put(
         "writeModeAttribute", writeWindowCoveringModeAttributeInteractionInfo);
-    writeAttributeMap.put("windowCovering", writeWindowCoveringInteractionInfo);
-    return writeAttributeMap;
+    return writeWindowCoveringInteractionInfo;
+  }
+
+  private static void writeWindowCovering(
+      ChipClusters.WindowCoveringCluster cluster,
+      int attributeId,
+      Object callback,
+      Object[] commandArguments) {
+    switch (attributeId) {
+      case 23:
+        cluster.writeModeAttribute(
+            (DefaultClusterCallback) callback, (Integer) commandArguments[0]);
+        break;
+      default:
+        throw new IllegalStateException("Unsupported attribute " + attributeId);
+    }
+  }
+
+  /**
+   * Writes one attribute. One class serves every attribute of every cluster, where each attribute
+   * used to take two lambda classes of its own.
+   */
+  private static final class WriteAttribute
+      implements InteractionInfo.PositionalCommandFunction, Supplier<DelegatedClusterCallback> {
+    private final int clusterId;
+    private final int attributeId;
+
+    private WriteAttribute(long clusterId, long attributeId) {
+      this.clusterId = (int) clusterId;
+      this.attributeId = (int) attributeId;
+    }
+
+    static InteractionInfo newInteractionInfo(
+        long clusterId, long attributeId, Map<String, CommandParameterInfo> commandParams) {
+      WriteAttribute writeAttribute = new WriteAttribute(clusterId, attributeId);
+      return InteractionInfo.positional(writeAttribute, writeAttribute, commandParams);
+    }
+
+    @Override
+    public void invokeCommand(
+        ChipClusters.BaseChipCluster cluster, Object callback, Object[] commandArguments) {
+      switch (clusterId) {
+        case 31:
+          writeAccessControl(
+              (ChipClusters.AccessControlCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1294:
+          writeAccountLogin(
+              (ChipClusters.AccountLoginCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 60:
+          writeAdministratorCommissioning(
+              (ChipClusters.AdministratorCommissioningCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1293:
+          writeApplicationBasic(
+              (ChipClusters.ApplicationBasicCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1292:
+          writeApplicationLauncher(
+              (ChipClusters.ApplicationLauncherCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1291:
+          writeAudioOutput(
+              (ChipClusters.AudioOutputCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 259:
+          writeBarrierControl(
+              (ChipClusters.BarrierControlCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 40:
+          writeBasic((ChipClusters.BasicCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 15:
+          writeBinaryInputBasic(
+              (ChipClusters.BinaryInputBasicCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 30:
+          writeBinding(
+              (ChipClusters.BindingCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 69:
+          writeBooleanState(
+              (ChipClusters.BooleanStateCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 37:
+          writeBridgedActions(
+              (ChipClusters.BridgedActionsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 57:
+          writeBridgedDeviceBasic(
+              (ChipClusters.BridgedDeviceBasicCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1284:
+          writeChannel(
+              (ChipClusters.ChannelCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 768:
+          writeColorControl(
+              (ChipClusters.ColorControlCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1290:
+          writeContentLauncher(
+              (ChipClusters.ContentLauncherCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 29:
+          writeDescriptor(
+              (ChipClusters.DescriptorCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 50:
+          writeDiagnosticLogs(
+              (ChipClusters.DiagnosticLogsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 257:
+          writeDoorLock(
+              (ChipClusters.DoorLockCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 2820:
+          writeElectricalMeasurement(
+              (ChipClusters.ElectricalMeasurementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 55:
+          writeEthernetNetworkDiagnostics(
+              (ChipClusters.EthernetNetworkDiagnosticsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 64:
+          writeFixedLabel(
+              (ChipClusters.FixedLabelCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1028:
+          writeFlowMeasurement(
+              (ChipClusters.FlowMeasurementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 48:
+          writeGeneralCommissioning(
+              (ChipClusters.GeneralCommissioningCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 51:
+          writeGeneralDiagnostics(
+              (ChipClusters.GeneralDiagnosticsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 63:
+          writeGroupKeyManagement(
+              (ChipClusters.GroupKeyManagementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 4:
+          writeGroups(
+              (ChipClusters.GroupsCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 3:
+          writeIdentify(
+              (ChipClusters.IdentifyCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1024:
+          writeIlluminanceMeasurement(
+              (ChipClusters.IlluminanceMeasurementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1289:
+          writeKeypadInput(
+              (ChipClusters.KeypadInputCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 8:
+          writeLevelControl(
+              (ChipClusters.LevelControlCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 43:
+          writeLocalizationConfiguration(
+              (ChipClusters.LocalizationConfigurationCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1288:
+          writeLowPower(
+              (ChipClusters.LowPowerCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1287:
+          writeMediaInput(
+              (ChipClusters.MediaInputCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1286:
+          writeMediaPlayback(
+              (ChipClusters.MediaPlaybackCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 80:
+          writeModeSelect(
+              (ChipClusters.ModeSelectCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 49:
+          writeNetworkCommissioning(
+              (ChipClusters.NetworkCommissioningCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 41:
+          writeOtaSoftwareUpdateProvider(
+              (ChipClusters.OtaSoftwareUpdateProviderCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 42:
+          writeOtaSoftwareUpdateRequestor(
+              (ChipClusters.OtaSoftwareUpdateRequestorCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1030:
+          writeOccupancySensing(
+              (ChipClusters.OccupancySensingCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 6:
+          writeOnOff((ChipClusters.OnOffCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 7:
+          writeOnOffSwitchConfiguration(
+              (ChipClusters.OnOffSwitchConfigurationCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 62:
+          writeOperationalCredentials(
+              (ChipClusters.OperationalCredentialsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 47:
+          writePowerSource(
+              (ChipClusters.PowerSourceCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 46:
+          writePowerSourceConfiguration(
+              (ChipClusters.PowerSourceConfigurationCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1027:
+          writePressureMeasurement(
+              (ChipClusters.PressureMeasurementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 512:
+          writePumpConfigurationAndControl(
+              (ChipClusters.PumpConfigurationAndControlCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1029:
+          writeRelativeHumidityMeasurement(
+              (ChipClusters.RelativeHumidityMeasurementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 5:
+          writeScenes(
+              (ChipClusters.ScenesCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 52:
+          writeSoftwareDiagnostics(
+              (ChipClusters.SoftwareDiagnosticsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 59:
+          writeSwitch(
+              (ChipClusters.SwitchCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1285:
+          writeTargetNavigator(
+              (ChipClusters.TargetNavigatorCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1026:
+          writeTemperatureMeasurement(
+              (ChipClusters.TemperatureMeasurementCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 1295:
+          writeTestCluster(
+              (ChipClusters.TestClusterCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 513:
+          writeThermostat(
+              (ChipClusters.ThermostatCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 516:
+          writeThermostatUserInterfaceConfiguration(
+              (ChipClusters.ThermostatUserInterfaceConfigurationCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 53:
+          writeThreadNetworkDiagnostics(
+              (ChipClusters.ThreadNetworkDiagnosticsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 65:
+          writeUserLabel(
+              (ChipClusters.UserLabelCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 1283:
+          writeWakeOnLan(
+              (ChipClusters.WakeOnLanCluster) cluster, attributeId, callback, commandArguments);
+          break;
+        case 54:
+          writeWiFiNetworkDiagnostics(
+              (ChipClusters.WiFiNetworkDiagnosticsCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        case 258:
+          writeWindowCovering(
+              (ChipClusters.WindowCoveringCluster) cluster,
+              attributeId,
+              callback,
+              commandArguments);
+          break;
+        default:
+          throw new IllegalStateException("Unsupported cluster " + clusterId);
+      }
+    }
+
+    @Override
+    public DelegatedClusterCallback get() {
+      return new ClusterInfoMapping.DelegatedDefaultClusterCallback();
+    }
   }
 }
@@ -210,7 +210,10 @@ public:
     }
 
     // TODO: implements group sessions
-    Optional<SessionHandle> CreateGroupSession(GroupId group) { return mGroupSessions.AllocEntry(group, kUndefinedFabricIndex); }
+    Optional<SessionHandle> CreateGroupSession(GroupId group, FabricIndex fabricIndex = kUndefinedFabricIndex)
+    {
+        return mGroupSessions.AllocEntry(group, fabricIndex);
+    }
     Optional<SessionHandle> FindGroupSession(GroupId group) { return mGroupSessions.FindEntry(group, kUndefinedFabricIndex); }
     void RemoveGroupSession(Transport::GroupSession * session) { mGroupSessions.DeleteEntry(session); }
 